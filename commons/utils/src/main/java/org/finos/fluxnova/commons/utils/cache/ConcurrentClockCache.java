@@ -0,0 +1,211 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.finos.fluxnova.commons.utils.cache;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A thread-safe org.finos.fluxnova.commons.utils.cache.Cache with a fixed capacity and constant time
+ * operations. If the cache exceeds the capacity, entries are discarded following the CLOCK
+ * (second chance) policy, an approximation of LRU.
+ * <p>
+ * Reads never block and do not modify any shared structure apart from a flag of the entry
+ * which marks it as recently used. Entries are kept in insertion order in a queue: on eviction,
+ * entries are taken from the head of the queue and either discarded (if not used since the last
+ * eviction round) or appended to the tail again with a cleared flag. Only one thread evicts at a
+ * time and for at most one round over the queue, other writers skip the eviction. Under
+ * concurrent access, the cache may therefore exceed its capacity briefly.
+ * <p>
+ * In contrast to {@link ConcurrentLruCache}, a read does not have to reorder the keys queue,
+ * which is a linear operation.
+ *
+ * @param <K> the type of keys
+ * @param <V> the type of mapped values
+ */
+public class ConcurrentClockCache<K, V> implements Cache<K, V> {
+
+  private final int capacity;
+
+  private final ConcurrentMap<K, Entry<K, V>> cache = new ConcurrentHashMap<K, Entry<K, V>>();
+  private final ConcurrentLinkedQueue<Entry<K, V>> clock = new ConcurrentLinkedQueue<Entry<K, V>>();
+
+  /**
+   * Approximate number of entries in the clock queue, including entries which were removed
+   * from the cache but not yet from the queue.
+   */
+  private final AtomicInteger clockSize = new AtomicInteger();
+  private final AtomicBoolean evicting = new AtomicBoolean();
+
+  /**
+   * Creates the cache with a fixed capacity.
+   *
+   * @param capacity max number of cache entries
+   * @throws IllegalArgumentException if capacity is negative
+   */
+  public ConcurrentClockCache(int capacity) {
+    if (capacity < 0) {
+      throw new IllegalArgumentException();
+    }
+    this.capacity = capacity;
+  }
+
+  @Override
+  public V get(K key) {
+    Entry<K, V> entry = cache.get(key);
+    if (entry == null) {
+      return null;
+    }
+    if (!entry.referenced) {
+      entry.referenced = true;
+    }
+    return entry.value;
+  }
+
+  @Override
+  public void put(K key, V value) {
+    if (key == null || value == null) {
+      throw new NullPointerException();
+    }
+
+    Entry<K, V> entry = new Entry<K, V>(key, value);
+    while (true) {
+      Entry<K, V> existingEntry = cache.putIfAbsent(key, entry);
+      if (existingEntry == null) {
+        clock.offer(entry);
+        clockSize.incrementAndGet();
+        break;
+      }
+      else if (!existingEntry.removed) {
+        existingEntry.value = value;
+        if (!existingEntry.removed) {
+          break;
+        }
+        // do not keep the value reachable from an entry which was released in the meantime
+        existingEntry.value = null;
+      }
+      // the existing entry was removed concurrently, try again
+    }
+
+    if (cache.size() > capacity || clockSize.get() > 2 * capacity + 16) {
+      evict();
+    }
+  }
+
+  @Override
+  public void remove(K key) {
+    Entry<K, V> entry = cache.remove(key);
+    if (entry != null) {
+      entry.release();
+    }
+  }
+
+  @Override
+  public void clear() {
+    for (K key : cache.keySet()) {
+      remove(key);
+    }
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return cache.isEmpty();
+  }
+
+  @Override
+  public Set<K> keySet() {
+    return cache.keySet();
+  }
+
+  @Override
+  public int size() {
+    return cache.size();
+  }
+
+  protected void evict() {
+    if (!evicting.compareAndSet(false, true)) {
+      return;
+    }
+    try {
+      // drop removed entries if they make up the larger part of the queue,
+      // this is linear but amortized over the removals which caused it
+      if (clockSize.get() > 2 * capacity + 16) {
+        clock.removeIf(entry -> entry.removed);
+        clockSize.set(clock.size());
+      }
+
+      // at most one round over the queue plus the current excess: every entry which got a
+      // second chance in this round is evicted in the next one unless it is used again,
+      // concurrent writers which add entries in the meantime trigger the next round
+      int steps = clockSize.get() + cache.size() - capacity;
+
+      while (cache.size() > capacity && steps-- > 0) {
+        Entry<K, V> entry = clock.poll();
+        if (entry == null) {
+          return;
+        }
+        if (entry.removed) {
+          clockSize.decrementAndGet();
+        }
+        else if (entry.referenced) {
+          // second chance
+          entry.referenced = false;
+          clock.offer(entry);
+        }
+        else if (cache.remove(entry.key, entry)) {
+          entry.release();
+          clockSize.decrementAndGet();
+        }
+        else {
+          // removed concurrently
+          clockSize.decrementAndGet();
+        }
+      }
+    }
+    finally {
+      evicting.set(false);
+    }
+  }
+
+  protected static class Entry<K, V> {
+
+    protected final K key;
+    protected volatile V value;
+    protected volatile boolean referenced;
+    protected volatile boolean removed;
+
+    protected Entry(K key, V value) {
+      this.key = key;
+      this.value = value;
+    }
+
+    /**
+     * Marks the entry as removed from the cache. It stays in the clock queue until the next
+     * eviction, without keeping its value reachable.
+     */
+    protected void release() {
+      removed = true;
+      value = null;
+    }
+
+  }
+
+}
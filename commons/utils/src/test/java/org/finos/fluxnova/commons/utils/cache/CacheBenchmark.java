@@ -0,0 +1,86 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.finos.fluxnova.commons.utils.cache;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares {@link ConcurrentLruCache} and {@link ConcurrentClockCache} under contention: 95% of
+ * the lookups hit, a miss is followed by a put. Not run by the build, start it from the test
+ * classpath with <code>java -cp ... org.openjdk.jmh.Main CacheBenchmark</code>.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(16)
+public class CacheBenchmark {
+
+  @Param({ "lru", "clock" })
+  public String cacheType;
+
+  @Param({ "1000", "10000" })
+  public int capacity;
+
+  private Cache<String, Object> cache;
+  private String[] keys;
+  private Object value;
+
+  @Setup
+  public void setUp() {
+    cache = "lru".equals(cacheType)
+        ? new ConcurrentLruCache<String, Object>(capacity)
+        : new ConcurrentClockCache<String, Object>(capacity);
+    value = new Object();
+    // 5% of the keys are not cached
+    keys = new String[capacity + capacity / 19];
+    for (int i = 0; i < keys.length; i++) {
+      keys[i] = "key" + i;
+      if (i < capacity) {
+        cache.put(keys[i], value);
+      }
+    }
+  }
+
+  @Benchmark
+  public Object getOrPut() {
+    String key = keys[ThreadLocalRandom.current().nextInt(keys.length)];
+    Object result = cache.get(key);
+    if (result == null) {
+      cache.put(key, value);
+      result = value;
+    }
+    return result;
+  }
+
+}
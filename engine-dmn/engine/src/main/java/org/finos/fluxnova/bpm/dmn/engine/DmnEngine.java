@@ -17,6 +17,7 @@
 package org.finos.fluxnova.bpm.dmn.engine;
 
 import java.io.InputStream;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
@@ -262,6 +263,32 @@ public interface DmnEngine {
    */
   DmnDecisionResult evaluateDecision(DmnDecision decision, VariableContext variableContext);
 
+  /**
+   * Evaluates a decision for a batch of inputs. The decision can be implemented as any kind
+   * of supported decision logic (e.g., decision table, literal expression). The decision is
+   * prepared once for the whole batch and a decision table without required decisions is
+   * evaluated column-wise, i.e. each input is evaluated for all variables of the batch.
+   * Listeners are notified once per evaluated variables. The default implementation evaluates
+   * the decision for each variables by {@link #evaluateDecision(DmnDecision, Map)}.
+   *
+   * @param decision the {@link DmnDecision} to evaluate
+   * @param variablesBatch the variables of each evaluation which are available during the
+   *                       evaluation of expressions in the decision
+   * @return the {@link DmnDecisionResult}s of the evaluations, in the order of the variables
+   *
+   * @throws DmnEngineException
+   *           if the decision logic is not supported
+   * @throws DmnEngineException
+   *           if an error occurs during the evaluation
+   */
+  default List<DmnDecisionResult> evaluateDecisionBatch(DmnDecision decision, List<? extends Map<String, Object>> variablesBatch) {
+    List<DmnDecisionResult> results = new ArrayList<>(variablesBatch.size());
+    for (Map<String, Object> variables : variablesBatch) {
+      results.add(evaluateDecision(decision, variables));
+    }
+    return results;
+  }
+
   /**
    * Evaluates the decision with the given key in a DMN decision model.
    * The key is the {@code id} attribute of the decision in the DMN XML file.
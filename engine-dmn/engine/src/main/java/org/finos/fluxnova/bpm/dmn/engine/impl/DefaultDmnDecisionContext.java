@@ -17,11 +17,16 @@
 package org.finos.fluxnova.bpm.dmn.engine.impl;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
 
 import org.finos.fluxnova.bpm.dmn.engine.DmnDecision;
 import org.finos.fluxnova.bpm.dmn.engine.DmnDecisionLogic;
@@ -52,9 +57,17 @@ public class DefaultDmnDecisionContext {
 
   protected final Map<Class<? extends DmnDecisionLogic>, DmnDecisionLogicEvaluationHandler> evaluationHandlers;
 
+  protected final boolean parallelEvaluationEnabled;
+  protected final int parallelEvaluationThreshold;
+  protected final ForkJoinPool parallelEvaluationPool;
+
   public DefaultDmnDecisionContext(DefaultDmnEngineConfiguration configuration) {
     evaluationListeners = configuration.getDecisionEvaluationListeners();
 
+    parallelEvaluationEnabled = configuration.isParallelDecisionEvaluationEnabled();
+    parallelEvaluationThreshold = configuration.getParallelDecisionEvaluationThreshold();
+    parallelEvaluationPool = configuration.getParallelDecisionEvaluationPool();
+
     evaluationHandlers = new HashMap<Class<? extends DmnDecisionLogic>, DmnDecisionLogicEvaluationHandler>();
     evaluationHandlers.put(DmnDecisionTableImpl.class, new DecisionTableEvaluationHandler(configuration));
     evaluationHandlers.put(DmnDecisionLiteralExpressionImpl.class, new DecisionLiteralExpressionEvaluationHandler(configuration));
@@ -77,6 +90,10 @@ public class DefaultDmnDecisionContext {
     List<DmnDecision> requiredDecisions = new ArrayList<DmnDecision>();
     buildDecisionTree(decision, requiredDecisions);
 
+    if (isParallelEvaluationApplicable(requiredDecisions)) {
+      return evaluateDecisionInParallel(decision, requiredDecisions, variableMap);
+    }
+
     List<DmnDecisionLogicEvaluationEvent> evaluatedEvents = new ArrayList<DmnDecisionLogicEvaluationEvent>();
     DmnDecisionResult evaluatedResult = null;
 
@@ -95,6 +112,158 @@ public class DefaultDmnDecisionContext {
     return evaluatedResult;
   }
 
+  /**
+   * Evaluate a decision for a batch of {@link VariableContext}s. A decision table
+   * without required decisions is evaluated column-wise for the whole batch, all
+   * other decisions are evaluated for one variable context after the other.
+   *
+   * @param decision the decision to evaluate
+   * @param variableContexts the variable contexts to evaluate the decision with
+   * @return the results of the decision evaluations, in the order of the variable contexts
+   */
+  public List<DmnDecisionResult> evaluateDecisionBatch(DmnDecision decision, List<VariableContext> variableContexts) {
+
+    if(decision.getKey() == null) {
+      throw LOG.unableToFindAnyDecisionTable();
+    }
+
+    List<DmnDecisionResult> evaluatedResults = new ArrayList<DmnDecisionResult>(variableContexts.size());
+
+    DmnDecisionLogicEvaluationHandler handler = getDecisionEvaluationHandler(decision);
+    if (decision.getRequiredDecisions().isEmpty() && handler instanceof DecisionTableEvaluationHandler) {
+      List<VariableContext> variableMapContexts = new ArrayList<VariableContext>(variableContexts.size());
+      for (VariableContext variableContext : variableContexts) {
+        variableMapContexts.add(buildVariableMapFromVariableContext(variableContext).asVariableContext());
+      }
+
+      List<DmnDecisionLogicEvaluationEvent> evaluatedEvents = ((DecisionTableEvaluationHandler) handler).evaluateBatch(decision, variableMapContexts);
+      for (DmnDecisionLogicEvaluationEvent evaluatedEvent : evaluatedEvents) {
+        evaluatedResults.add(handler.generateDecisionResult(evaluatedEvent));
+
+        List<DmnDecisionLogicEvaluationEvent> events = new ArrayList<DmnDecisionLogicEvaluationEvent>(1);
+        events.add(evaluatedEvent);
+        generateDecisionEvaluationEvent(events);
+      }
+    }
+    else {
+      for (VariableContext variableContext : variableContexts) {
+        evaluatedResults.add(evaluateDecision(decision, variableContext));
+      }
+    }
+
+    return evaluatedResults;
+  }
+
+  protected boolean isParallelEvaluationApplicable(List<DmnDecision> requiredDecisions) {
+    // the decision tree contains the evaluated decision itself
+    return parallelEvaluationEnabled
+      && parallelEvaluationPool != null
+      && requiredDecisions.size() - 1 >= Math.max(parallelEvaluationThreshold, 2);
+  }
+
+  /**
+   * Evaluates the required decisions as a dependency graph on the parallel evaluation
+   * pool: every required decision is evaluated as soon as its own required decisions
+   * are evaluated. The decision itself is evaluated on the calling thread. The results
+   * are merged in the order of the decision tree, i.e. in the same order as on
+   * sequential evaluation.
+   */
+  protected DmnDecisionResult evaluateDecisionInParallel(DmnDecision decision, List<DmnDecision> requiredDecisions, VariableMap variableMap) {
+    Map<DmnDecision, DmnDecisionResult> evaluatedResults = new ConcurrentHashMap<DmnDecision, DmnDecisionResult>();
+    Map<DmnDecision, CompletableFuture<DmnDecisionLogicEvaluationEvent>> evaluations = new HashMap<DmnDecision, CompletableFuture<DmnDecisionLogicEvaluationEvent>>();
+
+    for (DmnDecision evaluateDecision : requiredDecisions) {
+      if (evaluateDecision == decision) {
+        continue;
+      }
+
+      // the decision tree is ordered, the required decisions are already scheduled
+      Collection<DmnDecision> dependencies = evaluateDecision.getRequiredDecisions();
+      CompletableFuture<?>[] dependencyEvaluations = new CompletableFuture<?>[dependencies.size()];
+      int i = 0;
+      for (DmnDecision dependency : dependencies) {
+        dependencyEvaluations[i++] = evaluations.get(dependency);
+      }
+
+      List<DmnDecision> precedingDecisions = getPrecedingDecisions(evaluateDecision, requiredDecisions);
+      CompletableFuture<DmnDecisionLogicEvaluationEvent> evaluation = CompletableFuture.allOf(dependencyEvaluations)
+        .thenApplyAsync(ignored -> evaluateRequiredDecision(evaluateDecision, precedingDecisions, variableMap, evaluatedResults), parallelEvaluationPool);
+      evaluations.put(evaluateDecision, evaluation);
+    }
+
+    List<DmnDecisionLogicEvaluationEvent> evaluatedEvents = new ArrayList<DmnDecisionLogicEvaluationEvent>();
+    for (DmnDecision evaluateDecision : requiredDecisions) {
+      if (evaluateDecision != decision) {
+        evaluatedEvents.add(joinEvaluation(evaluations.get(evaluateDecision)));
+      }
+    }
+
+    // the variables are shared by the evaluations, they are only changed after all evaluations are done
+    for (DmnDecision evaluateDecision : requiredDecisions) {
+      if (evaluateDecision != decision) {
+        addResultToVariableContext(evaluatedResults.get(evaluateDecision), variableMap, evaluateDecision);
+      }
+    }
+
+    DmnDecisionLogicEvaluationHandler handler = getDecisionEvaluationHandler(decision);
+    DmnDecisionLogicEvaluationEvent evaluatedEvent = handler.evaluate(decision, variableMap.asVariableContext());
+    evaluatedEvents.add(evaluatedEvent);
+
+    DmnDecisionResult evaluatedResult = handler.generateDecisionResult(evaluatedEvent);
+    generateDecisionEvaluationEvent(evaluatedEvents);
+    return evaluatedResult;
+  }
+
+  /**
+   * @return the (transitively) required decisions of the given decision, in the order of the decision tree
+   */
+  protected List<DmnDecision> getPrecedingDecisions(DmnDecision decision, List<DmnDecision> decisionTree) {
+    List<DmnDecision> transitiveRequiredDecisions = new ArrayList<DmnDecision>();
+    buildDecisionTree(decision, transitiveRequiredDecisions);
+
+    List<DmnDecision> precedingDecisions = new ArrayList<DmnDecision>();
+    for (DmnDecision treeDecision : decisionTree) {
+      if (treeDecision != decision && transitiveRequiredDecisions.contains(treeDecision)) {
+        precedingDecisions.add(treeDecision);
+      }
+    }
+    return precedingDecisions;
+  }
+
+  protected DmnDecisionLogicEvaluationEvent evaluateRequiredDecision(DmnDecision decision, List<DmnDecision> precedingDecisions,
+      VariableMap variableMap, Map<DmnDecision, DmnDecisionResult> evaluatedResults) {
+
+    VariableMap decisionVariableMap = variableMap;
+    if (!precedingDecisions.isEmpty()) {
+      decisionVariableMap = Variables.createVariables();
+      decisionVariableMap.putAll(variableMap);
+      for (DmnDecision precedingDecision : precedingDecisions) {
+        addResultToVariableContext(evaluatedResults.get(precedingDecision), decisionVariableMap, precedingDecision);
+      }
+    }
+
+    DmnDecisionLogicEvaluationHandler handler = getDecisionEvaluationHandler(decision);
+    DmnDecisionLogicEvaluationEvent evaluatedEvent = handler.evaluate(decision, decisionVariableMap.asVariableContext());
+    evaluatedResults.put(decision, handler.generateDecisionResult(evaluatedEvent));
+    return evaluatedEvent;
+  }
+
+  protected DmnDecisionLogicEvaluationEvent joinEvaluation(CompletableFuture<DmnDecisionLogicEvaluationEvent> evaluation) {
+    try {
+      return evaluation.join();
+    }
+    catch (CompletionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      if (cause instanceof Error) {
+        throw (Error) cause;
+      }
+      throw e;
+    }
+  }
+
   protected VariableMap buildVariableMapFromVariableContext(VariableContext variableContext) {
 
     VariableMap variableMap = Variables.createVariables();
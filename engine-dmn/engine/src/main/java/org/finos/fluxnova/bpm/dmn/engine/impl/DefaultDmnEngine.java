@@ -19,6 +19,7 @@ package org.finos.fluxnova.bpm.dmn.engine.impl;
 import static org.finos.fluxnova.commons.utils.EnsureUtil.ensureNotNull;
 
 import java.io.InputStream;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
@@ -171,6 +172,25 @@ public class DefaultDmnEngine implements DmnEngine {
     }
   }
 
+  public List<DmnDecisionResult> evaluateDecisionBatch(DmnDecision decision, List<? extends Map<String, Object>> variablesBatch) {
+    ensureNotNull("decision", decision);
+    ensureNotNull("variablesBatch", variablesBatch);
+
+    if (decision instanceof DmnDecisionImpl) {
+      List<VariableContext> variableContexts = new ArrayList<VariableContext>(variablesBatch.size());
+      for (Map<String, Object> variables : variablesBatch) {
+        ensureNotNull("variables", variables);
+        variableContexts.add(Variables.fromMap(variables).asVariableContext());
+      }
+
+      DefaultDmnDecisionContext decisionContext = new DefaultDmnDecisionContext(dmnEngineConfiguration);
+      return decisionContext.evaluateDecisionBatch(decision, variableContexts);
+    }
+    else {
+      throw LOG.decisionTypeNotSupported(decision);
+    }
+  }
+
   public DmnDecisionResult evaluateDecision(String decisionKey, InputStream inputStream, Map<String, Object> variables) {
     ensureNotNull("variables", variables);
     return evaluateDecision(decisionKey, inputStream, Variables.fromMap(variables).asVariableContext());
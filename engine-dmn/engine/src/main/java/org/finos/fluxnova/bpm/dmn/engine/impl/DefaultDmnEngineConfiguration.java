@@ -19,6 +19,7 @@ package org.finos.fluxnova.bpm.dmn.engine.impl;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
 import org.finos.fluxnova.bpm.dmn.engine.DmnEngine;
 import org.finos.fluxnova.bpm.dmn.engine.DmnEngineConfiguration;
@@ -27,15 +28,20 @@ import org.finos.fluxnova.bpm.dmn.engine.delegate.DmnDecisionTableEvaluationList
 import org.finos.fluxnova.bpm.dmn.engine.impl.el.DefaultScriptEngineResolver;
 import org.finos.fluxnova.bpm.dmn.engine.impl.el.JuelElProvider;
 import org.finos.fluxnova.bpm.dmn.engine.impl.metrics.DefaultEngineMetricCollector;
+import org.finos.fluxnova.bpm.dmn.engine.impl.metrics.DmnDecisionResultCacheMetrics;
 import org.finos.fluxnova.bpm.dmn.engine.impl.metrics.DmnEngineMetricCollectorWrapper;
 import org.finos.fluxnova.bpm.dmn.engine.impl.spi.el.DmnScriptEngineResolver;
 import org.finos.fluxnova.bpm.dmn.engine.impl.spi.el.ElProvider;
+import org.finos.fluxnova.bpm.dmn.engine.impl.spi.transform.DmnTransformListener;
 import org.finos.fluxnova.bpm.dmn.engine.impl.spi.transform.DmnTransformer;
+import org.finos.fluxnova.bpm.dmn.engine.impl.transform.DecisionResultCacheTransformListener;
 import org.finos.fluxnova.bpm.dmn.engine.impl.transform.DefaultDmnTransformer;
+import org.finos.fluxnova.bpm.dmn.engine.impl.transform.FeelExpressionWarmUpTransformListener;
 import org.finos.fluxnova.bpm.dmn.engine.spi.DmnEngineMetricCollector;
 import org.finos.fluxnova.bpm.dmn.feel.impl.FeelEngine;
 import org.finos.fluxnova.bpm.dmn.feel.impl.FeelEngineFactory;
 import org.finos.fluxnova.bpm.dmn.feel.impl.juel.FeelEngineFactoryImpl;
+import org.finos.fluxnova.bpm.dmn.feel.impl.scala.ScalaFeelEngine;
 import org.finos.fluxnova.bpm.dmn.feel.impl.scala.ScalaFeelEngineFactory;
 import org.finos.fluxnova.bpm.dmn.feel.impl.scala.function.FeelCustomFunctionProvider;
 import org.finos.fluxnova.bpm.model.dmn.impl.DmnModelConstants;
@@ -85,6 +91,26 @@ public class DefaultDmnEngineConfiguration extends DmnEngineConfiguration {
 
   protected boolean returnBlankTableOutputAsNull = false;
 
+  protected boolean decisionTableIndexEnabled = true;
+
+  protected boolean compiledEntriesEnabled = true;
+
+  protected boolean feelExpressionWarmUpEnabled = true;
+
+  protected boolean parallelDecisionEvaluationEnabled = false;
+
+  protected int parallelDecisionEvaluationThreshold = 4;
+
+  protected ForkJoinPool parallelDecisionEvaluationPool;
+
+  protected boolean decisionResultCacheEnabled = false;
+
+  protected int decisionResultCacheSize = 1000;
+
+  protected long decisionResultCacheTimeToLive = 0;
+
+  protected DmnDecisionResultCacheMetrics decisionResultCacheMetrics;
+
   @Override
   public DmnEngine buildEngine() {
     init();
@@ -99,6 +125,10 @@ public class DefaultDmnEngineConfiguration extends DmnEngineConfiguration {
     initElDefaults();
     initElProvider();
     initFeelEngine();
+    initFeelEngineMetrics();
+    initDecisionResultCacheMetrics();
+    initTransformListeners();
+    initParallelDecisionEvaluationPool();
   }
 
   public void initElDefaults() {
@@ -189,6 +219,50 @@ public class DefaultDmnEngineConfiguration extends DmnEngineConfiguration {
     }
   }
 
+  protected void initFeelEngineMetrics() {
+    if (feelEngine instanceof ScalaFeelEngine && engineMetricCollector instanceof DefaultEngineMetricCollector) {
+      ((DefaultEngineMetricCollector) engineMetricCollector).setFeelEngineMetrics(((ScalaFeelEngine) feelEngine).getMetrics());
+    }
+  }
+
+  protected void initDecisionResultCacheMetrics() {
+    if (decisionResultCacheMetrics == null) {
+      decisionResultCacheMetrics = new DmnDecisionResultCacheMetrics();
+    }
+    if (engineMetricCollector instanceof DefaultEngineMetricCollector) {
+      ((DefaultEngineMetricCollector) engineMetricCollector).setDecisionResultCacheMetrics(decisionResultCacheMetrics);
+    }
+  }
+
+  protected void initTransformListeners() {
+    List<DmnTransformListener> transformListeners = new ArrayList<>();
+    for (DmnTransformListener transformListener : transformer.getTransformListeners()) {
+      // replace the listeners of a previous initialization
+      if (!(transformListener instanceof FeelExpressionWarmUpTransformListener)
+          && !(transformListener instanceof DecisionResultCacheTransformListener)) {
+        transformListeners.add(transformListener);
+      }
+    }
+
+    if (feelExpressionWarmUpEnabled && feelEngine instanceof ScalaFeelEngine) {
+      transformListeners.add(new FeelExpressionWarmUpTransformListener(this, (ScalaFeelEngine) feelEngine));
+    }
+
+    if (decisionResultCacheEnabled) {
+      transformListeners.add(new DecisionResultCacheTransformListener(this));
+    }
+
+    if (!transformListeners.equals(transformer.getTransformListeners())) {
+      transformer.setTransformListeners(transformListeners);
+    }
+  }
+
+  protected void initParallelDecisionEvaluationPool() {
+    if (parallelDecisionEvaluationPool == null) {
+      parallelDecisionEvaluationPool = ForkJoinPool.commonPool();
+    }
+  }
+
   protected void initFeelEngine() {
     if (feelEngineFactory == null) {
       if (!enableFeelLegacyBehavior) {
@@ -625,4 +699,214 @@ public class DefaultDmnEngineConfiguration extends DmnEngineConfiguration {
     return this;
   }
 
+  /**
+   * @return true if the FEEL engine is created by one of the built-in factories, i.e. the
+   * Scala FEEL engine or the legacy FEEL engine
+   */
+  public boolean isDefaultFeelEngineFactory() {
+    Class<?> factoryClass = feelEngineFactory == null ? null : feelEngineFactory.getClass();
+    return factoryClass == null || factoryClass == ScalaFeelEngineFactory.class || factoryClass == FeelEngineFactoryImpl.class;
+  }
+
+  /**
+   * @return whether decision tables look up the rules matching simple input entries in an index
+   */
+  public boolean isDecisionTableIndexEnabled() {
+    return decisionTableIndexEnabled;
+  }
+
+  /**
+   * Controls whether decision tables look up the rules matching simple input entries
+   * (literals, comparisons, ranges and <code>-</code>) in an index which is built on
+   * transformation. Other input entries are always evaluated by the expression language.
+   * The index is not used if a custom {@link #setFeelEngineFactory(FeelEngineFactory) FEEL engine
+   * factory} is configured, since it replicates the semantics of the built-in FEEL engines.
+   *
+   * @param decisionTableIndexEnabled toggles whether the index of decision tables is used
+   * @return this
+   */
+  public DefaultDmnEngineConfiguration setDecisionTableIndexEnabled(boolean decisionTableIndexEnabled) {
+    this.decisionTableIndexEnabled = decisionTableIndexEnabled;
+    return this;
+  }
+
+  /**
+   * @return whether compiled decision table entries are evaluated without the expression language
+   */
+  public boolean isCompiledEntriesEnabled() {
+    return compiledEntriesEnabled;
+  }
+
+  /**
+   * Controls whether decision table entries which are compiled on transformation
+   * are evaluated without the expression language: FEEL simple unary tests on
+   * literals are tested directly against the input value, and FEEL literal output
+   * entries are evaluated only once. Compiled entries are not used if a custom
+   * {@link #setFeelEngineFactory(FeelEngineFactory) FEEL engine factory} is configured.
+   *
+   * @param compiledEntriesEnabled toggles whether compiled entries are used
+   * @return this
+   */
+  public DefaultDmnEngineConfiguration setCompiledEntriesEnabled(boolean compiledEntriesEnabled) {
+    this.compiledEntriesEnabled = compiledEntriesEnabled;
+    return this;
+  }
+
+  /**
+   * @return whether FEEL expressions are parsed when decisions are transformed
+   */
+  public boolean isFeelExpressionWarmUpEnabled() {
+    return feelExpressionWarmUpEnabled;
+  }
+
+  /**
+   * Controls whether the FEEL expressions of decisions are parsed and cached by the
+   * FEEL engine when the decisions are transformed (e.g. on deployment), rather than
+   * on their first evaluation. Only applies to the default (Scala) FEEL engine.
+   *
+   * @param feelExpressionWarmUpEnabled toggles whether FEEL expressions are parsed on transformation
+   * @return this
+   */
+  public DefaultDmnEngineConfiguration setFeelExpressionWarmUpEnabled(boolean feelExpressionWarmUpEnabled) {
+    this.feelExpressionWarmUpEnabled = feelExpressionWarmUpEnabled;
+    return this;
+  }
+
+  /**
+   * @return whether independent required decisions of a decision are evaluated in parallel
+   */
+  public boolean isParallelDecisionEvaluationEnabled() {
+    return parallelDecisionEvaluationEnabled;
+  }
+
+  /**
+   * Controls whether the required decisions of a decision are evaluated in parallel
+   * on the {@link #getParallelDecisionEvaluationPool() parallel decision evaluation pool}.
+   * A decision is evaluated as soon as all of its required decisions are evaluated and
+   * sees the results of its (transitively) required decisions only. The results are
+   * merged in the same order as on sequential evaluation.
+   *
+   * <p>Decision table evaluation listeners may be notified on the threads of the pool,
+   * decision evaluation listeners are notified on the calling thread.
+   *
+   * <p>Parallel evaluation is not supported if the DMN engine is used by the process
+   * engine, since the evaluation depends on the state bound to the calling thread.
+   *
+   * @param parallelDecisionEvaluationEnabled toggles whether required decisions are evaluated in parallel
+   * @return this
+   */
+  public DefaultDmnEngineConfiguration setParallelDecisionEvaluationEnabled(boolean parallelDecisionEvaluationEnabled) {
+    this.parallelDecisionEvaluationEnabled = parallelDecisionEvaluationEnabled;
+    return this;
+  }
+
+  /**
+   * @return the minimal number of required decisions of a decision to evaluate them in parallel
+   */
+  public int getParallelDecisionEvaluationThreshold() {
+    return parallelDecisionEvaluationThreshold;
+  }
+
+  /**
+   * Set the minimal number of (transitively) required decisions of a decision to evaluate
+   * them in parallel. Decisions with less required decisions are evaluated sequentially.
+   *
+   * @param parallelDecisionEvaluationThreshold the minimal number of required decisions
+   * @return this
+   */
+  public DefaultDmnEngineConfiguration setParallelDecisionEvaluationThreshold(int parallelDecisionEvaluationThreshold) {
+    this.parallelDecisionEvaluationThreshold = parallelDecisionEvaluationThreshold;
+    return this;
+  }
+
+  /**
+   * @return the pool which evaluates required decisions in parallel
+   */
+  public ForkJoinPool getParallelDecisionEvaluationPool() {
+    return parallelDecisionEvaluationPool;
+  }
+
+  /**
+   * Set the pool which evaluates required decisions in parallel. Defaults to
+   * the {@link ForkJoinPool#commonPool() common pool}.
+   *
+   * @param parallelDecisionEvaluationPool the pool to evaluate required decisions on
+   * @return this
+   */
+  public DefaultDmnEngineConfiguration setParallelDecisionEvaluationPool(ForkJoinPool parallelDecisionEvaluationPool) {
+    this.parallelDecisionEvaluationPool = parallelDecisionEvaluationPool;
+    return this;
+  }
+
+  /**
+   * @return whether the results of decision tables are cached by the values of their inputs
+   */
+  public boolean isDecisionResultCacheEnabled() {
+    return decisionResultCacheEnabled;
+  }
+
+  /**
+   * Controls whether the results of decision tables are cached by the values of their
+   * inputs. On transformation, a decision table is only marked as cacheable if its result
+   * depends on the input values only: input and output entries may only reference the
+   * input values and expressions must not call <code>now()</code>, <code>today()</code>
+   * or any other function which is not a deterministic FEEL built-in function, nor be
+   * scripts. Decisions which were transformed while the cache was disabled are not cached.
+   *
+   * <p>The decision table evaluation listeners are notified on every evaluation, also if
+   * the result is taken from the cache. The cache of a decision is discarded with the
+   * decision, so a redeployed decision starts with an empty cache.
+   *
+   * @param decisionResultCacheEnabled toggles whether the results of decision tables are cached
+   * @return this
+   */
+  public DefaultDmnEngineConfiguration setDecisionResultCacheEnabled(boolean decisionResultCacheEnabled) {
+    this.decisionResultCacheEnabled = decisionResultCacheEnabled;
+    return this;
+  }
+
+  /**
+   * @return the maximal number of results cached per decision table
+   */
+  public int getDecisionResultCacheSize() {
+    return decisionResultCacheSize;
+  }
+
+  /**
+   * Set the maximal number of results cached per decision table. Defaults to 1000.
+   *
+   * @param decisionResultCacheSize the maximal number of results cached per decision table
+   * @return this
+   */
+  public DefaultDmnEngineConfiguration setDecisionResultCacheSize(int decisionResultCacheSize) {
+    this.decisionResultCacheSize = decisionResultCacheSize;
+    return this;
+  }
+
+  /**
+   * @return the time in milliseconds after which a cached result expires, <code>0</code> if results do not expire
+   */
+  public long getDecisionResultCacheTimeToLive() {
+    return decisionResultCacheTimeToLive;
+  }
+
+  /**
+   * Set the time in milliseconds after which a cached decision table result expires.
+   * Defaults to <code>0</code>, i.e. results do not expire.
+   *
+   * @param decisionResultCacheTimeToLive the time to live of cached results in milliseconds
+   * @return this
+   */
+  public DefaultDmnEngineConfiguration setDecisionResultCacheTimeToLive(long decisionResultCacheTimeToLive) {
+    this.decisionResultCacheTimeToLive = decisionResultCacheTimeToLive;
+    return this;
+  }
+
+  /**
+   * @return the hits and misses of the result caches of all decision tables
+   */
+  public DmnDecisionResultCacheMetrics getDecisionResultCacheMetrics() {
+    return decisionResultCacheMetrics;
+  }
+
 }
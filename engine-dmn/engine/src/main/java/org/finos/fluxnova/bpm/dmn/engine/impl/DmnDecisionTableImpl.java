@@ -20,7 +20,9 @@ import java.util.ArrayList;
 import java.util.List;
 
 import org.finos.fluxnova.bpm.dmn.engine.DmnDecisionLogic;
+import org.finos.fluxnova.bpm.dmn.engine.impl.cache.DmnDecisionResultCache;
 import org.finos.fluxnova.bpm.dmn.engine.impl.hitpolicy.DefaultHitPolicyHandlerRegistry;
+import org.finos.fluxnova.bpm.dmn.engine.impl.index.DmnDecisionTableIndex;
 import org.finos.fluxnova.bpm.dmn.engine.impl.spi.hitpolicy.DmnHitPolicyHandler;
 import org.finos.fluxnova.bpm.model.dmn.BuiltinAggregator;
 import org.finos.fluxnova.bpm.model.dmn.HitPolicy;
@@ -33,6 +35,12 @@ public class DmnDecisionTableImpl implements DmnDecisionLogic {
   protected List<DmnDecisionTableOutputImpl> outputs = new ArrayList<DmnDecisionTableOutputImpl>();
   protected List<DmnDecisionTableRuleImpl> rules = new ArrayList<DmnDecisionTableRuleImpl>();
 
+  protected DmnDecisionTableIndex index;
+  protected int compiledEntryCount;
+
+  protected boolean resultCacheable;
+  protected volatile DmnDecisionResultCache resultCache;
+
   public DmnHitPolicyHandler getHitPolicyHandler() {
     return hitPolicyHandler;
   }
@@ -65,6 +73,51 @@ public class DmnDecisionTableImpl implements DmnDecisionLogic {
     this.rules = rules;
   }
 
+  /**
+   * @return the index of the input entries, or <code>null</code> if the decision table is not indexed
+   */
+  public DmnDecisionTableIndex getIndex() {
+    return index;
+  }
+
+  public void setIndex(DmnDecisionTableIndex index) {
+    this.index = index;
+  }
+
+  /**
+   * @return the number of input and output entries which are evaluated without the expression language
+   */
+  public int getCompiledEntryCount() {
+    return compiledEntryCount;
+  }
+
+  public void setCompiledEntryCount(int compiledEntryCount) {
+    this.compiledEntryCount = compiledEntryCount;
+  }
+
+  /**
+   * @return whether the result of the decision table depends on the values of its inputs only
+   * and may be cached by them
+   */
+  public boolean isResultCacheable() {
+    return resultCacheable;
+  }
+
+  public void setResultCacheable(boolean resultCacheable) {
+    this.resultCacheable = resultCacheable;
+  }
+
+  /**
+   * @return the cache of the evaluation results, or <code>null</code> if no result was cached yet
+   */
+  public DmnDecisionResultCache getResultCache() {
+    return resultCache;
+  }
+
+  public void setResultCache(DmnDecisionResultCache resultCache) {
+    this.resultCache = resultCache;
+  }
+
   @Override
   public String toString() {
     return "DmnDecisionTableImpl{" +
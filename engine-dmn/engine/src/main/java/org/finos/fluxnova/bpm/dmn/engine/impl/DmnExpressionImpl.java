@@ -18,6 +18,7 @@ package org.finos.fluxnova.bpm.dmn.engine.impl;
 
 import javax.script.CompiledScript;
 
+import org.finos.fluxnova.bpm.dmn.engine.impl.index.DmnCompiledUnaryTests;
 import org.finos.fluxnova.bpm.dmn.engine.impl.spi.el.ElExpression;
 import org.finos.fluxnova.bpm.dmn.engine.impl.spi.type.DmnTypeDefinition;
 
@@ -33,6 +34,11 @@ public class DmnExpressionImpl implements CachedCompiledScriptSupport, CachedExp
   protected CompiledScript cachedCompiledScript;
   protected ElExpression cachedExpression;
 
+  protected DmnCompiledUnaryTests compiledUnaryTests;
+  protected boolean literal;
+  protected volatile Object cachedLiteralValue;
+  protected volatile boolean literalValueCached;
+
   public String getId() {
     return id;
   }
@@ -99,4 +105,41 @@ public class DmnExpressionImpl implements CachedCompiledScriptSupport, CachedExp
   public void setCachedExpression(ElExpression expression) {
     this.cachedExpression = expression;
   }
+
+  /**
+   * @return the compiled unary tests of an input entry, or <code>null</code> if
+   * the entry must be evaluated by the expression language
+   */
+  public DmnCompiledUnaryTests getCompiledUnaryTests() {
+    return compiledUnaryTests;
+  }
+
+  public void setCompiledUnaryTests(DmnCompiledUnaryTests compiledUnaryTests) {
+    this.compiledUnaryTests = compiledUnaryTests;
+  }
+
+  /**
+   * @return whether the expression is a single literal which always evaluates to the same value
+   */
+  public boolean isLiteral() {
+    return literal;
+  }
+
+  public void setLiteral(boolean literal) {
+    this.literal = literal;
+  }
+
+  public boolean isLiteralValueCached() {
+    return literalValueCached;
+  }
+
+  public Object getCachedLiteralValue() {
+    return cachedLiteralValue;
+  }
+
+  public void cacheLiteralValue(Object value) {
+    this.cachedLiteralValue = value;
+    this.literalValueCached = true;
+  }
+
 }
@@ -0,0 +1,135 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.finos.fluxnova.bpm.dmn.engine.impl.cache;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.finos.fluxnova.bpm.dmn.engine.delegate.DmnEvaluatedDecisionRule;
+import org.finos.fluxnova.bpm.dmn.engine.impl.metrics.DmnDecisionResultCacheMetrics;
+import org.finos.fluxnova.commons.utils.cache.Cache;
+import org.finos.fluxnova.commons.utils.cache.ConcurrentClockCache;
+
+/**
+ * Caches the matching rules of a decision table by the values of its inputs.
+ * The cache is bounded in size and entries may expire after a time to live.
+ *
+ * <p>A cache belongs to a transformed decision table, so a decision which is
+ * transformed again (e.g. on redeployment) starts with an empty cache.
+ */
+public class DmnDecisionResultCache {
+
+  protected final Cache<List<Object>, CachedResult> cache;
+  protected final long timeToLive;
+
+  protected final DmnDecisionResultCacheMetrics metrics = new DmnDecisionResultCacheMetrics();
+  protected final DmnDecisionResultCacheMetrics engineMetrics;
+
+  /**
+   * @param size the maximal number of cached results
+   * @param timeToLive the time in milliseconds after which a cached result expires, <code>0</code> if results do not expire
+   * @param engineMetrics the metrics of all caches of the engine, may be <code>null</code>
+   */
+  public DmnDecisionResultCache(int size, long timeToLive, DmnDecisionResultCacheMetrics engineMetrics) {
+    this.cache = new ConcurrentClockCache<List<Object>, CachedResult>(size);
+    this.timeToLive = timeToLive;
+    this.engineMetrics = engineMetrics;
+  }
+
+  /**
+   * @param inputValues the values of the decision table inputs
+   * @return the matching rules cached for the input values, or <code>null</code> if there are none
+   */
+  public List<DmnEvaluatedDecisionRule> get(List<Object> inputValues) {
+    CachedResult result = cache.get(inputValues);
+    if (result != null && result.isExpired(currentTimeMillis())) {
+      cache.remove(inputValues);
+      result = null;
+    }
+
+    if (result != null) {
+      recordHit();
+      return result.matchingRules;
+    }
+    else {
+      recordMiss();
+      return null;
+    }
+  }
+
+  /**
+   * @param inputValues the values of the decision table inputs
+   * @param matchingRules the matching rules evaluated for the input values, before the hit policy is applied
+   */
+  public void put(List<Object> inputValues, List<DmnEvaluatedDecisionRule> matchingRules) {
+    long expirationTime = timeToLive > 0 ? currentTimeMillis() + timeToLive : Long.MAX_VALUE;
+    cache.put(inputValues, new CachedResult(Collections.unmodifiableList(matchingRules), expirationTime));
+  }
+
+  public void clear() {
+    cache.clear();
+  }
+
+  /**
+   * @return the number of cached results
+   */
+  public int size() {
+    return cache.size();
+  }
+
+  /**
+   * @return the hits and misses of this cache
+   */
+  public DmnDecisionResultCacheMetrics getMetrics() {
+    return metrics;
+  }
+
+  protected void recordHit() {
+    metrics.recordHit();
+    if (engineMetrics != null) {
+      engineMetrics.recordHit();
+    }
+  }
+
+  protected void recordMiss() {
+    metrics.recordMiss();
+    if (engineMetrics != null) {
+      engineMetrics.recordMiss();
+    }
+  }
+
+  protected long currentTimeMillis() {
+    return System.currentTimeMillis();
+  }
+
+  protected static class CachedResult {
+
+    protected final List<DmnEvaluatedDecisionRule> matchingRules;
+    protected final long expirationTime;
+
+    public CachedResult(List<DmnEvaluatedDecisionRule> matchingRules, long expirationTime) {
+      this.matchingRules = matchingRules;
+      this.expirationTime = expirationTime;
+    }
+
+    public boolean isExpired(long now) {
+      return now >= expirationTime;
+    }
+
+  }
+
+}
@@ -16,7 +16,19 @@
  */
 package org.finos.fluxnova.bpm.dmn.engine.impl.evaluation;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.Period;
+import java.time.ZonedDateTime;
 import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Date;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -38,10 +50,15 @@ import org.finos.fluxnova.bpm.dmn.engine.impl.DmnDecisionTableInputImpl;
 import org.finos.fluxnova.bpm.dmn.engine.impl.DmnDecisionTableOutputImpl;
 import org.finos.fluxnova.bpm.dmn.engine.impl.DmnDecisionTableRuleImpl;
 import org.finos.fluxnova.bpm.dmn.engine.impl.DmnExpressionImpl;
+import org.finos.fluxnova.bpm.dmn.engine.impl.cache.DmnDecisionResultCache;
 import org.finos.fluxnova.bpm.dmn.engine.impl.delegate.DmnDecisionTableEvaluationEventImpl;
 import org.finos.fluxnova.bpm.dmn.engine.impl.delegate.DmnEvaluatedDecisionRuleImpl;
 import org.finos.fluxnova.bpm.dmn.engine.impl.delegate.DmnEvaluatedInputImpl;
 import org.finos.fluxnova.bpm.dmn.engine.impl.delegate.DmnEvaluatedOutputImpl;
+import org.finos.fluxnova.bpm.dmn.engine.impl.index.DmnCompiledUnaryTests;
+import org.finos.fluxnova.bpm.dmn.engine.impl.index.DmnDecisionTableIndex;
+import org.finos.fluxnova.bpm.dmn.engine.impl.index.DmnInputEntryIndex;
+import org.finos.fluxnova.bpm.dmn.engine.impl.metrics.DmnDecisionResultCacheMetrics;
 import org.finos.fluxnova.bpm.dmn.feel.impl.FeelEngine;
 import org.finos.fluxnova.bpm.engine.variable.Variables;
 import org.finos.fluxnova.bpm.engine.variable.context.VariableContext;
@@ -60,6 +77,13 @@ public class DecisionTableEvaluationHandler implements DmnDecisionLogicEvaluatio
   protected final String outputEntryExpressionLanguage;
 
   protected final boolean returnBlankTableOutputAsNull;
+  protected final boolean decisionTableIndexEnabled;
+  protected final boolean compiledEntriesEnabled;
+
+  protected final boolean decisionResultCacheEnabled;
+  protected final int decisionResultCacheSize;
+  protected final long decisionResultCacheTimeToLive;
+  protected final DmnDecisionResultCacheMetrics decisionResultCacheMetrics;
 
   public DecisionTableEvaluationHandler(DefaultDmnEngineConfiguration configuration) {
     expressionEvaluationHandler = new ExpressionEvaluationHandler(configuration);
@@ -71,18 +95,113 @@ public class DecisionTableEvaluationHandler implements DmnDecisionLogicEvaluatio
     inputEntryExpressionLanguage = configuration.getDefaultInputEntryExpressionLanguage();
     outputEntryExpressionLanguage = configuration.getDefaultOutputEntryExpressionLanguage();
     returnBlankTableOutputAsNull = configuration.isReturnBlankTableOutputAsNull();
+    // the index and compiled entries replicate the semantics of the built-in FEEL engines
+    boolean defaultFeelEngine = configuration.isDefaultFeelEngineFactory();
+    decisionTableIndexEnabled = defaultFeelEngine && configuration.isDecisionTableIndexEnabled();
+    compiledEntriesEnabled = defaultFeelEngine && configuration.isCompiledEntriesEnabled();
+    decisionResultCacheEnabled = configuration.isDecisionResultCacheEnabled();
+    decisionResultCacheSize = configuration.getDecisionResultCacheSize();
+    decisionResultCacheTimeToLive = configuration.getDecisionResultCacheTimeToLive();
+    decisionResultCacheMetrics = configuration.getDecisionResultCacheMetrics();
   }
 
   @Override
   public DmnDecisionLogicEvaluationEvent evaluate(DmnDecision decision, VariableContext variableContext) {
+    DmnDecisionTableEvaluationEventImpl evaluationResult = createEvaluationResult(decision);
+
+    DmnDecisionTableImpl decisionTable = (DmnDecisionTableImpl) decision.getDecisionLogic();
+    if (isResultCacheApplicable(decisionTable)) {
+      evaluateCachedDecisionTable(decisionTable, variableContext, evaluationResult);
+    }
+    else {
+      evaluateDecisionTable(decisionTable, variableContext, evaluationResult);
+    }
+
+    completeEvaluation(decisionTable, evaluationResult);
+    return evaluationResult;
+  }
+
+  /**
+   * Evaluates the decision table for a batch of variable contexts. If the decision
+   * table is indexed, the batch is evaluated column-wise: each input is evaluated
+   * for all variable contexts and the rules matching an input value are looked up
+   * only once per distinct value. If the result of the decision table is cached,
+   * the variable contexts are evaluated one by one to look up their results.
+   *
+   * @return the evaluation events, in the order of the variable contexts
+   */
+  public List<DmnDecisionLogicEvaluationEvent> evaluateBatch(DmnDecision decision, List<VariableContext> variableContexts) {
+    List<DmnDecisionLogicEvaluationEvent> evaluationResults = new ArrayList<DmnDecisionLogicEvaluationEvent>(variableContexts.size());
+
+    DmnDecisionTableImpl decisionTable = (DmnDecisionTableImpl) decision.getDecisionLogic();
+    DmnDecisionTableIndex index = decisionTable.getIndex();
+    if (index == null || !isIndexApplicable() || isResultCacheApplicable(decisionTable)) {
+      for (VariableContext variableContext : variableContexts) {
+        evaluationResults.add(evaluate(decision, variableContext));
+      }
+      return evaluationResults;
+    }
+
+    List<DmnDecisionTableRuleImpl> rules = decisionTable.getRules();
+    List<DmnDecisionTableEvaluationEventImpl> batchResults = new ArrayList<DmnDecisionTableEvaluationEventImpl>(variableContexts.size());
+    List<BitSet> batchCandidateRules = new ArrayList<BitSet>(variableContexts.size());
+    for (int i = 0; i < variableContexts.size(); i++) {
+      batchResults.add(createEvaluationResult(decision));
+      BitSet candidateRules = new BitSet(rules.size());
+      candidateRules.set(0, rules.size());
+      batchCandidateRules.add(candidateRules);
+    }
+
+    int inputSize = decisionTable.getInputs().size();
+    for (int inputIdx = 0; inputIdx < inputSize; inputIdx++) {
+      DmnDecisionTableInputImpl input = decisionTable.getInputs().get(inputIdx);
+      DmnInputEntryIndex inputIndex = index.getInputIndex(inputIdx);
+      Map<Object, BitSet> indexedRulesByValue = new HashMap<Object, BitSet>();
+
+      for (int i = 0; i < variableContexts.size(); i++) {
+        VariableContext variableContext = variableContexts.get(i);
+        DmnEvaluatedInput evaluatedInput = evaluateInput(input, variableContext);
+        batchResults.get(i).getInputs().add(evaluatedInput);
+
+        VariableContext localVariableContext = getLocalVariableContext(input, evaluatedInput, variableContext);
+
+        BitSet indexedRules = null;
+        Object value = evaluatedInput.getValue().getValue();
+        if (inputIndex != null && value != null) {
+          indexedRules = indexedRulesByValue.get(value);
+          if (indexedRules == null) {
+            indexedRules = inputIndex.getMatchingRules(value);
+            if (indexedRules != null) {
+              indexedRulesByValue.put(value, indexedRules);
+            }
+          }
+        }
+
+        filterCandidateRules(inputIdx, input, rules, inputIndex, indexedRules, batchCandidateRules.get(i), localVariableContext);
+      }
+    }
+
+    for (int i = 0; i < variableContexts.size(); i++) {
+      DmnDecisionTableEvaluationEventImpl evaluationResult = batchResults.get(i);
+      setEvaluationOutput(decisionTable, toRules(rules, batchCandidateRules.get(i)), variableContexts.get(i), evaluationResult);
+      completeEvaluation(decisionTable, evaluationResult);
+      evaluationResults.add(evaluationResult);
+    }
+
+    return evaluationResults;
+  }
+
+  protected DmnDecisionTableEvaluationEventImpl createEvaluationResult(DmnDecision decision) {
     DmnDecisionTableEvaluationEventImpl evaluationResult = new DmnDecisionTableEvaluationEventImpl();
     evaluationResult.setDecisionTable(decision);
 
     DmnDecisionTableImpl decisionTable = (DmnDecisionTableImpl) decision.getDecisionLogic();
     evaluationResult.setExecutedDecisionElements(calculateExecutedDecisionElements(decisionTable));
 
-    evaluateDecisionTable(decisionTable, variableContext, evaluationResult);
+    return evaluationResult;
+  }
 
+  protected void completeEvaluation(DmnDecisionTableImpl decisionTable, DmnDecisionTableEvaluationEventImpl evaluationResult) {
     // apply hit policy
     decisionTable.getHitPolicyHandler().apply(evaluationResult);
 
@@ -90,8 +209,6 @@ public class DecisionTableEvaluationHandler implements DmnDecisionLogicEvaluatio
     for (DmnDecisionTableEvaluationListener evaluationListener : evaluationListeners) {
       evaluationListener.notify(evaluationResult);
     }
-
-    return evaluationResult;
   }
 
   protected long calculateExecutedDecisionElements(DmnDecisionTableImpl decisionTable) {
@@ -99,13 +216,18 @@ public class DecisionTableEvaluationHandler implements DmnDecisionLogicEvaluatio
   }
 
   protected void evaluateDecisionTable(DmnDecisionTableImpl decisionTable, VariableContext variableContext, DmnDecisionTableEvaluationEventImpl evaluationResult) {
+    DmnDecisionTableIndex index = decisionTable.getIndex();
+    if (index != null && isIndexApplicable()) {
+      evaluateIndexedDecisionTable(decisionTable, index, variableContext, evaluationResult);
+      return;
+    }
+
     int inputSize = decisionTable.getInputs().size();
     List<DmnDecisionTableRuleImpl> matchingRules = new ArrayList<DmnDecisionTableRuleImpl>(decisionTable.getRules());
     for (int inputIdx = 0; inputIdx < inputSize; inputIdx++) {
       // evaluate input
       DmnDecisionTableInputImpl input = decisionTable.getInputs().get(inputIdx);
-      DmnEvaluatedInput evaluatedInput = evaluateInput(input, variableContext);
-      evaluationResult.getInputs().add(evaluatedInput);
+      DmnEvaluatedInput evaluatedInput = getEvaluatedInput(inputIdx, input, variableContext, evaluationResult);
 
       // compose local variable context out of global variable context enhanced with the value of the current input.
       VariableContext localVariableContext = getLocalVariableContext(input, evaluatedInput, variableContext);
@@ -117,6 +239,175 @@ public class DecisionTableEvaluationHandler implements DmnDecisionLogicEvaluatio
     setEvaluationOutput(decisionTable, matchingRules, variableContext, evaluationResult);
   }
 
+  protected boolean isResultCacheApplicable(DmnDecisionTableImpl decisionTable) {
+    return decisionResultCacheEnabled && decisionTable.isResultCacheable();
+  }
+
+  /**
+   * Evaluates the inputs of the decision table and looks up the matching rules for their
+   * values in the result cache. The rules are only evaluated if no result is cached.
+   */
+  protected void evaluateCachedDecisionTable(DmnDecisionTableImpl decisionTable, VariableContext variableContext, DmnDecisionTableEvaluationEventImpl evaluationResult) {
+    int inputSize = decisionTable.getInputs().size();
+    List<Object> inputValues = new ArrayList<Object>(inputSize);
+    for (int inputIdx = 0; inputIdx < inputSize; inputIdx++) {
+      DmnDecisionTableInputImpl input = decisionTable.getInputs().get(inputIdx);
+      DmnEvaluatedInput evaluatedInput = getEvaluatedInput(inputIdx, input, variableContext, evaluationResult);
+
+      Object value = evaluatedInput.getValue().getValue();
+      if (inputValues != null && isCacheableInputValue(value)) {
+        // dates are mutable, cache a copy
+        inputValues.add(value instanceof Date ? new Date(((Date) value).getTime()) : value);
+      }
+      else {
+        inputValues = null;
+      }
+    }
+
+    if (inputValues == null) {
+      evaluateDecisionTable(decisionTable, variableContext, evaluationResult);
+      return;
+    }
+
+    DmnDecisionResultCache resultCache = getResultCache(decisionTable);
+    List<DmnEvaluatedDecisionRule> cachedMatchingRules = resultCache.get(inputValues);
+    if (cachedMatchingRules != null) {
+      evaluationResult.setMatchingRules(new ArrayList<DmnEvaluatedDecisionRule>(cachedMatchingRules));
+    }
+    else {
+      evaluateDecisionTable(decisionTable, variableContext, evaluationResult);
+      resultCache.put(inputValues, new ArrayList<DmnEvaluatedDecisionRule>(evaluationResult.getMatchingRules()));
+    }
+  }
+
+  /**
+   * @return whether the value is immutable (or copied) and equal to values which lead to the same result
+   */
+  protected boolean isCacheableInputValue(Object value) {
+    return value == null
+      || value instanceof String
+      || value instanceof Boolean
+      || value instanceof Character
+      || value instanceof Integer
+      || value instanceof Long
+      || value instanceof Short
+      || value instanceof Byte
+      || value instanceof Double
+      || value instanceof Float
+      || value instanceof BigDecimal
+      || value instanceof BigInteger
+      || value instanceof Enum
+      || value.getClass() == Date.class
+      || value instanceof LocalDate
+      || value instanceof LocalTime
+      || value instanceof LocalDateTime
+      || value instanceof OffsetDateTime
+      || value instanceof ZonedDateTime
+      || value instanceof Duration
+      || value instanceof Period;
+  }
+
+  protected DmnDecisionResultCache getResultCache(DmnDecisionTableImpl decisionTable) {
+    DmnDecisionResultCache resultCache = decisionTable.getResultCache();
+    if (resultCache == null) {
+      synchronized (decisionTable) {
+        resultCache = decisionTable.getResultCache();
+        if (resultCache == null) {
+          resultCache = new DmnDecisionResultCache(decisionResultCacheSize, decisionResultCacheTimeToLive, decisionResultCacheMetrics);
+          decisionTable.setResultCache(resultCache);
+        }
+      }
+    }
+    return resultCache;
+  }
+
+  protected boolean isIndexApplicable() {
+    // the index implements the semantics of FEEL simple unary tests
+    return decisionTableIndexEnabled && expressionEvaluationHandler.isFeelExpressionLanguage(inputEntryExpressionLanguage);
+  }
+
+  /**
+   * Evaluates the decision table by intersecting the rules which match each input.
+   * The rules of indexed input entries are looked up in the index, only the
+   * remaining input entries of candidate rules are evaluated.
+   */
+  protected void evaluateIndexedDecisionTable(DmnDecisionTableImpl decisionTable, DmnDecisionTableIndex index, VariableContext variableContext, DmnDecisionTableEvaluationEventImpl evaluationResult) {
+    List<DmnDecisionTableRuleImpl> rules = decisionTable.getRules();
+    BitSet candidateRules = new BitSet(rules.size());
+    candidateRules.set(0, rules.size());
+
+    int inputSize = decisionTable.getInputs().size();
+    for (int inputIdx = 0; inputIdx < inputSize; inputIdx++) {
+      // evaluate input
+      DmnDecisionTableInputImpl input = decisionTable.getInputs().get(inputIdx);
+      DmnEvaluatedInput evaluatedInput = getEvaluatedInput(inputIdx, input, variableContext, evaluationResult);
+
+      // compose local variable context out of global variable context enhanced with the value of the current input.
+      VariableContext localVariableContext = getLocalVariableContext(input, evaluatedInput, variableContext);
+
+      DmnInputEntryIndex inputIndex = index.getInputIndex(inputIdx);
+      BitSet indexedRules = inputIndex != null ? inputIndex.getMatchingRules(evaluatedInput.getValue().getValue()) : null;
+
+      filterCandidateRules(inputIdx, input, rules, inputIndex, indexedRules, candidateRules, localVariableContext);
+    }
+
+    setEvaluationOutput(decisionTable, toRules(rules, candidateRules), variableContext, evaluationResult);
+  }
+
+  /**
+   * Removes the candidate rules which do not match the input. The indexed rules
+   * are the rules matching the input value according to the index, or
+   * <code>null</code> if the value could not be looked up.
+   */
+  protected void filterCandidateRules(int inputIdx, DmnDecisionTableInputImpl input, List<DmnDecisionTableRuleImpl> rules, DmnInputEntryIndex inputIndex, BitSet indexedRules, BitSet candidateRules, VariableContext variableContext) {
+    if (indexedRules == null) {
+      // the input value cannot be looked up, evaluate all input entries of the candidates
+      evaluateInputForCandidateRules(inputIdx, input, rules, candidateRules, variableContext);
+    }
+    else {
+      BitSet fallbackRules = (BitSet) inputIndex.getFallbackRules().clone();
+      fallbackRules.and(candidateRules);
+      candidateRules.and(indexedRules);
+
+      evaluateInputForCandidateRules(inputIdx, input, rules, fallbackRules, variableContext);
+      candidateRules.or(fallbackRules);
+    }
+  }
+
+  protected List<DmnDecisionTableRuleImpl> toRules(List<DmnDecisionTableRuleImpl> rules, BitSet ruleIndexes) {
+    List<DmnDecisionTableRuleImpl> matchingRules = new ArrayList<DmnDecisionTableRuleImpl>(ruleIndexes.cardinality());
+    for (int ruleIdx = ruleIndexes.nextSetBit(0); ruleIdx >= 0; ruleIdx = ruleIndexes.nextSetBit(ruleIdx + 1)) {
+      matchingRules.add(rules.get(ruleIdx));
+    }
+    return matchingRules;
+  }
+
+  /**
+   * Evaluates the input entries of the candidate rules and removes the rules which do not match.
+   */
+  protected void evaluateInputForCandidateRules(int conditionIdx, DmnDecisionTableInputImpl input, List<DmnDecisionTableRuleImpl> rules, BitSet candidateRules, VariableContext variableContext) {
+    for (int ruleIdx = candidateRules.nextSetBit(0); ruleIdx >= 0; ruleIdx = candidateRules.nextSetBit(ruleIdx + 1)) {
+      DmnExpressionImpl condition = rules.get(ruleIdx).getConditions().get(conditionIdx);
+      if (!isConditionApplicable(input, condition, variableContext)) {
+        candidateRules.clear(ruleIdx);
+      }
+    }
+  }
+
+  /**
+   * @return the evaluated input, which is only evaluated if it was not evaluated before
+   */
+  protected DmnEvaluatedInput getEvaluatedInput(int inputIdx, DmnDecisionTableInputImpl input, VariableContext variableContext, DmnDecisionTableEvaluationEventImpl evaluationResult) {
+    List<DmnEvaluatedInput> evaluatedInputs = evaluationResult.getInputs();
+    if (inputIdx < evaluatedInputs.size()) {
+      return evaluatedInputs.get(inputIdx);
+    }
+
+    DmnEvaluatedInput evaluatedInput = evaluateInput(input, variableContext);
+    evaluatedInputs.add(evaluatedInput);
+    return evaluatedInput;
+  }
+
   protected DmnEvaluatedInput evaluateInput(DmnDecisionTableInputImpl input, VariableContext variableContext) {
     DmnEvaluatedInputImpl evaluatedInput = new DmnEvaluatedInputImpl(input);
 
@@ -203,6 +494,10 @@ public class DecisionTableEvaluationHandler implements DmnDecisionLogicEvaluatio
         expressionLanguage = inputEntryExpressionLanguage;
       }
       if (expressionEvaluationHandler.isFeelExpressionLanguage(expressionLanguage)) {
+        Boolean result = evaluateCompiledUnaryTests(input, condition, variableContext);
+        if (result != null) {
+          return result;
+        }
         return evaluateFeelSimpleUnaryTests(input, condition, variableContext);
       } else {
         return expressionEvaluationHandler.evaluateExpression(expressionLanguage, condition, variableContext);
@@ -240,9 +535,34 @@ public class DecisionTableEvaluationHandler implements DmnDecisionLogicEvaluatio
     if (expressionLanguage == null) {
       expressionLanguage = outputEntryExpressionLanguage;
     }
+    if (compiledEntriesEnabled && conclusion.isLiteral() && expressionEvaluationHandler.isFeelExpressionLanguage(expressionLanguage)) {
+      // a literal always evaluates to the same value
+      if (!conclusion.isLiteralValueCached()) {
+        conclusion.cacheLiteralValue(expressionEvaluationHandler.evaluateExpression(expressionLanguage, conclusion, variableContext));
+      }
+      return conclusion.getCachedLiteralValue();
+    }
     return expressionEvaluationHandler.evaluateExpression(expressionLanguage, conclusion, variableContext);
   }
 
+  /**
+   * Tests the input value against the compiled unary tests of the input entry.
+   *
+   * @return the result of the tests, or <code>null</code> if the input entry
+   * must be evaluated by the FEEL engine
+   */
+  protected Boolean evaluateCompiledUnaryTests(DmnDecisionTableInputImpl input, DmnExpressionImpl condition, VariableContext variableContext) {
+    DmnCompiledUnaryTests unaryTests = condition.getCompiledUnaryTests();
+    if (!compiledEntriesEnabled || unaryTests == null) {
+      return null;
+    }
+    if (unaryTests.isAny()) {
+      return true;
+    }
+    TypedValue inputValue = variableContext.resolve(input.getInputVariable());
+    return inputValue != null ? unaryTests.test(inputValue.getValue()) : null;
+  }
+
   protected Object evaluateFeelSimpleUnaryTests(DmnDecisionTableInputImpl input, DmnExpressionImpl condition, VariableContext variableContext) {
     String expressionText = condition.getExpression();
     if (expressionText != null) {
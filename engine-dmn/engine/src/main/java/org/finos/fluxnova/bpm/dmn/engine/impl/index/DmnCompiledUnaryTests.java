@@ -0,0 +1,110 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.finos.fluxnova.bpm.dmn.engine.impl.index;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import org.finos.fluxnova.bpm.dmn.engine.impl.index.DmnInputEntryIndex.Interval;
+import org.finos.fluxnova.bpm.dmn.engine.impl.index.DmnInputEntryIndex.ValueType;
+
+/**
+ * FEEL simple unary tests compiled by the {@link DmnExpressionCompiler} into a
+ * typed predicate which is evaluated directly against the input value.
+ */
+public class DmnCompiledUnaryTests {
+
+  /**
+   * The unary tests <code>-</code> which match any value.
+   */
+  public static final DmnCompiledUnaryTests ANY = new DmnCompiledUnaryTests(null, Collections.emptySet(), Collections.<Interval>emptyList());
+
+  protected final ValueType valueType;
+  protected final Set<Object> values;
+  protected final List<Interval> intervals;
+
+  public DmnCompiledUnaryTests(ValueType valueType, Set<Object> values, List<Interval> intervals) {
+    this.valueType = valueType;
+    this.values = values;
+    this.intervals = intervals;
+  }
+
+  /**
+   * @return <code>true</code> if the input value satisfies one of the tests, or
+   * <code>null</code> if the value is not of the tested type and the unary tests
+   * must be evaluated by the expression language
+   */
+  public Boolean test(Object value) {
+    if (isAny()) {
+      return true;
+    }
+
+    Object key = DmnInputEntryIndex.toKey(valueType, value);
+    if (key == null) {
+      return null;
+    }
+    if (values.contains(key)) {
+      return true;
+    }
+    for (Interval interval : intervals) {
+      if (interval.contains((BigDecimal) key)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * @return whether the unary tests match any value
+   */
+  public boolean isAny() {
+    return valueType == null;
+  }
+
+  /**
+   * @return the type of the tested values, <code>null</code> if the unary tests match any value
+   */
+  public ValueType getValueType() {
+    return valueType;
+  }
+
+  /**
+   * @return the values the input is compared to; numbers are {@link BigDecimal}s
+   */
+  public Set<Object> getValues() {
+    return values;
+  }
+
+  /**
+   * @return the numeric intervals the input is tested against
+   */
+  public List<Interval> getIntervals() {
+    return intervals;
+  }
+
+  @Override
+  public String toString() {
+    return "DmnCompiledUnaryTests{" +
+      " valueType=" + valueType +
+      ", values=" + values +
+      ", intervals=" + intervals.size() +
+      '}';
+  }
+
+}
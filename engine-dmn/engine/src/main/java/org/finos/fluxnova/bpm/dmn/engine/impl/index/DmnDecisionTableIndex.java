@@ -0,0 +1,54 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.finos.fluxnova.bpm.dmn.engine.impl.index;
+
+import java.util.List;
+
+/**
+ * Index of the input entries of a decision table, created by
+ * {@link DmnDecisionTableIndexCompiler} on transformation. It contains one
+ * {@link DmnInputEntryIndex} per input, or <code>null</code> if the entries of
+ * an input cannot be indexed.
+ */
+public class DmnDecisionTableIndex {
+
+  protected final List<DmnInputEntryIndex> inputIndexes;
+
+  public DmnDecisionTableIndex(List<DmnInputEntryIndex> inputIndexes) {
+    this.inputIndexes = inputIndexes;
+  }
+
+  /**
+   * @return the index of the input entries of the given input, or <code>null</code>
+   * if the entries of this input must be evaluated by the expression language
+   */
+  public DmnInputEntryIndex getInputIndex(int inputIdx) {
+    return inputIndexes.get(inputIdx);
+  }
+
+  public List<DmnInputEntryIndex> getInputIndexes() {
+    return inputIndexes;
+  }
+
+  @Override
+  public String toString() {
+    return "DmnDecisionTableIndex{" +
+      " inputIndexes=" + inputIndexes +
+      '}';
+  }
+
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.finos.fluxnova.bpm.dmn.engine.impl.index;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.finos.fluxnova.bpm.dmn.engine.impl.DmnDecisionTableImpl;
+import org.finos.fluxnova.bpm.dmn.engine.impl.DmnDecisionTableRuleImpl;
+import org.finos.fluxnova.bpm.dmn.engine.impl.DmnExpressionImpl;
+import org.finos.fluxnova.bpm.dmn.engine.impl.index.DmnInputEntryIndex.Interval;
+import org.finos.fluxnova.bpm.dmn.engine.impl.index.DmnInputEntryIndex.ValueType;
+
+/**
+ * Compiles the input entries of a decision table into a {@link DmnDecisionTableIndex}.
+ *
+ * <p>Input entries which were compiled into {@link DmnCompiledUnaryTests} by the
+ * {@link DmnExpressionCompiler} are indexed by their values, empty entries match
+ * any value. All other entries are evaluated by the expression language.</p>
+ */
+public class DmnDecisionTableIndexCompiler {
+
+  protected static final Comparator<Interval> LOWER_BOUND_ORDER = new Comparator<Interval>() {
+    public int compare(Interval interval, Interval other) {
+      if (interval.getLow() == null) {
+        return other.getLow() == null ? 0 : -1;
+      }
+      return other.getLow() == null ? 1 : interval.getLow().compareTo(other.getLow());
+    }
+  };
+
+  /**
+   * @return the index of the decision table, or <code>null</code> if none of its inputs can be indexed
+   */
+  public DmnDecisionTableIndex compile(DmnDecisionTableImpl decisionTable) {
+    List<DmnDecisionTableRuleImpl> rules = decisionTable.getRules();
+    if (rules.isEmpty()) {
+      return null;
+    }
+
+    boolean isIndexed = false;
+    List<DmnInputEntryIndex> inputIndexes = new ArrayList<DmnInputEntryIndex>();
+    for (int inputIdx = 0; inputIdx < decisionTable.getInputs().size(); inputIdx++) {
+      DmnInputEntryIndex inputIndex = compileInput(rules, inputIdx);
+      inputIndexes.add(inputIndex);
+      isIndexed |= inputIndex != null;
+    }
+
+    return isIndexed ? new DmnDecisionTableIndex(inputIndexes) : null;
+  }
+
+  protected DmnInputEntryIndex compileInput(List<DmnDecisionTableRuleImpl> rules, int inputIdx) {
+    ValueType valueType = null;
+    BitSet anyRules = new BitSet(rules.size());
+    BitSet fallbackRules = new BitSet(rules.size());
+    Map<Object, List<Integer>> values = new HashMap<Object, List<Integer>>();
+    List<Interval> intervals = new ArrayList<Interval>();
+
+    for (int ruleIdx = 0; ruleIdx < rules.size(); ruleIdx++) {
+      DmnExpressionImpl condition = rules.get(ruleIdx).getConditions().get(inputIdx);
+      String text = condition != null ? condition.getExpression() : null;
+
+      if (text == null || text.trim().isEmpty()) {
+        anyRules.set(ruleIdx);
+        continue;
+      }
+
+      DmnCompiledUnaryTests unaryTests = condition.getCompiledUnaryTests();
+      if (unaryTests == null) {
+        fallbackRules.set(ruleIdx);
+        continue;
+      }
+      if (unaryTests.isAny()) {
+        anyRules.set(ruleIdx);
+        continue;
+      }
+      if (valueType != null && valueType != unaryTests.getValueType()) {
+        fallbackRules.set(ruleIdx);
+        continue;
+      }
+
+      valueType = unaryTests.getValueType();
+      for (Object value : unaryTests.getValues()) {
+        List<Integer> valueRules = values.get(value);
+        if (valueRules == null) {
+          valueRules = new ArrayList<Integer>(1);
+          values.put(value, valueRules);
+        }
+        valueRules.add(ruleIdx);
+      }
+      for (Interval interval : unaryTests.getIntervals()) {
+        intervals.add(interval.forRule(ruleIdx));
+      }
+    }
+
+    if (valueType == null) {
+      // nothing to look up
+      return null;
+    }
+
+    // numbers are compared by value, not by scale
+    Map<Object, int[]> valueIndex = valueType == ValueType.NUMBER
+        ? new TreeMap<Object, int[]>()
+        : new HashMap<Object, int[]>();
+    for (Map.Entry<Object, List<Integer>> entry : values.entrySet()) {
+      int[] valueRules = toArray(entry.getValue());
+      int[] existingRules = valueIndex.get(entry.getKey());
+      valueIndex.put(entry.getKey(), existingRules == null ? valueRules : merge(existingRules, valueRules));
+    }
+    intervals.sort(LOWER_BOUND_ORDER);
+
+    return new DmnInputEntryIndex(valueType, anyRules, fallbackRules, valueIndex, intervals);
+  }
+
+  // helper //////////////////////////////////////////////////////////////////
+
+  protected int[] toArray(List<Integer> list) {
+    int[] array = new int[list.size()];
+    for (int i = 0; i < array.length; i++) {
+      array[i] = list.get(i);
+    }
+    return array;
+  }
+
+  protected int[] merge(int[] array, int[] other) {
+    int[] merged = new int[array.length + other.length];
+    System.arraycopy(array, 0, merged, 0, array.length);
+    System.arraycopy(other, 0, merged, array.length, other.length);
+    return merged;
+  }
+
+}
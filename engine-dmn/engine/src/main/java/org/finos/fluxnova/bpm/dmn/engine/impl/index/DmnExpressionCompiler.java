@@ -0,0 +1,296 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.finos.fluxnova.bpm.dmn.engine.impl.index;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Pattern;
+
+import org.finos.fluxnova.bpm.dmn.engine.impl.DefaultDmnEngineConfiguration;
+import org.finos.fluxnova.bpm.dmn.engine.impl.DmnDecisionTableImpl;
+import org.finos.fluxnova.bpm.dmn.engine.impl.DmnDecisionTableRuleImpl;
+import org.finos.fluxnova.bpm.dmn.engine.impl.DmnExpressionImpl;
+import org.finos.fluxnova.bpm.dmn.engine.impl.index.DmnInputEntryIndex.Interval;
+import org.finos.fluxnova.bpm.dmn.engine.impl.index.DmnInputEntryIndex.ValueType;
+
+/**
+ * Compiles the FEEL entries of a decision table which do not need the
+ * expression language to be evaluated.
+ *
+ * <p>Input entries which are simple unary tests on literals of one type are
+ * compiled into {@link DmnCompiledUnaryTests}:</p>
+ * <ul>
+ *   <li>strings without escape sequences: <code>"gold", "silver"</code></li>
+ *   <li>booleans: <code>true</code></li>
+ *   <li>numbers: <code>5, 7.5</code></li>
+ *   <li>comparisons with numbers: <code>&lt; 10, &gt;= 100</code></li>
+ *   <li>ranges of numbers: <code>[1..10], ]1..10[, (1..10]</code></li>
+ *   <li><code>-</code> which matches any value</li>
+ * </ul>
+ * <p>Output entries which are a single string, boolean or number literal are
+ * marked as literals, their value is evaluated only once.</p>
+ *
+ * All other entries (negations, variables, functions, dates, entries with a
+ * different expression language, ...) are evaluated by the expression language.
+ */
+public class DmnExpressionCompiler {
+
+  protected static final Pattern NUMBER_PATTERN = Pattern.compile("-?\\d+(\\.\\d+)?");
+
+  /**
+   * Compiles the input and output entries of the decision table.
+   *
+   * @return the number of compiled entries
+   */
+  public int compile(DmnDecisionTableImpl decisionTable) {
+    int compiledEntries = 0;
+
+    for (DmnDecisionTableRuleImpl rule : decisionTable.getRules()) {
+      for (DmnExpressionImpl condition : rule.getConditions()) {
+        if (isCompilable(condition)) {
+          condition.setCompiledUnaryTests(compileUnaryTests(condition.getExpression()));
+          if (condition.getCompiledUnaryTests() != null) {
+            compiledEntries++;
+          }
+        }
+      }
+      for (DmnExpressionImpl conclusion : rule.getConclusions()) {
+        if (isCompilable(conclusion)) {
+          conclusion.setLiteral(isLiteral(conclusion.getExpression()));
+          if (conclusion.isLiteral()) {
+            compiledEntries++;
+          }
+        }
+      }
+    }
+
+    decisionTable.setCompiledEntryCount(compiledEntries);
+    return compiledEntries;
+  }
+
+  protected boolean isCompilable(DmnExpressionImpl expression) {
+    return expression != null
+      && expression.getExpression() != null
+      && !expression.getExpression().trim().isEmpty()
+      && isFeelExpressionLanguage(expression.getExpressionLanguage());
+  }
+
+  protected boolean isFeelExpressionLanguage(String expressionLanguage) {
+    // entries without expression language use the default language, which is checked on evaluation
+    return expressionLanguage == null ||
+      expressionLanguage.equals(DefaultDmnEngineConfiguration.FEEL_EXPRESSION_LANGUAGE) ||
+      expressionLanguage.toLowerCase().equals(DefaultDmnEngineConfiguration.FEEL_EXPRESSION_LANGUAGE_ALTERNATIVE) ||
+      expressionLanguage.equals(DefaultDmnEngineConfiguration.FEEL_EXPRESSION_LANGUAGE_DMN12) ||
+      expressionLanguage.equals(DefaultDmnEngineConfiguration.FEEL_EXPRESSION_LANGUAGE_DMN13) ||
+      expressionLanguage.equals(DefaultDmnEngineConfiguration.FEEL_EXPRESSION_LANGUAGE_DMN14) ||
+      expressionLanguage.equals(DefaultDmnEngineConfiguration.FEEL_EXPRESSION_LANGUAGE_DMN15);
+  }
+
+  /**
+   * @return the compiled unary tests, or <code>null</code> if the expression
+   * is no simple unary tests on literals of one type
+   */
+  public DmnCompiledUnaryTests compileUnaryTests(String expression) {
+    if ("-".equals(expression.trim())) {
+      return DmnCompiledUnaryTests.ANY;
+    }
+
+    List<Object> tests = parseSimpleUnaryTests(expression);
+    ValueType valueType = getValueType(tests);
+    if (valueType == null) {
+      return null;
+    }
+
+    // numbers are compared by value, not by scale
+    Set<Object> values = valueType == ValueType.NUMBER ? new TreeSet<Object>() : new HashSet<Object>();
+    List<Interval> intervals = new ArrayList<Interval>();
+    for (Object test : tests) {
+      if (test instanceof Interval) {
+        intervals.add((Interval) test);
+      }
+      else {
+        values.add(test);
+      }
+    }
+
+    return new DmnCompiledUnaryTests(valueType, values, intervals);
+  }
+
+  /**
+   * @return whether the expression is a single string, boolean or number literal
+   */
+  public boolean isLiteral(String expression) {
+    Object test = parseTest(expression.trim());
+    return test != null && !(test instanceof Interval);
+  }
+
+  /**
+   * @return the type of all tests, or <code>null</code> if the tests could not be parsed or have different types
+   */
+  protected ValueType getValueType(List<Object> tests) {
+    if (tests == null) {
+      return null;
+    }
+    ValueType valueType = null;
+    for (Object test : tests) {
+      ValueType testType;
+      if (test instanceof String) {
+        testType = ValueType.STRING;
+      }
+      else if (test instanceof Boolean) {
+        testType = ValueType.BOOLEAN;
+      }
+      else {
+        testType = ValueType.NUMBER;
+      }
+      if (valueType != null && valueType != testType) {
+        return null;
+      }
+      valueType = testType;
+    }
+    return valueType;
+  }
+
+  // parsing /////////////////////////////////////////////////////////////////
+
+  /**
+   * Parses simple unary tests into strings, booleans, numbers ({@link BigDecimal})
+   * and {@link Interval}s.
+   *
+   * @return the parsed tests, or <code>null</code> if the expression contains anything else
+   */
+  protected List<Object> parseSimpleUnaryTests(String text) {
+    List<Object> tests = new ArrayList<Object>();
+    int pos = 0;
+    int length = text.length();
+
+    while (pos < length) {
+      int end = findEndOfTest(text, pos);
+      if (end < 0) {
+        return null;
+      }
+      Object test = parseTest(text.substring(pos, end).trim());
+      if (test == null) {
+        return null;
+      }
+      tests.add(test);
+      pos = end + 1;
+      if (end < length && pos >= length) {
+        // trailing comma
+        return null;
+      }
+    }
+
+    return tests.isEmpty() ? null : tests;
+  }
+
+  /**
+   * @return the position of the comma after the test starting at the given position
+   * (or the end of the text), -1 if a string literal is not terminated
+   */
+  protected int findEndOfTest(String text, int pos) {
+    boolean inString = false;
+    for (int i = pos; i < text.length(); i++) {
+      char c = text.charAt(i);
+      if (c == '"') {
+        inString = !inString;
+      }
+      else if (c == ',' && !inString) {
+        return i;
+      }
+    }
+    return inString ? -1 : text.length();
+  }
+
+  protected Object parseTest(String test) {
+    if (test.isEmpty()) {
+      return null;
+    }
+
+    char first = test.charAt(0);
+    if (first == '"') {
+      return parseString(test);
+    }
+    else if (test.equals("true") || test.equals("false")) {
+      return Boolean.valueOf(test);
+    }
+    else if (first == '<' || first == '>') {
+      return parseComparison(test);
+    }
+    else if (first == '[' || first == ']' || first == '(') {
+      return parseRange(test);
+    }
+    else {
+      return parseNumber(test);
+    }
+  }
+
+  protected String parseString(String test) {
+    if (test.length() < 2 || test.charAt(test.length() - 1) != '"') {
+      return null;
+    }
+    String value = test.substring(1, test.length() - 1);
+    if (value.indexOf('"') >= 0 || value.indexOf('\\') >= 0) {
+      return null;
+    }
+    return value;
+  }
+
+  protected BigDecimal parseNumber(String test) {
+    if (NUMBER_PATTERN.matcher(test).matches()) {
+      return new BigDecimal(test);
+    }
+    return null;
+  }
+
+  protected Interval parseComparison(String test) {
+    boolean inclusive = test.length() > 1 && test.charAt(1) == '=';
+    BigDecimal number = parseNumber(test.substring(inclusive ? 2 : 1).trim());
+    if (number == null) {
+      return null;
+    }
+    if (test.charAt(0) == '<') {
+      return new Interval(null, false, number, inclusive, -1);
+    }
+    else {
+      return new Interval(number, inclusive, null, false, -1);
+    }
+  }
+
+  protected Interval parseRange(String test) {
+    char last = test.charAt(test.length() - 1);
+    if (last != ']' && last != '[' && last != ')') {
+      return null;
+    }
+    String content = test.substring(1, test.length() - 1);
+    int separator = content.indexOf("..");
+    if (separator < 0) {
+      return null;
+    }
+    BigDecimal low = parseNumber(content.substring(0, separator).trim());
+    BigDecimal high = parseNumber(content.substring(separator + 2).trim());
+    if (low == null || high == null) {
+      return null;
+    }
+    return new Interval(low, test.charAt(0) == '[', high, last == ']', -1);
+  }
+
+}
@@ -0,0 +1,255 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.finos.fluxnova.bpm.dmn.engine.impl.index;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Index of the input entries of one decision table input. Entries which are
+ * simple unary tests on literals of one type (strings, booleans or numbers)
+ * are looked up by value: strings and booleans in a hash index, numbers in a
+ * sorted point index and an interval tree. The interval tree is implicit: the
+ * intervals are sorted by their lower bound, each position is the root of the
+ * subtree spanning its half of the array and records the maximal upper bound
+ * within that subtree, so that subtrees ending below the value are skipped.
+ * Entries without expression or <code>-</code> match any value. All other
+ * entries are fallback entries and must be evaluated by the expression
+ * language.
+ */
+public class DmnInputEntryIndex {
+
+  public enum ValueType {
+    STRING, BOOLEAN, NUMBER
+  }
+
+  protected final ValueType valueType;
+  protected final BitSet anyRules;
+  protected final BitSet fallbackRules;
+  protected final Map<Object, int[]> values;
+  protected final Interval[] intervals;
+  /** maximal upper bound of the subtree rooted at each interval, <code>null</code> if unbounded */
+  protected final BigDecimal[] maxHighs;
+
+  public DmnInputEntryIndex(ValueType valueType, BitSet anyRules, BitSet fallbackRules, Map<Object, int[]> values, List<Interval> intervals) {
+    this.valueType = valueType;
+    this.anyRules = anyRules;
+    this.fallbackRules = fallbackRules;
+    this.values = values;
+    this.intervals = intervals.toArray(new Interval[0]);
+    this.maxHighs = new BigDecimal[this.intervals.length];
+    if (this.intervals.length > 0) {
+      indexMaxHighs(0, this.intervals.length);
+    }
+  }
+
+  protected BigDecimal indexMaxHighs(int from, int to) {
+    int root = (from + to) >>> 1;
+    BigDecimal maxHigh = intervals[root].high;
+    if (from < root) {
+      maxHigh = max(maxHigh, indexMaxHighs(from, root));
+    }
+    if (root + 1 < to) {
+      maxHigh = max(maxHigh, indexMaxHighs(root + 1, to));
+    }
+    maxHighs[root] = maxHigh;
+    return maxHigh;
+  }
+
+  protected static BigDecimal max(BigDecimal high, BigDecimal otherHigh) {
+    if (high == null || otherHigh == null) {
+      return null;
+    }
+    return high.compareTo(otherHigh) >= 0 ? high : otherHigh;
+  }
+
+  /**
+   * Returns the rules whose (non fallback) input entries match the given input value.
+   *
+   * @return the matching rules, or <code>null</code> if the value is not of the
+   * indexed type and all entries must be evaluated by the expression language
+   */
+  public BitSet getMatchingRules(Object value) {
+    Object key = toKey(valueType, value);
+    if (key == null) {
+      return null;
+    }
+
+    BitSet matchingRules = (BitSet) anyRules.clone();
+
+    int[] rules = values.get(key);
+    if (rules != null) {
+      for (int rule : rules) {
+        matchingRules.set(rule);
+      }
+    }
+
+    if (intervals.length > 0) {
+      BigDecimal number = (BigDecimal) key;
+      addMatchingIntervals(number, 0, intervals.length, upperBound(number), matchingRules);
+    }
+
+    return matchingRules;
+  }
+
+  /**
+   * Adds the rules of the intervals in the subtree spanning <code>[from, to)</code>
+   * which contain the value, considering only intervals before <code>end</code>
+   * since all others start above the value.
+   */
+  protected void addMatchingIntervals(BigDecimal value, int from, int to, int end, BitSet matchingRules) {
+    if (from >= to || from >= end) {
+      return;
+    }
+    int root = (from + to) >>> 1;
+    BigDecimal maxHigh = maxHighs[root];
+    if (maxHigh != null && maxHigh.compareTo(value) < 0) {
+      // all intervals of the subtree end below the value
+      return;
+    }
+    addMatchingIntervals(value, from, root, end, matchingRules);
+    if (root < end) {
+      Interval interval = intervals[root];
+      if (interval.contains(value)) {
+        matchingRules.set(interval.rule);
+      }
+      addMatchingIntervals(value, root + 1, to, end, matchingRules);
+    }
+  }
+
+  /**
+   * @return the index of the first interval with a lower bound greater than the value
+   */
+  protected int upperBound(BigDecimal value) {
+    int low = 0;
+    int high = intervals.length;
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      BigDecimal lowerBound = intervals[mid].low;
+      if (lowerBound == null || lowerBound.compareTo(value) <= 0) {
+        low = mid + 1;
+      }
+      else {
+        high = mid;
+      }
+    }
+    return low;
+  }
+
+  /**
+   * @return the rules whose input entries must be evaluated by the expression language
+   */
+  public BitSet getFallbackRules() {
+    return fallbackRules;
+  }
+
+  public ValueType getValueType() {
+    return valueType;
+  }
+
+  /**
+   * Converts an input value to the key it is indexed by. Numbers are compared by
+   * their decimal value, as FEEL does.
+   *
+   * @return the key, or <code>null</code> if the value is not of the given type
+   */
+  public static Object toKey(ValueType valueType, Object value) {
+    switch (valueType) {
+      case STRING:
+        return value instanceof String ? value : null;
+      case BOOLEAN:
+        return value instanceof Boolean ? value : null;
+      case NUMBER:
+        if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+          return BigDecimal.valueOf(((Number) value).longValue());
+        }
+        else if (value instanceof Double) {
+          Double doubleValue = (Double) value;
+          return doubleValue.isNaN() || doubleValue.isInfinite() ? null : BigDecimal.valueOf(doubleValue);
+        }
+        else if (value instanceof BigDecimal) {
+          return value;
+        }
+        else if (value instanceof BigInteger) {
+          return new BigDecimal((BigInteger) value);
+        }
+        return null;
+      default:
+        return null;
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "DmnInputEntryIndex{" +
+      " valueType=" + valueType +
+      ", values=" + values.size() +
+      ", intervals=" + intervals.length +
+      ", anyRules=" + anyRules.cardinality() +
+      ", fallbackRules=" + fallbackRules.cardinality() +
+      '}';
+  }
+
+  /**
+   * A numeric interval, bounds which are <code>null</code> are unbounded.
+   */
+  public static class Interval {
+
+    protected final BigDecimal low;
+    protected final boolean lowInclusive;
+    protected final BigDecimal high;
+    protected final boolean highInclusive;
+    protected final int rule;
+
+    public Interval(BigDecimal low, boolean lowInclusive, BigDecimal high, boolean highInclusive, int rule) {
+      this.low = low;
+      this.lowInclusive = lowInclusive;
+      this.high = high;
+      this.highInclusive = highInclusive;
+      this.rule = rule;
+    }
+
+    public boolean contains(BigDecimal value) {
+      if (low != null) {
+        int comparison = low.compareTo(value);
+        if (comparison > 0 || (comparison == 0 && !lowInclusive)) {
+          return false;
+        }
+      }
+      if (high != null) {
+        int comparison = high.compareTo(value);
+        if (comparison < 0 || (comparison == 0 && !highInclusive)) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    public Interval forRule(int rule) {
+      return new Interval(low, lowInclusive, high, highInclusive, rule);
+    }
+
+    public BigDecimal getLow() {
+      return low;
+    }
+
+  }
+
+}
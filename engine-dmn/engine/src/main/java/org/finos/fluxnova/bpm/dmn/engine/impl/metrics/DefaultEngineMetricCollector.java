@@ -22,12 +22,16 @@ import org.finos.fluxnova.bpm.dmn.engine.delegate.DmnDecisionEvaluationEvent;
 import org.finos.fluxnova.bpm.dmn.engine.delegate.DmnDecisionEvaluationListener;
 import org.finos.fluxnova.bpm.dmn.engine.delegate.DmnDecisionTableEvaluationEvent;
 import org.finos.fluxnova.bpm.dmn.engine.spi.DmnEngineMetricCollector;
+import org.finos.fluxnova.bpm.dmn.feel.impl.scala.ScalaFeelEngineMetrics;
 
 public class DefaultEngineMetricCollector implements DmnEngineMetricCollector, DmnDecisionEvaluationListener {
 
   protected AtomicLong executedDecisionInstances = new AtomicLong();
   protected AtomicLong executedDecisionElements = new AtomicLong();
 
+  protected ScalaFeelEngineMetrics feelEngineMetrics;
+  protected DmnDecisionResultCacheMetrics decisionResultCacheMetrics;
+
   public void notify(DmnDecisionTableEvaluationEvent evaluationEvent) {
     // collector is registered as decision evaluation listener
   }
@@ -59,4 +63,40 @@ public class DefaultEngineMetricCollector implements DmnEngineMetricCollector, D
     return executedDecisionElements.getAndSet(0);
   }
 
+  @Override
+  public long getFeelParseTime() {
+    return feelEngineMetrics != null ? feelEngineMetrics.getParseTime() : 0;
+  }
+
+  @Override
+  public long getFeelEvaluationTime() {
+    return feelEngineMetrics != null ? feelEngineMetrics.getEvaluationTime() : 0;
+  }
+
+  public ScalaFeelEngineMetrics getFeelEngineMetrics() {
+    return feelEngineMetrics;
+  }
+
+  public void setFeelEngineMetrics(ScalaFeelEngineMetrics feelEngineMetrics) {
+    this.feelEngineMetrics = feelEngineMetrics;
+  }
+
+  @Override
+  public long getDecisionResultCacheHits() {
+    return decisionResultCacheMetrics != null ? decisionResultCacheMetrics.getHits() : 0;
+  }
+
+  @Override
+  public long getDecisionResultCacheMisses() {
+    return decisionResultCacheMetrics != null ? decisionResultCacheMetrics.getMisses() : 0;
+  }
+
+  public DmnDecisionResultCacheMetrics getDecisionResultCacheMetrics() {
+    return decisionResultCacheMetrics;
+  }
+
+  public void setDecisionResultCacheMetrics(DmnDecisionResultCacheMetrics decisionResultCacheMetrics) {
+    this.decisionResultCacheMetrics = decisionResultCacheMetrics;
+  }
+
 }
@@ -0,0 +1,68 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.finos.fluxnova.bpm.dmn.engine.impl.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records how often the result of a decision table is found in its result cache.
+ */
+public class DmnDecisionResultCacheMetrics {
+
+  protected final LongAdder hits = new LongAdder();
+  protected final LongAdder misses = new LongAdder();
+
+  public void recordHit() {
+    hits.increment();
+  }
+
+  public void recordMiss() {
+    misses.increment();
+  }
+
+  /**
+   * @return the number of results found in the cache
+   */
+  public long getHits() {
+    return hits.sum();
+  }
+
+  /**
+   * @return the number of results not found in the cache
+   */
+  public long getMisses() {
+    return misses.sum();
+  }
+
+  /**
+   * @return the ratio of hits to lookups, <code>0</code> if there were no lookups yet
+   */
+  public double getHitRatio() {
+    long hitCount = hits.sum();
+    long total = hitCount + misses.sum();
+    return total == 0 ? 0 : (double) hitCount / total;
+  }
+
+  /**
+   * Resets all metrics to 0.
+   */
+  public void clear() {
+    hits.reset();
+    misses.reset();
+  }
+
+}
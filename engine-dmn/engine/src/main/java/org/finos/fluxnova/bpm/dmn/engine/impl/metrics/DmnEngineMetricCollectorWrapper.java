@@ -71,4 +71,24 @@ public class DmnEngineMetricCollectorWrapper implements DmnEngineMetricCollector
     return collector.clearExecutedDecisionElements();
   }
 
+  @Override
+  public long getFeelParseTime() {
+    return collector.getFeelParseTime();
+  }
+
+  @Override
+  public long getFeelEvaluationTime() {
+    return collector.getFeelEvaluationTime();
+  }
+
+  @Override
+  public long getDecisionResultCacheHits() {
+    return collector.getDecisionResultCacheHits();
+  }
+
+  @Override
+  public long getDecisionResultCacheMisses() {
+    return collector.getDecisionResultCacheMisses();
+  }
+
 }
@@ -0,0 +1,308 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.finos.fluxnova.bpm.dmn.engine.impl.transform;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import org.finos.fluxnova.bpm.dmn.engine.DmnDecision;
+import org.finos.fluxnova.bpm.dmn.engine.DmnDecisionLogic;
+import org.finos.fluxnova.bpm.dmn.engine.DmnDecisionRequirementsGraph;
+import org.finos.fluxnova.bpm.dmn.engine.impl.DefaultDmnEngineConfiguration;
+import org.finos.fluxnova.bpm.dmn.engine.impl.DmnDecisionTableImpl;
+import org.finos.fluxnova.bpm.dmn.engine.impl.DmnDecisionTableInputImpl;
+import org.finos.fluxnova.bpm.dmn.engine.impl.DmnDecisionTableOutputImpl;
+import org.finos.fluxnova.bpm.dmn.engine.impl.DmnDecisionTableRuleImpl;
+import org.finos.fluxnova.bpm.dmn.engine.impl.DmnExpressionImpl;
+import org.finos.fluxnova.bpm.dmn.engine.impl.DmnLogger;
+import org.finos.fluxnova.bpm.dmn.engine.impl.evaluation.ExpressionEvaluationHandler;
+import org.finos.fluxnova.bpm.dmn.engine.impl.spi.transform.DmnTransformListener;
+import org.finos.fluxnova.bpm.dmn.engine.impl.type.DefaultTypeDefinition;
+import org.finos.fluxnova.bpm.model.dmn.instance.Decision;
+import org.finos.fluxnova.bpm.model.dmn.instance.Definitions;
+import org.finos.fluxnova.bpm.model.dmn.instance.Input;
+import org.finos.fluxnova.bpm.model.dmn.instance.Output;
+import org.finos.fluxnova.bpm.model.dmn.instance.Rule;
+
+/**
+ * Detects the decision tables whose result depends on the values of their inputs only,
+ * so that it can be cached by them. A decision table is not cacheable if
+ *
+ * <ul>
+ *   <li>an expression calls a function which is not a deterministic FEEL built-in function,
+ *   e.g. <code>now()</code>, <code>today()</code>, a custom function or a JUEL function or method,</li>
+ *   <li>an expression is a script,</li>
+ *   <li>an input or output entry references a variable which is not the value of an input.</li>
+ * </ul>
+ *
+ * The detection is conservative: expressions it does not understand make the decision table
+ * not cacheable.
+ */
+public class DecisionResultCacheTransformListener implements DmnTransformListener {
+
+  protected static final DmnTransformLogger LOG = DmnLogger.TRANSFORM_LOGGER;
+
+  protected static final Set<String> DETERMINISTIC_FEEL_FUNCTIONS = new HashSet<String>(Arrays.asList(
+    "not", "date", "time", "duration", "number", "string", "context", "range",
+    "substring", "contains", "matches", "replace", "split", "extract",
+    "decimal", "floor", "ceiling", "abs", "modulo", "sqrt", "log", "exp", "odd", "even",
+    "count", "min", "max", "sum", "mean", "median", "stddev", "mode", "product", "all", "any",
+    "sublist", "append", "concatenate", "remove", "reverse", "union", "flatten", "sort",
+    "before", "after", "meets", "overlaps", "finishes", "includes", "during", "starts", "coincides", "is"
+  ));
+
+  /**
+   * FEEL built-in functions whose names contain spaces, they are removed before the names
+   * in an expression are checked.
+   */
+  protected static final Pattern DETERMINISTIC_FEEL_FUNCTIONS_WITH_SPACES = Pattern.compile(
+    "\\b(date and time|years and months duration|string length|upper case|lower case|substring before|substring after"
+      + "|starts with|ends with|list contains|insert before|index of|distinct values|get value|get entries"
+      + "|day of year|day of week|month of year|week of year|round up|round down|round half up|round half down"
+      + "|string join|context put|context merge|is defined|met by|finished by|started by|overlaps before|overlaps after)\\s*\\(");
+
+  protected static final Set<String> FEEL_KEYWORDS = new HashSet<String>(Arrays.asList(
+    "and", "or", "not", "true", "false", "null", "between", "in", "instance", "of",
+    "if", "then", "else", "for", "return", "some", "every", "satisfies"
+  ));
+
+  protected static final Set<String> JUEL_KEYWORDS = new HashSet<String>(Arrays.asList(
+    "and", "or", "not", "eq", "ne", "lt", "gt", "le", "ge", "div", "mod", "empty", "true", "false", "null", "instanceof"
+  ));
+
+  protected final ExpressionEvaluationHandler expressionEvaluationHandler;
+
+  protected final String inputExpressionExpressionLanguage;
+  protected final String inputEntryExpressionLanguage;
+  protected final String outputEntryExpressionLanguage;
+
+  public DecisionResultCacheTransformListener(DefaultDmnEngineConfiguration configuration) {
+    this.expressionEvaluationHandler = new ExpressionEvaluationHandler(configuration);
+
+    inputExpressionExpressionLanguage = configuration.getDefaultInputExpressionExpressionLanguage();
+    inputEntryExpressionLanguage = configuration.getDefaultInputEntryExpressionLanguage();
+    outputEntryExpressionLanguage = configuration.getDefaultOutputEntryExpressionLanguage();
+  }
+
+  public void transformDecision(Decision decision, DmnDecision dmnDecision) {
+    if (dmnDecision == null) {
+      return;
+    }
+    DmnDecisionLogic decisionLogic = dmnDecision.getDecisionLogic();
+
+    if (decisionLogic instanceof DmnDecisionTableImpl) {
+      DmnDecisionTableImpl decisionTable = (DmnDecisionTableImpl) decisionLogic;
+
+      String reason = getNotCacheableReason(decisionTable);
+      if (reason != null) {
+        LOG.decisionTableResultNotCacheable(dmnDecision, reason);
+      }
+      decisionTable.setResultCacheable(reason == null);
+    }
+  }
+
+  public void transformDecisionTableInput(Input input, DmnDecisionTableInputImpl dmnInput) {
+    // decision tables are checked with the decision
+  }
+
+  public void transformDecisionTableOutput(Output output, DmnDecisionTableOutputImpl dmnOutput) {
+    // decision tables are checked with the decision
+  }
+
+  public void transformDecisionTableRule(Rule rule, DmnDecisionTableRuleImpl dmnRule) {
+    // decision tables are checked with the decision
+  }
+
+  public void transformDecisionRequirementsGraph(Definitions definitions, DmnDecisionRequirementsGraph dmnDecisionRequirementsGraph) {
+    // decision tables are checked with the decisions
+  }
+
+  /**
+   * @return why the result of the decision table cannot be cached, or <code>null</code> if it can be cached
+   */
+  protected String getNotCacheableReason(DmnDecisionTableImpl decisionTable) {
+    // the value of an input which is a plain variable may be referenced by its name,
+    // unless its type definition transforms the value
+    Set<String> inputNames = new HashSet<String>();
+    for (DmnDecisionTableInputImpl input : decisionTable.getInputs()) {
+      DmnExpressionImpl expression = input.getExpression();
+      String reason = checkExpression(expression, inputExpressionExpressionLanguage, null);
+      if (reason != null) {
+        return reason;
+      }
+      if (expression != null && isName(expression.getExpression()) && expression.getTypeDefinition() instanceof DefaultTypeDefinition) {
+        inputNames.add(expression.getExpression().trim());
+      }
+    }
+
+    for (DmnDecisionTableRuleImpl rule : decisionTable.getRules()) {
+      for (int conditionIdx = 0; conditionIdx < rule.getConditions().size(); conditionIdx++) {
+        DmnExpressionImpl condition = rule.getConditions().get(conditionIdx);
+        if (condition.getCompiledUnaryTests() == null) {
+          Set<String> names = new HashSet<String>(inputNames);
+          names.add(decisionTable.getInputs().get(conditionIdx).getInputVariable());
+          String reason = checkExpression(condition, inputEntryExpressionLanguage, names);
+          if (reason != null) {
+            return reason;
+          }
+        }
+      }
+      for (DmnExpressionImpl conclusion : rule.getConclusions()) {
+        if (!conclusion.isLiteral()) {
+          String reason = checkExpression(conclusion, outputEntryExpressionLanguage, inputNames);
+          if (reason != null) {
+            return reason;
+          }
+        }
+      }
+    }
+
+    return null;
+  }
+
+  /**
+   * @param names the variables the expression may reference, <code>null</code> if it may reference any variable
+   * @return why the expression prevents caching, or <code>null</code> if it does not
+   */
+  protected String checkExpression(DmnExpressionImpl expression, String defaultExpressionLanguage, Set<String> names) {
+    if (expression == null || expression.getExpression() == null || expression.getExpression().trim().isEmpty()) {
+      return null;
+    }
+    String expressionLanguage = expression.getExpressionLanguage();
+    if (expressionLanguage == null) {
+      expressionLanguage = defaultExpressionLanguage;
+    }
+
+    if (expressionLanguage != null && expressionEvaluationHandler.isFeelExpressionLanguage(expressionLanguage)) {
+      String text = DETERMINISTIC_FEEL_FUNCTIONS_WITH_SPACES.matcher(expression.getExpression()).replaceAll("(");
+      return checkNames(text, false, DETERMINISTIC_FEEL_FUNCTIONS, FEEL_KEYWORDS, names);
+    }
+    else if (DefaultDmnEngineConfiguration.JUEL_EXPRESSION_LANGUAGE.equalsIgnoreCase(expressionLanguage)) {
+      return checkNames(expression.getExpression(), true, new HashSet<String>(), JUEL_KEYWORDS, names);
+    }
+    else {
+      return "contains an expression in the language '" + expressionLanguage + "'";
+    }
+  }
+
+  /**
+   * Checks the names in the expression. Names after a dot are properties and are not checked.
+   *
+   * @param singleQuotedStrings whether string literals may also be enclosed in single quotes
+   */
+  protected String checkNames(String text, boolean singleQuotedStrings, Set<String> functions, Set<String> keywords, Set<String> names) {
+    boolean property = false;
+    int pos = 0;
+    int length = text.length();
+
+    while (pos < length) {
+      char c = text.charAt(pos);
+
+      if (c == '"' || (singleQuotedStrings && c == '\'')) {
+        pos = skipString(text, pos);
+        property = false;
+      }
+      else if (Character.isDigit(c)) {
+        while (pos < length && (Character.isLetterOrDigit(text.charAt(pos)) || isDecimalPoint(text, pos))) {
+          pos++;
+        }
+        property = false;
+      }
+      else if (Character.isLetter(c) || c == '_') {
+        int start = pos;
+        while (pos < length && (Character.isLetterOrDigit(text.charAt(pos)) || text.charAt(pos) == '_')) {
+          pos++;
+        }
+        String name = text.substring(start, pos);
+
+        if (isFunctionCall(text, pos)) {
+          if (property || !functions.contains(name)) {
+            return "calls the function '" + name + "'";
+          }
+        }
+        else if (!property && !keywords.contains(name) && names != null && !names.contains(name)) {
+          return "references the variable '" + name + "'";
+        }
+        property = false;
+      }
+      else if (c == '.' && pos + 1 < length && text.charAt(pos + 1) == '.') {
+        // range
+        pos += 2;
+        property = false;
+      }
+      else {
+        if (!Character.isWhitespace(c)) {
+          property = c == '.';
+        }
+        pos++;
+      }
+    }
+
+    return null;
+  }
+
+  protected boolean isFunctionCall(String text, int pos) {
+    while (pos < text.length() && Character.isWhitespace(text.charAt(pos))) {
+      pos++;
+    }
+    return pos < text.length() && text.charAt(pos) == '(';
+  }
+
+  protected boolean isDecimalPoint(String text, int pos) {
+    return text.charAt(pos) == '.' && pos + 1 < text.length() && Character.isDigit(text.charAt(pos + 1));
+  }
+
+  /**
+   * @return the position after the string literal starting at the given position
+   */
+  protected int skipString(String text, int pos) {
+    char quote = text.charAt(pos);
+    pos++;
+    while (pos < text.length()) {
+      char c = text.charAt(pos);
+      if (c == '\\') {
+        pos += 2;
+      }
+      else if (c == quote) {
+        return pos + 1;
+      }
+      else {
+        pos++;
+      }
+    }
+    return pos;
+  }
+
+  protected boolean isName(String expression) {
+    if (expression == null) {
+      return false;
+    }
+    String name = expression.trim();
+    if (name.isEmpty() || !(Character.isLetter(name.charAt(0)) || name.charAt(0) == '_')) {
+      return false;
+    }
+    for (int i = 1; i < name.length(); i++) {
+      if (!Character.isLetterOrDigit(name.charAt(i)) && name.charAt(i) != '_') {
+        return false;
+      }
+    }
+    return !FEEL_KEYWORDS.contains(name);
+  }
+
+}
@@ -40,6 +40,8 @@ import org.finos.fluxnova.bpm.dmn.engine.impl.DmnDecisionTableRuleImpl;
 import org.finos.fluxnova.bpm.dmn.engine.impl.DmnExpressionImpl;
 import org.finos.fluxnova.bpm.dmn.engine.impl.DmnLogger;
 import org.finos.fluxnova.bpm.dmn.engine.impl.DmnVariableImpl;
+import org.finos.fluxnova.bpm.dmn.engine.impl.index.DmnDecisionTableIndexCompiler;
+import org.finos.fluxnova.bpm.dmn.engine.impl.index.DmnExpressionCompiler;
 import org.finos.fluxnova.bpm.dmn.engine.impl.spi.hitpolicy.DmnHitPolicyHandlerRegistry;
 import org.finos.fluxnova.bpm.dmn.engine.impl.spi.transform.DmnElementTransformContext;
 import org.finos.fluxnova.bpm.dmn.engine.impl.spi.transform.DmnElementTransformHandler;
@@ -329,6 +331,9 @@ public class DefaultDmnTransform implements DmnTransform, DmnElementTransformCon
       }
     }
 
+    new DmnExpressionCompiler().compile(dmnDecisionTable);
+    dmnDecisionTable.setIndex(new DmnDecisionTableIndexCompiler().compile(dmnDecisionTable));
+
     return dmnDecisionTable;
   }
 
@@ -170,4 +170,11 @@ public class DmnTransformLogger extends DmnLogger {
         decisionId));
   }
 
+  public void decisionTableResultNotCacheable(DmnDecision dmnDecision, String reason) {
+    logDebug(
+      "019",
+      "The result of the decision '{}' is not cached because its decision table {}.", dmnDecision.getKey(), reason
+    );
+  }
+
 }
@@ -0,0 +1,166 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.finos.fluxnova.bpm.dmn.engine.impl.transform;
+
+import java.util.List;
+
+import org.finos.fluxnova.bpm.dmn.engine.DmnDecision;
+import org.finos.fluxnova.bpm.dmn.engine.DmnDecisionLogic;
+import org.finos.fluxnova.bpm.dmn.engine.DmnDecisionRequirementsGraph;
+import org.finos.fluxnova.bpm.dmn.engine.impl.DefaultDmnEngineConfiguration;
+import org.finos.fluxnova.bpm.dmn.engine.impl.DmnDecisionLiteralExpressionImpl;
+import org.finos.fluxnova.bpm.dmn.engine.impl.DmnDecisionTableImpl;
+import org.finos.fluxnova.bpm.dmn.engine.impl.DmnDecisionTableInputImpl;
+import org.finos.fluxnova.bpm.dmn.engine.impl.DmnDecisionTableOutputImpl;
+import org.finos.fluxnova.bpm.dmn.engine.impl.DmnDecisionTableRuleImpl;
+import org.finos.fluxnova.bpm.dmn.engine.impl.DmnExpressionImpl;
+import org.finos.fluxnova.bpm.dmn.engine.impl.evaluation.ExpressionEvaluationHandler;
+import org.finos.fluxnova.bpm.dmn.engine.impl.index.DmnDecisionTableIndex;
+import org.finos.fluxnova.bpm.dmn.engine.impl.index.DmnInputEntryIndex;
+import org.finos.fluxnova.bpm.dmn.engine.impl.spi.transform.DmnTransformListener;
+import org.finos.fluxnova.bpm.dmn.feel.impl.scala.ScalaFeelEngine;
+import org.finos.fluxnova.bpm.model.dmn.instance.Decision;
+import org.finos.fluxnova.bpm.model.dmn.instance.Definitions;
+import org.finos.fluxnova.bpm.model.dmn.instance.Input;
+import org.finos.fluxnova.bpm.model.dmn.instance.Output;
+import org.finos.fluxnova.bpm.model.dmn.instance.Rule;
+
+/**
+ * Parses the FEEL expressions of transformed decisions in advance, so that
+ * the first evaluation of a deployed decision does not have to parse them.
+ * Expressions which cannot be parsed are ignored, they fail on evaluation.
+ * Input entries which are looked up in the decision table index or evaluated
+ * by their compiled unary tests are not parsed, since the evaluation usually
+ * does not need the FEEL engine for them.
+ */
+public class FeelExpressionWarmUpTransformListener implements DmnTransformListener {
+
+  protected final ScalaFeelEngine feelEngine;
+  protected final ExpressionEvaluationHandler expressionEvaluationHandler;
+
+  protected final String inputExpressionExpressionLanguage;
+  protected final String inputEntryExpressionLanguage;
+  protected final String outputEntryExpressionLanguage;
+  protected final String literalExpressionLanguage;
+
+  protected final boolean decisionTableIndexEnabled;
+  protected final boolean compiledEntriesEnabled;
+
+  public FeelExpressionWarmUpTransformListener(DefaultDmnEngineConfiguration configuration, ScalaFeelEngine feelEngine) {
+    this.feelEngine = feelEngine;
+    this.expressionEvaluationHandler = new ExpressionEvaluationHandler(configuration);
+
+    inputExpressionExpressionLanguage = configuration.getDefaultInputExpressionExpressionLanguage();
+    inputEntryExpressionLanguage = configuration.getDefaultInputEntryExpressionLanguage();
+    outputEntryExpressionLanguage = configuration.getDefaultOutputEntryExpressionLanguage();
+    literalExpressionLanguage = configuration.getDefaultLiteralExpressionLanguage();
+
+    // same conditions as on evaluation of the decision table
+    boolean defaultFeelEngine = configuration.isDefaultFeelEngineFactory();
+    decisionTableIndexEnabled = defaultFeelEngine && configuration.isDecisionTableIndexEnabled()
+        && inputEntryExpressionLanguage != null
+        && expressionEvaluationHandler.isFeelExpressionLanguage(inputEntryExpressionLanguage);
+    compiledEntriesEnabled = defaultFeelEngine && configuration.isCompiledEntriesEnabled();
+  }
+
+  public void transformDecision(Decision decision, DmnDecision dmnDecision) {
+    if (dmnDecision == null) {
+      return;
+    }
+    DmnDecisionLogic decisionLogic = dmnDecision.getDecisionLogic();
+
+    if (decisionLogic instanceof DmnDecisionTableImpl) {
+      DmnDecisionTableImpl decisionTable = (DmnDecisionTableImpl) decisionLogic;
+
+      for (DmnDecisionTableInputImpl input : decisionTable.getInputs()) {
+        parseSimpleExpression(input.getExpression(), inputExpressionExpressionLanguage);
+      }
+      List<DmnDecisionTableRuleImpl> rules = decisionTable.getRules();
+      for (int ruleIdx = 0; ruleIdx < rules.size(); ruleIdx++) {
+        List<DmnExpressionImpl> conditions = rules.get(ruleIdx).getConditions();
+        for (int inputIdx = 0; inputIdx < conditions.size(); inputIdx++) {
+          DmnExpressionImpl condition = conditions.get(inputIdx);
+          if (!isIndexed(decisionTable, inputIdx, ruleIdx) && !hasCompiledUnaryTests(condition)) {
+            parseSimpleUnaryTests(condition, inputEntryExpressionLanguage);
+          }
+        }
+        for (DmnExpressionImpl conclusion : rules.get(ruleIdx).getConclusions()) {
+          parseSimpleExpression(conclusion, outputEntryExpressionLanguage);
+        }
+      }
+    }
+    else if (decisionLogic instanceof DmnDecisionLiteralExpressionImpl) {
+      parseSimpleExpression(((DmnDecisionLiteralExpressionImpl) decisionLogic).getExpression(), literalExpressionLanguage);
+    }
+  }
+
+  public void transformDecisionTableInput(Input input, DmnDecisionTableInputImpl dmnInput) {
+    // expressions are parsed with the decision
+  }
+
+  public void transformDecisionTableOutput(Output output, DmnDecisionTableOutputImpl dmnOutput) {
+    // expressions are parsed with the decision
+  }
+
+  public void transformDecisionTableRule(Rule rule, DmnDecisionTableRuleImpl dmnRule) {
+    // expressions are parsed with the decision
+  }
+
+  public void transformDecisionRequirementsGraph(Definitions definitions, DmnDecisionRequirementsGraph dmnDecisionRequirementsGraph) {
+    // expressions are parsed with the decisions
+  }
+
+  protected void parseSimpleExpression(DmnExpressionImpl expression, String defaultExpressionLanguage) {
+    if (isFeelExpression(expression, defaultExpressionLanguage)) {
+      feelEngine.parseSimpleExpression(expression.getExpression());
+    }
+  }
+
+  protected void parseSimpleUnaryTests(DmnExpressionImpl expression, String defaultExpressionLanguage) {
+    if (isFeelExpression(expression, defaultExpressionLanguage)) {
+      feelEngine.parseSimpleUnaryTests(expression.getExpression());
+    }
+  }
+
+  /**
+   * @return whether the input entry is looked up in the index of the decision table
+   */
+  protected boolean isIndexed(DmnDecisionTableImpl decisionTable, int inputIdx, int ruleIdx) {
+    DmnDecisionTableIndex index = decisionTable.getIndex();
+    if (!decisionTableIndexEnabled || index == null) {
+      return false;
+    }
+    DmnInputEntryIndex inputIndex = index.getInputIndex(inputIdx);
+    return inputIndex != null && !inputIndex.getFallbackRules().get(ruleIdx);
+  }
+
+  protected boolean hasCompiledUnaryTests(DmnExpressionImpl condition) {
+    return compiledEntriesEnabled && condition != null && condition.getCompiledUnaryTests() != null;
+  }
+
+  protected boolean isFeelExpression(DmnExpressionImpl expression, String defaultExpressionLanguage) {
+    if (expression == null || expression.getExpression() == null || expression.getExpression().trim().isEmpty()) {
+      return false;
+    }
+    String expressionLanguage = expression.getExpressionLanguage();
+    if (expressionLanguage == null) {
+      expressionLanguage = defaultExpressionLanguage;
+    }
+    return expressionLanguage != null && expressionEvaluationHandler.isFeelExpressionLanguage(expressionLanguage);
+  }
+
+}
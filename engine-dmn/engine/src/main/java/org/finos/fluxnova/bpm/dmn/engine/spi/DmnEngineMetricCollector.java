@@ -48,4 +48,32 @@ public interface DmnEngineMetricCollector extends DmnDecisionTableEvaluationList
    */
   long clearExecutedDecisionInstances();
 
+  /**
+   * @return the time spent parsing FEEL expressions since creation of this engine, in nanoseconds
+   */
+  default long getFeelParseTime() {
+    return 0;
+  }
+
+  /**
+   * @return the time spent evaluating parsed FEEL expressions since creation of this engine, in nanoseconds
+   */
+  default long getFeelEvaluationTime() {
+    return 0;
+  }
+
+  /**
+   * @return the number of decision table results found in the result cache since creation of this engine
+   */
+  default long getDecisionResultCacheHits() {
+    return 0;
+  }
+
+  /**
+   * @return the number of decision table results not found in the result cache since creation of this engine
+   */
+  default long getDecisionResultCacheMisses() {
+    return 0;
+  }
+
 }
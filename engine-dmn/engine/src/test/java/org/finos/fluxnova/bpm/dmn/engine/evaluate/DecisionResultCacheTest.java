@@ -0,0 +1,204 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.finos.fluxnova.bpm.dmn.engine.evaluate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.finos.fluxnova.bpm.dmn.engine.DmnDecision;
+import org.finos.fluxnova.bpm.dmn.engine.DmnDecisionResult;
+import org.finos.fluxnova.bpm.dmn.engine.DmnEngine;
+import org.finos.fluxnova.bpm.dmn.engine.DmnEngineConfiguration;
+import org.finos.fluxnova.bpm.dmn.engine.delegate.DmnEvaluatedDecisionRule;
+import org.finos.fluxnova.bpm.dmn.engine.impl.DefaultDmnEngineConfiguration;
+import org.finos.fluxnova.bpm.dmn.engine.impl.DmnDecisionTableImpl;
+import org.finos.fluxnova.bpm.dmn.engine.impl.cache.DmnDecisionResultCache;
+import org.finos.fluxnova.bpm.dmn.engine.test.DecisionResource;
+import org.finos.fluxnova.bpm.dmn.engine.test.DmnEngineTest;
+import org.finos.fluxnova.bpm.engine.variable.Variables;
+import org.junit.Test;
+
+public class DecisionResultCacheTest extends DmnEngineTest {
+
+  public static final String DMN_FILE = "org/finos/fluxnova/bpm/dmn/engine/evaluate/DecisionResultCache.dmn";
+
+  @Override
+  public DmnEngineConfiguration getDmnEngineConfiguration() {
+    return new DefaultDmnEngineConfiguration()
+      .setDecisionResultCacheEnabled(true);
+  }
+
+  @Test
+  public void shouldDetectCacheableDecisionTables() {
+    assertThat(isResultCacheable("discount")).isTrue();
+    assertThat(isResultCacheable("now")).isFalse();
+    assertThat(isResultCacheable("variable")).isFalse();
+    assertThat(isResultCacheable("script")).isFalse();
+  }
+
+  @Test
+  public void shouldNotDetectCacheableDecisionTablesIfDisabled() {
+    dmnEngine = new DefaultDmnEngineConfiguration().buildEngine();
+
+    assertThat(isResultCacheable("discount")).isFalse();
+  }
+
+  @Test
+  @DecisionResource(resource = DMN_FILE, decisionKey = "discount")
+  public void shouldCacheResult() {
+    variables.putValue("country", "DE");
+    variables.putValue("product", "books");
+    variables.putValue("tier", "gold");
+
+    DmnDecisionResult result = evaluateDecision();
+    DmnDecisionResult cachedResult = evaluateDecision();
+
+    assertThat(result.getSingleResult().getEntryMap())
+      .containsEntry("rate", 0.2)
+      .containsEntry("label", "books gold");
+    assertThat(cachedResult.getResultList()).isEqualTo(result.getResultList());
+
+    DmnDecisionResultCache resultCache = getResultCache();
+    assertThat(resultCache.size()).isEqualTo(1);
+    assertThat(resultCache.getMetrics().getHits()).isEqualTo(1);
+    assertThat(resultCache.getMetrics().getMisses()).isEqualTo(1);
+    assertThat(resultCache.getMetrics().getHitRatio()).isEqualTo(0.5);
+    assertThat(dmnEngine.getConfiguration().getEngineMetricCollector().getDecisionResultCacheHits()).isEqualTo(1);
+    assertThat(dmnEngine.getConfiguration().getEngineMetricCollector().getDecisionResultCacheMisses()).isEqualTo(1);
+  }
+
+  @Test
+  @DecisionResource(resource = DMN_FILE, decisionKey = "discount")
+  public void shouldMatchUncachedEvaluation() {
+    DmnEngine uncachedEngine = new DefaultDmnEngineConfiguration().buildEngine();
+
+    List<String> countries = Arrays.asList("DE", "AT", "US", null);
+    List<String> products = Arrays.asList("books", "bookshelf", "car");
+    List<String> tiers = Arrays.asList("gold", "GOLD", "silver");
+
+    // evaluate twice to compare cached results
+    for (int i = 0; i < 2; i++) {
+      for (String country : countries) {
+        for (String product : products) {
+          for (String tier : tiers) {
+            variables = Variables.createVariables()
+              .putValue("country", country)
+              .putValue("product", product)
+              .putValue("tier", tier);
+
+            DmnDecisionResult result = evaluateDecision();
+            DmnDecisionResult uncachedResult = uncachedEngine.evaluateDecision(decision, variables);
+
+            assertThat(result.getResultList())
+              .describedAs("result for %s", variables)
+              .isEqualTo(uncachedResult.getResultList());
+          }
+        }
+      }
+    }
+
+    // the results are cached by the input values, "gold" and "GOLD" are the same tier
+    assertThat(getResultCache().getMetrics().getMisses()).isEqualTo(24);
+    assertThat(getResultCache().getMetrics().getHits()).isEqualTo(48);
+  }
+
+  @Test
+  @DecisionResource(resource = DMN_FILE, decisionKey = "variable")
+  public void shouldNotCacheResultOfDecisionTableReferencingVariables() {
+    variables.putValue("product", 5);
+    variables.putValue("limit", 10);
+
+    assertThat((Double) evaluateDecision().getSingleEntry()).isEqualTo(0.5);
+
+    variables.putValue("limit", 1);
+
+    assertThat(evaluateDecision().getResultList()).isEmpty();
+    assertThat(getResultCache()).isNull();
+  }
+
+  @Test
+  @DecisionResource(resource = DMN_FILE, decisionKey = "discount")
+  public void shouldStartWithEmptyCacheForTransformedDecision() {
+    variables.putValue("country", "US");
+    variables.putValue("product", "car");
+    variables.putValue("tier", "silver");
+    evaluateDecision();
+
+    // e.g. on redeployment
+    decision = parseDecisionFromFile("discount", DMN_FILE);
+
+    assertThat(getResultCache()).isNull();
+
+    evaluateDecision();
+
+    assertThat(getResultCache().getMetrics().getHits()).isEqualTo(0);
+    assertThat(getResultCache().getMetrics().getMisses()).isEqualTo(1);
+  }
+
+  @Test
+  public void shouldLimitCacheSize() {
+    dmnEngine = new DefaultDmnEngineConfiguration()
+      .setDecisionResultCacheEnabled(true)
+      .setDecisionResultCacheSize(2)
+      .buildEngine();
+    decision = parseDecisionFromFile("discount", DMN_FILE);
+
+    for (String product : Arrays.asList("a", "b", "c", "d", "e")) {
+      variables.putValue("country", "DE");
+      variables.putValue("product", product);
+      variables.putValue("tier", "gold");
+      evaluateDecision();
+    }
+
+    assertThat(getResultCache().size()).isLessThanOrEqualTo(2);
+  }
+
+  @Test
+  public void shouldExpireCachedResult() {
+    final long[] now = { 0 };
+    DmnDecisionResultCache resultCache = new DmnDecisionResultCache(10, 1000, null) {
+      protected long currentTimeMillis() {
+        return now[0];
+      }
+    };
+    List<Object> inputValues = Arrays.<Object>asList("DE", 1);
+    List<DmnEvaluatedDecisionRule> matchingRules = Collections.emptyList();
+
+    resultCache.put(inputValues, matchingRules);
+    now[0] = 999;
+
+    assertThat(resultCache.get(inputValues)).isEmpty();
+
+    now[0] = 1000;
+
+    assertThat(resultCache.get(inputValues)).isNull();
+    assertThat(resultCache.size()).isEqualTo(0);
+  }
+
+  protected boolean isResultCacheable(String decisionKey) {
+    DmnDecision decision = parseDecisionFromFile(decisionKey, DMN_FILE);
+    return ((DmnDecisionTableImpl) decision.getDecisionLogic()).isResultCacheable();
+  }
+
+  protected DmnDecisionResultCache getResultCache() {
+    return ((DmnDecisionTableImpl) decision.getDecisionLogic()).getResultCache();
+  }
+
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.finos.fluxnova.bpm.dmn.engine.evaluate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.finos.fluxnova.bpm.dmn.engine.DmnDecision;
+import org.finos.fluxnova.bpm.dmn.engine.DmnEngine;
+import org.finos.fluxnova.bpm.dmn.engine.impl.DefaultDmnEngineConfiguration;
+import org.finos.fluxnova.bpm.dmn.engine.impl.DmnDecisionTableImpl;
+import org.finos.fluxnova.bpm.dmn.engine.test.DecisionResource;
+import org.finos.fluxnova.bpm.dmn.engine.test.DmnEngineTest;
+import org.finos.fluxnova.bpm.engine.variable.VariableMap;
+import org.finos.fluxnova.bpm.engine.variable.Variables;
+import org.finos.fluxnova.commons.utils.IoUtil;
+import org.junit.Test;
+
+public class DecisionTableCompiledEntriesTest extends DmnEngineTest {
+
+  public static final String DMN_FILE = "org/finos/fluxnova/bpm/dmn/engine/evaluate/DecisionTableCompiledEntries.dmn";
+
+  @Test
+  @DecisionResource(resource = DMN_FILE)
+  public void shouldCountCompiledEntries() {
+    DmnDecisionTableImpl decisionTable = (DmnDecisionTableImpl) decision.getDecisionLogic();
+
+    // 8 input entries (all but not(..) and empty entries) and 8 output entries (all but variables and empty entries)
+    assertThat(decisionTable.getCompiledEntryCount()).isEqualTo(16);
+    assertThat(decisionTable.getRules().get(1).getConditions().get(0).getCompiledUnaryTests()).isNull();
+    assertThat(decisionTable.getRules().get(2).getConclusions().get(1).isLiteral()).isFalse();
+  }
+
+  @Test
+  @DecisionResource(resource = DMN_FILE)
+  public void shouldEvaluateCompiledEntries() {
+    variables.putValue("category", "silver");
+    variables.putValue("amount", 5);
+
+    assertThat(evaluateDecisionTable().getResultList())
+      .extracting("rule", "value")
+      .containsExactly(
+        tuple("r1", 1.0),
+        tuple("r3", 5.0));
+  }
+
+  @Test
+  public void shouldEvaluateLikeFeelEngine() {
+    assertSameResults(new DefaultDmnEngineConfiguration());
+  }
+
+  @Test
+  public void shouldEvaluateLikeLegacyFeelEngine() {
+    assertSameResults(new DefaultDmnEngineConfiguration().enableFeelLegacyBehavior(true));
+  }
+
+  protected void assertSameResults(DefaultDmnEngineConfiguration configuration) {
+    DmnEngine engine = configuration
+      .setDecisionTableIndexEnabled(false)
+      .setCompiledEntriesEnabled(true)
+      .buildEngine();
+    DmnEngine engineWithoutCompiledEntries = new DefaultDmnEngineConfiguration()
+      .enableFeelLegacyBehavior(configuration.isEnableFeelLegacyBehavior())
+      .setDecisionTableIndexEnabled(false)
+      .setCompiledEntriesEnabled(false)
+      .buildEngine();
+
+    DmnDecision compiledDecision = engine.parseDecision("decision", IoUtil.fileAsStream(DMN_FILE));
+    DmnDecision decision = engineWithoutCompiledEntries.parseDecision("decision", IoUtil.fileAsStream(DMN_FILE));
+
+    List<String> categories = Arrays.asList("gold", "silver", "bronze", "other", null);
+    List<Object> amounts = Arrays.<Object>asList(null, -1, 0, 0.5, 1, 5, 5.0, 10, 10.5, 100, 101L);
+
+    for (String category : categories) {
+      for (Object amount : amounts) {
+        VariableMap variables = Variables.createVariables()
+          .putValue("category", category)
+          .putValue("amount", amount);
+
+        assertThat(engine.evaluateDecisionTable(compiledDecision, variables).getResultList())
+          .describedAs("result for %s", variables)
+          .isEqualTo(engineWithoutCompiledEntries.evaluateDecisionTable(decision, variables).getResultList());
+      }
+    }
+  }
+
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.finos.fluxnova.bpm.dmn.engine.evaluate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.finos.fluxnova.bpm.dmn.engine.DmnDecisionTableResult;
+import org.finos.fluxnova.bpm.dmn.engine.DmnEngine;
+import org.finos.fluxnova.bpm.dmn.engine.impl.DefaultDmnEngineConfiguration;
+import org.finos.fluxnova.bpm.dmn.engine.impl.DmnDecisionTableImpl;
+import org.finos.fluxnova.bpm.dmn.engine.impl.index.DmnDecisionTableIndex;
+import org.finos.fluxnova.bpm.dmn.engine.impl.index.DmnInputEntryIndex;
+import org.finos.fluxnova.bpm.dmn.engine.test.DecisionResource;
+import org.finos.fluxnova.bpm.dmn.engine.test.DmnEngineTest;
+import org.finos.fluxnova.bpm.dmn.feel.impl.scala.ScalaFeelEngineFactory;
+import org.finos.fluxnova.bpm.engine.variable.Variables;
+import org.junit.Test;
+
+public class DecisionTableIndexTest extends DmnEngineTest {
+
+  public static final String DMN_FILE = "org/finos/fluxnova/bpm/dmn/engine/evaluate/DecisionTableIndex.dmn";
+
+  @Test
+  @DecisionResource(resource = DMN_FILE)
+  public void shouldIndexSimpleInputEntries() {
+    DmnDecisionTableIndex index = ((DmnDecisionTableImpl) decision.getDecisionLogic()).getIndex();
+    assertThat(index).isNotNull();
+
+    DmnInputEntryIndex categoryIndex = index.getInputIndex(0);
+    assertThat(categoryIndex.getValueType()).isEqualTo(DmnInputEntryIndex.ValueType.STRING);
+    assertThat(categoryIndex.getFallbackRules().cardinality()).isEqualTo(1);
+    assertThat(categoryIndex.getFallbackRules().get(8)).isTrue();
+
+    DmnInputEntryIndex amountIndex = index.getInputIndex(1);
+    assertThat(amountIndex.getValueType()).isEqualTo(DmnInputEntryIndex.ValueType.NUMBER);
+    assertThat(amountIndex.getFallbackRules().isEmpty()).isTrue();
+
+    DmnInputEntryIndex vipIndex = index.getInputIndex(2);
+    assertThat(vipIndex.getValueType()).isEqualTo(DmnInputEntryIndex.ValueType.BOOLEAN);
+    assertThat(vipIndex.getFallbackRules().isEmpty()).isTrue();
+
+    DmnInputEntryIndex regionIndex = index.getInputIndex(3);
+    assertThat(regionIndex.getValueType()).isEqualTo(DmnInputEntryIndex.ValueType.STRING);
+    assertThat(regionIndex.getFallbackRules().cardinality()).isEqualTo(3);
+  }
+
+  @Test
+  @DecisionResource(resource = DMN_FILE)
+  public void shouldFindMatchingRules() {
+    variables.putValue("category", "gold");
+    variables.putValue("amount", 500);
+    variables.putValue("vip", false);
+    variables.putValue("region", "EU");
+
+    assertThat(evaluateDecisionTable().collectEntries("rule")).containsExactly("rule1", "rule8");
+
+    variables.putValue("category", "silver");
+    variables.putValue("amount", 50);
+
+    assertThat(evaluateDecisionTable().collectEntries("rule")).containsExactly("rule2");
+
+    variables.putValue("category", "bronze");
+    variables.putValue("amount", 20);
+    variables.putValue("region", "US");
+
+    assertThat(evaluateDecisionTable().collectEntries("rule")).containsExactly("rule6");
+  }
+
+  @Test
+  @DecisionResource(resource = DMN_FILE)
+  public void shouldMatchSameRulesAsWithoutIndex() {
+    DmnEngine engineWithoutIndex = new DefaultDmnEngineConfiguration()
+      .setDecisionTableIndexEnabled(false)
+      .buildEngine();
+
+    List<String> categories = Arrays.asList("gold", "silver", "bronze", "a,b", "other", null);
+    List<Double> amounts = Arrays.asList(null, -10.0, -5.0, -4.9, 0.0, 5.0, 10.0, 15.0, 20.0, 99.5, 100.0, 500.0, 1000.0, 1000.5);
+    List<Boolean> vips = Arrays.asList(true, false, null);
+    List<String> regions = Arrays.asList("EU", "US", "Asia", null);
+
+    for (String category : categories) {
+      for (Double amount : amounts) {
+        for (Boolean vip : vips) {
+          for (String region : regions) {
+            variables = Variables.createVariables()
+              .putValue("category", category)
+              .putValue("amount", amount)
+              .putValue("vip", vip)
+              .putValue("region", region);
+
+            DmnDecisionTableResult indexedResult = evaluateDecisionTable();
+            DmnDecisionTableResult result = evaluateDecisionTable(engineWithoutIndex);
+
+            assertThat(indexedResult.collectEntries("rule"))
+              .describedAs("rules matching %s", variables)
+              .isEqualTo(result.collectEntries("rule"));
+          }
+        }
+      }
+    }
+  }
+
+  @Test
+  public void shouldFindMatchingIntervals() {
+    Random random = new Random(42);
+    List<DmnInputEntryIndex.Interval> intervals = new ArrayList<>();
+    for (int rule = 0; rule < 200; rule++) {
+      int low = random.nextInt(1000);
+      BigDecimal lowerBound = random.nextInt(20) == 0 ? null : BigDecimal.valueOf(low);
+      BigDecimal upperBound = random.nextInt(20) == 0 ? null : BigDecimal.valueOf(low + random.nextInt(random.nextBoolean() ? 10 : 500));
+      intervals.add(new DmnInputEntryIndex.Interval(lowerBound, random.nextBoolean(), upperBound, random.nextBoolean(), rule));
+    }
+    List<DmnInputEntryIndex.Interval> sortedIntervals = new ArrayList<>(intervals);
+    sortedIntervals.sort((interval, other) -> interval.getLow() == null ? (other.getLow() == null ? 0 : -1)
+      : other.getLow() == null ? 1 : interval.getLow().compareTo(other.getLow()));
+
+    DmnInputEntryIndex index = new DmnInputEntryIndex(DmnInputEntryIndex.ValueType.NUMBER, new BitSet(), new BitSet(),
+      Collections.emptyMap(), sortedIntervals);
+
+    for (int value = -10; value < 1600; value++) {
+      BigDecimal number = BigDecimal.valueOf(value);
+      BitSet expectedRules = new BitSet();
+      for (DmnInputEntryIndex.Interval interval : intervals) {
+        if (interval.contains(number)) {
+          expectedRules.set(intervals.indexOf(interval));
+        }
+      }
+      assertThat(index.getMatchingRules(value)).describedAs("rules matching %s", value).isEqualTo(expectedRules);
+    }
+  }
+
+  @Test
+  public void shouldNotUseIndexWithCustomFeelEngineFactory() {
+    DefaultDmnEngineConfiguration configuration = new DefaultDmnEngineConfiguration();
+    assertThat(configuration.isDefaultFeelEngineFactory()).isTrue();
+
+    configuration.setFeelEngineFactory(new ScalaFeelEngineFactory() {
+    });
+
+    assertThat(configuration.isDefaultFeelEngineFactory()).isFalse();
+  }
+
+}
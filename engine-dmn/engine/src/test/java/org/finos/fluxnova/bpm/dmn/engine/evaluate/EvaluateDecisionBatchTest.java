@@ -0,0 +1,143 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.finos.fluxnova.bpm.dmn.engine.evaluate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.finos.fluxnova.bpm.dmn.engine.DmnDecisionResult;
+import org.finos.fluxnova.bpm.dmn.engine.DmnEngine;
+import org.finos.fluxnova.bpm.dmn.engine.impl.DefaultDmnEngineConfiguration;
+import org.finos.fluxnova.bpm.dmn.engine.spi.DmnEngineMetricCollector;
+import org.finos.fluxnova.bpm.dmn.engine.test.DecisionResource;
+import org.finos.fluxnova.bpm.dmn.engine.test.DmnEngineTest;
+import org.finos.fluxnova.bpm.engine.variable.VariableMap;
+import org.finos.fluxnova.bpm.engine.variable.Variables;
+import org.junit.Test;
+
+public class EvaluateDecisionBatchTest extends DmnEngineTest {
+
+  public static final String DMN_FILE = "org/finos/fluxnova/bpm/dmn/engine/evaluate/DecisionTableIndex.dmn";
+  public static final String DRG_DMN_FILE = "org/finos/fluxnova/bpm/dmn/engine/api/DrdDishDecisionExample.dmn";
+
+  @Test
+  @DecisionResource(resource = DMN_FILE)
+  public void shouldEvaluateBatchInOrder() {
+    List<VariableMap> batch = Arrays.asList(
+      createVariables("gold", 500.0, false, "EU"),
+      createVariables("silver", 50.0, false, "EU"),
+      createVariables("bronze", 20.0, false, "US"));
+
+    List<DmnDecisionResult> results = dmnEngine.evaluateDecisionBatch(decision, batch);
+
+    assertThat(results).hasSize(3);
+    assertThat(results.get(0).<String>collectEntries("rule")).containsExactly("rule1", "rule8");
+    assertThat(results.get(1).<String>collectEntries("rule")).containsExactly("rule2");
+    assertThat(results.get(2).<String>collectEntries("rule")).containsExactly("rule6");
+  }
+
+  @Test
+  @DecisionResource(resource = DMN_FILE)
+  public void shouldEvaluateEmptyBatch() {
+    assertThat(dmnEngine.evaluateDecisionBatch(decision, Collections.<VariableMap>emptyList())).isEmpty();
+  }
+
+  @Test
+  @DecisionResource(resource = DMN_FILE)
+  public void shouldFailEvaluatingBatchIfBatchIsNull() {
+    assertThatThrownBy(() -> dmnEngine.evaluateDecisionBatch(decision, null))
+      .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  @DecisionResource(resource = DMN_FILE)
+  public void shouldMatchSingleEvaluations() {
+    DmnEngine engineWithoutIndex = new DefaultDmnEngineConfiguration()
+      .setDecisionTableIndexEnabled(false)
+      .setCompiledEntriesEnabled(false)
+      .buildEngine();
+
+    List<VariableMap> batch = new ArrayList<>();
+    for (String category : Arrays.asList("gold", "silver", "bronze", "a,b", "other", null)) {
+      for (Double amount : Arrays.asList(null, -5.0, 0.0, 10.0, 20.0, 100.0, 1000.0)) {
+        for (Boolean vip : Arrays.asList(true, false, null)) {
+          for (String region : Arrays.asList("EU", "US", null)) {
+            batch.add(createVariables(category, amount, vip, region));
+          }
+        }
+      }
+    }
+
+    List<DmnDecisionResult> results = dmnEngine.evaluateDecisionBatch(decision, batch);
+    List<DmnDecisionResult> resultsWithoutIndex = engineWithoutIndex.evaluateDecisionBatch(decision, batch);
+
+    assertThat(results).hasSize(batch.size());
+    assertThat(resultsWithoutIndex).hasSize(batch.size());
+    for (int i = 0; i < batch.size(); i++) {
+      List<Object> expected = dmnEngine.evaluateDecision(decision, batch.get(i)).collectEntries("rule");
+      assertThat(results.get(i).collectEntries("rule"))
+        .describedAs("rules matching %s", batch.get(i))
+        .isEqualTo(expected);
+      assertThat(resultsWithoutIndex.get(i).collectEntries("rule"))
+        .describedAs("rules matching %s without index", batch.get(i))
+        .isEqualTo(expected);
+    }
+  }
+
+  @Test
+  @DecisionResource(resource = DRG_DMN_FILE, decisionKey = "Dish")
+  public void shouldEvaluateBatchWithRequiredDecisions() {
+    List<VariableMap> batch = Arrays.asList(
+      Variables.createVariables().putValue("temperature", 35).putValue("dayType", "Weekend"),
+      Variables.createVariables().putValue("temperature", 5).putValue("dayType", "Weekend"),
+      Variables.createVariables().putValue("temperature", 20).putValue("dayType", "WeekDay"));
+
+    List<DmnDecisionResult> results = dmnEngine.evaluateDecisionBatch(decision, batch);
+
+    assertThat(results).hasSize(3);
+    assertThat((String) results.get(0).getSingleEntry()).isEqualTo("Light salad");
+    assertThat((String) results.get(1).getSingleEntry()).isEqualTo("Pasta");
+    assertThat((String) results.get(2).getSingleEntry()).isEqualTo("Stew");
+  }
+
+  @Test
+  @DecisionResource(resource = DMN_FILE)
+  public void shouldNotifyListenersForEachEvaluation() {
+    DmnEngineMetricCollector metricCollector = dmnEngine.getConfiguration().getEngineMetricCollector();
+    metricCollector.clearExecutedDecisionInstances();
+
+    dmnEngine.evaluateDecisionBatch(decision, Arrays.asList(
+      createVariables("gold", 500.0, false, "EU"),
+      createVariables("silver", 50.0, false, "EU")));
+
+    assertThat(metricCollector.getExecutedDecisionInstances()).isEqualTo(2L);
+  }
+
+  protected VariableMap createVariables(String category, Double amount, Boolean vip, String region) {
+    return Variables.createVariables()
+      .putValue("category", category)
+      .putValue("amount", amount)
+      .putValue("vip", vip)
+      .putValue("region", region);
+  }
+
+}
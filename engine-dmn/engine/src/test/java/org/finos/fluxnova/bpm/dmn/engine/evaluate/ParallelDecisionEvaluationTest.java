@@ -0,0 +1,166 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.finos.fluxnova.bpm.dmn.engine.evaluate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+
+import org.finos.fluxnova.bpm.dmn.engine.DmnDecisionResult;
+import org.finos.fluxnova.bpm.dmn.engine.DmnEngine;
+import org.finos.fluxnova.bpm.dmn.engine.DmnEngineConfiguration;
+import org.finos.fluxnova.bpm.dmn.engine.delegate.DmnDecisionEvaluationEvent;
+import org.finos.fluxnova.bpm.dmn.engine.delegate.DmnDecisionEvaluationListener;
+import org.finos.fluxnova.bpm.dmn.engine.delegate.DmnDecisionLogicEvaluationEvent;
+import org.finos.fluxnova.bpm.dmn.engine.delegate.DmnDecisionTableEvaluationEvent;
+import org.finos.fluxnova.bpm.dmn.engine.delegate.DmnDecisionTableEvaluationListener;
+import org.finos.fluxnova.bpm.dmn.engine.impl.DefaultDmnEngineConfiguration;
+import org.finos.fluxnova.bpm.dmn.engine.test.DecisionResource;
+import org.finos.fluxnova.bpm.dmn.engine.test.DmnEngineTest;
+import org.finos.fluxnova.bpm.engine.variable.Variables;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ParallelDecisionEvaluationTest extends DmnEngineTest {
+
+  public static final String DMN_FILE = "org/finos/fluxnova/bpm/dmn/engine/evaluate/ParallelDecisionEvaluation.dmn";
+
+  protected static final ForkJoinPool POOL = new ForkJoinPool(4);
+
+  protected RecordingListener listener;
+
+  @Override
+  public DmnEngineConfiguration getDmnEngineConfiguration() {
+    return new ParallelDecisionEvaluationConfiguration();
+  }
+
+  @Before
+  public void initListener() {
+    listener = ((ParallelDecisionEvaluationConfiguration) dmnEngine.getConfiguration()).listener;
+  }
+
+  @AfterClass
+  public static void shutdownPool() {
+    POOL.shutdown();
+  }
+
+  @Test
+  @DecisionResource(resource = DMN_FILE, decisionKey = "total")
+  public void shouldEvaluateRequiredDecisionsInParallel() {
+    variables.putValue("x", 2);
+
+    DmnDecisionResult result = evaluateDecision();
+
+    assertThat((Integer) result.getSingleEntry()).isEqualTo(6);
+    assertThat(listener.decisionTableThread).isInstanceOf(ForkJoinWorkerThread.class);
+  }
+
+  @Test
+  @DecisionResource(resource = DMN_FILE, decisionKey = "total")
+  public void shouldMatchSequentialEvaluation() {
+    DmnEngine sequentialEngine = new DefaultDmnEngineConfiguration().buildEngine();
+
+    for (int x = -5; x < 20; x++) {
+      variables = Variables.createVariables().putValue("x", x);
+
+      DmnDecisionResult result = evaluateDecision();
+      DmnDecisionResult sequentialResult = sequentialEngine.evaluateDecision(decision, variables);
+
+      assertThat(result.getResultList())
+        .describedAs("result for x = %s", x)
+        .isEqualTo(sequentialResult.getResultList());
+    }
+  }
+
+  @Test
+  @DecisionResource(resource = DMN_FILE, decisionKey = "total")
+  public void shouldNotifyListenerWithResultsInDecisionTreeOrder() {
+    variables.putValue("x", 5);
+
+    evaluateDecision();
+
+    DmnDecisionEvaluationEvent event = listener.decisionEvent;
+    assertThat(event.getDecisionResult().getDecision().getKey()).isEqualTo("total");
+    assertThat(event.getExecutedDecisionInstances()).isEqualTo(6L);
+
+    List<String> requiredDecisionKeys = new ArrayList<String>();
+    for (DmnDecisionLogicEvaluationEvent requiredDecisionResult : event.getRequiredDecisionResults()) {
+      requiredDecisionKeys.add(requiredDecisionResult.getDecision().getKey());
+    }
+    assertThat(requiredDecisionKeys).containsExactly("a1", "a2", "m", "a3", "a4");
+  }
+
+  @Test
+  @DecisionResource(resource = DMN_FILE, decisionKey = "m")
+  public void shouldEvaluateRequiredDecisionOfGraph() {
+    variables.putValue("x", 5);
+
+    DmnDecisionResult result = evaluateDecision();
+
+    assertThat((Integer) result.getSingleEntry()).isEqualTo(16);
+    assertThat(listener.decisionEvent.getExecutedDecisionInstances()).isEqualTo(3L);
+  }
+
+  @Test
+  @DecisionResource(resource = DMN_FILE, decisionKey = "total")
+  public void shouldEvaluateSequentiallyIfThresholdIsNotReached() {
+    DmnEngine engine = new DefaultDmnEngineConfiguration()
+      .setParallelDecisionEvaluationEnabled(true)
+      .setParallelDecisionEvaluationThreshold(6)
+      .setParallelDecisionEvaluationPool(POOL)
+      .customPostDecisionTableEvaluationListeners(Collections.<DmnDecisionTableEvaluationListener>singletonList(listener))
+      .buildEngine();
+
+    DmnDecisionResult result = engine.evaluateDecision(decision, Variables.createVariables().putValue("x", 5));
+
+    assertThat((Integer) result.getSingleEntry()).isEqualTo(18);
+    assertThat(listener.decisionTableThread).isSameAs(Thread.currentThread());
+  }
+
+  public static class ParallelDecisionEvaluationConfiguration extends DefaultDmnEngineConfiguration {
+
+    public RecordingListener listener = new RecordingListener();
+
+    public ParallelDecisionEvaluationConfiguration() {
+      setParallelDecisionEvaluationEnabled(true);
+      setParallelDecisionEvaluationThreshold(2);
+      setParallelDecisionEvaluationPool(POOL);
+      setCustomPostDecisionEvaluationListeners(Collections.<DmnDecisionEvaluationListener>singletonList(listener));
+      setCustomPostDecisionTableEvaluationListeners(Collections.<DmnDecisionTableEvaluationListener>singletonList(listener));
+    }
+  }
+
+  public static class RecordingListener implements DmnDecisionEvaluationListener, DmnDecisionTableEvaluationListener {
+
+    public volatile DmnDecisionEvaluationEvent decisionEvent;
+    public volatile Thread decisionTableThread;
+
+    public void notify(DmnDecisionEvaluationEvent evaluationEvent) {
+      decisionEvent = evaluationEvent;
+    }
+
+    public void notify(DmnDecisionTableEvaluationEvent evaluationEvent) {
+      decisionTableThread = Thread.currentThread();
+    }
+  }
+
+}
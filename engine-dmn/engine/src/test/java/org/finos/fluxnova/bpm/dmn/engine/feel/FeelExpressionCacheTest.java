@@ -0,0 +1,139 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.finos.fluxnova.bpm.dmn.engine.feel;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.finos.fluxnova.bpm.dmn.engine.DmnDecision;
+import org.finos.fluxnova.bpm.dmn.engine.DmnEngine;
+import org.finos.fluxnova.bpm.dmn.engine.DmnEngineConfiguration;
+import org.finos.fluxnova.bpm.dmn.engine.impl.DefaultDmnEngineConfiguration;
+import org.finos.fluxnova.bpm.dmn.engine.spi.DmnEngineMetricCollector;
+import org.finos.fluxnova.bpm.dmn.engine.test.DecisionResource;
+import org.finos.fluxnova.bpm.dmn.engine.test.DmnEngineTest;
+import org.finos.fluxnova.bpm.dmn.feel.impl.FeelException;
+import org.finos.fluxnova.bpm.dmn.feel.impl.scala.ScalaFeelEngine;
+import org.finos.fluxnova.bpm.dmn.feel.impl.scala.ScalaFeelEngineMetrics;
+import org.finos.fluxnova.commons.utils.IoUtil;
+import org.junit.Before;
+import org.junit.Test;
+
+public class FeelExpressionCacheTest extends DmnEngineTest {
+
+  public static final String DMN_FILE = "org/finos/fluxnova/bpm/dmn/engine/feel/feel_expression_cache.dmn";
+  public static final String COMPILED_DMN_FILE = "org/finos/fluxnova/bpm/dmn/engine/feel/feel_expression_cache_compiled.dmn";
+
+  protected ScalaFeelEngineMetrics feelEngineMetrics;
+
+  @Override
+  public DmnEngineConfiguration getDmnEngineConfiguration() {
+    DefaultDmnEngineConfiguration configuration = new DefaultDmnEngineConfiguration();
+    configuration.init();
+    return configuration;
+  }
+
+  @Before
+  public void initFeelEngineMetrics() {
+    ScalaFeelEngine feelEngine = (ScalaFeelEngine) ((DefaultDmnEngineConfiguration) dmnEngine.getConfiguration()).getFeelEngine();
+    feelEngineMetrics = feelEngine.getMetrics();
+  }
+
+  @Test
+  @DecisionResource(resource = DMN_FILE)
+  public void shouldParseExpressionsOnTransformation() {
+    // when the decisions are parsed (including the invalid one), except the indexed input entry
+    assertThat(feelEngineMetrics.getParsedExpressions()).isEqualTo(5L);
+    feelEngineMetrics.clear();
+
+    // then the evaluation does not parse the expressions again
+    variables.putValue("amount", 2);
+    assertThat((Double) evaluateDecision().getSingleEntry()).isEqualTo(4.0);
+
+    variables.putValue("amount", 7);
+    assertThat((Double) evaluateDecision().getSingleEntry()).isEqualTo(8.0);
+
+    assertThat(feelEngineMetrics.getParsedExpressions()).isEqualTo(0L);
+    assertThat(feelEngineMetrics.getCacheMisses()).isEqualTo(0L);
+    assertThat(feelEngineMetrics.getCacheHits()).isEqualTo(feelEngineMetrics.getEvaluatedExpressions());
+  }
+
+  @Test
+  public void shouldParseExpressionsOnFirstEvaluationWithoutWarmUp() {
+    DmnEngine engine = new DefaultDmnEngineConfiguration()
+      .setFeelExpressionWarmUpEnabled(false)
+      .buildEngine();
+    ScalaFeelEngineMetrics metrics = ((ScalaFeelEngine) ((DefaultDmnEngineConfiguration) engine.getConfiguration()).getFeelEngine()).getMetrics();
+
+    DmnDecision decision = engine.parseDecision("decision", IoUtil.fileAsStream(DMN_FILE));
+    assertThat(metrics.getParsedExpressions()).isEqualTo(0L);
+
+    variables.putValue("amount", 2);
+    engine.evaluateDecision(decision, variables);
+    long parsedExpressions = metrics.getParsedExpressions();
+    assertThat(parsedExpressions).isGreaterThan(0L);
+
+    engine.evaluateDecision(decision, variables);
+    assertThat(metrics.getParsedExpressions()).isEqualTo(parsedExpressions);
+    assertThat(metrics.getCacheHits()).isGreaterThan(0L);
+  }
+
+  @Test
+  @DecisionResource(resource = COMPILED_DMN_FILE)
+  public void shouldNotParseIndexedAndCompiledEntries() {
+    // when the decision is parsed, the input expression and the output entries are parsed
+    assertThat(feelEngineMetrics.getParsedExpressions()).isEqualTo(4L);
+    feelEngineMetrics.clear();
+
+    // then the evaluation does not parse the input entries
+    variables.putValue("amount", 2);
+    assertThat((String) evaluateDecision().getSingleEntry()).isEqualTo("small");
+
+    variables.putValue("amount", 50);
+    assertThat((String) evaluateDecision().getSingleEntry()).isEqualTo("medium");
+
+    variables.putValue("amount", 500);
+    assertThat((String) evaluateDecision().getSingleEntry()).isEqualTo("large");
+
+    assertThat(feelEngineMetrics.getParsedExpressions()).isEqualTo(0L);
+  }
+
+  @Test
+  @DecisionResource(resource = DMN_FILE, decisionKey = "invalid")
+  public void shouldFailOnEvaluationOfInvalidExpression() {
+    variables.putValue("amount", 2);
+
+    assertThatThrownBy(() -> evaluateDecision())
+      .isInstanceOf(FeelException.class)
+      .hasMessageContaining("FEEL/SCALA-01008");
+  }
+
+  @Test
+  @DecisionResource(resource = DMN_FILE)
+  public void shouldReportParseAndEvaluationTime() {
+    DmnEngineMetricCollector metricCollector = dmnEngine.getConfiguration().getEngineMetricCollector();
+    assertThat(metricCollector.getFeelParseTime()).isGreaterThan(0L);
+
+    variables.putValue("amount", 2);
+    evaluateDecision();
+
+    assertThat(metricCollector.getFeelEvaluationTime()).isGreaterThan(0L);
+    assertThat(metricCollector.getFeelParseTime()).isEqualTo(feelEngineMetrics.getParseTime());
+    assertThat(metricCollector.getFeelEvaluationTime()).isEqualTo(feelEngineMetrics.getEvaluationTime());
+  }
+
+}
@@ -32,7 +32,7 @@ import org.finos.fluxnova.bpm.dmn.feel.impl.juel.transform.FeelToJuelFunctionTra
 import org.finos.fluxnova.bpm.dmn.feel.impl.juel.transform.FeelToJuelTransform;
 import org.finos.fluxnova.bpm.dmn.feel.impl.juel.transform.FeelToJuelTransformImpl;
 import org.finos.fluxnova.commons.utils.cache.Cache;
-import org.finos.fluxnova.commons.utils.cache.ConcurrentLruCache;
+import org.finos.fluxnova.commons.utils.cache.ConcurrentClockCache;
 
 import org.finos.fluxnova.bpm.impl.juel.ExpressionFactoryImpl;
 
@@ -115,7 +115,7 @@ public class FeelEngineFactoryImpl implements FeelEngineFactory {
   }
 
   protected Cache<TransformExpressionCacheKey, String> createTransformExpressionCache() {
-    return new ConcurrentLruCache<TransformExpressionCacheKey, String>(expressionCacheSize);
+    return new ConcurrentClockCache<TransformExpressionCacheKey, String>(expressionCacheSize);
   }
 
 }
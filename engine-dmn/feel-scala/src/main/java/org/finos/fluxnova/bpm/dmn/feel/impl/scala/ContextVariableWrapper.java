@@ -35,6 +35,10 @@ public class ContextVariableWrapper implements VariableProvider {
     this.context = context;
   }
 
+  public void setContext(VariableContext context) {
+    this.context = context;
+  }
+
   public Option getVariable(String name) {
     if (context.containsVariable(name)) {
       TypedValue typedValue = context.resolve(name);
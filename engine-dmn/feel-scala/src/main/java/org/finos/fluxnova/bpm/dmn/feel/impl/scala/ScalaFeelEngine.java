@@ -24,23 +24,34 @@ import org.finos.fluxnova.bpm.engine.variable.context.VariableContext;
 import org.finos.fluxnova.feel.FeelEngine$;
 import org.finos.fluxnova.feel.FeelEngine.Builder;
 import org.finos.fluxnova.feel.FeelEngine.Failure;
+import org.finos.fluxnova.feel.api.FeelEngineApi;
+import org.finos.fluxnova.feel.api.ParseResult;
+import org.finos.fluxnova.bpm.dmn.feel.impl.FeelException;
+import org.finos.fluxnova.commons.utils.cache.Cache;
+import org.finos.fluxnova.commons.utils.cache.ConcurrentClockCache;
+import org.finos.fluxnova.feel.context.Context;
 import org.finos.fluxnova.feel.context.CustomContext;
 import org.finos.fluxnova.feel.context.VariableProvider;
-import org.finos.fluxnova.feel.context.VariableProvider.StaticVariableProvider;
+import org.finos.fluxnova.feel.syntaxtree.ParsedExpression;
 import org.finos.fluxnova.feel.impl.JavaValueMapper;
 import org.finos.fluxnova.feel.valuemapper.CustomValueMapper;
 import org.finos.fluxnova.feel.valuemapper.ValueMapper.CompositeValueMapper;
+import fluxnovajar.impl.scala.None$;
+import fluxnovajar.impl.scala.Option;
+import fluxnovajar.impl.scala.Some;
+import fluxnovajar.impl.scala.collection.Iterable;
 import fluxnovajar.impl.scala.collection.immutable.List;
-import fluxnovajar.impl.scala.collection.immutable.Map;
 import fluxnovajar.impl.scala.runtime.BoxesRunTime;
 import fluxnovajar.impl.scala.util.Either;
 import fluxnovajar.impl.scala.util.Left;
 import fluxnovajar.impl.scala.util.Right;
 
 import java.util.Arrays;
+import java.util.Collections;
 
 import static org.finos.fluxnova.feel.context.VariableProvider.CompositeVariableProvider;
 import static fluxnovajar.impl.scala.jdk.CollectionConverters.ListHasAsScala;
+import static fluxnovajar.impl.scala.jdk.CollectionConverters.SetHasAsScala;
 
 public class ScalaFeelEngine implements FeelEngine {
 
@@ -49,8 +60,29 @@ public class ScalaFeelEngine implements FeelEngine {
   protected static final ScalaFeelLogger LOGGER = ScalaFeelLogger.LOGGER;
 
   protected org.finos.fluxnova.feel.FeelEngine feelEngine;
+  protected FeelEngineApi feelEngineApi;
+
+  protected Cache<String, ParsedExpression> expressionCache;
+  protected Cache<String, ParsedExpression> unaryTestsCache;
+
+  protected final ScalaFeelEngineMetrics metrics = new ScalaFeelEngineMetrics();
+
+  protected final ThreadLocal<EvaluationContext> evaluationContexts = ThreadLocal.withInitial(EvaluationContext::new);
 
   public ScalaFeelEngine(java.util.List<FeelCustomFunctionProvider> functionProviders) {
+    this(functionProviders, ScalaFeelEngineFactory.DEFAULT_EXPRESSION_CACHE_SIZE);
+  }
+
+  /**
+   * @param expressionCacheSize the maximal number of parsed expressions and
+   *          parsed unary tests to cache each, <code>0</code> disables the cache
+   */
+  public ScalaFeelEngine(java.util.List<FeelCustomFunctionProvider> functionProviders, int expressionCacheSize) {
+    if (expressionCacheSize > 0) {
+      expressionCache = new ConcurrentClockCache<>(expressionCacheSize);
+      unaryTestsCache = new ConcurrentClockCache<>(expressionCacheSize);
+    }
+
     List<CustomValueMapper> valueMappers = getValueMappers();
 
     CompositeValueMapper compositeValueMapper = new CompositeValueMapper(valueMappers);
@@ -59,64 +91,149 @@ public class ScalaFeelEngine implements FeelEngine {
       new CustomFunctionTransformer(functionProviders, compositeValueMapper);
 
     feelEngine = buildFeelEngine(customFunctionTransformer, compositeValueMapper);
+    feelEngineApi = new FeelEngineApi(feelEngine);
   }
 
   public <T> T evaluateSimpleExpression(String expression, VariableContext variableContext) {
+    ParsedExpression parsedExpression = getParsedExpression(expression, expressionCache, false);
 
-    CustomContext context = new CustomContext() {
-      public VariableProvider variableProvider() {
-        return new ContextVariableWrapper(variableContext);
-      }
-    };
+    EvaluationContext evaluationContext = acquireEvaluationContext();
+    try {
+      evaluationContext.variables.setContext(variableContext);
 
-    Either either = feelEngine.evalExpression(expression, context);
+      Either either = evaluate(parsedExpression, evaluationContext.expressionContext);
 
-    if (either instanceof Right) {
-      Right right = (Right) either;
+      if (either instanceof Right) {
+        Right right = (Right) either;
 
-      return (T) right.value();
+        return (T) right.value();
 
-    } else {
-      Left left = (Left) either;
-      Failure failure = (Failure) left.value();
-      String message = failure.message();
+      } else {
+        Left left = (Left) either;
+        Failure failure = (Failure) left.value();
+        String message = failure.message();
 
-      throw LOGGER.evaluationException(message);
+        throw LOGGER.evaluationException(message);
 
+      }
+    } finally {
+      releaseEvaluationContext(evaluationContext);
     }
   }
 
   public boolean evaluateSimpleUnaryTests(String expression,
                                           String inputVariable,
                                           VariableContext variableContext) {
-    Map inputVariableMap = new Map.Map1(INPUT_VARIABLE_NAME, inputVariable);
+    ParsedExpression parsedExpression = getParsedExpression(expression, unaryTestsCache, true);
+
+    EvaluationContext evaluationContext = acquireEvaluationContext();
+    try {
+      evaluationContext.inputVariable.setInputVariable(inputVariable);
+      evaluationContext.variables.setContext(variableContext);
+
+      Either either = evaluate(parsedExpression, evaluationContext.unaryTestsContext);
+
+      if (either instanceof Right) {
+        Right right = (Right) either;
+        Object value = right.value();
 
-    StaticVariableProvider inputVariableContext = new StaticVariableProvider(inputVariableMap);
+        return BoxesRunTime.unboxToBoolean(value);
 
-    ContextVariableWrapper contextVariableWrapper = new ContextVariableWrapper(variableContext);
+      } else {
+        Left left = (Left) either;
+        Failure failure = (Failure) left.value();
+        String message = failure.message();
+
+        throw LOGGER.evaluationException(message);
 
-    CustomContext context = new CustomContext() {
-      public VariableProvider variableProvider() {
-        return new CompositeVariableProvider(toScalaList(inputVariableContext, contextVariableWrapper));
       }
-    };
+    } finally {
+      releaseEvaluationContext(evaluationContext);
+    }
+  }
 
-    Either either = feelEngine.evalUnaryTests(expression, context);
+  /**
+   * Parses the expression and caches the parsed expression, so that it is not
+   * parsed again on evaluation.
+   *
+   * @return <code>false</code> if the expression cannot be parsed
+   */
+  public boolean parseSimpleExpression(String expression) {
+    return parse(expression, expressionCache, false) != null;
+  }
 
-    if (either instanceof Right) {
-      Right right = (Right) either;
-      Object value = right.value();
+  /**
+   * Parses the unary tests and caches the parsed unary tests, so that they are
+   * not parsed again on evaluation.
+   *
+   * @return <code>false</code> if the unary tests cannot be parsed
+   */
+  public boolean parseSimpleUnaryTests(String expression) {
+    return parse(expression, unaryTestsCache, true) != null;
+  }
 
-      return BoxesRunTime.unboxToBoolean(value);
+  public ScalaFeelEngineMetrics getMetrics() {
+    return metrics;
+  }
+
+  protected ParsedExpression getParsedExpression(String expression, Cache<String, ParsedExpression> cache, boolean unaryTests) {
+    if (cache != null) {
+      ParsedExpression parsedExpression = cache.get(expression);
+      if (parsedExpression != null) {
+        metrics.recordCacheHit();
+        return parsedExpression;
+      }
+      metrics.recordCacheMiss();
+    }
+
+    long start = System.nanoTime();
+    ParseResult parseResult = unaryTests ? feelEngineApi.parseUnaryTests(expression) : feelEngineApi.parseExpression(expression);
+    metrics.recordParse(System.nanoTime() - start);
+
+    if (parseResult.isSuccess()) {
+      ParsedExpression parsedExpression = parseResult.parsedExpression();
+      if (cache != null) {
+        cache.put(expression, parsedExpression);
+      }
+      return parsedExpression;
 
     } else {
-      Left left = (Left) either;
-      Failure failure = (Failure) left.value();
-      String message = failure.message();
+      Failure failure = parseResult.failure();
+      throw LOGGER.evaluationException(failure.message());
+
+    }
+  }
 
-      throw LOGGER.evaluationException(message);
+  protected ParsedExpression parse(String expression, Cache<String, ParsedExpression> cache, boolean unaryTests) {
+    try {
+      return getParsedExpression(expression, cache, unaryTests);
+    } catch (FeelException e) {
+      return null;
+    }
+  }
 
+  protected Either evaluate(ParsedExpression parsedExpression, Context context) {
+    long start = System.nanoTime();
+    Either either = feelEngineApi.evaluate(parsedExpression, context).toEither();
+    metrics.recordEvaluation(System.nanoTime() - start);
+    return either;
+  }
+
+  protected EvaluationContext acquireEvaluationContext() {
+    EvaluationContext evaluationContext = evaluationContexts.get();
+    if (evaluationContext.inUse) {
+      // nested evaluation, e.g. by a custom function
+      evaluationContext = new EvaluationContext();
     }
+    evaluationContext.inUse = true;
+    return evaluationContext;
+  }
+
+  protected void releaseEvaluationContext(EvaluationContext evaluationContext) {
+    // do not keep the variables of the evaluation reachable from the thread
+    evaluationContext.variables.setContext(null);
+    evaluationContext.inputVariable.setInputVariable(null);
+    evaluationContext.inUse = false;
   }
 
   protected List<CustomValueMapper> getValueMappers() {
@@ -154,5 +271,67 @@ public class ScalaFeelEngine implements FeelEngine {
       .build();
   }
 
-}
+  /**
+   * The contexts of an evaluation, reused by all evaluations of a thread.
+   */
+  protected static class EvaluationContext {
+
+    protected final ContextVariableWrapper variables = new ContextVariableWrapper(null);
+    protected final InputVariableProvider inputVariable = new InputVariableProvider();
+
+    protected final Context expressionContext;
+    protected final Context unaryTestsContext;
+
+    protected boolean inUse;
+
+    public EvaluationContext() {
+      VariableProvider expressionVariables = variables;
+      VariableProvider unaryTestsVariables = new CompositeVariableProvider(toScalaList(inputVariable, variables));
+
+      expressionContext = new CustomContext() {
+        public VariableProvider variableProvider() {
+          return expressionVariables;
+        }
+      };
+      unaryTestsContext = new CustomContext() {
+        public VariableProvider variableProvider() {
+          return unaryTestsVariables;
+        }
+      };
+    }
+
+    @SafeVarargs
+    protected static <T> List<T> toScalaList(T... elements) {
+      return ListHasAsScala(Arrays.asList(elements)).asScala().toList();
+    }
+  }
 
+  /**
+   * Provides the name of the input variable to unary tests.
+   */
+  protected static class InputVariableProvider implements VariableProvider {
+
+    protected String inputVariable;
+
+    public void setInputVariable(String inputVariable) {
+      this.inputVariable = inputVariable;
+    }
+
+    public Option getVariable(String name) {
+      if (INPUT_VARIABLE_NAME.equals(name)) {
+        return new Some(inputVariable);
+      } else {
+        return None$.MODULE$;
+      }
+    }
+
+    public Iterable<String> keys() {
+      return toScalaSet(INPUT_VARIABLE_NAME);
+    }
+
+    protected static Iterable<String> toScalaSet(String element) {
+      return SetHasAsScala(Collections.singleton(element)).asScala();
+    }
+  }
+
+}
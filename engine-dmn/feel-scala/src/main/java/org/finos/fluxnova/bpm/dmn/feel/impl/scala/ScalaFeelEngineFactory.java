@@ -24,8 +24,12 @@ import java.util.List;
 
 public class ScalaFeelEngineFactory implements FeelEngineFactory {
 
+  public static final int DEFAULT_EXPRESSION_CACHE_SIZE = 1000;
+
   protected List<FeelCustomFunctionProvider> customFunctionProviders;
 
+  protected int expressionCacheSize = DEFAULT_EXPRESSION_CACHE_SIZE;
+
   public ScalaFeelEngineFactory() {
   }
 
@@ -34,7 +38,7 @@ public class ScalaFeelEngineFactory implements FeelEngineFactory {
   }
 
   public FeelEngine createInstance() {
-      return new ScalaFeelEngine(customFunctionProviders);
+      return new ScalaFeelEngine(customFunctionProviders, expressionCacheSize);
    }
 
   public void setCustomFunctionProviders(List<FeelCustomFunctionProvider> customFunctionProviders) {
@@ -45,5 +49,17 @@ public class ScalaFeelEngineFactory implements FeelEngineFactory {
     return customFunctionProviders;
   }
 
+  public int getExpressionCacheSize() {
+    return expressionCacheSize;
+  }
+
+  /**
+   * @param expressionCacheSize the maximal number of parsed expressions to cache,
+   *          <code>0</code> disables the cache
+   */
+  public void setExpressionCacheSize(int expressionCacheSize) {
+    this.expressionCacheSize = expressionCacheSize;
+  }
+
 }
 
@@ -0,0 +1,107 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.finos.fluxnova.bpm.dmn.feel.impl.scala;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records how often and how long the {@link ScalaFeelEngine} parses and
+ * evaluates expressions, and how often a parsed expression is found in
+ * its cache.
+ */
+public class ScalaFeelEngineMetrics {
+
+  protected final LongAdder parsedExpressions = new LongAdder();
+  protected final LongAdder parseTime = new LongAdder();
+  protected final LongAdder evaluatedExpressions = new LongAdder();
+  protected final LongAdder evaluationTime = new LongAdder();
+  protected final LongAdder cacheHits = new LongAdder();
+  protected final LongAdder cacheMisses = new LongAdder();
+
+  public void recordParse(long nanos) {
+    parsedExpressions.increment();
+    parseTime.add(nanos);
+  }
+
+  public void recordEvaluation(long nanos) {
+    evaluatedExpressions.increment();
+    evaluationTime.add(nanos);
+  }
+
+  public void recordCacheHit() {
+    cacheHits.increment();
+  }
+
+  public void recordCacheMiss() {
+    cacheMisses.increment();
+  }
+
+  /**
+   * @return the number of parsed expressions
+   */
+  public long getParsedExpressions() {
+    return parsedExpressions.sum();
+  }
+
+  /**
+   * @return the time spent parsing expressions, in nanoseconds
+   */
+  public long getParseTime() {
+    return parseTime.sum();
+  }
+
+  /**
+   * @return the number of evaluated expressions
+   */
+  public long getEvaluatedExpressions() {
+    return evaluatedExpressions.sum();
+  }
+
+  /**
+   * @return the time spent evaluating parsed expressions, in nanoseconds
+   */
+  public long getEvaluationTime() {
+    return evaluationTime.sum();
+  }
+
+  /**
+   * @return the number of expressions found in the parsed expression cache
+   */
+  public long getCacheHits() {
+    return cacheHits.sum();
+  }
+
+  /**
+   * @return the number of expressions not found in the parsed expression cache
+   */
+  public long getCacheMisses() {
+    return cacheMisses.sum();
+  }
+
+  /**
+   * Resets all metrics to 0.
+   */
+  public void clear() {
+    parsedExpressions.reset();
+    parseTime.reset();
+    evaluatedExpressions.reset();
+    evaluationTime.reset();
+    cacheHits.reset();
+    cacheMisses.reset();
+  }
+
+}
@@ -17,6 +17,7 @@
 package org.finos.fluxnova.spin.plugin.impl;
 
 import org.finos.fluxnova.bpm.engine.impl.variable.serializer.AbstractObjectValueSerializer;
+import org.finos.fluxnova.spin.DataFormats;
 
 /**
  * @author Thorben Lindhauer
@@ -56,7 +57,7 @@ public class FallbackSpinObjectValueSerializer extends AbstractObjectValueSerial
 
   @Override
   protected boolean isSerializationTextBased() {
-    return true;
+    return !DataFormats.CBOR_DATAFORMAT_NAME.equals(serializationFormat);
   }
 
   @Override
@@ -25,9 +25,11 @@ public class SpinConfiguration extends AbstractProcessEnginePlugin {
 
   protected static final String XXE_PROPERTY = "xxe-processing";
   protected static final String SP_PROPERTY = "secure-processing";
+  protected static final String CBOR_COMPRESSION_THRESHOLD_PROPERTY = "cbor-compression-threshold";
 
   protected boolean enableXxeProcessing = false;
   protected boolean enableSecureXmlProcessing = true;
+  protected int cborCompressionThreshold = -1;
 
   public boolean isEnableXxeProcessing() {
     return enableXxeProcessing;
@@ -44,4 +46,17 @@ public class SpinConfiguration extends AbstractProcessEnginePlugin {
   public void setEnableSecureXmlProcessing(boolean enableSecureXmlProcessing) {
     this.enableSecureXmlProcessing = enableSecureXmlProcessing;
   }
-}
\ No newline at end of file
+
+  public int getCborCompressionThreshold() {
+    return cborCompressionThreshold;
+  }
+
+  /**
+   * @param cborCompressionThreshold size in bytes above which object variables serialized
+   * with the <code>application/cbor</code> data format are gzip compressed, a negative
+   * value disables compression
+   */
+  public void setCborCompressionThreshold(int cborCompressionThreshold) {
+    this.cborCompressionThreshold = cborCompressionThreshold;
+  }
+}
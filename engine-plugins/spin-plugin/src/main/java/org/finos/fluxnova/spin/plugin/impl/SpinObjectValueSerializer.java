@@ -30,6 +30,8 @@ import org.finos.fluxnova.bpm.engine.impl.variable.serializer.AbstractObjectValu
 import org.finos.fluxnova.bpm.engine.impl.variable.serializer.TypedValueSerializer;
 import org.finos.fluxnova.bpm.engine.variable.value.ObjectValue;
 import org.finos.fluxnova.spin.DeserializationTypeValidator;
+import org.finos.fluxnova.spin.spi.BinaryDataFormatReader;
+import org.finos.fluxnova.spin.spi.BinaryDataFormatWriter;
 import org.finos.fluxnova.spin.spi.DataFormat;
 import org.finos.fluxnova.spin.spi.DataFormatMapper;
 import org.finos.fluxnova.spin.spi.DataFormatReader;
@@ -38,6 +40,8 @@ import org.finos.fluxnova.spin.spi.DataFormatWriter;
 /**
  * Implementation of a {@link TypedValueSerializer} for {@link ObjectValue ObjectValues} using a
  * Spin-provided {@link DataFormat} to serialize and deserialize java objects.
+ * Data formats providing a {@link BinaryDataFormatReader} and {@link BinaryDataFormatWriter}
+ * are serialized to bytes directly; their serialized string value is Base64 encoded.
  *
  * @author Daniel Meyer
  *
@@ -59,8 +63,12 @@ public class SpinObjectValueSerializer extends AbstractObjectValueSerializer {
   }
 
   protected boolean isSerializationTextBased() {
-    // for the moment we assume that all spin data formats are text based.
-    return true;
+    return !isBinaryDataFormat();
+  }
+
+  protected boolean isBinaryDataFormat() {
+    return dataFormat.getReader() instanceof BinaryDataFormatReader
+        && dataFormat.getWriter() instanceof BinaryDataFormatWriter;
   }
 
   protected String getTypeNameForDeserialized(Object deserializedObject) {
@@ -72,6 +80,13 @@ public class SpinObjectValueSerializer extends AbstractObjectValueSerializer {
     DataFormatWriter writer = dataFormat.getWriter();
 
     ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+    if (isBinaryDataFormat()) {
+      Object mappedObject = mapper.mapJavaToInternal(deserializedObject);
+      ((BinaryDataFormatWriter) writer).writeToOutputStream(out, mappedObject);
+      return out.toByteArray();
+    }
+
     OutputStreamWriter outWriter = new OutputStreamWriter(out, Context.getProcessEngineConfiguration().getDefaultCharset());
     BufferedWriter bufferedWriter = new BufferedWriter(outWriter);
 
@@ -93,6 +108,12 @@ public class SpinObjectValueSerializer extends AbstractObjectValueSerializer {
     DataFormatReader reader = dataFormat.getReader();
 
     ByteArrayInputStream bais = new ByteArrayInputStream(bytes);
+
+    if (isBinaryDataFormat()) {
+      Object mappedObject = ((BinaryDataFormatReader) reader).readInput(bais);
+      return mapper.mapInternalToJava(mappedObject, objectTypeName, getValidator(processEngineConfiguration));
+    }
+
     InputStreamReader inReader = new InputStreamReader(bais, processEngineConfiguration.getDefaultCharset());
     BufferedReader bufferedReader = new BufferedReader(inReader);
 
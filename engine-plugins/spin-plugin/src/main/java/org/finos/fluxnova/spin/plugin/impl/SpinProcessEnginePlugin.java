@@ -49,6 +49,7 @@ public class SpinProcessEnginePlugin extends SpinConfiguration {
     Map<String, Object> configurationOptions = new HashMap<>();
     configurationOptions.put(XXE_PROPERTY, isEnableXxeProcessing());
     configurationOptions.put(SP_PROPERTY, isEnableSecureXmlProcessing());
+    configurationOptions.put(CBOR_COMPRESSION_THRESHOLD_PROPERTY, getCborCompressionThreshold());
 
     DataFormats.loadDataFormats(classloader, configurationOptions);
   }
@@ -75,11 +76,24 @@ public class SpinProcessEnginePlugin extends SpinConfiguration {
     int javaObjectSerializerIdx = variableSerializers.getSerializerIndexByName(JavaObjectSerializer.NAME);
 
     for (TypedValueSerializer<?> spinSerializer : spinDataFormatSerializers) {
-      // add before java object serializer
-      variableSerializers.addSerializer(spinSerializer, javaObjectSerializerIdx);
+      if (isBinarySerializer(spinSerializer)) {
+        // add directly before java object serializer, behind the text based formats;
+        // binary formats are only preferred if configured as default serialization format
+        int idx = variableSerializers.getSerializerIndexByName(JavaObjectSerializer.NAME);
+        variableSerializers.addSerializer(spinSerializer, idx);
+      }
+      else {
+        // add before java object serializer
+        variableSerializers.addSerializer(spinSerializer, javaObjectSerializerIdx);
+      }
     }
   }
 
+  protected boolean isBinarySerializer(TypedValueSerializer<?> serializer) {
+    return serializer instanceof SpinObjectValueSerializer
+        && ((SpinObjectValueSerializer) serializer).isBinaryDataFormat();
+  }
+
   protected List<TypedValueSerializer<?>> lookupSpinSerializers() {
     DataFormats globalFormats = DataFormats.getInstance();
     List<TypedValueSerializer<?>> serializers =
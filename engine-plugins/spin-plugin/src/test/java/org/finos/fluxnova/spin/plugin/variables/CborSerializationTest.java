@@ -0,0 +1,160 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.finos.fluxnova.spin.plugin.variables;
+
+import static org.finos.fluxnova.bpm.engine.variable.Variables.objectValue;
+import static org.finos.fluxnova.bpm.engine.variable.Variables.serializedObjectValue;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.finos.fluxnova.bpm.engine.RuntimeService;
+import org.finos.fluxnova.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.finos.fluxnova.bpm.engine.impl.digest._apacheCommonsCodec.Base64;
+import org.finos.fluxnova.bpm.engine.runtime.ProcessInstance;
+import org.finos.fluxnova.bpm.engine.test.Deployment;
+import org.finos.fluxnova.bpm.engine.test.ProcessEngineRule;
+import org.finos.fluxnova.bpm.engine.variable.value.ObjectValue;
+import org.finos.fluxnova.spin.DataFormats;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+
+public class CborSerializationTest {
+
+  protected static final String ONE_TASK_PROCESS = "org/finos/fluxnova/spin/plugin/oneTaskProcess.bpmn20.xml";
+
+  protected static final String CBOR_FORMAT_NAME = DataFormats.CBOR_DATAFORMAT_NAME;
+
+  @Rule
+  public ProcessEngineRule engineRule = new ProcessEngineRule(true);
+
+  protected RuntimeService runtimeService;
+  protected ProcessEngineConfigurationImpl processEngineConfiguration;
+
+  protected String originalSerializationFormat;
+
+  @Before
+  public void setUp() {
+    runtimeService = engineRule.getRuntimeService();
+    processEngineConfiguration = engineRule.getProcessEngineConfiguration();
+    originalSerializationFormat = processEngineConfiguration.getDefaultSerializationFormat();
+  }
+
+  @After
+  public void resetDefaultSerializationFormat() {
+    processEngineConfiguration.setDefaultSerializationFormat(originalSerializationFormat);
+  }
+
+  @Test
+  @Deployment(resources = ONE_TASK_PROCESS)
+  public void testSerializationAsCbor() throws Exception {
+    ProcessInstance instance = runtimeService.startProcessInstanceByKey("oneTaskProcess");
+
+    JsonSerializable bean = new JsonSerializable("a String", 42, true);
+    runtimeService.setVariable(instance.getId(), "simpleBean", objectValue(bean).serializationDataFormat(CBOR_FORMAT_NAME).create());
+
+    // validate untyped value
+    Object value = runtimeService.getVariable(instance.getId(), "simpleBean");
+    assertEquals(bean, value);
+
+    // validate typed value
+    ObjectValue typedValue = runtimeService.getVariableTyped(instance.getId(), "simpleBean");
+    assertTrue(typedValue.isDeserialized());
+    assertEquals(bean, typedValue.getValue());
+    assertEquals(CBOR_FORMAT_NAME, typedValue.getSerializationDataFormat());
+    assertEquals(JsonSerializable.class.getName(), typedValue.getObjectTypeName());
+
+    // the serialized value is the Base64 encoded CBOR representation
+    byte[] cbor = Base64.decodeBase64(typedValue.getValueSerialized());
+    JsonNode node = new ObjectMapper(new CBORFactory()).readTree(cbor);
+    assertEquals("a String", node.get("stringProperty").asText());
+    assertEquals(42, node.get("intProperty").asInt());
+    assertTrue(node.get("booleanProperty").asBoolean());
+  }
+
+  @Test
+  @Deployment(resources = ONE_TASK_PROCESS)
+  public void testListSerializationAsCbor() {
+    ProcessInstance instance = runtimeService.startProcessInstanceByKey("oneTaskProcess");
+
+    List<JsonSerializable> beans = new ArrayList<>();
+    for (int i = 0; i < 20; i++) {
+      beans.add(new JsonSerializable("a String" + i, 42 + i, true));
+    }
+
+    runtimeService.setVariable(instance.getId(), "simpleBeans", objectValue(beans).serializationDataFormat(CBOR_FORMAT_NAME).create());
+
+    Object value = runtimeService.getVariable(instance.getId(), "simpleBeans");
+    assertEquals(beans, value);
+  }
+
+  @Test
+  @Deployment(resources = ONE_TASK_PROCESS)
+  public void testSetSerializedCborValue() throws Exception {
+    ProcessInstance instance = runtimeService.startProcessInstanceByKey("oneTaskProcess");
+
+    JsonSerializable bean = new JsonSerializable("a String", 42, true);
+    byte[] cbor = new ObjectMapper(new CBORFactory()).writeValueAsBytes(bean);
+
+    runtimeService.setVariable(instance.getId(), "simpleBean",
+        serializedObjectValue(Base64.encodeBase64String(cbor))
+          .serializationDataFormat(CBOR_FORMAT_NAME)
+          .objectTypeName(JsonSerializable.class.getName())
+          .create());
+
+    Object value = runtimeService.getVariable(instance.getId(), "simpleBean");
+    assertEquals(bean, value);
+  }
+
+  @Test
+  @Deployment(resources = ONE_TASK_PROCESS)
+  public void testCborNotPreferredOverTextBasedFormats() {
+    ProcessInstance instance = runtimeService.startProcessInstanceByKey("oneTaskProcess");
+
+    runtimeService.setVariable(instance.getId(), "simpleBean", new JsonSerializable("a String", 42, true));
+
+    ObjectValue typedValue = runtimeService.getVariableTyped(instance.getId(), "simpleBean", false);
+    assertFalse(typedValue.isDeserialized());
+    assertNotEquals(CBOR_FORMAT_NAME, typedValue.getSerializationDataFormat());
+  }
+
+  @Test
+  @Deployment(resources = ONE_TASK_PROCESS)
+  public void testCborAsDefaultSerializationFormat() {
+    processEngineConfiguration.setDefaultSerializationFormat(CBOR_FORMAT_NAME);
+
+    ProcessInstance instance = runtimeService.startProcessInstanceByKey("oneTaskProcess");
+
+    JsonSerializable bean = new JsonSerializable("a String", 42, true);
+    runtimeService.setVariable(instance.getId(), "simpleBean", bean);
+
+    ObjectValue typedValue = runtimeService.getVariableTyped(instance.getId(), "simpleBean");
+    assertEquals(CBOR_FORMAT_NAME, typedValue.getSerializationDataFormat());
+    assertEquals(bean, typedValue.getValue());
+  }
+
+}
@@ -0,0 +1,10 @@
+  <@lib.parameter
+      name = "approximate"
+      location = "query"
+      type = "boolean"
+      defaultValue = "false"
+      last = last
+      desc = "Allows to return a cached count or, for counts without any restriction, an estimate
+              from the table statistics of the database instead of counting the results for every
+              request. The response tells whether the count is `exact`. How long counts are cached
+              is configured in the process engine."/>
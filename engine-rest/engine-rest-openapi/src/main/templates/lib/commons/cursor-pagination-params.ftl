@@ -0,0 +1,15 @@
+  <@lib.parameter
+      name = "cursor"
+      location = "query"
+      type = "string"
+      desc = "Keyset pagination of results. The `nextCursor` of the previous page.
+              Omit it to fetch the first page."/>
+
+  <@lib.parameter
+      name = "maxResults"
+      location = "query"
+      type = "integer"
+      required = true
+      last = last
+      desc = "Keyset pagination of results. Specifies the maximum number of results to return.
+              Will return less results if there are no more results left."/>
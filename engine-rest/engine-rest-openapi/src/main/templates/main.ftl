@@ -75,6 +75,7 @@
     {"name": "Modification"},
     {"name": "Process Definition"},
     {"name": "Process Instance"},
+    {"name": "Query Statistics"},
     {"name": "Signal"},
     {"name": "Schema Log"},
     {"name": "Task"},
@@ -6,8 +6,15 @@
         type = "integer"
         format = "int64"
         nullable = false
-        last = true
         desc = "The number of matching instances."/>
 
+    <@lib.property
+        name = "exact"
+        type = "boolean"
+        last = true
+        desc = "Whether the count is exact. Only contained in the response if an approximate count
+                was requested. `false` if the count was served from the cache or estimated from
+                the table statistics of the database."/>
+
 </@lib.dto>
 </#macro>
\ No newline at end of file
@@ -0,0 +1,18 @@
+<#macro dto_macro docsUrl="">
+<@lib.dto>
+
+    <@lib.property
+        name = "items"
+        type = "array"
+        dto = "HistoricActivityInstanceDto"
+        desc = "The historic activity instances of the page, ordered by id." />
+
+    <@lib.property
+        name = "nextCursor"
+        type = "string"
+        last = true
+        desc = "The opaque cursor to pass as `cursor` parameter to fetch the next page.
+                `null` if there are no more results." />
+
+</@lib.dto>
+</#macro>
@@ -0,0 +1,61 @@
+<#macro dto_macro docsUrl="">
+<@lib.dto>
+
+    <@lib.property
+        name = "statement"
+        type = "string"
+        desc = "The name of the statement that executed the queries, e.g. `selectTaskByQueryCriteria`."/>
+
+    <@lib.property
+        name = "shape"
+        type = "string"
+        desc = "The SQL of the queries with whitespace collapsed and parameter values replaced by `?`."/>
+
+    <@lib.property
+        name = "executionCount"
+        type = "integer"
+        format = "int64"
+        desc = "The number of recorded executions of this shape."/>
+
+    <@lib.property
+        name = "totalDuration"
+        type = "integer"
+        format = "int64"
+        desc = "The sum of the durations of all executions in milliseconds."/>
+
+    <@lib.property
+        name = "maxDuration"
+        type = "integer"
+        format = "int64"
+        desc = "The duration of the slowest execution in milliseconds."/>
+
+    <@lib.property
+        name = "averageDuration"
+        type = "integer"
+        format = "int64"
+        desc = "The average duration of an execution in milliseconds."/>
+
+    <@lib.property
+        name = "totalRows"
+        type = "integer"
+        format = "int64"
+        desc = "The sum of the number of results of all executions. For count queries, the counted rows."/>
+
+    <@lib.property
+        name = "maxRows"
+        type = "integer"
+        format = "int64"
+        desc = "The highest number of results of a single execution."/>
+
+    <@lib.property
+        name = "suggestedIndexes"
+        type = "array"
+        itemType = "string"
+        last = true
+        desc = "The `create index` statements for the database of the engine that may speed up queries of
+                this shape. The suggestions are derived from the columns the shape compares with parameters
+                and skip columns already covered by an existing index; review them before applying."/>
+
+</@lib.dto>
+
+</#macro>
@@ -0,0 +1,44 @@
+<#macro endpoint_macro docsUrl="">
+{
+  <@lib.endpointInfo
+      id = "streamHistoricActivityInstances"
+      tag = "Historic Activity Instance"
+      summary = "Get Historic Activity Instances (Stream)"
+      desc = "Queries for historic activity instances that fulfill given parameters and streams all of them as newline
+              delimited JSON, one object per line. Takes the same filtering and sorting parameters as the
+              [Get Historic Activity Instances](${docsUrl}/reference/rest/history/activity-instance/get-activity-instance-query/) method. The results are written while they are read from the database,
+              so large result sets can be fetched without paging and without buffering them on the server." />
+
+  "parameters" : [
+
+    <#assign requestMethod="GET"/>
+    <#include "/lib/commons/history-activity-instance.ftl" >
+    <@lib.parameters
+        object = params
+        last = false />
+    <#assign last = true >
+    <#include "/lib/commons/sort-params.ftl" >
+
+  ],
+
+  "responses" : {
+
+    <@lib.response
+        code = "200"
+        dto = "HistoricActivityInstanceDto"
+        mediaType = "application/x-ndjson"
+        desc = "Request successful."
+        contentDesc = "One `HistoricActivityInstanceDto` per line." />
+
+    <@lib.response
+        code = "400"
+        dto = "ExceptionDto"
+        desc = "Returned if some of the query parameters are invalid, for example if a `sortOrder`
+                parameter is supplied, but no `sortBy`. See the
+                [Introduction](${docsUrl}/reference/rest/overview/#error-handling)
+                for the error response format."
+        last = true />
+
+  }
+}
+</#macro>
@@ -0,0 +1,67 @@
+<#macro endpoint_macro docsUrl="">
+{
+  <@lib.endpointInfo
+      id = "queryHistoricProcessInstancesApproximateCount"
+      tag = "Historic Process Instance"
+      summary = "Get Approximate List Count (POST)"
+      desc = "Queries for the number of historic process instances that fulfill the given parameters like
+              [Get Process Instance Count (POST)](${docsUrl}/reference/rest/history/process-instance/post-process-instance-query-count/)
+              and takes the same message body.
+
+              Instead of counting the results for every request, the count may be served from a
+              cache or, for counts without any restriction, estimated from the table statistics
+              of the database. The response tells whether the count is `exact`. How long counts
+              are cached is configured in the process engine." />
+
+  <#assign requestMethod="POST"/>
+  <@lib.requestBody
+      mediaType = "application/json"
+      dto = "HistoricProcessInstanceQueryDto"
+      examples = [
+                  '"example-1": {
+                     "summary": "POST `/history/process-instance/count/approximate`",
+                     "value": {
+                                "finishedAfter": "2013-01-01T00:00:00.000+0200",
+                                "finishedBefore": "2013-04-01T23:59:59.000+0200",
+                                "executedActivityAfter": "2013-03-23T13:42:44.000+0200",
+                                "variables": [
+                                  {
+                                    "name": "myVariable",
+                                    "operator": "eq",
+                                    "value": "fluxnova"
+                                  },
+                                  {
+                                    "name": "mySecondVariable",
+                                    "operator": "neq",
+                                    "value": 124
+                                  }
+                                ]
+                              }
+                   }'
+                ] />
+
+  "responses" : {
+
+    <@lib.response
+        code = "200"
+        dto = "CountResultDto"
+        desc = "Request successful."
+        examples = ['"example-1": {
+                       "summary": "Status 200 Response 1",
+                       "value": {
+                         "count": 1,
+                         "exact": false
+                       }
+                     }'] />
+
+    <@lib.response
+        code = "400"
+        dto = "ExceptionDto"
+        last = true
+        desc = "Bad Request
+                Returned if some of the query parameters are invalid.
+                See the [Introduction](${docsUrl}/reference/rest/overview/#error-handling) for the error response format."/>
+
+  }
+}
+</#macro>
\ No newline at end of file
@@ -13,7 +13,9 @@
     <@lib.parameters
         object = params
         skip = ["orQueries"]  <#-- OR Queries not avaialble in GET -->
-        last = true/>
+        last = false/>
+    <#assign last = true >
+    <#include "/lib/commons/approximate-count-param.ftl" >
   ],
   "responses": {
     <@lib.response
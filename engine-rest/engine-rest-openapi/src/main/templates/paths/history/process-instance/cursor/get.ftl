@@ -0,0 +1,43 @@
+<#macro endpoint_macro docsUrl="">
+{
+  <@lib.endpointInfo
+      id = "getHistoricProcessInstancesAfterCursor"
+      tag = "Historic Process Instance"
+      summary = "Get List (Cursor)"
+      desc = "Queries for historic process instances that fulfill given parameters, ordered by id. Takes the same filtering
+              parameters as the [Get Process Instances](${docsUrl}/reference/rest/history/process-instance/get-process-instance-query/) method, but fetches the next
+              page after the `nextCursor` of the previous page instead of skipping `firstResult` results,
+              so that pages deep into large result sets are as fast as the first one. Sorting is not supported." />
+
+  "parameters" : [
+
+    <#assign requestMethod="GET"/>
+    <#include "/lib/commons/history-process-instance.ftl" >
+    <@lib.parameters
+        object = params
+        skip = ["orQueries"] <#-- OR Queries not available in GET -->
+        last = false />
+    <#assign last = true >
+    <#include "/lib/commons/cursor-pagination-params.ftl" >
+
+  ],
+
+  "responses" : {
+
+    <@lib.response
+        code = "200"
+        dto = "HistoricProcessInstanceCursorPageDto"
+        desc = "Request successful." />
+
+    <@lib.response
+        code = "400"
+        dto = "ExceptionDto"
+        desc = "Returned if some of the query parameters are invalid, for example if `maxResults` is missing,
+                the `cursor` is invalid or a sorting parameter is specified. See the
+                [Introduction](${docsUrl}/reference/rest/overview/#error-handling)
+                for the error response format."
+        last = true />
+
+  }
+}
+</#macro>
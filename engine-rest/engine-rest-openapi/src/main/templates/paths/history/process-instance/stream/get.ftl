@@ -0,0 +1,45 @@
+<#macro endpoint_macro docsUrl="">
+{
+  <@lib.endpointInfo
+      id = "streamHistoricProcessInstances"
+      tag = "Historic Process Instance"
+      summary = "Get List (Stream)"
+      desc = "Queries for historic process instances that fulfill given parameters and streams all of them as newline
+              delimited JSON, one object per line. Takes the same filtering and sorting parameters as the
+              [Get Process Instances](${docsUrl}/reference/rest/history/process-instance/get-process-instance-query/) method. The results are written while they are read from the database,
+              so large result sets can be fetched without paging and without buffering them on the server." />
+
+  "parameters" : [
+
+    <#assign requestMethod="GET"/>
+    <#include "/lib/commons/history-process-instance.ftl" >
+    <@lib.parameters
+        object = params
+        skip = ["orQueries"] <#-- OR Queries not available in GET -->
+        last = false />
+    <#assign last = true >
+    <#include "/lib/commons/sort-params.ftl" >
+
+  ],
+
+  "responses" : {
+
+    <@lib.response
+        code = "200"
+        dto = "HistoricProcessInstanceDto"
+        mediaType = "application/x-ndjson"
+        desc = "Request successful."
+        contentDesc = "One `HistoricProcessInstanceDto` per line." />
+
+    <@lib.response
+        code = "400"
+        dto = "ExceptionDto"
+        desc = "Returned if some of the query parameters are invalid, for example if a `sortOrder`
+                parameter is supplied, but no `sortBy`. See the
+                [Introduction](${docsUrl}/reference/rest/overview/#error-handling)
+                for the error response format."
+        last = true />
+
+  }
+}
+</#macro>
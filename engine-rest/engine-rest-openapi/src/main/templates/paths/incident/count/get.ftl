@@ -9,8 +9,10 @@
       [Get Incidents](${docsUrl}/reference/rest/incident/get-query/) method." />
 
   "parameters": [
-    <#assign last = true >
+    <#assign last = false >
     <#include "/lib/commons/incident-query-params.ftl">
+    <#assign last = true >
+    <#include "/lib/commons/approximate-count-param.ftl">
   ],
   "responses" : {
 
@@ -0,0 +1,45 @@
+<#macro endpoint_macro docsUrl="">
+{
+  <@lib.endpointInfo
+      id = "streamIncidents"
+      tag = "Incident"
+      summary = "Get List (Stream)"
+      desc = "Queries for incidents that fulfill given parameters and streams all of them as newline
+              delimited JSON, one object per line. Takes the same filtering and sorting parameters as the
+              [Get Incidents](${docsUrl}/reference/rest/incident/get-query/) method. The results are written while they are read from the database,
+              so large result sets can be fetched without paging and without buffering them on the server." />
+
+  "parameters" : [
+
+    <#assign last = false >
+    <#include "/lib/commons/incident-query-params.ftl">
+
+    <#assign sortByValues = [ '"incidentId"', '"incidentMessage"', '"incidentTimestamp"', '"incidentType"',
+                              '"executionId"', '"activityId"', '"processInstanceId"', '"processDefinitionId"',
+                              '"causeIncidentId"', '"rootCauseIncidentId"', '"configuration"', '"tenantId"' ] >
+    <#assign last = true >
+    <#include "/lib/commons/sort-params.ftl" >
+
+  ],
+
+  "responses" : {
+
+    <@lib.response
+        code = "200"
+        dto = "IncidentDto"
+        mediaType = "application/x-ndjson"
+        desc = "Request successful."
+        contentDesc = "One `IncidentDto` per line." />
+
+    <@lib.response
+        code = "400"
+        dto = "ExceptionDto"
+        desc = "Returned if some of the query parameters are invalid, for example if a `sortOrder`
+                parameter is supplied, but no `sortBy`. See the
+                [Introduction](${docsUrl}/reference/rest/overview/#error-handling)
+                for the error response format."
+        last = true />
+
+  }
+}
+</#macro>
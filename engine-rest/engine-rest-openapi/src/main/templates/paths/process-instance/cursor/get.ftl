@@ -0,0 +1,39 @@
+<#macro endpoint_macro docsUrl="">
+{
+  <@lib.endpointInfo
+      id = "getProcessInstancesAfterCursor"
+      tag = "Process Instance"
+      summary = "Get List (Cursor)"
+      desc = "Queries for process instances that fulfill given parameters, ordered by id. Takes the same filtering
+              parameters as the [Get Instances](${docsUrl}/reference/rest/process-instance/get-query/) method, but fetches the next
+              page after the `nextCursor` of the previous page instead of skipping `firstResult` results,
+              so that pages deep into large result sets are as fast as the first one. Sorting is not supported." />
+
+  "parameters" : [
+
+    <#assign last = false >
+    <#include "/lib/commons/process-instance-query-params.ftl" >
+    <#assign last = true >
+    <#include "/lib/commons/cursor-pagination-params.ftl" >
+
+  ],
+
+  "responses" : {
+
+    <@lib.response
+        code = "200"
+        dto = "ProcessInstanceCursorPageDto"
+        desc = "Request successful." />
+
+    <@lib.response
+        code = "400"
+        dto = "ExceptionDto"
+        desc = "Returned if some of the query parameters are invalid, for example if `maxResults` is missing,
+                the `cursor` is invalid or a sorting parameter is specified. See the
+                [Introduction](${docsUrl}/reference/rest/overview/#error-handling)
+                for the error response format."
+        last = true />
+
+  }
+}
+</#macro>
@@ -0,0 +1,43 @@
+<#macro endpoint_macro docsUrl="">
+{
+  <@lib.endpointInfo
+      id = "streamProcessInstances"
+      tag = "Process Instance"
+      summary = "Get List (Stream)"
+      desc = "Queries for process instances that fulfill given parameters and streams all of them as newline
+              delimited JSON, one object per line. Takes the same filtering and sorting parameters as the
+              [Get Instances](${docsUrl}/reference/rest/process-instance/get-query/) method. The results are written while they are read from the database,
+              so large result sets can be fetched without paging and without buffering them on the server." />
+
+  "parameters" : [
+
+    <#assign last = false >
+    <#include "/lib/commons/process-instance-query-params.ftl" >
+
+    <#assign sortByValues = ['"instanceId"', '"definitionKey"', '"definitionId"', '"tenantId"', '"businessKey"']>
+    <#assign last = true >
+    <#include "/lib/commons/sort-params.ftl" >
+
+  ],
+
+  "responses" : {
+
+    <@lib.response
+        code = "200"
+        dto = "ProcessInstanceDto"
+        mediaType = "application/x-ndjson"
+        desc = "Request successful."
+        contentDesc = "One `ProcessInstanceDto` per line." />
+
+    <@lib.response
+        code = "400"
+        dto = "ExceptionDto"
+        desc = "Returned if some of the query parameters are invalid, for example if a `sortOrder`
+                parameter is supplied, but no `sortBy`. See the
+                [Introduction](${docsUrl}/reference/rest/overview/#error-handling)
+                for the error response format."
+        last = true />
+
+  }
+}
+</#macro>
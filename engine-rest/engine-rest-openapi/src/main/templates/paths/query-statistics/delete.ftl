@@ -0,0 +1,29 @@
+<#macro endpoint_macro docsUrl="">
+{
+
+  <@lib.endpointInfo
+      id = "clearQueryShapeStatistics"
+      tag = "Query Statistics"
+      summary = "Clear Query Shape Statistics"
+      desc = "Discards all recorded query shapes. Only members of the `fluxnova-admin` group may
+              clear the statistics." />
+
+  "parameters" : [],
+
+  "responses" : {
+
+    <@lib.response
+        code = "204"
+        desc = "Request successful. This method returns no content." />
+
+    <@lib.response
+        code = "403"
+        dto = "ExceptionDto"
+        last = true
+        desc = "The authenticated user is not a member of the `fluxnova-admin` group. See the
+                [Introduction](${docsUrl}/reference/rest/overview/#error-handling)
+                for the error response format." />
+
+  }
+}
+</#macro>
@@ -0,0 +1,69 @@
+<#macro endpoint_macro docsUrl="">
+{
+
+  <@lib.endpointInfo
+      id = "getSlowestQueryShapes"
+      tag = "Query Statistics"
+      summary = "Get Slowest Query Shapes"
+      desc = "Retrieves the recorded query shapes with the highest total execution time, slowest first,
+              together with the indexes suggested for them. A query shape is the SQL of a query with
+              its parameter values removed. Queries are only recorded if `queryShapeStatisticsEnabled`
+              is set in the process engine configuration; by default, the task and process instance
+              queries are recorded. Only members of the `fluxnova-admin` group may retrieve the statistics." />
+
+  "parameters" : [
+
+    <@lib.parameter
+        name = "maxResults"
+        location = "query"
+        type = "integer"
+        format = "int32"
+        last = true
+        desc = "The maximum number of query shapes to return. Defaults to `10`."/>
+
+  ],
+
+  "responses" : {
+
+    <@lib.response
+        code = "200"
+        dto = "QueryShapeStatisticsDto"
+        array = true
+        desc = "Request successful."
+        examples = ['"example-1": {
+                       "summary": "GET /query-statistics?maxResults=1",
+                       "value": [
+                                  {
+                                    "statement": "selectTaskByQueryCriteria",
+                                    "shape": "select distinct RES.* from ACT_RU_TASK RES where RES.NAME_ = ? order by RES.ID_ asc LIMIT ? OFFSET ?",
+                                    "executionCount": 4,
+                                    "totalDuration": 120,
+                                    "maxDuration": 60,
+                                    "averageDuration": 30,
+                                    "totalRows": 40,
+                                    "maxRows": 25,
+                                    "suggestedIndexes": [
+                                      "create index ACT_IDX_SUGG_1A2B3C4D on ACT_RU_TASK (NAME_)"
+                                    ]
+                                  }
+                                ]
+                     }'] />
+
+    <@lib.response
+        code = "400"
+        dto = "ExceptionDto"
+        desc = "Returned if `maxResults` is negative. See the
+                [Introduction](${docsUrl}/reference/rest/overview/#error-handling)
+                for the error response format." />
+
+    <@lib.response
+        code = "403"
+        dto = "ExceptionDto"
+        last = true
+        desc = "The authenticated user is not a member of the `fluxnova-admin` group. See the
+                [Introduction](${docsUrl}/reference/rest/overview/#error-handling)
+                for the error response format." />
+
+  }
+}
+</#macro>
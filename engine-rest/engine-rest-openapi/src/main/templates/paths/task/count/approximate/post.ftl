@@ -0,0 +1,105 @@
+<#macro endpoint_macro docsUrl="">
+{
+
+  <@lib.endpointInfo
+      id = "queryTasksApproximateCount"
+      tag = "Task"
+      summary = "Get Approximate List Count (POST)"
+      desc = "Retrieves the number of tasks that fulfill the given filter like
+              [Get List Count (POST)](${docsUrl}/reference/rest/task/post-query-count/)
+              and takes the same parameters.
+
+              Instead of counting the results for every request, the count may be served from a
+              cache or, for counts without any restriction, estimated from the table statistics
+              of the database. The response tells whether the count is `exact`. How long counts
+              are cached is configured in the process engine.
+
+              **Security Consideration**:
+              There are several parameters (such as `assigneeExpression`) for specifying an EL
+              expression. These are disabled by default to prevent remote code execution. See the
+              section on
+              [security considerations for custom code](${docsUrl}/user-guide/process-engine/securing-custom-code/)
+              in the user guide for details." />
+
+  <@lib.requestBody
+      mediaType = "application/json"
+      dto = "TaskQueryDto"
+      examples = [
+                  '"example-1": {
+                     "summary": "POST `/task` Request Body 1",
+                     "value": {
+                       "taskVariables": [
+                         {
+                           "name": "varName",
+                           "value": "varValue",
+                           "operator": "eq"
+                         },
+                         {
+                           "name": "anotherVarName",
+                           "value": 30,
+                           "operator": "neq"
+                         }
+                       ],
+                       "processInstanceBusinessKeyIn": "aBusinessKey,anotherBusinessKey",
+                       "assigneeIn": "anAssignee,anotherAssignee",
+                       "priority": 10,
+                       "sorting": [
+                         {
+                           "sortBy": "dueDate",
+                           "sortOrder": "asc"
+                         },
+                         {
+                           "sortBy": "processVariable",
+                           "sortOrder": "desc",
+                           "parameters": {
+                             "variable": "orderId",
+                             "type": "String"
+                           }
+                         }
+                       ]
+                     }
+                  }',
+                  '"example-2": {
+                     "summary": "POST `/task` Request Body 2",
+                     "description": "Logical query: assignee = \\"John Munda\\" AND (name = \\"Approve Invoice\\" OR priority = 5) AND (suspended = false OR taskDefinitionKey = \\"approveInvoice\\")",
+                     "value": {
+                       "assignee": "John Munda",
+                       "orQueries": [
+                         {
+                           "name": "Approve Invoice",
+                           "priority": 5
+                         },
+                         {
+                           "suspended": false,
+                           "taskDefinitionKey": "approveInvoice"
+                         }
+                       ]
+                     }
+                   }'
+                ] />
+
+  "responses" : {
+
+    <@lib.response
+        code = "200"
+        dto = "CountResultDto"
+        desc = "Request successful."
+        examples = ['"example-1": {
+                       "summary": "Status 200 response",
+                       "value": {
+                         "count": 1,
+                         "exact": false
+                       }
+                     }'] />
+
+    <@lib.response
+        code = "400"
+        dto = "ExceptionDto"
+        last = true
+        desc = "Returned if some of the query parameters are invalid. See the
+                [Introduction](${docsUrl}/reference/rest/overview/#error-handling)
+                for the error response format." />
+
+  }
+}
+</#macro>
\ No newline at end of file
@@ -16,8 +16,10 @@
 
   "parameters" : [
 
-    <#assign last = true >
+    <#assign last = false >
     <#include "/lib/commons/task-query-params.ftl" >
+    <#assign last = true >
+    <#include "/lib/commons/approximate-count-param.ftl" >
 
   ],
 
@@ -17,8 +17,10 @@
 package org.finos.fluxnova.bpm.engine.rest;
 
 import org.finos.fluxnova.bpm.engine.rest.dto.CountResultDto;
+import org.finos.fluxnova.bpm.engine.rest.dto.CursorPageDto;
 import org.finos.fluxnova.bpm.engine.rest.dto.runtime.IncidentDto;
 import org.finos.fluxnova.bpm.engine.rest.sub.runtime.IncidentResource;
+import org.finos.fluxnova.bpm.engine.rest.util.QueryUtil;
 import org.finos.fluxnova.bpm.engine.runtime.IncidentQuery;
 
 import javax.ws.rs.GET;
@@ -28,6 +30,7 @@ import javax.ws.rs.Produces;
 import javax.ws.rs.QueryParam;
 import javax.ws.rs.core.Context;
 import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.StreamingOutput;
 import javax.ws.rs.core.UriInfo;
 import java.util.List;
 
@@ -52,6 +55,25 @@ public interface IncidentRestService {
   List<IncidentDto> getIncidents(@Context UriInfo uriInfo,
       @QueryParam("firstResult") Integer firstResult, @QueryParam("maxResults") Integer maxResults);
 
+  /**
+   * Expects the same filter parameters as the list endpoint and returns the results ordered
+   * by id, starting after the given cursor (keyset pagination).
+   */
+  @GET
+  @Path("/cursor")
+  @Produces(MediaType.APPLICATION_JSON)
+  CursorPageDto<IncidentDto> getIncidentsAfterCursor(@Context UriInfo uriInfo,
+      @QueryParam("cursor") String cursor, @QueryParam("maxResults") Integer maxResults);
+
+  /**
+   * Expects the same filter and sorting parameters as the list endpoint and streams all
+   * results as newline delimited JSON.
+   */
+  @GET
+  @Path("/stream")
+  @Produces(QueryUtil.APPLICATION_NDJSON)
+  StreamingOutput streamIncidents(@Context UriInfo uriInfo);
+
   @GET
   @Path("/count")
   @Produces(MediaType.APPLICATION_JSON)
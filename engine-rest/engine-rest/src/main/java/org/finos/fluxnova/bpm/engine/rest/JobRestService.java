@@ -17,16 +17,19 @@
 package org.finos.fluxnova.bpm.engine.rest;
 
 import org.finos.fluxnova.bpm.engine.rest.dto.CountResultDto;
+import org.finos.fluxnova.bpm.engine.rest.dto.CursorPageDto;
 import org.finos.fluxnova.bpm.engine.rest.dto.batch.BatchDto;
 import org.finos.fluxnova.bpm.engine.rest.dto.runtime.JobDto;
 import org.finos.fluxnova.bpm.engine.rest.dto.runtime.JobQueryDto;
 import org.finos.fluxnova.bpm.engine.rest.dto.runtime.JobSuspensionStateDto;
 import org.finos.fluxnova.bpm.engine.rest.dto.runtime.SetJobRetriesDto;
 import org.finos.fluxnova.bpm.engine.rest.sub.runtime.JobResource;
+import org.finos.fluxnova.bpm.engine.rest.util.QueryUtil;
 
 import javax.ws.rs.*;
 import javax.ws.rs.core.Context;
 import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.StreamingOutput;
 import javax.ws.rs.core.UriInfo;
 import java.util.List;
 
@@ -52,6 +55,25 @@ public interface JobRestService {
       @QueryParam("firstResult") Integer firstResult,
       @QueryParam("maxResults") Integer maxResults);
 
+  /**
+   * Expects the same filter parameters as the list endpoint and returns the results ordered
+   * by id, starting after the given cursor (keyset pagination).
+   */
+  @GET
+  @Path("/cursor")
+  @Produces(MediaType.APPLICATION_JSON)
+  CursorPageDto<JobDto> getJobsAfterCursor(@Context UriInfo uriInfo,
+      @QueryParam("cursor") String cursor, @QueryParam("maxResults") Integer maxResults);
+
+  /**
+   * Expects the same filter and sorting parameters as the list endpoint and streams all
+   * results as newline delimited JSON.
+   */
+  @GET
+  @Path("/stream")
+  @Produces(QueryUtil.APPLICATION_NDJSON)
+  StreamingOutput streamJobs(@Context UriInfo uriInfo);
+
   @GET
   @Path("/count")
   @Produces(MediaType.APPLICATION_JSON)
@@ -28,9 +28,11 @@ import javax.ws.rs.Produces;
 import javax.ws.rs.QueryParam;
 import javax.ws.rs.core.Context;
 import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.StreamingOutput;
 import javax.ws.rs.core.UriInfo;
 
 import org.finos.fluxnova.bpm.engine.rest.dto.CountResultDto;
+import org.finos.fluxnova.bpm.engine.rest.dto.CursorPageDto;
 import org.finos.fluxnova.bpm.engine.rest.dto.batch.BatchDto;
 import org.finos.fluxnova.bpm.engine.rest.dto.runtime.ProcessInstanceDto;
 import org.finos.fluxnova.bpm.engine.rest.dto.runtime.ProcessInstanceQueryDto;
@@ -41,6 +43,7 @@ import org.finos.fluxnova.bpm.engine.rest.dto.runtime.batch.SetVariablesAsyncDto
 import org.finos.fluxnova.bpm.engine.rest.dto.runtime.batch.CorrelationMessageAsyncDto;
 import org.finos.fluxnova.bpm.engine.rest.dto.runtime.batch.DeleteProcessInstancesDto;
 import org.finos.fluxnova.bpm.engine.rest.sub.runtime.ProcessInstanceResource;
+import org.finos.fluxnova.bpm.engine.rest.util.QueryUtil;
 import org.finos.fluxnova.bpm.engine.runtime.ProcessInstanceQuery;
 
 @Produces(MediaType.APPLICATION_JSON)
@@ -82,6 +85,25 @@ public interface ProcessInstanceRestService {
                                                  @QueryParam("firstResult") Integer firstResult,
                                                  @QueryParam("maxResults") Integer maxResults);
 
+  /**
+   * Expects the same filter parameters as the list endpoint and returns the results ordered
+   * by id, starting after the given cursor (keyset pagination).
+   */
+  @GET
+  @Path("/cursor")
+  @Produces(MediaType.APPLICATION_JSON)
+  CursorPageDto<ProcessInstanceDto> getProcessInstancesAfterCursor(@Context UriInfo uriInfo,
+      @QueryParam("cursor") String cursor, @QueryParam("maxResults") Integer maxResults);
+
+  /**
+   * Expects the same filter and sorting parameters as the list endpoint and streams all
+   * results as newline delimited JSON.
+   */
+  @GET
+  @Path("/stream")
+  @Produces(QueryUtil.APPLICATION_NDJSON)
+  StreamingOutput streamProcessInstances(@Context UriInfo uriInfo);
+
   @GET
   @Path("/count")
   @Produces(MediaType.APPLICATION_JSON)
@@ -17,16 +17,19 @@
 package org.finos.fluxnova.bpm.engine.rest;
 
 import org.finos.fluxnova.bpm.engine.rest.dto.CountResultDto;
+import org.finos.fluxnova.bpm.engine.rest.dto.CursorPageDto;
 import org.finos.fluxnova.bpm.engine.rest.dto.task.TaskDto;
 import org.finos.fluxnova.bpm.engine.rest.dto.task.TaskQueryDto;
 import org.finos.fluxnova.bpm.engine.rest.hal.Hal;
 import org.finos.fluxnova.bpm.engine.rest.sub.task.TaskReportResource;
 import org.finos.fluxnova.bpm.engine.rest.sub.task.TaskResource;
+import org.finos.fluxnova.bpm.engine.rest.util.QueryUtil;
 
 import javax.ws.rs.*;
 import javax.ws.rs.core.Context;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Request;
+import javax.ws.rs.core.StreamingOutput;
 import javax.ws.rs.core.UriInfo;
 import java.util.List;
 
@@ -57,6 +60,25 @@ public interface TaskRestService {
   List<TaskDto> queryTasks(TaskQueryDto query,
       @QueryParam("firstResult") Integer firstResult, @QueryParam("maxResults") Integer maxResults);
 
+  /**
+   * Expects the same filter parameters as the list endpoint and returns the results ordered
+   * by id, starting after the given cursor (keyset pagination).
+   */
+  @GET
+  @Path("/cursor")
+  @Produces(MediaType.APPLICATION_JSON)
+  CursorPageDto<TaskDto> getTasksAfterCursor(@Context UriInfo uriInfo,
+      @QueryParam("cursor") String cursor, @QueryParam("maxResults") Integer maxResults);
+
+  /**
+   * Expects the same filter and sorting parameters as the list endpoint and streams all
+   * results as newline delimited JSON.
+   */
+  @GET
+  @Path("/stream")
+  @Produces(QueryUtil.APPLICATION_NDJSON)
+  StreamingOutput streamTasks(@Context UriInfo uriInfo);
+
   @GET
   @Path("/count")
   @Produces(MediaType.APPLICATION_JSON)
@@ -68,6 +90,12 @@ public interface TaskRestService {
   @Produces(MediaType.APPLICATION_JSON)
   CountResultDto queryTasksCount(TaskQueryDto query);
 
+  @POST
+  @Path("/count/approximate")
+  @Consumes(MediaType.APPLICATION_JSON)
+  @Produces(MediaType.APPLICATION_JSON)
+  CountResultDto queryTasksApproximateCount(TaskQueryDto query);
+
   @POST
   @Path("/create")
   @Consumes(MediaType.APPLICATION_JSON)
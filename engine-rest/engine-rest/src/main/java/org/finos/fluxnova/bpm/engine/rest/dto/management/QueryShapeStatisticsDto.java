@@ -0,0 +1,89 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.finos.fluxnova.bpm.engine.rest.dto.management;
+
+import java.util.List;
+
+import org.finos.fluxnova.bpm.engine.management.QueryShapeStatistics;
+
+public class QueryShapeStatisticsDto {
+
+  protected String statement;
+  protected String shape;
+  protected long executionCount;
+  protected long totalDuration;
+  protected long maxDuration;
+  protected long averageDuration;
+  protected long totalRows;
+  protected long maxRows;
+  protected List<String> suggestedIndexes;
+
+  public QueryShapeStatisticsDto() { }
+
+  public String getStatement() {
+    return statement;
+  }
+
+  public String getShape() {
+    return shape;
+  }
+
+  public long getExecutionCount() {
+    return executionCount;
+  }
+
+  public long getTotalDuration() {
+    return totalDuration;
+  }
+
+  public long getMaxDuration() {
+    return maxDuration;
+  }
+
+  public long getAverageDuration() {
+    return averageDuration;
+  }
+
+  public long getTotalRows() {
+    return totalRows;
+  }
+
+  public long getMaxRows() {
+    return maxRows;
+  }
+
+  public List<String> getSuggestedIndexes() {
+    return suggestedIndexes;
+  }
+
+  public static QueryShapeStatisticsDto fromQueryShapeStatistics(QueryShapeStatistics statistics) {
+    QueryShapeStatisticsDto dto = new QueryShapeStatisticsDto();
+
+    dto.statement = statistics.getStatement();
+    dto.shape = statistics.getShape();
+    dto.executionCount = statistics.getExecutionCount();
+    dto.totalDuration = statistics.getTotalDuration();
+    dto.maxDuration = statistics.getMaxDuration();
+    dto.averageDuration = statistics.getAverageDuration();
+    dto.totalRows = statistics.getTotalRows();
+    dto.maxRows = statistics.getMaxRows();
+    dto.suggestedIndexes = statistics.getSuggestedIndexes();
+
+    return dto;
+  }
+
+}
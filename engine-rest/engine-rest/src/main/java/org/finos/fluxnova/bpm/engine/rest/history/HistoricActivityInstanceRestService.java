@@ -17,13 +17,16 @@
 package org.finos.fluxnova.bpm.engine.rest.history;
 
 import org.finos.fluxnova.bpm.engine.rest.dto.CountResultDto;
+import org.finos.fluxnova.bpm.engine.rest.dto.CursorPageDto;
 import org.finos.fluxnova.bpm.engine.rest.dto.history.HistoricActivityInstanceDto;
 import org.finos.fluxnova.bpm.engine.rest.dto.history.HistoricActivityInstanceQueryDto;
 import org.finos.fluxnova.bpm.engine.rest.sub.history.HistoricActivityInstanceResource;
+import org.finos.fluxnova.bpm.engine.rest.util.QueryUtil;
 
 import javax.ws.rs.*;
 import javax.ws.rs.core.Context;
 import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.StreamingOutput;
 import javax.ws.rs.core.UriInfo;
 import java.util.List;
 
@@ -62,6 +65,25 @@ public interface HistoricActivityInstanceRestService {
   List<HistoricActivityInstanceDto> queryHistoricActivityInstances(HistoricActivityInstanceQueryDto query, @QueryParam("firstResult") Integer firstResult,
       @QueryParam("maxResults") Integer maxResults);
 
+  /**
+   * Expects the same filter parameters as the list endpoint and returns the results ordered
+   * by id, starting after the given cursor (keyset pagination).
+   */
+  @GET
+  @Path("/cursor")
+  @Produces(MediaType.APPLICATION_JSON)
+  CursorPageDto<HistoricActivityInstanceDto> getHistoricActivityInstancesAfterCursor(@Context UriInfo uriInfo,
+      @QueryParam("cursor") String cursor, @QueryParam("maxResults") Integer maxResults);
+
+  /**
+   * Expects the same filter and sorting parameters as the list endpoint and streams all
+   * results as newline delimited JSON.
+   */
+  @GET
+  @Path("/stream")
+  @Produces(QueryUtil.APPLICATION_NDJSON)
+  StreamingOutput streamHistoricActivityInstances(@Context UriInfo uriInfo);
+
   @GET
   @Path("/count")
   @Produces(MediaType.APPLICATION_JSON)
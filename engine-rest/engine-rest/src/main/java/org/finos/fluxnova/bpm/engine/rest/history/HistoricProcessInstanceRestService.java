@@ -30,16 +30,19 @@ import javax.ws.rs.core.Context;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Request;
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
 import javax.ws.rs.core.UriInfo;
 
 import org.finos.fluxnova.bpm.engine.history.HistoricProcessInstanceQuery;
 import org.finos.fluxnova.bpm.engine.rest.dto.CountResultDto;
+import org.finos.fluxnova.bpm.engine.rest.dto.CursorPageDto;
 import org.finos.fluxnova.bpm.engine.rest.dto.batch.BatchDto;
 import org.finos.fluxnova.bpm.engine.rest.dto.history.DeleteHistoricProcessInstancesDto;
 import org.finos.fluxnova.bpm.engine.rest.dto.history.HistoricProcessInstanceDto;
 import org.finos.fluxnova.bpm.engine.rest.dto.history.HistoricProcessInstanceQueryDto;
 import org.finos.fluxnova.bpm.engine.rest.dto.history.batch.removaltime.SetRemovalTimeToHistoricProcessInstancesDto;
 import org.finos.fluxnova.bpm.engine.rest.sub.history.HistoricProcessInstanceResource;
+import org.finos.fluxnova.bpm.engine.rest.util.QueryUtil;
 
 @Path(HistoricProcessInstanceRestService.PATH)
 @Produces(MediaType.APPLICATION_JSON)
@@ -76,6 +79,25 @@ public interface HistoricProcessInstanceRestService {
   List<HistoricProcessInstanceDto> queryHistoricProcessInstances(HistoricProcessInstanceQueryDto query, @QueryParam("firstResult") Integer firstResult,
       @QueryParam("maxResults") Integer maxResults);
 
+  /**
+   * Expects the same filter parameters as the list endpoint and returns the results ordered
+   * by id, starting after the given cursor (keyset pagination).
+   */
+  @GET
+  @Path("/cursor")
+  @Produces(MediaType.APPLICATION_JSON)
+  CursorPageDto<HistoricProcessInstanceDto> getHistoricProcessInstancesAfterCursor(@Context UriInfo uriInfo,
+      @QueryParam("cursor") String cursor, @QueryParam("maxResults") Integer maxResults);
+
+  /**
+   * Expects the same filter and sorting parameters as the list endpoint and streams all
+   * results as newline delimited JSON.
+   */
+  @GET
+  @Path("/stream")
+  @Produces(QueryUtil.APPLICATION_NDJSON)
+  StreamingOutput streamHistoricProcessInstances(@Context UriInfo uriInfo);
+
   @GET
   @Path("/count")
   @Produces(MediaType.APPLICATION_JSON)
@@ -87,6 +109,12 @@ public interface HistoricProcessInstanceRestService {
   @Produces(MediaType.APPLICATION_JSON)
   CountResultDto queryHistoricProcessInstancesCount(HistoricProcessInstanceQueryDto query);
 
+  @POST
+  @Path("/count/approximate")
+  @Consumes(MediaType.APPLICATION_JSON)
+  @Produces(MediaType.APPLICATION_JSON)
+  CountResultDto queryHistoricProcessInstancesApproximateCount(HistoricProcessInstanceQueryDto query);
+
   @GET
   @Path("/report")
   @Produces({ MediaType.APPLICATION_JSON, "text/csv", "application/csv" })
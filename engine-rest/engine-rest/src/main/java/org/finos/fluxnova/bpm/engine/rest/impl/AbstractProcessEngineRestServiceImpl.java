@@ -50,6 +50,7 @@ import org.finos.fluxnova.bpm.engine.rest.ProcessInstanceRestService;
 import org.finos.fluxnova.bpm.engine.rest.SchemaLogRestService;
 import org.finos.fluxnova.bpm.engine.rest.SignalRestService;
 import org.finos.fluxnova.bpm.engine.rest.TaskRestService;
+import org.finos.fluxnova.bpm.engine.rest.QueryStatisticsRestService;
 import org.finos.fluxnova.bpm.engine.rest.TelemetryRestService;
 import org.finos.fluxnova.bpm.engine.rest.TenantRestService;
 import org.finos.fluxnova.bpm.engine.rest.UserRestService;
@@ -323,6 +324,13 @@ public abstract class AbstractProcessEngineRestServiceImpl {
     return subResource;
   }
 
+  public QueryStatisticsRestService getQueryStatisticsRestService(String engineName) {
+    String rootResourcePath = getRelativeEngineUri(engineName).toASCIIString();
+    QueryStatisticsRestServiceImpl subResource = new QueryStatisticsRestServiceImpl(engineName, getObjectMapper());
+    subResource.setRelativeRootResourceUri(rootResourcePath);
+    return subResource;
+  }
+
   protected abstract URI getRelativeEngineUri(String engineName);
 
   protected ObjectMapper getObjectMapper() {
@@ -48,6 +48,7 @@ import org.finos.fluxnova.bpm.engine.rest.ProcessInstanceRestService;
 import org.finos.fluxnova.bpm.engine.rest.SchemaLogRestService;
 import org.finos.fluxnova.bpm.engine.rest.SignalRestService;
 import org.finos.fluxnova.bpm.engine.rest.TaskRestService;
+import org.finos.fluxnova.bpm.engine.rest.QueryStatisticsRestService;
 import org.finos.fluxnova.bpm.engine.rest.TelemetryRestService;
 import org.finos.fluxnova.bpm.engine.rest.TenantRestService;
 import org.finos.fluxnova.bpm.engine.rest.UserRestService;
@@ -233,6 +234,11 @@ public class DefaultProcessEngineRestServiceImpl extends AbstractProcessEngineRe
     return super.getTelemetryRestService(null);
   }
 
+  @Path(QueryStatisticsRestService.PATH)
+  public QueryStatisticsRestService getQueryStatisticsRestService() {
+    return super.getQueryStatisticsRestService(null);
+  }
+
   @Override
   protected URI getRelativeEngineUri(String engineName) {
     // the default engine
@@ -19,9 +19,11 @@ package org.finos.fluxnova.bpm.engine.rest.impl;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.util.ArrayList;
 import java.util.List;
+import javax.ws.rs.core.StreamingOutput;
 import javax.ws.rs.core.UriInfo;
 import org.finos.fluxnova.bpm.engine.rest.IncidentRestService;
 import org.finos.fluxnova.bpm.engine.rest.dto.CountResultDto;
+import org.finos.fluxnova.bpm.engine.rest.dto.CursorPageDto;
 import org.finos.fluxnova.bpm.engine.rest.dto.runtime.IncidentDto;
 import org.finos.fluxnova.bpm.engine.rest.dto.runtime.IncidentQueryDto;
 import org.finos.fluxnova.bpm.engine.rest.sub.repository.impl.IncidentResourceImpl;
@@ -57,15 +59,27 @@ public class IncidentRestServiceImpl extends AbstractRestProcessEngineAware impl
   }
 
   @Override
-  public CountResultDto getIncidentsCount(UriInfo uriInfo) {
+  public CursorPageDto<IncidentDto> getIncidentsAfterCursor(UriInfo uriInfo, String cursor, Integer maxResults) {
     IncidentQueryDto queryDto = new IncidentQueryDto(getObjectMapper(), uriInfo.getQueryParameters());
     IncidentQuery query = queryDto.toQuery(getProcessEngine());
 
-    long count = query.count();
-    CountResultDto result = new CountResultDto();
-    result.setCount(count);
+    return QueryUtil.listAfter(query, cursor, maxResults, Incident::getId, IncidentDto::fromIncident);
+  }
 
-    return result;
+  @Override
+  public StreamingOutput streamIncidents(UriInfo uriInfo) {
+    IncidentQueryDto queryDto = new IncidentQueryDto(getObjectMapper(), uriInfo.getQueryParameters());
+    IncidentQuery query = queryDto.toQuery(getProcessEngine());
+
+    return QueryUtil.stream(query, IncidentDto::fromIncident, getObjectMapper());
+  }
+
+  @Override
+  public CountResultDto getIncidentsCount(UriInfo uriInfo) {
+    IncidentQueryDto queryDto = new IncidentQueryDto(getObjectMapper(), uriInfo.getQueryParameters());
+    IncidentQuery query = queryDto.toQuery(getProcessEngine());
+
+    return QueryUtil.count(query, QueryUtil.isApproximateCount(uriInfo));
   }
 
   @Override
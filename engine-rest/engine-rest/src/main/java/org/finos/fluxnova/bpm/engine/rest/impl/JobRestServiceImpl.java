@@ -20,6 +20,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import java.util.ArrayList;
 import java.util.List;
 import javax.ws.rs.core.Response.Status;
+import javax.ws.rs.core.StreamingOutput;
 import javax.ws.rs.core.UriInfo;
 import org.finos.fluxnova.bpm.engine.BadUserRequestException;
 import org.finos.fluxnova.bpm.engine.ProcessEngine;
@@ -29,6 +30,7 @@ import org.finos.fluxnova.bpm.engine.impl.util.EnsureUtil;
 import org.finos.fluxnova.bpm.engine.management.SetJobRetriesByJobsAsyncBuilder;
 import org.finos.fluxnova.bpm.engine.rest.JobRestService;
 import org.finos.fluxnova.bpm.engine.rest.dto.CountResultDto;
+import org.finos.fluxnova.bpm.engine.rest.dto.CursorPageDto;
 import org.finos.fluxnova.bpm.engine.rest.dto.batch.BatchDto;
 import org.finos.fluxnova.bpm.engine.rest.dto.runtime.JobDto;
 import org.finos.fluxnova.bpm.engine.rest.dto.runtime.JobQueryDto;
@@ -77,6 +79,22 @@ public class JobRestServiceImpl extends AbstractRestProcessEngineAware
     return jobResults;
   }
 
+  @Override
+  public CursorPageDto<JobDto> getJobsAfterCursor(UriInfo uriInfo, String cursor, Integer maxResults) {
+    JobQueryDto queryDto = new JobQueryDto(getObjectMapper(), uriInfo.getQueryParameters());
+    JobQuery query = queryDto.toQuery(getProcessEngine());
+
+    return QueryUtil.listAfter(query, cursor, maxResults, Job::getId, JobDto::fromJob);
+  }
+
+  @Override
+  public StreamingOutput streamJobs(UriInfo uriInfo) {
+    JobQueryDto queryDto = new JobQueryDto(getObjectMapper(), uriInfo.getQueryParameters());
+    JobQuery query = queryDto.toQuery(getProcessEngine());
+
+    return QueryUtil.stream(query, JobDto::fromJob, getObjectMapper());
+  }
+
   @Override
   public CountResultDto getJobsCount(UriInfo uriInfo) {
     JobQueryDto queryDto = new JobQueryDto(getObjectMapper(), uriInfo.getQueryParameters());
@@ -58,6 +58,7 @@ import org.finos.fluxnova.bpm.engine.rest.ProcessInstanceRestService;
 import org.finos.fluxnova.bpm.engine.rest.SchemaLogRestService;
 import org.finos.fluxnova.bpm.engine.rest.SignalRestService;
 import org.finos.fluxnova.bpm.engine.rest.TaskRestService;
+import org.finos.fluxnova.bpm.engine.rest.QueryStatisticsRestService;
 import org.finos.fluxnova.bpm.engine.rest.TelemetryRestService;
 import org.finos.fluxnova.bpm.engine.rest.TenantRestService;
 import org.finos.fluxnova.bpm.engine.rest.UserRestService;
@@ -281,6 +282,12 @@ public class NamedProcessEngineRestServiceImpl extends AbstractProcessEngineRest
     return super.getTelemetryRestService(engineName);
   }
 
+  @Override
+  @Path("/{name}" + QueryStatisticsRestService.PATH)
+  public QueryStatisticsRestService getQueryStatisticsRestService(@PathParam("name") String engineName) {
+    return super.getQueryStatisticsRestService(engineName);
+  }
+
   @GET
   @Produces(MediaType.APPLICATION_JSON)
   public List<ProcessEngineDto> getProcessEngineNames() {
@@ -21,6 +21,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import javax.ws.rs.core.Response.Status;
+import javax.ws.rs.core.StreamingOutput;
 import javax.ws.rs.core.UriInfo;
 import org.finos.fluxnova.bpm.engine.AuthorizationException;
 import org.finos.fluxnova.bpm.engine.BadUserRequestException;
@@ -37,6 +38,7 @@ import org.finos.fluxnova.bpm.engine.query.Query;
 import org.finos.fluxnova.bpm.engine.rest.ProcessInstanceRestService;
 import org.finos.fluxnova.bpm.engine.rest.dto.AbstractQueryDto;
 import org.finos.fluxnova.bpm.engine.rest.dto.CountResultDto;
+import org.finos.fluxnova.bpm.engine.rest.dto.CursorPageDto;
 import org.finos.fluxnova.bpm.engine.rest.dto.VariableValueDto;
 import org.finos.fluxnova.bpm.engine.rest.dto.batch.BatchDto;
 import org.finos.fluxnova.bpm.engine.rest.dto.history.HistoricProcessInstanceQueryDto;
@@ -90,6 +92,22 @@ public class ProcessInstanceRestServiceImpl extends AbstractRestProcessEngineAwa
     return instanceResults;
   }
 
+  @Override
+  public CursorPageDto<ProcessInstanceDto> getProcessInstancesAfterCursor(UriInfo uriInfo, String cursor, Integer maxResults) {
+    ProcessInstanceQueryDto queryDto = new ProcessInstanceQueryDto(getObjectMapper(), uriInfo.getQueryParameters());
+    ProcessInstanceQuery query = queryDto.toQuery(getProcessEngine());
+
+    return QueryUtil.listAfter(query, cursor, maxResults, ProcessInstance::getId, ProcessInstanceDto::fromProcessInstance);
+  }
+
+  @Override
+  public StreamingOutput streamProcessInstances(UriInfo uriInfo) {
+    ProcessInstanceQueryDto queryDto = new ProcessInstanceQueryDto(getObjectMapper(), uriInfo.getQueryParameters());
+    ProcessInstanceQuery query = queryDto.toQuery(getProcessEngine());
+
+    return QueryUtil.stream(query, ProcessInstanceDto::fromProcessInstance, getObjectMapper());
+  }
+
   @Override
   public CountResultDto getProcessInstancesCount(UriInfo uriInfo) {
     ProcessInstanceQueryDto queryDto = new ProcessInstanceQueryDto(getObjectMapper(), uriInfo.getQueryParameters());
@@ -0,0 +1,59 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.finos.fluxnova.bpm.engine.rest.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.finos.fluxnova.bpm.engine.ManagementService;
+import org.finos.fluxnova.bpm.engine.management.QueryShapeStatistics;
+import org.finos.fluxnova.bpm.engine.rest.QueryStatisticsRestService;
+import org.finos.fluxnova.bpm.engine.rest.dto.management.QueryShapeStatisticsDto;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+public class QueryStatisticsRestServiceImpl extends AbstractRestProcessEngineAware implements QueryStatisticsRestService {
+
+  public static final int DEFAULT_MAX_RESULTS = 10;
+
+  public QueryStatisticsRestServiceImpl(String engineName, ObjectMapper objectMapper) {
+    super(engineName, objectMapper);
+  }
+
+  @Override
+  public List<QueryShapeStatisticsDto> getSlowestQueryShapes(Integer maxResults) {
+    ManagementService managementService = getProcessEngine().getManagementService();
+
+    if (maxResults == null) {
+      maxResults = DEFAULT_MAX_RESULTS;
+    }
+
+    List<QueryShapeStatisticsDto> result = new ArrayList<>();
+    for (QueryShapeStatistics statistics : managementService.getSlowestQueryShapes(maxResults)) {
+      result.add(QueryShapeStatisticsDto.fromQueryShapeStatistics(statistics));
+    }
+
+    return result;
+  }
+
+  @Override
+  public void clearQueryShapeStatistics() {
+    ManagementService managementService = getProcessEngine().getManagementService();
+
+    managementService.clearQueryShapeStatistics();
+  }
+}
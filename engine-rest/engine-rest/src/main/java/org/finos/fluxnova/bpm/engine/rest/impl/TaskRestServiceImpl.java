@@ -24,6 +24,7 @@ import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Request;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.Response.Status;
+import javax.ws.rs.core.StreamingOutput;
 import javax.ws.rs.core.UriInfo;
 import javax.ws.rs.core.Variant;
 import org.finos.fluxnova.bpm.engine.ProcessEngine;
@@ -31,6 +32,7 @@ import org.finos.fluxnova.bpm.engine.TaskService;
 import org.finos.fluxnova.bpm.engine.exception.NotValidException;
 import org.finos.fluxnova.bpm.engine.rest.TaskRestService;
 import org.finos.fluxnova.bpm.engine.rest.dto.CountResultDto;
+import org.finos.fluxnova.bpm.engine.rest.dto.CursorPageDto;
 import org.finos.fluxnova.bpm.engine.rest.dto.task.TaskDto;
 import org.finos.fluxnova.bpm.engine.rest.dto.task.TaskQueryDto;
 import org.finos.fluxnova.bpm.engine.rest.dto.task.TaskWithAttachmentAndCommentDto;
@@ -114,23 +116,52 @@ public class TaskRestServiceImpl extends AbstractRestProcessEngineAware implemen
     return QueryUtil.list(query, firstResult, maxResults);
   }
 
+  @Override
+  public CursorPageDto<TaskDto> getTasksAfterCursor(UriInfo uriInfo, String cursor, Integer maxResults) {
+    TaskQueryDto queryDto = new TaskQueryDto(getObjectMapper(), uriInfo.getQueryParameters());
+    TaskQuery query = queryDto.toQuery(getProcessEngine());
+    query.initializeFormKeys();
+
+    if (Boolean.TRUE.equals(queryDto.getWithCommentAttachmentInfo())) {
+      return QueryUtil.listAfter(query, cursor, maxResults, Task::getId, TaskWithAttachmentAndCommentDto::fromEntity);
+    }
+    return QueryUtil.listAfter(query, cursor, maxResults, Task::getId, TaskDto::fromEntity);
+  }
+
+  @Override
+  public StreamingOutput streamTasks(UriInfo uriInfo) {
+    TaskQueryDto queryDto = new TaskQueryDto(getObjectMapper(), uriInfo.getQueryParameters());
+    TaskQuery query = queryDto.toQuery(getProcessEngine());
+    query.initializeFormKeys();
+
+    if (Boolean.TRUE.equals(queryDto.getWithCommentAttachmentInfo())) {
+      return QueryUtil.stream(query, TaskWithAttachmentAndCommentDto::fromEntity, getObjectMapper());
+    }
+    return QueryUtil.stream(query, TaskDto::fromEntity, getObjectMapper());
+  }
+
   @Override
   public CountResultDto getTasksCount(UriInfo uriInfo) {
     TaskQueryDto queryDto = new TaskQueryDto(getObjectMapper(), uriInfo.getQueryParameters());
-    return queryTasksCount(queryDto);
+    return queryTasksCount(queryDto, QueryUtil.isApproximateCount(uriInfo));
   }
 
   @Override
   public CountResultDto queryTasksCount(TaskQueryDto queryDto) {
+    return queryTasksCount(queryDto, false);
+  }
+
+  @Override
+  public CountResultDto queryTasksApproximateCount(TaskQueryDto queryDto) {
+    return queryTasksCount(queryDto, true);
+  }
+
+  protected CountResultDto queryTasksCount(TaskQueryDto queryDto, boolean approximate) {
     ProcessEngine engine = getProcessEngine();
     queryDto.setObjectMapper(getObjectMapper());
     TaskQuery query = queryDto.toQuery(engine);
 
-    long count = query.count();
-    CountResultDto result = new CountResultDto();
-    result.setCount(count);
-
-    return result;
+    return QueryUtil.count(query, approximate);
   }
 
   @Override
@@ -19,11 +19,13 @@ package org.finos.fluxnova.bpm.engine.rest.impl.history;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.util.ArrayList;
 import java.util.List;
+import javax.ws.rs.core.StreamingOutput;
 import javax.ws.rs.core.UriInfo;
 import org.finos.fluxnova.bpm.engine.ProcessEngine;
 import org.finos.fluxnova.bpm.engine.history.HistoricActivityInstance;
 import org.finos.fluxnova.bpm.engine.history.HistoricActivityInstanceQuery;
 import org.finos.fluxnova.bpm.engine.rest.dto.CountResultDto;
+import org.finos.fluxnova.bpm.engine.rest.dto.CursorPageDto;
 import org.finos.fluxnova.bpm.engine.rest.dto.history.HistoricActivityInstanceDto;
 import org.finos.fluxnova.bpm.engine.rest.dto.history.HistoricActivityInstanceQueryDto;
 import org.finos.fluxnova.bpm.engine.rest.history.HistoricActivityInstanceRestService;
@@ -68,6 +70,30 @@ public class HistoricActivityInstanceRestServiceImpl implements HistoricActivity
     return historicActivityInstanceResults;
   }
 
+  @Override
+  public CursorPageDto<HistoricActivityInstanceDto> getHistoricActivityInstancesAfterCursor(UriInfo uriInfo, String cursor, Integer maxResults) {
+    HistoricActivityInstanceQueryDto queryDto = new HistoricActivityInstanceQueryDto(objectMapper, uriInfo.getQueryParameters());
+    HistoricActivityInstanceQuery query = queryDto.toQuery(processEngine);
+
+    return QueryUtil.listAfter(query, cursor, maxResults, HistoricActivityInstance::getId, historicActivityInstance -> {
+      HistoricActivityInstanceDto dto = new HistoricActivityInstanceDto();
+      HistoricActivityInstanceDto.fromHistoricActivityInstance(dto, historicActivityInstance);
+      return dto;
+    });
+  }
+
+  @Override
+  public StreamingOutput streamHistoricActivityInstances(UriInfo uriInfo) {
+    HistoricActivityInstanceQueryDto queryDto = new HistoricActivityInstanceQueryDto(objectMapper, uriInfo.getQueryParameters());
+    HistoricActivityInstanceQuery query = queryDto.toQuery(processEngine);
+
+    return QueryUtil.stream(query, historicActivityInstance -> {
+      HistoricActivityInstanceDto dto = new HistoricActivityInstanceDto();
+      HistoricActivityInstanceDto.fromHistoricActivityInstance(dto, historicActivityInstance);
+      return dto;
+    }, objectMapper);
+  }
+
   @Override
   public CountResultDto getHistoricActivityInstancesCount(UriInfo uriInfo) {
     HistoricActivityInstanceQueryDto queryDto = new HistoricActivityInstanceQueryDto(objectMapper, uriInfo.getQueryParameters());
@@ -25,6 +25,7 @@ import javax.ws.rs.core.MultivaluedMap;
 import javax.ws.rs.core.Request;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.Response.Status;
+import javax.ws.rs.core.StreamingOutput;
 import javax.ws.rs.core.UriInfo;
 import javax.ws.rs.core.Variant;
 import org.finos.fluxnova.bpm.engine.BadUserRequestException;
@@ -37,6 +38,7 @@ import org.finos.fluxnova.bpm.engine.history.HistoricProcessInstanceQuery;
 import org.finos.fluxnova.bpm.engine.history.ReportResult;
 import org.finos.fluxnova.bpm.engine.history.SetRemovalTimeSelectModeForHistoricProcessInstancesBuilder;
 import org.finos.fluxnova.bpm.engine.rest.dto.CountResultDto;
+import org.finos.fluxnova.bpm.engine.rest.dto.CursorPageDto;
 import org.finos.fluxnova.bpm.engine.rest.dto.batch.BatchDto;
 import org.finos.fluxnova.bpm.engine.rest.dto.converter.ReportResultToCsvConverter;
 import org.finos.fluxnova.bpm.engine.rest.dto.history.DeleteHistoricProcessInstancesDto;
@@ -92,22 +94,44 @@ import org.finos.fluxnova.bpm.engine.rest.util.URLEncodingUtil;
     return historicProcessInstanceDtoResults;
   }
 
+  @Override
+  public CursorPageDto<HistoricProcessInstanceDto> getHistoricProcessInstancesAfterCursor(UriInfo uriInfo, String cursor, Integer maxResults) {
+    HistoricProcessInstanceQueryDto queryDto = new HistoricProcessInstanceQueryDto(objectMapper, uriInfo.getQueryParameters());
+    HistoricProcessInstanceQuery query = queryDto.toQuery(processEngine);
+
+    return QueryUtil.listAfter(query, cursor, maxResults,
+        HistoricProcessInstance::getId, HistoricProcessInstanceDto::fromHistoricProcessInstance);
+  }
+
+  @Override
+  public StreamingOutput streamHistoricProcessInstances(UriInfo uriInfo) {
+    HistoricProcessInstanceQueryDto queryDto = new HistoricProcessInstanceQueryDto(objectMapper, uriInfo.getQueryParameters());
+    HistoricProcessInstanceQuery query = queryDto.toQuery(processEngine);
+
+    return QueryUtil.stream(query, HistoricProcessInstanceDto::fromHistoricProcessInstance, objectMapper);
+  }
+
   @Override
   public CountResultDto getHistoricProcessInstancesCount(UriInfo uriInfo) {
     HistoricProcessInstanceQueryDto queryDto = new HistoricProcessInstanceQueryDto(objectMapper, uriInfo.getQueryParameters());
-    return queryHistoricProcessInstancesCount(queryDto);
+    return queryHistoricProcessInstancesCount(queryDto, QueryUtil.isApproximateCount(uriInfo));
   }
 
   @Override
   public CountResultDto queryHistoricProcessInstancesCount(HistoricProcessInstanceQueryDto queryDto) {
+    return queryHistoricProcessInstancesCount(queryDto, false);
+  }
+
+  @Override
+  public CountResultDto queryHistoricProcessInstancesApproximateCount(HistoricProcessInstanceQueryDto queryDto) {
+    return queryHistoricProcessInstancesCount(queryDto, true);
+  }
+
+  protected CountResultDto queryHistoricProcessInstancesCount(HistoricProcessInstanceQueryDto queryDto, boolean approximate) {
     queryDto.setObjectMapper(objectMapper);
     HistoricProcessInstanceQuery query = queryDto.toQuery(processEngine);
 
-    long count = query.count();
-    CountResultDto result = new CountResultDto();
-    result.setCount(count);
-
-    return result;
+    return QueryUtil.count(query, approximate);
   }
 
   @SuppressWarnings("unchecked")
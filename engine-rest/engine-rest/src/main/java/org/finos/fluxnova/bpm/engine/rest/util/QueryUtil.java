@@ -16,11 +16,31 @@
  */
 package org.finos.fluxnova.bpm.engine.rest.util;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
 import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import javax.ws.rs.core.Response.Status;
+import javax.ws.rs.core.StreamingOutput;
+import javax.ws.rs.core.UriInfo;
 import org.finos.fluxnova.bpm.engine.query.Query;
+import org.finos.fluxnova.bpm.engine.rest.dto.ApproximateCountResultDto;
+import org.finos.fluxnova.bpm.engine.rest.dto.CountResultDto;
+import org.finos.fluxnova.bpm.engine.rest.dto.CursorPageDto;
+import org.finos.fluxnova.bpm.engine.rest.exception.InvalidRequestException;
+import org.finos.fluxnova.bpm.engine.rest.exception.RestException;
 
 public class QueryUtil {
 
+  /** Newline delimited JSON: one JSON document per line. */
+  public static final String APPLICATION_NDJSON = "application/x-ndjson";
+
+  /** Query parameter of the <code>GET .../count</code> endpoints which requests an approximate count. */
+  public static final String APPROXIMATE_PARAM = "approximate";
+
   private QueryUtil() {}
 
   public static <T extends Query<?,?>, U> List<U> list(Query<T, U> query, Integer firstResult, Integer maxResults) {
@@ -42,4 +62,76 @@ public class QueryUtil {
     }
     return query.listPage(firstResult, maxResults);
   }
+
+  /**
+   * Counts the results of the query, allowing a cached or estimated count if <code>approximate</code> is set.
+   */
+  public static CountResultDto count(Query<?, ?> query, boolean approximate) {
+    if (approximate) {
+      return ApproximateCountResultDto.fromCountResult(query.approximateCount());
+    }
+    return new CountResultDto(query.count());
+  }
+
+  /**
+   * @return whether the request asks for an approximate count, see {@link #count(Query, boolean)}
+   */
+  public static boolean isApproximateCount(UriInfo uriInfo) {
+    return Boolean.parseBoolean(uriInfo.getQueryParameters().getFirst(APPROXIMATE_PARAM));
+  }
+
+  /**
+   * Executes the query by keyset pagination, starting after the position encoded in the given
+   * cursor token, and converts the results.
+   *
+   * @param cursor the <code>nextCursor</code> of the previous page or <code>null</code> for the first page
+   * @param idProvider returns the id of a result, which is the position the next page starts after
+   */
+  public static <T extends Query<?,?>, U, D> CursorPageDto<D> listAfter(Query<T, U> query, String cursor, Integer maxResults,
+                                                                       Function<U, String> idProvider, Function<U, D> converter) {
+    if (maxResults == null || maxResults <= 0) {
+      throw new InvalidRequestException(Status.BAD_REQUEST, "Parameter 'maxResults' must be a positive number when paginating by cursor");
+    }
+
+    List<U> results = query.listAfter(decodeCursor(cursor), maxResults);
+
+    String nextCursor = null;
+    if (results.size() == maxResults) {
+      nextCursor = encodeCursor(idProvider.apply(results.get(results.size() - 1)));
+    }
+
+    List<D> items = results.stream().map(converter).collect(Collectors.toList());
+    return new CursorPageDto<>(items, nextCursor);
+  }
+
+  /**
+   * Returns an output that writes the results of the query as newline delimited JSON while
+   * they are read from the database, so that the memory used does not grow with the number of results.
+   */
+  public static <T extends Query<?,?>, U, D> StreamingOutput stream(Query<T, U> query, Function<U, D> converter,
+                                                                   ObjectMapper objectMapper) {
+    return output -> query.forEach(result -> {
+      try {
+        output.write(objectMapper.writeValueAsBytes(converter.apply(result)));
+        output.write('\n');
+      } catch (IOException e) {
+        throw new RestException(Status.INTERNAL_SERVER_ERROR, e, "Cannot write query result: " + e.getMessage());
+      }
+    });
+  }
+
+  public static String encodeCursor(String id) {
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(id.getBytes(StandardCharsets.UTF_8));
+  }
+
+  public static String decodeCursor(String cursor) {
+    if (cursor == null || cursor.isEmpty()) {
+      return null;
+    }
+    try {
+      return new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+    } catch (IllegalArgumentException e) {
+      throw new InvalidRequestException(Status.BAD_REQUEST, e, "Invalid cursor '" + cursor + "'");
+    }
+  }
 }
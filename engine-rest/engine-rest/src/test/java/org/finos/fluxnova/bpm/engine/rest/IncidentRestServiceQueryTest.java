@@ -25,18 +25,27 @@ import static org.finos.fluxnova.bpm.engine.rest.helper.MockProvider.NON_EXISTIN
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
 import java.util.Date;
 import java.util.List;
+import java.util.function.Consumer;
 
 import javax.ws.rs.core.Response.Status;
 
+import org.finos.fluxnova.bpm.engine.impl.CountResultImpl;
 import org.finos.fluxnova.bpm.engine.impl.calendar.DateTimeUtil;
 import org.finos.fluxnova.bpm.engine.rest.exception.InvalidRequestException;
 import org.finos.fluxnova.bpm.engine.rest.helper.MockProvider;
@@ -66,6 +75,8 @@ public class IncidentRestServiceQueryTest extends AbstractRestServiceTest {
 
   protected static final String INCIDENT_QUERY_URL = TEST_RESOURCE_ROOT_PATH + "/incident";
   protected static final String INCIDENT_COUNT_QUERY_URL = INCIDENT_QUERY_URL + "/count";
+  protected static final String INCIDENT_CURSOR_QUERY_URL = INCIDENT_QUERY_URL + "/cursor";
+  protected static final String INCIDENT_STREAM_QUERY_URL = INCIDENT_QUERY_URL + "/stream";
 
   private IncidentQuery mockedQuery;
 
@@ -312,6 +323,100 @@ public class IncidentRestServiceQueryTest extends AbstractRestServiceTest {
     verify(mockedQuery).listPage(firstResult, Integer.MAX_VALUE);
   }
 
+  @Test
+  public void testCursorPagination() {
+    List<Incident> incidents = MockProvider.createMockIncidents();
+    when(mockedQuery.listAfter(null, 1)).thenReturn(incidents);
+
+    String expectedCursor = Base64.getUrlEncoder().withoutPadding()
+        .encodeToString(MockProvider.EXAMPLE_INCIDENT_ID.getBytes(StandardCharsets.UTF_8));
+
+    given()
+      .queryParam("maxResults", 1)
+    .then()
+      .expect()
+        .statusCode(Status.OK.getStatusCode())
+        .body("items.size()", equalTo(1))
+        .body("items[0].id", equalTo(MockProvider.EXAMPLE_INCIDENT_ID))
+        .body("nextCursor", equalTo(expectedCursor))
+      .when()
+        .get(INCIDENT_CURSOR_QUERY_URL);
+
+    verify(mockedQuery).listAfter(null, 1);
+  }
+
+  @Test
+  public void testCursorPaginationLastPage() {
+    String cursor = Base64.getUrlEncoder().withoutPadding()
+        .encodeToString(MockProvider.EXAMPLE_INCIDENT_ID.getBytes(StandardCharsets.UTF_8));
+    when(mockedQuery.listAfter(MockProvider.EXAMPLE_INCIDENT_ID, 10)).thenReturn(Collections.emptyList());
+
+    given()
+      .queryParam("cursor", cursor)
+      .queryParam("maxResults", 10)
+    .then()
+      .expect()
+        .statusCode(Status.OK.getStatusCode())
+        .body("items.size()", equalTo(0))
+        .body("nextCursor", nullValue())
+      .when()
+        .get(INCIDENT_CURSOR_QUERY_URL);
+
+    verify(mockedQuery).listAfter(MockProvider.EXAMPLE_INCIDENT_ID, 10);
+  }
+
+  @Test
+  public void testCursorPaginationWithoutMaxResults() {
+    expect()
+      .statusCode(Status.BAD_REQUEST.getStatusCode())
+      .body("type", equalTo(InvalidRequestException.class.getSimpleName()))
+      .body("message", containsString("Parameter 'maxResults' must be a positive number"))
+    .when()
+      .get(INCIDENT_CURSOR_QUERY_URL);
+  }
+
+  @Test
+  public void testCursorPaginationWithInvalidCursor() {
+    given()
+      .queryParam("cursor", "not a cursor")
+      .queryParam("maxResults", 10)
+    .then()
+      .expect()
+        .statusCode(Status.BAD_REQUEST.getStatusCode())
+        .body("type", equalTo(InvalidRequestException.class.getSimpleName()))
+        .body("message", equalTo("Invalid cursor 'not a cursor'"))
+      .when()
+        .get(INCIDENT_CURSOR_QUERY_URL);
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void testStreamQuery() {
+    List<Incident> incidents = Arrays.asList(MockProvider.createMockIncident(), MockProvider.createMockIncident());
+    doAnswer(invocation -> {
+      incidents.forEach(invocation.<Consumer<Incident>>getArgument(0));
+      return null;
+    }).when(mockedQuery).forEach(any(Consumer.class));
+
+    Response response = given()
+      .queryParam("processInstanceId", MockProvider.EXAMPLE_PROCESS_INSTANCE_ID)
+    .then()
+      .expect()
+        .statusCode(Status.OK.getStatusCode())
+        .contentType("application/x-ndjson")
+      .when()
+        .get(INCIDENT_STREAM_QUERY_URL);
+
+    String[] lines = response.asString().split("\n");
+    assertThat(lines).hasSize(2);
+    for (String line : lines) {
+      assertThat(from(line).getString("id")).isEqualTo(MockProvider.EXAMPLE_INCIDENT_ID);
+    }
+
+    verify(mockedQuery).processInstanceId(MockProvider.EXAMPLE_PROCESS_INSTANCE_ID);
+    verify(mockedQuery).forEach(any(Consumer.class));
+  }
+
   @Test
   public void testQueryCount() {
     expect()
@@ -323,6 +428,24 @@ public class IncidentRestServiceQueryTest extends AbstractRestServiceTest {
     verify(mockedQuery).count();
   }
 
+  @Test
+  public void testApproximateQueryCount() {
+    when(mockedQuery.approximateCount()).thenReturn(new CountResultImpl(1, false));
+
+    given()
+      .queryParam("approximate", true)
+    .then()
+      .expect()
+        .statusCode(Status.OK.getStatusCode())
+        .body("count", equalTo(1))
+        .body("exact", equalTo(false))
+      .when()
+        .get(INCIDENT_COUNT_QUERY_URL);
+
+    verify(mockedQuery).approximateCount();
+    verify(mockedQuery, never()).count();
+  }
+
   @Test
   public void testSimpleIncidentQuery() {
     Response response = given()
@@ -0,0 +1,138 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.finos.fluxnova.bpm.engine.rest;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.equalTo;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import javax.ws.rs.core.Response.Status;
+
+import org.finos.fluxnova.bpm.engine.AuthorizationException;
+import org.finos.fluxnova.bpm.engine.ManagementService;
+import org.finos.fluxnova.bpm.engine.management.QueryShapeStatistics;
+import org.finos.fluxnova.bpm.engine.rest.impl.QueryStatisticsRestServiceImpl;
+import org.finos.fluxnova.bpm.engine.rest.util.container.TestContainerRule;
+import org.junit.Before;
+import org.junit.ClassRule;
+import org.junit.Test;
+
+import io.restassured.http.ContentType;
+
+public class QueryStatisticsRestServiceTest extends AbstractRestServiceTest {
+
+  @ClassRule
+  public static TestContainerRule rule = new TestContainerRule();
+
+  protected static final String QUERY_STATISTICS_URL = TEST_RESOURCE_ROOT_PATH + QueryStatisticsRestService.PATH;
+
+  protected static final String EXAMPLE_STATEMENT = "selectTaskByQueryCriteria";
+  protected static final String EXAMPLE_SHAPE = "select distinct RES.* from ACT_RU_TASK RES where RES.NAME_ = ?";
+  protected static final String EXAMPLE_SUGGESTED_INDEX = "create index ACT_IDX_SUGG_1A2B3C4D on ACT_RU_TASK (NAME_)";
+
+  protected ManagementService managementServiceMock;
+
+  @Before
+  public void setupMocks() {
+    managementServiceMock = mock(ManagementService.class);
+    when(processEngine.getManagementService()).thenReturn(managementServiceMock);
+  }
+
+  @Test
+  public void shouldGetSlowestQueryShapes() {
+    QueryShapeStatistics statistics = mock(QueryShapeStatistics.class);
+    when(statistics.getStatement()).thenReturn(EXAMPLE_STATEMENT);
+    when(statistics.getShape()).thenReturn(EXAMPLE_SHAPE);
+    when(statistics.getExecutionCount()).thenReturn(4L);
+    when(statistics.getTotalDuration()).thenReturn(120L);
+    when(statistics.getMaxDuration()).thenReturn(60L);
+    when(statistics.getAverageDuration()).thenReturn(30L);
+    when(statistics.getTotalRows()).thenReturn(40L);
+    when(statistics.getMaxRows()).thenReturn(25L);
+    when(statistics.getSuggestedIndexes()).thenReturn(Collections.singletonList(EXAMPLE_SUGGESTED_INDEX));
+    when(managementServiceMock.getSlowestQueryShapes(5)).thenReturn(Arrays.asList(statistics));
+
+    given()
+      .queryParam("maxResults", 5)
+    .then()
+      .expect()
+        .statusCode(Status.OK.getStatusCode())
+        .contentType(ContentType.JSON)
+        .body("size()", equalTo(1))
+        .body("[0].statement", equalTo(EXAMPLE_STATEMENT))
+        .body("[0].shape", equalTo(EXAMPLE_SHAPE))
+        .body("[0].executionCount", equalTo(4))
+        .body("[0].totalDuration", equalTo(120))
+        .body("[0].maxDuration", equalTo(60))
+        .body("[0].averageDuration", equalTo(30))
+        .body("[0].totalRows", equalTo(40))
+        .body("[0].maxRows", equalTo(25))
+        .body("[0].suggestedIndexes[0]", equalTo(EXAMPLE_SUGGESTED_INDEX))
+    .when()
+      .get(QUERY_STATISTICS_URL);
+
+    verify(managementServiceMock).getSlowestQueryShapes(5);
+  }
+
+  @Test
+  public void shouldGetSlowestQueryShapesWithDefaultMaxResults() {
+    given()
+    .then()
+      .expect()
+        .statusCode(Status.OK.getStatusCode())
+        .body("size()", equalTo(0))
+    .when()
+      .get(QUERY_STATISTICS_URL);
+
+    verify(managementServiceMock).getSlowestQueryShapes(QueryStatisticsRestServiceImpl.DEFAULT_MAX_RESULTS);
+  }
+
+  @Test
+  public void shouldNotGetSlowestQueryShapesWithoutAuthorization() {
+    String message = "not authorized";
+    when(managementServiceMock.getSlowestQueryShapes(QueryStatisticsRestServiceImpl.DEFAULT_MAX_RESULTS))
+        .thenThrow(new AuthorizationException(message));
+
+    given()
+    .then()
+      .expect()
+        .statusCode(Status.FORBIDDEN.getStatusCode())
+        .contentType(ContentType.JSON)
+        .body("type", equalTo(AuthorizationException.class.getSimpleName()))
+        .body("message", equalTo(message))
+    .when()
+      .get(QUERY_STATISTICS_URL);
+  }
+
+  @Test
+  public void shouldClearQueryShapeStatistics() {
+    given()
+    .then()
+      .expect()
+        .statusCode(Status.NO_CONTENT.getStatusCode())
+    .when()
+      .delete(QUERY_STATISTICS_URL);
+
+    verify(managementServiceMock).clearQueryShapeStatistics();
+  }
+
+}
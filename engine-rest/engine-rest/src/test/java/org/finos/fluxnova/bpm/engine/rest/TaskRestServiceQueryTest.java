@@ -50,6 +50,7 @@ import org.finos.fluxnova.bpm.application.ProcessApplicationInfo;
 import org.finos.fluxnova.bpm.container.RuntimeContainerDelegate;
 import org.finos.fluxnova.bpm.engine.identity.User;
 import org.finos.fluxnova.bpm.engine.identity.UserQuery;
+import org.finos.fluxnova.bpm.engine.impl.CountResultImpl;
 import org.finos.fluxnova.bpm.engine.impl.TaskQueryImpl;
 import org.finos.fluxnova.bpm.engine.repository.CaseDefinition;
 import org.finos.fluxnova.bpm.engine.repository.CaseDefinitionQuery;
@@ -2140,6 +2141,41 @@ public class TaskRestServiceQueryTest extends AbstractRestServiceTest {
     verify(mockQuery).count();
   }
 
+  @Test
+  public void testApproximateQueryCount() {
+    when(mockQuery.approximateCount()).thenReturn(new CountResultImpl(1, false));
+
+    given()
+      .queryParam("approximate", true)
+      .header("accept", MediaType.APPLICATION_JSON)
+    .expect()
+      .statusCode(Status.OK.getStatusCode())
+      .body("count", equalTo(1))
+      .body("exact", equalTo(false))
+    .when()
+      .get(TASK_COUNT_QUERY_URL);
+
+    verify(mockQuery).approximateCount();
+    verify(mockQuery, never()).count();
+  }
+
+  @Test
+  public void testApproximateQueryCountForPost() {
+    when(mockQuery.approximateCount()).thenReturn(new CountResultImpl(1, true));
+
+    given().contentType(POST_JSON_CONTENT_TYPE).body(EMPTY_JSON_OBJECT)
+      .header("accept", MediaType.APPLICATION_JSON)
+    .expect()
+      .statusCode(Status.OK.getStatusCode())
+      .body("count", equalTo(1))
+      .body("exact", equalTo(true))
+    .when()
+      .post(TASK_COUNT_QUERY_URL + "/approximate");
+
+    verify(mockQuery).approximateCount();
+    verify(mockQuery, never()).count();
+  }
+
   @Test
   public void testQueryWithExpressions() {
     String testExpression = "${'test-%s'}";
@@ -41,6 +41,7 @@ import org.finos.fluxnova.bpm.engine.management.JobDefinition;
 import org.finos.fluxnova.bpm.engine.management.JobDefinitionQuery;
 import org.finos.fluxnova.bpm.engine.management.MetricsQuery;
 import org.finos.fluxnova.bpm.engine.management.ProcessDefinitionStatisticsQuery;
+import org.finos.fluxnova.bpm.engine.management.QueryShapeStatistics;
 import org.finos.fluxnova.bpm.engine.management.SchemaLogQuery;
 import org.finos.fluxnova.bpm.engine.management.SetJobRetriesBuilder;
 import org.finos.fluxnova.bpm.engine.management.SetJobRetriesByJobsAsyncBuilder;
@@ -1446,4 +1447,27 @@ public interface ManagementService {
    */
   TelemetryData getTelemetryData();
 
+  /**
+   * Returns the statistics of the recorded query shapes with the highest total execution time,
+   * slowest first, together with the indexes suggested for them. Queries are only recorded if
+   * <code>queryShapeStatisticsEnabled</code> is set in the process engine configuration; by
+   * default, the task and process instance queries are recorded.
+   *
+   * @param maxResults the maximum number of shapes to return
+   *
+   * @throws ProcessEngineException
+   *          If maxResults is negative.
+   * @throws AuthorizationException
+   *          If the user is not a member of the group {@link Groups#CAMUNDA_ADMIN}.
+   */
+  List<QueryShapeStatistics> getSlowestQueryShapes(int maxResults);
+
+  /**
+   * Discards the statistics of all recorded query shapes.
+   *
+   * @throws AuthorizationException
+   *          If the user is not a member of the group {@link Groups#CAMUNDA_ADMIN}.
+   */
+  void clearQueryShapeStatistics();
+
 }
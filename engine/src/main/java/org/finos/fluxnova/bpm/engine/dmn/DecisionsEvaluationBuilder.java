@@ -16,6 +16,7 @@
  */
 package org.finos.fluxnova.bpm.engine.dmn;
 
+import java.util.List;
 import java.util.Map;
 
 import org.finos.fluxnova.bpm.dmn.engine.DmnDecisionResult;
@@ -70,4 +71,25 @@ public interface DecisionsEvaluationBuilder {
    */
   DmnDecisionResult evaluate();
 
+  /**
+   * Evaluates the decision for a batch of input values in one command. The decision
+   * definition is resolved and the authorization is checked once for the whole batch,
+   * the history is recorded per evaluation as for {@link #evaluate()}.
+   * The input values set by {@link #variables(Map)} are ignored.
+   *
+   * @param variablesBatch the input values of each evaluation
+   * @return the results of the evaluations, in the order of the input values
+   *
+   * @throws NotFoundException
+   *           when no decision definition is deployed with the given id / key.
+   *
+   * @throws NotValidException
+   *           when the given decision definition id / key is null.
+   *
+   * @throws AuthorizationException
+   *           if the user has no {@link Permissions#CREATE_INSTANCE} permission
+   *           on {@link Resources#DECISION_DEFINITION}.
+   */
+  List<DmnDecisionResult> evaluateBatch(List<? extends Map<String, Object>> variablesBatch);
+
 }
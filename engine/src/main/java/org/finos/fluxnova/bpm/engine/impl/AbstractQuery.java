@@ -28,17 +28,22 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Consumer;
 
 import org.finos.fluxnova.bpm.engine.ProcessEngineException;
 import org.finos.fluxnova.bpm.engine.exception.NotValidException;
 import org.finos.fluxnova.bpm.engine.impl.QueryValidators.AdhocQueryValidator;
 import org.finos.fluxnova.bpm.engine.impl.context.Context;
 import org.finos.fluxnova.bpm.engine.impl.db.ListQueryParameterObject;
+import org.finos.fluxnova.bpm.engine.impl.db.sql.DbSqlSession;
+import org.finos.fluxnova.bpm.engine.impl.db.sql.QueryCountCache;
+import org.finos.fluxnova.bpm.engine.impl.db.sql.QueryCountCache.CountLookup;
 import org.finos.fluxnova.bpm.engine.impl.interceptor.Command;
 import org.finos.fluxnova.bpm.engine.impl.interceptor.CommandContext;
 import org.finos.fluxnova.bpm.engine.impl.interceptor.CommandExecutor;
 import org.finos.fluxnova.bpm.engine.impl.util.ImmutablePair;
 import org.finos.fluxnova.bpm.engine.impl.util.QueryMaxResultsLimitUtil;
+import org.finos.fluxnova.bpm.engine.query.CountResult;
 import org.finos.fluxnova.bpm.engine.query.Query;
 import org.finos.fluxnova.bpm.engine.query.QueryProperty;
 import org.joda.time.DateTime;
@@ -57,18 +62,23 @@ public abstract class AbstractQuery<T extends Query<?,?>, U> extends ListQueryPa
   public static final String SORTORDER_DESC = "desc";
 
   protected enum ResultType {
-    LIST, LIST_PAGE, LIST_IDS, LIST_DEPLOYMENT_ID_MAPPINGS, SINGLE_RESULT, COUNT
+    LIST, LIST_PAGE, LIST_IDS, LIST_DEPLOYMENT_ID_MAPPINGS, SINGLE_RESULT, COUNT, APPROXIMATE_COUNT, STREAM
   }
   protected transient CommandExecutor commandExecutor;
 
   protected ResultType resultType;
 
+  protected transient Consumer<? super U> streamAction;
+
   protected Map<String, String> expressions = new HashMap<>();
 
   protected Set<Validator<AbstractQuery<?, ?>>> validators = new HashSet<>();
 
   protected boolean maxResultsLimitEnabled;
 
+  /** id of the last result of the previous page when paginating by keyset */
+  protected String idAfter;
+
   protected AbstractQuery() {
   }
 
@@ -150,6 +160,48 @@ public abstract class AbstractQuery<T extends Query<?,?>, U> extends ListQueryPa
     return (List<U>) executeResult(resultType);
   }
 
+  public List<U> listAfter(String cursor, int maxResults) {
+    if (!isKeysetPaginationSupported()) {
+      throw new NotValidException("Invalid query: keyset pagination is not supported by " + getClass().getSimpleName());
+    }
+    if (!orderingProperties.isEmpty()) {
+      throw new NotValidException("Invalid query: listAfter() orders the results by id and cannot be combined with orderByXX()");
+    }
+
+    this.idAfter = cursor;
+    try {
+      return listPage(0, maxResults);
+    } finally {
+      this.idAfter = null;
+    }
+  }
+
+  public void forEach(Consumer<? super U> action) {
+    ensureNotNull("action", action);
+
+    this.firstResult = 0;
+    this.maxResults = Integer.MAX_VALUE;
+    this.resultType = ResultType.STREAM;
+    this.streamAction = action;
+    try {
+      if (commandExecutor != null) {
+        commandExecutor.execute(this);
+      } else {
+        evaluateExpressionsAndExecuteStream(Context.getCommandContext(), action);
+      }
+    } finally {
+      this.streamAction = null;
+    }
+  }
+
+  /**
+   * Whether the mapped criteria of this query restrict the results to ids greater
+   * than {@link #getIdAfter()}, which is required by {@link #listAfter(String, int)}.
+   */
+  protected boolean isKeysetPaginationSupported() {
+    return false;
+  }
+
   public Object executeResult(ResultType resultType) {
 
     if (commandExecutor != null) {
@@ -179,6 +231,14 @@ public abstract class AbstractQuery<T extends Query<?,?>, U> extends ListQueryPa
     return evaluateExpressionsAndExecuteCount(Context.getCommandContext());
   }
 
+  public CountResult approximateCount() {
+    this.resultType = ResultType.APPROXIMATE_COUNT;
+    if (commandExecutor != null) {
+      return (CountResult) commandExecutor.execute(this);
+    }
+    return evaluateExpressionsAndExecuteApproximateCount(Context.getCommandContext());
+  }
+
   @SuppressWarnings("unchecked")
   public List<U> unlimitedList() {
     this.resultType = ResultType.LIST;
@@ -199,6 +259,11 @@ public abstract class AbstractQuery<T extends Query<?,?>, U> extends ListQueryPa
       return evaluateExpressionsAndExecuteIdsList(commandContext);
     } else if (resultType == ResultType.LIST_DEPLOYMENT_ID_MAPPINGS) {
       return evaluateExpressionsAndExecuteDeploymentIdMappingsList(commandContext);
+    } else if (resultType == ResultType.APPROXIMATE_COUNT) {
+      return evaluateExpressionsAndExecuteApproximateCount(commandContext);
+    } else if (resultType == ResultType.STREAM) {
+      evaluateExpressionsAndExecuteStream(commandContext, streamAction);
+      return null;
     } else {
       return evaluateExpressionsAndExecuteCount(commandContext);
     }
@@ -212,6 +277,33 @@ public abstract class AbstractQuery<T extends Query<?,?>, U> extends ListQueryPa
 
   public abstract long executeCount(CommandContext commandContext);
 
+  /**
+   * Counts the query like {@link #evaluateExpressionsAndExecuteCount(CommandContext)}, but lets the
+   * query count cache serve or estimate the result of the count statement.
+   */
+  public CountResult evaluateExpressionsAndExecuteApproximateCount(CommandContext commandContext) {
+    QueryCountCache queryCountCache = commandContext.getProcessEngineConfiguration().getQueryCountCache();
+    CountLookup countLookup = queryCountCache.createLookup(getQueryName());
+
+    DbSqlSession dbSqlSession = commandContext.getDbSqlSession();
+    dbSqlSession.setCountLookup(countLookup);
+    try {
+      long count = evaluateExpressionsAndExecuteCount(commandContext);
+      return new CountResultImpl(count, countLookup.isExact());
+    } finally {
+      dbSqlSession.setCountLookup(null);
+    }
+  }
+
+  /**
+   * @return the name of the query interface, e.g. <code>TaskQuery</code>, which is used to
+   * configure the time to live of cached counts per query
+   */
+  protected String getQueryName() {
+    String className = getClass().getSimpleName();
+    return className.endsWith("Impl") ? className.substring(0, className.length() - "Impl".length()) : className;
+  }
+
   public List<U> evaluateExpressionsAndExecuteList(CommandContext commandContext, Page page) {
     checkMaxResultsLimit();
     validate();
@@ -219,6 +311,22 @@ public abstract class AbstractQuery<T extends Query<?,?>, U> extends ListQueryPa
     return !hasExcludingConditions() ? executeList(commandContext, page) : new ArrayList<>();
   }
 
+  public void evaluateExpressionsAndExecuteStream(CommandContext commandContext, Consumer<? super U> action) {
+    validate();
+    evaluateExpressions();
+    if (!hasExcludingConditions()) {
+      executeStream(commandContext, action);
+    }
+  }
+
+  /**
+   * Executes the actual query and passes the results to the action while they are read
+   * from the database. Queries that support streaming override this method.
+   */
+  public void executeStream(CommandContext commandContext, Consumer<? super U> action) {
+    throw new NotValidException("Invalid query: streaming is not supported by " + getClass().getSimpleName());
+  }
+
   /**
    * Whether or not the query has excluding conditions. If the query has excluding conditions,
    * (e.g. task due date before and after are excluding), the SQL query is avoided and a default result is
@@ -417,4 +525,8 @@ public abstract class AbstractQuery<T extends Query<?,?>, U> extends ListQueryPa
     maxResultsLimitEnabled = false;
   }
 
+  public String getIdAfter() {
+    return idAfter;
+  }
+
 }
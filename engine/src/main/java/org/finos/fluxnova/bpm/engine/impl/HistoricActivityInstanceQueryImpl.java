@@ -20,6 +20,7 @@ import static org.finos.fluxnova.bpm.engine.impl.util.EnsureUtil.ensureNotNull;
 
 import java.util.Date;
 import java.util.List;
+import java.util.function.Consumer;
 
 import org.finos.fluxnova.bpm.engine.ProcessEngineException;
 import org.finos.fluxnova.bpm.engine.history.HistoricActivityInstance;
@@ -62,6 +63,19 @@ public class HistoricActivityInstanceQueryImpl extends AbstractQuery<HistoricAct
     super(commandExecutor);
   }
 
+  @Override
+  public void executeStream(CommandContext commandContext, Consumer<? super HistoricActivityInstance> action) {
+    checkQueryOk();
+    commandContext
+      .getHistoricActivityInstanceManager()
+      .streamHistoricActivityInstancesByQueryCriteria(this, action);
+  }
+
+  @Override
+  protected boolean isKeysetPaginationSupported() {
+    return true;
+  }
+
   @Override
   public long executeCount(CommandContext commandContext) {
     checkQueryOk();
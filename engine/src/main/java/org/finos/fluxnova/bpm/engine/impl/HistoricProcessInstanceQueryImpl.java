@@ -32,6 +32,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 import org.finos.fluxnova.bpm.engine.BadUserRequestException;
@@ -399,6 +400,20 @@ public class HistoricProcessInstanceQueryImpl extends AbstractVariableQueryImpl<
     return orderBy(HistoricProcessInstanceQueryProperty.TENANT_ID);
   }
 
+  @Override
+  public void executeStream(CommandContext commandContext, Consumer<? super HistoricProcessInstance> action) {
+    checkQueryOk();
+    ensureVariablesInitialized();
+    commandContext
+      .getHistoricProcessInstanceManager()
+      .streamHistoricProcessInstancesByQueryCriteria(this, action);
+  }
+
+  @Override
+  protected boolean isKeysetPaginationSupported() {
+    return true;
+  }
+
   public long executeCount(CommandContext commandContext) {
     checkQueryOk();
     ensureVariablesInitialized();
@@ -21,6 +21,7 @@ import static org.finos.fluxnova.bpm.engine.impl.util.EnsureUtil.ensureNotNull;
 import java.io.Serializable;
 import java.util.Date;
 import java.util.List;
+import java.util.function.Consumer;
 
 import org.finos.fluxnova.bpm.engine.impl.interceptor.CommandContext;
 import org.finos.fluxnova.bpm.engine.impl.interceptor.CommandExecutor;
@@ -210,6 +211,19 @@ public class IncidentQueryImpl extends AbstractQuery<IncidentQuery, Incident> im
 
   //results ////////////////////////////////////////////////////
 
+  @Override
+  public void executeStream(CommandContext commandContext, Consumer<? super Incident> action) {
+    checkQueryOk();
+    commandContext
+      .getIncidentManager()
+      .streamIncidentsByQueryCriteria(this, action);
+  }
+
+  @Override
+  protected boolean isKeysetPaginationSupported() {
+    return true;
+  }
+
   @Override
   public long executeCount(CommandContext commandContext) {
     checkQueryOk();
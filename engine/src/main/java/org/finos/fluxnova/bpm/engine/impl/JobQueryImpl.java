@@ -24,6 +24,7 @@ import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Consumer;
 
 import org.finos.fluxnova.bpm.engine.ProcessEngineException;
 import org.finos.fluxnova.bpm.engine.impl.interceptor.CommandContext;
@@ -346,6 +347,19 @@ public class JobQueryImpl extends AbstractQuery<JobQuery, Job> implements JobQue
 
   //results //////////////////////////////////////////
 
+  @Override
+  public void executeStream(CommandContext commandContext, Consumer<? super Job> action) {
+    checkQueryOk();
+    commandContext
+      .getJobManager()
+      .streamJobsByQueryCriteria(this, action);
+  }
+
+  @Override
+  protected boolean isKeysetPaginationSupported() {
+    return true;
+  }
+
   @Override
   public long executeCount(CommandContext commandContext) {
     checkQueryOk();
@@ -37,6 +37,7 @@ import org.finos.fluxnova.bpm.engine.impl.batch.DeleteBatchCmd;
 import org.finos.fluxnova.bpm.engine.impl.cfg.CommandChecker;
 import org.finos.fluxnova.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.finos.fluxnova.bpm.engine.impl.cmd.ActivateBatchCmd;
+import org.finos.fluxnova.bpm.engine.impl.cmd.ClearQueryShapeStatisticsCmd;
 import org.finos.fluxnova.bpm.engine.impl.cmd.DeleteJobCmd;
 import org.finos.fluxnova.bpm.engine.impl.cmd.DeleteLicenseKeyCmd;
 import org.finos.fluxnova.bpm.engine.impl.cmd.DeleteMetricsCmd;
@@ -49,6 +50,7 @@ import org.finos.fluxnova.bpm.engine.impl.cmd.GetProcessApplicationForDeployment
 import org.finos.fluxnova.bpm.engine.impl.cmd.GetPropertiesCmd;
 import org.finos.fluxnova.bpm.engine.impl.cmd.GetTableCountCmd;
 import org.finos.fluxnova.bpm.engine.impl.cmd.GetTableMetaDataCmd;
+import org.finos.fluxnova.bpm.engine.impl.cmd.GetSlowestQueryShapesCmd;
 import org.finos.fluxnova.bpm.engine.impl.cmd.GetTableNameCmd;
 import org.finos.fluxnova.bpm.engine.impl.cmd.GetTelemetryDataCmd;
 import org.finos.fluxnova.bpm.engine.impl.cmd.GetUniqueTaskWorkerCountCmd;
@@ -88,6 +90,7 @@ import org.finos.fluxnova.bpm.engine.management.DeploymentStatisticsQuery;
 import org.finos.fluxnova.bpm.engine.management.JobDefinitionQuery;
 import org.finos.fluxnova.bpm.engine.management.MetricsQuery;
 import org.finos.fluxnova.bpm.engine.management.ProcessDefinitionStatisticsQuery;
+import org.finos.fluxnova.bpm.engine.management.QueryShapeStatistics;
 import org.finos.fluxnova.bpm.engine.management.SchemaLogQuery;
 import org.finos.fluxnova.bpm.engine.management.SetJobRetriesByJobsAsyncBuilder;
 import org.finos.fluxnova.bpm.engine.management.SetJobRetriesByProcessAsyncBuilder;
@@ -675,6 +678,16 @@ public class ManagementServiceImpl extends ServiceImpl implements ManagementServ
     return commandExecutor.execute(new GetTelemetryDataCmd());
   }
 
+  @Override
+  public List<QueryShapeStatistics> getSlowestQueryShapes(int maxResults) {
+    return commandExecutor.execute(new GetSlowestQueryShapesCmd(maxResults));
+  }
+
+  @Override
+  public void clearQueryShapeStatistics() {
+    commandExecutor.execute(new ClearQueryShapeStatisticsCmd());
+  }
+
   /**
    * Adds the web application name to the telemetry data of the engine.
    *
@@ -22,8 +22,11 @@ import static org.finos.fluxnova.bpm.engine.impl.util.EnsureUtil.ensureNotNull;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Consumer;
 
 import org.finos.fluxnova.bpm.engine.ProcessEngineException;
 import org.finos.fluxnova.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
@@ -31,6 +34,7 @@ import org.finos.fluxnova.bpm.engine.impl.context.Context;
 import org.finos.fluxnova.bpm.engine.impl.interceptor.CommandContext;
 import org.finos.fluxnova.bpm.engine.impl.interceptor.CommandExecutor;
 import org.finos.fluxnova.bpm.engine.impl.persistence.entity.SuspensionState;
+import org.finos.fluxnova.bpm.engine.impl.persistence.entity.VariableSearchManager;
 import org.finos.fluxnova.bpm.engine.impl.util.ImmutablePair;
 import org.finos.fluxnova.bpm.engine.impl.variable.serializer.VariableSerializers;
 import org.finos.fluxnova.bpm.engine.runtime.ProcessInstance;
@@ -75,6 +79,9 @@ public class ProcessInstanceQueryImpl extends AbstractVariableQueryImpl<ProcessI
   protected String[] tenantIds;
   protected boolean isProcessDefinitionWithoutTenantId = false;
 
+  // deployment id mappings page /////////////
+  protected Date startedNotAfter;
+
   // or query /////////////////////////////
   protected List<ProcessInstanceQueryImpl> queries = new ArrayList<>(Arrays.asList(this));
   protected boolean isOrQueryActive = false;
@@ -312,6 +319,19 @@ public class ProcessInstanceQueryImpl extends AbstractVariableQueryImpl<ProcessI
     super.checkQueryOk();
   }
 
+  @Override
+  public void executeStream(CommandContext commandContext, Consumer<? super ProcessInstance> action) {
+    checkQueryOk();
+    commandContext
+      .getExecutionManager()
+      .streamProcessInstancesByQueryCriteria(this, action);
+  }
+
+  @Override
+  protected boolean isKeysetPaginationSupported() {
+    return true;
+  }
+
   @Override
   public long executeCount(CommandContext commandContext) {
     checkQueryOk();
@@ -347,10 +367,37 @@ public class ProcessInstanceQueryImpl extends AbstractVariableQueryImpl<ProcessI
       .findDeploymentIdMappingsByQueryCriteria(this);
   }
 
+  /**
+   * Returns the deployment id mappings of at most <code>maxResults</code> process instances
+   * whose ids are greater than <code>idAfter</code>, ordered by process instance id. Passing
+   * the id of the last returned mapping as <code>idAfter</code> fetches the next page.
+   * <p>
+   * Process instances whose historic process instance started after <code>startedNotAfter</code>
+   * are excluded. As the runtime executions have no start time, process instances without
+   * history, e.g. with history level <code>none</code>, are not restricted.
+   */
+  public List<ImmutablePair<String, String>> executeDeploymentIdMappingsPage(CommandContext commandContext, String idAfter,
+                                                                             Date startedNotAfter, int maxResults) {
+    checkQueryOk();
+
+    this.idAfter = idAfter;
+    this.startedNotAfter = startedNotAfter;
+    this.maxResults = maxResults;
+
+    return commandContext
+      .getExecutionManager()
+      .findDeploymentIdMappingsPageByQueryCriteria(this);
+  }
+
   @Override
   protected void ensureVariablesInitialized() {
     super.ensureVariablesInitialized();
 
+    Set<String> searchableVariableNames = hasVariables() ? findSearchableVariableNames() : Collections.<String>emptySet();
+    for (QueryVariableValue var : queryVariableValues) {
+      var.initializeSearchable(searchableVariableNames);
+    }
+
     if (!queries.isEmpty()) {
       ProcessEngineConfigurationImpl processEngineConfiguration = Context.getProcessEngineConfiguration();
       VariableSerializers variableSerializers = processEngineConfiguration.getVariableSerializers();
@@ -359,11 +406,37 @@ public class ProcessInstanceQueryImpl extends AbstractVariableQueryImpl<ProcessI
       for (ProcessInstanceQueryImpl orQuery: queries) {
         for (QueryVariableValue var : orQuery.getQueryVariableValues()) {
           var.initialize(variableSerializers, dbType);
+          // the definition restriction of this query applies to the or-queries as well
+          var.initializeSearchable(searchableVariableNames);
         }
       }
     }
   }
 
+  protected boolean hasVariables() {
+    // contains this query as well
+    for (ProcessInstanceQueryImpl query : queries) {
+      if (!query.getQueryVariableValues().isEmpty()) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * @return the variables which are searchable in all process definitions
+   * this query is restricted to, see {@link VariableSearchManager}
+   */
+  protected Set<String> findSearchableVariableNames() {
+    CommandContext commandContext = Context.getCommandContext();
+    if (commandContext == null) {
+      return Collections.emptySet();
+    }
+    return commandContext
+      .getVariableSearchManager()
+      .findSearchableVariableNames(processDefinitionId, processDefinitionKey);
+  }
+
   //getters /////////////////////////////////////////////////////////////////
 
   public String getProcessInstanceId() {
@@ -491,6 +564,10 @@ public class ProcessInstanceQueryImpl extends AbstractVariableQueryImpl<ProcessI
     return tenantIds;
   }
 
+  public Date getStartedNotAfter() {
+    return startedNotAfter;
+  }
+
   @Override
   public ProcessInstanceQuery or() {
     if (this != queries.get(0)) {
@@ -19,7 +19,9 @@ package org.finos.fluxnova.bpm.engine.impl;
 import java.io.Serializable;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 
+import org.finos.fluxnova.bpm.engine.impl.persistence.entity.VariableSearchEntity;
 import org.finos.fluxnova.bpm.engine.impl.variable.serializer.VariableSerializers;
 import org.finos.fluxnova.bpm.engine.variable.Variables;
 import org.finos.fluxnova.bpm.engine.variable.value.TypedValue;
@@ -42,6 +44,9 @@ public class QueryVariableValue implements Serializable {
   protected boolean variableNameIgnoreCase;
   protected boolean variableValueIgnoreCase;
 
+  protected boolean searchable;
+  protected String searchTextPrefix;
+
   public QueryVariableValue(String name, Object value, QueryOperator operator, boolean local) {
     this(name, value, operator, local, false, false);
   }
@@ -65,6 +70,44 @@ public class QueryVariableValue implements Serializable {
     valueCondition.initializeValue(serializers, dbType);
   }
 
+  /**
+   * Decides whether this value is looked up in the variable search table,
+   * which is the case if its variable is searchable in all process definitions
+   * the query is restricted to. Must be called after {@link #initialize}.
+   *
+   * @param searchableVariableNames the variables which are searchable in all
+   *   process definitions the query is restricted to
+   */
+  public void initializeSearchable(Set<String> searchableVariableNames) {
+    searchable = !variableNameIgnoreCase
+        && isSearchableScope()
+        && searchableVariableNames.contains(name);
+    searchTextPrefix = null;
+
+    if (searchable && getOperator() == QueryOperator.EQUALS && !variableValueIgnoreCase) {
+      List<SingleQueryVariableValueCondition> conditions = getValueConditions();
+      if (conditions.size() == 1) {
+        SingleQueryVariableValueCondition condition = conditions.get(0);
+        String textValue = condition.getTextValue();
+        if (textValue != null && !textValue.isEmpty()
+            && condition.getLongValue() == null
+            && condition.getDoubleValue() == null
+            && !condition.getFindNulledEmptyStrings()) {
+          // narrows the lookup to the indexed prefix, the full value is still compared
+          searchTextPrefix = VariableSearchEntity.getTextPrefix(textValue);
+        }
+      }
+    }
+  }
+
+  /**
+   * @return whether the variables matched by this value are kept in the
+   * variable search table when they are searchable
+   */
+  protected boolean isSearchableScope() {
+    return true;
+  }
+
   public List<SingleQueryVariableValueCondition> getValueConditions() {
     return valueCondition.getDisjunctiveConditions();
   }
@@ -113,6 +156,22 @@ public class QueryVariableValue implements Serializable {
     this.variableValueIgnoreCase = variableValueIgnoreCase;
   }
 
+  public boolean isSearchable() {
+    return searchable;
+  }
+
+  public void setSearchable(boolean searchable) {
+    this.searchable = searchable;
+  }
+
+  public String getSearchTextPrefix() {
+    return searchTextPrefix;
+  }
+
+  public void setSearchTextPrefix(String searchTextPrefix) {
+    this.searchTextPrefix = searchTextPrefix;
+  }
+
   @Override
   public boolean equals(Object o) {
     if (this == o)
@@ -29,6 +29,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Consumer;
 
 import org.finos.fluxnova.bpm.engine.ProcessEngineException;
 import org.finos.fluxnova.bpm.engine.identity.Group;
@@ -38,6 +39,7 @@ import org.finos.fluxnova.bpm.engine.impl.interceptor.CommandContext;
 import org.finos.fluxnova.bpm.engine.impl.interceptor.CommandExecutor;
 import org.finos.fluxnova.bpm.engine.impl.persistence.entity.SuspensionState;
 import org.finos.fluxnova.bpm.engine.impl.persistence.entity.TaskEntity;
+import org.finos.fluxnova.bpm.engine.impl.persistence.entity.VariableSearchManager;
 import org.finos.fluxnova.bpm.engine.impl.util.CompareUtil;
 import org.finos.fluxnova.bpm.engine.impl.variable.serializer.VariableSerializers;
 import org.finos.fluxnova.bpm.engine.task.DelegationState;
@@ -1235,19 +1237,47 @@ public class TaskQueryImpl extends AbstractQuery<TaskQuery, Task> implements Tas
     ProcessEngineConfigurationImpl processEngineConfiguration = Context.getProcessEngineConfiguration();
     VariableSerializers variableSerializers = processEngineConfiguration.getVariableSerializers();
     String dbType = processEngineConfiguration.getDatabaseType();
+    Set<String> searchableVariableNames = hasVariables() ? findSearchableVariableNames() : Collections.<String>emptySet();
     for(QueryVariableValue var : variables) {
       var.initialize(variableSerializers, dbType);
+      var.initializeSearchable(searchableVariableNames);
     }
 
     if (!queries.isEmpty()) {
       for (TaskQueryImpl orQuery: queries) {
         for (QueryVariableValue var : orQuery.variables) {
           var.initialize(variableSerializers, dbType);
+          // the definition restriction of this query applies to the or-queries as well
+          var.initializeSearchable(searchableVariableNames);
         }
       }
     }
   }
 
+  protected boolean hasVariables() {
+    // contains this query as well
+    for (TaskQueryImpl query : queries) {
+      if (!query.variables.isEmpty()) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * @return the variables which are searchable in all process definitions
+   * this query is restricted to, see {@link VariableSearchManager}
+   */
+  protected Set<String> findSearchableVariableNames() {
+    CommandContext commandContext = Context.getCommandContext();
+    if (commandContext == null) {
+      return Collections.emptySet();
+    }
+    return commandContext
+      .getVariableSearchManager()
+      .findSearchableVariableNames(processDefinitionId, processDefinitionKey);
+  }
+
   protected void ensureNotInOrQuery(String methodName) {
     if (isOrQueryActive) {
       throw new ProcessEngineException(String.format("Invalid query usage: cannot set %s within 'or' query", methodName));
@@ -1473,6 +1503,42 @@ public class TaskQueryImpl extends AbstractQuery<TaskQuery, Task> implements Tas
     return taskList;
   }
 
+  @Override
+  public void executeStream(CommandContext commandContext, Consumer<? super Task> action) {
+    ensureOrExpressionsEvaluated();
+    ensureVariablesInitialized();
+    checkQueryOk();
+
+    resetCachedCandidateGroups();
+
+    //check if candidateGroup and candidateGroups intersect
+    if (getCandidateGroup() != null && getCandidateGroupsInternal() != null && getCandidateGroups().isEmpty()) {
+      return;
+    }
+
+    decideAuthorizationJoinType(commandContext);
+
+    boolean initializeAttachmentAndComments = withCommentAttachmentInfo
+        && !Context.getProcessEngineConfiguration().getHistoryLevel().equals(HistoryLevel.HISTORY_LEVEL_NONE);
+
+    commandContext
+      .getTaskManager()
+      .streamTasksByQueryCriteria(this, task -> {
+        if (initializeFormKeys) {
+          ((TaskEntity) task).initializeFormKey();
+        }
+        if (initializeAttachmentAndComments) {
+          ((TaskEntity) task).initializeAttachmentAndComments();
+        }
+        action.accept(task);
+      });
+  }
+
+  @Override
+  protected boolean isKeysetPaginationSupported() {
+    return true;
+  }
+
   @Override
   public long executeCount(CommandContext commandContext) {
     ensureOrExpressionsEvaluated();
@@ -54,4 +54,10 @@ public class TaskQueryVariableValue extends QueryVariableValue {
   public boolean isProcessInstanceVariable() {
     return isProcessInstanceVariable;
   }
+
+  @Override
+  protected boolean isSearchableScope() {
+    // case instance variables are never searchable
+    return local || isProcessInstanceVariable;
+  }
 }
\ No newline at end of file
@@ -17,10 +17,14 @@
 package org.finos.fluxnova.bpm.engine.impl.batch;
 
 import com.google.gson.JsonElement;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Date;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import org.finos.fluxnova.bpm.engine.IdentityService;
 import org.finos.fluxnova.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.finos.fluxnova.bpm.engine.impl.context.Context;
 import org.finos.fluxnova.bpm.engine.impl.db.DbEntity;
@@ -28,6 +32,7 @@ import org.finos.fluxnova.bpm.engine.impl.db.entitymanager.OptimisticLockingList
 import org.finos.fluxnova.bpm.engine.impl.db.entitymanager.OptimisticLockingResult;
 import org.finos.fluxnova.bpm.engine.impl.db.entitymanager.operation.DbEntityOperation;
 import org.finos.fluxnova.bpm.engine.impl.db.entitymanager.operation.DbOperation;
+import org.finos.fluxnova.bpm.engine.impl.identity.Authentication;
 import org.finos.fluxnova.bpm.engine.impl.interceptor.CommandContext;
 import org.finos.fluxnova.bpm.engine.impl.jobexecutor.JobDeclaration;
 import org.finos.fluxnova.bpm.engine.impl.persistence.entity.ByteArrayEntity;
@@ -37,6 +42,7 @@ import org.finos.fluxnova.bpm.engine.impl.persistence.entity.JobEntity;
 import org.finos.fluxnova.bpm.engine.impl.persistence.entity.JobManager;
 import org.finos.fluxnova.bpm.engine.impl.persistence.entity.MessageEntity;
 import org.finos.fluxnova.bpm.engine.impl.util.ClockUtil;
+import org.finos.fluxnova.bpm.engine.impl.util.ImmutablePair;
 import org.finos.fluxnova.bpm.engine.impl.util.JsonUtil;
 
 /**
@@ -59,6 +65,15 @@ public abstract class AbstractBatchJobHandler<T extends BatchConfiguration> impl
 
     List<String> ids = configuration.getIds();
 
+    if (!deploymentAware && ids.isEmpty()) {
+      if (isQueryDriven(configuration)) {
+        // the ids of query-driven batches are resolved page by page
+        return createJobsForNextQueryPage(batch, configuration);
+      }
+      // the ids of large batches are stored in chunks, see BatchBuilder
+      return createJobsForNextChunk(batch, configuration);
+    }
+
     if (deploymentAware) {
       sanitizeMappings(idMappings, ids);
       DeploymentMapping mappingToProcess = idMappings.get(0);
@@ -89,6 +104,97 @@ public abstract class AbstractBatchJobHandler<T extends BatchConfiguration> impl
     return deploymentAware ? idMappings.isEmpty() : ids.isEmpty();
   }
 
+  /**
+   * Creates the jobs for the next chunk of ids of the batch and removes the chunk.
+   * The batch configuration itself is not rewritten.
+   *
+   * @return true if no chunks are left to process
+   */
+  protected boolean createJobsForNextChunk(BatchEntity batch, T configuration) {
+    List<BatchChunkEntity> chunks = Context.getCommandContext()
+        .getBatchChunkManager()
+        .findNextBatchChunks(batch.getId());
+
+    if (chunks.isEmpty()) {
+      return true;
+    }
+
+    BatchChunkEntity chunk = chunks.get(0);
+    createJobEntities(batch, configuration, chunk.getDeploymentId(), chunk.getIds(), batch.getInvocationsPerBatchJob());
+    chunk.delete();
+
+    return chunks.size() == 1;
+  }
+
+  /**
+   * Creates the jobs for the next page of targets of a query-driven batch. The page
+   * starts after the query cursor of the configuration which is advanced afterwards.
+   * As the overall number of targets is not known up front, the total jobs of the
+   * batch grow with every page.
+   *
+   * @return true if the query has no more targets
+   */
+  protected boolean createJobsForNextQueryPage(BatchEntity batch, T configuration) {
+    CommandContext commandContext = Context.getCommandContext();
+    int pageSize = batch.getBatchJobsPerSeed() * batch.getInvocationsPerBatchJob();
+
+    // execute the query like it would have been executed when creating the batch
+    IdentityService identityService = commandContext.getProcessEngineConfiguration().getIdentityService();
+    Authentication currentAuthentication = identityService.getCurrentAuthentication();
+    List<ImmutablePair<String, String>> page;
+    try {
+      identityService.setAuthentication(configuration.getQueryAuthentication());
+      page = resolveQueryPage(commandContext, configuration, configuration.getQueryCursor(),
+          configuration.getQueryCutoff(), pageSize);
+    } finally {
+      identityService.setAuthentication(currentAuthentication);
+    }
+
+    // the jobs of a batch must not span deployments
+    Map<String, List<String>> idsByDeployment = new LinkedHashMap<>();
+    for (ImmutablePair<String, String> mapping : page) {
+      idsByDeployment.computeIfAbsent(mapping.getLeft(), deploymentId -> new ArrayList<>()).add(mapping.getRight());
+    }
+    idsByDeployment.forEach((deploymentId, ids) ->
+        createJobEntities(batch, configuration, deploymentId, ids, batch.getInvocationsPerBatchJob()));
+
+    if (!page.isEmpty()) {
+      configuration.setQueryCursor(page.get(page.size() - 1).getRight());
+      batch.setConfigurationBytes(writeConfiguration(configuration));
+    }
+
+    batch.setTotalJobs(batch.getJobsCreated());
+
+    boolean done = page.size() < pageSize;
+    if (done) {
+      batch.fireHistoricUpdateEvent();
+    }
+
+    return done;
+  }
+
+  /**
+   * @return true if the configuration stores a query to resolve the targets of
+   * the batch from instead of their ids
+   */
+  protected boolean isQueryDriven(T configuration) {
+    return false;
+  }
+
+  /**
+   * Resolves the next page of targets of a query-driven batch.
+   *
+   * @param idAfter the id of the last target of the previous page or null for the first page
+   * @param cutoff the creation time of the batch, targets created afterwards must not be resolved
+   * @param pageSize the maximum number of targets to resolve
+   *
+   * @return pairs of deployment id and target id, ordered by target id
+   */
+  protected List<ImmutablePair<String, String>> resolveQueryPage(CommandContext commandContext, T configuration,
+                                                                 String idAfter, Date cutoff, int pageSize) {
+    return Collections.emptyList();
+  }
+
   @Override
   public final void execute(final BatchJobConfiguration configuration,
                             final ExecutionEntity execution,
@@ -0,0 +1,52 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.finos.fluxnova.bpm.engine.impl.batch;
+
+import java.util.List;
+
+import org.finos.fluxnova.bpm.engine.impl.identity.Authentication;
+import org.finos.fluxnova.bpm.engine.impl.json.JsonObjectConverter;
+import org.finos.fluxnova.bpm.engine.impl.util.JsonUtil;
+
+import com.google.gson.JsonObject;
+
+public class AuthenticationJsonConverter extends JsonObjectConverter<Authentication> {
+
+  public static final AuthenticationJsonConverter INSTANCE = new AuthenticationJsonConverter();
+
+  protected static final String USER_ID = "userId";
+  protected static final String GROUP_IDS = "groupIds";
+  protected static final String TENANT_IDS = "tenantIds";
+
+  @Override
+  public JsonObject toJsonObject(Authentication authentication) {
+    JsonObject json = JsonUtil.createObject();
+    JsonUtil.addField(json, USER_ID, authentication.getUserId());
+    JsonUtil.addListField(json, GROUP_IDS, authentication.getGroupIds());
+    JsonUtil.addListField(json, TENANT_IDS, authentication.getTenantIds());
+    return json;
+  }
+
+  @Override
+  public Authentication toObject(JsonObject json) {
+    String userId = JsonUtil.getString(json, USER_ID, null);
+    List<String> groupIds = json.has(GROUP_IDS) ? JsonUtil.asStringList(JsonUtil.getArray(json, GROUP_IDS)) : null;
+    List<String> tenantIds = json.has(TENANT_IDS) ? JsonUtil.asStringList(JsonUtil.getArray(json, TENANT_IDS)) : null;
+    return new Authentication(userId, groupIds, tenantIds);
+  }
+
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.finos.fluxnova.bpm.engine.impl.batch;
+
+import java.util.List;
+
+import com.google.gson.JsonObject;
+import org.finos.fluxnova.bpm.engine.impl.context.Context;
+import org.finos.fluxnova.bpm.engine.impl.db.DbEntity;
+import org.finos.fluxnova.bpm.engine.impl.persistence.entity.Nameable;
+import org.finos.fluxnova.bpm.engine.impl.persistence.entity.util.ByteArrayField;
+import org.finos.fluxnova.bpm.engine.impl.util.JsonUtil;
+import org.finos.fluxnova.bpm.engine.repository.ResourceTypes;
+
+/**
+ * A slice of the instance ids of a batch which is processed by a single
+ * invocation of the batch seed job. Chunks are written once when the batch
+ * is created and deleted when their jobs have been created, so the seed job
+ * never rewrites the ids which are still pending.
+ */
+public class BatchChunkEntity implements DbEntity, Nameable {
+
+  protected static final String IDS = "ids";
+
+  // persistent
+  protected String id;
+  protected String batchId;
+  protected int sequence;
+  protected String deploymentId;
+  protected int size;
+
+  protected ByteArrayField ids = new ByteArrayField(this, ResourceTypes.RUNTIME);
+
+  public BatchChunkEntity() {
+  }
+
+  public BatchChunkEntity(String batchId, int sequence, String deploymentId) {
+    this.batchId = batchId;
+    this.sequence = sequence;
+    this.deploymentId = deploymentId;
+  }
+
+  @Override
+  public String getId() {
+    return id;
+  }
+
+  @Override
+  public void setId(String id) {
+    this.id = id;
+  }
+
+  @Override
+  public String getName() {
+    return batchId;
+  }
+
+  public String getBatchId() {
+    return batchId;
+  }
+
+  public void setBatchId(String batchId) {
+    this.batchId = batchId;
+  }
+
+  public int getSequence() {
+    return sequence;
+  }
+
+  public void setSequence(int sequence) {
+    this.sequence = sequence;
+  }
+
+  public String getDeploymentId() {
+    return deploymentId;
+  }
+
+  public void setDeploymentId(String deploymentId) {
+    this.deploymentId = deploymentId;
+  }
+
+  public int getSize() {
+    return size;
+  }
+
+  public void setSize(int size) {
+    this.size = size;
+  }
+
+  public String getIdsByteArrayId() {
+    return ids.getByteArrayId();
+  }
+
+  public void setIdsByteArrayId(String idsByteArrayId) {
+    ids.setByteArrayId(idsByteArrayId);
+  }
+
+  /**
+   * @return a modifiable list of the instance ids of this chunk
+   */
+  public List<String> getIds() {
+    JsonObject json = JsonUtil.asObject(ids.getByteArrayValue());
+    return JsonUtil.asStringList(JsonUtil.getArray(json, IDS));
+  }
+
+  public void setIds(List<String> instanceIds) {
+    JsonObject json = JsonUtil.createObject();
+    JsonUtil.addListField(json, IDS, instanceIds);
+
+    ids.setByteArrayValue(JsonUtil.asBytes(json));
+    size = instanceIds.size();
+  }
+
+  public void delete() {
+    Context.getCommandContext()
+      .getDbEntityManager()
+      .delete(this);
+
+    ids.deleteByteArrayValue();
+  }
+
+  @Override
+  public Object getPersistentState() {
+    // chunks are never updated
+    return BatchChunkEntity.class;
+  }
+
+  @Override
+  public String toString() {
+    return this.getClass().getSimpleName()
+        + "[id=" + id
+        + ", batchId=" + batchId
+        + ", sequence=" + sequence
+        + ", deploymentId=" + deploymentId
+        + ", size=" + size
+        + ", idsByteArrayId=" + ids.getByteArrayId()
+        + "]";
+  }
+
+}
@@ -16,8 +16,11 @@
  */
 package org.finos.fluxnova.bpm.engine.impl.batch;
 
+import java.util.Date;
 import java.util.List;
 
+import org.finos.fluxnova.bpm.engine.impl.identity.Authentication;
+
 
 public class BatchConfiguration {
 
@@ -26,6 +29,25 @@ public class BatchConfiguration {
   protected boolean failIfNotExists;
   protected String batchId;
 
+  /**
+   * The id of the last target resolved by a query-driven batch,
+   * the next page of targets starts after this id.
+   */
+  protected String queryCursor;
+
+  /**
+   * The authentication the query of a query-driven batch is executed with,
+   * i.e. the authentication present when the batch was created.
+   */
+  protected Authentication queryAuthentication;
+
+  /**
+   * The creation time of a query-driven batch. Targets created afterwards
+   * are not resolved, so that the batch only covers the targets that existed
+   * when it was created.
+   */
+  protected Date queryCutoff;
+
   public BatchConfiguration(List<String> ids) {
     this(ids, true);
   }
@@ -82,4 +104,28 @@ public class BatchConfiguration {
     this.batchId = batchId;
   }
 
+  public String getQueryCursor() {
+    return queryCursor;
+  }
+
+  public void setQueryCursor(String queryCursor) {
+    this.queryCursor = queryCursor;
+  }
+
+  public Authentication getQueryAuthentication() {
+    return queryAuthentication;
+  }
+
+  public void setQueryAuthentication(Authentication queryAuthentication) {
+    this.queryAuthentication = queryAuthentication;
+  }
+
+  public Date getQueryCutoff() {
+    return queryCutoff;
+  }
+
+  public void setQueryCutoff(Date queryCutoff) {
+    this.queryCutoff = queryCutoff;
+  }
+
 }
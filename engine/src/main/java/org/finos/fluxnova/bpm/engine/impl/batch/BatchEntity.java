@@ -266,6 +266,7 @@ public class BatchEntity implements Batch, DbEntity, HasDbReferences, Nameable,
   public Object getPersistentState() {
     HashMap<String, Object> persistentState = new HashMap<>();
     persistentState.put("jobsCreated", jobsCreated);
+    persistentState.put("totalJobs", totalJobs);
     persistentState.put("executionStartTime", executionStartTime);
     return persistentState;
   }
@@ -376,6 +377,7 @@ public class BatchEntity implements Batch, DbEntity, HasDbReferences, Nameable,
     jobDefinitionManager.delete(getMonitorJobDefinition());
     jobDefinitionManager.delete(getBatchJobDefinition());
 
+    commandContext.getBatchChunkManager().deleteBatchChunksByBatchId(id);
     commandContext.getBatchManager().delete(this);
     configuration.deleteByteArrayValue();
 
@@ -16,17 +16,22 @@
  */
 package org.finos.fluxnova.bpm.engine.impl.batch.builder;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import org.finos.fluxnova.bpm.engine.ProcessEngineException;
 import org.finos.fluxnova.bpm.engine.authorization.Permission;
 import org.finos.fluxnova.bpm.engine.batch.Batch;
+import org.finos.fluxnova.bpm.engine.impl.batch.BatchChunkEntity;
 import org.finos.fluxnova.bpm.engine.impl.batch.BatchConfiguration;
 import org.finos.fluxnova.bpm.engine.impl.batch.BatchEntity;
 import org.finos.fluxnova.bpm.engine.impl.batch.BatchJobHandler;
+import org.finos.fluxnova.bpm.engine.impl.batch.DeploymentMapping;
+import org.finos.fluxnova.bpm.engine.impl.batch.DeploymentMappings;
 import org.finos.fluxnova.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.finos.fluxnova.bpm.engine.impl.interceptor.CommandContext;
 import org.finos.fluxnova.bpm.engine.impl.jobexecutor.JobHandler;
+import org.finos.fluxnova.bpm.engine.impl.persistence.entity.BatchChunkManager;
 import org.finos.fluxnova.bpm.engine.impl.util.ClockUtil;
 
 public class BatchBuilder {
@@ -38,6 +43,7 @@ public class BatchBuilder {
   protected String type;
 
   protected Integer totalJobsCount;
+  protected boolean chunked;
 
   protected Permission permission;
   protected PermissionHandler permissionHandler;
@@ -135,7 +141,9 @@ public class BatchBuilder {
     batch.setTenantId(tenantId);
     batch.setStartTime(ClockUtil.getCurrentTime());
 
-    byte[] configAsBytes = jobHandler.writeConfiguration(config);
+    chunked = isChunked(engineConfig);
+
+    byte[] configAsBytes = chunked ? writeChunkedConfiguration(jobHandler) : jobHandler.writeConfiguration(config);
     batch.setConfigurationBytes(configAsBytes);
 
     setTotalJobs(batch, invocationPerBatchJobCount);
@@ -146,6 +154,33 @@ public class BatchBuilder {
     return batch;
   }
 
+  protected boolean isChunked(ProcessEngineConfigurationImpl engineConfig) {
+    int chunkThreshold = engineConfig.getBatchChunkThreshold();
+    return chunkThreshold > 0
+        && totalJobsCount == null
+        && config.getIds() != null
+        && config.getIds().size() > chunkThreshold;
+  }
+
+  /**
+   * Serializes the configuration without its instance ids and deployment mappings,
+   * these are stored in batch chunks instead (see {@link #saveChunks(BatchEntity)}).
+   */
+  @SuppressWarnings(value = "unchecked")
+  protected byte[] writeChunkedConfiguration(BatchJobHandler<?> jobHandler) {
+    List<String> ids = config.getIds();
+    DeploymentMappings idMappings = config.getIdMappings();
+
+    config.setIds(new ArrayList<>());
+    config.setIdMappings(new DeploymentMappings());
+    try {
+      return ((BatchJobHandler<BatchConfiguration>) jobHandler).writeConfiguration(config);
+    } finally {
+      config.setIds(ids);
+      config.setIdMappings(idMappings);
+    }
+  }
+
   protected void setTotalJobs(BatchEntity batch, int invocationPerBatchJobCount) {
     if (totalJobsCount != null) {
       batch.setTotalJobs(totalJobsCount);
@@ -163,6 +198,10 @@ public class BatchBuilder {
   protected void save(BatchEntity batch) {
     commandContext.getBatchManager().insertBatch(batch);
 
+    if (chunked) {
+      saveChunks(batch);
+    }
+
     String seedDeploymentId = null;
     if (config.getIdMappings() != null && !config.getIdMappings().isEmpty()) {
       seedDeploymentId = config.getIdMappings().get(0).getDeploymentId();
@@ -177,6 +216,44 @@ public class BatchBuilder {
     batch.createSeedJob();
   }
 
+  /**
+   * Splits the instance ids into chunks of the size processed by one seed job
+   * invocation. A chunk only contains ids of a single deployment.
+   */
+  protected void saveChunks(BatchEntity batch) {
+    int chunkSize = Math.max(1, batch.getBatchJobsPerSeed() * batch.getInvocationsPerBatchJob());
+
+    List<String> ids = config.getIds();
+    DeploymentMappings idMappings = config.getIdMappings();
+
+    if (idMappings == null || idMappings.isEmpty()) {
+      saveChunks(batch, null, ids, chunkSize, 0);
+
+    } else {
+      int offset = 0;
+      int sequence = 0;
+      for (DeploymentMapping idMapping : idMappings) {
+        List<String> deploymentIds = ids.subList(offset, offset + idMapping.getCount());
+        sequence = saveChunks(batch, idMapping.getDeploymentId(), deploymentIds, chunkSize, sequence);
+        offset += idMapping.getCount();
+      }
+    }
+  }
+
+  protected int saveChunks(BatchEntity batch, String deploymentId, List<String> ids, int chunkSize, int sequence) {
+    BatchChunkManager batchChunkManager = commandContext.getBatchChunkManager();
+
+    for (int fromIndex = 0; fromIndex < ids.size(); fromIndex += chunkSize) {
+      List<String> chunkIds = ids.subList(fromIndex, Math.min(fromIndex + chunkSize, ids.size()));
+
+      BatchChunkEntity chunk = new BatchChunkEntity(batch.getId(), sequence++, deploymentId);
+      chunk.setIds(chunkIds);
+      batchChunkManager.insertBatchChunk(chunk);
+    }
+
+    return sequence;
+  }
+
   protected void writeOperationLog() {
     if (operationLogInstanceCountHandler == null && operationLogHandler == null) {
       throw new ProcessEngineException("No operation log handler specified!");
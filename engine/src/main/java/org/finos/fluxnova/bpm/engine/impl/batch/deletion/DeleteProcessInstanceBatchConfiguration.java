@@ -20,6 +20,7 @@ import java.util.List;
 
 import org.finos.fluxnova.bpm.engine.impl.batch.BatchConfiguration;
 import org.finos.fluxnova.bpm.engine.impl.batch.DeploymentMappings;
+import org.finos.fluxnova.bpm.engine.runtime.ProcessInstanceQuery;
 
 /**
  * Configuration object that is passed to the Job that will actually perform execution of
@@ -37,6 +38,12 @@ public class DeleteProcessInstanceBatchConfiguration extends BatchConfiguration
   protected boolean skipSubprocesses;
   protected boolean skipIoMappings;
 
+  /**
+   * The query the process instances to delete are resolved from
+   * if they are not known when the batch is created.
+   */
+  protected ProcessInstanceQuery processInstanceQuery;
+
   public DeleteProcessInstanceBatchConfiguration(List<String> ids, DeploymentMappings mappings, boolean skipCustomListeners, boolean skipSubprocesses) {
     this(ids, mappings, null, skipCustomListeners, skipSubprocesses, true, false);
   }
@@ -83,4 +90,12 @@ public class DeleteProcessInstanceBatchConfiguration extends BatchConfiguration
     this.skipIoMappings = skipIoMappings;
   }
 
+  public ProcessInstanceQuery getProcessInstanceQuery() {
+    return processInstanceQuery;
+  }
+
+  public void setProcessInstanceQuery(ProcessInstanceQuery processInstanceQuery) {
+    this.processInstanceQuery = processInstanceQuery;
+  }
+
 }
@@ -16,11 +16,14 @@
  */
 package org.finos.fluxnova.bpm.engine.impl.batch.deletion;
 
+import java.util.Date;
 import java.util.List;
 
 import org.finos.fluxnova.bpm.engine.impl.batch.AbstractBatchConfigurationObjectConverter;
+import org.finos.fluxnova.bpm.engine.impl.batch.AuthenticationJsonConverter;
 import org.finos.fluxnova.bpm.engine.impl.batch.DeploymentMappingJsonConverter;
 import org.finos.fluxnova.bpm.engine.impl.batch.DeploymentMappings;
+import org.finos.fluxnova.bpm.engine.impl.json.JsonProcessInstanceQueryConverter;
 import org.finos.fluxnova.bpm.engine.impl.util.JsonUtil;
 
 import com.google.gson.JsonObject;
@@ -41,6 +44,10 @@ public class DeleteProcessInstanceBatchConfigurationJsonConverter
   public static final String SKIP_CUSTOM_LISTENERS = "skipCustomListeners";
   public static final String SKIP_SUBPROCESSES = "skipSubprocesses";
   public static final String SKIP_IO_MAPPINGS = "skipIoMappings";
+  public static final String PROCESS_INSTANCE_QUERY = "processInstanceQuery";
+  public static final String QUERY_CURSOR = "queryCursor";
+  public static final String QUERY_AUTHENTICATION = "queryAuthentication";
+  public static final String QUERY_CUTOFF = "queryCutoff";
 
   public static final String FAIL_IF_NOT_EXISTS = "failIfNotExists";
 
@@ -55,6 +62,10 @@ public class DeleteProcessInstanceBatchConfigurationJsonConverter
     JsonUtil.addField(json, SKIP_SUBPROCESSES, configuration.isSkipSubprocesses());
     JsonUtil.addField(json, FAIL_IF_NOT_EXISTS, configuration.isFailIfNotExists());
     JsonUtil.addField(json, SKIP_IO_MAPPINGS, configuration.isSkipIoMappings());
+    JsonUtil.addField(json, PROCESS_INSTANCE_QUERY, JsonProcessInstanceQueryConverter.INSTANCE, configuration.getProcessInstanceQuery());
+    JsonUtil.addField(json, QUERY_CURSOR, configuration.getQueryCursor());
+    JsonUtil.addField(json, QUERY_AUTHENTICATION, AuthenticationJsonConverter.INSTANCE, configuration.getQueryAuthentication());
+    JsonUtil.addDateField(json, QUERY_CUTOFF, configuration.getQueryCutoff());
 
     return json;
   }
@@ -77,6 +88,19 @@ public class DeleteProcessInstanceBatchConfigurationJsonConverter
       configuration.setDeleteReason(deleteReason);
     }
 
+    if (json.has(PROCESS_INSTANCE_QUERY)) {
+      configuration.setProcessInstanceQuery(
+          JsonProcessInstanceQueryConverter.INSTANCE.toObject(JsonUtil.getObject(json, PROCESS_INSTANCE_QUERY)));
+      configuration.setQueryCursor(JsonUtil.getString(json, QUERY_CURSOR, null));
+    }
+    if (json.has(QUERY_CUTOFF)) {
+      configuration.setQueryCutoff(new Date(JsonUtil.getLong(json, QUERY_CUTOFF)));
+    }
+    if (json.has(QUERY_AUTHENTICATION)) {
+      configuration.setQueryAuthentication(
+          AuthenticationJsonConverter.INSTANCE.toObject(JsonUtil.getObject(json, QUERY_AUTHENTICATION)));
+    }
+
     return configuration;
   }
 
@@ -16,6 +16,7 @@
  */
 package org.finos.fluxnova.bpm.engine.impl.batch.deletion;
 
+import java.util.Date;
 import java.util.HashSet;
 import java.util.List;
 import org.finos.fluxnova.bpm.engine.batch.Batch;
@@ -30,6 +31,7 @@ import org.finos.fluxnova.bpm.engine.impl.interceptor.CommandContext;
 import org.finos.fluxnova.bpm.engine.impl.jobexecutor.JobDeclaration;
 import org.finos.fluxnova.bpm.engine.impl.persistence.entity.ExecutionEntity;
 import org.finos.fluxnova.bpm.engine.impl.persistence.entity.MessageEntity;
+import org.finos.fluxnova.bpm.engine.impl.util.ImmutablePair;
 
 /**
  * @author Askar Akhmerov
@@ -65,6 +67,19 @@ public class DeleteProcessInstancesJobHandler extends AbstractBatchJobHandler<De
     );
   }
 
+  @Override
+  protected boolean isQueryDriven(DeleteProcessInstanceBatchConfiguration configuration) {
+    return configuration.getProcessInstanceQuery() != null;
+  }
+
+  @Override
+  protected List<ImmutablePair<String, String>> resolveQueryPage(CommandContext commandContext,
+                                                                 DeleteProcessInstanceBatchConfiguration configuration,
+                                                                 String idAfter, Date cutoff, int pageSize) {
+    ProcessInstanceQueryImpl query = (ProcessInstanceQueryImpl) configuration.getProcessInstanceQuery();
+    return query.executeDeploymentIdMappingsPage(commandContext, idAfter, cutoff, pageSize);
+  }
+
   @Override
   public void executeHandler(DeleteProcessInstanceBatchConfiguration batchConfiguration,
                              ExecutionEntity execution,
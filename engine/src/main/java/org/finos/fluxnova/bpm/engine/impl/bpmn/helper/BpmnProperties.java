@@ -19,6 +19,7 @@ package org.finos.fluxnova.bpm.engine.impl.bpmn.helper;
 import static org.finos.fluxnova.bpm.engine.impl.bpmn.parser.BpmnParse.PROPERTYNAME_HAS_CONDITIONAL_EVENTS;
 
 import java.util.Map;
+import java.util.Set;
 
 import org.finos.fluxnova.bpm.engine.impl.bpmn.parser.ConditionalEventDefinition;
 import org.finos.fluxnova.bpm.engine.impl.bpmn.parser.ErrorEventDefinition;
@@ -78,5 +79,15 @@ public class BpmnProperties {
 
   public static final PropertyKey<Map<String, String>> EXTENSION_PROPERTIES = new PropertyKey<>("extensionProperties");
 
+  /**
+   * Set on process definitions whose instances are expected to start and complete within one transaction.
+   */
+  public static final PropertyKey<Boolean> STRAIGHT_THROUGH = new PropertyKey<>("straightThrough");
+
+  /**
+   * Names of the process variables whose values are projected into the variable search table.
+   */
+  public static final PropertyKey<Set<String>> SEARCHABLE_VARIABLES = new PropertyKey<>("searchableVariables");
+
   public static final PropertyListKey<FluxnovaErrorEventDefinition> CAMUNDA_ERROR_EVENT_DEFINITION = new PropertyListKey<>("camundaErrorEventDefinition");
 }
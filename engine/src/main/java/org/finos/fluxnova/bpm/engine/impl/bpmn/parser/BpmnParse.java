@@ -32,8 +32,10 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import org.finos.fluxnova.bpm.engine.ActivityTypes;
 import org.finos.fluxnova.bpm.engine.BpmnParseException;
 import org.finos.fluxnova.bpm.engine.ProcessEngineException;
@@ -638,6 +640,9 @@ public class BpmnParse extends Parse {
     boolean isStartableInTasklist = isStartable(processElement);
     processDefinition.setStartableInTasklist(isStartableInTasklist);
 
+    processDefinition.getProperties().set(BpmnProperties.STRAIGHT_THROUGH, isStraightThrough(processElement));
+    processDefinition.getProperties().set(BpmnProperties.SEARCHABLE_VARIABLES, parseSearchableVariables(processElement));
+
     LOG.parsingElement("process", processDefinition.getKey());
 
     parseScope(processElement, processDefinition);
@@ -4746,6 +4751,20 @@ public class BpmnParse extends Parse {
     return TRUE.equalsIgnoreCase(element.attributeNS(CAMUNDA_BPMN_EXTENSIONS_NS, "isStartableInTasklist", TRUE));
   }
 
+  protected boolean isStraightThrough(Element element) {
+    return TRUE.equalsIgnoreCase(element.attributeNS(CAMUNDA_BPMN_EXTENSIONS_NS, "straightThrough"));
+  }
+
+  protected Set<String> parseSearchableVariables(Element element) {
+    Set<String> variableNames = new LinkedHashSet<>();
+    for (String variableName : parseCommaSeparatedList(element.attributeNS(CAMUNDA_BPMN_EXTENSIONS_NS, "searchableVariables"))) {
+      if (!variableName.isEmpty()) {
+        variableNames.add(variableName);
+      }
+    }
+    return Collections.unmodifiableSet(variableNames);
+  }
+
   protected boolean isExclusive(Element element) {
     return TRUE.equals(element.attributeNS(CAMUNDA_BPMN_EXTENSIONS_NS, "exclusive", String.valueOf(JobEntity.DEFAULT_EXCLUSIVE)));
   }
@@ -29,11 +29,13 @@ import java.sql.DatabaseMetaData;
 import java.sql.SQLException;
 import java.text.ParseException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -143,6 +145,8 @@ import org.finos.fluxnova.bpm.engine.impl.db.entitymanager.DbEntityManagerFactor
 import org.finos.fluxnova.bpm.engine.impl.db.entitymanager.cache.DbEntityCacheKeyMapping;
 import org.finos.fluxnova.bpm.engine.impl.db.sql.DbSqlPersistenceProviderFactory;
 import org.finos.fluxnova.bpm.engine.impl.db.sql.DbSqlSessionFactory;
+import org.finos.fluxnova.bpm.engine.impl.db.sql.QueryCountCache;
+import org.finos.fluxnova.bpm.engine.impl.db.sql.QueryShapeRecorder;
 import org.finos.fluxnova.bpm.engine.impl.delegate.DefaultDelegateInterceptor;
 import org.finos.fluxnova.bpm.engine.impl.diagnostics.DiagnosticsCollector;
 import org.finos.fluxnova.bpm.engine.impl.diagnostics.DiagnosticsRegistry;
@@ -247,6 +251,7 @@ import org.finos.fluxnova.bpm.engine.impl.jobexecutor.historycleanup.HistoryClea
 import org.finos.fluxnova.bpm.engine.impl.jobexecutor.historycleanup.HistoryCleanupHandler;
 import org.finos.fluxnova.bpm.engine.impl.jobexecutor.historycleanup.HistoryCleanupHelper;
 import org.finos.fluxnova.bpm.engine.impl.jobexecutor.historycleanup.HistoryCleanupJobHandler;
+import org.finos.fluxnova.bpm.engine.impl.jobexecutor.historycleanup.HistoryCleanupThroughputController;
 import org.finos.fluxnova.bpm.engine.impl.metrics.MetricsRegistry;
 import org.finos.fluxnova.bpm.engine.impl.metrics.MetricsReporterIdProvider;
 import org.finos.fluxnova.bpm.engine.impl.metrics.parser.MetricsBpmnParseListener;
@@ -291,6 +296,7 @@ import org.finos.fluxnova.bpm.engine.impl.persistence.deploy.cache.DefaultCacheF
 import org.finos.fluxnova.bpm.engine.impl.persistence.deploy.cache.DeploymentCache;
 import org.finos.fluxnova.bpm.engine.impl.persistence.entity.AttachmentManager;
 import org.finos.fluxnova.bpm.engine.impl.persistence.entity.AuthorizationManager;
+import org.finos.fluxnova.bpm.engine.impl.persistence.entity.BatchChunkManager;
 import org.finos.fluxnova.bpm.engine.impl.persistence.entity.BatchManager;
 import org.finos.fluxnova.bpm.engine.impl.persistence.entity.ByteArrayManager;
 import org.finos.fluxnova.bpm.engine.impl.persistence.entity.CommentManager;
@@ -301,6 +307,7 @@ import org.finos.fluxnova.bpm.engine.impl.persistence.entity.ExternalTaskManager
 import org.finos.fluxnova.bpm.engine.impl.persistence.entity.FilterManager;
 import org.finos.fluxnova.bpm.engine.impl.persistence.entity.HistoricActivityInstanceManager;
 import org.finos.fluxnova.bpm.engine.impl.persistence.entity.HistoricBatchManager;
+import org.finos.fluxnova.bpm.engine.impl.persistence.entity.HistoryPartitionManager;
 import org.finos.fluxnova.bpm.engine.impl.persistence.entity.HistoricCaseActivityInstanceManager;
 import org.finos.fluxnova.bpm.engine.impl.persistence.entity.HistoricCaseInstanceManager;
 import org.finos.fluxnova.bpm.engine.impl.persistence.entity.HistoricDetailManager;
@@ -330,12 +337,14 @@ import org.finos.fluxnova.bpm.engine.impl.persistence.entity.TaskReportManager;
 import org.finos.fluxnova.bpm.engine.impl.persistence.entity.TenantManager;
 import org.finos.fluxnova.bpm.engine.impl.persistence.entity.UserOperationLogManager;
 import org.finos.fluxnova.bpm.engine.impl.persistence.entity.VariableInstanceManager;
+import org.finos.fluxnova.bpm.engine.impl.persistence.entity.VariableSearchManager;
 import org.finos.fluxnova.bpm.engine.impl.repository.DefaultDeploymentHandlerFactory;
 import org.finos.fluxnova.bpm.engine.impl.runtime.ConditionHandler;
 import org.finos.fluxnova.bpm.engine.impl.runtime.CorrelationHandler;
 import org.finos.fluxnova.bpm.engine.impl.runtime.DefaultConditionHandler;
 import org.finos.fluxnova.bpm.engine.impl.runtime.DefaultCorrelationHandler;
 import org.finos.fluxnova.bpm.engine.impl.runtime.DefaultDeserializationTypeValidator;
+import org.finos.fluxnova.bpm.engine.impl.scripting.CompiledScriptCache;
 import org.finos.fluxnova.bpm.engine.impl.scripting.ScriptFactory;
 import org.finos.fluxnova.bpm.engine.impl.scripting.engine.BeansResolverFactory;
 import org.finos.fluxnova.bpm.engine.impl.scripting.engine.FluxnovaScriptEngineManager;
@@ -559,6 +568,23 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
    */
   protected Map<String, Integer> invocationsPerBatchJobByBatchType;
 
+  /**
+   * Batches with more instance ids than this threshold keep their ids in the
+   * batch chunk table, one chunk per seed job invocation, instead of in the
+   * batch configuration. A value of <code>0</code> or less disables chunking.
+   */
+  protected int batchChunkThreshold = 10000;
+
+  /**
+   * If enabled, batches created from a process instance query store the query
+   * instead of the matching instance ids. The seed job resolves the instances
+   * page by page, ordered by id, so that the batch is created without
+   * loading the matching instances. Instances started after the batch was
+   * created are not resolved, provided that their start is recorded in the
+   * history, i.e. the history level is not <code>none</code>.
+   */
+  protected boolean lazyBatchQueryResolution = false;
+
   /**
    * seconds to wait between polling for batch completion
    */
@@ -586,12 +612,26 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
   protected VariableSerializerFactory fallbackSerializerFactory;
   protected boolean implicitVariableUpdateDetectionEnabled = true;
 
+  /**
+   * If true, setting a variable to a value with the same persisted representation
+   * (type and serialized value) as before does not update the variable:
+   * no variable listeners are notified and no history event is produced.
+   * Unchanged byte arrays of serialized values are not rewritten.
+   */
+  protected boolean skipUnchangedVariableUpdates = false;
+
   protected String defaultSerializationFormat = Variables.SerializationDataFormats.JAVA.getName();
   protected boolean javaSerializationFormatEnabled = false;
   protected String defaultCharsetName = null;
   protected Charset defaultCharset = null;
 
   protected ExpressionManager expressionManager;
+  /**
+   * Number of evaluations after which a JUEL value expression is compiled instead of interpreting
+   * its parse tree, <code>0</code> to always interpret expressions. Only applies to a
+   * {@link JuelExpressionManager} using the default expression factory.
+   */
+  protected int expressionCompileThreshold = 0;
   protected ElProvider dmnElProvider;
   protected ScriptingEngines scriptingEngines;
   protected List<ResolverFactory> resolverFactories;
@@ -603,6 +643,11 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
   protected boolean autoStoreScriptVariables = false;
   protected boolean enableScriptCompilation = true;
   protected boolean enableScriptEngineCaching = true;
+  /** maximum number of compiled scripts kept in the {@link #compiledScriptCache}, 0 disables the cache */
+  protected int compiledScriptCacheCapacity = 1000;
+  protected CompiledScriptCache compiledScriptCache;
+  /** compile script sources when they are parsed at deployment instead of on first execution */
+  protected boolean enableScriptPrecompilation = false;
   protected boolean enableFetchScriptEngineFromProcessApplication = true;
   protected boolean enableScriptEngineLoadExternalResources = false;
   protected boolean enableScriptEngineNashornCompatibility = false;
@@ -990,6 +1035,37 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
    */
   protected boolean historyCleanupEnabled = true;
 
+  /**
+   * Controls whether the removal-time-based history cleanup drops expired partitions of
+   * history tables which are partitioned by range of <code>REMOVAL_TIME_</code>
+   * (PostgreSQL, Oracle and MySQL only), before it deletes the remaining expired rows.
+   * Each partition is detached and dropped in transactions of its own. On PostgreSQL,
+   * detaching a partition locks the whole history table exclusively until it is committed.
+   */
+  protected boolean historyCleanupPartitionDropEnabled = false;
+
+  /**
+   * Controls whether the batch size and the number of concurrently running history cleanup jobs
+   * adapt to the measured duration of the cleanup transactions, see {@link HistoryCleanupThroughputController}.
+   * The configured batch size and degree of parallelism are the upper bounds.
+   */
+  protected boolean historyCleanupAdaptiveThroughputEnabled = false;
+
+  /**
+   * Database time in milliseconds the history cleanup jobs of this engine may spend per minute
+   * when the adaptive throughput is enabled. The budget is tracked in memory by each engine,
+   * so a cluster of engines sharing the database may spend it once per node.
+   */
+  protected long historyCleanupDbTimeBudgetPerMinute = 15000;
+
+  /**
+   * Duration in milliseconds a single history cleanup transaction should take
+   * when the adaptive throughput is enabled.
+   */
+  protected long historyCleanupTargetBatchDuration = 1000;
+
+  protected HistoryCleanupThroughputController historyCleanupThroughputController;
+
   private int failedJobListenerMaxRetries = DEFAULT_FAILED_JOB_LISTENER_MAX_RETRIES;
 
   protected String failedJobRetryTimeCycle;
@@ -1006,6 +1082,64 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
   // max results limit
   protected int queryMaxResultsLimit = Integer.MAX_VALUE;
 
+  /**
+   * The JDBC fetch size of the statements used by {@link org.finos.fluxnova.bpm.engine.query.Query#forEach}, i.e.
+   * the number of rows the driver reads from the database at once while the results are streamed.
+   * Note that MySQL only streams with <code>useCursorFetch=true</code> set on the JDBC url.
+   */
+  protected int queryStreamFetchSize = 1000;
+
+  /**
+   * The maximum number of counts cached for {@link org.finos.fluxnova.bpm.engine.query.Query#approximateCount()}.
+   */
+  protected int queryCountCacheCapacity = 1000;
+
+  /**
+   * Time in milliseconds a count cached for {@link org.finos.fluxnova.bpm.engine.query.Query#approximateCount()}
+   * is served before the query is counted again. <code>0</code> disables the cache.
+   */
+  protected long queryCountCacheTimeToLive = 30000;
+
+  /**
+   * Overrides {@link #queryCountCacheTimeToLive} per query, keyed by the name of the query
+   * interface, e.g. <code>TaskQuery</code> or <code>HistoricProcessInstanceQuery</code>.
+   */
+  protected Map<String, Long> queryCountCacheTimeToLiveByQuery = new HashMap<>();
+
+  /**
+   * Controls whether {@link org.finos.fluxnova.bpm.engine.query.Query#approximateCount()} estimates
+   * the counts of unrestricted queries from the table statistics of the database. Only PostgreSQL,
+   * Oracle and MySQL are supported; the estimates are as accurate as the statistics.
+   */
+  protected boolean queryCountEstimateEnabled = false;
+
+  protected QueryCountCache queryCountCache;
+
+  /**
+   * Controls whether the execution time and the number of results of the queries executed with
+   * {@link #queryShapeStatisticsStatements} are recorded per query shape, see
+   * {@link org.finos.fluxnova.bpm.engine.ManagementService#getSlowestQueryShapes(int)}. Recording
+   * renders the SQL of every recorded query once more.
+   */
+  protected boolean queryShapeStatisticsEnabled = false;
+
+  /**
+   * The maximum number of recorded query shapes; queries of further shapes are not recorded.
+   */
+  protected int queryShapeStatisticsCapacity = 500;
+
+  /**
+   * The names of the statements whose queries are recorded; by default, the list and count
+   * statements of the task and process instance queries.
+   */
+  protected Set<String> queryShapeStatisticsStatements = new HashSet<>(Arrays.asList(
+      "selectTaskByQueryCriteria",
+      "selectTaskCountByQueryCriteria",
+      "selectProcessInstanceByQueryCriteria",
+      "selectProcessInstanceCountByQueryCriteria"));
+
+  protected QueryShapeRecorder queryShapeRecorder;
+
   // logging context property names (with default values)
   protected String loggingContextActivityId = "activityId";
   protected String loggingContextActivityName = "activityName";
@@ -1158,6 +1292,8 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     initJobExecutor();
     initTransactionFactory();
     initSqlSessionFactory();
+    initQueryCountCache();
+    initQueryShapeRecorder();
     initIdentityProviderSessionFactory();
     initSessionFactories();
     initValueTypeResolver();
@@ -1268,6 +1404,40 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     initHistoryCleanupJobLogTimeToLive();
 
     initTaskMetricsTimeToLive();
+
+    initHistoryCleanupThroughputController();
+  }
+
+  protected void initHistoryCleanupThroughputController() {
+    if (!historyCleanupAdaptiveThroughputEnabled) {
+      historyCleanupThroughputController = null;
+      if (metricsRegistry != null) {
+        metricsRegistry.removeGauge(Metrics.HISTORY_CLEANUP_BACKLOG);
+        metricsRegistry.removeGauge(Metrics.HISTORY_CLEANUP_ROWS_PER_SECOND);
+        metricsRegistry.removeGauge(Metrics.HISTORY_CLEANUP_BUDGET_USAGE);
+      }
+      return;
+    }
+
+    if (historyCleanupDbTimeBudgetPerMinute <= 0) {
+      throw LOG.invalidPropertyValue("historyCleanupDbTimeBudgetPerMinute", String.valueOf(historyCleanupDbTimeBudgetPerMinute),
+          "History cleanup database time budget must be positive.");
+    }
+
+    if (historyCleanupTargetBatchDuration <= 0) {
+      throw LOG.invalidPropertyValue("historyCleanupTargetBatchDuration", String.valueOf(historyCleanupTargetBatchDuration),
+          "History cleanup target batch duration must be positive.");
+    }
+
+    historyCleanupThroughputController = new HistoryCleanupThroughputController(historyCleanupBatchSize,
+        historyCleanupDegreeOfParallelism, historyCleanupDbTimeBudgetPerMinute, historyCleanupTargetBatchDuration);
+
+    if (metricsRegistry != null) {
+      HistoryCleanupThroughputController controller = historyCleanupThroughputController;
+      metricsRegistry.registerGauge(Metrics.HISTORY_CLEANUP_BACKLOG, controller::getBacklog);
+      metricsRegistry.registerGauge(Metrics.HISTORY_CLEANUP_ROWS_PER_SECOND, controller::getRowsPerSecond);
+      metricsRegistry.registerGauge(Metrics.HISTORY_CLEANUP_BUDGET_USAGE, controller::getBudgetUsage);
+    }
   }
 
   protected void initHistoryCleanupStrategy() {
@@ -1819,6 +1989,7 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
           }
 
           initSqlSessionFactoryProperties(properties, databaseTablePrefix, databaseType);
+          properties.put("queryStreamFetchSize", String.valueOf(queryStreamFetchSize));
 
           XMLConfigBuilder parser = new XMLConfigBuilder(reader, "", properties);
           Configuration configuration = parser.getConfiguration();
@@ -1915,6 +2086,29 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     return ReflectUtil.getResourceAsStream(DEFAULT_MYBATIS_MAPPING_FILE);
   }
 
+  protected void initQueryCountCache() {
+    if (queryCountCache == null) {
+      if (queryCountCacheCapacity < 0) {
+        throw LOG.invalidPropertyValue("queryCountCacheCapacity", String.valueOf(queryCountCacheCapacity),
+            "Query count cache capacity must not be negative.");
+      }
+
+      queryCountCache = new QueryCountCache(queryCountCacheCapacity, queryCountCacheTimeToLive,
+          queryCountCacheTimeToLiveByQuery, queryCountEstimateEnabled);
+    }
+  }
+
+  protected void initQueryShapeRecorder() {
+    if (queryShapeRecorder == null && queryShapeStatisticsEnabled) {
+      if (queryShapeStatisticsCapacity < 0) {
+        throw LOG.invalidPropertyValue("queryShapeStatisticsCapacity", String.valueOf(queryShapeStatisticsCapacity),
+            "Query shape statistics capacity must not be negative.");
+      }
+
+      queryShapeRecorder = new QueryShapeRecorder(queryShapeStatisticsStatements, queryShapeStatisticsCapacity);
+    }
+  }
+
   // session factories ////////////////////////////////////////////////////////
 
   protected void initIdentityProviderSessionFactory() {
@@ -1960,6 +2154,7 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
       addSessionFactory(new GenericManagerFactory(TaskManager.class));
       addSessionFactory(new GenericManagerFactory(TaskReportManager.class));
       addSessionFactory(new GenericManagerFactory(VariableInstanceManager.class));
+      addSessionFactory(new GenericManagerFactory(VariableSearchManager.class));
       addSessionFactory(new GenericManagerFactory(EventSubscriptionManager.class));
       addSessionFactory(new GenericManagerFactory(StatisticsManager.class));
       addSessionFactory(new GenericManagerFactory(IncidentManager.class));
@@ -1969,7 +2164,9 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
       addSessionFactory(new GenericManagerFactory(ExternalTaskManager.class));
       addSessionFactory(new GenericManagerFactory(ReportManager.class));
       addSessionFactory(new GenericManagerFactory(BatchManager.class));
+      addSessionFactory(new GenericManagerFactory(BatchChunkManager.class));
       addSessionFactory(new GenericManagerFactory(HistoricBatchManager.class));
+      addSessionFactory(new GenericManagerFactory(HistoryPartitionManager.class));
       addSessionFactory(new GenericManagerFactory(TenantManager.class));
       addSessionFactory(new GenericManagerFactory(SchemaLogManager.class));
 
@@ -2012,6 +2209,7 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     dbSqlSessionFactory.setCmmnEnabled(cmmnEnabled);
     dbSqlSessionFactory.setDmnEnabled(dmnEnabled);
     dbSqlSessionFactory.setDatabaseTablePrefix(databaseTablePrefix);
+    dbSqlSessionFactory.setQueryShapeRecorder(queryShapeRecorder);
 
     //hack for the case when schema is defined via databaseTablePrefix parameter and not via databaseSchema parameter
     if (databaseTablePrefix != null && databaseSchema == null && databaseTablePrefix.contains(".")) {
@@ -2510,6 +2708,9 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
 
     metricsRegistry.createMeter(Metrics.EXECUTED_DECISION_INSTANCES);
     metricsRegistry.createMeter(Metrics.EXECUTED_DECISION_ELEMENTS);
+
+    // registered regardless of the flag, since it can be enabled after the engine was built
+    metricsRegistry.createDbMeter(Metrics.SKIPPED_VARIABLE_UPDATES);
   }
 
   protected void initSerialization() {
@@ -2618,6 +2819,9 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     if (scriptingEnvironment == null) {
       scriptingEnvironment = new ScriptingEnvironment(scriptFactory, scriptEnvResolvers, scriptingEngines);
     }
+    if (compiledScriptCache == null && compiledScriptCacheCapacity > 0) {
+      compiledScriptCache = new CompiledScriptCache(compiledScriptCacheCapacity);
+    }
   }
 
   protected void initDmnEngine() {
@@ -2654,6 +2858,9 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
       expressionManager = new JuelExpressionManager(beans);
     }
 
+    if (expressionCompileThreshold > 0 && expressionManager instanceof JuelExpressionManager) {
+      ((JuelExpressionManager) expressionManager).setExpressionCompileThreshold(expressionCompileThreshold);
+    }
 
     expressionManager.addFunction(CommandContextFunctions.CURRENT_USER,
         ReflectUtil.getMethod(CommandContextFunctions.class, CommandContextFunctions.CURRENT_USER));
@@ -3245,6 +3452,15 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     this.implicitVariableUpdateDetectionEnabled = newValue;
   }
 
+  public boolean isSkipUnchangedVariableUpdates() {
+    return skipUnchangedVariableUpdates;
+  }
+
+  public ProcessEngineConfigurationImpl setSkipUnchangedVariableUpdates(boolean skipUnchangedVariableUpdates) {
+    this.skipUnchangedVariableUpdates = skipUnchangedVariableUpdates;
+    return this;
+  }
+
   public ProcessEngineConfigurationImpl setVariableTypes(VariableSerializers variableSerializers) {
     this.variableSerializers = variableSerializers;
     return this;
@@ -3259,6 +3475,15 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     return this;
   }
 
+  public int getExpressionCompileThreshold() {
+    return expressionCompileThreshold;
+  }
+
+  public ProcessEngineConfigurationImpl setExpressionCompileThreshold(int expressionCompileThreshold) {
+    this.expressionCompileThreshold = expressionCompileThreshold;
+    return this;
+  }
+
   public ElProvider getDmnElProvider() {
     return dmnElProvider;
   }
@@ -3961,6 +4186,24 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     this.invocationsPerBatchJob = invocationsPerBatchJob;
   }
 
+  public int getBatchChunkThreshold() {
+    return batchChunkThreshold;
+  }
+
+  public ProcessEngineConfigurationImpl setBatchChunkThreshold(int batchChunkThreshold) {
+    this.batchChunkThreshold = batchChunkThreshold;
+    return this;
+  }
+
+  public boolean isLazyBatchQueryResolution() {
+    return lazyBatchQueryResolution;
+  }
+
+  public ProcessEngineConfigurationImpl setLazyBatchQueryResolution(boolean lazyBatchQueryResolution) {
+    this.lazyBatchQueryResolution = lazyBatchQueryResolution;
+    return this;
+  }
+
   public int getBatchPollTime() {
     return batchPollTime;
   }
@@ -4162,6 +4405,42 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     return enableScriptCompilation;
   }
 
+  public int getCompiledScriptCacheCapacity() {
+    return compiledScriptCacheCapacity;
+  }
+
+  /**
+   * Sets the maximum number of compiled scripts shared by all script definitions of
+   * the process engine. Set to 0 to disable the cache.
+   */
+  public ProcessEngineConfigurationImpl setCompiledScriptCacheCapacity(int compiledScriptCacheCapacity) {
+    this.compiledScriptCacheCapacity = compiledScriptCacheCapacity;
+    return this;
+  }
+
+  public CompiledScriptCache getCompiledScriptCache() {
+    return compiledScriptCache;
+  }
+
+  public ProcessEngineConfigurationImpl setCompiledScriptCache(CompiledScriptCache compiledScriptCache) {
+    this.compiledScriptCache = compiledScriptCache;
+    return this;
+  }
+
+  public boolean isEnableScriptPrecompilation() {
+    return enableScriptPrecompilation;
+  }
+
+  /**
+   * If set to true, script sources are compiled when they are parsed during deployment
+   * instead of on their first execution. Scripts which fail to compile are still reported
+   * when they are executed.
+   */
+  public ProcessEngineConfigurationImpl setEnableScriptPrecompilation(boolean enableScriptPrecompilation) {
+    this.enableScriptPrecompilation = enableScriptPrecompilation;
+    return this;
+  }
+
   public boolean isEnableGracefulDegradationOnContextSwitchFailure() {
     return enableGracefulDegradationOnContextSwitchFailure;
   }
@@ -4926,6 +5205,54 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     return this;
   }
 
+  public boolean isHistoryCleanupPartitionDropEnabled() {
+    return historyCleanupPartitionDropEnabled;
+  }
+
+  public ProcessEngineConfigurationImpl setHistoryCleanupPartitionDropEnabled(boolean historyCleanupPartitionDropEnabled) {
+    this.historyCleanupPartitionDropEnabled = historyCleanupPartitionDropEnabled;
+    return this;
+  }
+
+  public boolean isHistoryCleanupAdaptiveThroughputEnabled() {
+    return historyCleanupAdaptiveThroughputEnabled;
+  }
+
+  public ProcessEngineConfigurationImpl setHistoryCleanupAdaptiveThroughputEnabled(boolean historyCleanupAdaptiveThroughputEnabled) {
+    this.historyCleanupAdaptiveThroughputEnabled = historyCleanupAdaptiveThroughputEnabled;
+    return this;
+  }
+
+  public long getHistoryCleanupDbTimeBudgetPerMinute() {
+    return historyCleanupDbTimeBudgetPerMinute;
+  }
+
+  public ProcessEngineConfigurationImpl setHistoryCleanupDbTimeBudgetPerMinute(long historyCleanupDbTimeBudgetPerMinute) {
+    this.historyCleanupDbTimeBudgetPerMinute = historyCleanupDbTimeBudgetPerMinute;
+    return this;
+  }
+
+  public long getHistoryCleanupTargetBatchDuration() {
+    return historyCleanupTargetBatchDuration;
+  }
+
+  public ProcessEngineConfigurationImpl setHistoryCleanupTargetBatchDuration(long historyCleanupTargetBatchDuration) {
+    this.historyCleanupTargetBatchDuration = historyCleanupTargetBatchDuration;
+    return this;
+  }
+
+  /**
+   * @return the controller of the adaptive history cleanup throughput or <code>null</code> if it is disabled
+   */
+  public HistoryCleanupThroughputController getHistoryCleanupThroughputController() {
+    return historyCleanupThroughputController;
+  }
+
+  public ProcessEngineConfigurationImpl setHistoryCleanupThroughputController(HistoryCleanupThroughputController historyCleanupThroughputController) {
+    this.historyCleanupThroughputController = historyCleanupThroughputController;
+    return this;
+  }
+
   public String getHistoryTimeToLive() {
     return historyTimeToLive;
   }
@@ -5127,6 +5454,96 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     return this;
   }
 
+  public int getQueryStreamFetchSize() {
+    return queryStreamFetchSize;
+  }
+
+  public ProcessEngineConfigurationImpl setQueryStreamFetchSize(int queryStreamFetchSize) {
+    this.queryStreamFetchSize = queryStreamFetchSize;
+    return this;
+  }
+
+  public int getQueryCountCacheCapacity() {
+    return queryCountCacheCapacity;
+  }
+
+  public ProcessEngineConfigurationImpl setQueryCountCacheCapacity(int queryCountCacheCapacity) {
+    this.queryCountCacheCapacity = queryCountCacheCapacity;
+    return this;
+  }
+
+  public long getQueryCountCacheTimeToLive() {
+    return queryCountCacheTimeToLive;
+  }
+
+  public ProcessEngineConfigurationImpl setQueryCountCacheTimeToLive(long queryCountCacheTimeToLive) {
+    this.queryCountCacheTimeToLive = queryCountCacheTimeToLive;
+    return this;
+  }
+
+  public Map<String, Long> getQueryCountCacheTimeToLiveByQuery() {
+    return queryCountCacheTimeToLiveByQuery;
+  }
+
+  public ProcessEngineConfigurationImpl setQueryCountCacheTimeToLiveByQuery(Map<String, Long> queryCountCacheTimeToLiveByQuery) {
+    this.queryCountCacheTimeToLiveByQuery = queryCountCacheTimeToLiveByQuery;
+    return this;
+  }
+
+  public boolean isQueryCountEstimateEnabled() {
+    return queryCountEstimateEnabled;
+  }
+
+  public ProcessEngineConfigurationImpl setQueryCountEstimateEnabled(boolean queryCountEstimateEnabled) {
+    this.queryCountEstimateEnabled = queryCountEstimateEnabled;
+    return this;
+  }
+
+  public QueryCountCache getQueryCountCache() {
+    return queryCountCache;
+  }
+
+  public ProcessEngineConfigurationImpl setQueryCountCache(QueryCountCache queryCountCache) {
+    this.queryCountCache = queryCountCache;
+    return this;
+  }
+
+  public boolean isQueryShapeStatisticsEnabled() {
+    return queryShapeStatisticsEnabled;
+  }
+
+  public ProcessEngineConfigurationImpl setQueryShapeStatisticsEnabled(boolean queryShapeStatisticsEnabled) {
+    this.queryShapeStatisticsEnabled = queryShapeStatisticsEnabled;
+    return this;
+  }
+
+  public int getQueryShapeStatisticsCapacity() {
+    return queryShapeStatisticsCapacity;
+  }
+
+  public ProcessEngineConfigurationImpl setQueryShapeStatisticsCapacity(int queryShapeStatisticsCapacity) {
+    this.queryShapeStatisticsCapacity = queryShapeStatisticsCapacity;
+    return this;
+  }
+
+  public Set<String> getQueryShapeStatisticsStatements() {
+    return queryShapeStatisticsStatements;
+  }
+
+  public ProcessEngineConfigurationImpl setQueryShapeStatisticsStatements(Set<String> queryShapeStatisticsStatements) {
+    this.queryShapeStatisticsStatements = queryShapeStatisticsStatements;
+    return this;
+  }
+
+  public QueryShapeRecorder getQueryShapeRecorder() {
+    return queryShapeRecorder;
+  }
+
+  public ProcessEngineConfigurationImpl setQueryShapeRecorder(QueryShapeRecorder queryShapeRecorder) {
+    this.queryShapeRecorder = queryShapeRecorder;
+    return this;
+  }
+
   public String getLoggingContextActivityId() {
     return loggingContextActivityId;
   }
@@ -56,11 +56,7 @@ public class GetExecutionVariableCmd implements Command<Object>, Serializable {
 
     Object value;
 
-    if (isLocal) {
-      value = execution.getVariableLocal(variableName, true);
-    } else {
-      value = execution.getVariable(variableName, true);
-    }
+    value = execution.fetchVariable(variableName, isLocal);
 
     return value;
   }
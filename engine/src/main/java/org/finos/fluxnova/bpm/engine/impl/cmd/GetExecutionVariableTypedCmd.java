@@ -59,11 +59,7 @@ public class GetExecutionVariableTypedCmd<T extends TypedValue> implements Comma
 
     T value;
 
-    if (isLocal) {
-      value = execution.getVariableLocalTyped(variableName, deserializeValue);
-    } else {
-      value = execution.getVariableTyped(variableName, deserializeValue);
-    }
+    value = execution.fetchVariableTyped(variableName, isLocal, deserializeValue);
 
     return value;
   }
@@ -0,0 +1,72 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.finos.fluxnova.bpm.engine.impl.cmd;
+
+import static org.finos.fluxnova.bpm.engine.impl.util.EnsureUtil.ensureGreaterThanOrEqual;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.finos.fluxnova.bpm.engine.impl.db.sql.QueryShapeIndexAdvisor;
+import org.finos.fluxnova.bpm.engine.impl.db.sql.QueryShapeRecorder;
+import org.finos.fluxnova.bpm.engine.impl.interceptor.Command;
+import org.finos.fluxnova.bpm.engine.impl.interceptor.CommandContext;
+import org.finos.fluxnova.bpm.engine.impl.management.QueryShapeStatisticsImpl;
+import org.finos.fluxnova.bpm.engine.impl.persistence.entity.TableDataManager;
+import org.finos.fluxnova.bpm.engine.management.QueryShapeStatistics;
+
+/**
+ * Returns the recorded query shapes with the highest total execution time, including the indexes
+ * suggested for them. Only CAMUNDA_ADMIN is authorised to do it.
+ */
+public class GetSlowestQueryShapesCmd implements Command<List<QueryShapeStatistics>> {
+
+  protected int maxResults;
+
+  public GetSlowestQueryShapesCmd(int maxResults) {
+    this.maxResults = maxResults;
+  }
+
+  @Override
+  public List<QueryShapeStatistics> execute(CommandContext commandContext) {
+    ensureGreaterThanOrEqual("maxResults", maxResults, 0);
+    commandContext.getAuthorizationManager().checkFluxnovaAdmin();
+
+    QueryShapeRecorder queryShapeRecorder = commandContext.getProcessEngineConfiguration().getQueryShapeRecorder();
+    if (queryShapeRecorder == null) {
+      return Collections.emptyList();
+    }
+
+    String databaseType = commandContext.getProcessEngineConfiguration().getDatabaseType();
+    QueryShapeIndexAdvisor indexAdvisor = new QueryShapeIndexAdvisor(databaseType);
+    TableDataManager tableDataManager = commandContext.getTableDataManager();
+    Map<String, List<List<String>>> indexesByTable = new HashMap<>();
+
+    List<QueryShapeStatistics> result = new ArrayList<>();
+    for (QueryShapeStatisticsImpl statistics : queryShapeRecorder.getSlowest(maxResults)) {
+      statistics.setSuggestedIndexes(indexAdvisor.suggestIndexes(statistics.getShape(),
+          table -> indexesByTable.computeIfAbsent(table, tableDataManager::getTableIndexes)));
+      result.add(statistics);
+    }
+
+    return result;
+  }
+
+}
@@ -58,11 +58,7 @@ public class GetTaskVariableCmd implements Command<Object>, Serializable {
 
     Object value;
 
-    if (isLocal) {
-      value = task.getVariableLocal(variableName);
-    } else {
-      value = task.getVariable(variableName);
-    }
+    value = task.fetchVariable(variableName, isLocal);
 
     return value;
   }
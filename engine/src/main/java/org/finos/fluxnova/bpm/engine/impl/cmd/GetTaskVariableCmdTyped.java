@@ -61,11 +61,7 @@ public class GetTaskVariableCmdTyped implements Command<TypedValue>, Serializabl
 
     TypedValue value;
 
-    if (isLocal) {
-      value = task.getVariableLocalTyped(variableName, deserializeValue);
-    } else {
-      value = task.getVariableTyped(variableName, deserializeValue);
-    }
+    value = task.fetchVariableTyped(variableName, isLocal, deserializeValue);
 
     return value;
   }
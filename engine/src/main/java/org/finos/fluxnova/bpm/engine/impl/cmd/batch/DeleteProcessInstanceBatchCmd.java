@@ -19,6 +19,7 @@ package org.finos.fluxnova.bpm.engine.impl.cmd.batch;
 import static org.finos.fluxnova.bpm.engine.impl.util.EnsureUtil.ensureNotEmpty;
 
 import java.util.ArrayList;
+import java.util.Date;
 import java.util.HashSet;
 import java.util.List;
 import org.finos.fluxnova.bpm.engine.BadUserRequestException;
@@ -34,7 +35,9 @@ import org.finos.fluxnova.bpm.engine.impl.batch.builder.BatchBuilder;
 import org.finos.fluxnova.bpm.engine.impl.batch.deletion.DeleteProcessInstanceBatchConfiguration;
 import org.finos.fluxnova.bpm.engine.impl.interceptor.Command;
 import org.finos.fluxnova.bpm.engine.impl.interceptor.CommandContext;
+import org.finos.fluxnova.bpm.engine.impl.json.JsonProcessInstanceQueryConverter;
 import org.finos.fluxnova.bpm.engine.impl.persistence.entity.PropertyChange;
+import org.finos.fluxnova.bpm.engine.impl.util.ClockUtil;
 import org.finos.fluxnova.bpm.engine.impl.util.CollectionUtil;
 import org.finos.fluxnova.bpm.engine.runtime.ProcessInstanceQuery;
 
@@ -71,6 +74,10 @@ public class DeleteProcessInstanceBatchCmd implements Command<Batch> {
 
   @Override
   public Batch execute(CommandContext commandContext) {
+    if (isQueryDriven(commandContext)) {
+      return createQueryDrivenBatch(commandContext);
+    }
+
     BatchElementConfiguration elementConfiguration = collectProcessInstanceIds(commandContext);
 
     ensureNotEmpty(BadUserRequestException.class, "processInstanceIds", elementConfiguration.getIds());
@@ -83,6 +90,46 @@ public class DeleteProcessInstanceBatchCmd implements Command<Batch> {
         .build();
   }
 
+  protected boolean isQueryDriven(CommandContext commandContext) {
+    return commandContext.getProcessEngineConfiguration().isLazyBatchQueryResolution()
+        && processInstanceQuery != null
+        && CollectionUtil.isEmpty(processInstanceIds)
+        && historicProcessInstanceQuery == null;
+  }
+
+  /**
+   * Creates a batch that stores the process instance query instead of the ids
+   * of the matching process instances. These are resolved by the seed job,
+   * bounded to the process instances started until the batch was created.
+   */
+  protected Batch createQueryDrivenBatch(CommandContext commandContext) {
+    JsonProcessInstanceQueryConverter queryConverter = JsonProcessInstanceQueryConverter.INSTANCE;
+    // work on a copy to keep the query of the caller untouched
+    ProcessInstanceQueryImpl query = (ProcessInstanceQueryImpl) queryConverter.toObject(
+        queryConverter.toJsonObject(processInstanceQuery));
+    Date cutoff = ClockUtil.getCurrentTime();
+
+    // fail like a batch with resolved ids if there is nothing to delete
+    ensureNotEmpty(BadUserRequestException.class, "processInstanceIds",
+        query.executeDeploymentIdMappingsPage(commandContext, null, cutoff, 1));
+
+    long instanceCount = query.executeCount(commandContext);
+
+    DeleteProcessInstanceBatchConfiguration configuration = new DeleteProcessInstanceBatchConfiguration(
+        new ArrayList<>(), null, deleteReason, skipCustomListeners, skipSubprocesses, false, skipIoMappings);
+    configuration.setProcessInstanceQuery(query);
+    configuration.setQueryAuthentication(commandContext.getAuthentication());
+    configuration.setQueryCutoff(cutoff);
+
+    return new BatchBuilder(commandContext)
+        .type(Batch.TYPE_PROCESS_INSTANCE_DELETION)
+        .config(configuration)
+        .totalJobs(0)
+        .permission(BatchPermissions.CREATE_BATCH_DELETE_RUNNING_PROCESS_INSTANCES)
+        .operationLogHandler(ctx -> writeUserOperationLog(ctx, (int) instanceCount))
+        .build();
+  }
+
   protected BatchElementConfiguration collectProcessInstanceIds(CommandContext commandContext) {
     BatchElementConfiguration elementConfiguration = new BatchElementConfiguration();
 
@@ -115,6 +162,10 @@ public class DeleteProcessInstanceBatchCmd implements Command<Batch> {
 
     List<PropertyChange> propertyChanges = new ArrayList<>();
     propertyChanges.add(new PropertyChange("nrOfInstances", null, numInstances));
+    writeUserOperationLog(commandContext, propertyChanges);
+  }
+
+  protected void writeUserOperationLog(CommandContext commandContext, List<PropertyChange> propertyChanges) {
     propertyChanges.add(new PropertyChange("async", null, true));
     propertyChanges.add(new PropertyChange("deleteReason", null, deleteReason));
 
@@ -60,11 +60,7 @@ public class GetCaseExecutionVariableCmd implements Command<Object>, Serializabl
 
     Object value;
 
-    if (isLocal) {
-      value = caseExecution.getVariableLocal(variableName);
-    } else {
-      value = caseExecution.getVariable(variableName);
-    }
+    value = caseExecution.fetchVariable(variableName, isLocal);
 
     return value;
   }
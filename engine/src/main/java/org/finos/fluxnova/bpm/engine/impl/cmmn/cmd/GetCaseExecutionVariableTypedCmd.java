@@ -64,11 +64,7 @@ public class GetCaseExecutionVariableTypedCmd implements Command<TypedValue>, Se
 
     TypedValue value;
 
-    if (isLocal) {
-      value = caseExecution.getVariableLocalTyped(variableName, deserializeValue);
-    } else {
-      value = caseExecution.getVariableTyped(variableName, deserializeValue);
-    }
+    value = caseExecution.fetchVariableTyped(variableName, isLocal, deserializeValue);
 
     return value;
   }
@@ -19,6 +19,7 @@ package org.finos.fluxnova.bpm.engine.impl.core.variable.scope;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -26,6 +27,7 @@ import java.util.Set;
 
 import org.finos.fluxnova.bpm.engine.delegate.VariableScope;
 import org.finos.fluxnova.bpm.engine.impl.ProcessEngineLogger;
+import org.finos.fluxnova.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.finos.fluxnova.bpm.engine.impl.context.Context;
 import org.finos.fluxnova.bpm.engine.impl.core.variable.CoreVariableInstance;
 import org.finos.fluxnova.bpm.engine.impl.core.variable.VariableUtil;
@@ -34,6 +36,7 @@ import org.finos.fluxnova.bpm.engine.impl.core.variable.event.VariableEventDispa
 import org.finos.fluxnova.bpm.engine.impl.db.entitymanager.DbEntityManager;
 import org.finos.fluxnova.bpm.impl.juel.jakarta.el.ELContext;
 import org.finos.fluxnova.bpm.engine.impl.persistence.entity.VariableInstanceEntity;
+import org.finos.fluxnova.bpm.engine.management.Metrics;
 import org.finos.fluxnova.bpm.engine.variable.Variables;
 import org.finos.fluxnova.bpm.engine.variable.impl.VariableMapImpl;
 import org.finos.fluxnova.bpm.engine.variable.value.TypedValue;
@@ -120,7 +123,7 @@ public abstract class AbstractVariableScope implements Serializable, VariableSco
     if(!isLocal) {
       AbstractVariableScope parentScope = getParentVariableScope();
       // Do not propagate to parent if all variables in 'variableNames' are already collected!
-      if(parentScope != null && (collectAll || !resultVariables.keySet().equals(variableNames))) {
+      if(parentScope != null && (collectAll || !resultVariables.keySet().containsAll(variableNames))) {
         parentScope.collectVariables(resultVariables, variableNames, isLocal, deserializeValues);
       }
     }
@@ -128,6 +131,25 @@ public abstract class AbstractVariableScope implements Serializable, VariableSco
 
   // get single variable /////////////////////////////////////
 
+  /**
+   * Returns the value of a single variable like {@link #getVariable(String)} (or
+   * {@link #getVariableLocal(String)}), but fetches only the requested variable from scopes
+   * whose variables are not loaded yet instead of loading all of their variables.
+   */
+  public Object fetchVariable(String variableName, boolean isLocal) {
+    TypedValue typedValue = fetchVariableTyped(variableName, isLocal, true);
+    return typedValue != null ? typedValue.getValue() : null;
+  }
+
+  /**
+   * Typed counterpart of {@link #fetchVariable(String, boolean)}.
+   */
+  public <T extends TypedValue> T fetchVariableTyped(String variableName, boolean isLocal, boolean deserializeValue) {
+    VariableMapImpl variables = new VariableMapImpl();
+    collectVariables(variables, Collections.singletonList(variableName), isLocal, deserializeValue);
+    return variables.getValueTyped(variableName);
+  }
+
   @Override
   public Object getVariable(String variableName) {
     return getVariable(variableName, true);
@@ -371,8 +393,17 @@ public abstract class AbstractVariableScope implements Serializable, VariableSco
         throw ProcessEngineLogger.CORE_LOGGER.transientVariableException(variableName);
       }
 
+      Object previousValueState = getValueStateIfUpdateCanBeSkipped(existingInstance, value);
+
       existingInstance.setValue(value);
-      invokeVariableLifecycleListenersUpdate(existingInstance, sourceActivityExecution);
+
+      if (previousValueState != null && previousValueState.equals(((VariableInstanceEntity) existingInstance).getValueState())) {
+        // the persisted value did not change, neither the variable nor its history needs to be updated
+        markSkippedVariableUpdate();
+      }
+      else {
+        invokeVariableLifecycleListenersUpdate(existingInstance, sourceActivityExecution);
+      }
     }
     else if (variableStore.isRemoved(variableName)) {
 
@@ -400,6 +431,30 @@ public abstract class AbstractVariableScope implements Serializable, VariableSco
     }
   }
 
+  /**
+   * @return the persisted value state of the variable if updates which do not change it
+   * are skipped (see {@link ProcessEngineConfigurationImpl#isSkipUnchangedVariableUpdates()}), null otherwise
+   */
+  protected Object getValueStateIfUpdateCanBeSkipped(CoreVariableInstance variableInstance, TypedValue value) {
+    if (value.isTransient() || !(variableInstance instanceof VariableInstanceEntity)) {
+      return null;
+    }
+
+    ProcessEngineConfigurationImpl processEngineConfiguration = Context.getProcessEngineConfiguration();
+    if (processEngineConfiguration == null || !processEngineConfiguration.isSkipUnchangedVariableUpdates()) {
+      return null;
+    }
+
+    return ((VariableInstanceEntity) variableInstance).getValueState();
+  }
+
+  protected void markSkippedVariableUpdate() {
+    ProcessEngineConfigurationImpl processEngineConfiguration = Context.getProcessEngineConfiguration();
+    if (processEngineConfiguration.isMetricsEnabled()) {
+      processEngineConfiguration.getMetricsRegistry().markOccurrence(Metrics.SKIPPED_VARIABLE_UPDATES);
+    }
+  }
+
   protected void invokeVariableLifecycleListenersCreate(CoreVariableInstance variableInstance, AbstractVariableScope sourceScope) {
     invokeVariableLifecycleListenersCreate(variableInstance, sourceScope, getVariableInstanceLifecycleListeners());
   }
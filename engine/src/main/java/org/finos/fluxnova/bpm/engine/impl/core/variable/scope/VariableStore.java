@@ -38,6 +38,12 @@ public class VariableStore<T extends CoreVariableInstance> {
   protected VariablesProvider<T> variablesProvider;
   protected Map<String, T> variables;
 
+  /**
+   * Variables fetched by name while the store is not initialized; a <code>null</code>
+   * value marks a variable that does not exist. Discarded on initialization.
+   */
+  protected Map<String, T> fetchedVariables;
+
   protected Map<String, T> removedVariables = new HashMap<>();
 
   protected List<VariableStoreObserver<T>> observers;
@@ -62,6 +68,7 @@ public class VariableStore<T extends CoreVariableInstance> {
     }
     else {
       this.variablesProvider = variablesProvider;
+      this.fetchedVariables = null;
     }
 
   }
@@ -89,9 +96,33 @@ public class VariableStore<T extends CoreVariableInstance> {
     else {
       // in this case we don't initialize the variables map,
       // otherwise it would most likely contain only a subset
-      // of existing variables
-      for (T variable : variablesProvider.provideVariables(variableNames)) {
-        result.put(variable.getName(), variable);
+      // of existing variables; instead, the fetched variables
+      // are remembered so that they are not fetched again
+      if (fetchedVariables == null) {
+        fetchedVariables = new HashMap<>();
+      }
+
+      List<String> namesToFetch = new ArrayList<>();
+      for (String variableName : variableNames) {
+        if (!fetchedVariables.containsKey(variableName)) {
+          namesToFetch.add(variableName);
+        }
+      }
+
+      if (!namesToFetch.isEmpty()) {
+        for (String variableName : namesToFetch) {
+          fetchedVariables.put(variableName, null);
+        }
+        for (T variable : variablesProvider.provideVariables(namesToFetch)) {
+          fetchedVariables.put(variable.getName(), variable);
+        }
+      }
+
+      for (String variableName : variableNames) {
+        T variable = fetchedVariables.get(variableName);
+        if (variable != null) {
+          result.put(variableName, variable);
+        }
       }
     }
 
@@ -103,6 +134,9 @@ public class VariableStore<T extends CoreVariableInstance> {
   }
 
   public T getVariable(String name) {
+    if (!isInitialized() && fetchedVariables != null && fetchedVariables.containsKey(name)) {
+      return fetchedVariables.get(name);
+    }
 
     return getVariablesMap().get(name);
   }
@@ -167,6 +201,8 @@ public class VariableStore<T extends CoreVariableInstance> {
       for (T variable : variablesProvider.provideVariables()) {
         variables.put(variable.getName(), variable);
       }
+
+      fetchedVariables = null;
     }
   }
 
@@ -66,6 +66,14 @@ public class AuthorizationCheck implements Serializable {
 
   protected boolean useLeftJoin = true;
 
+  /**
+   * The ids of the authorizations granting permissions to the user and its groups,
+   * one per distinct resource, resource type and permissions. If set, the authorization
+   * join is restricted to these authorizations instead of looking them up by user and
+   * group ids. <code>null</code> if they are not precomputed.
+   */
+  protected List<String> authorizationIds;
+
   public AuthorizationCheck() {
   }
 
@@ -175,4 +183,15 @@ public class AuthorizationCheck implements Serializable {
   public void setUseLeftJoin(boolean useLeftJoin) {
     this.useLeftJoin = useLeftJoin;
   }
+
+  /**
+   * Used in SQL mapping
+   */
+  public List<String> getAuthorizationIds() {
+    return authorizationIds;
+  }
+
+  public void setAuthorizationIds(List<String> authorizationIds) {
+    this.authorizationIds = authorizationIds;
+  }
 }
@@ -37,6 +37,7 @@ import org.finos.fluxnova.bpm.engine.impl.db.entitymanager.cache.DbEntityState;
 import org.finos.fluxnova.bpm.engine.impl.db.entitymanager.operation.DbOperation;
 import org.finos.fluxnova.bpm.engine.impl.history.HistoryLevel;
 import org.finos.fluxnova.bpm.engine.impl.persistence.entity.ExecutionEntity;
+import org.finos.fluxnova.bpm.engine.impl.persistence.entity.HistoryPartition;
 import org.finos.fluxnova.bpm.engine.impl.persistence.entity.JobEntity;
 import org.finos.fluxnova.bpm.engine.impl.util.ClassNameUtil;
 import org.finos.fluxnova.bpm.engine.impl.util.ExceptionUtil;
@@ -809,6 +810,27 @@ public class EnginePersistenceLogger extends ProcessEngineLogger {
 
   // exception code 110 is already taken. See requiredCamundaAdminOrPermissionException() for details.
 
+  public void droppedHistoryPartition(HistoryPartition partition) {
+    logInfo(
+        "111",
+        "Dropped expired partition '{}' of history table '{}' with bound '{}'",
+        partition.getPartitionName(), partition.getTableName(), partition.getBound());
+  }
+
+  public void skipHistoryPartition(HistoryPartition partition) {
+    logWarn(
+        "112",
+        "Skipped dropping expired partition '{}' of history table '{}' due to an unsupported partition name",
+        partition.getPartitionName(), partition.getTableName());
+  }
+
+  public void dropHistoryPartitionsFailed(Throwable cause) {
+    logWarn(
+        "113",
+        "Exception while dropping expired history partitions. Expired history is removed row by row instead: {}",
+        cause.getMessage(), cause);
+  }
+
   public static List<SQLException> findRelatedSqlExceptions(Throwable exception) {
     List<SQLException> sqlExceptionList = new ArrayList<>();
     Throwable cause = exception;
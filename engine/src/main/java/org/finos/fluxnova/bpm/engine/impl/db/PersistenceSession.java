@@ -17,6 +17,7 @@
 package org.finos.fluxnova.bpm.engine.impl.db;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 import org.finos.fluxnova.bpm.engine.impl.db.entitymanager.operation.DbOperation;
 import org.finos.fluxnova.bpm.engine.impl.db.entitymanager.operation.DbOperation.State;
@@ -58,6 +59,12 @@ public interface PersistenceSession extends Session {
 
   List<?> selectList(String statement, Object parameter);
 
+  /**
+   * Passes the results of the statement to the action one by one while they are
+   * read from the database. The results are neither collected nor reported as loaded.
+   */
+  void selectCursor(String statement, Object parameter, Consumer<Object> action);
+
   <T extends DbEntity> T selectById(Class<T> type, String id);
 
   Object selectOne(String statement, Object parameter);
@@ -31,6 +31,7 @@ import static org.finos.fluxnova.bpm.engine.impl.db.entitymanager.operation.DbOp
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Consumer;
 import org.finos.fluxnova.bpm.engine.OptimisticLockingException;
 import org.finos.fluxnova.bpm.engine.ProcessEngineException;
 import org.finos.fluxnova.bpm.engine.impl.DeploymentQueryImpl;
@@ -181,6 +182,30 @@ public class DbEntityManager implements Session, EntityLoadListener {
     return filterLoadedObjects(loadedObjects);
   }
 
+  /**
+   * Passes the results of the statement to the action while they are read from the database.
+   * In contrast to {@link #selectList(String, ListQueryParameterObject)}, the results are
+   * neither collected nor added to the entity cache, so that the memory consumption does not
+   * grow with the number of results. Entities that are already cached are passed instead of
+   * the loaded ones.
+   */
+  @SuppressWarnings("unchecked")
+  public <T> void selectCursor(String statement, ListQueryParameterObject parameter, Consumer<T> action) {
+    persistenceSession.selectCursor(statement, parameter, loadedObject -> {
+      Object result = loadedObject;
+      if (loadedObject instanceof DbEntity) {
+        DbEntity loadedEntity = (DbEntity) loadedObject;
+        DbEntity cachedEntity = dbEntityCache.get(loadedEntity.getClass(), loadedEntity.getId());
+        if (cachedEntity != null) {
+          result = cachedEntity;
+        } else if (loadedEntity instanceof DbEntityLifecycleAware) {
+          ((DbEntityLifecycleAware) loadedEntity).postLoad();
+        }
+      }
+      action.accept((T) result);
+    });
+  }
+
   public Object selectOne(String statement, Object parameter) {
     Object result = persistenceSession.selectOne(statement, parameter);
     if (result instanceof DbEntity) {
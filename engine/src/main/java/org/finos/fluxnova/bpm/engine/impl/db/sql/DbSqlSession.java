@@ -32,8 +32,13 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import org.apache.ibatis.cursor.Cursor;
 import org.apache.ibatis.exceptions.PersistenceException;
 import org.apache.ibatis.executor.BatchResult;
 import org.apache.ibatis.mapping.BoundSql;
@@ -54,6 +59,7 @@ import org.finos.fluxnova.bpm.engine.impl.db.entitymanager.operation.DbEntityOpe
 import org.finos.fluxnova.bpm.engine.impl.db.entitymanager.operation.DbOperation;
 import org.finos.fluxnova.bpm.engine.impl.db.entitymanager.operation.DbOperation.State;
 import org.finos.fluxnova.bpm.engine.impl.db.entitymanager.operation.DbOperationType;
+import org.finos.fluxnova.bpm.engine.impl.db.sql.QueryCountCache.CountLookup;
 import org.finos.fluxnova.bpm.engine.impl.util.DatabaseUtil;
 import org.finos.fluxnova.bpm.engine.impl.util.ExceptionUtil;
 import org.finos.fluxnova.bpm.engine.impl.util.IoUtil;
@@ -80,6 +86,9 @@ public abstract class DbSqlSession extends AbstractPersistenceSession {
   protected String connectionMetadataDefaultCatalog = null;
   protected String connectionMetadataDefaultSchema = null;
 
+  /** set while a query is counted by {@link org.finos.fluxnova.bpm.engine.query.Query#approximateCount()} */
+  protected CountLookup countLookup;
+
   public DbSqlSession(DbSqlSessionFactory dbSqlSessionFactory) {
     this.dbSqlSessionFactory = dbSqlSessionFactory;
     SqlSessionFactory sqlSessionFactory = dbSqlSessionFactory.getSqlSessionFactory();
@@ -98,8 +107,9 @@ public abstract class DbSqlSession extends AbstractPersistenceSession {
 
   @Override
   public List<?> selectList(String statement, Object parameter) {
-    statement = dbSqlSessionFactory.mapStatement(statement);
-    List<Object> resultList = executeSelectList(statement, parameter);
+    String mappedStatement = dbSqlSessionFactory.mapStatement(statement);
+    List<Object> resultList = recordQueryShape(statement, mappedStatement, parameter,
+        () -> executeSelectList(mappedStatement, parameter));
     for (Object object : resultList) {
       fireEntityLoaded(object);
     }
@@ -110,6 +120,20 @@ public abstract class DbSqlSession extends AbstractPersistenceSession {
     return ExceptionUtil.doWithExceptionWrapper(() -> sqlSession.selectList(statement, parameter));
   }
 
+  @Override
+  public void selectCursor(String statement, Object parameter, Consumer<Object> action) {
+    String mappedStatement = dbSqlSessionFactory.mapStatement(statement);
+    Cursor<Object> cursor = ExceptionUtil.doWithExceptionWrapper(() -> sqlSession.selectCursor(mappedStatement, parameter));
+    try {
+      Iterator<Object> results = cursor.iterator();
+      while (ExceptionUtil.doWithExceptionWrapper(results::hasNext)) {
+        action.accept(results.next());
+      }
+    } finally {
+      IoUtil.closeSilently(cursor);
+    }
+  }
+
   @Override
   @SuppressWarnings("unchecked")
   public <T extends DbEntity> T selectById(Class<T> type, String id) {
@@ -125,11 +149,56 @@ public abstract class DbSqlSession extends AbstractPersistenceSession {
   @Override
   public Object selectOne(String statement, Object parameter) {
     String mappedStatement = dbSqlSessionFactory.mapStatement(statement);
-    Object result = ExceptionUtil.doWithExceptionWrapper(() -> sqlSession.selectOne(mappedStatement, parameter));
+
+    if (countLookup != null) {
+      MappedStatement countStatement = sqlSession.getConfiguration().getMappedStatement(mappedStatement);
+      if (countLookup.isApplicable(countStatement)) {
+        return countLookup.selectCount(this, countStatement, parameter,
+            () -> recordQueryShape(statement, mappedStatement, parameter,
+                () -> ExceptionUtil.doWithExceptionWrapper(() -> sqlSession.selectOne(mappedStatement, parameter))));
+      }
+    }
+
+    Object result = recordQueryShape(statement, mappedStatement, parameter,
+        () -> ExceptionUtil.doWithExceptionWrapper(() -> sqlSession.selectOne(mappedStatement, parameter)));
     fireEntityLoaded(result);
     return result;
   }
 
+  /**
+   * Executes the query and, if the statement is recorded by the {@link QueryShapeRecorder},
+   * records its duration and number of results (or the count result) for the shape of its SQL.
+   */
+  protected <T> T recordQueryShape(String statement, String mappedStatement, Object parameter, Supplier<T> query) {
+    QueryShapeRecorder recorder = dbSqlSessionFactory.getQueryShapeRecorder();
+    if (recorder == null || !recorder.isRecorded(statement)) {
+      return query.get();
+    }
+
+    long start = System.nanoTime();
+    T result = query.get();
+    long duration = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+    long rows;
+    if (result instanceof List) {
+      rows = ((List<?>) result).size();
+    }
+    else if (result instanceof Number) {
+      rows = ((Number) result).longValue();
+    }
+    else {
+      rows = result != null ? 1 : 0;
+    }
+
+    String sql = sqlSession.getConfiguration()
+        .getMappedStatement(mappedStatement)
+        .getBoundSql(parameter)
+        .getSql();
+    recorder.record(statement, sql, duration, rows);
+
+    return result;
+  }
+
   // lock ////////////////////////////////////////////
 
   @Override
@@ -856,5 +925,12 @@ public abstract class DbSqlSession extends AbstractPersistenceSession {
   public DbSqlSessionFactory getDbSqlSessionFactory() {
     return dbSqlSessionFactory;
   }
+  public CountLookup getCountLookup() {
+    return countLookup;
+  }
+  public void setCountLookup(CountLookup countLookup) {
+    this.countLookup = countLookup;
+  }
+
 
 }
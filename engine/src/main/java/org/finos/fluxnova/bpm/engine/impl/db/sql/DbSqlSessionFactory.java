@@ -243,6 +243,9 @@ public class DbSqlSessionFactory implements SessionFactory {
     databaseSpecificExtractTimeUnitFromDate.put(MYSQL, defaultExtractTimeUnitFromDate);
 
     addDatabaseSpecificStatement(MYSQL, "toggleForeignKey", "toggleForeignKey_mysql");
+    addDatabaseSpecificStatement(MYSQL, "selectHistoryPartitions", "selectHistoryPartitions_mysql");
+    addDatabaseSpecificStatement(MYSQL, "selectTableRowCountEstimate", "selectTableRowCountEstimate_mysql");
+    addDatabaseSpecificStatement(MYSQL, "dropHistoryPartition", "dropHistoryPartition_mysql");
     addDatabaseSpecificStatement(MYSQL, "selectDeploymentsByQueryCriteria", "selectDeploymentsByQueryCriteria_mysql");
     addDatabaseSpecificStatement(MYSQL, "selectDeploymentCountByQueryCriteria", "selectDeploymentCountByQueryCriteria_mysql");
 
@@ -469,6 +472,10 @@ public class DbSqlSessionFactory implements SessionFactory {
     addDatabaseSpecificStatement(POSTGRES, "updateHistoricIncidentsByProcessInstanceId", "updateHistoricIncidentsByProcessInstanceId_postgres");
     addDatabaseSpecificStatement(POSTGRES, "updateUserOperationLogByRootProcessInstanceId", "updateUserOperationLogByRootProcessInstanceId_postgres");
     addDatabaseSpecificStatement(POSTGRES, "updateUserOperationLogByProcessInstanceId", "updateUserOperationLogByProcessInstanceId_postgres");
+    addDatabaseSpecificStatement(POSTGRES, "selectHistoryPartitions", "selectHistoryPartitions_postgres");
+    addDatabaseSpecificStatement(POSTGRES, "selectTableRowCountEstimate", "selectTableRowCountEstimate_postgres");
+    addDatabaseSpecificStatement(POSTGRES, "detachHistoryPartition", "detachHistoryPartition_postgres");
+    addDatabaseSpecificStatement(POSTGRES, "dropHistoryPartition", "dropHistoryPartition_postgres");
 
 
     constants = new HashMap<>();
@@ -565,6 +572,9 @@ public class DbSqlSessionFactory implements SessionFactory {
     addDatabaseSpecificStatement(ORACLE, "deleteHistoricBatchesByRemovalTime", "deleteHistoricBatchesByRemovalTime_oracle");
     addDatabaseSpecificStatement(ORACLE, "deleteAuthorizationsByRemovalTime", "deleteAuthorizationsByRemovalTime_oracle");
     addDatabaseSpecificStatement(ORACLE, "deleteTaskMetricsByRemovalTime", "deleteTaskMetricsByRemovalTime_oracle");
+    addDatabaseSpecificStatement(ORACLE, "selectHistoryPartitions", "selectHistoryPartitions_oracle");
+    addDatabaseSpecificStatement(ORACLE, "selectTableRowCountEstimate", "selectTableRowCountEstimate_oracle");
+    addDatabaseSpecificStatement(ORACLE, "dropHistoryPartition", "dropHistoryPartition_oracle");
 
     constants = new HashMap<>();
     constants.put("constant.event", "cast('event' as nvarchar2(255))");
@@ -828,6 +838,7 @@ public class DbSqlSessionFactory implements SessionFactory {
   protected SqlSessionFactory sqlSessionFactory;
   protected IdGenerator idGenerator;
   protected Map<String, String> statementMappings;
+  protected QueryShapeRecorder queryShapeRecorder;
   protected Map<Class<?>,String>  insertStatements = new ConcurrentHashMap<>();
   protected Map<Class<?>,String>  updateStatements = new ConcurrentHashMap<>();
   protected Map<Class<?>,String>  deleteStatements = new ConcurrentHashMap<>();
@@ -1019,6 +1030,14 @@ public class DbSqlSessionFactory implements SessionFactory {
     this.dmnEnabled = dmnEnabled;
   }
 
+  public QueryShapeRecorder getQueryShapeRecorder() {
+    return queryShapeRecorder;
+  }
+
+  public void setQueryShapeRecorder(QueryShapeRecorder queryShapeRecorder) {
+    this.queryShapeRecorder = queryShapeRecorder;
+  }
+
   public void setDatabaseTablePrefix(String databaseTablePrefix) {
     this.databaseTablePrefix = databaseTablePrefix;
   }
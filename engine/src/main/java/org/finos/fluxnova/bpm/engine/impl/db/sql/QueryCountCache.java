@@ -0,0 +1,229 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.finos.fluxnova.bpm.engine.impl.db.sql;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.ParameterMapping;
+import org.apache.ibatis.reflection.MetaObject;
+import org.apache.ibatis.session.Configuration;
+import org.finos.fluxnova.bpm.engine.impl.util.ClockUtil;
+import org.finos.fluxnova.commons.utils.cache.Cache;
+import org.finos.fluxnova.commons.utils.cache.ConcurrentLruCache;
+
+/**
+ * Holds the counts served by {@link org.finos.fluxnova.bpm.engine.query.Query#approximateCount()}.
+ *
+ * <p>A count is cached by the SQL and the parameter values of its count statement, i.e. by the
+ * normalized query including its authorization and tenant checks, and served from the cache as
+ * long as it is younger than the time to live configured for the query. Counts of whole tables can
+ * be estimated from the statistics of the database instead of being counted.</p>
+ *
+ * <p>Cached counts are not invalidated when the counted data changes.</p>
+ */
+public class QueryCountCache {
+
+  protected static final List<String> ESTIMATE_SUPPORTED_DATABASES = Arrays.asList(
+      DbSqlSessionFactory.POSTGRES,
+      DbSqlSessionFactory.ORACLE,
+      DbSqlSessionFactory.MYSQL);
+
+  /** the tables a statement selects from, sub selects are not matched */
+  protected static final Pattern TABLE_PATTERN = Pattern.compile("\\bfrom ([\\w.$]+)", Pattern.CASE_INSENSITIVE);
+  /** the empty restriction rendered by queries without criteria */
+  protected static final Pattern EMPTY_RESTRICTION_PATTERN = Pattern.compile("\\bwhere \\( 1 = 1 \\)", Pattern.CASE_INSENSITIVE);
+  /** anything that may exclude rows of the counted table; left joins cannot */
+  protected static final Pattern RESTRICTION_PATTERN = Pattern.compile(
+      "\\b(where|union|having|group by)\\b|(?<!\\bleft |\\bleft outer )\\bjoin\\b", Pattern.CASE_INSENSITIVE);
+
+  protected Cache<String, CachedCount> cache;
+  protected long timeToLive;
+  protected Map<String, Long> timeToLiveByQuery;
+  protected boolean estimateEnabled;
+
+  public QueryCountCache(int capacity, long timeToLive, Map<String, Long> timeToLiveByQuery, boolean estimateEnabled) {
+    this.cache = new ConcurrentLruCache<>(capacity);
+    this.timeToLive = timeToLive;
+    this.timeToLiveByQuery = timeToLiveByQuery != null ? timeToLiveByQuery : new HashMap<>();
+    this.estimateEnabled = estimateEnabled;
+  }
+
+  /**
+   * @param queryName the name of the query interface, e.g. <code>TaskQuery</code>
+   * @return a lookup for the count statement of a single query execution
+   */
+  public CountLookup createLookup(String queryName) {
+    return new CountLookup(getTimeToLive(queryName));
+  }
+
+  public long getTimeToLive(String queryName) {
+    Long queryTimeToLive = timeToLiveByQuery.get(queryName);
+    return queryTimeToLive != null ? queryTimeToLive : timeToLive;
+  }
+
+  public void clear() {
+    cache.clear();
+  }
+
+  public int size() {
+    return cache.size();
+  }
+
+  protected String getCacheKey(BoundSql boundSql, Configuration configuration, Object parameter) {
+    StringBuilder key = new StringBuilder(normalize(boundSql.getSql()));
+
+    MetaObject metaParameter = parameter != null ? configuration.newMetaObject(parameter) : null;
+    for (ParameterMapping parameterMapping : boundSql.getParameterMappings()) {
+      String property = parameterMapping.getProperty();
+
+      Object value;
+      if (boundSql.hasAdditionalParameter(property)) {
+        value = boundSql.getAdditionalParameter(property);
+      } else if (parameter == null) {
+        value = null;
+      } else if (configuration.getTypeHandlerRegistry().hasTypeHandler(parameter.getClass())) {
+        value = parameter;
+      } else {
+        value = metaParameter.getValue(property);
+      }
+
+      key.append('|').append(value);
+    }
+
+    return key.toString();
+  }
+
+  protected String normalize(String sql) {
+    return sql.trim().replaceAll("\\s+", " ");
+  }
+
+  /**
+   * @return the estimated number of rows of the table counted by the given statement or
+   * <code>null</code> if the statement counts anything else than a whole table or there are no
+   * statistics for it. Left joined tables are ignored, they cannot change the number of distinct ids.
+   */
+  protected Long estimateCount(DbSqlSession dbSqlSession, BoundSql boundSql) {
+    DbSqlSessionFactory dbSqlSessionFactory = dbSqlSession.getDbSqlSessionFactory();
+    if (!ESTIMATE_SUPPORTED_DATABASES.contains(dbSqlSessionFactory.getDatabaseType())
+        || !boundSql.getParameterMappings().isEmpty()) {
+      return null;
+    }
+
+    String sql = EMPTY_RESTRICTION_PATTERN.matcher(normalize(boundSql.getSql())).replaceAll("");
+    Matcher tableMatcher = TABLE_PATTERN.matcher(sql);
+    if (RESTRICTION_PATTERN.matcher(sql).find() || !tableMatcher.find()) {
+      return null;
+    }
+
+    String tableName = tableMatcher.group(1);
+    if (tableMatcher.find()) {
+      return null;
+    }
+    tableName = tableName.substring(tableName.lastIndexOf('.') + 1);
+
+    Map<String, Object> parameters = new HashMap<>();
+    parameters.put("tableName", tableName);
+    parameters.put("schema", dbSqlSessionFactory.getDatabaseSchema());
+
+    Long estimate = (Long) dbSqlSession.selectOne("selectTableRowCountEstimate", parameters);
+    return estimate != null && estimate >= 0 ? estimate : null;
+  }
+
+  public class CountLookup {
+
+    protected long timeToLive;
+    protected boolean exact = true;
+    protected boolean done = false;
+
+    public CountLookup(long timeToLive) {
+      this.timeToLive = timeToLive;
+    }
+
+    /**
+     * Whether the result of the given statement is a count this lookup is responsible for.
+     * Only the first count statement executed by a query is looked up.
+     */
+    public boolean isApplicable(MappedStatement mappedStatement) {
+      if (done || mappedStatement.getResultMaps().size() != 1) {
+        return false;
+      }
+      Class<?> resultType = mappedStatement.getResultMaps().get(0).getType();
+      return Long.class.equals(resultType) || long.class.equals(resultType);
+    }
+
+    public Long selectCount(DbSqlSession dbSqlSession, MappedStatement mappedStatement, Object parameter, Supplier<Long> count) {
+      done = true;
+
+      Configuration configuration = mappedStatement.getConfiguration();
+      BoundSql boundSql = mappedStatement.getBoundSql(parameter);
+      String key = getCacheKey(boundSql, configuration, parameter);
+      long now = ClockUtil.getCurrentTime().getTime();
+
+      CachedCount cachedCount = cache.get(key);
+      if (cachedCount != null && now - cachedCount.getTimestamp() < timeToLive) {
+        exact = false;
+        return cachedCount.getCount();
+      }
+
+      if (estimateEnabled) {
+        Long estimate = estimateCount(dbSqlSession, boundSql);
+        if (estimate != null) {
+          exact = false;
+          return estimate;
+        }
+      }
+
+      Long result = count.get();
+      if (result != null && timeToLive > 0) {
+        cache.put(key, new CachedCount(result, now));
+      }
+      return result;
+    }
+
+    public boolean isExact() {
+      return exact;
+    }
+  }
+
+  public static class CachedCount {
+
+    protected long count;
+    protected long timestamp;
+
+    public CachedCount(long count, long timestamp) {
+      this.count = count;
+      this.timestamp = timestamp;
+    }
+
+    public long getCount() {
+      return count;
+    }
+
+    public long getTimestamp() {
+      return timestamp;
+    }
+  }
+
+}
@@ -0,0 +1,261 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.finos.fluxnova.bpm.engine.impl.db.sql;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Suggests indexes for the shape of a query recorded by the {@link QueryShapeRecorder}.
+ *
+ * <p>The SQL is split into its (sub) selects. Per select and table, the columns compared with a
+ * parameter are collected; columns compared for equality or with <code>IN</code> lead the
+ * suggested index, followed by at most one column compared with a range or <code>LIKE</code>.
+ * No index is suggested if an existing index of the table already starts with these columns.</p>
+ *
+ * <p>The suggestions are heuristic: they neither consider the selectivity of the columns nor
+ * whether conditions are combined with <code>OR</code>, and should be checked against the query
+ * plans of the database before an index is created.</p>
+ */
+public class QueryShapeIndexAdvisor {
+
+  protected static final int MAX_INDEX_COLUMNS = 4;
+
+  protected static final String INDEX_NAME_PREFIX = "ACT_IDX_SUGG_";
+
+  /** tables whose access paths are indexed by the engine already */
+  protected static final Set<String> IGNORED_TABLES = new HashSet<>();
+
+  static {
+    IGNORED_TABLES.add("ACT_RU_AUTHORIZATION");
+  }
+
+  protected static final Pattern SELECT_PATTERN = Pattern.compile("^\\s*select\\b", Pattern.CASE_INSENSITIVE);
+
+  protected static final Pattern TABLE_PATTERN = Pattern.compile(
+      "\\b(?:from|join) ([\\w.$]+)(?: (?!(?:on|where|left|right|inner|outer|cross|join|group|order|union|and|or)\\b)(\\w+))?",
+      Pattern.CASE_INSENSITIVE);
+
+  /** a column compared with a parameter, e.g. <code>RES.NAME_ = ?</code> or <code>UPPER(NAME_) like UPPER(?)</code> */
+  protected static final Pattern PREDICATE_PATTERN = Pattern.compile(
+      "(?:\\b(\\w+)\\.)?\\b(\\w+_)\\)? ?(<=|>=|=|<|>|like\\b|in\\b) ?(?:(?:upper|lower) ?)?\\(* ?\\?",
+      Pattern.CASE_INSENSITIVE);
+
+  protected String databaseType;
+
+  public QueryShapeIndexAdvisor(String databaseType) {
+    this.databaseType = databaseType;
+  }
+
+  /**
+   * @param shape the normalized SQL of a query
+   * @param existingIndexes returns the columns of the existing indexes of a table
+   * @return the statements creating the suggested indexes
+   */
+  public List<String> suggestIndexes(String shape, Function<String, List<List<String>>> existingIndexes) {
+    Set<String> suggestions = new LinkedHashSet<>();
+
+    for (Select select : parseSelects(shape)) {
+      for (Map.Entry<String, ComparedColumns> tableColumns : select.getComparedColumns().entrySet()) {
+        String table = tableColumns.getKey();
+        ComparedColumns comparedColumns = tableColumns.getValue();
+        List<String> columns = getIndexColumns(comparedColumns.equality, comparedColumns.range);
+
+        if (!columns.isEmpty() && !isIgnored(table)
+            && !isCovered(columns, comparedColumns.equality, existingIndexes.apply(table))) {
+          suggestions.add(createIndexStatement(table, columns));
+        }
+      }
+    }
+
+    return new ArrayList<>(suggestions);
+  }
+
+  protected List<String> getIndexColumns(Set<String> equalityColumns, Set<String> rangeColumns) {
+    List<String> columns = new ArrayList<>();
+    for (String column : equalityColumns) {
+      if (columns.size() < MAX_INDEX_COLUMNS) {
+        columns.add(column);
+      }
+    }
+    for (String column : rangeColumns) {
+      if (columns.size() < MAX_INDEX_COLUMNS && !equalityColumns.contains(column)) {
+        columns.add(column);
+        break;
+      }
+    }
+    return columns;
+  }
+
+  /**
+   * An index covers the suggested columns if it starts with the equality columns in any order,
+   * followed by the range column if there is one.
+   */
+  protected boolean isCovered(List<String> columns, Set<String> equalityColumns, List<List<String>> indexes) {
+    int equalityCount = 0;
+    while (equalityCount < columns.size() && equalityColumns.contains(columns.get(equalityCount))) {
+      equalityCount++;
+    }
+
+    for (List<String> index : indexes) {
+      if (index.size() >= columns.size()
+          && new HashSet<>(index.subList(0, equalityCount)).equals(new HashSet<>(columns.subList(0, equalityCount)))
+          && index.subList(equalityCount, columns.size()).equals(columns.subList(equalityCount, columns.size()))) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  protected boolean isIgnored(String table) {
+    String tableName = table.substring(table.lastIndexOf('.') + 1).toUpperCase(Locale.ROOT);
+    for (String ignoredTable : IGNORED_TABLES) {
+      if (tableName.endsWith(ignoredTable)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  protected String createIndexStatement(String table, List<String> columns) {
+    String indexName = INDEX_NAME_PREFIX
+        + Integer.toHexString((table + columns).hashCode()).toUpperCase(Locale.ROOT);
+    String create = DbSqlSessionFactory.POSTGRES.equals(databaseType) ? "create index concurrently " : "create index ";
+    return create + indexName + " on " + table + " (" + String.join(", ", columns) + ")";
+  }
+
+  /**
+   * Splits the SQL into its selects. The text of a select does not contain its sub selects,
+   * so that the tables and conditions of a select can be matched separately.
+   */
+  protected List<Select> parseSelects(String sql) {
+    List<Select> selects = new ArrayList<>();
+    Select current = new Select(null);
+    selects.add(current);
+
+    Deque<Boolean> parentheses = new ArrayDeque<>();
+    for (int i = 0; i < sql.length(); i++) {
+      char c = sql.charAt(i);
+      if (c == '(') {
+        boolean subSelect = SELECT_PATTERN.matcher(sql.substring(i + 1, Math.min(sql.length(), i + 10))).find();
+        parentheses.push(subSelect);
+        if (subSelect) {
+          current.text.append("( )");
+          current = new Select(current);
+          selects.add(current);
+        } else {
+          current.text.append(c);
+        }
+      } else if (c == ')') {
+        boolean subSelect = !parentheses.isEmpty() && parentheses.pop();
+        if (subSelect) {
+          current = current.parent;
+        } else {
+          current.text.append(c);
+        }
+      } else {
+        current.text.append(c);
+      }
+    }
+
+    return selects;
+  }
+
+  protected static class Select {
+
+    protected final Select parent;
+    protected final StringBuilder text = new StringBuilder();
+    protected Map<String, String> tablesByAlias;
+    protected List<String> tables;
+
+    public Select(Select parent) {
+      this.parent = parent;
+    }
+
+    protected void parseTables() {
+      if (tables == null) {
+        tables = new ArrayList<>();
+        tablesByAlias = new HashMap<>();
+        Matcher matcher = TABLE_PATTERN.matcher(text);
+        while (matcher.find()) {
+          String table = matcher.group(1);
+          tables.add(table);
+          if (matcher.group(2) != null) {
+            tablesByAlias.put(matcher.group(2).toUpperCase(Locale.ROOT), table);
+          }
+        }
+      }
+    }
+
+    protected String resolveTable(String alias) {
+      parseTables();
+      if (alias == null) {
+        return tables.size() == 1 ? tables.get(0) : null;
+      }
+      String table = tablesByAlias.get(alias.toUpperCase(Locale.ROOT));
+      if (table == null && parent != null) {
+        return parent.resolveTable(alias);
+      }
+      return table;
+    }
+
+    /**
+     * @return the columns compared with a parameter per table
+     */
+    public Map<String, ComparedColumns> getComparedColumns() {
+      Map<String, ComparedColumns> columns = new LinkedHashMap<>();
+
+      Matcher matcher = PREDICATE_PATTERN.matcher(text);
+      while (matcher.find()) {
+        String table = resolveTable(matcher.group(1));
+        if (table != null) {
+          ComparedColumns tableColumns = columns.computeIfAbsent(table, t -> new ComparedColumns());
+
+          String column = matcher.group(2).toUpperCase(Locale.ROOT);
+          String operator = matcher.group(3).toLowerCase(Locale.ROOT);
+          if ("=".equals(operator) || "in".equals(operator)) {
+            tableColumns.equality.add(column);
+          } else {
+            tableColumns.range.add(column);
+          }
+        }
+      }
+
+      return columns;
+    }
+  }
+
+  protected static class ComparedColumns {
+
+    /** columns compared for equality or with <code>IN</code> */
+    protected final Set<String> equality = new LinkedHashSet<>();
+    /** columns compared with a range or <code>LIKE</code> */
+    protected final Set<String> range = new LinkedHashSet<>();
+  }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.finos.fluxnova.bpm.engine.impl.db.sql;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import org.finos.fluxnova.bpm.engine.impl.management.QueryShapeStatisticsImpl;
+
+/**
+ * Records the execution time and the number of results of the queries executed with a set of
+ * statements, grouped by the shape of the queries, i.e. by their SQL regardless of the values
+ * of its parameters.
+ *
+ * <p>At most <code>capacity</code> shapes are recorded; queries of further shapes are ignored
+ * until the statistics are {@link #clear() cleared}.</p>
+ */
+public class QueryShapeRecorder {
+
+  /** lists of parameters, e.g. of an IN condition, which differ in length from query to query */
+  protected static final Pattern PARAMETER_LIST_PATTERN = Pattern.compile("\\( ?\\?( ?, ?\\?)+ ?\\)");
+
+  protected Set<String> statements;
+  protected int capacity;
+  protected ConcurrentMap<String, QueryShapeRecord> records = new ConcurrentHashMap<>();
+
+  public QueryShapeRecorder(Set<String> statements, int capacity) {
+    this.statements = statements != null ? statements : new HashSet<>();
+    this.capacity = capacity;
+  }
+
+  /**
+   * @return whether queries executed with the given statement are recorded
+   */
+  public boolean isRecorded(String statement) {
+    return statements.contains(statement);
+  }
+
+  /**
+   * @param statement the name of the statement the query was executed with
+   * @param sql the SQL of the query
+   * @param duration the execution time in milliseconds
+   * @param rows the number of results, or the counted number for count queries
+   */
+  public void record(String statement, String sql, long duration, long rows) {
+    String shape = normalize(sql);
+    String key = statement + '|' + shape;
+
+    QueryShapeRecord record = records.get(key);
+    if (record == null) {
+      if (records.size() >= capacity) {
+        return;
+      }
+      record = records.computeIfAbsent(key, k -> new QueryShapeRecord(statement, shape));
+    }
+    record.add(duration, rows);
+  }
+
+  /**
+   * @return the statistics of the shapes with the highest total execution time, slowest first
+   */
+  public List<QueryShapeStatisticsImpl> getSlowest(int maxResults) {
+    return records.values().stream()
+        .map(QueryShapeRecord::toStatistics)
+        .sorted(Comparator.comparingLong(QueryShapeStatisticsImpl::getTotalDuration)
+            .thenComparingLong(QueryShapeStatisticsImpl::getMaxDuration)
+            .reversed())
+        .limit(maxResults)
+        .collect(Collectors.toCollection(ArrayList::new));
+  }
+
+  public void clear() {
+    records.clear();
+  }
+
+  public int size() {
+    return records.size();
+  }
+
+  protected String normalize(String sql) {
+    String shape = sql.trim().replaceAll("\\s+", " ");
+    return PARAMETER_LIST_PATTERN.matcher(shape).replaceAll("( ? )");
+  }
+
+  protected static class QueryShapeRecord {
+
+    protected final String statement;
+    protected final String shape;
+    protected long executionCount;
+    protected long totalDuration;
+    protected long maxDuration;
+    protected long totalRows;
+    protected long maxRows;
+
+    public QueryShapeRecord(String statement, String shape) {
+      this.statement = statement;
+      this.shape = shape;
+    }
+
+    public synchronized void add(long duration, long rows) {
+      executionCount++;
+      totalDuration += duration;
+      maxDuration = Math.max(maxDuration, duration);
+      totalRows += rows;
+      maxRows = Math.max(maxRows, rows);
+    }
+
+    public synchronized QueryShapeStatisticsImpl toStatistics() {
+      return new QueryShapeStatisticsImpl(statement, shape, executionCount, totalDuration, maxDuration,
+          totalRows, maxRows);
+    }
+  }
+}
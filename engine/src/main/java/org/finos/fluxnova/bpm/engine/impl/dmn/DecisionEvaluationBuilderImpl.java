@@ -18,6 +18,7 @@ package org.finos.fluxnova.bpm.engine.impl.dmn;
 
 import static org.finos.fluxnova.bpm.engine.impl.util.EnsureUtil.ensureOnlyOneNotNull;
 
+import java.util.List;
 import java.util.Map;
 
 import org.finos.fluxnova.bpm.dmn.engine.DmnDecisionResult;
@@ -27,6 +28,7 @@ import org.finos.fluxnova.bpm.engine.exception.NotValidException;
 import org.finos.fluxnova.bpm.engine.exception.NullValueException;
 import org.finos.fluxnova.bpm.engine.exception.dmn.DecisionDefinitionNotFoundException;
 import org.finos.fluxnova.bpm.engine.impl.ProcessEngineLogger;
+import org.finos.fluxnova.bpm.engine.impl.dmn.cmd.EvaluateDecisionBatchCmd;
 import org.finos.fluxnova.bpm.engine.impl.dmn.cmd.EvaluateDecisionCmd;
 import org.finos.fluxnova.bpm.engine.impl.interceptor.CommandExecutor;
 
@@ -90,6 +92,24 @@ public class DecisionEvaluationBuilderImpl implements DecisionsEvaluationBuilder
     }
   }
 
+  public List<DmnDecisionResult> evaluateBatch(List<? extends Map<String, Object>> variablesBatch) {
+    ensureOnlyOneNotNull(NotValidException.class, "either decision definition id or key must be set", decisionDefinitionId, decisionDefinitionKey);
+
+    if (isTenantIdSet && decisionDefinitionId != null) {
+      throw LOG.exceptionEvaluateDecisionDefinitionByIdAndTenantId();
+    }
+
+    try {
+      return commandExecutor.execute(new EvaluateDecisionBatchCmd(this, variablesBatch));
+    }
+    catch (NullValueException e) {
+      throw new NotValidException(e.getMessage(), e);
+    }
+    catch (DecisionDefinitionNotFoundException e) {
+      throw new NotFoundException(e.getMessage(), e);
+    }
+  }
+
   public static DecisionsEvaluationBuilder evaluateDecisionByKey(CommandExecutor commandExecutor, String decisionDefinitionKey) {
     DecisionEvaluationBuilderImpl builder = new DecisionEvaluationBuilderImpl(commandExecutor);
     builder.decisionDefinitionKey = decisionDefinitionKey;
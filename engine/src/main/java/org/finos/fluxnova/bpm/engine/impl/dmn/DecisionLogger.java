@@ -71,4 +71,9 @@ public class DecisionLogger extends ProcessEngineLogger {
       ));
   }
 
+  public void parallelDecisionEvaluationNotSupported() {
+    logWarn(
+        "006", "Parallel decision evaluation is not supported by the process engine and is disabled.");
+  }
+
 }
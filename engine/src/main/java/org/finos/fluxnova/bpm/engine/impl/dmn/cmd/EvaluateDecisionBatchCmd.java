@@ -0,0 +1,89 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.finos.fluxnova.bpm.engine.impl.dmn.cmd;
+
+import static org.finos.fluxnova.bpm.engine.impl.util.DecisionEvaluationUtil.evaluateDecisionBatch;
+import static org.finos.fluxnova.bpm.engine.impl.util.EnsureUtil.ensureNotNull;
+import static org.finos.fluxnova.bpm.engine.impl.util.EnsureUtil.ensureOnlyOneNotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.finos.fluxnova.bpm.dmn.engine.DmnDecisionResult;
+import org.finos.fluxnova.bpm.engine.ProcessEngineException;
+import org.finos.fluxnova.bpm.engine.history.UserOperationLogEntry;
+import org.finos.fluxnova.bpm.engine.impl.cfg.CommandChecker;
+import org.finos.fluxnova.bpm.engine.impl.dmn.DecisionEvaluationBuilderImpl;
+import org.finos.fluxnova.bpm.engine.impl.interceptor.Command;
+import org.finos.fluxnova.bpm.engine.impl.interceptor.CommandContext;
+import org.finos.fluxnova.bpm.engine.impl.persistence.entity.PropertyChange;
+import org.finos.fluxnova.bpm.engine.repository.DecisionDefinition;
+import org.finos.fluxnova.bpm.engine.variable.VariableMap;
+import org.finos.fluxnova.bpm.engine.variable.Variables;
+
+/**
+ * Evaluates the decision with the given key or id for a batch of variables.
+ *
+ * The decision definition is resolved and the authorization is checked once
+ * for the whole batch. Each evaluation is recorded by its own historic decision
+ * instance, the batch by one user operation log entry.
+ */
+public class EvaluateDecisionBatchCmd implements Command<List<DmnDecisionResult>> {
+
+  protected EvaluateDecisionCmd evaluateDecisionCmd;
+  protected List<VariableMap> variablesBatch;
+
+  public EvaluateDecisionBatchCmd(DecisionEvaluationBuilderImpl builder, List<? extends Map<String, Object>> variablesBatch) {
+    ensureNotNull("variablesBatch", variablesBatch);
+
+    this.evaluateDecisionCmd = new EvaluateDecisionCmd(builder);
+    this.variablesBatch = new ArrayList<>(variablesBatch.size());
+    for (Map<String, Object> variables : variablesBatch) {
+      this.variablesBatch.add(Variables.fromMap(variables));
+    }
+  }
+
+  @Override
+  public List<DmnDecisionResult> execute(CommandContext commandContext) {
+    ensureOnlyOneNotNull("either decision definition id or key must be set", evaluateDecisionCmd.decisionDefinitionId, evaluateDecisionCmd.decisionDefinitionKey);
+
+    DecisionDefinition decisionDefinition = evaluateDecisionCmd.getDecisionDefinition(commandContext);
+
+    for(CommandChecker checker : commandContext.getProcessEngineConfiguration().getCommandCheckers()) {
+      checker.checkEvaluateDecision(decisionDefinition);
+    }
+
+    writeUserOperationLog(commandContext, decisionDefinition);
+
+    try {
+      return evaluateDecisionBatch(decisionDefinition, variablesBatch);
+    }
+    catch (Exception e) {
+      throw new ProcessEngineException("Exception while evaluating decision with key '" + decisionDefinition.getKey() + "'", e);
+    }
+  }
+
+  protected void writeUserOperationLog(CommandContext commandContext, DecisionDefinition decisionDefinition) {
+    List<PropertyChange> propertyChanges = new ArrayList<>();
+    propertyChanges.add(new PropertyChange("decisionDefinitionId", null, decisionDefinition.getId()));
+    propertyChanges.add(new PropertyChange("decisionDefinitionKey", null, decisionDefinition.getKey()));
+    propertyChanges.add(new PropertyChange("nrOfInstances", null, variablesBatch.size()));
+    commandContext.getOperationLogManager().logDecisionDefinitionOperation(UserOperationLogEntry.OPERATION_TYPE_EVALUATE, decisionDefinition.getTenantId(), propertyChanges);
+  }
+
+}
@@ -26,6 +26,8 @@ import org.finos.fluxnova.bpm.dmn.engine.impl.spi.el.DmnScriptEngineResolver;
 import org.finos.fluxnova.bpm.dmn.engine.impl.spi.el.ElProvider;
 import org.finos.fluxnova.bpm.dmn.engine.impl.spi.transform.DmnTransformer;
 import org.finos.fluxnova.bpm.dmn.feel.impl.scala.function.FeelCustomFunctionProvider;
+import org.finos.fluxnova.bpm.engine.impl.ProcessEngineLogger;
+import org.finos.fluxnova.bpm.engine.impl.dmn.DecisionLogger;
 import org.finos.fluxnova.bpm.engine.impl.dmn.transformer.DecisionDefinitionHandler;
 import org.finos.fluxnova.bpm.engine.impl.dmn.transformer.DecisionRequirementsDefinitionTransformHandler;
 import org.finos.fluxnova.bpm.engine.impl.history.parser.HistoryDecisionEvaluationListener;
@@ -43,6 +45,8 @@ import org.finos.fluxnova.bpm.model.dmn.instance.Definitions;
  */
 public class DmnEngineConfigurationBuilder {
 
+  protected static final DecisionLogger LOG = ProcessEngineLogger.DECISION_LOGGER;
+
   protected final DefaultDmnEngineConfiguration dmnEngineConfiguration;
 
   protected DmnHistoryEventProducer dmnHistoryEventProducer;
@@ -113,6 +117,13 @@ public class DmnEngineConfigurationBuilder {
       dmnEngineConfiguration.setFeelCustomFunctionProviders(feelCustomFunctionProviders);
     }
 
+    // the evaluation depends on the command context, the process application
+    // and the context class loader which are bound to the calling thread
+    if (dmnEngineConfiguration.isParallelDecisionEvaluationEnabled()) {
+      LOG.parallelDecisionEvaluationNotSupported();
+      dmnEngineConfiguration.setParallelDecisionEvaluationEnabled(false);
+    }
+
     return dmnEngineConfiguration;
   }
 
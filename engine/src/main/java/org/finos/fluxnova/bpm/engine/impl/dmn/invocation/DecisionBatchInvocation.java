@@ -0,0 +1,70 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.finos.fluxnova.bpm.engine.impl.dmn.invocation;
+
+import java.util.List;
+
+import org.finos.fluxnova.bpm.dmn.engine.DmnDecision;
+import org.finos.fluxnova.bpm.dmn.engine.DmnDecisionResult;
+import org.finos.fluxnova.bpm.dmn.engine.DmnEngine;
+import org.finos.fluxnova.bpm.engine.impl.context.Context;
+import org.finos.fluxnova.bpm.engine.impl.delegate.DelegateInvocation;
+import org.finos.fluxnova.bpm.engine.impl.dmn.entity.repository.DecisionDefinitionEntity;
+import org.finos.fluxnova.bpm.engine.repository.DecisionDefinition;
+import org.finos.fluxnova.bpm.engine.variable.VariableMap;
+
+/**
+ * {@link DelegateInvocation} invoking a {@link DecisionDefinition}
+ * for a batch of {@link VariableMap}s.
+ *
+ * The DmnEngine instance is resolved from the Context.
+ *
+ * The invocation result is a list of {@link DmnDecisionResult}s, in the
+ * order of the variable maps.
+ *
+ * The target of the invocation is the {@link DecisionDefinition}.
+ */
+public class DecisionBatchInvocation extends DelegateInvocation {
+
+  protected DecisionDefinition decisionDefinition;
+  protected List<VariableMap> variablesBatch;
+
+  public DecisionBatchInvocation(DecisionDefinition decisionDefinition, List<VariableMap> variablesBatch) {
+    super(null, (DecisionDefinitionEntity) decisionDefinition);
+    this.decisionDefinition = decisionDefinition;
+    this.variablesBatch = variablesBatch;
+  }
+
+  @Override
+  protected void invoke() throws Exception {
+    final DmnEngine dmnEngine = Context.getProcessEngineConfiguration()
+      .getDmnEngine();
+
+    invocationResult = dmnEngine.evaluateDecisionBatch((DmnDecision) decisionDefinition, variablesBatch);
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public List<DmnDecisionResult> getInvocationResult() {
+    return (List<DmnDecisionResult>) super.getInvocationResult();
+  }
+
+  public DecisionDefinition getDecisionDefinition() {
+    return decisionDefinition;
+  }
+
+}
@@ -90,6 +90,20 @@ public class JuelExpressionManager implements ExpressionManager, ElProviderCompa
     this.expressionFactory = expressionFactory;
   }
 
+  /**
+   * Lets the default expression factory compile value expressions once they have been
+   * evaluated the given number of times. The new factory keeps the tree store and type converter
+   * of the default one. A custom expression factory, including a subclass of the default one, is
+   * kept as it is.
+   *
+   * @param expressionCompileThreshold number of evaluations, <code>0</code> to never compile
+   */
+  public void setExpressionCompileThreshold(int expressionCompileThreshold) {
+    if (expressionFactory != null && expressionFactory.getClass() == ExpressionFactoryImpl.class) {
+      expressionFactory = new ExpressionFactoryImpl((ExpressionFactoryImpl) expressionFactory, expressionCompileThreshold);
+    }
+  }
+
   public ELContext getElContext(VariableScope variableScope) {
     ensureInitialized();
     ELContext elContext = null;
@@ -39,6 +39,7 @@ import org.finos.fluxnova.bpm.engine.history.JobState;
 import org.finos.fluxnova.bpm.engine.impl.ProcessEngineLogger;
 import org.finos.fluxnova.bpm.engine.impl.batch.BatchEntity;
 import org.finos.fluxnova.bpm.engine.impl.batch.history.HistoricBatchEntity;
+import org.finos.fluxnova.bpm.engine.impl.bpmn.helper.BpmnProperties;
 import org.finos.fluxnova.bpm.engine.impl.cfg.ConfigurationLogger;
 import org.finos.fluxnova.bpm.engine.impl.cfg.IdGenerator;
 import org.finos.fluxnova.bpm.engine.impl.cmmn.entity.repository.CaseDefinitionEntity;
@@ -644,10 +645,17 @@ public class DefaultHistoryEventProducer implements HistoryEventProducer {
       Date removalTime = calculateRemovalTime(evt);
 
       if (removalTime != null) {
-        addRemovalTimeToHistoricProcessInstances(evt.getRootProcessInstanceId(), removalTime);
+        if (isStraightThroughProcessInstance(executionEntity, evt)) {
+          // nothing has been flushed for this instance yet, no need for bulk updates
+          evt.setRemovalTime(removalTime);
+          addRemovalTimeToTransientHistoricEntities(evt.getRootProcessInstanceId(), removalTime);
+
+        } else {
+          addRemovalTimeToHistoricProcessInstances(evt.getRootProcessInstanceId(), removalTime);
 
-        if (isDmnEnabled()) {
-          addRemovalTimeToHistoricDecisions(evt.getRootProcessInstanceId(), removalTime);
+          if (isDmnEnabled()) {
+            addRemovalTimeToHistoricDecisions(evt.getRootProcessInstanceId(), removalTime);
+          }
         }
       }
     }
@@ -672,6 +680,29 @@ public class DefaultHistoryEventProducer implements HistoryEventProducer {
       .addRemovalTimeToProcessInstancesByRootProcessInstanceId(rootProcessInstanceId, removalTime);
   }
 
+  protected void addRemovalTimeToTransientHistoricEntities(String rootProcessInstanceId, Date removalTime) {
+    Context.getCommandContext()
+      .getHistoricProcessInstanceManager()
+      .addRemovalTimeToTransientEntitiesByRootProcessInstanceId(rootProcessInstanceId, removalTime);
+  }
+
+  /**
+   * @return true if the process definition is marked as straight-through and the
+   * historic process instance has been created within the current command
+   */
+  protected boolean isStraightThroughProcessInstance(ExecutionEntity executionEntity, HistoricProcessInstanceEventEntity evt) {
+    ProcessDefinitionEntity processDefinition = executionEntity.getProcessDefinition();
+    if (processDefinition == null
+        || !Boolean.TRUE.equals(processDefinition.getProperties().get(BpmnProperties.STRAIGHT_THROUGH))) {
+      return false;
+    }
+
+    return Context.getCommandContext()
+      .getDbEntityManager()
+      .getDbEntityCache()
+      .isTransient(evt);
+  }
+
   protected boolean isDmnEnabled() {
     return Context.getCommandContext()
       .getProcessEngineConfiguration()
@@ -57,6 +57,7 @@ import org.finos.fluxnova.bpm.engine.impl.jobexecutor.FailedJobCommandFactory;
 import org.finos.fluxnova.bpm.engine.impl.optimize.OptimizeManager;
 import org.finos.fluxnova.bpm.engine.impl.persistence.entity.AttachmentManager;
 import org.finos.fluxnova.bpm.engine.impl.persistence.entity.AuthorizationManager;
+import org.finos.fluxnova.bpm.engine.impl.persistence.entity.BatchChunkManager;
 import org.finos.fluxnova.bpm.engine.impl.persistence.entity.BatchManager;
 import org.finos.fluxnova.bpm.engine.impl.persistence.entity.ByteArrayManager;
 import org.finos.fluxnova.bpm.engine.impl.persistence.entity.CommentManager;
@@ -67,6 +68,7 @@ import org.finos.fluxnova.bpm.engine.impl.persistence.entity.ExternalTaskManager
 import org.finos.fluxnova.bpm.engine.impl.persistence.entity.FilterManager;
 import org.finos.fluxnova.bpm.engine.impl.persistence.entity.HistoricActivityInstanceManager;
 import org.finos.fluxnova.bpm.engine.impl.persistence.entity.HistoricBatchManager;
+import org.finos.fluxnova.bpm.engine.impl.persistence.entity.HistoryPartitionManager;
 import org.finos.fluxnova.bpm.engine.impl.persistence.entity.HistoricCaseActivityInstanceManager;
 import org.finos.fluxnova.bpm.engine.impl.persistence.entity.HistoricCaseInstanceManager;
 import org.finos.fluxnova.bpm.engine.impl.persistence.entity.HistoricDetailManager;
@@ -97,6 +99,7 @@ import org.finos.fluxnova.bpm.engine.impl.persistence.entity.TaskReportManager;
 import org.finos.fluxnova.bpm.engine.impl.persistence.entity.TenantManager;
 import org.finos.fluxnova.bpm.engine.impl.persistence.entity.UserOperationLogManager;
 import org.finos.fluxnova.bpm.engine.impl.persistence.entity.VariableInstanceManager;
+import org.finos.fluxnova.bpm.engine.impl.persistence.entity.VariableSearchManager;
 
 /**
  * @author Tom Baeyens
@@ -340,6 +343,10 @@ public class CommandContext {
     return getSession(VariableInstanceManager.class);
   }
 
+  public VariableSearchManager getVariableSearchManager() {
+    return getSession(VariableSearchManager.class);
+  }
+
   public HistoricProcessInstanceManager getHistoricProcessInstanceManager() {
     return getSession(HistoricProcessInstanceManager.class);
   }
@@ -388,10 +395,18 @@ public class CommandContext {
     return getSession(BatchManager.class);
   }
 
+  public BatchChunkManager getBatchChunkManager() {
+    return getSession(BatchChunkManager.class);
+  }
+
   public HistoricBatchManager getHistoricBatchManager() {
     return getSession(HistoricBatchManager.class);
   }
 
+  public HistoryPartitionManager getHistoryPartitionManager() {
+    return getSession(HistoryPartitionManager.class);
+  }
+
   public JobDefinitionManager getJobDefinitionManager() {
     return getSession(JobDefinitionManager.class);
   }
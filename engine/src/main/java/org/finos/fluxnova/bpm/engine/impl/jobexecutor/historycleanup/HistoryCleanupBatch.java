@@ -135,6 +135,11 @@ public class HistoryCleanupBatch extends HistoryCleanupHandler {
     return size() >= getBatchSizeThreshold();
   }
 
+  @Override
+  long countRemovedRows() {
+    return size();
+  }
+
   public Integer getBatchSizeThreshold() {
     return Context
         .getProcessEngineConfiguration()
@@ -16,12 +16,15 @@
  */
 package org.finos.fluxnova.bpm.engine.impl.jobexecutor.historycleanup;
 
+import java.util.Date;
 import java.util.Map;
 
 import org.finos.fluxnova.bpm.engine.impl.cfg.TransactionListener;
+import org.finos.fluxnova.bpm.engine.impl.context.Context;
 import org.finos.fluxnova.bpm.engine.impl.interceptor.Command;
 import org.finos.fluxnova.bpm.engine.impl.interceptor.CommandContext;
 import org.finos.fluxnova.bpm.engine.impl.interceptor.CommandExecutor;
+import org.finos.fluxnova.bpm.engine.impl.util.ClockUtil;
 
 /**
  * @author Tassilo Weidner
@@ -37,6 +40,22 @@ public abstract class HistoryCleanupHandler implements TransactionListener {
   protected String jobId;
   protected CommandExecutor commandExecutor;
 
+  /**
+   * Batch size of this run, overrides the configured batch size if set.
+   */
+  protected Integer batchSize;
+
+  /**
+   * Controller of the adaptive throughput which admitted this run, if any.
+   */
+  protected HistoryCleanupThroughputController throughputController;
+  protected long startTime;
+
+  /**
+   * Set if the adaptive throughput controller did not admit this run.
+   */
+  protected Date throttledUntil;
+
   public void execute(CommandContext commandContext) {
     // passed commandContext may be in an inconsistent state
     commandExecutor.execute(new HistoryCleanupHandlerCmd());
@@ -48,6 +67,60 @@ public abstract class HistoryCleanupHandler implements TransactionListener {
 
   abstract boolean shouldRescheduleNow();
 
+  /**
+   * @return the number of rows removed by this run
+   */
+  abstract long countRemovedRows();
+
+  /**
+   * @return the number of historic process instances past their removal time
+   * or <code>null</code> if the strategy cannot determine it cheaply
+   */
+  protected Long countBacklog(CommandContext commandContext) {
+    return null;
+  }
+
+  public int getBatchSize() {
+    if (batchSize != null) {
+      return batchSize;
+    }
+
+    return Context
+        .getProcessEngineConfiguration()
+        .getHistoryCleanupBatchSize();
+  }
+
+  public HistoryCleanupHandler setBatchSize(Integer batchSize) {
+    this.batchSize = batchSize;
+    return this;
+  }
+
+  /**
+   * Marks this run as admitted by the given controller, which is informed once the run completes.
+   */
+  public HistoryCleanupHandler setThroughputController(HistoryCleanupThroughputController throughputController) {
+    this.throughputController = throughputController;
+    this.startTime = ClockUtil.getCurrentTime().getTime();
+    return this;
+  }
+
+  public HistoryCleanupThroughputController getThroughputController() {
+    return throughputController;
+  }
+
+  public long getDuration() {
+    return ClockUtil.getCurrentTime().getTime() - startTime;
+  }
+
+  public Date getThrottledUntil() {
+    return throttledUntil;
+  }
+
+  public HistoryCleanupHandler setThrottledUntil(Date throttledUntil) {
+    this.throttledUntil = throttledUntil;
+    return this;
+  }
+
   public HistoryCleanupJobHandlerConfiguration getConfiguration() {
     return configuration;
   }
@@ -74,10 +147,28 @@ public abstract class HistoryCleanupHandler implements TransactionListener {
       Map<String, Long> report = reportMetrics();
       boolean isRescheduleNow = shouldRescheduleNow();
 
-      new HistoryCleanupSchedulerCmd(isRescheduleNow, report, configuration, jobId).execute(commandContext);
+      if (throughputController != null) {
+        throughputController.release(getDuration(), countRemovedRows(), isRescheduleNow);
+        measureBacklog(commandContext);
+      }
+
+      new HistoryCleanupSchedulerCmd(isRescheduleNow, report, configuration, jobId, throttledUntil).execute(commandContext);
 
       return null;
     }
+
+    /**
+     * Measures the backlog once per budget window. The throughput metrics are gauges
+     * of the metrics registry which read the state of the throughput controller.
+     */
+    protected void measureBacklog(CommandContext commandContext) {
+      if (!throughputController.pollWindowReport().isEmpty()) {
+        Long backlog = countBacklog(commandContext);
+        if (backlog != null) {
+          throughputController.setBacklog(backlog);
+        }
+      }
+    }
   }
 
 }
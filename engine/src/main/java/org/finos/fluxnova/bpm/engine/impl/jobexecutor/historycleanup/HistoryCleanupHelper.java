@@ -83,10 +83,6 @@ public abstract class HistoryCleanupHelper {
     }
   }
 
-  private static Integer getHistoryCleanupBatchSize(CommandContext commandContext) {
-    return commandContext.getProcessEngineConfiguration().getHistoryCleanupBatchSize();
-  }
-
   /**
    * Creates next batch object for history cleanup. First searches for historic process instances ready for cleanup. If there is still some place left in batch (configured batch
    * size was not reached), searches for historic decision instances and also adds them to the batch. Then if there is still some place left in batch, searches for historic case
@@ -97,7 +93,7 @@ public abstract class HistoryCleanupHelper {
    */
   public static void prepareNextBatch(HistoryCleanupBatch historyCleanupBatch, CommandContext commandContext) {
     final HistoryCleanupJobHandlerConfiguration configuration = historyCleanupBatch.getConfiguration();
-    final Integer batchSize = getHistoryCleanupBatchSize(commandContext);
+    final Integer batchSize = historyCleanupBatch.getBatchSize();
     ProcessEngineConfigurationImpl processEngineConfiguration = commandContext.getProcessEngineConfiguration();
 
     //add process instance ids
@@ -41,7 +41,7 @@ public class HistoryCleanupJobHandler implements JobHandler<HistoryCleanupJobHan
     HistoryCleanupHandler cleanupHandler = initCleanupHandler(configuration, commandContext);
 
     if (configuration.isImmediatelyDue() || isWithinBatchWindow(commandContext) ) {
-      cleanupHandler.performCleanup();
+      performCleanup(cleanupHandler, commandContext);
     }
 
     commandContext.getTransactionContext()
@@ -49,6 +49,30 @@ public class HistoryCleanupJobHandler implements JobHandler<HistoryCleanupJobHan
 
   }
 
+  protected void performCleanup(HistoryCleanupHandler cleanupHandler, CommandContext commandContext) {
+    HistoryCleanupThroughputController throughputController = commandContext.getProcessEngineConfiguration()
+      .getHistoryCleanupThroughputController();
+
+    if (throughputController == null) {
+      cleanupHandler.performCleanup();
+
+    } else if (throughputController.tryAcquire()) {
+      cleanupHandler
+        .setBatchSize(throughputController.getBatchSize())
+        .setThroughputController(throughputController);
+
+      // a rolled back cleanup (e.g. lock timeout or deadlock) slows down the cleanup
+      commandContext.getTransactionContext()
+        .addTransactionListener(TransactionState.ROLLED_BACK,
+            context -> throughputController.releaseFailed(cleanupHandler.getDuration()));
+
+      cleanupHandler.performCleanup();
+
+    } else {
+      cleanupHandler.setThrottledUntil(throughputController.getNextAttempt());
+    }
+  }
+
   protected HistoryCleanupRemovalTime getTimeBasedHandler() {
     return new HistoryCleanupRemovalTime();
   }
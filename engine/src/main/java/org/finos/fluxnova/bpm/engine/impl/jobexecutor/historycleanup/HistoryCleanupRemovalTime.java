@@ -16,14 +16,19 @@
  */
 package org.finos.fluxnova.bpm.engine.impl.jobexecutor.historycleanup;
 
+import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
 
+import org.finos.fluxnova.bpm.engine.ProcessEngineException;
+import org.finos.fluxnova.bpm.engine.impl.ProcessEngineLogger;
 import org.finos.fluxnova.bpm.engine.impl.batch.history.HistoricBatchEntity;
 import org.finos.fluxnova.bpm.engine.impl.context.Context;
 import org.finos.fluxnova.bpm.engine.impl.db.DbEntity;
+import org.finos.fluxnova.bpm.engine.impl.db.EnginePersistenceLogger;
 import org.finos.fluxnova.bpm.engine.impl.db.entitymanager.operation.DbOperation;
 import org.finos.fluxnova.bpm.engine.impl.history.event.HistoricDecisionInstanceEntity;
+import org.finos.fluxnova.bpm.engine.impl.interceptor.CommandContext;
 import org.finos.fluxnova.bpm.engine.impl.persistence.entity.HistoricProcessInstanceEntity;
 import org.finos.fluxnova.bpm.engine.impl.persistence.entity.TaskMeterLogEntity;
 import org.finos.fluxnova.bpm.engine.impl.util.ClockUtil;
@@ -34,9 +39,16 @@ import org.finos.fluxnova.bpm.engine.management.Metrics;
  */
 public class HistoryCleanupRemovalTime extends HistoryCleanupHandler {
 
+  protected static final EnginePersistenceLogger LOG = ProcessEngineLogger.PERSISTENCE_LOGGER;
+
   protected Map<Class<? extends DbEntity>, DbOperation> deleteOperations = new HashMap<>();
+  protected int droppedPartitions;
 
   public void performCleanup() {
+    if (isPartitionDropEnabled()) {
+      droppedPartitions = performPartitionCleanup();
+    }
+
     deleteOperations.putAll(performProcessCleanup());
 
     if (isDmnEnabled()) {
@@ -52,6 +64,28 @@ public class HistoryCleanupRemovalTime extends HistoryCleanupHandler {
     }
   }
 
+  /**
+   * Drops the expired partitions of partitioned history tables before the remaining
+   * expired rows are deleted. Only the job responsible for minute <code>0</code> drops partitions,
+   * each in separate transactions since DDL statements commit implicitly on some databases.
+   */
+  protected int performPartitionCleanup() {
+    if (configuration.getMinuteFrom() != 0) {
+      return 0;
+    }
+
+    Date removalTime = ClockUtil.getCurrentTime();
+    try {
+      return commandExecutor.execute(commandContext -> commandContext
+          .getHistoryPartitionManager()
+          .dropExpiredHistoryPartitions(removalTime));
+
+    } catch (ProcessEngineException e) {
+      LOG.dropHistoryPartitionsFailed(e);
+      return 0;
+    }
+  }
+
   protected Map<Class<? extends DbEntity>, DbOperation> performDmnCleanup() {
     return Context
         .getCommandContext()
@@ -107,6 +141,10 @@ public class HistoryCleanupRemovalTime extends HistoryCleanupHandler {
       reports.put(Metrics.HISTORY_CLEANUP_REMOVED_TASK_METRICS, (long) deleteOperationTaskMetric.getRowsAffected());
     }
 
+    if (droppedPartitions > 0) {
+      reports.put(Metrics.HISTORY_CLEANUP_DROPPED_PARTITIONS, (long) droppedPartitions);
+    }
+
     return reports;
   }
 
@@ -116,12 +154,33 @@ public class HistoryCleanupRemovalTime extends HistoryCleanupHandler {
         .isDmnEnabled();
   }
 
+  protected boolean isPartitionDropEnabled() {
+    return Context
+        .getProcessEngineConfiguration()
+        .isHistoryCleanupPartitionDropEnabled();
+  }
+
   protected Integer getTaskMetricsTimeToLive() {
     return Context
         .getProcessEngineConfiguration()
         .getParsedTaskMetricsTimeToLive();
   }
 
+  protected long countRemovedRows() {
+    long removedRows = 0;
+    for (DbOperation deleteOperation : deleteOperations.values()) {
+      removedRows += deleteOperation.getRowsAffected();
+    }
+    return removedRows;
+  }
+
+  @Override
+  protected Long countBacklog(CommandContext commandContext) {
+    return commandContext
+        .getHistoricProcessInstanceManager()
+        .findHistoricProcessInstanceCountByRemovalTime(ClockUtil.getCurrentTime());
+  }
+
   protected boolean shouldRescheduleNow() {
     int batchSize = getBatchSize();
 
@@ -134,10 +193,4 @@ public class HistoryCleanupRemovalTime extends HistoryCleanupHandler {
     return false;
   }
 
-  public int getBatchSize() {
-    return Context
-        .getProcessEngineConfiguration()
-        .getHistoryCleanupBatchSize();
-  }
-
 }
@@ -40,12 +40,18 @@ public class HistoryCleanupSchedulerCmd implements Command<Void> {
   protected HistoryCleanupJobHandlerConfiguration configuration;
   protected String jobId;
   protected Map<String, Long> reports;
+  protected Date throttledUntil;
 
   public HistoryCleanupSchedulerCmd(boolean isRescheduleNow, Map<String, Long> reports, HistoryCleanupJobHandlerConfiguration configuration, String jobId) {
+    this(isRescheduleNow, reports, configuration, jobId, null);
+  }
+
+  public HistoryCleanupSchedulerCmd(boolean isRescheduleNow, Map<String, Long> reports, HistoryCleanupJobHandlerConfiguration configuration, String jobId, Date throttledUntil) {
     this.isRescheduleNow = isRescheduleNow;
     this.configuration = configuration;
     this.jobId = jobId;
     this.reports = reports;
+    this.throttledUntil = throttledUntil;
   }
 
   @Override
@@ -56,7 +62,14 @@ public class HistoryCleanupSchedulerCmd implements Command<Void> {
 
     boolean rescheduled = false;
 
-    if (isRescheduleNow) {
+    if (throttledUntil != null) {
+      // the adaptive throughput controller did not admit the run, retry without counting it as empty run
+      if (configuration.isImmediatelyDue()
+          || HistoryCleanupHelper.isWithinBatchWindow(throttledUntil, commandContext.getProcessEngineConfiguration())) {
+        commandContext.getJobManager().reschedule(jobEntity, throttledUntil);
+        rescheduled = true;
+      }
+    } else if (isRescheduleNow) {
       commandContext.getJobManager().reschedule(jobEntity, ClockUtil.getCurrentTime());
       rescheduled = true;
       cancelCountEmptyRuns(configuration, jobEntity);
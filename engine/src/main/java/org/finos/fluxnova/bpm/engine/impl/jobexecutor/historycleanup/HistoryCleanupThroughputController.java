@@ -0,0 +1,264 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.finos.fluxnova.bpm.engine.impl.jobexecutor.historycleanup;
+
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.finos.fluxnova.bpm.engine.impl.util.ClockUtil;
+import org.finos.fluxnova.bpm.engine.management.Metrics;
+
+/**
+ * Adapts the throughput of the history cleanup jobs of this engine to the load of the database.
+ *
+ * <p>The controller measures how long each cleanup transaction takes, from the start of the
+ * cleanup until its commit (which flushes the deletes), and adjusts the batch size
+ * (additive increase by the ratio to the target batch duration, multiplicative decrease) so that a
+ * single transaction takes about the target batch duration. Slow or failed transactions
+ * (e.g. due to lock waits, lock timeouts or deadlocks) shrink the batch size and the number of
+ * cleanup jobs that may run concurrently; fast and full batches grow them again, up to the
+ * configured batch size and degree of parallelism.</p>
+ *
+ * <p>Within each budget window of one minute, cleanup jobs may spend at most the configured
+ * database time. Jobs which cannot start because the budget is used up or because too many cleanup
+ * jobs are running are throttled and retried later, see {@link #getNextAttempt()}.</p>
+ *
+ * <p>The controller keeps its state in memory, so each engine of a cluster controls its own
+ * cleanup jobs: the database time budget and the degree of parallelism apply per node, and the
+ * state is reset when the engine restarts. The throughput metrics are exposed as gauges of the
+ * metrics registry of the engine.</p>
+ */
+public class HistoryCleanupThroughputController {
+
+  public static final long BUDGET_WINDOW = 60 * 1000L;
+
+  /**
+   * A transaction taking longer than the target batch duration times this factor is considered slow.
+   */
+  public static final double SLOW_BATCH_FACTOR = 1.5;
+
+  protected final int maxBatchSize;
+  protected final int maxParallelism;
+  protected final long dbTimeBudget;
+  protected final long targetBatchDuration;
+
+  protected int batchSize;
+  protected int parallelism;
+  protected int running;
+
+  protected long windowStart = -1;
+  protected long windowDbTime;
+  protected long windowRows;
+  protected boolean windowReportPending;
+
+  protected long rowsPerSecond;
+  protected long budgetUsage;
+  protected long backlog = -1;
+  protected long failedBatches;
+
+  /**
+   * @param maxBatchSize the upper bound of the batch size, i.e. the configured history cleanup batch size
+   * @param maxParallelism the upper bound of concurrently running cleanup jobs, i.e. the configured degree of parallelism
+   * @param dbTimeBudget database time in milliseconds the cleanup jobs may spend per minute
+   * @param targetBatchDuration the duration in milliseconds a single cleanup transaction should take
+   */
+  public HistoryCleanupThroughputController(int maxBatchSize, int maxParallelism, long dbTimeBudget, long targetBatchDuration) {
+    this.maxBatchSize = maxBatchSize;
+    this.maxParallelism = maxParallelism;
+    this.dbTimeBudget = dbTimeBudget;
+    this.targetBatchDuration = targetBatchDuration;
+    this.batchSize = maxBatchSize;
+    this.parallelism = maxParallelism;
+  }
+
+  /**
+   * @return <code>true</code> if a cleanup job may run now; it must then call either
+   * {@link #release(long, long, boolean)} or {@link #releaseFailed(long)}
+   */
+  public synchronized boolean tryAcquire() {
+    rollWindow(now());
+
+    if (windowDbTime >= dbTimeBudget || running >= parallelism) {
+      return false;
+    }
+
+    running++;
+    return true;
+  }
+
+  /**
+   * Records a committed cleanup transaction.
+   *
+   * @param duration the duration of the transaction in milliseconds
+   * @param removedRows the number of removed rows
+   * @param full <code>true</code> if the batch was full, i.e. more data is ready for cleanup
+   */
+  public synchronized void release(long duration, long removedRows, boolean full) {
+    running = Math.max(0, running - 1);
+    windowDbTime += duration;
+    windowRows += removedRows;
+
+    if (duration > targetBatchDuration * SLOW_BATCH_FACTOR) {
+      decrease();
+
+    } else if (full && duration <= targetBatchDuration) {
+      // assume that the duration grows linearly with the batch size
+      long estimatedBatchSize = duration <= 0
+          ? 2L * batchSize
+          : Math.min(2L * batchSize, batchSize * targetBatchDuration / duration);
+      batchSize = (int) Math.min(maxBatchSize, Math.max(batchSize + 1L, estimatedBatchSize));
+
+      if (windowDbTime < dbTimeBudget / 2) {
+        parallelism = Math.min(maxParallelism, parallelism + 1);
+      }
+    }
+  }
+
+  /**
+   * Records a cleanup transaction which was rolled back, e.g. due to a lock timeout or deadlock.
+   *
+   * @param duration the duration of the transaction in milliseconds
+   */
+  public synchronized void releaseFailed(long duration) {
+    running = Math.max(0, running - 1);
+    windowDbTime += duration;
+    failedBatches++;
+
+    decrease();
+  }
+
+  protected void decrease() {
+    batchSize = Math.max(1, batchSize / 2);
+    parallelism = Math.max(1, parallelism - 1);
+  }
+
+  /**
+   * @return the date a throttled cleanup job should be retried at
+   */
+  public synchronized Date getNextAttempt() {
+    long now = now();
+    rollWindow(now);
+
+    if (windowDbTime >= dbTimeBudget) {
+      return new Date(windowStart + BUDGET_WINDOW);
+    }
+    return new Date(now + HistoryCleanupJobHandlerConfiguration.START_DELAY * 1000L);
+  }
+
+  protected void rollWindow(long now) {
+    if (windowStart < 0) {
+      windowStart = now;
+      return;
+    }
+
+    long elapsed = now - windowStart;
+    if (elapsed < BUDGET_WINDOW) {
+      return;
+    }
+
+    if (windowDbTime > 0 || windowRows > 0) {
+      rowsPerSecond = windowRows * 1000 / elapsed;
+      // the budget is granted per window; an idle period after the window does not count
+      budgetUsage = windowDbTime * 100 / dbTimeBudget;
+      windowReportPending = true;
+    }
+
+    windowStart = now;
+    windowDbTime = 0;
+    windowRows = 0;
+  }
+
+  /**
+   * @return the throughput metrics of the last completed budget window if they were not reported yet,
+   * an empty map otherwise
+   */
+  public synchronized Map<String, Long> pollWindowReport() {
+    rollWindow(now());
+
+    Map<String, Long> report = new HashMap<>();
+    if (windowReportPending) {
+      report.put(Metrics.HISTORY_CLEANUP_ROWS_PER_SECOND, rowsPerSecond);
+      report.put(Metrics.HISTORY_CLEANUP_BUDGET_USAGE, budgetUsage);
+      windowReportPending = false;
+    }
+    return report;
+  }
+
+  protected long now() {
+    return ClockUtil.getCurrentTime().getTime();
+  }
+
+  public synchronized int getBatchSize() {
+    return batchSize;
+  }
+
+  public synchronized int getParallelism() {
+    return parallelism;
+  }
+
+  public synchronized int getRunning() {
+    return running;
+  }
+
+  /**
+   * @return removed rows per second in the last completed budget window
+   */
+  public synchronized long getRowsPerSecond() {
+    return rowsPerSecond;
+  }
+
+  /**
+   * @return the used database time budget in percent in the last completed budget window
+   */
+  public synchronized long getBudgetUsage() {
+    return budgetUsage;
+  }
+
+  /**
+   * @return the number of historic process instances past their removal time when it was last measured,
+   * <code>-1</code> if it was not measured yet
+   */
+  public synchronized long getBacklog() {
+    return backlog;
+  }
+
+  public synchronized void setBacklog(long backlog) {
+    this.backlog = backlog;
+  }
+
+  public synchronized long getFailedBatches() {
+    return failedBatches;
+  }
+
+  public int getMaxBatchSize() {
+    return maxBatchSize;
+  }
+
+  public int getMaxParallelism() {
+    return maxParallelism;
+  }
+
+  public long getDbTimeBudget() {
+    return dbTimeBudget;
+  }
+
+  public long getTargetBatchDuration() {
+    return targetBatchDuration;
+  }
+
+}
@@ -0,0 +1,345 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.finos.fluxnova.bpm.engine.impl.json;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+
+import org.finos.fluxnova.bpm.engine.impl.ProcessInstanceQueryImpl;
+import org.finos.fluxnova.bpm.engine.impl.QueryOperator;
+import org.finos.fluxnova.bpm.engine.impl.QueryVariableValue;
+import org.finos.fluxnova.bpm.engine.impl.persistence.entity.SuspensionState;
+import org.finos.fluxnova.bpm.engine.impl.util.JsonUtil;
+import org.finos.fluxnova.bpm.engine.runtime.ProcessInstanceQuery;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+
+/**
+ * Serializes the filter criteria of a {@link ProcessInstanceQuery} so that the query
+ * can be stored, e.g. by batches that resolve their process instances lazily.
+ * Ordering properties and paging are not part of the serialized form.
+ */
+public class JsonProcessInstanceQueryConverter extends JsonObjectConverter<ProcessInstanceQuery> {
+
+  public static final JsonProcessInstanceQueryConverter INSTANCE = new JsonProcessInstanceQueryConverter();
+
+  public static final String PROCESS_INSTANCE_ID = "processInstanceId";
+  public static final String PROCESS_INSTANCE_IDS = "processInstanceIds";
+  public static final String BUSINESS_KEY = "businessKey";
+  public static final String BUSINESS_KEY_LIKE = "businessKeyLike";
+  public static final String PROCESS_DEFINITION_ID = "processDefinitionId";
+  public static final String PROCESS_DEFINITION_KEY = "processDefinitionKey";
+  public static final String PROCESS_DEFINITION_KEY_IN = "processDefinitionKeyIn";
+  public static final String PROCESS_DEFINITION_KEY_NOT_IN = "processDefinitionKeyNotIn";
+  public static final String DEPLOYMENT_ID = "deploymentId";
+  public static final String SUPER_PROCESS_INSTANCE_ID = "superProcessInstanceId";
+  public static final String SUB_PROCESS_INSTANCE_ID = "subProcessInstanceId";
+  public static final String ACTIVE = "active";
+  public static final String SUSPENDED = "suspended";
+  public static final String WITH_INCIDENT = "withIncident";
+  public static final String INCIDENT_TYPE = "incidentType";
+  public static final String INCIDENT_ID = "incidentId";
+  public static final String INCIDENT_MESSAGE = "incidentMessage";
+  public static final String INCIDENT_MESSAGE_LIKE = "incidentMessageLike";
+  public static final String CASE_INSTANCE_ID = "caseInstanceId";
+  public static final String SUPER_CASE_INSTANCE_ID = "superCaseInstanceId";
+  public static final String SUB_CASE_INSTANCE_ID = "subCaseInstanceId";
+  public static final String ACTIVITY_ID_IN = "activityIdIn";
+  public static final String ROOT_PROCESS_INSTANCES = "rootProcessInstances";
+  public static final String LEAF_PROCESS_INSTANCES = "leafProcessInstances";
+  public static final String TENANT_IDS = "tenantIds";
+  public static final String WITHOUT_TENANT_ID = "withoutTenantId";
+  public static final String PROCESS_DEFINITION_WITHOUT_TENANT_ID = "processDefinitionWithoutTenantId";
+  public static final String VARIABLES = "variables";
+  public static final String VARIABLE_NAMES_IGNORE_CASE = "variableNamesIgnoreCase";
+  public static final String VARIABLE_VALUES_IGNORE_CASE = "variableValuesIgnoreCase";
+  public static final String OR_QUERIES = "orQueries";
+
+  public static final String NAME = "name";
+  public static final String VALUE = "value";
+  public static final String DATE_VALUE = "dateValue";
+  public static final String OPERATOR = "operator";
+
+  @Override
+  public JsonObject toJsonObject(ProcessInstanceQuery processInstanceQuery) {
+    return toJsonObject(processInstanceQuery, false);
+  }
+
+  protected JsonObject toJsonObject(ProcessInstanceQuery processInstanceQuery, boolean isOrQueryActive) {
+    JsonObject json = JsonUtil.createObject();
+    ProcessInstanceQueryImpl query = (ProcessInstanceQueryImpl) processInstanceQuery;
+
+    JsonUtil.addField(json, PROCESS_INSTANCE_ID, query.getProcessInstanceId());
+    if (query.getProcessInstanceIds() != null) {
+      JsonUtil.addListField(json, PROCESS_INSTANCE_IDS, new ArrayList<>(query.getProcessInstanceIds()));
+    }
+    JsonUtil.addField(json, BUSINESS_KEY, query.getBusinessKey());
+    JsonUtil.addField(json, BUSINESS_KEY_LIKE, query.getBusinessKeyLike());
+    JsonUtil.addField(json, PROCESS_DEFINITION_ID, query.getProcessDefinitionId());
+    JsonUtil.addField(json, PROCESS_DEFINITION_KEY, query.getProcessDefinitionKey());
+    JsonUtil.addArrayField(json, PROCESS_DEFINITION_KEY_IN, query.getProcessDefinitionKeys());
+    JsonUtil.addArrayField(json, PROCESS_DEFINITION_KEY_NOT_IN, query.getProcessDefinitionKeyNotIn());
+    JsonUtil.addField(json, DEPLOYMENT_ID, query.getDeploymentId());
+    JsonUtil.addField(json, SUPER_PROCESS_INSTANCE_ID, query.getSuperProcessInstanceId());
+    JsonUtil.addField(json, SUB_PROCESS_INSTANCE_ID, query.getSubProcessInstanceId());
+    addSuspensionStateField(json, query.getSuspensionState());
+    JsonUtil.addDefaultField(json, WITH_INCIDENT, false, query.isWithIncident());
+    JsonUtil.addField(json, INCIDENT_TYPE, query.getIncidentType());
+    JsonUtil.addField(json, INCIDENT_ID, query.getIncidentId());
+    JsonUtil.addField(json, INCIDENT_MESSAGE, query.getIncidentMessage());
+    JsonUtil.addField(json, INCIDENT_MESSAGE_LIKE, query.getIncidentMessageLike());
+    JsonUtil.addField(json, CASE_INSTANCE_ID, query.getCaseInstanceId());
+    JsonUtil.addField(json, SUPER_CASE_INSTANCE_ID, query.getSuperCaseInstanceId());
+    JsonUtil.addField(json, SUB_CASE_INSTANCE_ID, query.getSubCaseInstanceId());
+    JsonUtil.addArrayField(json, ACTIVITY_ID_IN, query.getActivityIds());
+    JsonUtil.addDefaultField(json, ROOT_PROCESS_INSTANCES, false, query.isRootProcessInstances());
+    JsonUtil.addDefaultField(json, LEAF_PROCESS_INSTANCES, false, query.isLeafProcessInstances());
+    addTenantIdFields(json, query);
+    JsonUtil.addDefaultField(json, PROCESS_DEFINITION_WITHOUT_TENANT_ID, false, query.isProcessDefinitionWithoutTenantId());
+    JsonUtil.addDefaultField(json, VARIABLE_NAMES_IGNORE_CASE, false, query.isVariableNamesIgnoreCase());
+    JsonUtil.addDefaultField(json, VARIABLE_VALUES_IGNORE_CASE, false, query.isVariableValuesIgnoreCase());
+    addVariablesField(json, query.getQueryVariableValues());
+
+    if (query.getQueries().size() > 1 && !isOrQueryActive) {
+      JsonArray orQueries = JsonUtil.createArray();
+
+      for (ProcessInstanceQueryImpl orQuery : query.getQueries()) {
+        if (orQuery != null && orQuery.isOrQueryActive()) {
+          orQueries.add(toJsonObject(orQuery, true));
+        }
+      }
+
+      JsonUtil.addField(json, OR_QUERIES, orQueries);
+    }
+
+    return json;
+  }
+
+  protected void addSuspensionStateField(JsonObject jsonObject, SuspensionState suspensionState) {
+    if (suspensionState != null) {
+      if (suspensionState.equals(SuspensionState.ACTIVE)) {
+        JsonUtil.addField(jsonObject, ACTIVE, true);
+      }
+      else if (suspensionState.equals(SuspensionState.SUSPENDED)) {
+        JsonUtil.addField(jsonObject, SUSPENDED, true);
+      }
+    }
+  }
+
+  protected void addTenantIdFields(JsonObject jsonObject, ProcessInstanceQueryImpl query) {
+    if (query.isTenantIdSet()) {
+      if (query.getTenantIds() != null) {
+        JsonUtil.addArrayField(jsonObject, TENANT_IDS, query.getTenantIds());
+      } else {
+        JsonUtil.addField(jsonObject, WITHOUT_TENANT_ID, true);
+      }
+    }
+  }
+
+  protected void addVariablesField(JsonObject jsonObject, List<QueryVariableValue> variables) {
+    if (!variables.isEmpty()) {
+      JsonArray variablesArray = JsonUtil.createArray();
+
+      for (QueryVariableValue variable : variables) {
+        JsonObject variableObj = JsonUtil.createObject();
+        JsonUtil.addField(variableObj, NAME, variable.getName());
+
+        Object value = variable.getValue();
+        if (value instanceof Date) {
+          JsonUtil.addDateField(variableObj, DATE_VALUE, (Date) value);
+        } else {
+          JsonUtil.addFieldRawValue(variableObj, VALUE, value);
+        }
+
+        JsonUtil.addField(variableObj, OPERATOR, variable.getOperator().name());
+        JsonUtil.addDefaultField(variableObj, VARIABLE_NAMES_IGNORE_CASE, false, variable.isVariableNameIgnoreCase());
+        JsonUtil.addDefaultField(variableObj, VARIABLE_VALUES_IGNORE_CASE, false, variable.isVariableValueIgnoreCase());
+        variablesArray.add(variableObj);
+      }
+
+      JsonUtil.addField(jsonObject, VARIABLES, variablesArray);
+    }
+  }
+
+  @Override
+  public ProcessInstanceQuery toObject(JsonObject json) {
+    return toObject(json, false);
+  }
+
+  protected ProcessInstanceQuery toObject(JsonObject json, boolean isOrQuery) {
+    ProcessInstanceQueryImpl query = new ProcessInstanceQueryImpl();
+    if (isOrQuery) {
+      query.setOrQueryActive();
+    }
+    if (json.has(OR_QUERIES)) {
+      for (JsonElement jsonElement : JsonUtil.getArray(json, OR_QUERIES)) {
+        query.addOrQuery((ProcessInstanceQueryImpl) toObject(JsonUtil.getObject(jsonElement), true));
+      }
+    }
+    if (json.has(PROCESS_INSTANCE_ID)) {
+      query.processInstanceId(JsonUtil.getString(json, PROCESS_INSTANCE_ID));
+    }
+    if (json.has(PROCESS_INSTANCE_IDS)) {
+      query.processInstanceIds(new HashSet<>(JsonUtil.asStringList(JsonUtil.getArray(json, PROCESS_INSTANCE_IDS))));
+    }
+    if (json.has(BUSINESS_KEY)) {
+      query.processInstanceBusinessKey(JsonUtil.getString(json, BUSINESS_KEY));
+    }
+    if (json.has(BUSINESS_KEY_LIKE)) {
+      query.processInstanceBusinessKeyLike(JsonUtil.getString(json, BUSINESS_KEY_LIKE));
+    }
+    if (json.has(PROCESS_DEFINITION_ID)) {
+      query.processDefinitionId(JsonUtil.getString(json, PROCESS_DEFINITION_ID));
+    }
+    if (json.has(PROCESS_DEFINITION_KEY)) {
+      query.processDefinitionKey(JsonUtil.getString(json, PROCESS_DEFINITION_KEY));
+    }
+    if (json.has(PROCESS_DEFINITION_KEY_IN)) {
+      query.processDefinitionKeyIn(getArray(JsonUtil.getArray(json, PROCESS_DEFINITION_KEY_IN)));
+    }
+    if (json.has(PROCESS_DEFINITION_KEY_NOT_IN)) {
+      query.processDefinitionKeyNotIn(getArray(JsonUtil.getArray(json, PROCESS_DEFINITION_KEY_NOT_IN)));
+    }
+    if (json.has(DEPLOYMENT_ID)) {
+      query.deploymentId(JsonUtil.getString(json, DEPLOYMENT_ID));
+    }
+    if (json.has(SUPER_PROCESS_INSTANCE_ID)) {
+      query.superProcessInstanceId(JsonUtil.getString(json, SUPER_PROCESS_INSTANCE_ID));
+    }
+    if (json.has(SUB_PROCESS_INSTANCE_ID)) {
+      query.subProcessInstanceId(JsonUtil.getString(json, SUB_PROCESS_INSTANCE_ID));
+    }
+    if (json.has(ACTIVE) && JsonUtil.getBoolean(json, ACTIVE)) {
+      query.active();
+    }
+    if (json.has(SUSPENDED) && JsonUtil.getBoolean(json, SUSPENDED)) {
+      query.suspended();
+    }
+    if (json.has(WITH_INCIDENT) && JsonUtil.getBoolean(json, WITH_INCIDENT)) {
+      query.withIncident();
+    }
+    if (json.has(INCIDENT_TYPE)) {
+      query.incidentType(JsonUtil.getString(json, INCIDENT_TYPE));
+    }
+    if (json.has(INCIDENT_ID)) {
+      query.incidentId(JsonUtil.getString(json, INCIDENT_ID));
+    }
+    if (json.has(INCIDENT_MESSAGE)) {
+      query.incidentMessage(JsonUtil.getString(json, INCIDENT_MESSAGE));
+    }
+    if (json.has(INCIDENT_MESSAGE_LIKE)) {
+      query.incidentMessageLike(JsonUtil.getString(json, INCIDENT_MESSAGE_LIKE));
+    }
+    if (json.has(CASE_INSTANCE_ID)) {
+      query.caseInstanceId(JsonUtil.getString(json, CASE_INSTANCE_ID));
+    }
+    if (json.has(SUPER_CASE_INSTANCE_ID)) {
+      query.superCaseInstanceId(JsonUtil.getString(json, SUPER_CASE_INSTANCE_ID));
+    }
+    if (json.has(SUB_CASE_INSTANCE_ID)) {
+      query.subCaseInstanceId(JsonUtil.getString(json, SUB_CASE_INSTANCE_ID));
+    }
+    if (json.has(ACTIVITY_ID_IN)) {
+      query.activityIdIn(getArray(JsonUtil.getArray(json, ACTIVITY_ID_IN)));
+    }
+    if (json.has(ROOT_PROCESS_INSTANCES) && JsonUtil.getBoolean(json, ROOT_PROCESS_INSTANCES)) {
+      query.rootProcessInstances();
+    }
+    if (json.has(LEAF_PROCESS_INSTANCES) && JsonUtil.getBoolean(json, LEAF_PROCESS_INSTANCES)) {
+      query.leafProcessInstances();
+    }
+    if (json.has(TENANT_IDS)) {
+      query.tenantIdIn(getArray(JsonUtil.getArray(json, TENANT_IDS)));
+    }
+    if (json.has(WITHOUT_TENANT_ID)) {
+      query.withoutTenantId();
+    }
+    if (json.has(PROCESS_DEFINITION_WITHOUT_TENANT_ID) && JsonUtil.getBoolean(json, PROCESS_DEFINITION_WITHOUT_TENANT_ID)) {
+      query.processDefinitionWithoutTenantId();
+    }
+    if (json.has(VARIABLE_NAMES_IGNORE_CASE) && JsonUtil.getBoolean(json, VARIABLE_NAMES_IGNORE_CASE)) {
+      query.matchVariableNamesIgnoreCase();
+    }
+    if (json.has(VARIABLE_VALUES_IGNORE_CASE) && JsonUtil.getBoolean(json, VARIABLE_VALUES_IGNORE_CASE)) {
+      query.matchVariableValuesIgnoreCase();
+    }
+    if (json.has(VARIABLES)) {
+      addVariables(query, JsonUtil.getArray(json, VARIABLES));
+    }
+
+    return query;
+  }
+
+  protected String[] getArray(JsonArray array) {
+    return JsonUtil.asStringList(array).toArray(new String[array.size()]);
+  }
+
+  protected void addVariables(ProcessInstanceQueryImpl query, JsonArray variables) {
+    for (JsonElement variable : variables) {
+      JsonObject variableObj = JsonUtil.getObject(variable);
+      String name = JsonUtil.getString(variableObj, NAME);
+      Object value = variableObj.has(DATE_VALUE)
+          ? new Date(JsonUtil.getLong(variableObj, DATE_VALUE))
+          : JsonUtil.getRawObject(variableObj, VALUE);
+      QueryOperator operator = QueryOperator.valueOf(JsonUtil.getString(variableObj, OPERATOR));
+
+      addVariable(query, name, value, operator);
+
+      // restore the case sensitivity of the single variable as it was when the variable was added
+      List<QueryVariableValue> variableValues = query.getQueryVariableValues();
+      QueryVariableValue variableValue = variableValues.get(variableValues.size() - 1);
+      variableValue.setVariableNameIgnoreCase(JsonUtil.getBoolean(variableObj, VARIABLE_NAMES_IGNORE_CASE));
+      variableValue.setVariableValueIgnoreCase(JsonUtil.getBoolean(variableObj, VARIABLE_VALUES_IGNORE_CASE));
+    }
+  }
+
+  protected void addVariable(ProcessInstanceQueryImpl query, String name, Object value, QueryOperator operator) {
+    switch (operator) {
+      case EQUALS:
+        query.variableValueEquals(name, value);
+        break;
+      case NOT_EQUALS:
+        query.variableValueNotEquals(name, value);
+        break;
+      case GREATER_THAN:
+        query.variableValueGreaterThan(name, value);
+        break;
+      case GREATER_THAN_OR_EQUAL:
+        query.variableValueGreaterThanOrEqual(name, value);
+        break;
+      case LESS_THAN:
+        query.variableValueLessThan(name, value);
+        break;
+      case LESS_THAN_OR_EQUAL:
+        query.variableValueLessThanOrEqual(name, value);
+        break;
+      case LIKE:
+        query.variableValueLike(name, (String) value);
+        break;
+      case NOT_LIKE:
+        query.variableValueNotLike(name, (String) value);
+        break;
+      default:
+        break;
+    }
+  }
+
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.finos.fluxnova.bpm.engine.impl.management;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.finos.fluxnova.bpm.engine.management.QueryShapeStatistics;
+
+public class QueryShapeStatisticsImpl implements QueryShapeStatistics {
+
+  protected String statement;
+  protected String shape;
+  protected long executionCount;
+  protected long totalDuration;
+  protected long maxDuration;
+  protected long totalRows;
+  protected long maxRows;
+  protected List<String> suggestedIndexes = new ArrayList<>();
+
+  public QueryShapeStatisticsImpl(String statement, String shape, long executionCount, long totalDuration,
+                                  long maxDuration, long totalRows, long maxRows) {
+    this.statement = statement;
+    this.shape = shape;
+    this.executionCount = executionCount;
+    this.totalDuration = totalDuration;
+    this.maxDuration = maxDuration;
+    this.totalRows = totalRows;
+    this.maxRows = maxRows;
+  }
+
+  @Override
+  public String getStatement() {
+    return statement;
+  }
+
+  @Override
+  public String getShape() {
+    return shape;
+  }
+
+  @Override
+  public long getExecutionCount() {
+    return executionCount;
+  }
+
+  @Override
+  public long getTotalDuration() {
+    return totalDuration;
+  }
+
+  @Override
+  public long getMaxDuration() {
+    return maxDuration;
+  }
+
+  @Override
+  public long getAverageDuration() {
+    return executionCount > 0 ? totalDuration / executionCount : 0;
+  }
+
+  @Override
+  public long getTotalRows() {
+    return totalRows;
+  }
+
+  @Override
+  public long getMaxRows() {
+    return maxRows;
+  }
+
+  @Override
+  public List<String> getSuggestedIndexes() {
+    return suggestedIndexes;
+  }
+
+  public void setSuggestedIndexes(List<String> suggestedIndexes) {
+    this.suggestedIndexes = suggestedIndexes;
+  }
+
+  @Override
+  public String toString() {
+    return this.getClass().getSimpleName()
+        + "[statement=" + statement
+        + ", shape=" + shape
+        + ", executionCount=" + executionCount
+        + ", totalDuration=" + totalDuration
+        + ", maxDuration=" + maxDuration
+        + ", totalRows=" + totalRows
+        + ", maxRows=" + maxRows
+        + ", suggestedIndexes=" + suggestedIndexes
+        + "]";
+  }
+}
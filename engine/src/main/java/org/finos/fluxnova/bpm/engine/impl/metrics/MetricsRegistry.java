@@ -18,6 +18,7 @@ package org.finos.fluxnova.bpm.engine.impl.metrics;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.function.LongSupplier;
 
 /**
  * @author Daniel Meyer
@@ -27,6 +28,7 @@ public class MetricsRegistry {
 
   protected Map<String, Meter> dbMeters = new HashMap<>();
   protected Map<String, Meter> diagnosticsMeters = new HashMap<>();
+  protected Map<String, LongSupplier> gauges = new HashMap<>();
 
   public Meter getDbMeterByName(String name) {
     return dbMeters.get(name);
@@ -83,4 +85,28 @@ public class MetricsRegistry {
     Meter dbMeter = new Meter(name);
     dbMeters.put(name, dbMeter);
   }
+
+  /**
+   * Registers a gauge which reports the current value of the given supplier. In contrast
+   * to meters, gauges are not written to the database, since their values cannot be summed up.
+   */
+  public void registerGauge(String name, LongSupplier gauge) {
+    gauges.put(name, gauge);
+  }
+
+  public void removeGauge(String name) {
+    gauges.remove(name);
+  }
+
+  public Map<String, LongSupplier> getGauges() {
+    return gauges;
+  }
+
+  /**
+   * @return the current value of the gauge, or <code>null</code> if no gauge is registered by the given name
+   */
+  public Long getGaugeValue(String name) {
+    LongSupplier gauge = gauges.get(name);
+    return gauge != null ? gauge.getAsLong() : null;
+  }
 }
@@ -155,6 +155,9 @@ public class MigrateProcessInstanceCmd extends AbstractMigrationCmd implements C
     executeInContext(() -> migrateProcessInstance(migratingProcessInstance),
       migratingProcessInstance.getTargetDefinition());
 
+    // the target definition may declare other searchable variables than the source definition
+    commandContext.getVariableSearchManager().reindexProcessInstance(processInstance);
+
     Map<String, ?> variables = migrationPlan.getVariables();
     if (variables != null) {
       // we don't need a context switch here since when setting an execution triggering variable,
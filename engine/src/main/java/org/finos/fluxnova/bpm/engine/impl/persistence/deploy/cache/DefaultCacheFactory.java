@@ -18,7 +18,7 @@ package org.finos.fluxnova.bpm.engine.impl.persistence.deploy.cache;
 
 
 import org.finos.fluxnova.commons.utils.cache.Cache;
-import org.finos.fluxnova.commons.utils.cache.ConcurrentLruCache;
+import org.finos.fluxnova.commons.utils.cache.ConcurrentClockCache;
 
 /**
  * <p>Provides the default cache implementation for the deployment caches see {@link DeploymentCache}.</p>
@@ -29,6 +29,6 @@ public class DefaultCacheFactory implements CacheFactory {
 
   @Override
   public <T> Cache<String, T> createCache(int maxNumberOfElementsInCache) {
-    return new ConcurrentLruCache<String, T>(maxNumberOfElementsInCache);
+    return new ConcurrentClockCache<String, T>(maxNumberOfElementsInCache);
   }
 }
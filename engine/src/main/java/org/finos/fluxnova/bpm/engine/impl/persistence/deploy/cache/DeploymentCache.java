@@ -35,6 +35,7 @@ import org.finos.fluxnova.bpm.model.dmn.DmnModelInstance;
 import org.finos.fluxnova.commons.utils.cache.Cache;
 
 import java.util.List;
+import java.util.Set;
 
 
 /**
@@ -53,6 +54,7 @@ public class DeploymentCache {
   protected BpmnModelInstanceCache bpmnModelInstanceCache;
   protected CmmnModelInstanceCache cmmnModelInstanceCache;
   protected DmnModelInstanceCache dmnModelInstanceCache;
+  protected Cache<String, Set<String>> searchableVariableNamesCache;
   protected CacheDeployer cacheDeployer = new CacheDeployer();
 
   public DeploymentCache(CacheFactory factory, int cacheCapacity) {
@@ -65,6 +67,8 @@ public class DeploymentCache {
     bpmnModelInstanceCache = new BpmnModelInstanceCache(factory, cacheCapacity, processDefinitionEntityCache);
     cmmnModelInstanceCache = new CmmnModelInstanceCache(factory, cacheCapacity, caseDefinitionCache);
     dmnModelInstanceCache = new DmnModelInstanceCache(factory, cacheCapacity, decisionDefinitionCache);
+
+    searchableVariableNamesCache = factory.createCache(cacheCapacity);
   }
 
   public void deploy(final DeploymentEntity deployment) {
@@ -128,11 +132,25 @@ public class DeploymentCache {
   public void removeProcessDefinition(String processDefinitionId) {
     processDefinitionEntityCache.removeDefinitionFromCache(processDefinitionId);
     bpmnModelInstanceCache.remove(processDefinitionId);
+    searchableVariableNamesCache.remove(processDefinitionId);
   }
 
   public void discardProcessDefinitionCache() {
     processDefinitionEntityCache.clear();
     bpmnModelInstanceCache.clear();
+    searchableVariableNamesCache.clear();
+  }
+
+  /**
+   * @return the searchable variable names of the process definition with the given id
+   * or <code>null</code> if they are not cached
+   */
+  public Set<String> findSearchableVariableNamesFromCache(String processDefinitionId) {
+    return searchableVariableNamesCache.get(processDefinitionId);
+  }
+
+  public void addSearchableVariableNames(String processDefinitionId, Set<String> searchableVariableNames) {
+    searchableVariableNamesCache.put(processDefinitionId, searchableVariableNames);
   }
 
   // CAMUNDA FORM DEFINITION ////////////////////////////////////////////////////////////////////////
@@ -368,6 +386,8 @@ public class DeploymentCache {
       bpmnModelInstanceCache.clear();
     }
 
+    searchableVariableNamesCache.clear();
+
     Cache<String, CaseDefinitionEntity> caseDefinitionCache = getCaseDefinitionCache();
     if (!caseDefinitionCache.isEmpty()) {
       result.addPurgeInformation(CachePurgeReport.CASE_DEF_CACHE, caseDefinitionCache.keySet());
@@ -130,6 +130,14 @@ public class AuthorizationManager extends AbstractManager {
 
   protected Boolean isRevokeAuthCheckUsed = null;
 
+  /**
+   * Ids of the authorizations granting permissions to a user and its groups, see
+   * {@link #getPrecomputedAuthorizationIds(String, List)}. Like the available group ids,
+   * they are computed once per command and user. A <code>null</code> value means that the
+   * user has more granting authorizations than the configured limit.
+   */
+  protected Map<String, List<String>> precomputedAuthorizationIds = null;
+
   public PermissionCheckBuilder newPermissionCheckBuilder() {
     return new PermissionCheckBuilder();
   }
@@ -371,6 +379,7 @@ public class AuthorizationManager extends AbstractManager {
       authCheck.setAuthorizationCheckEnabled(false);
       authCheck.setAuthUserId(null);
       authCheck.setAuthGroupIds(null);
+      authCheck.setAuthorizationIds(null);
     }
   }
 
@@ -393,6 +402,53 @@ public class AuthorizationManager extends AbstractManager {
     authCheck.setAuthorizationCheckEnabled(true);
     authCheck.setAuthGroupIds(filterAuthenticatedGroupIds(authGroupIds));
     authCheck.setRevokeAuthorizationCheckEnabled(isRevokeAuthCheckEnabled(authUserId, authGroupIds));
+
+    List<String> authorizationIds = null;
+    if (!authCheck.isRevokeAuthorizationCheckEnabled() && isAuthorizationCheckPrecomputed()) {
+      authorizationIds = getPrecomputedAuthorizationIds(authUserId, authCheck.getAuthGroupIds());
+    }
+    authCheck.setAuthorizationIds(authorizationIds);
+  }
+
+  /**
+   * Returns the ids of the authorizations granting permissions to the given user and groups,
+   * one per distinct resource, resource type and permissions. Queries join these authorizations
+   * by id instead of looking them up by user and group ids, which avoids the disjunction over
+   * all groups of the user as well as the duplicate rows for resources that are granted to
+   * several of them.
+   *
+   * @return the authorization ids or <code>null</code> if there are more of them than
+   * {@link ProcessEngineConfiguration#getAuthorizationCheckPrecomputedLimit()}
+   */
+  protected List<String> getPrecomputedAuthorizationIds(String userId, List<String> groupIds) {
+    if (precomputedAuthorizationIds == null) {
+      precomputedAuthorizationIds = new HashMap<>();
+    }
+
+    List<String> sortedGroupIds = new ArrayList<>(groupIds);
+    sortedGroupIds.sort(null);
+    String key = userId + sortedGroupIds;
+
+    if (!precomputedAuthorizationIds.containsKey(key)) {
+      Map<String, Object> parameters = new HashMap<>();
+      parameters.put("userId", userId);
+      parameters.put("groupIds", sortedGroupIds);
+
+      // one more than the limit suffices to tell that the limit is exceeded
+      int limit = Context.getProcessEngineConfiguration().getAuthorizationCheckPrecomputedLimit();
+      int maxResults = limit < Integer.MAX_VALUE ? limit + 1 : limit;
+      List<String> authorizationIds = getDbEntityManager().selectList("selectGrantingAuthorizationIds", parameters, 0, maxResults);
+      if (authorizationIds.size() > limit) {
+        authorizationIds = null;
+      }
+      precomputedAuthorizationIds.put(key, authorizationIds);
+    }
+
+    return precomputedAuthorizationIds.get(key);
+  }
+
+  protected boolean isAuthorizationCheckPrecomputed() {
+    return Context.getProcessEngineConfiguration().isAuthorizationCheckPrecomputed();
   }
 
   @Override
@@ -0,0 +1,51 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.finos.fluxnova.bpm.engine.impl.persistence.entity;
+
+import java.util.List;
+
+import org.finos.fluxnova.bpm.engine.impl.batch.BatchChunkEntity;
+import org.finos.fluxnova.bpm.engine.impl.persistence.AbstractManager;
+
+/**
+ * Manages the chunks of instance ids of large batches, see {@link BatchChunkEntity}.
+ */
+public class BatchChunkManager extends AbstractManager {
+
+  public void insertBatchChunk(BatchChunkEntity chunk) {
+    getDbEntityManager().insert(chunk);
+  }
+
+  /**
+   * @return the next chunk to process of the given batch followed by the
+   * chunk after it, if any
+   */
+  @SuppressWarnings("unchecked")
+  public List<BatchChunkEntity> findNextBatchChunks(String batchId) {
+    return getDbEntityManager().selectList("selectNextBatchChunks", batchId);
+  }
+
+  public long findBatchChunkCountByBatchId(String batchId) {
+    return (Long) getDbEntityManager().selectOne("selectBatchChunkCountByBatchId", batchId);
+  }
+
+  public void deleteBatchChunksByBatchId(String batchId) {
+    getDbEntityManager().deletePreserveOrder(ByteArrayEntity.class, "deleteBatchChunkByteArraysByBatchId", batchId);
+    getDbEntityManager().deletePreserveOrder(BatchChunkEntity.class, "deleteBatchChunksByBatchId", batchId);
+  }
+
+}
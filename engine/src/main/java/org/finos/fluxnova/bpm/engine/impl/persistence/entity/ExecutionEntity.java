@@ -1251,6 +1251,10 @@ public class ExecutionEntity extends PvmExecutionImpl implements Execution, Proc
     }
     else {
       other.variableStore.addVariable(variable);
+
+      Context.getCommandContext()
+        .getVariableSearchManager()
+        .updateSearchableVariable(variable);
     }
   }
 
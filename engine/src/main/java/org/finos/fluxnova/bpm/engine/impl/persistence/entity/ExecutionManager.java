@@ -20,6 +20,7 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 import org.finos.fluxnova.bpm.engine.authorization.Resources;
 import org.finos.fluxnova.bpm.engine.impl.AbstractQuery;
@@ -139,6 +140,11 @@ public class ExecutionManager extends AbstractManager {
     return getDbEntityManager().selectList("selectProcessInstanceByQueryCriteria", processInstanceQuery, page);
   }
 
+  public void streamProcessInstancesByQueryCriteria(ProcessInstanceQueryImpl processInstanceQuery, Consumer<? super ProcessInstance> action) {
+    configureQuery(processInstanceQuery);
+    getDbEntityManager().selectCursor("selectProcessInstanceByQueryCriteriaStream", processInstanceQuery, action);
+  }
+
   @SuppressWarnings("unchecked")
   public List<String> findProcessInstancesIdsByQueryCriteria(ProcessInstanceQueryImpl processInstanceQuery) {
     configureQuery(processInstanceQuery);
@@ -151,6 +157,12 @@ public class ExecutionManager extends AbstractManager {
     return getDbEntityManager().selectList("selectProcessInstanceDeploymentIdMappingsByQueryCriteria", processInstanceQuery);
   }
 
+  @SuppressWarnings("unchecked")
+  public List<ImmutablePair<String, String>> findDeploymentIdMappingsPageByQueryCriteria(ProcessInstanceQueryImpl processInstanceQuery) {
+    configureQuery(processInstanceQuery);
+    return getDbEntityManager().selectList("selectProcessInstanceDeploymentIdMappingsPageByQueryCriteria", processInstanceQuery);
+  }
+
   @SuppressWarnings("unchecked")
   public List<ExecutionEntity> findEventScopeExecutionsByActivityId(String activityRef, String parentExecutionId) {
     Map<String, String> parameters = new HashMap<>();
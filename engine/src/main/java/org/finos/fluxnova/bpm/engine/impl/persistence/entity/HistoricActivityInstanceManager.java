@@ -20,6 +20,7 @@ import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 import org.finos.fluxnova.bpm.engine.history.HistoricActivityInstance;
 import org.finos.fluxnova.bpm.engine.impl.HistoricActivityInstanceQueryImpl;
 import org.finos.fluxnova.bpm.engine.impl.Page;
@@ -61,6 +62,12 @@ public class HistoricActivityInstanceManager extends AbstractHistoricManager {
     return getDbEntityManager().selectList("selectHistoricActivityInstancesByQueryCriteria", historicActivityInstanceQuery, page);
   }
 
+  public void streamHistoricActivityInstancesByQueryCriteria(HistoricActivityInstanceQueryImpl historicActivityInstanceQuery,
+                                                             Consumer<? super HistoricActivityInstance> action) {
+    configureQuery(historicActivityInstanceQuery);
+    getDbEntityManager().selectCursor("selectHistoricActivityInstancesByQueryCriteriaStream", historicActivityInstanceQuery, action);
+  }
+
   @SuppressWarnings("unchecked")
   public List<HistoricActivityInstance> findHistoricActivityInstancesByNativeQuery(Map<String, Object> parameterMap, int firstResult, int maxResults) {
     return getDbEntityManager().selectListWithRawParameter("selectHistoricActivityInstanceByNativeQuery", parameterMap, firstResult, maxResults);
@@ -22,6 +22,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Consumer;
 import org.finos.fluxnova.bpm.engine.authorization.Resources;
 import org.finos.fluxnova.bpm.engine.history.CleanableHistoricProcessInstanceReportResult;
 import org.finos.fluxnova.bpm.engine.history.HistoricProcessInstance;
@@ -31,6 +32,8 @@ import org.finos.fluxnova.bpm.engine.impl.Page;
 import org.finos.fluxnova.bpm.engine.impl.context.Context;
 import org.finos.fluxnova.bpm.engine.impl.db.DbEntity;
 import org.finos.fluxnova.bpm.engine.impl.db.ListQueryParameterObject;
+import org.finos.fluxnova.bpm.engine.impl.db.entitymanager.cache.CachedDbEntity;
+import org.finos.fluxnova.bpm.engine.impl.db.entitymanager.cache.DbEntityState;
 import org.finos.fluxnova.bpm.engine.impl.db.entitymanager.operation.DbOperation;
 import org.finos.fluxnova.bpm.engine.impl.db.sql.DbSqlSessionFactory;
 import org.finos.fluxnova.bpm.engine.impl.history.event.HistoricActivityInstanceEventEntity;
@@ -40,6 +43,7 @@ import org.finos.fluxnova.bpm.engine.impl.history.event.HistoricIdentityLinkLogE
 import org.finos.fluxnova.bpm.engine.impl.history.event.HistoricIncidentEventEntity;
 import org.finos.fluxnova.bpm.engine.impl.history.event.HistoricProcessInstanceEventEntity;
 import org.finos.fluxnova.bpm.engine.impl.history.event.HistoricTaskInstanceEventEntity;
+import org.finos.fluxnova.bpm.engine.impl.history.event.HistoryEvent;
 import org.finos.fluxnova.bpm.engine.impl.history.event.UserOperationLogEntryEventEntity;
 import org.finos.fluxnova.bpm.engine.impl.interceptor.CommandContext;
 import org.finos.fluxnova.bpm.engine.impl.persistence.AbstractHistoricManager;
@@ -118,6 +122,14 @@ public class HistoricProcessInstanceManager extends AbstractHistoricManager {
     return Collections.EMPTY_LIST;
   }
 
+  public void streamHistoricProcessInstancesByQueryCriteria(HistoricProcessInstanceQueryImpl historicProcessInstanceQuery,
+                                                            Consumer<? super HistoricProcessInstance> action) {
+    if (isHistoryEnabled()) {
+      configureQuery(historicProcessInstanceQuery);
+      getDbEntityManager().selectCursor("selectHistoricProcessInstancesByQueryCriteriaStream", historicProcessInstanceQuery, action);
+    }
+  }
+
   @SuppressWarnings("unchecked")
   public List<HistoricProcessInstance> findHistoricProcessInstancesByNativeQuery(Map<String, Object> parameterMap, int firstResult, int maxResults) {
     return getDbEntityManager().selectListWithRawParameter("selectHistoricProcessInstanceByNativeQuery", parameterMap, firstResult, maxResults);
@@ -172,6 +184,61 @@ public class HistoricProcessInstanceManager extends AbstractHistoricManager {
     addRemovalTimeToProcessInstancesByRootProcessInstanceId(rootProcessInstanceId, removalTime, null, Collections.emptySet());
   }
 
+  /**
+   * Sets the removal time on all history entities of the given root process instance
+   * that have not been flushed yet. Must only be used if the root process instance was
+   * started within the current command, since no rows exist in the database then and
+   * the bulk updates can be skipped.
+   */
+  public void addRemovalTimeToTransientEntitiesByRootProcessInstanceId(String rootProcessInstanceId, Date removalTime) {
+    boolean enableHistoricInstancePermissions = isEnableHistoricInstancePermissions();
+
+    for (CachedDbEntity cachedDbEntity : getDbEntityManager().getDbEntityCache().getCachedEntities()) {
+      if (cachedDbEntity.getEntityState() != DbEntityState.TRANSIENT) {
+        continue;
+      }
+
+      DbEntity entity = cachedDbEntity.getEntity();
+
+      if (entity instanceof HistoryEvent) {
+        HistoryEvent historyEvent = (HistoryEvent) entity;
+        if (rootProcessInstanceId.equals(historyEvent.getRootProcessInstanceId())) {
+          historyEvent.setRemovalTime(removalTime);
+        }
+
+      } else if (entity instanceof HistoricVariableInstanceEntity) {
+        HistoricVariableInstanceEntity variableInstance = (HistoricVariableInstanceEntity) entity;
+        if (rootProcessInstanceId.equals(variableInstance.getRootProcessInstanceId())) {
+          variableInstance.setRemovalTime(removalTime);
+        }
+
+      } else if (entity instanceof ByteArrayEntity) {
+        ByteArrayEntity byteArray = (ByteArrayEntity) entity;
+        if (rootProcessInstanceId.equals(byteArray.getRootProcessInstanceId())) {
+          byteArray.setRemovalTime(removalTime);
+        }
+
+      } else if (entity instanceof CommentEntity) {
+        CommentEntity comment = (CommentEntity) entity;
+        if (rootProcessInstanceId.equals(comment.getRootProcessInstanceId())) {
+          comment.setRemovalTime(removalTime);
+        }
+
+      } else if (entity instanceof AttachmentEntity) {
+        AttachmentEntity attachment = (AttachmentEntity) entity;
+        if (rootProcessInstanceId.equals(attachment.getRootProcessInstanceId())) {
+          attachment.setRemovalTime(removalTime);
+        }
+
+      } else if (enableHistoricInstancePermissions && entity instanceof AuthorizationEntity) {
+        AuthorizationEntity authorization = (AuthorizationEntity) entity;
+        if (rootProcessInstanceId.equals(authorization.getRootProcessInstanceId())) {
+          authorization.setRemovalTime(removalTime);
+        }
+      }
+    }
+  }
+
   public Map<Class<? extends DbEntity>, DbOperation> addRemovalTimeToProcessInstancesByRootProcessInstanceId(
       String rootProcessInstanceId,
       Date removalTime,
@@ -373,6 +440,10 @@ public class HistoricProcessInstanceManager extends AbstractHistoricManager {
     return updateOperations;
   }
 
+  public long findHistoricProcessInstanceCountByRemovalTime(Date removalTime) {
+    return (Long) getDbEntityManager().selectOne("selectHistoricProcessInstanceCountByRemovalTime", removalTime);
+  }
+
   public Map<Class<? extends DbEntity>, DbOperation> deleteHistoricProcessInstancesByRemovalTime(Date removalTime, int minuteFrom, int minuteTo, int batchSize) {
     CommandContext commandContext = getCommandContext();
 
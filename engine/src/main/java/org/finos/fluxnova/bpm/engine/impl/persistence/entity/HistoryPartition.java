@@ -0,0 +1,166 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.finos.fluxnova.bpm.engine.impl.persistence.entity;
+
+import java.sql.Timestamp;
+import java.util.Date;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A partition of a history table as reported by the database catalog.
+ *
+ * <p>The bound is the database specific text of the partition bound, e.g.
+ * <code>FOR VALUES FROM ('2024-01-01 00:00:00') TO ('2024-02-01 00:00:00')</code> on PostgreSQL,
+ * <code>TIMESTAMP' 2024-02-01 00:00:00'</code> on Oracle or <code>'2024-02-01 00:00:00'</code>
+ * on MySQL. Only the exclusive upper bound is of interest: a partition of a table
+ * partitioned by range of <code>REMOVAL_TIME_</code> whose upper bound is not after the
+ * current time contains expired rows only.</p>
+ */
+public class HistoryPartition {
+
+  public static final String REMOVAL_TIME_COLUMN = "REMOVAL_TIME_";
+
+  protected static final Pattern DATE_TIME_PATTERN =
+      Pattern.compile("\\d{4}-\\d{2}-\\d{2}( \\d{2}:\\d{2}:\\d{2}(\\.\\d+)?)?");
+
+  protected static final int DATE_LENGTH = "yyyy-MM-dd".length();
+
+  protected static final Pattern IDENTIFIER_PATTERN = Pattern.compile("[A-Za-z0-9_$#]+");
+
+  protected String tableName;
+  protected String partitionSchema;
+  protected String partitionName;
+  protected String bound;
+  protected String partitionKey;
+
+  /**
+   * @return the exclusive upper bound of the partition or <code>null</code> if it has none
+   * (e.g. a <code>DEFAULT</code> or <code>MAXVALUE</code> partition)
+   */
+  public Date getUpperBound() {
+    if (bound == null) {
+      return null;
+    }
+
+    // PostgreSQL reports both bounds of a range partition
+    int upperBoundStart = bound.toUpperCase(Locale.ROOT).lastIndexOf(" TO ");
+    String upperBound = upperBoundStart < 0 ? bound : bound.substring(upperBoundStart);
+
+    String dateTime = null;
+    Matcher matcher = DATE_TIME_PATTERN.matcher(upperBound);
+    while (matcher.find()) {
+      dateTime = matcher.group();
+    }
+
+    if (dateTime == null) {
+      return null;
+    }
+    if (dateTime.length() == DATE_LENGTH) {
+      dateTime = dateTime + " 00:00:00";
+    }
+    return Timestamp.valueOf(dateTime);
+  }
+
+  /**
+   * @return <code>true</code> if the table is partitioned by range of <code>REMOVAL_TIME_</code> only
+   */
+  public boolean isPartitionedByRemovalTime() {
+    if (partitionKey == null) {
+      return false;
+    }
+    String key = partitionKey.toUpperCase(Locale.ROOT)
+        .replaceAll("[\\s\"`()]", "")
+        .replaceFirst("^RANGE(COLUMNS)?", "");
+    return REMOVAL_TIME_COLUMN.equals(key);
+  }
+
+  /**
+   * @return <code>true</code> if the partition only holds rows whose removal time is not after the given time
+   */
+  public boolean isExpired(Date removalTime) {
+    Date upperBound = getUpperBound();
+    return isPartitionedByRemovalTime()
+        && upperBound != null
+        && !upperBound.after(removalTime);
+  }
+
+  /**
+   * @return <code>true</code> if the names can safely be used in a DDL statement
+   */
+  public boolean hasValidIdentifiers() {
+    return isValidIdentifier(partitionName)
+        && (partitionSchema == null || isValidIdentifier(partitionSchema));
+  }
+
+  protected static boolean isValidIdentifier(String identifier) {
+    return identifier != null && IDENTIFIER_PATTERN.matcher(identifier).matches();
+  }
+
+  public String getTableName() {
+    return tableName;
+  }
+
+  public void setTableName(String tableName) {
+    this.tableName = tableName;
+  }
+
+  public String getPartitionSchema() {
+    return partitionSchema;
+  }
+
+  public void setPartitionSchema(String partitionSchema) {
+    this.partitionSchema = partitionSchema;
+  }
+
+  public String getPartitionName() {
+    return partitionName;
+  }
+
+  public void setPartitionName(String partitionName) {
+    this.partitionName = partitionName;
+  }
+
+  public String getBound() {
+    return bound;
+  }
+
+  public void setBound(String bound) {
+    this.bound = bound;
+  }
+
+  public String getPartitionKey() {
+    return partitionKey;
+  }
+
+  public void setPartitionKey(String partitionKey) {
+    this.partitionKey = partitionKey;
+  }
+
+  @Override
+  public String toString() {
+    return this.getClass().getSimpleName()
+        + "[tableName=" + tableName
+        + ", partitionSchema=" + partitionSchema
+        + ", partitionName=" + partitionName
+        + ", bound=" + bound
+        + ", partitionKey=" + partitionKey
+        + "]";
+  }
+
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.finos.fluxnova.bpm.engine.impl.persistence.entity;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.finos.fluxnova.bpm.engine.impl.ProcessEngineLogger;
+import org.finos.fluxnova.bpm.engine.impl.context.Context;
+import org.finos.fluxnova.bpm.engine.impl.db.EnginePersistenceLogger;
+import org.finos.fluxnova.bpm.engine.impl.db.sql.DbSqlSession;
+import org.finos.fluxnova.bpm.engine.impl.db.sql.DbSqlSessionFactory;
+import org.finos.fluxnova.bpm.engine.impl.interceptor.CommandExecutor;
+import org.finos.fluxnova.bpm.engine.impl.persistence.AbstractManager;
+
+/**
+ * Drops expired partitions of history tables which are partitioned by range of
+ * <code>REMOVAL_TIME_</code>. Only PostgreSQL, Oracle and MySQL are supported; the partitions
+ * themselves are created and maintained by the database administrator (see the scripts in
+ * <code>org/finos/fluxnova/bpm/engine/db/partitioning</code>).
+ *
+ * <p>Dropping a partition is a DDL statement which cannot be rolled back on Oracle and MySQL.
+ * Each partition is therefore detached and dropped in transactions of its own, which also
+ * keeps the exclusive lock of the partitioned table short on PostgreSQL.</p>
+ */
+public class HistoryPartitionManager extends AbstractManager {
+
+  protected static final EnginePersistenceLogger LOG = ProcessEngineLogger.PERSISTENCE_LOGGER;
+
+  protected static final List<String> SUPPORTED_DATABASES = Arrays.asList(
+      DbSqlSessionFactory.POSTGRES,
+      DbSqlSessionFactory.ORACLE,
+      DbSqlSessionFactory.MYSQL);
+
+  /**
+   * History tables with a <code>REMOVAL_TIME_</code> column whose rows do not need any further
+   * processing on removal. <code>ACT_GE_BYTEARRAY</code> is shared with the runtime and is never dropped.
+   */
+  protected static final List<String> PROCESS_HISTORY_TABLES = Arrays.asList(
+      "ACT_HI_PROCINST",
+      "ACT_HI_ACTINST",
+      "ACT_HI_TASKINST",
+      "ACT_HI_VARINST",
+      "ACT_HI_DETAIL",
+      "ACT_HI_INCIDENT",
+      "ACT_HI_EXT_TASK_LOG",
+      "ACT_HI_JOB_LOG",
+      "ACT_HI_OP_LOG",
+      "ACT_HI_IDENTITYLINK",
+      "ACT_HI_COMMENT",
+      "ACT_HI_ATTACHMENT",
+      "ACT_HI_BATCH");
+
+  protected static final List<String> DECISION_HISTORY_TABLES = Arrays.asList(
+      "ACT_HI_DECINST",
+      "ACT_HI_DEC_IN",
+      "ACT_HI_DEC_OUT");
+
+  public boolean isPartitionDropSupported() {
+    String databaseType = getDbSqlSession().getDbSqlSessionFactory().getDatabaseType();
+    return SUPPORTED_DATABASES.contains(databaseType);
+  }
+
+  /**
+   * @return the partitions of the given history table, empty if the table is not partitioned
+   * or the database is not supported
+   */
+  @SuppressWarnings("unchecked")
+  public List<HistoryPartition> findHistoryPartitions(String tableName) {
+    if (!isPartitionDropSupported()) {
+      return Collections.emptyList();
+    }
+
+    DbSqlSession dbSqlSession = getDbSqlSession();
+    Map<String, Object> parameters = new HashMap<>();
+    parameters.put("tableName", dbSqlSession.prependDatabaseTablePrefix(tableName));
+    parameters.put("schema", dbSqlSession.getDbSqlSessionFactory().getDatabaseSchema());
+
+    return getDbEntityManager().selectList("selectHistoryPartitions", parameters);
+  }
+
+  /**
+   * Drops all partitions of the history tables which only hold rows with a removal time
+   * not after the given time. Every partition is dropped in a new transaction, so that
+   * the partitions dropped before a failure stay dropped.
+   *
+   * @return the number of dropped partitions
+   */
+  public int dropExpiredHistoryPartitions(Date removalTime) {
+    if (!isPartitionDropSupported()) {
+      return 0;
+    }
+
+    CommandExecutor commandExecutor = Context.getProcessEngineConfiguration().getCommandExecutorTxRequiresNew();
+
+    int droppedPartitions = 0;
+    for (String tableName : getHistoryTables()) {
+      for (HistoryPartition partition : findHistoryPartitions(tableName)) {
+        if (!partition.isExpired(removalTime)) {
+          continue;
+        }
+
+        if (!partition.hasValidIdentifiers()) {
+          LOG.skipHistoryPartition(partition);
+          continue;
+        }
+
+        dropHistoryPartition(commandExecutor, tableName, partition);
+        droppedPartitions++;
+      }
+    }
+
+    return droppedPartitions;
+  }
+
+  protected void dropHistoryPartition(CommandExecutor commandExecutor, String tableName, HistoryPartition partition) {
+    Map<String, Object> parameters = new HashMap<>();
+    parameters.put("tableName", tableName);
+    parameters.put("partitionSchema", partition.getPartitionSchema());
+    parameters.put("partitionName", partition.getPartitionName());
+
+    // PostgreSQL only: a partition has to be detached before it can be dropped,
+    // this locks the partitioned table exclusively until the transaction commits
+    executeUpdate(commandExecutor, "detachHistoryPartition", parameters);
+    executeUpdate(commandExecutor, "dropHistoryPartition", parameters);
+
+    LOG.droppedHistoryPartition(partition);
+  }
+
+  protected void executeUpdate(CommandExecutor commandExecutor, String statement, Map<String, Object> parameters) {
+    commandExecutor.execute(commandContext -> {
+      commandContext.getDbSqlSession().executeNonEmptyUpdateStmt(statement, parameters);
+      return null;
+    });
+  }
+
+  protected List<String> getHistoryTables() {
+    List<String> tables = new ArrayList<>(PROCESS_HISTORY_TABLES);
+    if (Context.getProcessEngineConfiguration().isDmnEnabled()) {
+      tables.addAll(DECISION_HISTORY_TABLES);
+    }
+    return tables;
+  }
+
+}
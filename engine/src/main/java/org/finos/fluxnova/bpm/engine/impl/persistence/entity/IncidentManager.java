@@ -19,6 +19,7 @@ package org.finos.fluxnova.bpm.engine.impl.persistence.entity;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 import org.finos.fluxnova.bpm.engine.impl.IncidentQueryImpl;
 import org.finos.fluxnova.bpm.engine.impl.Page;
@@ -67,6 +68,11 @@ public class IncidentManager extends AbstractManager {
     return getDbEntityManager().selectList("selectIncidentByQueryCriteria", incidentQuery, page);
   }
 
+  public void streamIncidentsByQueryCriteria(IncidentQueryImpl incidentQuery, Consumer<? super Incident> action) {
+    configureQuery(incidentQuery);
+    getDbEntityManager().selectCursor("selectIncidentByQueryCriteriaStream", incidentQuery, action);
+  }
+
   protected void configureQuery(IncidentQueryImpl query) {
     getAuthorizationManager().configureIncidentQuery(query);
     getTenantManager().configureQuery(query);
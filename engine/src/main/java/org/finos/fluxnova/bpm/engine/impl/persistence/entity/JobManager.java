@@ -27,6 +27,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Consumer;
 import org.finos.fluxnova.bpm.engine.impl.Direction;
 import org.finos.fluxnova.bpm.engine.impl.JobQueryImpl;
 import org.finos.fluxnova.bpm.engine.impl.JobQueryProperty;
@@ -282,6 +283,11 @@ public class JobManager extends AbstractManager {
     return getDbEntityManager().selectList("selectJobByQueryCriteria", jobQuery, page);
   }
 
+  public void streamJobsByQueryCriteria(JobQueryImpl jobQuery, Consumer<? super Job> action) {
+    configureQuery(jobQuery);
+    getDbEntityManager().selectCursor("selectJobByQueryCriteriaStream", jobQuery, action);
+  }
+
   @SuppressWarnings("unchecked")
   public List<ImmutablePair<String, String>> findDeploymentIdMappingsByQueryCriteria(JobQueryImpl jobQuery) {
     configureQuery(jobQuery);
@@ -39,6 +39,7 @@ import org.finos.fluxnova.bpm.engine.history.HistoricVariableInstance;
 import org.finos.fluxnova.bpm.engine.history.HistoricVariableUpdate;
 import org.finos.fluxnova.bpm.engine.impl.ProcessEngineLogger;
 import org.finos.fluxnova.bpm.engine.impl.TablePageQueryImpl;
+import org.finos.fluxnova.bpm.engine.impl.batch.BatchChunkEntity;
 import org.finos.fluxnova.bpm.engine.impl.batch.BatchEntity;
 import org.finos.fluxnova.bpm.engine.impl.batch.history.HistoricBatchEntity;
 import org.finos.fluxnova.bpm.engine.impl.cmmn.entity.repository.CaseDefinitionEntity;
@@ -86,12 +87,14 @@ public class TableDataManager extends AbstractManager {
     persistentObjectToTableNameMap.put(ExecutionEntity.class, "ACT_RU_EXECUTION");
     persistentObjectToTableNameMap.put(IdentityLinkEntity.class, "ACT_RU_IDENTITYLINK");
     persistentObjectToTableNameMap.put(VariableInstanceEntity.class, "ACT_RU_VARIABLE");
+    persistentObjectToTableNameMap.put(VariableSearchEntity.class, "ACT_RU_VAR_SEARCH");
 
     persistentObjectToTableNameMap.put(JobEntity.class, "ACT_RU_JOB");
     persistentObjectToTableNameMap.put(MessageEntity.class, "ACT_RU_JOB");
     persistentObjectToTableNameMap.put(TimerEntity.class, "ACT_RU_JOB");
     persistentObjectToTableNameMap.put(JobDefinitionEntity.class, "ACT_RU_JOBDEF");
     persistentObjectToTableNameMap.put(BatchEntity.class, "ACT_RU_BATCH");
+    persistentObjectToTableNameMap.put(BatchChunkEntity.class, "ACT_RU_BATCH_CHUNK");
 
     persistentObjectToTableNameMap.put(IncidentEntity.class, "ACT_RU_INCIDENT");
 
@@ -299,4 +302,57 @@ public class TableDataManager extends AbstractManager {
     return result;
   }
 
+  /**
+   * @param tableName the name of the table with or without the configured table prefix
+   * @return the upper case column names of each index of the table, in the order of the index
+   */
+  public List<List<String>> getTableIndexes(String tableName) {
+    Map<String, List<String>> indexes = new HashMap<>();
+    ResultSet resultSet = null;
+
+    try {
+      try {
+        DbSqlSessionFactory dbSqlSessionFactory = getDbSqlSession().getDbSqlSessionFactory();
+        DatabaseMetaData metaData = getDbSqlSession()
+            .getSqlSession()
+            .getConnection()
+            .getMetaData();
+
+        String databaseTablePrefix = dbSqlSessionFactory.getDatabaseTablePrefix();
+        if (databaseTablePrefix != null && tableName.startsWith(databaseTablePrefix)) {
+          tableName = tableName.substring(databaseTablePrefix.length());
+        }
+        if (DatabaseUtil.checkDatabaseType(DbSqlSessionFactory.POSTGRES)) {
+          tableName = tableName.toLowerCase();
+        }
+
+        String databaseSchema = dbSqlSessionFactory.getDatabaseSchema();
+        tableName = getDbSqlSession().prependDatabaseTablePrefix(tableName);
+
+        resultSet = metaData.getIndexInfo(null, databaseSchema, tableName, false, true);
+        while (resultSet.next()) {
+          String indexName = resultSet.getString("INDEX_NAME");
+          String columnName = resultSet.getString("COLUMN_NAME");
+          int position = resultSet.getShort("ORDINAL_POSITION");
+          if (indexName != null && columnName != null && position > 0) {
+            List<String> columns = indexes.computeIfAbsent(indexName, name -> new ArrayList<>());
+            while (columns.size() < position) {
+              columns.add(null);
+            }
+            columns.set(position - 1, columnName.toUpperCase());
+          }
+        }
+
+      } finally {
+        if (resultSet != null) {
+          resultSet.close();
+        }
+      }
+    } catch (Exception e) {
+      throw LOG.retrieveMetadataException(e);
+    }
+
+    return new ArrayList<>(indexes.values());
+  }
+
 }
@@ -21,6 +21,7 @@ import static org.finos.fluxnova.bpm.engine.impl.util.EnsureUtil.ensureNotNull;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 import org.finos.fluxnova.bpm.engine.authorization.Resources;
 import org.finos.fluxnova.bpm.engine.impl.Page;
@@ -138,6 +139,11 @@ public class TaskManager extends AbstractManager {
     return getDbEntityManager().selectList("selectTaskByQueryCriteria", taskQuery);
   }
 
+  public void streamTasksByQueryCriteria(TaskQueryImpl taskQuery, Consumer<? super Task> action) {
+    configureQuery(taskQuery);
+    getDbEntityManager().selectCursor("selectTaskByQueryCriteriaStream", taskQuery, action);
+  }
+
   public long findTaskCountByQueryCriteria(TaskQueryImpl taskQuery) {
     configureQuery(taskQuery);
     return (Long) getDbEntityManager().selectOne("selectTaskCountByQueryCriteria", taskQuery);
@@ -17,6 +17,7 @@
 package org.finos.fluxnova.bpm.engine.impl.persistence.entity;
 
 import java.io.Serializable;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
@@ -27,6 +28,7 @@ import org.finos.fluxnova.bpm.application.InvocationContext;
 import org.finos.fluxnova.bpm.application.ProcessApplicationReference;
 import org.finos.fluxnova.bpm.engine.delegate.VariableScope;
 import org.finos.fluxnova.bpm.engine.impl.ProcessEngineLogger;
+import org.finos.fluxnova.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.finos.fluxnova.bpm.engine.impl.cmmn.entity.runtime.CaseExecutionEntity;
 import org.finos.fluxnova.bpm.engine.impl.context.Context;
 import org.finos.fluxnova.bpm.engine.impl.context.ProcessApplicationContextUtil;
@@ -36,6 +38,7 @@ import org.finos.fluxnova.bpm.engine.impl.db.DbEntityLifecycleAware;
 import org.finos.fluxnova.bpm.engine.impl.db.EnginePersistenceLogger;
 import org.finos.fluxnova.bpm.engine.impl.db.HasDbReferences;
 import org.finos.fluxnova.bpm.engine.impl.db.HasDbRevision;
+import org.finos.fluxnova.bpm.engine.impl.interceptor.CommandContext;
 import org.finos.fluxnova.bpm.engine.impl.persistence.entity.util.ByteArrayField;
 import org.finos.fluxnova.bpm.engine.impl.persistence.entity.util.TypedValueField;
 import org.finos.fluxnova.bpm.engine.impl.persistence.entity.util.TypedValueUpdateListener;
@@ -144,10 +147,14 @@ public class VariableInstanceEntity implements VariableInstance, CoreVariableIns
 
   public static void insert(VariableInstanceEntity variableInstance) {
     if (!variableInstance.isTransient()) {
-      Context
-      .getCommandContext()
+      CommandContext commandContext = Context.getCommandContext();
+      commandContext
       .getDbEntityManager()
       .insert(variableInstance);
+
+      commandContext
+      .getVariableSearchManager()
+      .insertSearchableVariable(variableInstance);
     }
   }
 
@@ -165,8 +172,11 @@ public class VariableInstanceEntity implements VariableInstance, CoreVariableIns
     clearValueFields(true);
 
     if (!isTransient) {
+      CommandContext commandContext = Context.getCommandContext();
+      commandContext.getVariableSearchManager().deleteSearchableVariable(this);
+
       // delete variable
-      Context.getCommandContext().getDbEntityManager().delete(this);
+      commandContext.getDbEntityManager().delete(this);
     }
   }
 
@@ -295,10 +305,39 @@ public class VariableInstanceEntity implements VariableInstance, CoreVariableIns
     }
 
     String oldTypeAsString = typedValueField.getTypeName();
-    clearValueFields(!isObjectTyped(newType, oldTypeAsString));
+    clearValueFields(!isObjectTyped(newType, oldTypeAsString) && !isByteArrayReusable(newValue, oldTypeAsString));
     typedValueField.setValue(newValue);
   }
 
+  /**
+   * If unchanged variable updates are skipped, the byte array is kept as long as the
+   * type of the variable does not change. It is then updated in place (or not at all
+   * if its content is equal) instead of being deleted and inserted again.
+   */
+  protected boolean isByteArrayReusable(TypedValue newValue, String oldTypeAsString) {
+    ProcessEngineConfigurationImpl processEngineConfiguration = Context.getProcessEngineConfiguration();
+    return processEngineConfiguration != null
+        && processEngineConfiguration.isSkipUnchangedVariableUpdates()
+        && newValue.getType() != null
+        && newValue.getType().getName().equals(oldTypeAsString);
+  }
+
+  /**
+   * Returns the persisted representation of the value: serializer, value fields and
+   * byte array. Comparing it before and after setting a value detects whether the
+   * variable has changed. The byte array is compared by reference, see
+   * {@link ByteArrayField#setByteArrayValue(byte[], boolean)}.
+   */
+  public Object getValueState() {
+    return Arrays.asList(typedValueField.getSerializerName(),
+        longValue,
+        doubleValue,
+        textValue,
+        textValue2,
+        byteArrayField.getByteArrayId(),
+        byteArrayField.getByteArrayValue());
+  }
+
   /**
    * The engine should only remove byte arrays in case the type
    * changes but keep it when old and new types are object.
@@ -16,6 +16,7 @@
  */
 package org.finos.fluxnova.bpm.engine.impl.persistence.entity;
 
+import org.finos.fluxnova.bpm.engine.impl.context.Context;
 import org.finos.fluxnova.bpm.engine.impl.core.variable.scope.AbstractVariableScope;
 import org.finos.fluxnova.bpm.engine.impl.core.variable.scope.VariableInstanceLifecycleListener;
 
@@ -39,6 +40,10 @@ public class VariableInstanceEntityPersistenceListener implements VariableInstan
 
   @Override
   public void onUpdate(VariableInstanceEntity variable, AbstractVariableScope sourceScope) {
+    // the variable itself is written by the dirty check on flush
+    Context.getCommandContext()
+      .getVariableSearchManager()
+      .updateSearchableVariable(variable);
   }
 
 }
@@ -0,0 +1,223 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.finos.fluxnova.bpm.engine.impl.persistence.entity;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.finos.fluxnova.bpm.engine.impl.db.DbEntity;
+
+/**
+ * Copy of the value of a variable which is declared as searchable by the
+ * process definition of its process instance. The copy shares the id of the
+ * variable instance and is kept in a narrow table with indexes on the name
+ * and the value columns, so that variable filters of task and process
+ * instance queries can be resolved without scanning all variable instances.
+ *
+ * @see VariableSearchManager
+ */
+public class VariableSearchEntity implements DbEntity {
+
+  /**
+   * The number of characters of the text value which are indexed. Chosen so
+   * that the prefix fits into 255 bytes in any encoding.
+   */
+  public static final int TEXT_PREFIX_LENGTH = 63;
+
+  protected String id;
+  protected String name;
+  protected String serializerName;
+  protected String processDefinitionId;
+  protected String processInstanceId;
+  protected String executionId;
+  protected String taskId;
+  protected String byteArrayValueId;
+  protected Double doubleValue;
+  protected Long longValue;
+  protected String textValue;
+  protected String textValue2;
+
+  public VariableSearchEntity() {
+  }
+
+  public VariableSearchEntity(String id) {
+    this.id = id;
+  }
+
+  /**
+   * Copies the name, the scope and the value of the given variable.
+   */
+  public void updateFrom(VariableInstanceEntity variable, String processDefinitionId) {
+    this.name = variable.getName();
+    this.serializerName = variable.getSerializerName();
+    this.processDefinitionId = processDefinitionId;
+    this.processInstanceId = variable.getProcessInstanceId();
+    this.executionId = variable.getExecutionId();
+    this.taskId = variable.getTaskId();
+    this.byteArrayValueId = variable.getByteArrayValueId();
+    this.doubleValue = variable.getDoubleValue();
+    this.longValue = variable.getLongValue();
+    this.textValue = variable.getTextValue();
+    this.textValue2 = variable.getTextValue2();
+  }
+
+  /**
+   * @return the indexed prefix of the given text value
+   */
+  public static String getTextPrefix(String text) {
+    if (text == null || text.length() <= TEXT_PREFIX_LENGTH) {
+      return text;
+    }
+
+    int end = TEXT_PREFIX_LENGTH;
+    if (Character.isHighSurrogate(text.charAt(end - 1))) {
+      // do not split a surrogate pair
+      end--;
+    }
+    return text.substring(0, end);
+  }
+
+  @Override
+  public String getId() {
+    return id;
+  }
+
+  @Override
+  public void setId(String id) {
+    this.id = id;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public void setName(String name) {
+    this.name = name;
+  }
+
+  public String getSerializerName() {
+    return serializerName;
+  }
+
+  public void setSerializerName(String serializerName) {
+    this.serializerName = serializerName;
+  }
+
+  public String getProcessDefinitionId() {
+    return processDefinitionId;
+  }
+
+  public void setProcessDefinitionId(String processDefinitionId) {
+    this.processDefinitionId = processDefinitionId;
+  }
+
+  public String getProcessInstanceId() {
+    return processInstanceId;
+  }
+
+  public void setProcessInstanceId(String processInstanceId) {
+    this.processInstanceId = processInstanceId;
+  }
+
+  public String getExecutionId() {
+    return executionId;
+  }
+
+  public void setExecutionId(String executionId) {
+    this.executionId = executionId;
+  }
+
+  public String getTaskId() {
+    return taskId;
+  }
+
+  public void setTaskId(String taskId) {
+    this.taskId = taskId;
+  }
+
+  public String getByteArrayValueId() {
+    return byteArrayValueId;
+  }
+
+  public void setByteArrayValueId(String byteArrayValueId) {
+    this.byteArrayValueId = byteArrayValueId;
+  }
+
+  public Double getDoubleValue() {
+    return doubleValue;
+  }
+
+  public void setDoubleValue(Double doubleValue) {
+    this.doubleValue = doubleValue;
+  }
+
+  public Long getLongValue() {
+    return longValue;
+  }
+
+  public void setLongValue(Long longValue) {
+    this.longValue = longValue;
+  }
+
+  public String getTextValue() {
+    return textValue;
+  }
+
+  public void setTextValue(String textValue) {
+    this.textValue = textValue;
+  }
+
+  public String getTextValue2() {
+    return textValue2;
+  }
+
+  public void setTextValue2(String textValue2) {
+    this.textValue2 = textValue2;
+  }
+
+  public String getTextPrefix() {
+    return getTextPrefix(textValue);
+  }
+
+  @Override
+  public Object getPersistentState() {
+    Map<String, Object> persistentState = new HashMap<>();
+    persistentState.put("serializerName", serializerName);
+    persistentState.put("processDefinitionId", processDefinitionId);
+    persistentState.put("executionId", executionId);
+    persistentState.put("taskId", taskId);
+    persistentState.put("byteArrayValueId", byteArrayValueId);
+    persistentState.put("doubleValue", doubleValue);
+    persistentState.put("longValue", longValue);
+    persistentState.put("textValue", textValue);
+    persistentState.put("textValue2", textValue2);
+    return persistentState;
+  }
+
+  @Override
+  public String toString() {
+    return this.getClass().getSimpleName()
+      + "[id=" + id
+      + ", name=" + name
+      + ", processDefinitionId=" + processDefinitionId
+      + ", processInstanceId=" + processInstanceId
+      + ", executionId=" + executionId
+      + ", taskId=" + taskId
+      + "]";
+  }
+
+}
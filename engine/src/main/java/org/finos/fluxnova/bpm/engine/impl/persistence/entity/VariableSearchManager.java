@@ -0,0 +1,206 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.finos.fluxnova.bpm.engine.impl.persistence.entity;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.finos.fluxnova.bpm.engine.impl.bpmn.helper.BpmnProperties;
+import org.finos.fluxnova.bpm.engine.impl.context.Context;
+import org.finos.fluxnova.bpm.engine.impl.persistence.AbstractManager;
+import org.finos.fluxnova.bpm.engine.impl.persistence.deploy.cache.DeploymentCache;
+
+/**
+ * Maintains the variable search table, see {@link VariableSearchEntity}.
+ *
+ * <p>A process definition declares its searchable variables with the
+ * <code>searchableVariables</code> attribute of the process element. Every
+ * variable instance of a process instance whose name is declared by the
+ * current process definition of the instance has a row in the table. Task and
+ * process instance queries which are restricted to process definitions that
+ * all declare a variable look up filters on that variable in the table
+ * instead of <code>ACT_RU_VARIABLE</code>.</p>
+ */
+public class VariableSearchManager extends AbstractManager {
+
+  public void insertSearchableVariable(VariableInstanceEntity variable) {
+    String processDefinitionId = getSearchableProcessDefinitionId(variable);
+    if (processDefinitionId != null) {
+      VariableSearchEntity searchEntity = new VariableSearchEntity(variable.getId());
+      searchEntity.updateFrom(variable, processDefinitionId);
+      getDbEntityManager().insert(searchEntity);
+    }
+  }
+
+  public void updateSearchableVariable(VariableInstanceEntity variable) {
+    String processDefinitionId = getSearchableProcessDefinitionId(variable);
+    if (processDefinitionId != null) {
+      VariableSearchEntity searchEntity = getDbEntityManager().selectById(VariableSearchEntity.class, variable.getId());
+      if (searchEntity != null) {
+        // the change is written by the dirty check on flush
+        searchEntity.updateFrom(variable, processDefinitionId);
+      }
+      else {
+        insertSearchableVariable(variable);
+      }
+    }
+  }
+
+  public void deleteSearchableVariable(VariableInstanceEntity variable) {
+    if (getSearchableProcessDefinitionId(variable) != null) {
+      VariableSearchEntity searchEntity = getDbEntityManager().getCachedEntity(VariableSearchEntity.class, variable.getId());
+      if (searchEntity == null) {
+        searchEntity = new VariableSearchEntity(variable.getId());
+      }
+      getDbEntityManager().delete(searchEntity);
+    }
+  }
+
+  /**
+   * Brings the rows of the given process instance in line with its current
+   * process definition, which declares different searchable variables after
+   * a migration.
+   */
+  @SuppressWarnings("unchecked")
+  public void reindexProcessInstance(ExecutionEntity processInstance) {
+    List<VariableSearchEntity> searchEntities = getDbEntityManager()
+        .selectList("selectVariableSearchesByProcessInstanceId", processInstance.getId());
+
+    Map<String, VariableSearchEntity> searchEntitiesById = new HashMap<>();
+    for (VariableSearchEntity searchEntity : getDbEntityManager().pruneDeletedEntities(searchEntities)) {
+      searchEntitiesById.put(searchEntity.getId(), searchEntity);
+    }
+
+    List<VariableInstanceEntity> variables = getVariableInstanceManager()
+        .findVariableInstancesByProcessInstanceId(processInstance.getId());
+
+    for (VariableInstanceEntity variable : getDbEntityManager().pruneDeletedEntities(variables)) {
+      String processDefinitionId = getSearchableProcessDefinitionId(variable);
+      if (processDefinitionId != null) {
+        VariableSearchEntity searchEntity = searchEntitiesById.remove(variable.getId());
+        if (searchEntity != null) {
+          searchEntity.updateFrom(variable, processDefinitionId);
+        }
+        else {
+          insertSearchableVariable(variable);
+        }
+      }
+    }
+
+    for (VariableSearchEntity searchEntity : searchEntitiesById.values()) {
+      getDbEntityManager().delete(searchEntity);
+    }
+  }
+
+  /**
+   * @return the names of the variables which are searchable in all process
+   * definitions with the given id or key, or an empty set if the definitions
+   * are not restricted
+   */
+  @SuppressWarnings("unchecked")
+  public Set<String> findSearchableVariableNames(String processDefinitionId, String processDefinitionKey) {
+    if (processDefinitionId != null) {
+      return getSearchableVariableNames(processDefinitionId);
+    }
+    else if (processDefinitionKey != null) {
+      List<String> processDefinitionIds = getDbEntityManager()
+          .selectList("selectProcessDefinitionIdsForVariableSearch", processDefinitionKey);
+
+      Set<String> variableNames = null;
+      for (String id : processDefinitionIds) {
+        Set<String> searchableVariableNames = getSearchableVariableNames(id);
+        if (variableNames == null) {
+          variableNames = new HashSet<>(searchableVariableNames);
+        }
+        else {
+          variableNames.retainAll(searchableVariableNames);
+        }
+
+        if (variableNames.isEmpty()) {
+          break;
+        }
+      }
+
+      return variableNames != null ? variableNames : Collections.<String>emptySet();
+    }
+    else {
+      return Collections.emptySet();
+    }
+  }
+
+  /**
+   * @return the id of the current process definition of the variable's
+   * process instance if it declares the variable as searchable, otherwise
+   * <code>null</code>
+   */
+  protected String getSearchableProcessDefinitionId(VariableInstanceEntity variable) {
+    if (variable.isTransient() || variable.getProcessInstanceId() == null || variable.getExecutionId() == null) {
+      return null;
+    }
+
+    // the process definition of the variable itself is not updated on migration
+    String processDefinitionId;
+    if (variable.getTaskId() != null) {
+      TaskEntity task = variable.getTask();
+      processDefinitionId = task != null ? task.getProcessDefinitionId() : null;
+    }
+    else {
+      ExecutionEntity execution = variable.getExecution();
+      processDefinitionId = execution != null ? execution.getProcessDefinitionId() : null;
+    }
+
+    if (processDefinitionId != null
+        && getSearchableVariableNames(processDefinitionId).contains(variable.getName())) {
+      return processDefinitionId;
+    }
+    else {
+      return null;
+    }
+  }
+
+  protected Set<String> getSearchableVariableNames(String processDefinitionId) {
+    DeploymentCache deploymentCache = Context.getProcessEngineConfiguration().getDeploymentCache();
+    Set<String> variableNames = deploymentCache.findSearchableVariableNamesFromCache(processDefinitionId);
+    if (variableNames != null) {
+      return variableNames;
+    }
+
+    ProcessDefinitionEntity processDefinition = deploymentCache.findProcessDefinitionFromCache(processDefinitionId);
+    if (processDefinition == null) {
+      if (getProcessDefinitionManager().findLatestProcessDefinitionById(processDefinitionId) == null) {
+        // a query by an unknown process definition finds nothing anyway
+        return Collections.emptySet();
+      }
+      processDefinition = deploymentCache.findDeployedProcessDefinitionById(processDefinitionId);
+    }
+
+    variableNames = processDefinition.getProperties().get(BpmnProperties.SEARCHABLE_VARIABLES);
+    if (variableNames == null) {
+      variableNames = Collections.emptySet();
+    }
+
+    // the declaration of a deployed process definition never changes, so the names
+    // outlive the process definition entity in the deployment cache
+    deploymentCache.addSearchableVariableNames(processDefinitionId, variableNames);
+    return variableNames;
+  }
+
+}
@@ -16,12 +16,14 @@
  */
 package org.finos.fluxnova.bpm.engine.impl.persistence.entity.util;
 
+import org.finos.fluxnova.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.finos.fluxnova.bpm.engine.impl.context.Context;
 import org.finos.fluxnova.bpm.engine.impl.persistence.entity.ByteArrayEntity;
 import org.finos.fluxnova.bpm.engine.impl.persistence.entity.Nameable;
 import org.finos.fluxnova.bpm.engine.impl.variable.serializer.ValueFields;
 import org.finos.fluxnova.bpm.engine.repository.ResourceType;
 
+import java.util.Arrays;
 import java.util.Date;
 
 /**
@@ -99,7 +101,9 @@ public class ByteArrayField {
       //   but the corresponding byte array entity has been removed in parallel;
       //   thus we also need to check if the actual byte array entity still exists
       if (this.byteArrayId != null && getByteArrayEntity() != null) {
-        byteArrayValue.setBytes(bytes);
+        if (!isUnchangedAndSkippable(bytes)) {
+          byteArrayValue.setBytes(bytes);
+        }
       }
       else {
         deleteByteArrayValue();
@@ -123,6 +127,17 @@ public class ByteArrayField {
 
   }
 
+  /**
+   * Keeping the current byte array if the content is equal avoids rewriting it on flush
+   * and allows callers to detect an unchanged value by reference.
+   */
+  protected boolean isUnchangedAndSkippable(byte[] bytes) {
+    ProcessEngineConfigurationImpl processEngineConfiguration = Context.getProcessEngineConfiguration();
+    return processEngineConfiguration != null
+        && processEngineConfiguration.isSkipUnchangedVariableUpdates()
+        && Arrays.equals(byteArrayValue.getBytes(), bytes);
+  }
+
   public void deleteByteArrayValue() {
     if (byteArrayId != null) {
       // the next apparently useless line is probably to ensure consistency in the DbSqlSession cache,
@@ -0,0 +1,268 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.finos.fluxnova.bpm.engine.impl.scripting;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.script.CompiledScript;
+import javax.script.ScriptEngine;
+
+import org.finos.fluxnova.commons.utils.cache.Cache;
+import org.finos.fluxnova.commons.utils.cache.ConcurrentClockCache;
+
+/**
+ * <p>Engine-wide, bounded cache of compiled scripts.</p>
+ *
+ * <p>Scripts are keyed by their language, the name of the script engine they were compiled with
+ * and their source. Like this, a script keeps its compiled form when the
+ * {@link SourceExecutableScript} holding it is recreated, for example after the process definition
+ * was evicted from the deployment cache or redeployed with unchanged scripts.</p>
+ *
+ * <p>A cached script references the {@link ScriptEngine} it was compiled with, as its compiled
+ * form does anyway. Scripts compiled by engines which are loaded by a process application are
+ * therefore not cached at all, since they would keep the process application's class loader
+ * reachable after it was undeployed.</p>
+ *
+ * <p>A cache with a capacity of <code>0</code> is disabled, i.e. it neither looks up nor caches
+ * scripts. The cache counts its hits and misses and each cached script records how often and how
+ * long it was executed.</p>
+ */
+public class CompiledScriptCache {
+
+  protected static final ClassValue<Boolean> CACHEABLE_ENGINE_CLASSES = new ClassValue<Boolean>() {
+    @Override
+    protected Boolean computeValue(Class<?> engineClass) {
+      try {
+        return Class.forName(engineClass.getName(), false, CompiledScriptCache.class.getClassLoader()) == engineClass;
+      } catch (ClassNotFoundException | LinkageError e) {
+        return false;
+      }
+    }
+  };
+
+  protected Cache<Key, CachedScript> cache;
+
+  protected final LongAdder hitCount = new LongAdder();
+  protected final LongAdder missCount = new LongAdder();
+
+  public CompiledScriptCache(int capacity) {
+    if (capacity > 0) {
+      this.cache = new ConcurrentClockCache<>(capacity);
+    }
+  }
+
+  /**
+   * @return the cached script for the given engine, language and source or <code>null</code>
+   */
+  public CachedScript get(ScriptEngine scriptEngine, String language, String source) {
+    if (!isEnabled() || !isCacheable(scriptEngine)) {
+      return null;
+    }
+    CachedScript cachedScript = cache.get(createKey(scriptEngine, language, source));
+    if (cachedScript != null && cachedScript.getScriptEngine() == scriptEngine) {
+      hitCount.increment();
+      return cachedScript;
+    }
+    missCount.increment();
+    return null;
+  }
+
+  /**
+   * Caches the compiled form of a script, unless the cache is disabled or the script engine was
+   * loaded by a process application.
+   *
+   * @param compiledScript the compiled script, <code>null</code> if the script engine cannot compile scripts
+   * @return the cached script
+   */
+  public CachedScript put(ScriptEngine scriptEngine, String language, String source, CompiledScript compiledScript) {
+    CachedScript cachedScript = new CachedScript(scriptEngine, language, source, compiledScript);
+    if (isEnabled() && isCacheable(scriptEngine)) {
+      cache.put(createKey(scriptEngine, language, source), cachedScript);
+    }
+    return cachedScript;
+  }
+
+  /**
+   * @return a snapshot of the currently cached scripts
+   */
+  public List<CachedScript> getCachedScripts() {
+    List<CachedScript> cachedScripts = new ArrayList<>();
+    if (isEnabled()) {
+      for (Key key : cache.keySet()) {
+        CachedScript cachedScript = cache.get(key);
+        if (cachedScript != null) {
+          cachedScripts.add(cachedScript);
+        }
+      }
+    }
+    return cachedScripts;
+  }
+
+  public boolean isEnabled() {
+    return cache != null;
+  }
+
+  public int size() {
+    return isEnabled() ? cache.size() : 0;
+  }
+
+  /**
+   * @return the number of lookups which returned a cached script
+   */
+  public long getHitCount() {
+    return hitCount.sum();
+  }
+
+  /**
+   * @return the number of lookups of cacheable scripts which did not return a cached script
+   */
+  public long getMissCount() {
+    return missCount.sum();
+  }
+
+  public void clear() {
+    if (isEnabled()) {
+      cache.clear();
+    }
+  }
+
+  /**
+   * @return true if the class of the script engine is visible to the process engine, i.e. it was
+   * not loaded by the class loader of a process application
+   */
+  protected boolean isCacheable(ScriptEngine scriptEngine) {
+    return CACHEABLE_ENGINE_CLASSES.get(scriptEngine.getClass());
+  }
+
+  protected Key createKey(ScriptEngine scriptEngine, String language, String source) {
+    return new Key(language.toLowerCase(Locale.ROOT), scriptEngine.getFactory().getEngineName(), source);
+  }
+
+  protected static class Key {
+
+    protected final String language;
+    protected final String engineName;
+    protected final String source;
+
+    public Key(String language, String engineName, String source) {
+      this.language = language;
+      this.engineName = engineName;
+      this.source = source;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (this == obj) {
+        return true;
+      }
+      if (!(obj instanceof Key)) {
+        return false;
+      }
+      Key other = (Key) obj;
+      return language.equals(other.language)
+          && Objects.equals(engineName, other.engineName)
+          && source.equals(other.source);
+    }
+
+    @Override
+    public int hashCode() {
+      // the hash code of the source is cached by the string
+      return Objects.hash(language, engineName, source);
+    }
+  }
+
+  /**
+   * A compiled script together with its execution statistics.
+   */
+  public static class CachedScript {
+
+    protected final ScriptEngine scriptEngine;
+    protected final String language;
+    protected final String source;
+    protected final CompiledScript compiledScript;
+
+    protected final LongAdder executionCount = new LongAdder();
+    protected final LongAdder executionTimeNanos = new LongAdder();
+
+    public CachedScript(ScriptEngine scriptEngine, String language, String source, CompiledScript compiledScript) {
+      this.scriptEngine = scriptEngine;
+      this.language = language;
+      this.source = source;
+      this.compiledScript = compiledScript;
+    }
+
+    public void recordExecution(long durationNanos) {
+      executionCount.increment();
+      executionTimeNanos.add(durationNanos);
+    }
+
+    /**
+     * @return the script engine the script was compiled with
+     */
+    public ScriptEngine getScriptEngine() {
+      return scriptEngine;
+    }
+
+    public String getLanguage() {
+      return language;
+    }
+
+    public String getSource() {
+      return source;
+    }
+
+    /**
+     * @return the compiled script or <code>null</code> if the script engine cannot compile scripts
+     */
+    public CompiledScript getCompiledScript() {
+      return compiledScript;
+    }
+
+    public long getExecutionCount() {
+      return executionCount.sum();
+    }
+
+    /**
+     * @return the accumulated execution time in milliseconds
+     */
+    public long getTotalExecutionTime() {
+      return TimeUnit.NANOSECONDS.toMillis(executionTimeNanos.sum());
+    }
+
+    /**
+     * @return the average execution time in microseconds, 0 if the script was not executed yet
+     */
+    public long getAverageExecutionTime() {
+      long count = executionCount.sum();
+      return count == 0 ? 0 : TimeUnit.NANOSECONDS.toMicros(executionTimeNanos.sum() / count);
+    }
+
+    @Override
+    public String toString() {
+      return "CachedScript[language=" + language
+          + ", sourceLength=" + source.length()
+          + ", executionCount=" + getExecutionCount()
+          + ", totalExecutionTime=" + getTotalExecutionTime() + "ms]";
+    }
+  }
+
+}
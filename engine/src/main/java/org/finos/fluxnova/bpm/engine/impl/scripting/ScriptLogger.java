@@ -39,4 +39,9 @@ public class ScriptLogger extends ProcessEngineLogger {
         "001", "Evaluating non-compiled script {}", scriptSource);
   }
 
+  public void debugUnableToPrecompileScript(String language, Exception cause) {
+    logDebug(
+        "003", "Unable to pre-compile script in language {}, it will be compiled on execution: {}", language, cause.getMessage());
+  }
+
 }
@@ -46,6 +46,9 @@ public class SourceExecutableScript extends CompiledExecutableScript {
   /** Flag to signal if the script should be compiled */
   protected boolean shouldBeCompiled = true;
 
+  /** The entry of the script in the engine's {@link CompiledScriptCache} (if enabled) */
+  protected CompiledScriptCache.CachedScript cachedScript;
+
   public SourceExecutableScript(String language, String source) {
     super(language);
     scriptSource = source;
@@ -57,6 +60,20 @@ public class SourceExecutableScript extends CompiledExecutableScript {
       compileScript(engine);
     }
 
+    CompiledScriptCache.CachedScript cachedScript = this.cachedScript;
+    if (cachedScript == null) {
+      return doEvaluate(engine, variableScope, bindings);
+    }
+
+    long start = System.nanoTime();
+    try {
+      return doEvaluate(engine, variableScope, bindings);
+    } finally {
+      cachedScript.recordExecution(System.nanoTime() - start);
+    }
+  }
+
+  protected Object doEvaluate(ScriptEngine engine, VariableScope variableScope, Bindings bindings) {
     if (getCompiledScript() != null) {
       return super.evaluate(engine, variableScope, bindings);
     }
@@ -80,8 +97,20 @@ public class SourceExecutableScript extends CompiledExecutableScript {
       if (getCompiledScript() == null && shouldBeCompiled) {
         synchronized (this) {
           if (getCompiledScript() == null && shouldBeCompiled) {
-            // try to compile script
-            compiledScript = compile(engine, language, scriptSource);
+            CompiledScriptCache compiledScriptCache = processEngineConfiguration.getCompiledScriptCache();
+            if (compiledScriptCache != null) {
+              // reuse the compilation result of a script with the same source
+              CompiledScriptCache.CachedScript cached = compiledScriptCache.get(engine, language, scriptSource);
+              if (cached == null) {
+                cached = compiledScriptCache.put(engine, language, scriptSource, compile(engine, language, scriptSource));
+              }
+              compiledScript = cached.getCompiledScript();
+              cachedScript = cached;
+            }
+            else {
+              // try to compile script
+              compiledScript = compile(engine, language, scriptSource);
+            }
 
             // either the script was successfully compiled or it can't be
             // compiled but we won't try it again
@@ -97,6 +126,17 @@ public class SourceExecutableScript extends CompiledExecutableScript {
     }
   }
 
+  /**
+   * Compiles the script ahead of its first execution, e.g. when it is deployed.
+   *
+   * @param engine the script engine the script will be executed with
+   */
+  public void precompile(ScriptEngine engine) {
+    if (shouldBeCompiled) {
+      compileScript(engine);
+    }
+  }
+
   public CompiledScript compile(ScriptEngine scriptEngine, String language, String src) {
     if(scriptEngine instanceof Compilable && !scriptEngine.getFactory().getLanguageName().equalsIgnoreCase("ecmascript")) {
       Compilable compilingEngine = (Compilable) scriptEngine;
@@ -137,6 +177,7 @@ public class SourceExecutableScript extends CompiledExecutableScript {
    */
   public void setScriptSource(String scriptSource) {
     this.compiledScript = null;
+    this.cachedScript = null;
     shouldBeCompiled = true;
     this.scriptSource = scriptSource;
   }
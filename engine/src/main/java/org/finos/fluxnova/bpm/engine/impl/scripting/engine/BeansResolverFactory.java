@@ -31,6 +31,11 @@ public class BeansResolverFactory implements ResolverFactory, Resolver {
     return this;
   }
 
+  @Override
+  public boolean isScopeIndependent() {
+    return true;
+  }
+
   public boolean containsKey(Object key) {
     return Context.getProcessEngineConfiguration().getBeans().containsKey(key);
   }
@@ -25,4 +25,12 @@ import org.finos.fluxnova.bpm.engine.delegate.VariableScope;
 public interface ResolverFactory {
 
   Resolver createResolver(VariableScope variableScope);
+
+  /**
+   * @return <code>true</code> if the created resolver does not depend on the variable scope,
+   * it is then created once and shared by all {@link ScriptBindings}
+   */
+  default boolean isScopeIndependent() {
+    return false;
+  }
 }
@@ -36,14 +36,24 @@ public class ScriptBindingsFactory {
 
   protected List<ResolverFactory> resolverFactories;
 
+  /**
+   * Template of the resolvers per factory: the shared resolver of scope independent
+   * factories, <code>null</code> for factories creating a resolver per variable scope.
+   */
+  protected volatile ResolverTemplate resolverTemplate;
+
   public ScriptBindingsFactory(List<ResolverFactory> resolverFactories) {
     this.resolverFactories = resolverFactories;
   }
 
   public Bindings createBindings(VariableScope variableScope, Bindings engineBindings) {
-    List<Resolver> scriptResolvers = new ArrayList<Resolver>();
-    for (ResolverFactory scriptResolverFactory: resolverFactories) {
-      Resolver resolver = scriptResolverFactory.createResolver(variableScope);
+    ResolverTemplate template = getResolverTemplate();
+    List<Resolver> scriptResolvers = new ArrayList<Resolver>(template.factories.length);
+    for (int i = 0; i < template.factories.length; i++) {
+      Resolver resolver = template.resolvers[i];
+      if (resolver == null) {
+        resolver = template.factories[i].createResolver(variableScope);
+      }
       if (resolver!=null) {
         scriptResolvers.add(resolver);
       }
@@ -51,11 +61,50 @@ public class ScriptBindingsFactory {
     return new ScriptBindings(scriptResolvers, variableScope, engineBindings);
   }
 
+  protected ResolverTemplate getResolverTemplate() {
+    ResolverTemplate template = resolverTemplate;
+    // the factories may be modified through getResolverFactories()
+    if (template == null || !template.matches(resolverFactories)) {
+      template = new ResolverTemplate(resolverFactories);
+      resolverTemplate = template;
+    }
+    return template;
+  }
+
   public List<ResolverFactory> getResolverFactories() {
     return resolverFactories;
   }
 
   public void setResolverFactories(List<ResolverFactory> resolverFactories) {
     this.resolverFactories = resolverFactories;
+    this.resolverTemplate = null;
+  }
+
+  protected static class ResolverTemplate {
+
+    protected final ResolverFactory[] factories;
+    protected final Resolver[] resolvers;
+
+    protected ResolverTemplate(List<ResolverFactory> resolverFactories) {
+      factories = resolverFactories.toArray(new ResolverFactory[0]);
+      resolvers = new Resolver[factories.length];
+      for (int i = 0; i < factories.length; i++) {
+        if (factories[i].isScopeIndependent()) {
+          resolvers[i] = factories[i].createResolver(null);
+        }
+      }
+    }
+
+    protected boolean matches(List<ResolverFactory> resolverFactories) {
+      if (resolverFactories.size() != factories.length) {
+        return false;
+      }
+      for (int i = 0; i < factories.length; i++) {
+        if (resolverFactories.get(i) != factories[i]) {
+          return false;
+        }
+      }
+      return true;
+    }
   }
 }
@@ -16,12 +16,15 @@
  */
 package org.finos.fluxnova.bpm.engine.impl.util;
 
+import java.util.List;
+
 import org.finos.fluxnova.bpm.dmn.engine.DmnDecisionResult;
 import org.finos.fluxnova.bpm.dmn.engine.DmnDecisionTableResult;
 import org.finos.fluxnova.bpm.dmn.engine.impl.DmnDecisionTableResultImpl;
 import org.finos.fluxnova.bpm.engine.impl.context.Context;
 import org.finos.fluxnova.bpm.engine.impl.core.model.BaseCallableElement;
 import org.finos.fluxnova.bpm.engine.impl.core.variable.scope.AbstractVariableScope;
+import org.finos.fluxnova.bpm.engine.impl.dmn.invocation.DecisionBatchInvocation;
 import org.finos.fluxnova.bpm.engine.impl.dmn.invocation.DecisionInvocation;
 import org.finos.fluxnova.bpm.engine.impl.dmn.invocation.VariableScopeContext;
 import org.finos.fluxnova.bpm.engine.impl.dmn.result.CollectEntriesDecisionResultMapper;
@@ -100,6 +103,14 @@ public class DecisionEvaluationUtil {
     return DmnDecisionTableResultImpl.wrap(decisionResult);
   }
 
+  public static List<DmnDecisionResult> evaluateDecisionBatch(DecisionDefinition decisionDefinition, List<VariableMap> variablesBatch) throws Exception {
+    DecisionBatchInvocation invocation = new DecisionBatchInvocation(decisionDefinition, variablesBatch);
+    Context.getProcessEngineConfiguration()
+      .getDelegateInterceptor()
+      .handleInvocation(invocation);
+    return invocation.getInvocationResult();
+  }
+
   protected static void invoke(DecisionInvocation invocation) throws Exception {
     Context.getProcessEngineConfiguration()
       .getDelegateInterceptor()
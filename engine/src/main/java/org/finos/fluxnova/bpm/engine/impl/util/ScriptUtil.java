@@ -20,13 +20,19 @@ import static org.finos.fluxnova.bpm.engine.impl.util.EnsureUtil.ensureAtLeastOn
 import static org.finos.fluxnova.bpm.engine.impl.util.EnsureUtil.ensureNotEmpty;
 import static org.finos.fluxnova.bpm.engine.impl.util.EnsureUtil.ensureNotNull;
 
+import javax.script.ScriptEngine;
+
+import org.finos.fluxnova.bpm.engine.ProcessEngineException;
 import org.finos.fluxnova.bpm.engine.delegate.Expression;
 import org.finos.fluxnova.bpm.engine.exception.NotValidException;
+import org.finos.fluxnova.bpm.engine.impl.ProcessEngineLogger;
 import org.finos.fluxnova.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.finos.fluxnova.bpm.engine.impl.context.Context;
 import org.finos.fluxnova.bpm.engine.impl.el.ExpressionManager;
 import org.finos.fluxnova.bpm.engine.impl.scripting.ExecutableScript;
 import org.finos.fluxnova.bpm.engine.impl.scripting.ScriptFactory;
+import org.finos.fluxnova.bpm.engine.impl.scripting.ScriptLogger;
+import org.finos.fluxnova.bpm.engine.impl.scripting.SourceExecutableScript;
 import org.finos.fluxnova.bpm.engine.impl.scripting.engine.JuelScriptEngineFactory;
 
 /**
@@ -34,6 +40,8 @@ import org.finos.fluxnova.bpm.engine.impl.scripting.engine.JuelScriptEngineFacto
  */
 public final class ScriptUtil {
 
+  private final static ScriptLogger LOG = ProcessEngineLogger.SCRIPT_LOGGER;
+
   /**
    * Creates a new {@link ExecutableScript} from a source or resource. It excepts static and
    * dynamic sources and resources. Dynamic means that the source or resource is an expression
@@ -109,7 +117,30 @@ public final class ScriptUtil {
   public static ExecutableScript getScriptFromSource(String language, String source, ScriptFactory scriptFactory) {
     ensureNotEmpty(NotValidException.class, "Script language", language);
     ensureNotNull(NotValidException.class, "Script source", source);
-    return scriptFactory.createScriptFromSource(language, source);
+    ExecutableScript script = scriptFactory.createScriptFromSource(language, source);
+    precompileScript(script);
+    return script;
+  }
+
+  /**
+   * Compiles the given script if script pre-compilation is enabled. Failures are ignored,
+   * the script is then compiled (and the failure reported) when it is executed.
+   */
+  public static void precompileScript(ExecutableScript script) {
+    ProcessEngineConfigurationImpl processEngineConfiguration = Context.getProcessEngineConfiguration();
+    if (processEngineConfiguration == null
+        || !processEngineConfiguration.isEnableScriptPrecompilation()
+        || !(script instanceof SourceExecutableScript)
+        || ((SourceExecutableScript) script).getScriptSource() == null) {
+      return;
+    }
+    try {
+      ScriptEngine scriptEngine = processEngineConfiguration.getScriptingEngines()
+          .getScriptEngineForLanguage(script.getLanguage());
+      ((SourceExecutableScript) script).precompile(scriptEngine);
+    } catch (ProcessEngineException e) {
+      LOG.debugUnableToPrecompileScript(script.getLanguage(), e);
+    }
   }
 
   /**
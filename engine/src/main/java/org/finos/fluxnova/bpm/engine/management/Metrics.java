@@ -78,9 +78,30 @@ public class Metrics {
   public static final String HISTORY_CLEANUP_REMOVED_BATCH_OPERATIONS = "history-cleanup-removed-batch-operations";
   public static final String HISTORY_CLEANUP_REMOVED_TASK_METRICS = "history-cleanup-removed-task-metrics";
 
+  /**
+   * Number of expired history table partitions dropped by history cleanup.
+   */
+  public static final String HISTORY_CLEANUP_DROPPED_PARTITIONS = "history-cleanup-dropped-partitions";
+
+  /**
+   * Throughput of the adaptive history cleanup, measured once per budget window of one minute:
+   * number of historic process instances past their removal time, removed rows per second and
+   * used database time budget in percent. These are gauges of the metrics registry of each engine
+   * (see <code>MetricsRegistry#getGaugeValue</code>), they are not written to the meter log.
+   */
+  public static final String HISTORY_CLEANUP_BACKLOG = "history-cleanup-backlog";
+  public static final String HISTORY_CLEANUP_ROWS_PER_SECOND = "history-cleanup-rows-per-second";
+  public static final String HISTORY_CLEANUP_BUDGET_USAGE = "history-cleanup-budget-usage";
+
   /**
    * Number of unique task workers
    */
   public static final String UNIQUE_TASK_WORKERS = "unique-task-workers";
   public static final String TASK_USERS = "task-users";
+
+  /**
+   * Number of variable updates skipped because the value was unchanged,
+   * only collected if <code>skipUnchangedVariableUpdates</code> is enabled
+   */
+  public static final String SKIPPED_VARIABLE_UPDATES = "skipped-variable-updates";
 }
@@ -0,0 +1,78 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.finos.fluxnova.bpm.engine.management;
+
+import java.util.List;
+
+/**
+ * Execution statistics of all queries that share a shape, i.e. that are executed with the
+ * same SQL statement regardless of the values of its parameters.
+ *
+ * @see org.finos.fluxnova.bpm.engine.ManagementService#getSlowestQueryShapes(int)
+ */
+public interface QueryShapeStatistics {
+
+  /**
+   * @return the name of the MyBatis statement the queries are executed with,
+   * e.g. <code>selectTaskByQueryCriteria</code>
+   */
+  String getStatement();
+
+  /**
+   * @return the SQL of the queries with normalized whitespace; lists of parameters
+   * are collapsed into a single parameter
+   */
+  String getShape();
+
+  /**
+   * @return the number of recorded executions
+   */
+  long getExecutionCount();
+
+  /**
+   * @return the sum of the durations of all executions in milliseconds
+   */
+  long getTotalDuration();
+
+  /**
+   * @return the duration of the slowest execution in milliseconds
+   */
+  long getMaxDuration();
+
+  /**
+   * @return the average duration of an execution in milliseconds
+   */
+  long getAverageDuration();
+
+  /**
+   * @return the sum of the results of all executions; the result of a count query is
+   * the number of counted rows
+   */
+  long getTotalRows();
+
+  /**
+   * @return the largest result of a single execution
+   */
+  long getMaxRows();
+
+  /**
+   * @return statements creating indexes on the columns the queries filter by that are not
+   * covered by an existing index yet, in the syntax of the database of the process engine
+   */
+  List<String> getSuggestedIndexes();
+
+}
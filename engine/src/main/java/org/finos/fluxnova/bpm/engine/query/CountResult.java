@@ -0,0 +1,34 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.finos.fluxnova.bpm.engine.query;
+
+/**
+ * The number of results of a query as returned by {@link Query#approximateCount()}.
+ */
+public interface CountResult {
+
+  /** The number of results */
+  long getCount();
+
+  /**
+   * <code>true</code> if the query was counted by the database for this request,
+   * <code>false</code> if the count was served from the query count cache or estimated
+   * from the statistics of the database
+   */
+  boolean isExact();
+
+}
@@ -17,9 +17,11 @@
 package org.finos.fluxnova.bpm.engine.query;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 import org.finos.fluxnova.bpm.engine.BadUserRequestException;
 import org.finos.fluxnova.bpm.engine.ProcessEngineException;
+import org.finos.fluxnova.bpm.engine.exception.NotValidException;
 
 /**
  * Describes basic methods for querying.
@@ -43,6 +45,25 @@ public interface Query<T extends Query< ? , ? >, U extends Object> {
   /** Executes the query and returns the number of results */
   long count();
 
+  /**
+   * Executes the query and returns the number of results, allowing the count to be stale or
+   * estimated in exchange for not counting the results in the database on every call:
+   * <ul>
+   *   <li>counts are cached per query (including its parameters and authorization checks) and
+   *   served from the cache for the configured <code>queryCountCacheTimeToLive</code></li>
+   *   <li>if <code>queryCountEstimateEnabled</code> is set, counts of queries without any
+   *   restrictions are estimated from the table statistics of the database (PostgreSQL, Oracle
+   *   and MySQL)</li>
+   * </ul>
+   *
+   * @return the count and whether it is exact
+   * @throws NotValidException
+   *   When the query does not support approximate counts.
+   */
+  default CountResult approximateCount() {
+    throw new NotValidException("Invalid query: approximate counts are not supported by " + getClass().getSimpleName());
+  }
+
   /**
    * Executes the query and returns the resulting entity or null if no
    * entity matches the query criteria.
@@ -83,4 +104,38 @@ public interface Query<T extends Query< ? , ? >, U extends Object> {
    */
   List<U> listPage(int firstResult, int maxResults);
 
+  /**
+   * Executes the query and returns the next page of results ordered by id
+   * (keyset pagination). In contrast to {@link #listPage(int, int)}, the database
+   * does not have to skip the results of the previous pages, so that fetching a
+   * page deep into a large result set is as cheap as fetching the first one.
+   *
+   * @param cursor the id of the last result of the previous page or <code>null</code>
+   *   to fetch the first page
+   * @param maxResults the maximum number of results
+   * @return a list of results
+   * @throws NotValidException
+   *   When the query does not support keyset pagination or when an ordering is specified.
+   * @throws BadUserRequestException
+   *   When {@param maxResults} exceeds the maximum results limit.
+   */
+  default List<U> listAfter(String cursor, int maxResults) {
+    throw new NotValidException("Invalid query: keyset pagination is not supported by " + getClass().getSimpleName());
+  }
+
+  /**
+   * Executes the query and passes the results to the given action one by one while they are
+   * read from the database, instead of collecting them in a list. This allows to process
+   * large result sets, like exports, with a bounded amount of memory. The results are read
+   * in chunks of the configured <code>queryStreamFetchSize</code> within a single transaction,
+   * which stays open until the action was applied to all results.
+   *
+   * @param action the action to apply to each result
+   * @throws NotValidException
+   *   When the query does not support streaming.
+   */
+  default void forEach(Consumer<? super U> action) {
+    throw new NotValidException("Invalid query: streaming is not supported by " + getClass().getSimpleName());
+  }
+
 }
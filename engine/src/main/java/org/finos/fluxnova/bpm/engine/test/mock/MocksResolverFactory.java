@@ -32,6 +32,11 @@ public class MocksResolverFactory implements ResolverFactory, Resolver {
     return this;
   }
 
+  @Override
+  public boolean isScopeIndependent() {
+    return true;
+  }
+
   @Override
   public boolean containsKey(Object key) {
     return Mocks.get(key) != null;
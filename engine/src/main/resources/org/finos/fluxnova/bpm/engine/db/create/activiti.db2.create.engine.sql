@@ -66,7 +66,7 @@ create table ACT_GE_SCHEMA_LOG (
 );
 
 insert into ACT_GE_SCHEMA_LOG
-values ('0', CURRENT_TIMESTAMP, '1.0.0');
+values ('0', CURRENT_TIMESTAMP, '1.1.0');
 
 create table ACT_RE_DEPLOYMENT (
     ID_ varchar(64) not null,
@@ -365,6 +365,33 @@ create table ACT_RU_BATCH (
   primary key (ID_)
 );
 
+create table ACT_RU_BATCH_CHUNK (
+  ID_ varchar(64) not null,
+  BATCH_ID_ varchar(64) not null,
+  SEQ_ integer not null,
+  DEPLOYMENT_ID_ varchar(64),
+  SIZE_ integer,
+  BYTEARRAY_ID_ varchar(64),
+  primary key (ID_)
+);
+
+create table ACT_RU_VAR_SEARCH (
+  ID_ varchar(64) not null,
+  NAME_ varchar(255) not null,
+  TYPE_ varchar(255) not null,
+  PROC_DEF_ID_ varchar(64),
+  PROC_INST_ID_ varchar(64) not null,
+  EXECUTION_ID_ varchar(64),
+  TASK_ID_ varchar(64),
+  BYTEARRAY_ID_ varchar(64),
+  DOUBLE_ double precision,
+  LONG_ bigint,
+  TEXT_ varchar(4000),
+  TEXT2_ varchar(4000),
+  TEXT_PREFIX_ varchar(255),
+  primary key (ID_)
+);
+
 create index ACT_IDX_EXECUTION_ROOT_PI on ACT_RU_EXECUTION(ROOT_PROC_INST_ID_);
 create index ACT_IDX_EXEC_BUSKEY on ACT_RU_EXECUTION(BUSINESS_KEY_);
 create index ACT_IDX_EXEC_TENANT_ID on ACT_RU_EXECUTION(TENANT_ID_);
@@ -549,6 +576,13 @@ alter table ACT_RU_BATCH
     foreign key (BATCH_JOB_DEF_ID_)
     references ACT_RU_JOBDEF (ID_);
 
+create index ACT_IDX_BATCH_CHUNK_SEQ on ACT_RU_BATCH_CHUNK(BATCH_ID_, SEQ_);
+
+create index ACT_IDX_VAR_SEARCH_TEXT on ACT_RU_VAR_SEARCH(NAME_, TEXT_PREFIX_);
+create index ACT_IDX_VAR_SEARCH_LONG on ACT_RU_VAR_SEARCH(NAME_, LONG_);
+create index ACT_IDX_VAR_SEARCH_DOUBLE on ACT_RU_VAR_SEARCH(NAME_, DOUBLE_);
+create index ACT_IDX_VAR_SEARCH_PROCINST on ACT_RU_VAR_SEARCH(PROC_INST_ID_);
+
 create index ACT_IDX_BATCH_ID ON ACT_RU_VARIABLE(BATCH_ID_);
 alter table ACT_RU_VARIABLE
     add constraint ACT_FK_VAR_BATCH
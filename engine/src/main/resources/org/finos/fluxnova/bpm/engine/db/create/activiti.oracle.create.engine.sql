@@ -66,7 +66,7 @@ create table ACT_GE_SCHEMA_LOG (
 );
 
 insert into ACT_GE_SCHEMA_LOG
-values ('0', CURRENT_TIMESTAMP, '1.0.0');
+values ('0', CURRENT_TIMESTAMP, '1.1.0');
 
 create table ACT_RE_DEPLOYMENT (
     ID_ NVARCHAR2(64),
@@ -362,6 +362,33 @@ create table ACT_RU_BATCH (
   primary key (ID_)
 );
 
+create table ACT_RU_BATCH_CHUNK (
+  ID_ NVARCHAR2(64) NOT NULL,
+  BATCH_ID_ NVARCHAR2(64) NOT NULL,
+  SEQ_ INTEGER NOT NULL,
+  DEPLOYMENT_ID_ NVARCHAR2(64),
+  SIZE_ INTEGER,
+  BYTEARRAY_ID_ NVARCHAR2(64),
+  primary key (ID_)
+);
+
+create table ACT_RU_VAR_SEARCH (
+  ID_ NVARCHAR2(64) NOT NULL,
+  NAME_ NVARCHAR2(255) NOT NULL,
+  TYPE_ NVARCHAR2(255) NOT NULL,
+  PROC_DEF_ID_ NVARCHAR2(64),
+  PROC_INST_ID_ NVARCHAR2(64) NOT NULL,
+  EXECUTION_ID_ NVARCHAR2(64),
+  TASK_ID_ NVARCHAR2(64),
+  BYTEARRAY_ID_ NVARCHAR2(64),
+  DOUBLE_ NUMBER(*,10),
+  LONG_ NUMBER(19,0),
+  TEXT_ NVARCHAR2(2000),
+  TEXT2_ NVARCHAR2(2000),
+  TEXT_PREFIX_ NVARCHAR2(255),
+  primary key (ID_)
+);
+
 create index ACT_IDX_EXE_ROOT_PROCINST on ACT_RU_EXECUTION(ROOT_PROC_INST_ID_);
 create index ACT_IDX_EXEC_BUSKEY on ACT_RU_EXECUTION(BUSINESS_KEY_);
 create index ACT_IDX_EXEC_TENANT_ID on ACT_RU_EXECUTION(TENANT_ID_, 0);
@@ -575,6 +602,13 @@ alter table ACT_RU_BATCH
     foreign key (BATCH_JOB_DEF_ID_)
     references ACT_RU_JOBDEF (ID_);
 
+create index ACT_IDX_BATCH_CHUNK_SEQ on ACT_RU_BATCH_CHUNK(BATCH_ID_, SEQ_);
+
+create index ACT_IDX_VAR_SEARCH_TEXT on ACT_RU_VAR_SEARCH(NAME_, TEXT_PREFIX_);
+create index ACT_IDX_VAR_SEARCH_LONG on ACT_RU_VAR_SEARCH(NAME_, LONG_);
+create index ACT_IDX_VAR_SEARCH_DOUBLE on ACT_RU_VAR_SEARCH(NAME_, DOUBLE_);
+create index ACT_IDX_VAR_SEARCH_PROCINST on ACT_RU_VAR_SEARCH(PROC_INST_ID_);
+
 create index ACT_IDX_BATCH_ID ON ACT_RU_VARIABLE(BATCH_ID_);
 alter table ACT_RU_VARIABLE
     add constraint ACT_FK_VAR_BATCH
@@ -173,6 +173,11 @@ drop index ACT_IDX_JOB_JOB_DEF_ID;
 drop index ACT_IDX_BATCH_SEED_JOB_DEF;
 drop index ACT_IDX_BATCH_MONITOR_JOB_DEF;
 drop index ACT_IDX_BATCH_JOB_DEF;
+drop index ACT_IDX_BATCH_CHUNK_SEQ;
+drop index ACT_IDX_VAR_SEARCH_TEXT;
+drop index ACT_IDX_VAR_SEARCH_LONG;
+drop index ACT_IDX_VAR_SEARCH_DOUBLE;
+drop index ACT_IDX_VAR_SEARCH_PROCINST;
 
 drop index ACT_IDX_PROCDEF_VER_TAG;
 
@@ -203,5 +208,7 @@ drop table ACT_RU_METER_LOG if exists;
 drop table ACT_RU_TASK_METER_LOG if exists;
 drop table ACT_RU_EXT_TASK if exists;
 drop table ACT_RU_BATCH if exists;
+drop table ACT_RU_BATCH_CHUNK if exists;
+drop table ACT_RU_VAR_SEARCH if exists;
 drop table ACT_GE_SCHEMA_LOG if exists;
 
@@ -100,6 +100,11 @@ drop index ACT_RU_JOB.ACT_IDX_JOB_JOB_DEF_ID;
 drop index ACT_RU_BATCH.ACT_IDX_BATCH_SEED_JOB_DEF;
 drop index ACT_RU_BATCH.ACT_IDX_BATCH_MONITOR_JOB_DEF;
 drop index ACT_RU_BATCH.ACT_IDX_BATCH_JOB_DEF;
+drop index ACT_RU_BATCH_CHUNK.ACT_IDX_BATCH_CHUNK_SEQ;
+drop index ACT_RU_VAR_SEARCH.ACT_IDX_VAR_SEARCH_TEXT;
+drop index ACT_RU_VAR_SEARCH.ACT_IDX_VAR_SEARCH_LONG;
+drop index ACT_RU_VAR_SEARCH.ACT_IDX_VAR_SEARCH_DOUBLE;
+drop index ACT_RU_VAR_SEARCH.ACT_IDX_VAR_SEARCH_PROCINST;
 
 drop index ACT_RU_JOB.ACT_IDX_JOB_EXECUTION_ID;
 
@@ -212,4 +217,6 @@ if exists (select TABLE_NAME from INFORMATION_SCHEMA.TABLES where TABLE_NAME = '
 if exists (select TABLE_NAME from INFORMATION_SCHEMA.TABLES where TABLE_NAME = 'ACT_RU_TASK_METER_LOG') drop table ACT_RU_TASK_METER_LOG;
 if exists (select TABLE_NAME from INFORMATION_SCHEMA.TABLES where TABLE_NAME = 'ACT_RU_EXT_TASK') drop table ACT_RU_EXT_TASK;
 if exists (select TABLE_NAME from INFORMATION_SCHEMA.TABLES where TABLE_NAME = 'ACT_RU_BATCH') drop table ACT_RU_BATCH;
+if exists (select TABLE_NAME from INFORMATION_SCHEMA.TABLES where TABLE_NAME = 'ACT_RU_BATCH_CHUNK') drop table ACT_RU_BATCH_CHUNK;
+if exists (select TABLE_NAME from INFORMATION_SCHEMA.TABLES where TABLE_NAME = 'ACT_RU_VAR_SEARCH') drop table ACT_RU_VAR_SEARCH;
 if exists (select TABLE_NAME from INFORMATION_SCHEMA.TABLES where TABLE_NAME = 'ACT_GE_SCHEMA_LOG') drop table ACT_GE_SCHEMA_LOG;
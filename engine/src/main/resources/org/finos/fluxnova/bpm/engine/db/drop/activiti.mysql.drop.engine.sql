@@ -166,6 +166,11 @@ drop index ACT_IDX_JOB_JOB_DEF_ID on ACT_RU_JOB;
 drop index ACT_IDX_BATCH_SEED_JOB_DEF on ACT_RU_BATCH;
 drop index ACT_IDX_BATCH_MONITOR_JOB_DEF on ACT_RU_BATCH;
 drop index ACT_IDX_BATCH_JOB_DEF on ACT_RU_BATCH;
+drop index ACT_IDX_BATCH_CHUNK_SEQ on ACT_RU_BATCH_CHUNK;
+drop index ACT_IDX_VAR_SEARCH_TEXT on ACT_RU_VAR_SEARCH;
+drop index ACT_IDX_VAR_SEARCH_LONG on ACT_RU_VAR_SEARCH;
+drop index ACT_IDX_VAR_SEARCH_DOUBLE on ACT_RU_VAR_SEARCH;
+drop index ACT_IDX_VAR_SEARCH_PROCINST on ACT_RU_VAR_SEARCH;
 
 drop index ACT_IDX_PROCDEF_VER_TAG on ACT_RE_PROCDEF;
 drop index ACT_IDX_JOB_HANDLER on ACT_RU_JOB;
@@ -194,4 +199,6 @@ drop table if exists ACT_RU_METER_LOG;
 drop table if exists ACT_RU_TASK_METER_LOG;
 drop table if exists ACT_RU_EXT_TASK;
 drop table if exists ACT_RU_BATCH;
+drop table if exists ACT_RU_BATCH_CHUNK;
+drop table if exists ACT_RU_VAR_SEARCH;
 drop table if exists ACT_GE_SCHEMA_LOG;
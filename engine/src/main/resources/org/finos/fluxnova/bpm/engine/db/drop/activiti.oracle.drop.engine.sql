@@ -188,6 +188,11 @@ drop index ACT_IDX_JOB_JOB_DEF_ID;
 drop index ACT_IDX_BATCH_SEED_JOB_DEF;
 drop index ACT_IDX_BATCH_MONITOR_JOB_DEF;
 drop index ACT_IDX_BATCH_JOB_DEF;
+drop index ACT_IDX_BATCH_CHUNK_SEQ;
+drop index ACT_IDX_VAR_SEARCH_TEXT;
+drop index ACT_IDX_VAR_SEARCH_LONG;
+drop index ACT_IDX_VAR_SEARCH_DOUBLE;
+drop index ACT_IDX_VAR_SEARCH_PROCINST;
 
 drop index ACT_IDX_PROCDEF_VER_TAG;
 
@@ -215,4 +220,6 @@ drop table  ACT_RU_METER_LOG;
 drop table  ACT_RU_TASK_METER_LOG;
 drop table  ACT_RU_EXT_TASK;
 drop table  ACT_RU_BATCH;
+drop table  ACT_RU_BATCH_CHUNK;
+drop table  ACT_RU_VAR_SEARCH;
 drop table  ACT_GE_SCHEMA_LOG;
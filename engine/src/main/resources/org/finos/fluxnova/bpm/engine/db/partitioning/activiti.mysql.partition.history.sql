@@ -0,0 +1,233 @@
+--
+-- Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+-- under one or more contributor license agreements. See the NOTICE file
+-- distributed with this work for additional information regarding copyright
+-- ownership. Camunda licenses this file to you under the Apache License,
+-- Version 2.0; you may not use this file except in compliance with the License.
+-- You may obtain a copy of the License at
+--
+--     http://www.apache.org/licenses/LICENSE-2.0
+--
+-- Unless required by applicable law or agreed to in writing, software
+-- distributed under the License is distributed on an "AS IS" BASIS,
+-- WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+-- See the License for the specific language governing permissions and
+-- limitations under the License.
+--
+--
+-- Optional: partitions the history tables by range of REMOVAL_TIME_, so that
+-- the history cleanup can drop expired partitions instead of deleting their
+-- rows (see historyCleanupPartitionDropEnabled). Apply right after the create
+-- scripts of a fresh installation, with the removal-time-based cleanup strategy.
+-- Tables which are not partitioned are cleaned up row by row as before, so the
+-- statements of single tables can be left out; the decision history tables
+-- only exist if the DMN engine is enabled.
+--
+-- Partitions are created and maintained by the database administrator. The
+-- monthly partitions of the first quarter of 2027 below are examples: replace
+-- them by partitions covering the removal times of your installation and add
+-- further partitions ahead of time. Rows are only removed by dropping a
+-- partition once its upper bound has passed, rows left in the MAXVALUE
+-- partition are deleted row by row as before.
+--
+-- Rows without removal time are stored in the first partition, which is
+-- therefore never dropped. REMOVAL_TIME_ is nullable and therefore cannot be
+-- part of a primary key or unique key, which a partitioned table requires to
+-- contain the partition key. ID_ (and PROC_INST_ID_ of ACT_HI_PROCINST) are
+-- indexed instead.
+
+alter table ACT_HI_PROCINST
+    drop primary key,
+    drop index PROC_INST_ID_,
+    add index ACT_IDX_HI_PROCINST_PROC_INST (PROC_INST_ID_),
+    add index ACT_IDX_HI_PROCINST_ID (ID_);
+
+alter table ACT_HI_PROCINST partition by range columns (REMOVAL_TIME_) (
+    partition ACT_HI_PROCINST_NONE values less than ('2027-01-01 00:00:00'),
+    partition ACT_HI_PROCINST_2027_01 values less than ('2027-02-01 00:00:00'),
+    partition ACT_HI_PROCINST_2027_02 values less than ('2027-03-01 00:00:00'),
+    partition ACT_HI_PROCINST_2027_03 values less than ('2027-04-01 00:00:00'),
+    partition ACT_HI_PROCINST_MAXVALUE values less than (MAXVALUE)
+);
+
+alter table ACT_HI_ACTINST
+    drop primary key,
+    add index ACT_IDX_HI_ACTINST_ID (ID_);
+
+alter table ACT_HI_ACTINST partition by range columns (REMOVAL_TIME_) (
+    partition ACT_HI_ACTINST_NONE values less than ('2027-01-01 00:00:00'),
+    partition ACT_HI_ACTINST_2027_01 values less than ('2027-02-01 00:00:00'),
+    partition ACT_HI_ACTINST_2027_02 values less than ('2027-03-01 00:00:00'),
+    partition ACT_HI_ACTINST_2027_03 values less than ('2027-04-01 00:00:00'),
+    partition ACT_HI_ACTINST_MAXVALUE values less than (MAXVALUE)
+);
+
+alter table ACT_HI_TASKINST
+    drop primary key,
+    add index ACT_IDX_HI_TASKINST_ID (ID_);
+
+alter table ACT_HI_TASKINST partition by range columns (REMOVAL_TIME_) (
+    partition ACT_HI_TASKINST_NONE values less than ('2027-01-01 00:00:00'),
+    partition ACT_HI_TASKINST_2027_01 values less than ('2027-02-01 00:00:00'),
+    partition ACT_HI_TASKINST_2027_02 values less than ('2027-03-01 00:00:00'),
+    partition ACT_HI_TASKINST_2027_03 values less than ('2027-04-01 00:00:00'),
+    partition ACT_HI_TASKINST_MAXVALUE values less than (MAXVALUE)
+);
+
+alter table ACT_HI_VARINST
+    drop primary key,
+    add index ACT_IDX_HI_VARINST_ID (ID_);
+
+alter table ACT_HI_VARINST partition by range columns (REMOVAL_TIME_) (
+    partition ACT_HI_VARINST_NONE values less than ('2027-01-01 00:00:00'),
+    partition ACT_HI_VARINST_2027_01 values less than ('2027-02-01 00:00:00'),
+    partition ACT_HI_VARINST_2027_02 values less than ('2027-03-01 00:00:00'),
+    partition ACT_HI_VARINST_2027_03 values less than ('2027-04-01 00:00:00'),
+    partition ACT_HI_VARINST_MAXVALUE values less than (MAXVALUE)
+);
+
+alter table ACT_HI_DETAIL
+    drop primary key,
+    add index ACT_IDX_HI_DETAIL_ID (ID_);
+
+alter table ACT_HI_DETAIL partition by range columns (REMOVAL_TIME_) (
+    partition ACT_HI_DETAIL_NONE values less than ('2027-01-01 00:00:00'),
+    partition ACT_HI_DETAIL_2027_01 values less than ('2027-02-01 00:00:00'),
+    partition ACT_HI_DETAIL_2027_02 values less than ('2027-03-01 00:00:00'),
+    partition ACT_HI_DETAIL_2027_03 values less than ('2027-04-01 00:00:00'),
+    partition ACT_HI_DETAIL_MAXVALUE values less than (MAXVALUE)
+);
+
+alter table ACT_HI_INCIDENT
+    drop primary key,
+    add index ACT_IDX_HI_INCIDENT_ID (ID_);
+
+alter table ACT_HI_INCIDENT partition by range columns (REMOVAL_TIME_) (
+    partition ACT_HI_INCIDENT_NONE values less than ('2027-01-01 00:00:00'),
+    partition ACT_HI_INCIDENT_2027_01 values less than ('2027-02-01 00:00:00'),
+    partition ACT_HI_INCIDENT_2027_02 values less than ('2027-03-01 00:00:00'),
+    partition ACT_HI_INCIDENT_2027_03 values less than ('2027-04-01 00:00:00'),
+    partition ACT_HI_INCIDENT_MAXVALUE values less than (MAXVALUE)
+);
+
+alter table ACT_HI_EXT_TASK_LOG
+    drop primary key,
+    add index ACT_IDX_HI_EXT_TASK_LOG_ID (ID_);
+
+alter table ACT_HI_EXT_TASK_LOG partition by range columns (REMOVAL_TIME_) (
+    partition ACT_HI_EXT_TASK_LOG_NONE values less than ('2027-01-01 00:00:00'),
+    partition ACT_HI_EXT_TASK_LOG_2027_01 values less than ('2027-02-01 00:00:00'),
+    partition ACT_HI_EXT_TASK_LOG_2027_02 values less than ('2027-03-01 00:00:00'),
+    partition ACT_HI_EXT_TASK_LOG_2027_03 values less than ('2027-04-01 00:00:00'),
+    partition ACT_HI_EXT_TASK_LOG_MAXVALUE values less than (MAXVALUE)
+);
+
+alter table ACT_HI_JOB_LOG
+    drop primary key,
+    add index ACT_IDX_HI_JOB_LOG_ID (ID_);
+
+alter table ACT_HI_JOB_LOG partition by range columns (REMOVAL_TIME_) (
+    partition ACT_HI_JOB_LOG_NONE values less than ('2027-01-01 00:00:00'),
+    partition ACT_HI_JOB_LOG_2027_01 values less than ('2027-02-01 00:00:00'),
+    partition ACT_HI_JOB_LOG_2027_02 values less than ('2027-03-01 00:00:00'),
+    partition ACT_HI_JOB_LOG_2027_03 values less than ('2027-04-01 00:00:00'),
+    partition ACT_HI_JOB_LOG_MAXVALUE values less than (MAXVALUE)
+);
+
+alter table ACT_HI_OP_LOG
+    drop primary key,
+    add index ACT_IDX_HI_OP_LOG_ID (ID_);
+
+alter table ACT_HI_OP_LOG partition by range columns (REMOVAL_TIME_) (
+    partition ACT_HI_OP_LOG_NONE values less than ('2027-01-01 00:00:00'),
+    partition ACT_HI_OP_LOG_2027_01 values less than ('2027-02-01 00:00:00'),
+    partition ACT_HI_OP_LOG_2027_02 values less than ('2027-03-01 00:00:00'),
+    partition ACT_HI_OP_LOG_2027_03 values less than ('2027-04-01 00:00:00'),
+    partition ACT_HI_OP_LOG_MAXVALUE values less than (MAXVALUE)
+);
+
+alter table ACT_HI_IDENTITYLINK
+    drop primary key,
+    add index ACT_IDX_HI_IDENTITYLINK_ID (ID_);
+
+alter table ACT_HI_IDENTITYLINK partition by range columns (REMOVAL_TIME_) (
+    partition ACT_HI_IDENTITYLINK_NONE values less than ('2027-01-01 00:00:00'),
+    partition ACT_HI_IDENTITYLINK_2027_01 values less than ('2027-02-01 00:00:00'),
+    partition ACT_HI_IDENTITYLINK_2027_02 values less than ('2027-03-01 00:00:00'),
+    partition ACT_HI_IDENTITYLINK_2027_03 values less than ('2027-04-01 00:00:00'),
+    partition ACT_HI_IDENTITYLINK_MAXVALUE values less than (MAXVALUE)
+);
+
+alter table ACT_HI_COMMENT
+    drop primary key,
+    add index ACT_IDX_HI_COMMENT_ID (ID_);
+
+alter table ACT_HI_COMMENT partition by range columns (REMOVAL_TIME_) (
+    partition ACT_HI_COMMENT_NONE values less than ('2027-01-01 00:00:00'),
+    partition ACT_HI_COMMENT_2027_01 values less than ('2027-02-01 00:00:00'),
+    partition ACT_HI_COMMENT_2027_02 values less than ('2027-03-01 00:00:00'),
+    partition ACT_HI_COMMENT_2027_03 values less than ('2027-04-01 00:00:00'),
+    partition ACT_HI_COMMENT_MAXVALUE values less than (MAXVALUE)
+);
+
+alter table ACT_HI_ATTACHMENT
+    drop primary key,
+    add index ACT_IDX_HI_ATTACHMENT_ID (ID_);
+
+alter table ACT_HI_ATTACHMENT partition by range columns (REMOVAL_TIME_) (
+    partition ACT_HI_ATTACHMENT_NONE values less than ('2027-01-01 00:00:00'),
+    partition ACT_HI_ATTACHMENT_2027_01 values less than ('2027-02-01 00:00:00'),
+    partition ACT_HI_ATTACHMENT_2027_02 values less than ('2027-03-01 00:00:00'),
+    partition ACT_HI_ATTACHMENT_2027_03 values less than ('2027-04-01 00:00:00'),
+    partition ACT_HI_ATTACHMENT_MAXVALUE values less than (MAXVALUE)
+);
+
+alter table ACT_HI_BATCH
+    drop primary key,
+    add index ACT_IDX_HI_BATCH_ID (ID_);
+
+alter table ACT_HI_BATCH partition by range columns (REMOVAL_TIME_) (
+    partition ACT_HI_BATCH_NONE values less than ('2027-01-01 00:00:00'),
+    partition ACT_HI_BATCH_2027_01 values less than ('2027-02-01 00:00:00'),
+    partition ACT_HI_BATCH_2027_02 values less than ('2027-03-01 00:00:00'),
+    partition ACT_HI_BATCH_2027_03 values less than ('2027-04-01 00:00:00'),
+    partition ACT_HI_BATCH_MAXVALUE values less than (MAXVALUE)
+);
+
+-- decision history
+
+alter table ACT_HI_DECINST
+    drop primary key,
+    add index ACT_IDX_HI_DECINST_ID (ID_);
+
+alter table ACT_HI_DECINST partition by range columns (REMOVAL_TIME_) (
+    partition ACT_HI_DECINST_NONE values less than ('2027-01-01 00:00:00'),
+    partition ACT_HI_DECINST_2027_01 values less than ('2027-02-01 00:00:00'),
+    partition ACT_HI_DECINST_2027_02 values less than ('2027-03-01 00:00:00'),
+    partition ACT_HI_DECINST_2027_03 values less than ('2027-04-01 00:00:00'),
+    partition ACT_HI_DECINST_MAXVALUE values less than (MAXVALUE)
+);
+
+alter table ACT_HI_DEC_IN
+    drop primary key,
+    add index ACT_IDX_HI_DEC_IN_ID (ID_);
+
+alter table ACT_HI_DEC_IN partition by range columns (REMOVAL_TIME_) (
+    partition ACT_HI_DEC_IN_NONE values less than ('2027-01-01 00:00:00'),
+    partition ACT_HI_DEC_IN_2027_01 values less than ('2027-02-01 00:00:00'),
+    partition ACT_HI_DEC_IN_2027_02 values less than ('2027-03-01 00:00:00'),
+    partition ACT_HI_DEC_IN_2027_03 values less than ('2027-04-01 00:00:00'),
+    partition ACT_HI_DEC_IN_MAXVALUE values less than (MAXVALUE)
+);
+
+alter table ACT_HI_DEC_OUT
+    drop primary key,
+    add index ACT_IDX_HI_DEC_OUT_ID (ID_);
+
+alter table ACT_HI_DEC_OUT partition by range columns (REMOVAL_TIME_) (
+    partition ACT_HI_DEC_OUT_NONE values less than ('2027-01-01 00:00:00'),
+    partition ACT_HI_DEC_OUT_2027_01 values less than ('2027-02-01 00:00:00'),
+    partition ACT_HI_DEC_OUT_2027_02 values less than ('2027-03-01 00:00:00'),
+    partition ACT_HI_DEC_OUT_2027_03 values less than ('2027-04-01 00:00:00'),
+    partition ACT_HI_DEC_OUT_MAXVALUE values less than (MAXVALUE)
+);
@@ -0,0 +1,181 @@
+--
+-- Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+-- under one or more contributor license agreements. See the NOTICE file
+-- distributed with this work for additional information regarding copyright
+-- ownership. Camunda licenses this file to you under the Apache License,
+-- Version 2.0; you may not use this file except in compliance with the License.
+-- You may obtain a copy of the License at
+--
+--     http://www.apache.org/licenses/LICENSE-2.0
+--
+-- Unless required by applicable law or agreed to in writing, software
+-- distributed under the License is distributed on an "AS IS" BASIS,
+-- WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+-- See the License for the specific language governing permissions and
+-- limitations under the License.
+--
+--
+-- Optional: partitions the history tables by range of REMOVAL_TIME_, so that
+-- the history cleanup can drop expired partitions instead of deleting their
+-- rows (see historyCleanupPartitionDropEnabled). Apply right after the create
+-- scripts of a fresh installation, with the removal-time-based cleanup strategy.
+-- Tables which are not partitioned are cleaned up row by row as before, so the
+-- statements of single tables can be left out; the decision history tables
+-- only exist if the DMN engine is enabled.
+--
+-- Partitions are created and maintained by the database administrator. The
+-- monthly partitions of the first quarter of 2027 below are examples: replace
+-- them by partitions covering the removal times of your installation and add
+-- further partitions ahead of time. Rows are only removed by dropping a
+-- partition once its upper bound has passed, rows left in the MAXVALUE
+-- partition are deleted row by row as before.
+--
+-- Requires Oracle 12.2 or later. Row movement is enabled since the removal
+-- time of history rows is updated when it is (re)calculated. The primary keys
+-- are kept as global indexes, which are maintained when a partition is dropped.
+
+alter table ACT_HI_PROCINST modify partition by range (REMOVAL_TIME_) (
+    partition ACT_HI_PROCINST_2027_01 values less than (TIMESTAMP '2027-02-01 00:00:00'),
+    partition ACT_HI_PROCINST_2027_02 values less than (TIMESTAMP '2027-03-01 00:00:00'),
+    partition ACT_HI_PROCINST_2027_03 values less than (TIMESTAMP '2027-04-01 00:00:00'),
+    partition ACT_HI_PROCINST_MAXVALUE values less than (MAXVALUE)
+) update indexes;
+
+alter table ACT_HI_PROCINST enable row movement;
+
+alter table ACT_HI_ACTINST modify partition by range (REMOVAL_TIME_) (
+    partition ACT_HI_ACTINST_2027_01 values less than (TIMESTAMP '2027-02-01 00:00:00'),
+    partition ACT_HI_ACTINST_2027_02 values less than (TIMESTAMP '2027-03-01 00:00:00'),
+    partition ACT_HI_ACTINST_2027_03 values less than (TIMESTAMP '2027-04-01 00:00:00'),
+    partition ACT_HI_ACTINST_MAXVALUE values less than (MAXVALUE)
+) update indexes;
+
+alter table ACT_HI_ACTINST enable row movement;
+
+alter table ACT_HI_TASKINST modify partition by range (REMOVAL_TIME_) (
+    partition ACT_HI_TASKINST_2027_01 values less than (TIMESTAMP '2027-02-01 00:00:00'),
+    partition ACT_HI_TASKINST_2027_02 values less than (TIMESTAMP '2027-03-01 00:00:00'),
+    partition ACT_HI_TASKINST_2027_03 values less than (TIMESTAMP '2027-04-01 00:00:00'),
+    partition ACT_HI_TASKINST_MAXVALUE values less than (MAXVALUE)
+) update indexes;
+
+alter table ACT_HI_TASKINST enable row movement;
+
+alter table ACT_HI_VARINST modify partition by range (REMOVAL_TIME_) (
+    partition ACT_HI_VARINST_2027_01 values less than (TIMESTAMP '2027-02-01 00:00:00'),
+    partition ACT_HI_VARINST_2027_02 values less than (TIMESTAMP '2027-03-01 00:00:00'),
+    partition ACT_HI_VARINST_2027_03 values less than (TIMESTAMP '2027-04-01 00:00:00'),
+    partition ACT_HI_VARINST_MAXVALUE values less than (MAXVALUE)
+) update indexes;
+
+alter table ACT_HI_VARINST enable row movement;
+
+alter table ACT_HI_DETAIL modify partition by range (REMOVAL_TIME_) (
+    partition ACT_HI_DETAIL_2027_01 values less than (TIMESTAMP '2027-02-01 00:00:00'),
+    partition ACT_HI_DETAIL_2027_02 values less than (TIMESTAMP '2027-03-01 00:00:00'),
+    partition ACT_HI_DETAIL_2027_03 values less than (TIMESTAMP '2027-04-01 00:00:00'),
+    partition ACT_HI_DETAIL_MAXVALUE values less than (MAXVALUE)
+) update indexes;
+
+alter table ACT_HI_DETAIL enable row movement;
+
+alter table ACT_HI_INCIDENT modify partition by range (REMOVAL_TIME_) (
+    partition ACT_HI_INCIDENT_2027_01 values less than (TIMESTAMP '2027-02-01 00:00:00'),
+    partition ACT_HI_INCIDENT_2027_02 values less than (TIMESTAMP '2027-03-01 00:00:00'),
+    partition ACT_HI_INCIDENT_2027_03 values less than (TIMESTAMP '2027-04-01 00:00:00'),
+    partition ACT_HI_INCIDENT_MAXVALUE values less than (MAXVALUE)
+) update indexes;
+
+alter table ACT_HI_INCIDENT enable row movement;
+
+alter table ACT_HI_EXT_TASK_LOG modify partition by range (REMOVAL_TIME_) (
+    partition ACT_HI_EXT_TASK_LOG_2027_01 values less than (TIMESTAMP '2027-02-01 00:00:00'),
+    partition ACT_HI_EXT_TASK_LOG_2027_02 values less than (TIMESTAMP '2027-03-01 00:00:00'),
+    partition ACT_HI_EXT_TASK_LOG_2027_03 values less than (TIMESTAMP '2027-04-01 00:00:00'),
+    partition ACT_HI_EXT_TASK_LOG_MAXVALUE values less than (MAXVALUE)
+) update indexes;
+
+alter table ACT_HI_EXT_TASK_LOG enable row movement;
+
+alter table ACT_HI_JOB_LOG modify partition by range (REMOVAL_TIME_) (
+    partition ACT_HI_JOB_LOG_2027_01 values less than (TIMESTAMP '2027-02-01 00:00:00'),
+    partition ACT_HI_JOB_LOG_2027_02 values less than (TIMESTAMP '2027-03-01 00:00:00'),
+    partition ACT_HI_JOB_LOG_2027_03 values less than (TIMESTAMP '2027-04-01 00:00:00'),
+    partition ACT_HI_JOB_LOG_MAXVALUE values less than (MAXVALUE)
+) update indexes;
+
+alter table ACT_HI_JOB_LOG enable row movement;
+
+alter table ACT_HI_OP_LOG modify partition by range (REMOVAL_TIME_) (
+    partition ACT_HI_OP_LOG_2027_01 values less than (TIMESTAMP '2027-02-01 00:00:00'),
+    partition ACT_HI_OP_LOG_2027_02 values less than (TIMESTAMP '2027-03-01 00:00:00'),
+    partition ACT_HI_OP_LOG_2027_03 values less than (TIMESTAMP '2027-04-01 00:00:00'),
+    partition ACT_HI_OP_LOG_MAXVALUE values less than (MAXVALUE)
+) update indexes;
+
+alter table ACT_HI_OP_LOG enable row movement;
+
+alter table ACT_HI_IDENTITYLINK modify partition by range (REMOVAL_TIME_) (
+    partition ACT_HI_IDENTITYLINK_2027_01 values less than (TIMESTAMP '2027-02-01 00:00:00'),
+    partition ACT_HI_IDENTITYLINK_2027_02 values less than (TIMESTAMP '2027-03-01 00:00:00'),
+    partition ACT_HI_IDENTITYLINK_2027_03 values less than (TIMESTAMP '2027-04-01 00:00:00'),
+    partition ACT_HI_IDENTITYLINK_MAXVALUE values less than (MAXVALUE)
+) update indexes;
+
+alter table ACT_HI_IDENTITYLINK enable row movement;
+
+alter table ACT_HI_COMMENT modify partition by range (REMOVAL_TIME_) (
+    partition ACT_HI_COMMENT_2027_01 values less than (TIMESTAMP '2027-02-01 00:00:00'),
+    partition ACT_HI_COMMENT_2027_02 values less than (TIMESTAMP '2027-03-01 00:00:00'),
+    partition ACT_HI_COMMENT_2027_03 values less than (TIMESTAMP '2027-04-01 00:00:00'),
+    partition ACT_HI_COMMENT_MAXVALUE values less than (MAXVALUE)
+) update indexes;
+
+alter table ACT_HI_COMMENT enable row movement;
+
+alter table ACT_HI_ATTACHMENT modify partition by range (REMOVAL_TIME_) (
+    partition ACT_HI_ATTACHMENT_2027_01 values less than (TIMESTAMP '2027-02-01 00:00:00'),
+    partition ACT_HI_ATTACHMENT_2027_02 values less than (TIMESTAMP '2027-03-01 00:00:00'),
+    partition ACT_HI_ATTACHMENT_2027_03 values less than (TIMESTAMP '2027-04-01 00:00:00'),
+    partition ACT_HI_ATTACHMENT_MAXVALUE values less than (MAXVALUE)
+) update indexes;
+
+alter table ACT_HI_ATTACHMENT enable row movement;
+
+alter table ACT_HI_BATCH modify partition by range (REMOVAL_TIME_) (
+    partition ACT_HI_BATCH_2027_01 values less than (TIMESTAMP '2027-02-01 00:00:00'),
+    partition ACT_HI_BATCH_2027_02 values less than (TIMESTAMP '2027-03-01 00:00:00'),
+    partition ACT_HI_BATCH_2027_03 values less than (TIMESTAMP '2027-04-01 00:00:00'),
+    partition ACT_HI_BATCH_MAXVALUE values less than (MAXVALUE)
+) update indexes;
+
+alter table ACT_HI_BATCH enable row movement;
+
+-- decision history
+
+alter table ACT_HI_DECINST modify partition by range (REMOVAL_TIME_) (
+    partition ACT_HI_DECINST_2027_01 values less than (TIMESTAMP '2027-02-01 00:00:00'),
+    partition ACT_HI_DECINST_2027_02 values less than (TIMESTAMP '2027-03-01 00:00:00'),
+    partition ACT_HI_DECINST_2027_03 values less than (TIMESTAMP '2027-04-01 00:00:00'),
+    partition ACT_HI_DECINST_MAXVALUE values less than (MAXVALUE)
+) update indexes;
+
+alter table ACT_HI_DECINST enable row movement;
+
+alter table ACT_HI_DEC_IN modify partition by range (REMOVAL_TIME_) (
+    partition ACT_HI_DEC_IN_2027_01 values less than (TIMESTAMP '2027-02-01 00:00:00'),
+    partition ACT_HI_DEC_IN_2027_02 values less than (TIMESTAMP '2027-03-01 00:00:00'),
+    partition ACT_HI_DEC_IN_2027_03 values less than (TIMESTAMP '2027-04-01 00:00:00'),
+    partition ACT_HI_DEC_IN_MAXVALUE values less than (MAXVALUE)
+) update indexes;
+
+alter table ACT_HI_DEC_IN enable row movement;
+
+alter table ACT_HI_DEC_OUT modify partition by range (REMOVAL_TIME_) (
+    partition ACT_HI_DEC_OUT_2027_01 values less than (TIMESTAMP '2027-02-01 00:00:00'),
+    partition ACT_HI_DEC_OUT_2027_02 values less than (TIMESTAMP '2027-03-01 00:00:00'),
+    partition ACT_HI_DEC_OUT_2027_03 values less than (TIMESTAMP '2027-04-01 00:00:00'),
+    partition ACT_HI_DEC_OUT_MAXVALUE values less than (MAXVALUE)
+) update indexes;
+
+alter table ACT_HI_DEC_OUT enable row movement;
@@ -0,0 +1,409 @@
+--
+-- Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+-- under one or more contributor license agreements. See the NOTICE file
+-- distributed with this work for additional information regarding copyright
+-- ownership. Camunda licenses this file to you under the Apache License,
+-- Version 2.0; you may not use this file except in compliance with the License.
+-- You may obtain a copy of the License at
+--
+--     http://www.apache.org/licenses/LICENSE-2.0
+--
+-- Unless required by applicable law or agreed to in writing, software
+-- distributed under the License is distributed on an "AS IS" BASIS,
+-- WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+-- See the License for the specific language governing permissions and
+-- limitations under the License.
+--
+--
+-- Optional: partitions the history tables by range of REMOVAL_TIME_, so that
+-- the history cleanup can drop expired partitions instead of deleting their
+-- rows (see historyCleanupPartitionDropEnabled). Apply right after the create
+-- scripts of a fresh installation, with the removal-time-based cleanup strategy.
+-- Tables which are not partitioned are cleaned up row by row as before, so the
+-- statements of single tables can be left out; the decision history tables
+-- only exist if the DMN engine is enabled.
+--
+-- Partitions are created and maintained by the database administrator. The
+-- monthly partitions of the first quarter of 2027 below are examples: replace
+-- them by partitions covering the removal times of your installation and add
+-- further partitions ahead of time. Rows are only removed by dropping a
+-- partition once its upper bound has passed, rows left in the DEFAULT
+-- partition are deleted row by row as before.
+--
+-- REMOVAL_TIME_ is nullable and therefore cannot be part of a primary key or
+-- unique constraint, which a partitioned table requires to contain the
+-- partition key. ID_ (and PROC_INST_ID_ of ACT_HI_PROCINST) are indexed instead.
+--
+-- Expired partitions are detached before they are dropped. DETACH PARTITION
+-- takes an ACCESS EXCLUSIVE lock on the partitioned table, so reads and writes
+-- of the history table block until the detaching transaction commits; each
+-- partition is detached and dropped in its own transaction. Schedule the
+-- history cleanup window outside of peak load. DETACH PARTITION ... CONCURRENTLY
+-- is not used, since it cannot run inside a transaction block or on a table
+-- with a DEFAULT partition.
+
+alter table ACT_HI_PROCINST rename to ACT_HI_PROCINST_OLD;
+
+create table ACT_HI_PROCINST (
+    like ACT_HI_PROCINST_OLD including defaults
+) partition by range (REMOVAL_TIME_);
+
+drop table ACT_HI_PROCINST_OLD;
+
+create table ACT_HI_PROCINST_2027_01 partition of ACT_HI_PROCINST for values from ('2027-01-01 00:00:00') to ('2027-02-01 00:00:00');
+create table ACT_HI_PROCINST_2027_02 partition of ACT_HI_PROCINST for values from ('2027-02-01 00:00:00') to ('2027-03-01 00:00:00');
+create table ACT_HI_PROCINST_2027_03 partition of ACT_HI_PROCINST for values from ('2027-03-01 00:00:00') to ('2027-04-01 00:00:00');
+create table ACT_HI_PROCINST_DEFAULT partition of ACT_HI_PROCINST default;
+
+create index ACT_IDX_HI_PROCINST_ID on ACT_HI_PROCINST(ID_);
+create index ACT_IDX_HI_PROCINST_PROC_INST on ACT_HI_PROCINST(PROC_INST_ID_);
+create index ACT_IDX_HI_PRO_INST_END on ACT_HI_PROCINST(END_TIME_);
+create index ACT_IDX_HI_PRO_I_BUSKEY on ACT_HI_PROCINST(BUSINESS_KEY_);
+create index ACT_IDX_HI_PRO_INST_TENANT_ID on ACT_HI_PROCINST(TENANT_ID_);
+create index ACT_IDX_HI_PRO_INST_PROC_DEF_KEY on ACT_HI_PROCINST(PROC_DEF_KEY_);
+create index ACT_IDX_HI_PRO_INST_PROC_TIME on ACT_HI_PROCINST(START_TIME_, END_TIME_);
+create index ACT_IDX_HI_PI_PDEFID_END_TIME on ACT_HI_PROCINST(PROC_DEF_ID_, END_TIME_);
+create index ACT_IDX_HI_PRO_INST_ROOT_PI on ACT_HI_PROCINST(ROOT_PROC_INST_ID_);
+create index ACT_IDX_HI_PRO_INST_RM_TIME on ACT_HI_PROCINST(REMOVAL_TIME_);
+create index ACT_IDX_HI_PRO_RST_PRO_INST_ID on ACT_HI_PROCINST(RESTARTED_PROC_INST_ID_);
+
+alter table ACT_HI_ACTINST rename to ACT_HI_ACTINST_OLD;
+
+create table ACT_HI_ACTINST (
+    like ACT_HI_ACTINST_OLD including defaults
+) partition by range (REMOVAL_TIME_);
+
+drop table ACT_HI_ACTINST_OLD;
+
+create table ACT_HI_ACTINST_2027_01 partition of ACT_HI_ACTINST for values from ('2027-01-01 00:00:00') to ('2027-02-01 00:00:00');
+create table ACT_HI_ACTINST_2027_02 partition of ACT_HI_ACTINST for values from ('2027-02-01 00:00:00') to ('2027-03-01 00:00:00');
+create table ACT_HI_ACTINST_2027_03 partition of ACT_HI_ACTINST for values from ('2027-03-01 00:00:00') to ('2027-04-01 00:00:00');
+create table ACT_HI_ACTINST_DEFAULT partition of ACT_HI_ACTINST default;
+
+create index ACT_IDX_HI_ACTINST_ID on ACT_HI_ACTINST(ID_);
+create index ACT_IDX_HI_ACTINST_ROOT_PI on ACT_HI_ACTINST(ROOT_PROC_INST_ID_);
+create index ACT_IDX_HI_ACT_INST_START_END on ACT_HI_ACTINST(START_TIME_, END_TIME_);
+create index ACT_IDX_HI_ACT_INST_END on ACT_HI_ACTINST(END_TIME_);
+create index ACT_IDX_HI_ACT_INST_PROCINST on ACT_HI_ACTINST(PROC_INST_ID_, ACT_ID_);
+create index ACT_IDX_HI_ACT_INST_COMP on ACT_HI_ACTINST(EXECUTION_ID_, ACT_ID_, END_TIME_, ID_);
+create index ACT_IDX_HI_ACT_INST_STATS on ACT_HI_ACTINST(PROC_DEF_ID_, PROC_INST_ID_, ACT_ID_, END_TIME_, ACT_INST_STATE_);
+create index ACT_IDX_HI_ACT_INST_TENANT_ID on ACT_HI_ACTINST(TENANT_ID_);
+create index ACT_IDX_HI_ACT_INST_PROC_DEF_KEY on ACT_HI_ACTINST(PROC_DEF_KEY_);
+create index ACT_IDX_HI_AI_PDEFID_END_TIME on ACT_HI_ACTINST(PROC_DEF_ID_, END_TIME_);
+create index ACT_IDX_HI_ACT_INST_RM_TIME on ACT_HI_ACTINST(REMOVAL_TIME_);
+
+alter table ACT_HI_TASKINST rename to ACT_HI_TASKINST_OLD;
+
+create table ACT_HI_TASKINST (
+    like ACT_HI_TASKINST_OLD including defaults
+) partition by range (REMOVAL_TIME_);
+
+drop table ACT_HI_TASKINST_OLD;
+
+create table ACT_HI_TASKINST_2027_01 partition of ACT_HI_TASKINST for values from ('2027-01-01 00:00:00') to ('2027-02-01 00:00:00');
+create table ACT_HI_TASKINST_2027_02 partition of ACT_HI_TASKINST for values from ('2027-02-01 00:00:00') to ('2027-03-01 00:00:00');
+create table ACT_HI_TASKINST_2027_03 partition of ACT_HI_TASKINST for values from ('2027-03-01 00:00:00') to ('2027-04-01 00:00:00');
+create table ACT_HI_TASKINST_DEFAULT partition of ACT_HI_TASKINST default;
+
+create index ACT_IDX_HI_TASKINST_ID on ACT_HI_TASKINST(ID_);
+create index ACT_IDX_HI_TASKINST_ROOT_PI on ACT_HI_TASKINST(ROOT_PROC_INST_ID_);
+create index ACT_IDX_HI_TASK_INST_TENANT_ID on ACT_HI_TASKINST(TENANT_ID_);
+create index ACT_IDX_HI_TASK_INST_PROC_DEF_KEY on ACT_HI_TASKINST(PROC_DEF_KEY_);
+create index ACT_IDX_HI_TASKINST_PROCINST on ACT_HI_TASKINST(PROC_INST_ID_);
+create index ACT_IDX_HI_TASKINSTID_PROCINST on ACT_HI_TASKINST(ID_,PROC_INST_ID_);
+create index ACT_IDX_HI_TASK_INST_RM_TIME on ACT_HI_TASKINST(REMOVAL_TIME_);
+create index ACT_IDX_HI_TASK_INST_START on ACT_HI_TASKINST(START_TIME_);
+create index ACT_IDX_HI_TASK_INST_END on ACT_HI_TASKINST(END_TIME_);
+
+alter table ACT_HI_VARINST rename to ACT_HI_VARINST_OLD;
+
+create table ACT_HI_VARINST (
+    like ACT_HI_VARINST_OLD including defaults
+) partition by range (REMOVAL_TIME_);
+
+drop table ACT_HI_VARINST_OLD;
+
+create table ACT_HI_VARINST_2027_01 partition of ACT_HI_VARINST for values from ('2027-01-01 00:00:00') to ('2027-02-01 00:00:00');
+create table ACT_HI_VARINST_2027_02 partition of ACT_HI_VARINST for values from ('2027-02-01 00:00:00') to ('2027-03-01 00:00:00');
+create table ACT_HI_VARINST_2027_03 partition of ACT_HI_VARINST for values from ('2027-03-01 00:00:00') to ('2027-04-01 00:00:00');
+create table ACT_HI_VARINST_DEFAULT partition of ACT_HI_VARINST default;
+
+create index ACT_IDX_HI_VARINST_ID on ACT_HI_VARINST(ID_);
+create index ACT_IDX_HI_VARINST_ROOT_PI on ACT_HI_VARINST(ROOT_PROC_INST_ID_);
+create index ACT_IDX_HI_PROCVAR_PROC_INST on ACT_HI_VARINST(PROC_INST_ID_);
+create index ACT_IDX_HI_PROCVAR_NAME_TYPE on ACT_HI_VARINST(NAME_, VAR_TYPE_);
+create index ACT_IDX_HI_CASEVAR_CASE_INST on ACT_HI_VARINST(CASE_INST_ID_);
+create index ACT_IDX_HI_VAR_INST_TENANT_ID on ACT_HI_VARINST(TENANT_ID_);
+create index ACT_IDX_HI_VAR_INST_PROC_DEF_KEY on ACT_HI_VARINST(PROC_DEF_KEY_);
+create index ACT_IDX_HI_VARINST_BYTEAR on ACT_HI_VARINST(BYTEARRAY_ID_);
+create index ACT_IDX_HI_VARINST_RM_TIME on ACT_HI_VARINST(REMOVAL_TIME_);
+create index ACT_IDX_HI_VAR_PI_NAME_TYPE on ACT_HI_VARINST(PROC_INST_ID_, NAME_, VAR_TYPE_);
+create index ACT_IDX_HI_VARINST_NAME on ACT_HI_VARINST(NAME_);
+create index ACT_IDX_HI_VARINST_ACT_INST_ID on ACT_HI_VARINST(ACT_INST_ID_);
+
+alter table ACT_HI_DETAIL rename to ACT_HI_DETAIL_OLD;
+
+create table ACT_HI_DETAIL (
+    like ACT_HI_DETAIL_OLD including defaults
+) partition by range (REMOVAL_TIME_);
+
+drop table ACT_HI_DETAIL_OLD;
+
+create table ACT_HI_DETAIL_2027_01 partition of ACT_HI_DETAIL for values from ('2027-01-01 00:00:00') to ('2027-02-01 00:00:00');
+create table ACT_HI_DETAIL_2027_02 partition of ACT_HI_DETAIL for values from ('2027-02-01 00:00:00') to ('2027-03-01 00:00:00');
+create table ACT_HI_DETAIL_2027_03 partition of ACT_HI_DETAIL for values from ('2027-03-01 00:00:00') to ('2027-04-01 00:00:00');
+create table ACT_HI_DETAIL_DEFAULT partition of ACT_HI_DETAIL default;
+
+create index ACT_IDX_HI_DETAIL_ID on ACT_HI_DETAIL(ID_);
+create index ACT_IDX_HI_DETAIL_ROOT_PI on ACT_HI_DETAIL(ROOT_PROC_INST_ID_);
+create index ACT_IDX_HI_DETAIL_PROC_INST on ACT_HI_DETAIL(PROC_INST_ID_);
+create index ACT_IDX_HI_DETAIL_ACT_INST on ACT_HI_DETAIL(ACT_INST_ID_);
+create index ACT_IDX_HI_DETAIL_CASE_INST on ACT_HI_DETAIL(CASE_INST_ID_);
+create index ACT_IDX_HI_DETAIL_CASE_EXEC on ACT_HI_DETAIL(CASE_EXECUTION_ID_);
+create index ACT_IDX_HI_DETAIL_TIME on ACT_HI_DETAIL(TIME_);
+create index ACT_IDX_HI_DETAIL_NAME on ACT_HI_DETAIL(NAME_);
+create index ACT_IDX_HI_DETAIL_TASK_ID on ACT_HI_DETAIL(TASK_ID_);
+create index ACT_IDX_HI_DETAIL_TENANT_ID on ACT_HI_DETAIL(TENANT_ID_);
+create index ACT_IDX_HI_DETAIL_PROC_DEF_KEY on ACT_HI_DETAIL(PROC_DEF_KEY_);
+create index ACT_IDX_HI_DETAIL_BYTEAR on ACT_HI_DETAIL(BYTEARRAY_ID_);
+create index ACT_IDX_HI_DETAIL_RM_TIME on ACT_HI_DETAIL(REMOVAL_TIME_);
+create index ACT_IDX_HI_DETAIL_TASK_BYTEAR on ACT_HI_DETAIL(BYTEARRAY_ID_, TASK_ID_);
+create index ACT_IDX_HI_DETAIL_VAR_INST_ID on ACT_HI_DETAIL(VAR_INST_ID_);
+
+alter table ACT_HI_INCIDENT rename to ACT_HI_INCIDENT_OLD;
+
+create table ACT_HI_INCIDENT (
+    like ACT_HI_INCIDENT_OLD including defaults
+) partition by range (REMOVAL_TIME_);
+
+drop table ACT_HI_INCIDENT_OLD;
+
+create table ACT_HI_INCIDENT_2027_01 partition of ACT_HI_INCIDENT for values from ('2027-01-01 00:00:00') to ('2027-02-01 00:00:00');
+create table ACT_HI_INCIDENT_2027_02 partition of ACT_HI_INCIDENT for values from ('2027-02-01 00:00:00') to ('2027-03-01 00:00:00');
+create table ACT_HI_INCIDENT_2027_03 partition of ACT_HI_INCIDENT for values from ('2027-03-01 00:00:00') to ('2027-04-01 00:00:00');
+create table ACT_HI_INCIDENT_DEFAULT partition of ACT_HI_INCIDENT default;
+
+create index ACT_IDX_HI_INCIDENT_ID on ACT_HI_INCIDENT(ID_);
+create index ACT_IDX_HI_INCIDENT_TENANT_ID on ACT_HI_INCIDENT(TENANT_ID_);
+create index ACT_IDX_HI_INCIDENT_PROC_DEF_KEY on ACT_HI_INCIDENT(PROC_DEF_KEY_);
+create index ACT_IDX_HI_INCIDENT_ROOT_PI on ACT_HI_INCIDENT(ROOT_PROC_INST_ID_);
+create index ACT_IDX_HI_INCIDENT_PROCINST on ACT_HI_INCIDENT(PROC_INST_ID_);
+create index ACT_IDX_HI_INCIDENT_RM_TIME on ACT_HI_INCIDENT(REMOVAL_TIME_);
+create index ACT_IDX_HI_INCIDENT_CREATE_TIME on ACT_HI_INCIDENT(CREATE_TIME_);
+create index ACT_IDX_HI_INCIDENT_END_TIME on ACT_HI_INCIDENT(END_TIME_);
+
+alter table ACT_HI_EXT_TASK_LOG rename to ACT_HI_EXT_TASK_LOG_OLD;
+
+create table ACT_HI_EXT_TASK_LOG (
+    like ACT_HI_EXT_TASK_LOG_OLD including defaults
+) partition by range (REMOVAL_TIME_);
+
+drop table ACT_HI_EXT_TASK_LOG_OLD;
+
+create table ACT_HI_EXT_TASK_LOG_2027_01 partition of ACT_HI_EXT_TASK_LOG for values from ('2027-01-01 00:00:00') to ('2027-02-01 00:00:00');
+create table ACT_HI_EXT_TASK_LOG_2027_02 partition of ACT_HI_EXT_TASK_LOG for values from ('2027-02-01 00:00:00') to ('2027-03-01 00:00:00');
+create table ACT_HI_EXT_TASK_LOG_2027_03 partition of ACT_HI_EXT_TASK_LOG for values from ('2027-03-01 00:00:00') to ('2027-04-01 00:00:00');
+create table ACT_HI_EXT_TASK_LOG_DEFAULT partition of ACT_HI_EXT_TASK_LOG default;
+
+create index ACT_IDX_HI_EXT_TASK_LOG_ID on ACT_HI_EXT_TASK_LOG(ID_);
+create index ACT_HI_EXT_TASK_LOG_ROOT_PI on ACT_HI_EXT_TASK_LOG(ROOT_PROC_INST_ID_);
+create index ACT_HI_EXT_TASK_LOG_PROCINST on ACT_HI_EXT_TASK_LOG(PROC_INST_ID_);
+create index ACT_HI_EXT_TASK_LOG_PROCDEF on ACT_HI_EXT_TASK_LOG(PROC_DEF_ID_);
+create index ACT_HI_EXT_TASK_LOG_PROC_DEF_KEY on ACT_HI_EXT_TASK_LOG(PROC_DEF_KEY_);
+create index ACT_HI_EXT_TASK_LOG_TENANT_ID on ACT_HI_EXT_TASK_LOG(TENANT_ID_);
+create index ACT_IDX_HI_EXTTASKLOG_ERRORDET on ACT_HI_EXT_TASK_LOG(ERROR_DETAILS_ID_);
+create index ACT_HI_EXT_TASK_LOG_RM_TIME on ACT_HI_EXT_TASK_LOG(REMOVAL_TIME_);
+
+alter table ACT_HI_JOB_LOG rename to ACT_HI_JOB_LOG_OLD;
+
+create table ACT_HI_JOB_LOG (
+    like ACT_HI_JOB_LOG_OLD including defaults
+) partition by range (REMOVAL_TIME_);
+
+drop table ACT_HI_JOB_LOG_OLD;
+
+create table ACT_HI_JOB_LOG_2027_01 partition of ACT_HI_JOB_LOG for values from ('2027-01-01 00:00:00') to ('2027-02-01 00:00:00');
+create table ACT_HI_JOB_LOG_2027_02 partition of ACT_HI_JOB_LOG for values from ('2027-02-01 00:00:00') to ('2027-03-01 00:00:00');
+create table ACT_HI_JOB_LOG_2027_03 partition of ACT_HI_JOB_LOG for values from ('2027-03-01 00:00:00') to ('2027-04-01 00:00:00');
+create table ACT_HI_JOB_LOG_DEFAULT partition of ACT_HI_JOB_LOG default;
+
+create index ACT_IDX_HI_JOB_LOG_ID on ACT_HI_JOB_LOG(ID_);
+create index ACT_IDX_HI_JOB_LOG_ROOT_PI on ACT_HI_JOB_LOG(ROOT_PROC_INST_ID_);
+create index ACT_IDX_HI_JOB_LOG_PROCINST on ACT_HI_JOB_LOG(PROCESS_INSTANCE_ID_);
+create index ACT_IDX_HI_JOB_LOG_PROCDEF on ACT_HI_JOB_LOG(PROCESS_DEF_ID_);
+create index ACT_IDX_HI_JOB_LOG_TENANT_ID on ACT_HI_JOB_LOG(TENANT_ID_);
+create index ACT_IDX_HI_JOB_LOG_JOB_DEF_ID on ACT_HI_JOB_LOG(JOB_DEF_ID_);
+create index ACT_IDX_HI_JOB_LOG_PROC_DEF_KEY on ACT_HI_JOB_LOG(PROCESS_DEF_KEY_);
+create index ACT_IDX_HI_JOB_LOG_EX_STACK on ACT_HI_JOB_LOG(JOB_EXCEPTION_STACK_ID_);
+create index ACT_IDX_HI_JOB_LOG_RM_TIME on ACT_HI_JOB_LOG(REMOVAL_TIME_);
+create index ACT_IDX_HI_JOB_LOG_JOB_CONF on ACT_HI_JOB_LOG(JOB_DEF_CONFIGURATION_);
+
+alter table ACT_HI_OP_LOG rename to ACT_HI_OP_LOG_OLD;
+
+create table ACT_HI_OP_LOG (
+    like ACT_HI_OP_LOG_OLD including defaults
+) partition by range (REMOVAL_TIME_);
+
+drop table ACT_HI_OP_LOG_OLD;
+
+create table ACT_HI_OP_LOG_2027_01 partition of ACT_HI_OP_LOG for values from ('2027-01-01 00:00:00') to ('2027-02-01 00:00:00');
+create table ACT_HI_OP_LOG_2027_02 partition of ACT_HI_OP_LOG for values from ('2027-02-01 00:00:00') to ('2027-03-01 00:00:00');
+create table ACT_HI_OP_LOG_2027_03 partition of ACT_HI_OP_LOG for values from ('2027-03-01 00:00:00') to ('2027-04-01 00:00:00');
+create table ACT_HI_OP_LOG_DEFAULT partition of ACT_HI_OP_LOG default;
+
+create index ACT_IDX_HI_OP_LOG_ID on ACT_HI_OP_LOG(ID_);
+create index ACT_IDX_HI_OP_LOG_ROOT_PI on ACT_HI_OP_LOG(ROOT_PROC_INST_ID_);
+create index ACT_IDX_HI_OP_LOG_PROCINST on ACT_HI_OP_LOG(PROC_INST_ID_);
+create index ACT_IDX_HI_OP_LOG_PROCDEF on ACT_HI_OP_LOG(PROC_DEF_ID_);
+create index ACT_IDX_HI_OP_LOG_TASK on ACT_HI_OP_LOG(TASK_ID_);
+create index ACT_IDX_HI_OP_LOG_RM_TIME on ACT_HI_OP_LOG(REMOVAL_TIME_);
+create index ACT_IDX_HI_OP_LOG_TIMESTAMP on ACT_HI_OP_LOG(TIMESTAMP_);
+create index ACT_IDX_HI_OP_LOG_USER_ID on ACT_HI_OP_LOG(USER_ID_);
+create index ACT_IDX_HI_OP_LOG_OP_TYPE on ACT_HI_OP_LOG(OPERATION_TYPE_);
+create index ACT_IDX_HI_OP_LOG_ENTITY_TYPE on ACT_HI_OP_LOG(ENTITY_TYPE_);
+
+alter table ACT_HI_IDENTITYLINK rename to ACT_HI_IDENTITYLINK_OLD;
+
+create table ACT_HI_IDENTITYLINK (
+    like ACT_HI_IDENTITYLINK_OLD including defaults
+) partition by range (REMOVAL_TIME_);
+
+drop table ACT_HI_IDENTITYLINK_OLD;
+
+create table ACT_HI_IDENTITYLINK_2027_01 partition of ACT_HI_IDENTITYLINK for values from ('2027-01-01 00:00:00') to ('2027-02-01 00:00:00');
+create table ACT_HI_IDENTITYLINK_2027_02 partition of ACT_HI_IDENTITYLINK for values from ('2027-02-01 00:00:00') to ('2027-03-01 00:00:00');
+create table ACT_HI_IDENTITYLINK_2027_03 partition of ACT_HI_IDENTITYLINK for values from ('2027-03-01 00:00:00') to ('2027-04-01 00:00:00');
+create table ACT_HI_IDENTITYLINK_DEFAULT partition of ACT_HI_IDENTITYLINK default;
+
+create index ACT_IDX_HI_IDENTITYLINK_ID on ACT_HI_IDENTITYLINK(ID_);
+create index ACT_IDX_HI_IDENT_LNK_ROOT_PI on ACT_HI_IDENTITYLINK(ROOT_PROC_INST_ID_);
+create index ACT_IDX_HI_IDENT_LNK_USER on ACT_HI_IDENTITYLINK(USER_ID_);
+create index ACT_IDX_HI_IDENT_LNK_GROUP on ACT_HI_IDENTITYLINK(GROUP_ID_);
+create index ACT_IDX_HI_IDENT_LNK_TENANT_ID on ACT_HI_IDENTITYLINK(TENANT_ID_);
+create index ACT_IDX_HI_IDENT_LNK_PROC_DEF_KEY on ACT_HI_IDENTITYLINK(PROC_DEF_KEY_);
+create index ACT_IDX_HI_IDENT_LINK_TASK on ACT_HI_IDENTITYLINK(TASK_ID_);
+create index ACT_IDX_HI_IDENT_LINK_RM_TIME on ACT_HI_IDENTITYLINK(REMOVAL_TIME_);
+create index ACT_IDX_HI_IDENT_LNK_TIMESTAMP on ACT_HI_IDENTITYLINK(TIMESTAMP_);
+
+alter table ACT_HI_COMMENT rename to ACT_HI_COMMENT_OLD;
+
+create table ACT_HI_COMMENT (
+    like ACT_HI_COMMENT_OLD including defaults
+) partition by range (REMOVAL_TIME_);
+
+drop table ACT_HI_COMMENT_OLD;
+
+create table ACT_HI_COMMENT_2027_01 partition of ACT_HI_COMMENT for values from ('2027-01-01 00:00:00') to ('2027-02-01 00:00:00');
+create table ACT_HI_COMMENT_2027_02 partition of ACT_HI_COMMENT for values from ('2027-02-01 00:00:00') to ('2027-03-01 00:00:00');
+create table ACT_HI_COMMENT_2027_03 partition of ACT_HI_COMMENT for values from ('2027-03-01 00:00:00') to ('2027-04-01 00:00:00');
+create table ACT_HI_COMMENT_DEFAULT partition of ACT_HI_COMMENT default;
+
+create index ACT_IDX_HI_COMMENT_ID on ACT_HI_COMMENT(ID_);
+create index ACT_IDX_HI_COMMENT_TASK on ACT_HI_COMMENT(TASK_ID_);
+create index ACT_IDX_HI_COMMENT_ROOT_PI on ACT_HI_COMMENT(ROOT_PROC_INST_ID_);
+create index ACT_IDX_HI_COMMENT_PROCINST on ACT_HI_COMMENT(PROC_INST_ID_);
+create index ACT_IDX_HI_COMMENT_RM_TIME on ACT_HI_COMMENT(REMOVAL_TIME_);
+
+alter table ACT_HI_ATTACHMENT rename to ACT_HI_ATTACHMENT_OLD;
+
+create table ACT_HI_ATTACHMENT (
+    like ACT_HI_ATTACHMENT_OLD including defaults
+) partition by range (REMOVAL_TIME_);
+
+drop table ACT_HI_ATTACHMENT_OLD;
+
+create table ACT_HI_ATTACHMENT_2027_01 partition of ACT_HI_ATTACHMENT for values from ('2027-01-01 00:00:00') to ('2027-02-01 00:00:00');
+create table ACT_HI_ATTACHMENT_2027_02 partition of ACT_HI_ATTACHMENT for values from ('2027-02-01 00:00:00') to ('2027-03-01 00:00:00');
+create table ACT_HI_ATTACHMENT_2027_03 partition of ACT_HI_ATTACHMENT for values from ('2027-03-01 00:00:00') to ('2027-04-01 00:00:00');
+create table ACT_HI_ATTACHMENT_DEFAULT partition of ACT_HI_ATTACHMENT default;
+
+create index ACT_IDX_HI_ATTACHMENT_ID on ACT_HI_ATTACHMENT(ID_);
+create index ACT_IDX_HI_ATTACHMENT_CONTENT on ACT_HI_ATTACHMENT(CONTENT_ID_);
+create index ACT_IDX_HI_ATTACHMENT_ROOT_PI on ACT_HI_ATTACHMENT(ROOT_PROC_INST_ID_);
+create index ACT_IDX_HI_ATTACHMENT_PROCINST on ACT_HI_ATTACHMENT(PROC_INST_ID_);
+create index ACT_IDX_HI_ATTACHMENT_TASK on ACT_HI_ATTACHMENT(TASK_ID_);
+create index ACT_IDX_HI_ATTACHMENT_RM_TIME on ACT_HI_ATTACHMENT(REMOVAL_TIME_);
+
+alter table ACT_HI_BATCH rename to ACT_HI_BATCH_OLD;
+
+create table ACT_HI_BATCH (
+    like ACT_HI_BATCH_OLD including defaults
+) partition by range (REMOVAL_TIME_);
+
+drop table ACT_HI_BATCH_OLD;
+
+create table ACT_HI_BATCH_2027_01 partition of ACT_HI_BATCH for values from ('2027-01-01 00:00:00') to ('2027-02-01 00:00:00');
+create table ACT_HI_BATCH_2027_02 partition of ACT_HI_BATCH for values from ('2027-02-01 00:00:00') to ('2027-03-01 00:00:00');
+create table ACT_HI_BATCH_2027_03 partition of ACT_HI_BATCH for values from ('2027-03-01 00:00:00') to ('2027-04-01 00:00:00');
+create table ACT_HI_BATCH_DEFAULT partition of ACT_HI_BATCH default;
+
+create index ACT_IDX_HI_BATCH_ID on ACT_HI_BATCH(ID_);
+create index ACT_HI_BAT_RM_TIME on ACT_HI_BATCH(REMOVAL_TIME_);
+
+-- decision history
+
+alter table ACT_HI_DECINST rename to ACT_HI_DECINST_OLD;
+
+create table ACT_HI_DECINST (
+    like ACT_HI_DECINST_OLD including defaults
+) partition by range (REMOVAL_TIME_);
+
+drop table ACT_HI_DECINST_OLD;
+
+create table ACT_HI_DECINST_2027_01 partition of ACT_HI_DECINST for values from ('2027-01-01 00:00:00') to ('2027-02-01 00:00:00');
+create table ACT_HI_DECINST_2027_02 partition of ACT_HI_DECINST for values from ('2027-02-01 00:00:00') to ('2027-03-01 00:00:00');
+create table ACT_HI_DECINST_2027_03 partition of ACT_HI_DECINST for values from ('2027-03-01 00:00:00') to ('2027-04-01 00:00:00');
+create table ACT_HI_DECINST_DEFAULT partition of ACT_HI_DECINST default;
+
+create index ACT_IDX_HI_DECINST_ID on ACT_HI_DECINST(ID_);
+create index ACT_IDX_HI_DEC_INST_ID on ACT_HI_DECINST(DEC_DEF_ID_);
+create index ACT_IDX_HI_DEC_INST_KEY on ACT_HI_DECINST(DEC_DEF_KEY_);
+create index ACT_IDX_HI_DEC_INST_PI on ACT_HI_DECINST(PROC_INST_ID_);
+create index ACT_IDX_HI_DEC_INST_CI on ACT_HI_DECINST(CASE_INST_ID_);
+create index ACT_IDX_HI_DEC_INST_ACT on ACT_HI_DECINST(ACT_ID_);
+create index ACT_IDX_HI_DEC_INST_ACT_INST on ACT_HI_DECINST(ACT_INST_ID_);
+create index ACT_IDX_HI_DEC_INST_TIME on ACT_HI_DECINST(EVAL_TIME_);
+create index ACT_IDX_HI_DEC_INST_TENANT_ID on ACT_HI_DECINST(TENANT_ID_);
+create index ACT_IDX_HI_DEC_INST_ROOT_ID on ACT_HI_DECINST(ROOT_DEC_INST_ID_);
+create index ACT_IDX_HI_DEC_INST_REQ_ID on ACT_HI_DECINST(DEC_REQ_ID_);
+create index ACT_IDX_HI_DEC_INST_REQ_KEY on ACT_HI_DECINST(DEC_REQ_KEY_);
+create index ACT_IDX_HI_DEC_INST_ROOT_PI on ACT_HI_DECINST(ROOT_PROC_INST_ID_);
+create index ACT_IDX_HI_DEC_INST_RM_TIME on ACT_HI_DECINST(REMOVAL_TIME_);
+
+alter table ACT_HI_DEC_IN rename to ACT_HI_DEC_IN_OLD;
+
+create table ACT_HI_DEC_IN (
+    like ACT_HI_DEC_IN_OLD including defaults
+) partition by range (REMOVAL_TIME_);
+
+drop table ACT_HI_DEC_IN_OLD;
+
+create table ACT_HI_DEC_IN_2027_01 partition of ACT_HI_DEC_IN for values from ('2027-01-01 00:00:00') to ('2027-02-01 00:00:00');
+create table ACT_HI_DEC_IN_2027_02 partition of ACT_HI_DEC_IN for values from ('2027-02-01 00:00:00') to ('2027-03-01 00:00:00');
+create table ACT_HI_DEC_IN_2027_03 partition of ACT_HI_DEC_IN for values from ('2027-03-01 00:00:00') to ('2027-04-01 00:00:00');
+create table ACT_HI_DEC_IN_DEFAULT partition of ACT_HI_DEC_IN default;
+
+create index ACT_IDX_HI_DEC_IN_ID on ACT_HI_DEC_IN(ID_);
+create index ACT_IDX_HI_DEC_IN_INST on ACT_HI_DEC_IN(DEC_INST_ID_);
+create index ACT_IDX_HI_DEC_IN_CLAUSE on ACT_HI_DEC_IN(DEC_INST_ID_, CLAUSE_ID_);
+create index ACT_IDX_HI_DEC_IN_ROOT_PI on ACT_HI_DEC_IN(ROOT_PROC_INST_ID_);
+create index ACT_IDX_HI_DEC_IN_RM_TIME on ACT_HI_DEC_IN(REMOVAL_TIME_);
+
+alter table ACT_HI_DEC_OUT rename to ACT_HI_DEC_OUT_OLD;
+
+create table ACT_HI_DEC_OUT (
+    like ACT_HI_DEC_OUT_OLD including defaults
+) partition by range (REMOVAL_TIME_);
+
+drop table ACT_HI_DEC_OUT_OLD;
+
+create table ACT_HI_DEC_OUT_2027_01 partition of ACT_HI_DEC_OUT for values from ('2027-01-01 00:00:00') to ('2027-02-01 00:00:00');
+create table ACT_HI_DEC_OUT_2027_02 partition of ACT_HI_DEC_OUT for values from ('2027-02-01 00:00:00') to ('2027-03-01 00:00:00');
+create table ACT_HI_DEC_OUT_2027_03 partition of ACT_HI_DEC_OUT for values from ('2027-03-01 00:00:00') to ('2027-04-01 00:00:00');
+create table ACT_HI_DEC_OUT_DEFAULT partition of ACT_HI_DEC_OUT default;
+
+create index ACT_IDX_HI_DEC_OUT_ID on ACT_HI_DEC_OUT(ID_);
+create index ACT_IDX_HI_DEC_OUT_INST on ACT_HI_DEC_OUT(DEC_INST_ID_);
+create index ACT_IDX_HI_DEC_OUT_RULE on ACT_HI_DEC_OUT(RULE_ORDER_, CLAUSE_ID_);
+create index ACT_IDX_HI_DEC_OUT_ROOT_PI on ACT_HI_DEC_OUT(ROOT_PROC_INST_ID_);
+create index ACT_IDX_HI_DEC_OUT_RM_TIME on ACT_HI_DEC_OUT(REMOVAL_TIME_);
@@ -0,0 +1,44 @@
+--
+-- Copyright 2025 FINOS
+--
+-- The source files in this repository are made available under the Apache License Version 2.0.
+--
+-- SPDX-License-Identifier: Apache-2.0
+--
+
+insert into ACT_GE_SCHEMA_LOG
+values ('1400', CURRENT_TIMESTAMP, '1.1.0');
+
+create table ACT_RU_BATCH_CHUNK (
+  ID_ varchar(64) not null,
+  BATCH_ID_ varchar(64) not null,
+  SEQ_ integer not null,
+  DEPLOYMENT_ID_ varchar(64),
+  SIZE_ integer,
+  BYTEARRAY_ID_ varchar(64),
+  primary key (ID_)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8 COLLATE utf8_bin;
+
+create index ACT_IDX_BATCH_CHUNK_SEQ on ACT_RU_BATCH_CHUNK(BATCH_ID_, SEQ_);
+
+create table ACT_RU_VAR_SEARCH (
+  ID_ varchar(64) not null,
+  NAME_ varchar(255) not null,
+  TYPE_ varchar(255) not null,
+  PROC_DEF_ID_ varchar(64),
+  PROC_INST_ID_ varchar(64) not null,
+  EXECUTION_ID_ varchar(64),
+  TASK_ID_ varchar(64),
+  BYTEARRAY_ID_ varchar(64),
+  DOUBLE_ double,
+  LONG_ bigint,
+  TEXT_ varchar(4000),
+  TEXT2_ varchar(4000),
+  TEXT_PREFIX_ varchar(255),
+  primary key (ID_)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8 COLLATE utf8_bin;
+
+create index ACT_IDX_VAR_SEARCH_TEXT on ACT_RU_VAR_SEARCH(NAME_, TEXT_PREFIX_);
+create index ACT_IDX_VAR_SEARCH_LONG on ACT_RU_VAR_SEARCH(NAME_, LONG_);
+create index ACT_IDX_VAR_SEARCH_DOUBLE on ACT_RU_VAR_SEARCH(NAME_, DOUBLE_);
+create index ACT_IDX_VAR_SEARCH_PROCINST on ACT_RU_VAR_SEARCH(PROC_INST_ID_);
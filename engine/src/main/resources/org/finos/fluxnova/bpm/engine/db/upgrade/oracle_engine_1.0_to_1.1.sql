@@ -0,0 +1,44 @@
+--
+-- Copyright 2025 FINOS
+--
+-- The source files in this repository are made available under the Apache License Version 2.0.
+--
+-- SPDX-License-Identifier: Apache-2.0
+--
+
+insert into ACT_GE_SCHEMA_LOG
+values ('1400', CURRENT_TIMESTAMP, '1.1.0');
+
+create table ACT_RU_BATCH_CHUNK (
+  ID_ NVARCHAR2(64) NOT NULL,
+  BATCH_ID_ NVARCHAR2(64) NOT NULL,
+  SEQ_ INTEGER NOT NULL,
+  DEPLOYMENT_ID_ NVARCHAR2(64),
+  SIZE_ INTEGER,
+  BYTEARRAY_ID_ NVARCHAR2(64),
+  primary key (ID_)
+);
+
+create index ACT_IDX_BATCH_CHUNK_SEQ on ACT_RU_BATCH_CHUNK(BATCH_ID_, SEQ_);
+
+create table ACT_RU_VAR_SEARCH (
+  ID_ NVARCHAR2(64) NOT NULL,
+  NAME_ NVARCHAR2(255) NOT NULL,
+  TYPE_ NVARCHAR2(255) NOT NULL,
+  PROC_DEF_ID_ NVARCHAR2(64),
+  PROC_INST_ID_ NVARCHAR2(64) NOT NULL,
+  EXECUTION_ID_ NVARCHAR2(64),
+  TASK_ID_ NVARCHAR2(64),
+  BYTEARRAY_ID_ NVARCHAR2(64),
+  DOUBLE_ NUMBER(*,10),
+  LONG_ NUMBER(19,0),
+  TEXT_ NVARCHAR2(2000),
+  TEXT2_ NVARCHAR2(2000),
+  TEXT_PREFIX_ NVARCHAR2(255),
+  primary key (ID_)
+);
+
+create index ACT_IDX_VAR_SEARCH_TEXT on ACT_RU_VAR_SEARCH(NAME_, TEXT_PREFIX_);
+create index ACT_IDX_VAR_SEARCH_LONG on ACT_RU_VAR_SEARCH(NAME_, LONG_);
+create index ACT_IDX_VAR_SEARCH_DOUBLE on ACT_RU_VAR_SEARCH(NAME_, DOUBLE_);
+create index ACT_IDX_VAR_SEARCH_PROCINST on ACT_RU_VAR_SEARCH(PROC_INST_ID_);
@@ -0,0 +1,119 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.finos.fluxnova.bpm.engine.impl.core.variable.scope;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import org.finos.fluxnova.bpm.engine.impl.core.variable.scope.VariableStore.VariablesProvider;
+import org.finos.fluxnova.bpm.engine.variable.Variables;
+import org.junit.Before;
+import org.junit.Test;
+
+public class VariableStoreTest {
+
+  protected CountingVariablesProvider provider;
+  protected VariableStore<SimpleVariableInstance> variableStore;
+
+  @Before
+  public void setUp() {
+    provider = new CountingVariablesProvider(
+        new SimpleVariableInstance("a", Variables.stringValue("a")),
+        new SimpleVariableInstance("b", Variables.stringValue("b")),
+        new SimpleVariableInstance("c", Variables.stringValue("c")));
+    variableStore = new VariableStore<>(provider);
+  }
+
+  @Test
+  public void shouldFetchOnlyNamedVariables() {
+    List<SimpleVariableInstance> variables = variableStore.getVariables(Arrays.asList("a", "x"));
+
+    assertThat(variables).extracting("name").containsOnly("a");
+    assertThat(provider.fetchedNames).containsExactly(Arrays.asList("a", "x"));
+    assertThat(provider.fetchAllCount).isZero();
+    assertThat(variableStore.isInitialized()).isFalse();
+  }
+
+  @Test
+  public void shouldNotFetchNamedVariablesTwice() {
+    variableStore.getVariables(Arrays.asList("a", "x"));
+    List<SimpleVariableInstance> variables = variableStore.getVariables(Arrays.asList("a", "b", "x"));
+
+    assertThat(variables).extracting("name").containsOnly("a", "b");
+    assertThat(provider.fetchedNames).containsExactly(Arrays.asList("a", "x"), Collections.singletonList("b"));
+
+    // single lookups of fetched variables are answered without initialization
+    assertThat(variableStore.getVariable("b").getName()).isEqualTo("b");
+    assertThat(variableStore.getVariable("x")).isNull();
+    assertThat(provider.fetchAllCount).isZero();
+  }
+
+  @Test
+  public void shouldInitializeOnLookupOfUnknownVariable() {
+    variableStore.getVariables(Collections.singletonList("a"));
+
+    assertThat(variableStore.getVariable("c").getName()).isEqualTo("c");
+    assertThat(variableStore.isInitialized()).isTrue();
+    assertThat(provider.fetchAllCount).isEqualTo(1);
+
+    // initialized store answers named lookups itself
+    variableStore.getVariables(Collections.singletonList("b"));
+    assertThat(provider.fetchedNames).hasSize(1);
+  }
+
+  @Test
+  public void shouldSeeVariablesAddedAfterNamedFetch() {
+    variableStore.getVariables(Collections.singletonList("x"));
+
+    variableStore.addVariable(new SimpleVariableInstance("x", Variables.stringValue("x")));
+
+    assertThat(variableStore.getVariable("x").getName()).isEqualTo("x");
+    assertThat(variableStore.getVariables(Collections.singletonList("x"))).hasSize(1);
+  }
+
+  protected static class CountingVariablesProvider implements VariablesProvider<SimpleVariableInstance> {
+
+    protected List<SimpleVariableInstance> variables;
+    protected int fetchAllCount;
+    protected List<List<String>> fetchedNames = new ArrayList<>();
+
+    public CountingVariablesProvider(SimpleVariableInstance... variables) {
+      this.variables = Arrays.asList(variables);
+    }
+
+    public Collection<SimpleVariableInstance> provideVariables() {
+      fetchAllCount++;
+      return new ArrayList<>(variables);
+    }
+
+    public Collection<SimpleVariableInstance> provideVariables(Collection<String> variableNames) {
+      fetchedNames.add(new ArrayList<>(variableNames));
+      List<SimpleVariableInstance> result = new ArrayList<>();
+      for (SimpleVariableInstance variable : variables) {
+        if (variableNames.contains(variable.getName())) {
+          result.add(variable);
+        }
+      }
+      return result;
+    }
+  }
+}
@@ -0,0 +1,186 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.finos.fluxnova.bpm.engine.test.api.authorization;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.finos.fluxnova.bpm.engine.authorization.Authorization.ANY;
+import static org.finos.fluxnova.bpm.engine.authorization.Permissions.READ;
+import static org.finos.fluxnova.bpm.engine.authorization.Permissions.READ_TASK;
+import static org.finos.fluxnova.bpm.engine.authorization.Resources.GROUP;
+import static org.finos.fluxnova.bpm.engine.authorization.Resources.PROCESS_DEFINITION;
+import static org.finos.fluxnova.bpm.engine.authorization.Resources.TASK;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.finos.fluxnova.bpm.engine.task.Task;
+import org.finos.fluxnova.commons.testing.ProcessEngineLoggingRule;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class AuthorizationCheckPrecomputedTest extends AuthorizationTest {
+
+  protected static final String LOGGING_CONTEXT = "org.finos.fluxnova.bpm.engine.impl.persistence.entity.TaskEntity";
+  protected static final String GRANTING_AUTHORIZATIONS_LOGGING_CONTEXT =
+      "org.finos.fluxnova.bpm.engine.impl.persistence.entity.AuthorizationEntity.selectGrantingAuthorizationIds";
+
+  protected boolean defaultPrecomputed;
+  protected int defaultPrecomputedLimit;
+
+  protected List<String> groupIds = new ArrayList<>();
+
+  @Rule
+  public ProcessEngineLoggingRule loggingRule = new ProcessEngineLoggingRule()
+      .watch(LOGGING_CONTEXT, Level.DEBUG)
+      .watch(GRANTING_AUTHORIZATIONS_LOGGING_CONTEXT, Level.DEBUG);
+
+  @Before
+  public void storePrecomputedMode() {
+    defaultPrecomputed = processEngineConfiguration.isAuthorizationCheckPrecomputed();
+    defaultPrecomputedLimit = processEngineConfiguration.getAuthorizationCheckPrecomputedLimit();
+  }
+
+  @After
+  public void resetPrecomputedMode() {
+    processEngineConfiguration.setAuthorizationCheckPrecomputed(defaultPrecomputed);
+    processEngineConfiguration.setAuthorizationCheckPrecomputedLimit(defaultPrecomputedLimit);
+  }
+
+  @Test
+  public void shouldReturnSameTasksAsRegularAuthorizationCheck() {
+    // given
+    disableAuthorization();
+    testRule.deploy(
+        "org/finos/fluxnova/bpm/engine/test/api/oneTaskProcess.bpmn20.xml",
+        "org/finos/fluxnova/bpm/engine/test/api/twoTasksProcess.bpmn20.xml");
+    runtimeService.startProcessInstanceByKey("oneTaskProcess");
+    runtimeService.startProcessInstanceByKey("oneTaskProcess");
+    runtimeService.startProcessInstanceByKey("twoTasksProcess");
+    String taskId = taskService.createTaskQuery().processDefinitionKey("twoTasksProcess").singleResult().getId();
+
+    createGroupsWithAuthorizations(10);
+    createGrantAuthorizationGroup(PROCESS_DEFINITION, "oneTaskProcess", groupIds.get(3), READ_TASK);
+    createGrantAuthorizationGroup(PROCESS_DEFINITION, "oneTaskProcess", groupIds.get(7), READ_TASK);
+    createGrantAuthorization(TASK, taskId, userId, READ);
+    enableAuthorization();
+
+    processEngineConfiguration.setAuthorizationCheckPrecomputed(false);
+    List<String> regularTaskIds = getTaskIds(taskService.createTaskQuery().list());
+    long regularCount = taskService.createTaskQuery().count();
+
+    processEngineConfiguration.setAuthorizationCheckPrecomputed(true);
+
+    // when
+    List<String> precomputedTaskIds = getTaskIds(taskService.createTaskQuery().list());
+    long precomputedCount = taskService.createTaskQuery().count();
+
+    // then
+    assertThat(regularTaskIds).hasSize(3);
+    assertThat(precomputedTaskIds).containsExactlyInAnyOrderElementsOf(regularTaskIds);
+    assertThat(precomputedCount).isEqualTo(regularCount).isEqualTo(3);
+  }
+
+  @Test
+  public void shouldJoinPrecomputedAuthorizations() {
+    // given
+    disableAuthorization();
+    testRule.deploy("org/finos/fluxnova/bpm/engine/test/api/oneTaskProcess.bpmn20.xml");
+    runtimeService.startProcessInstanceByKey("oneTaskProcess");
+    createGroupsWithAuthorizations(5);
+    createGrantAuthorization(TASK, ANY, userId, READ);
+    enableAuthorization();
+
+    processEngineConfiguration.setAuthorizationCheckPrecomputed(true);
+    int taskLogOffset = loggingRule.getLog(LOGGING_CONTEXT).size();
+
+    // when
+    List<Task> tasks = taskService.createTaskQuery().list();
+
+    // then
+    assertThat(tasks).hasSize(1);
+    String query = loggingRule.getLog(LOGGING_CONTEXT).get(taskLogOffset).getFormattedMessage();
+    assertThat(query).contains("A.ID_ IN").doesNotContain("A.GROUP_ID_ IN");
+  }
+
+  @Test
+  public void shouldReturnNoTasksWithoutGrantingAuthorization() {
+    // given
+    disableAuthorization();
+    testRule.deploy("org/finos/fluxnova/bpm/engine/test/api/oneTaskProcess.bpmn20.xml");
+    runtimeService.startProcessInstanceByKey("oneTaskProcess");
+    enableAuthorization();
+
+    processEngineConfiguration.setAuthorizationCheckPrecomputed(true);
+
+    // when
+    long count = taskService.createTaskQuery().count();
+
+    // then
+    assertThat(count).isZero();
+  }
+
+  @Test
+  public void shouldCheckAuthorizationsAsUsualAboveLimit() {
+    // given
+    disableAuthorization();
+    testRule.deploy("org/finos/fluxnova/bpm/engine/test/api/oneTaskProcess.bpmn20.xml");
+    runtimeService.startProcessInstanceByKey("oneTaskProcess");
+    createGroupsWithAuthorizations(5);
+    createGrantAuthorizationGroup(PROCESS_DEFINITION, "oneTaskProcess", groupIds.get(2), READ_TASK);
+    enableAuthorization();
+
+    processEngineConfiguration.setAuthorizationCheckPrecomputed(true);
+    processEngineConfiguration.setAuthorizationCheckPrecomputedLimit(3);
+    int taskLogOffset = loggingRule.getLog(LOGGING_CONTEXT).size();
+
+    // when
+    List<Task> tasks = taskService.createTaskQuery().list();
+
+    // then
+    assertThat(tasks).hasSize(1);
+    List<ILoggingEvent> taskLog = loggingRule.getLog(LOGGING_CONTEXT);
+    assertThat(taskLog.get(taskLogOffset).getFormattedMessage()).contains("A.GROUP_ID_ IN");
+
+    // and only one more granting authorization than the limit is fetched
+    assertThat(loggingRule.getLog(GRANTING_AUTHORIZATIONS_LOGGING_CONTEXT))
+        .extracting(ILoggingEvent::getFormattedMessage)
+        .contains("<==      Total: 4");
+  }
+
+  /**
+   * Creates groups of the authenticated user, each of which is granted to read its own group.
+   */
+  protected void createGroupsWithAuthorizations(int count) {
+    for (int i = 0; i < count; i++) {
+      String groupId = "group" + i;
+      createGroup(groupId);
+      identityService.createMembership(userId, groupId);
+      createGrantAuthorizationGroup(GROUP, groupId, groupId, READ);
+      groupIds.add(groupId);
+    }
+    identityService.setAuthentication(userId, groupIds);
+  }
+
+  protected List<String> getTaskIds(List<Task> tasks) {
+    return tasks.stream().map(Task::getId).collect(Collectors.toList());
+  }
+
+}
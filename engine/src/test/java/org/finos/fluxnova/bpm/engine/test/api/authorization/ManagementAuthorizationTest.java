@@ -30,6 +30,7 @@ import org.finos.fluxnova.bpm.engine.authorization.SystemPermissions;
 import org.finos.fluxnova.bpm.engine.authorization.TaskPermissions;
 import org.finos.fluxnova.bpm.engine.impl.persistence.entity.ProcessDefinitionEntity;
 import org.finos.fluxnova.bpm.engine.management.Metrics;
+import org.finos.fluxnova.bpm.engine.management.QueryShapeStatistics;
 import org.finos.fluxnova.bpm.engine.management.SchemaLogEntry;
 import org.finos.fluxnova.bpm.engine.management.TableMetaData;
 import org.finos.fluxnova.bpm.engine.management.TablePage;
@@ -928,4 +929,42 @@ public class ManagementAuthorizationTest extends AuthorizationTest {
     assertThat(schemaLog).isZero();
   }
 
+  // query shape statistics //////////////////////////////////////////
+
+  @Test
+  public void shouldGetSlowestQueryShapesAsFluxnovaAdmin() {
+    // given
+    identityService.setAuthentication(userId, Collections.singletonList(Groups.CAMUNDA_ADMIN));
+
+    // when
+    List<QueryShapeStatistics> statistics = managementService.getSlowestQueryShapes(10);
+
+    // then
+    assertThat(statistics).isEmpty();
+  }
+
+  @Test
+  public void shouldNotGetSlowestQueryShapesWithoutAuthorization() {
+    // given
+
+    assertThatThrownBy(() -> {
+      // when
+      managementService.getSlowestQueryShapes(10);
+    })
+        // then
+        .hasMessage(REQUIRED_ADMIN_AUTH_EXCEPTION);
+  }
+
+  @Test
+  public void shouldNotClearQueryShapeStatisticsWithoutAuthorization() {
+    // given
+
+    assertThatThrownBy(() -> {
+      // when
+      managementService.clearQueryShapeStatistics();
+    })
+        // then
+        .hasMessage(REQUIRED_ADMIN_AUTH_EXCEPTION);
+  }
+
 }
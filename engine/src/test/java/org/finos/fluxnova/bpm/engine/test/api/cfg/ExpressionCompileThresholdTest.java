@@ -0,0 +1,177 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.finos.fluxnova.bpm.engine.test.api.cfg;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.finos.fluxnova.bpm.engine.ProcessEngine;
+import org.finos.fluxnova.bpm.engine.ProcessEngineConfiguration;
+import org.finos.fluxnova.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.finos.fluxnova.bpm.engine.impl.el.JuelExpressionManager;
+import org.finos.fluxnova.bpm.engine.runtime.ProcessInstance;
+import java.util.Collections;
+
+import org.finos.fluxnova.bpm.engine.variable.Variables;
+import org.finos.fluxnova.bpm.impl.juel.ExpressionFactoryImpl;
+import org.finos.fluxnova.bpm.impl.juel.TreeValueExpression;
+import org.finos.fluxnova.bpm.impl.juel.jakarta.el.ELContext;
+import org.finos.fluxnova.bpm.model.bpmn.Bpmn;
+import org.finos.fluxnova.bpm.model.bpmn.BpmnModelInstance;
+import org.junit.After;
+import org.junit.Test;
+
+public class ExpressionCompileThresholdTest {
+
+  protected ProcessEngine engine;
+
+  @Test
+  public void shouldNotCompileExpressionsByDefault() {
+    // given
+    ProcessEngineConfigurationImpl config = createConfiguration();
+
+    // when
+    engine = config.buildProcessEngine();
+
+    // then
+    TreeValueExpression expression = evaluate(config, "${a > 1}", 10);
+    assertThat(expression.isCompiled()).isFalse();
+  }
+
+  @Test
+  public void shouldCompileExpressionsAfterThreshold() {
+    // given
+    ProcessEngineConfigurationImpl config = createConfiguration()
+        .setExpressionCompileThreshold(2);
+
+    // when
+    engine = config.buildProcessEngine();
+
+    // then
+    assertThat(evaluate(config, "${a > 1}", 1).isCompiled()).isFalse();
+    assertThat(evaluate(config, "${a > 1}", 2).isCompiled()).isTrue();
+  }
+
+  @Test
+  public void shouldKeepCustomExpressionFactory() {
+    // given
+    JuelExpressionManager expressionManager = new JuelExpressionManager();
+    expressionManager.setExpressionFactory(new ExpressionFactoryImpl() {
+    });
+    ProcessEngineConfigurationImpl config = createConfiguration()
+        .setExpressionManager(expressionManager)
+        .setExpressionCompileThreshold(2);
+
+    // when
+    engine = config.buildProcessEngine();
+
+    // then
+    assertThat(evaluate(config, "${a > 1}", 10).isCompiled()).isFalse();
+  }
+
+  @Test
+  public void shouldEvaluateCompiledPropertyAccess() {
+    // given
+    ProcessEngineConfigurationImpl config = createConfiguration()
+        .setExpressionCompileThreshold(2);
+    config.setJavaSerializationFormatEnabled(true);
+    engine = config.buildProcessEngine();
+
+    BpmnModelInstance process = Bpmn.createExecutableProcess("process")
+        .startEvent()
+        .exclusiveGateway()
+          .condition("high", "${order.amount > 10}")
+          .userTask("high")
+          .endEvent()
+        .moveToLastGateway()
+          .condition("low", "${order['amount'] <= 10}")
+          .userTask("low")
+          .endEvent()
+        .done();
+    engine.getRepositoryService().createDeployment().addModelInstance("process.bpmn", process).deploy();
+
+    // when the property is accessed before and after the conditions are compiled
+    for (int amount : new int[] { 5, 20, 10, 11, 0, 100 }) {
+      ProcessInstance processInstance = engine.getRuntimeService()
+          .startProcessInstanceByKey("process", Variables.createVariables()
+              .putValue("order", Collections.singletonMap("amount", amount)));
+
+      // then
+      String taskDefinitionKey = engine.getTaskService().createTaskQuery()
+          .processInstanceId(processInstance.getId())
+          .singleResult()
+          .getTaskDefinitionKey();
+      assertThat(taskDefinitionKey).isEqualTo(amount > 10 ? "high" : "low");
+    }
+  }
+
+  @Test
+  public void shouldEvaluateCompiledConditions() {
+    // given
+    engine = createConfiguration()
+        .setExpressionCompileThreshold(2)
+        .buildProcessEngine();
+
+    BpmnModelInstance process = Bpmn.createExecutableProcess("process")
+        .startEvent()
+        .exclusiveGateway()
+          .condition("high", "${amount > 10}")
+          .userTask("high")
+          .endEvent()
+        .moveToLastGateway()
+          .condition("low", "${amount <= 10}")
+          .userTask("low")
+          .endEvent()
+        .done();
+    engine.getRepositoryService().createDeployment().addModelInstance("process.bpmn", process).deploy();
+
+    // when the conditions are evaluated before and after they are compiled
+    for (int amount : new int[] { 5, 20, 10, 11, 0, 100 }) {
+      ProcessInstance processInstance = engine.getRuntimeService()
+          .startProcessInstanceByKey("process", Variables.createVariables().putValue("amount", amount));
+
+      // then
+      String taskDefinitionKey = engine.getTaskService().createTaskQuery()
+          .processInstanceId(processInstance.getId())
+          .singleResult()
+          .getTaskDefinitionKey();
+      assertThat(taskDefinitionKey).isEqualTo(amount > 10 ? "high" : "low");
+    }
+  }
+
+  @After
+  public void tearDown() {
+    if (engine != null) {
+      engine.close();
+      engine = null;
+    }
+  }
+
+  protected ProcessEngineConfigurationImpl createConfiguration() {
+    return (ProcessEngineConfigurationImpl) ProcessEngineConfiguration.createStandaloneInMemProcessEngineConfiguration()
+        .setJdbcUrl("jdbc:h2:mem:camunda" + getClass().getSimpleName());
+  }
+
+  protected TreeValueExpression evaluate(ProcessEngineConfigurationImpl config, String expressionText, int times) {
+    JuelExpressionManager expressionManager = (JuelExpressionManager) config.getExpressionManager();
+    TreeValueExpression expression = (TreeValueExpression) expressionManager.createValueExpression(expressionText);
+    ELContext elContext = expressionManager.createElContext(Variables.createVariables().putValue("a", 2).asVariableContext());
+    for (int i = 0; i < times; i++) {
+      assertThat(expression.getValue(elContext)).isEqualTo(true);
+    }
+    return expression;
+  }
+}
@@ -19,6 +19,11 @@ package org.finos.fluxnova.bpm.engine.test.api.dmn;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
 import org.finos.fluxnova.bpm.dmn.engine.DmnDecisionResult;
 import org.finos.fluxnova.bpm.dmn.engine.DmnDecisionTableResult;
 import org.finos.fluxnova.bpm.dmn.engine.impl.DefaultDmnEngineConfiguration;
@@ -299,6 +304,87 @@ public class DecisionServiceTest {
     assertThatDecisionHasResult(decisionResult, "Light salad");
   }
 
+  @Deployment(resources = DMN_DECISION_TABLE)
+  @Test
+  public void evaluateDecisionBatchByKey() {
+    List<VariableMap> batch = Arrays.asList(
+        createVariables(),
+        Variables.createVariables().putValue("status", "silver").putValue("sum", 1500),
+        Variables.createVariables().putValue("status", "bronze").putValue("sum", 100),
+        Variables.createVariables().putValue("status", "gold").putValue("sum", 723));
+
+    List<DmnDecisionResult> results = decisionService
+        .evaluateDecisionByKey(DECISION_DEFINITION_KEY)
+        .evaluateBatch(batch);
+
+    assertThat(results).hasSize(4);
+    assertThatDecisionHasResult(results.get(0), RESULT_OF_FIRST_VERSION);
+    assertThatDecisionHasResult(results.get(1), RESULT_OF_SECOND_VERSION);
+    assertThatDecisionHasResult(results.get(2), RESULT_OF_SECOND_VERSION);
+    assertThatDecisionHasResult(results.get(3), RESULT_OF_FIRST_VERSION);
+  }
+
+  @Deployment(resources = DMN_DECISION_TABLE)
+  @Test
+  public void evaluateDecisionBatchEqualsSingleEvaluations() {
+    List<VariableMap> batch = new ArrayList<>();
+    for (String status : Arrays.asList("bronze", "silver", "gold")) {
+      for (int sum : new int[] { 100, 999, 1000, 1500 }) {
+        batch.add(Variables.createVariables().putValue("status", status).putValue("sum", sum));
+      }
+    }
+
+    List<DmnDecisionResult> results = decisionService
+        .evaluateDecisionByKey(DECISION_DEFINITION_KEY)
+        .evaluateBatch(batch);
+
+    assertThat(results).hasSize(batch.size());
+    for (int i = 0; i < batch.size(); i++) {
+      DmnDecisionResult expected = decisionService
+          .evaluateDecisionByKey(DECISION_DEFINITION_KEY)
+          .variables(batch.get(i))
+          .evaluate();
+      assertThat(results.get(i).getResultList()).isEqualTo(expected.getResultList());
+    }
+  }
+
+  @Deployment(resources = DMN_DECISION_TABLE)
+  @Test
+  public void evaluateDecisionBatchWithEmptyBatch() {
+    List<DmnDecisionResult> results = decisionService
+        .evaluateDecisionByKey(DECISION_DEFINITION_KEY)
+        .evaluateBatch(Collections.<VariableMap>emptyList());
+
+    assertThat(results).isEmpty();
+  }
+
+  @Test
+  public void evaluateDecisionBatchWithNullBatch() {
+    assertThatThrownBy(() -> decisionService
+        .evaluateDecisionByKey(DECISION_DEFINITION_KEY)
+        .evaluateBatch(null))
+      .isInstanceOf(NotValidException.class)
+      .hasMessageContaining("variablesBatch is null");
+  }
+
+  @Deployment( resources = DRD_DISH_DECISION_TABLE )
+  @Test
+  public void evaluateDecisionBatchWithRequiredDecisions() {
+    List<VariableMap> batch = Arrays.asList(
+        Variables.createVariables().putValue("temperature", 32).putValue("dayType", "Weekend"),
+        Variables.createVariables().putValue("temperature", 5).putValue("dayType", "Weekend"),
+        Variables.createVariables().putValue("temperature", 20).putValue("dayType", "WeekDay"));
+
+    List<DmnDecisionResult> results = decisionService
+        .evaluateDecisionByKey("dish-decision")
+        .evaluateBatch(batch);
+
+    assertThat(results).hasSize(3);
+    assertThatDecisionHasResult(results.get(0), "Light salad");
+    assertThatDecisionHasResult(results.get(1), "Pasta");
+    assertThatDecisionHasResult(results.get(2), "Stew");
+  }
+
   protected VariableMap createVariables() {
     return Variables.createVariables().putValue("status", "silver").putValue("sum", 723);
   }
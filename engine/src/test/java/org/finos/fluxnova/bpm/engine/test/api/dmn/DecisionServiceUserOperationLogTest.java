@@ -18,6 +18,8 @@ package org.finos.fluxnova.bpm.engine.test.api.dmn;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.Arrays;
+
 import org.finos.fluxnova.bpm.dmn.engine.impl.DefaultDmnEngineConfiguration;
 import org.finos.fluxnova.bpm.engine.DecisionService;
 import org.finos.fluxnova.bpm.engine.EntityTypes;
@@ -262,6 +264,25 @@ public class DecisionServiceUserOperationLogTest {
     assertOperationLog(decisionDefinition);
   }
 
+  @Deployment(resources = DMN_DECISION_TABLE)
+  @Test
+  public void logCreationOnEvaluateDecisionBatch() {
+    // given
+    DecisionDefinition decisionDefinition = repositoryService.createDecisionDefinitionQuery().singleResult();
+
+    // when
+    identityService.setAuthenticatedUserId(USER_ID);
+    decisionService.evaluateDecisionByKey(DECISION_DEFINITION_KEY).evaluateBatch(Arrays.asList(createVariables(), createVariables()));
+    identityService.clearAuthentication();
+
+    // then
+    assertThat(historyService.createUserOperationLogQuery().count()).isEqualTo(3L);
+    assertLogEntry("decisionDefinitionId", decisionDefinition.getId());
+    assertLogEntry("decisionDefinitionKey", decisionDefinition.getKey());
+    assertLogEntry("nrOfInstances", 2);
+    assertThat(historyService.createHistoricDecisionInstanceQuery().count()).isEqualTo(2L);
+  }
+
   protected VariableMap createVariables() {
     return Variables.createVariables().putValue("status", "silver").putValue("sum", 723);
   }
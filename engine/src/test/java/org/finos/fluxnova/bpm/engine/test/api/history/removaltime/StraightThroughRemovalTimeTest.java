@@ -0,0 +1,189 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.finos.fluxnova.bpm.engine.test.api.history.removaltime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.finos.fluxnova.bpm.engine.ProcessEngineConfiguration.HISTORY_REMOVAL_TIME_STRATEGY_END;
+
+import java.util.Calendar;
+import java.util.Date;
+import java.util.GregorianCalendar;
+import java.util.List;
+
+import org.finos.fluxnova.bpm.engine.history.HistoricActivityInstance;
+import org.finos.fluxnova.bpm.engine.history.HistoricDecisionInstance;
+import org.finos.fluxnova.bpm.engine.history.HistoricDetail;
+import org.finos.fluxnova.bpm.engine.history.HistoricProcessInstance;
+import org.finos.fluxnova.bpm.engine.history.HistoricVariableInstance;
+import org.finos.fluxnova.bpm.engine.impl.history.DefaultHistoryRemovalTimeProvider;
+import org.finos.fluxnova.bpm.engine.impl.persistence.entity.ByteArrayEntity;
+import org.finos.fluxnova.bpm.engine.impl.persistence.entity.HistoricVariableInstanceEntity;
+import org.finos.fluxnova.bpm.engine.impl.util.ClockUtil;
+import org.finos.fluxnova.bpm.engine.runtime.ProcessInstance;
+import org.finos.fluxnova.bpm.engine.test.Deployment;
+import org.finos.fluxnova.bpm.engine.test.dmn.businessruletask.TestPojo;
+import org.finos.fluxnova.bpm.engine.variable.Variables;
+import org.finos.fluxnova.bpm.model.bpmn.Bpmn;
+import org.junit.Before;
+import org.junit.Test;
+
+public class StraightThroughRemovalTimeTest extends AbstractRemovalTimeTest {
+
+  protected static final String PROCESS_KEY = "process";
+
+  protected final Date START_DATE = new GregorianCalendar(2013, Calendar.MARCH, 18, 12, 0, 0).getTime();
+  protected final Date END_DATE = new GregorianCalendar(2013, Calendar.MARCH, 18, 13, 0, 0).getTime();
+
+  @Before
+  public void setUp() {
+    processEngineConfiguration
+      .setHistoryRemovalTimeStrategy(HISTORY_REMOVAL_TIME_STRATEGY_END)
+      .setHistoryRemovalTimeProvider(new DefaultHistoryRemovalTimeProvider())
+      .initHistoryRemovalTime();
+  }
+
+  @Test
+  @Deployment(resources = {
+    "org/finos/fluxnova/bpm/engine/test/api/history/testDmnWithPojo.dmn11.xml"
+  })
+  public void shouldResolveHistoryOfStraightThroughInstance() {
+    // given
+    testRule.deploy(Bpmn.createExecutableProcess(PROCESS_KEY)
+      .fluxnovaHistoryTimeToLive(5)
+      .fluxnovaStraightThrough()
+      .startEvent()
+        .businessRuleTask().fluxnovaDecisionRef("testDecision")
+        .serviceTask().fluxnovaExpression("${true}").fluxnovaResultVariable("result")
+      .endEvent().done());
+
+    ClockUtil.setCurrentTime(END_DATE);
+
+    // when
+    ProcessInstance processInstance = runtimeService.startProcessInstanceByKey(PROCESS_KEY,
+      Variables.createVariables()
+        .putValue("pojo", new TestPojo("okay", 13.37)));
+
+    // then
+    Date removalTime = addDays(END_DATE, 5);
+
+    assertThat(runtimeService.createExecutionQuery().count()).isZero();
+    assertThat(runtimeService.createVariableInstanceQuery().count()).isZero();
+
+    HistoricProcessInstance historicProcessInstance = historyService.createHistoricProcessInstanceQuery()
+      .processInstanceId(processInstance.getId())
+      .singleResult();
+    assertThat(historicProcessInstance.getRemovalTime()).isEqualTo(removalTime);
+
+    List<HistoricActivityInstance> activityInstances = historyService.createHistoricActivityInstanceQuery().list();
+    assertThat(activityInstances).hasSize(4);
+    assertThat(activityInstances).extracting("removalTime").containsOnly(removalTime);
+
+    List<HistoricVariableInstance> variableInstances = historyService.createHistoricVariableInstanceQuery().list();
+    assertThat(variableInstances).hasSize(2);
+    assertThat(variableInstances).extracting("removalTime").containsOnly(removalTime);
+
+    List<HistoricDetail> details = historyService.createHistoricDetailQuery().list();
+    assertThat(details).isNotEmpty();
+    assertThat(details).extracting("removalTime").containsOnly(removalTime);
+
+    List<HistoricDecisionInstance> decisionInstances = historyService.createHistoricDecisionInstanceQuery().list();
+    assertThat(decisionInstances).hasSize(1);
+    assertThat(decisionInstances).extracting("removalTime").containsOnly(removalTime);
+
+    HistoricVariableInstanceEntity pojoVariable = (HistoricVariableInstanceEntity) historyService.createHistoricVariableInstanceQuery()
+      .variableName("pojo")
+      .singleResult();
+    ByteArrayEntity byteArray = findByteArrayById(pojoVariable.getByteArrayId());
+    assertThat(byteArray.getRemovalTime()).isEqualTo(removalTime);
+  }
+
+  @Test
+  public void shouldResolveHistoryOfStraightThroughInstanceAfterWaitState() {
+    // given
+    testRule.deploy(Bpmn.createExecutableProcess(PROCESS_KEY)
+      .fluxnovaHistoryTimeToLive(5)
+      .fluxnovaStraightThrough()
+      .startEvent()
+        .userTask("userTask")
+      .endEvent().done());
+
+    ClockUtil.setCurrentTime(START_DATE);
+
+    runtimeService.startProcessInstanceByKey(PROCESS_KEY,
+      Variables.createVariables()
+        .putValue("pojo", new TestPojo("okay", 13.37)));
+
+    // assume
+    assertThat(runtimeService.createExecutionQuery().count()).isEqualTo(1L);
+
+    HistoricProcessInstance historicProcessInstance = historyService.createHistoricProcessInstanceQuery().singleResult();
+    assertThat(historicProcessInstance.getRemovalTime()).isNull();
+
+    ClockUtil.setCurrentTime(END_DATE);
+
+    // when
+    taskService.complete(taskService.createTaskQuery().singleResult().getId());
+
+    // then
+    Date removalTime = addDays(END_DATE, 5);
+
+    historicProcessInstance = historyService.createHistoricProcessInstanceQuery().singleResult();
+    assertThat(historicProcessInstance.getRemovalTime()).isEqualTo(removalTime);
+
+    List<HistoricActivityInstance> activityInstances = historyService.createHistoricActivityInstanceQuery().list();
+    assertThat(activityInstances).extracting("removalTime").containsOnly(removalTime);
+
+    HistoricVariableInstanceEntity pojoVariable = (HistoricVariableInstanceEntity) historyService.createHistoricVariableInstanceQuery()
+      .variableName("pojo")
+      .singleResult();
+    assertThat(pojoVariable.getRemovalTime()).isEqualTo(removalTime);
+    ByteArrayEntity byteArray = findByteArrayById(pojoVariable.getByteArrayId());
+    assertThat(byteArray.getRemovalTime()).isEqualTo(removalTime);
+  }
+
+  @Test
+  public void shouldResolveHistoryOfCalledStraightThroughInstance() {
+    // given
+    testRule.deploy(Bpmn.createExecutableProcess("calledProcess")
+      .fluxnovaHistoryTimeToLive(180)
+      .startEvent()
+      .endEvent().done());
+
+    testRule.deploy(Bpmn.createExecutableProcess(PROCESS_KEY)
+      .fluxnovaHistoryTimeToLive(5)
+      .fluxnovaStraightThrough()
+      .startEvent()
+        .callActivity().calledElement("calledProcess")
+      .endEvent().done());
+
+    ClockUtil.setCurrentTime(END_DATE);
+
+    // when
+    runtimeService.startProcessInstanceByKey(PROCESS_KEY);
+
+    // then
+    Date removalTime = addDays(END_DATE, 5);
+
+    List<HistoricProcessInstance> historicProcessInstances = historyService.createHistoricProcessInstanceQuery().list();
+    assertThat(historicProcessInstances).hasSize(2);
+    assertThat(historicProcessInstances).extracting("removalTime").containsOnly(removalTime);
+
+    List<HistoricActivityInstance> activityInstances = historyService.createHistoricActivityInstanceQuery().list();
+    assertThat(activityInstances).extracting("removalTime").containsOnly(removalTime);
+  }
+
+}
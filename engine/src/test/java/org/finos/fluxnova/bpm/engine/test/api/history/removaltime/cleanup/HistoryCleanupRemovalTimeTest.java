@@ -18,6 +18,7 @@ package org.finos.fluxnova.bpm.engine.test.api.history.removaltime.cleanup;
 
 import static org.apache.commons.lang3.time.DateUtils.addDays;
 import static org.apache.commons.lang3.time.DateUtils.addMinutes;
+import static org.apache.commons.lang3.time.DateUtils.addSeconds;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.finos.fluxnova.bpm.engine.ProcessEngineConfiguration.HISTORY_CLEANUP_STRATEGY_REMOVAL_TIME_BASED;
 import static org.finos.fluxnova.bpm.engine.ProcessEngineConfiguration.HISTORY_FULL;
@@ -86,6 +87,8 @@ import org.finos.fluxnova.bpm.engine.impl.history.DefaultHistoryRemovalTimeProvi
 import org.finos.fluxnova.bpm.engine.impl.interceptor.Command;
 import org.finos.fluxnova.bpm.engine.impl.interceptor.CommandContext;
 import org.finos.fluxnova.bpm.engine.impl.interceptor.CommandExecutor;
+import org.finos.fluxnova.bpm.engine.impl.jobexecutor.historycleanup.HistoryCleanupThroughputController;
+import org.finos.fluxnova.bpm.engine.impl.metrics.MetricsRegistry;
 import org.finos.fluxnova.bpm.engine.impl.persistence.entity.ByteArrayEntity;
 import org.finos.fluxnova.bpm.engine.impl.persistence.entity.HistoricJobLogEventEntity;
 import org.finos.fluxnova.bpm.engine.impl.persistence.entity.JobEntity;
@@ -182,6 +185,9 @@ public class HistoryCleanupRemovalTimeTest {
   public void tearDown() {
     clearMeterLog();
 
+    engineConfiguration.setHistoryCleanupPartitionDropEnabled(false);
+    engineConfiguration.setHistoryCleanupAdaptiveThroughputEnabled(false);
+
     for (String jobId : jobIds) {
       clearJobLog(jobId);
       clearJob(jobId);
@@ -620,6 +626,131 @@ public class HistoryCleanupRemovalTimeTest {
     assertThat(historicActivityInstances.size(), is(0));
   }
 
+  @Test
+  public void shouldCleanupActivityInstanceWithPartitionDropEnabled() {
+    // given
+    engineConfiguration.setHistoryCleanupPartitionDropEnabled(true);
+
+    testRule.deploy(CALLING_PROCESS);
+
+    testRule.deploy(PROCESS);
+
+    runtimeService.startProcessInstanceByKey(CALLING_PROCESS_KEY);
+
+    String taskId = historyService.createHistoricTaskInstanceQuery().singleResult().getId();
+
+    ClockUtil.setCurrentTime(END_DATE);
+
+    taskService.complete(taskId);
+
+    ClockUtil.setCurrentTime(addDays(END_DATE, 5));
+
+    // when
+    runHistoryCleanup();
+
+    // then the history is removed row by row since the tables are not partitioned
+    assertThat(historyService.createHistoricActivityInstanceQuery().count(), is(0L));
+    assertThat(historyService.createHistoricProcessInstanceQuery().count(), is(0L));
+
+    long droppedPartitionsSum = managementService.createMetricsQuery()
+      .name(Metrics.HISTORY_CLEANUP_DROPPED_PARTITIONS)
+      .sum();
+    assertThat(droppedPartitionsSum, is(0L));
+  }
+
+  @Test
+  public void shouldCleanupProcessInstanceWithAdaptiveThroughput() {
+    // given
+    engineConfiguration.setHistoryCleanupAdaptiveThroughputEnabled(true);
+    engineConfiguration.initHistoryCleanup();
+
+    testRule.deploy(CALLING_PROCESS);
+
+    testRule.deploy(PROCESS);
+
+    runtimeService.startProcessInstanceByKey(CALLING_PROCESS_KEY);
+
+    String taskId = historyService.createHistoricTaskInstanceQuery().singleResult().getId();
+
+    ClockUtil.setCurrentTime(END_DATE);
+
+    taskService.complete(taskId);
+
+    ClockUtil.setCurrentTime(addDays(END_DATE, 5));
+
+    // when
+    runHistoryCleanup();
+
+    // then
+    assertThat(historyService.createHistoricProcessInstanceQuery().count(), is(0L));
+    assertThat(historyService.createHistoricActivityInstanceQuery().count(), is(0L));
+
+    HistoryCleanupThroughputController throughputController = engineConfiguration.getHistoryCleanupThroughputController();
+    assertThat(throughputController.getRunning(), is(0));
+    assertThat(throughputController.getBacklog(), is(-1L));
+
+    // when the budget window is over
+    ClockUtil.setCurrentTime(addMinutes(addDays(END_DATE, 5), 1));
+
+    runHistoryCleanup();
+
+    // then the throughput of the last window is reported
+    assertThat(throughputController.getBacklog(), is(0L));
+    assertThat(throughputController.getBudgetUsage(), is(0L));
+
+    // as gauges which are not written to the meter log
+    MetricsRegistry metricsRegistry = engineConfiguration.getMetricsRegistry();
+    assertThat(metricsRegistry.getGaugeValue(Metrics.HISTORY_CLEANUP_BACKLOG), is(0L));
+    assertThat(metricsRegistry.getGaugeValue(Metrics.HISTORY_CLEANUP_BUDGET_USAGE), is(0L));
+    assertThat(metricsRegistry.getGaugeValue(Metrics.HISTORY_CLEANUP_ROWS_PER_SECOND), is(throughputController.getRowsPerSecond()));
+
+    engineConfiguration.getDbMetricsReporter().reportNow();
+    assertThat(managementService.createMetricsQuery().name(Metrics.HISTORY_CLEANUP_BACKLOG).sum(), is(0L));
+    assertThat(managementService.createMetricsQuery().name(Metrics.HISTORY_CLEANUP_ROWS_PER_SECOND).sum(), is(0L));
+    assertThat(managementService.createMetricsQuery().name(Metrics.HISTORY_CLEANUP_BUDGET_USAGE).sum(), is(0L));
+  }
+
+  @Test
+  public void shouldThrottleCleanupWithAdaptiveThroughput() {
+    // given
+    engineConfiguration.setHistoryCleanupAdaptiveThroughputEnabled(true);
+    engineConfiguration.initHistoryCleanup();
+
+    testRule.deploy(PROCESS);
+
+    runtimeService.startProcessInstanceByKey(PROCESS_KEY);
+
+    String taskId = historyService.createHistoricTaskInstanceQuery().singleResult().getId();
+
+    ClockUtil.setCurrentTime(END_DATE);
+
+    taskService.complete(taskId);
+
+    Date now = addDays(END_DATE, 5);
+    ClockUtil.setCurrentTime(now);
+
+    // the only cleanup slot is taken
+    HistoryCleanupThroughputController throughputController = engineConfiguration.getHistoryCleanupThroughputController();
+    assertThat(throughputController.tryAcquire(), is(true));
+
+    // when
+    List<Job> jobs = runHistoryCleanup();
+
+    // then
+    assertThat(historyService.createHistoricProcessInstanceQuery().count(), is(1L));
+
+    Job job = managementService.createJobQuery().jobId(jobs.get(0).getId()).singleResult();
+    assertThat(job.getDuedate().getTime(), is(addSeconds(now, 10).getTime()));
+
+    // when the slot is released
+    throughputController.release(0, 0, false);
+
+    runHistoryCleanup();
+
+    // then
+    assertThat(historyService.createHistoricProcessInstanceQuery().count(), is(0L));
+  }
+
   @Test
   public void shouldCleanupTaskInstance() {
     // given
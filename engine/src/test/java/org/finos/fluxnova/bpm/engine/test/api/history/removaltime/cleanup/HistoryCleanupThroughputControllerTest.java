@@ -0,0 +1,202 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.finos.fluxnova.bpm.engine.test.api.history.removaltime.cleanup;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Date;
+import java.util.Map;
+
+import org.finos.fluxnova.bpm.engine.impl.jobexecutor.historycleanup.HistoryCleanupThroughputController;
+import org.finos.fluxnova.bpm.engine.impl.util.ClockUtil;
+import org.finos.fluxnova.bpm.engine.management.Metrics;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class HistoryCleanupThroughputControllerTest {
+
+  protected static final long NOW = 1_000_000_000_000L;
+
+  protected HistoryCleanupThroughputController controller;
+
+  @Before
+  public void setUp() {
+    ClockUtil.setCurrentTime(new Date(NOW));
+    // batch size 500, 3 jobs, 10 seconds per minute, 1 second per transaction
+    controller = new HistoryCleanupThroughputController(500, 3, 10_000, 1_000);
+  }
+
+  @After
+  public void tearDown() {
+    ClockUtil.reset();
+  }
+
+  @Test
+  public void shouldShrinkBatchSizeOnSlowBatch() {
+    // given
+    assertThat(controller.tryAcquire()).isTrue();
+
+    // when
+    controller.release(2_000, 500, true);
+
+    // then
+    assertThat(controller.getBatchSize()).isEqualTo(250);
+    assertThat(controller.getParallelism()).isEqualTo(2);
+    assertThat(controller.getRunning()).isZero();
+  }
+
+  @Test
+  public void shouldGrowBatchSizeOnFastFullBatch() {
+    // given
+    slowBatch();
+    slowBatch();
+    assertThat(controller.getBatchSize()).isEqualTo(125);
+    assertThat(controller.getParallelism()).isEqualTo(1);
+
+    // when a batch takes a quarter of the target duration
+    controller.tryAcquire();
+    controller.release(250, 125, true);
+
+    // then the batch size doubles at most
+    assertThat(controller.getBatchSize()).isEqualTo(250);
+    assertThat(controller.getParallelism()).isEqualTo(2);
+
+    // when a batch takes 80 percent of the target duration
+    controller.tryAcquire();
+    controller.release(800, 250, true);
+
+    // then the batch size grows by the ratio to the target duration
+    assertThat(controller.getBatchSize()).isEqualTo(312);
+  }
+
+  @Test
+  public void shouldNotGrowBeyondConfiguration() {
+    // when
+    controller.tryAcquire();
+    controller.release(10, 500, true);
+
+    // then
+    assertThat(controller.getBatchSize()).isEqualTo(500);
+    assertThat(controller.getParallelism()).isEqualTo(3);
+  }
+
+  @Test
+  public void shouldNotGrowOnPartialBatch() {
+    // given
+    slowBatch();
+
+    // when
+    controller.tryAcquire();
+    controller.release(10, 20, false);
+
+    // then
+    assertThat(controller.getBatchSize()).isEqualTo(250);
+    assertThat(controller.getParallelism()).isEqualTo(2);
+  }
+
+  @Test
+  public void shouldShrinkOnFailedBatch() {
+    // given
+    controller.tryAcquire();
+
+    // when
+    controller.releaseFailed(5_000);
+
+    // then
+    assertThat(controller.getBatchSize()).isEqualTo(250);
+    assertThat(controller.getParallelism()).isEqualTo(2);
+    assertThat(controller.getFailedBatches()).isEqualTo(1);
+    assertThat(controller.getRunning()).isZero();
+  }
+
+  @Test
+  public void shouldLimitConcurrentJobs() {
+    // given
+    slowBatch();
+
+    // when
+    assertThat(controller.tryAcquire()).isTrue();
+    assertThat(controller.tryAcquire()).isTrue();
+
+    // then
+    assertThat(controller.tryAcquire()).isFalse();
+    assertThat(controller.getNextAttempt()).isEqualTo(new Date(NOW + 10_000));
+  }
+
+  @Test
+  public void shouldThrottleWhenBudgetIsUsed() {
+    // given
+    controller.tryAcquire();
+    controller.release(1_000, 100, false);
+    controller.tryAcquire();
+    controller.release(9_000, 100, false);
+
+    // then
+    assertThat(controller.tryAcquire()).isFalse();
+    assertThat(controller.getNextAttempt()).isEqualTo(new Date(NOW + HistoryCleanupThroughputController.BUDGET_WINDOW));
+
+    // when the next window starts
+    ClockUtil.setCurrentTime(new Date(NOW + HistoryCleanupThroughputController.BUDGET_WINDOW));
+
+    // then
+    assertThat(controller.tryAcquire()).isTrue();
+  }
+
+  @Test
+  public void shouldReportLastWindow() {
+    // given
+    controller.tryAcquire();
+    controller.release(3_000, 6_000, false);
+    controller.tryAcquire();
+    controller.release(2_000, 6_000, false);
+
+    assertThat(controller.pollWindowReport()).isEmpty();
+
+    // when
+    ClockUtil.setCurrentTime(new Date(NOW + HistoryCleanupThroughputController.BUDGET_WINDOW));
+    Map<String, Long> report = controller.pollWindowReport();
+
+    // then
+    assertThat(report)
+      .containsEntry(Metrics.HISTORY_CLEANUP_ROWS_PER_SECOND, 200L)
+      .containsEntry(Metrics.HISTORY_CLEANUP_BUDGET_USAGE, 50L);
+    assertThat(controller.getRowsPerSecond()).isEqualTo(200);
+    assertThat(controller.getBudgetUsage()).isEqualTo(50);
+
+    // and the report is only returned once
+    assertThat(controller.pollWindowReport()).isEmpty();
+  }
+
+  @Test
+  public void shouldNotReportIdleWindow() {
+    // given
+    controller.pollWindowReport();
+
+    // when
+    ClockUtil.setCurrentTime(new Date(NOW + 5 * HistoryCleanupThroughputController.BUDGET_WINDOW));
+
+    // then
+    assertThat(controller.pollWindowReport()).isEmpty();
+  }
+
+  protected void slowBatch() {
+    controller.tryAcquire();
+    controller.release(2_000, 0, true);
+  }
+
+}
@@ -0,0 +1,241 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.finos.fluxnova.bpm.engine.test.api.mgmt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+
+import org.finos.fluxnova.bpm.engine.ManagementService;
+import org.finos.fluxnova.bpm.engine.ProcessEngineException;
+import org.finos.fluxnova.bpm.engine.RuntimeService;
+import org.finos.fluxnova.bpm.engine.TaskService;
+import org.finos.fluxnova.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.finos.fluxnova.bpm.engine.impl.db.sql.QueryShapeRecorder;
+import org.finos.fluxnova.bpm.engine.management.QueryShapeStatistics;
+import org.finos.fluxnova.bpm.engine.test.ProcessEngineRule;
+import org.finos.fluxnova.bpm.engine.test.util.ProcessEngineTestRule;
+import org.finos.fluxnova.bpm.engine.test.util.ProvidedProcessEngineRule;
+import org.finos.fluxnova.bpm.model.bpmn.Bpmn;
+import org.finos.fluxnova.bpm.model.bpmn.BpmnModelInstance;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.RuleChain;
+
+public class QueryShapeStatisticsTest {
+
+  protected static final String SELECT_TASKS = "selectTaskByQueryCriteria";
+  protected static final String SELECT_TASK_COUNT = "selectTaskCountByQueryCriteria";
+  protected static final String SELECT_PROCESS_INSTANCES = "selectProcessInstanceByQueryCriteria";
+
+  public ProcessEngineRule engineRule = new ProvidedProcessEngineRule();
+
+  protected ProcessEngineTestRule testHelper = new ProcessEngineTestRule(engineRule);
+
+  @Rule
+  public RuleChain ruleChain = RuleChain.outerRule(engineRule).around(testHelper);
+
+  protected ProcessEngineConfigurationImpl processEngineConfiguration;
+  protected ManagementService managementService;
+  protected RuntimeService runtimeService;
+  protected TaskService taskService;
+
+  protected QueryShapeRecorder queryShapeRecorder;
+
+  protected BpmnModelInstance simpleProcess = Bpmn.createExecutableProcess("process")
+      .startEvent()
+      .userTask("task")
+        .name("aTask")
+      .endEvent()
+      .done();
+
+  @Before
+  public void setUp() {
+    processEngineConfiguration = engineRule.getProcessEngineConfiguration();
+    managementService = engineRule.getManagementService();
+    runtimeService = engineRule.getRuntimeService();
+    taskService = engineRule.getTaskService();
+
+    testHelper.deploy(simpleProcess);
+    runtimeService.startProcessInstanceByKey("process");
+    runtimeService.startProcessInstanceByKey("process");
+
+    queryShapeRecorder = new QueryShapeRecorder(new HashSet<>(Arrays.asList(
+        SELECT_TASKS, SELECT_TASK_COUNT, SELECT_PROCESS_INSTANCES)), 10);
+    setQueryShapeRecorder(queryShapeRecorder);
+  }
+
+  @After
+  public void resetQueryShapeRecorder() {
+    setQueryShapeRecorder(null);
+  }
+
+  @Test
+  public void shouldRecordQueriesOfTheSameShapeTogether() {
+    // when
+    taskService.createTaskQuery().taskName("aTask").list();
+    taskService.createTaskQuery().taskName("anotherTask").list();
+
+    // then
+    List<QueryShapeStatistics> statistics = managementService.getSlowestQueryShapes(10);
+    assertThat(statistics).hasSize(1);
+
+    QueryShapeStatistics taskQueryStatistics = statistics.get(0);
+    assertThat(taskQueryStatistics.getStatement()).isEqualTo(SELECT_TASKS);
+    assertThat(taskQueryStatistics.getShape())
+        .contains("?")
+        .doesNotContain("aTask")
+        .doesNotContain("anotherTask");
+    assertThat(taskQueryStatistics.getExecutionCount()).isEqualTo(2);
+    assertThat(taskQueryStatistics.getTotalRows()).isEqualTo(2);
+    assertThat(taskQueryStatistics.getMaxRows()).isEqualTo(2);
+  }
+
+  @Test
+  public void shouldRecordQueriesOfDifferentShapesSeparately() {
+    // when
+    taskService.createTaskQuery().taskName("aTask").list();
+    taskService.createTaskQuery().taskAssignee("kermit").list();
+    taskService.createTaskQuery().count();
+    runtimeService.createProcessInstanceQuery().list();
+
+    // then
+    List<QueryShapeStatistics> statistics = managementService.getSlowestQueryShapes(10);
+    assertThat(statistics)
+        .extracting(QueryShapeStatistics::getStatement)
+        .containsExactlyInAnyOrder(SELECT_TASKS, SELECT_TASKS, SELECT_TASK_COUNT, SELECT_PROCESS_INSTANCES);
+
+    QueryShapeStatistics countStatistics = statistics.stream()
+        .filter(s -> s.getStatement().equals(SELECT_TASK_COUNT))
+        .findFirst()
+        .get();
+    assertThat(countStatistics.getTotalRows()).isEqualTo(2);
+  }
+
+  @Test
+  public void shouldNotRecordOtherStatements() {
+    // when
+    runtimeService.createExecutionQuery().list();
+    runtimeService.createProcessInstanceQuery().count();
+
+    // then
+    assertThat(managementService.getSlowestQueryShapes(10)).isEmpty();
+  }
+
+  @Test
+  public void shouldReturnMaxResults() {
+    // given
+    taskService.createTaskQuery().taskName("aTask").list();
+    taskService.createTaskQuery().taskAssignee("kermit").list();
+    taskService.createTaskQuery().count();
+
+    // when
+    List<QueryShapeStatistics> statistics = managementService.getSlowestQueryShapes(2);
+
+    // then
+    assertThat(statistics).hasSize(2);
+    assertThat(statistics.get(0).getTotalDuration())
+        .isGreaterThanOrEqualTo(statistics.get(1).getTotalDuration());
+  }
+
+  @Test
+  public void shouldFailWithNegativeMaxResults() {
+    assertThatThrownBy(() -> managementService.getSlowestQueryShapes(-1))
+        .isInstanceOf(ProcessEngineException.class)
+        .hasMessageContaining("maxResults");
+  }
+
+  @Test
+  public void shouldNotRecordShapesBeyondCapacity() {
+    // given
+    setQueryShapeRecorder(new QueryShapeRecorder(new HashSet<>(Arrays.asList(SELECT_TASKS)), 1));
+
+    // when
+    taskService.createTaskQuery().taskName("aTask").list();
+    taskService.createTaskQuery().taskAssignee("kermit").list();
+
+    // then
+    List<QueryShapeStatistics> statistics = managementService.getSlowestQueryShapes(10);
+    assertThat(statistics).hasSize(1);
+    assertThat(statistics.get(0).getShape()).containsIgnoringCase("NAME_");
+  }
+
+  @Test
+  public void shouldSuggestIndexForUnindexedColumn() {
+    // given
+    taskService.createTaskQuery().taskName("aTask").list();
+
+    // when
+    List<QueryShapeStatistics> statistics = managementService.getSlowestQueryShapes(10);
+
+    // then
+    assertThat(statistics).hasSize(1);
+    List<String> suggestedIndexes = statistics.get(0).getSuggestedIndexes();
+    assertThat(suggestedIndexes).hasSize(1);
+    assertThat(suggestedIndexes.get(0))
+        .startsWith("create index")
+        .containsIgnoringCase("on ACT_RU_TASK (NAME_)");
+  }
+
+  @Test
+  public void shouldNotSuggestIndexForIndexedColumn() {
+    // given
+    taskService.createTaskQuery().taskAssignee("kermit").list();
+
+    // when
+    List<QueryShapeStatistics> statistics = managementService.getSlowestQueryShapes(10);
+
+    // then
+    assertThat(statistics).hasSize(1);
+    assertThat(statistics.get(0).getSuggestedIndexes()).isEmpty();
+  }
+
+  @Test
+  public void shouldClearStatistics() {
+    // given
+    taskService.createTaskQuery().list();
+
+    // when
+    managementService.clearQueryShapeStatistics();
+
+    // then
+    assertThat(managementService.getSlowestQueryShapes(10)).isEmpty();
+  }
+
+  @Test
+  public void shouldReturnNoStatisticsWhenDisabled() {
+    // given
+    setQueryShapeRecorder(null);
+
+    // when
+    taskService.createTaskQuery().list();
+
+    // then
+    assertThat(managementService.getSlowestQueryShapes(10)).isEmpty();
+  }
+
+  protected void setQueryShapeRecorder(QueryShapeRecorder queryShapeRecorder) {
+    processEngineConfiguration.setQueryShapeRecorder(queryShapeRecorder);
+    processEngineConfiguration.getDbSqlSessionFactory().setQueryShapeRecorder(queryShapeRecorder);
+  }
+
+}
@@ -241,6 +241,16 @@ public class MetricsTest {
     processEngineConfiguration.getDbMetricsReporter().setReporterId(null);
   }
 
+  @Test
+  public void testSkippedVariableUpdatesMeterIsRegisteredIfSkippingIsDisabled() {
+    // given
+    assertTrue(!processEngineConfiguration.isSkipUnchangedVariableUpdates());
+
+    // then the meter is available when skipping is enabled later on
+    assertTrue(processEngineConfiguration.getMetricsRegistry().getDbMeters()
+        .containsKey(Metrics.SKIPPED_VARIABLE_UPDATES));
+  }
+
   @Test
   public void testReportNow() {
     // indicate that db metrics reporter is active (although it is not)
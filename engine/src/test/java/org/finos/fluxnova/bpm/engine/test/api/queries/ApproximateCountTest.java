@@ -0,0 +1,211 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.finos.fluxnova.bpm.engine.test.api.queries;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collections;
+import java.util.Date;
+
+import org.finos.fluxnova.bpm.engine.HistoryService;
+import org.finos.fluxnova.bpm.engine.ProcessEngineConfiguration;
+import org.finos.fluxnova.bpm.engine.RuntimeService;
+import org.finos.fluxnova.bpm.engine.TaskService;
+import org.finos.fluxnova.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.finos.fluxnova.bpm.engine.impl.db.sql.QueryCountCache;
+import org.finos.fluxnova.bpm.engine.impl.util.ClockUtil;
+import org.finos.fluxnova.bpm.engine.query.CountResult;
+import org.finos.fluxnova.bpm.engine.test.ProcessEngineRule;
+import org.finos.fluxnova.bpm.engine.test.RequiredHistoryLevel;
+import org.finos.fluxnova.bpm.engine.test.util.ProcessEngineTestRule;
+import org.finos.fluxnova.bpm.engine.test.util.ProvidedProcessEngineRule;
+import org.finos.fluxnova.bpm.model.bpmn.Bpmn;
+import org.finos.fluxnova.bpm.model.bpmn.BpmnModelInstance;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.RuleChain;
+
+public class ApproximateCountTest {
+
+  public ProcessEngineRule engineRule = new ProvidedProcessEngineRule();
+
+  protected ProcessEngineTestRule testHelper = new ProcessEngineTestRule(engineRule);
+
+  @Rule
+  public RuleChain ruleChain = RuleChain.outerRule(engineRule).around(testHelper);
+
+  protected ProcessEngineConfigurationImpl processEngineConfiguration;
+  protected HistoryService historyService;
+  protected RuntimeService runtimeService;
+  protected TaskService taskService;
+
+  protected QueryCountCache defaultQueryCountCache;
+
+  protected BpmnModelInstance simpleProcess = Bpmn.createExecutableProcess("process")
+      .startEvent()
+      .userTask("task")
+        .name("aTask")
+      .endEvent()
+      .done();
+
+  @Before
+  public void assignServices() {
+    processEngineConfiguration = engineRule.getProcessEngineConfiguration();
+    historyService = engineRule.getHistoryService();
+    runtimeService = engineRule.getRuntimeService();
+    taskService = engineRule.getTaskService();
+
+    defaultQueryCountCache = processEngineConfiguration.getQueryCountCache();
+    defaultQueryCountCache.clear();
+
+    testHelper.deploy(simpleProcess);
+  }
+
+  @After
+  public void resetQueryCountCache() {
+    processEngineConfiguration.setQueryCountCache(defaultQueryCountCache);
+    defaultQueryCountCache.clear();
+    ClockUtil.reset();
+  }
+
+  @Test
+  public void shouldCountExactlyWhenNotCached() {
+    // given
+    startProcessInstances(2);
+
+    // when
+    CountResult countResult = taskService.createTaskQuery().approximateCount();
+
+    // then
+    assertThat(countResult.getCount()).isEqualTo(2);
+    assertThat(countResult.isExact()).isTrue();
+  }
+
+  @Test
+  public void shouldServeCachedCount() {
+    // given
+    startProcessInstances(2);
+    taskService.createTaskQuery().approximateCount();
+
+    startProcessInstances(1);
+
+    // when
+    CountResult countResult = taskService.createTaskQuery().approximateCount();
+
+    // then
+    assertThat(countResult.getCount()).isEqualTo(2);
+    assertThat(countResult.isExact()).isFalse();
+    assertThat(taskService.createTaskQuery().count()).isEqualTo(3);
+  }
+
+  @Test
+  public void shouldCountAgainAfterTimeToLive() {
+    // given
+    Date now = ClockUtil.getCurrentTime();
+    ClockUtil.setCurrentTime(now);
+    startProcessInstances(2);
+    taskService.createTaskQuery().approximateCount();
+
+    startProcessInstances(1);
+    ClockUtil.setCurrentTime(new Date(now.getTime() + processEngineConfiguration.getQueryCountCacheTimeToLive()));
+
+    // when
+    CountResult countResult = taskService.createTaskQuery().approximateCount();
+
+    // then
+    assertThat(countResult.getCount()).isEqualTo(3);
+    assertThat(countResult.isExact()).isTrue();
+  }
+
+  @Test
+  public void shouldCacheCountPerQueryParameters() {
+    // given
+    startProcessInstances(2);
+    taskService.createTaskQuery().taskName("aTask").approximateCount();
+
+    // when
+    CountResult otherName = taskService.createTaskQuery().taskName("anotherTask").approximateCount();
+    CountResult sameName = taskService.createTaskQuery().taskName("aTask").approximateCount();
+
+    // then
+    assertThat(otherName.getCount()).isZero();
+    assertThat(otherName.isExact()).isTrue();
+    assertThat(sameName.getCount()).isEqualTo(2);
+    assertThat(sameName.isExact()).isFalse();
+  }
+
+  @Test
+  public void shouldCacheCountPerQueryType() {
+    // given
+    startProcessInstances(2);
+    taskService.createTaskQuery().approximateCount();
+
+    // when
+    CountResult countResult = runtimeService.createProcessInstanceQuery().approximateCount();
+
+    // then
+    assertThat(countResult.getCount()).isEqualTo(2);
+    assertThat(countResult.isExact()).isTrue();
+  }
+
+  @Test
+  @RequiredHistoryLevel(ProcessEngineConfiguration.HISTORY_ACTIVITY)
+  public void shouldApplyTimeToLivePerQuery() {
+    // given
+    processEngineConfiguration.setQueryCountCache(
+        new QueryCountCache(10, 30000, Collections.singletonMap("TaskQuery", 0L), false));
+
+    startProcessInstances(2);
+    taskService.createTaskQuery().approximateCount();
+    historyService.createHistoricProcessInstanceQuery().approximateCount();
+
+    startProcessInstances(1);
+
+    // when
+    CountResult taskCount = taskService.createTaskQuery().approximateCount();
+    CountResult historicProcessInstanceCount = historyService.createHistoricProcessInstanceQuery().approximateCount();
+
+    // then
+    assertThat(taskCount.getCount()).isEqualTo(3);
+    assertThat(taskCount.isExact()).isTrue();
+    assertThat(historicProcessInstanceCount.getCount()).isEqualTo(2);
+    assertThat(historicProcessInstanceCount.isExact()).isFalse();
+  }
+
+  @Test
+  public void shouldNotEstimateCountOnUnsupportedDatabase() {
+    // given
+    processEngineConfiguration.setQueryCountCache(new QueryCountCache(10, 0, null, true));
+    startProcessInstances(2);
+
+    // when
+    CountResult countResult = taskService.createTaskQuery().approximateCount();
+
+    // then
+    assertThat(countResult.getCount()).isEqualTo(2);
+    assertThat(countResult.isExact()).isTrue();
+  }
+
+  protected void startProcessInstances(int count) {
+    for (int i = 0; i < count; i++) {
+      runtimeService.startProcessInstanceByKey("process");
+    }
+  }
+
+}
@@ -493,6 +493,24 @@ public class ProcessInstanceQueryTest {
     assertEquals(3, runtimeService.createProcessInstanceQuery().processDefinitionKey(PROCESS_DEFINITION_KEY).listPage(1, 3).size());
   }
 
+  @Test
+  public void testQueryKeysetPaging() {
+    ProcessInstanceQuery query = runtimeService.createProcessInstanceQuery().processDefinitionKey(PROCESS_DEFINITION_KEY);
+
+    List<ProcessInstance> firstPage = query.listAfter(null, 3);
+    assertEquals(3, firstPage.size());
+    verifySorting(firstPage, processInstanceByProcessInstanceId());
+
+    List<ProcessInstance> secondPage = query.listAfter(firstPage.get(2).getId(), 3);
+    assertEquals(1, secondPage.size());
+    assertTrue(secondPage.get(0).getId().compareTo(firstPage.get(2).getId()) > 0);
+
+    assertEquals(0, query.listAfter(secondPage.get(0).getId(), 3).size());
+
+    // the cursor does not leak into subsequent queries
+    assertEquals(4, query.count());
+  }
+
   @Test
   public void testQuerySorting() {
     List<ProcessInstance> processInstances = runtimeService.createProcessInstanceQuery().orderByProcessInstanceId().asc().list();
@@ -33,6 +33,8 @@ import org.finos.fluxnova.bpm.engine.ProcessEngineException;
 import org.finos.fluxnova.bpm.engine.batch.Batch;
 import org.finos.fluxnova.bpm.engine.delegate.ExecutionListener;
 import org.finos.fluxnova.bpm.engine.history.HistoricProcessInstanceQuery;
+import org.finos.fluxnova.bpm.engine.history.UserOperationLogEntry;
+import org.finos.fluxnova.bpm.engine.impl.util.ClockUtil;
 import org.finos.fluxnova.bpm.engine.repository.ProcessDefinition;
 import org.finos.fluxnova.bpm.engine.runtime.Job;
 import org.finos.fluxnova.bpm.engine.runtime.ProcessInstance;
@@ -47,6 +49,7 @@ import org.finos.fluxnova.bpm.engine.test.api.runtime.util.IncrementCounterListe
 import org.finos.fluxnova.bpm.engine.test.util.ProcessEngineTestRule;
 import org.finos.fluxnova.bpm.engine.test.util.ProvidedProcessEngineRule;
 import org.finos.fluxnova.bpm.model.bpmn.BpmnModelInstance;
+import org.junit.After;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -74,6 +77,12 @@ public class RuntimeServiceAsyncOperationsTest extends AbstractAsyncOperationsTe
     initDefaults(engineRule);
   }
 
+  @After
+  public void resetLazyBatchQueryResolution() {
+    engineRule.getProcessEngineConfiguration().setLazyBatchQueryResolution(false);
+    ClockUtil.reset();
+  }
+
   @Deployment(resources = {
       "org/finos/fluxnova/bpm/engine/test/api/oneTaskProcess.bpmn20.xml"})
   @Test
@@ -329,6 +338,104 @@ public class RuntimeServiceAsyncOperationsTest extends AbstractAsyncOperationsTe
 
   }
 
+  @Deployment(resources = {
+      "org/finos/fluxnova/bpm/engine/test/api/oneTaskProcess.bpmn20.xml"})
+  @RequiredHistoryLevel(ProcessEngineConfiguration.HISTORY_FULL)
+  @Test
+  public void shouldResolveQueryLazilyOnDeleteProcessInstancesAsync() {
+    // given
+    engineRule.getProcessEngineConfiguration().setLazyBatchQueryResolution(true);
+    engineRule.getProcessEngineConfiguration().setInvocationsPerBatchJob(2);
+    engineRule.getProcessEngineConfiguration().setBatchJobsPerSeed(2);
+
+    List<String> processIds = startTestProcesses(7);
+    ProcessInstanceQuery processInstanceQuery = runtimeService.createProcessInstanceQuery()
+        .processDefinitionKey(ONE_TASK_PROCESS);
+
+    // when
+    engineRule.getIdentityService().setAuthenticatedUserId("demo");
+    Batch batch = runtimeService.deleteProcessInstancesAsync(processInstanceQuery, TESTING_INSTANCE_DELETE);
+    engineRule.getIdentityService().clearAuthentication();
+
+    // then the query has not been resolved yet
+    assertThat(batch.getTotalJobs()).isZero();
+
+    // but the number of instances is logged
+    UserOperationLogEntry logEntry = historyService.createUserOperationLogQuery()
+        .property("nrOfInstances")
+        .singleResult();
+    assertThat(logEntry.getNewValue()).isEqualTo("7");
+
+    // and instances started after the batch creation are not resolved by the seed job
+    ClockUtil.offset(1000L);
+    String lateProcessId = startTestProcesses(1).get(0);
+
+    // a full page of 4 instances and a partial one of 3 instances
+    executeSeedJobs(batch, 2);
+
+    Batch seededBatch = managementService.createBatchQuery().batchId(batch.getId()).singleResult();
+    assertThat(seededBatch.getTotalJobs()).isEqualTo(4);
+    assertThat(seededBatch.getJobsCreated()).isEqualTo(4);
+
+    executeBatchJobs(batch);
+
+    assertHistoricTaskDeletionPresent(processIds, TESTING_INSTANCE_DELETE, testRule);
+    assertThat(runtimeService.createProcessInstanceQuery().list())
+        .extracting(ProcessInstance::getId)
+        .containsExactly(lateProcessId);
+  }
+
+  @Test
+  public void shouldCreateDeploymentAwareJobsWhenResolvingQueryLazily() {
+    // given
+    engineRule.getProcessEngineConfiguration().setLazyBatchQueryResolution(true);
+    engineRule.getProcessEngineConfiguration().setInvocationsPerBatchJob(2);
+    engineRule.getProcessEngineConfiguration().setBatchJobsPerSeed(3);
+
+    ProcessDefinition sourceDefinition1 = testRule
+        .deployAndGetDefinition(modify(ProcessModels.ONE_TASK_PROCESS).changeElementId(ProcessModels.PROCESS_KEY, "ONE_TASK_PROCESS"));
+    ProcessDefinition sourceDefinition2 = testRule
+        .deployAndGetDefinition(modify(ProcessModels.TWO_TASKS_PROCESS).changeElementId(ProcessModels.PROCESS_KEY, "TWO_TASKS_PROCESS"));
+    createProcessInstances(sourceDefinition1, sourceDefinition2, 15, 10);
+    String firstDeploymentId = sourceDefinition1.getDeploymentId();
+    String secondDeploymentId = sourceDefinition2.getDeploymentId();
+
+    ProcessInstanceQuery processInstanceQuery = runtimeService.createProcessInstanceQuery()
+        .processDefinitionKeyIn("ONE_TASK_PROCESS", "TWO_TASKS_PROCESS");
+
+    // when
+    Batch batch = runtimeService.deleteProcessInstancesAsync(processInstanceQuery, "test_reason");
+    completeSeedJobs(batch);
+
+    // then
+    List<Job> jobs = managementService.createJobQuery().jobDefinitionId(batch.getBatchJobDefinitionId()).list();
+    assertThat(jobs).extracting(Job::getDeploymentId).containsOnly(firstDeploymentId, secondDeploymentId);
+
+    // the jobs of the first deployment only delete instances of the first deployment
+    getJobIdsByDeployment(jobs, firstDeploymentId).forEach(managementService::executeJob);
+    assertEquals(0, runtimeService.createProcessInstanceQuery().deploymentId(firstDeploymentId).count());
+    assertEquals(10, runtimeService.createProcessInstanceQuery().deploymentId(secondDeploymentId).count());
+
+    getJobIdsByDeployment(jobs, secondDeploymentId).forEach(managementService::executeJob);
+    assertProcessInstancesAreDeleted();
+  }
+
+  @Deployment(resources = {
+      "org/finos/fluxnova/bpm/engine/test/api/oneTaskProcess.bpmn20.xml"})
+  @Test
+  public void shouldFailToResolveEmptyQueryLazily() {
+    // given
+    engineRule.getProcessEngineConfiguration().setLazyBatchQueryResolution(true);
+    startTestProcesses(2);
+    ProcessInstanceQuery query = runtimeService.createProcessInstanceQuery()
+        .processInstanceBusinessKey("invalid");
+
+    // when/then
+    assertThatThrownBy(() -> runtimeService.deleteProcessInstancesAsync(query, TESTING_INSTANCE_DELETE))
+      .isInstanceOf(ProcessEngineException.class)
+      .hasMessageContaining("processInstanceIds is empty");
+  }
+
   protected void assertProcessInstancesAreDeleted() {
     assertThat(runtimeService.createProcessInstanceQuery().list().size()).isEqualTo(0);
   }
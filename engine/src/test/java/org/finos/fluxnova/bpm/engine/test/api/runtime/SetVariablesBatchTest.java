@@ -81,11 +81,14 @@ public class SetVariablesBatchTest {
   protected HistoryService historyService;
   protected ManagementService managementService;
 
+  protected int defaultBatchChunkThreshold;
+
   @Before
   public void assignServices() {
     runtimeService = engineRule.getRuntimeService();
     historyService = engineRule.getHistoryService();
     managementService = engineRule.getManagementService();
+    defaultBatchChunkThreshold = engineRule.getProcessEngineConfiguration().getBatchChunkThreshold();
   }
 
   @Before
@@ -98,6 +101,11 @@ public class SetVariablesBatchTest {
     engineTestRule.deploy(process);
   }
 
+  @After
+  public void resetBatchChunkThreshold() {
+    engineRule.getProcessEngineConfiguration().setBatchChunkThreshold(defaultBatchChunkThreshold);
+  }
+
   @After
   public void clearAuthentication() {
     ClockUtil.reset();
@@ -552,6 +560,41 @@ public class SetVariablesBatchTest {
     managementService.deleteBatch(batch.getId(), true);
   }
 
+  @Test
+  public void shouldCreateDeploymentAwareBatchJobs_FromChunks() {
+    // given
+    engineRule.getProcessEngineConfiguration()
+      .setBatchChunkThreshold(2);
+
+    runtimeService.startProcessInstanceByKey(PROCESS_KEY);
+    runtimeService.startProcessInstanceByKey(PROCESS_KEY);
+    deployProcess();
+    runtimeService.startProcessInstanceByKey(PROCESS_KEY);
+
+    List<Deployment> list = engineRule.getRepositoryService().createDeploymentQuery().list();
+    String deploymentIdOne = list.get(0).getId();
+    String deploymentIdTwo = list.get(1).getId();
+
+    ProcessInstanceQuery runtimeQuery = runtimeService.createProcessInstanceQuery();
+
+    // when
+    Batch batch = runtimeService.setVariablesAsync(runtimeQuery, SINGLE_VARIABLE);
+
+    // then one seed job invocation per deployment is needed
+    assertThat(batchRule.executeSeedJobs(batch)).hasSize(2);
+
+    List<Job> executionJobs = batchRule.getExecutionJobs(batch);
+    assertThat(executionJobs)
+        .extracting("deploymentId")
+        .containsExactlyInAnyOrder(deploymentIdOne, deploymentIdOne, deploymentIdTwo);
+
+    // when
+    batchRule.syncExec(batch);
+
+    // then
+    assertThat(runtimeService.createVariableInstanceQuery().variableName("foo").count()).isEqualTo(3);
+  }
+
   @Test
   public void shouldCreateDeploymentAwareBatchJobs_ByRuntimeQuery() {
     // given
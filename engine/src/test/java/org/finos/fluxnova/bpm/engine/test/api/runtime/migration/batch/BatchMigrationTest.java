@@ -92,6 +92,7 @@ public class BatchMigrationTest {
 
   protected int defaultBatchJobsPerSeed;
   protected int defaultInvocationsPerBatchJob;
+  protected int defaultBatchChunkThreshold;
   protected boolean defaultEnsureJobDueDateSet;
 
   @Rule
@@ -123,6 +124,7 @@ public class BatchMigrationTest {
     configuration = engineRule.getProcessEngineConfiguration();
     defaultBatchJobsPerSeed = configuration.getBatchJobsPerSeed();
     defaultInvocationsPerBatchJob = configuration.getInvocationsPerBatchJob();
+    defaultBatchChunkThreshold = configuration.getBatchChunkThreshold();
     defaultEnsureJobDueDateSet = configuration.isEnsureJobDueDateNotNull();
     configuration.setEnsureJobDueDateNotNull(ensureJobDueDateSet);
   }
@@ -141,6 +143,7 @@ public class BatchMigrationTest {
   public void restoreEngineSettings() {
     configuration.setBatchJobsPerSeed(defaultBatchJobsPerSeed);
     configuration.setInvocationsPerBatchJob(defaultInvocationsPerBatchJob);
+    configuration.setBatchChunkThreshold(defaultBatchChunkThreshold);
     configuration.setEnsureJobDueDateNotNull(defaultEnsureJobDueDateSet);
   }
 
@@ -478,6 +481,71 @@ public class BatchMigrationTest {
     assertNull(helper.getSeedJob(batch));
   }
 
+  @Test
+  public void testChunkedMigrationJobsCreation() {
+    ProcessEngineConfigurationImpl configuration = engineRule.getProcessEngineConfiguration();
+    configuration.setBatchChunkThreshold(5);
+    configuration.setBatchJobsPerSeed(2);
+    configuration.setInvocationsPerBatchJob(2);
+
+    // when
+    Batch batch = helper.migrateProcessInstancesAsync(11);
+
+    // then the ids are stored in chunks of one seed job invocation each
+    assertEquals(6, batch.getTotalJobs());
+    assertEquals(3, countBatchChunks(batch));
+
+    // when the seed job is executed
+    helper.executeSeedJob(batch);
+
+    // then the jobs of the first chunk exist and the chunk is removed
+    assertEquals(2, helper.getExecutionJobs(batch).size());
+    assertEquals(2, countBatchChunks(batch));
+
+    String sourceDeploymentId = helper.getSourceProcessDefinition().getDeploymentId();
+    for (Job migrationJob : helper.getExecutionJobs(batch)) {
+      assertEquals(sourceDeploymentId, migrationJob.getDeploymentId());
+    }
+
+    // when the seed job is executed for the remaining chunks
+    helper.executeSeedJob(batch);
+    helper.executeSeedJob(batch);
+
+    // then all migration jobs exist
+    assertEquals(6, helper.getExecutionJobs(batch).size());
+    assertEquals(0, countBatchChunks(batch));
+
+    // and the seed job is replaced by the monitor job
+    assertNull(helper.getSeedJob(batch));
+    assertNotNull(helper.getMonitorJob(batch));
+
+    // when
+    helper.executeJobs(batch);
+    helper.executeMonitorJob(batch);
+
+    // then all process instances were migrated
+    assertEquals(0, helper.countSourceProcessInstances());
+    assertEquals(11, helper.countTargetProcessInstances());
+    assertEquals(0, managementService.createBatchQuery().count());
+  }
+
+  @Test
+  public void testChunkedBatchDeletion() {
+    ProcessEngineConfigurationImpl configuration = engineRule.getProcessEngineConfiguration();
+    configuration.setBatchChunkThreshold(5);
+    configuration.setBatchJobsPerSeed(2);
+
+    Batch batch = helper.migrateProcessInstancesAsync(10);
+    helper.executeSeedJob(batch);
+
+    // when
+    managementService.deleteBatch(batch.getId(), true);
+
+    // then the remaining chunks were deleted with the batch
+    assertEquals(0, countBatchChunks(batch));
+    assertEquals(0, managementService.createBatchQuery().count());
+  }
+
   @Test
   public void testMonitorJobPollingForCompletion() {
     ClockUtil.setCurrentTime(TEST_DATE);
@@ -943,6 +1011,12 @@ public class BatchMigrationTest {
     Assertions.assertThat(historicBatch.getExecutionStartTime()).isEqualToIgnoringMillis(TEST_DATE);
   }
 
+  protected long countBatchChunks(Batch batch) {
+    return engineRule.getProcessEngineConfiguration()
+        .getCommandExecutorTxRequired()
+        .execute(commandContext -> commandContext.getBatchChunkManager().findBatchChunkCountByBatchId(batch.getId()));
+  }
+
   protected void assertBatchCreated(Batch batch, int processInstanceCount) {
     assertNotNull(batch);
     assertNotNull(batch.getId());
@@ -59,6 +59,7 @@ import java.util.stream.Collectors;
 import org.finos.fluxnova.bpm.engine.BadUserRequestException;
 import org.finos.fluxnova.bpm.engine.ProcessEngineConfiguration;
 import org.finos.fluxnova.bpm.engine.ProcessEngineException;
+import org.finos.fluxnova.bpm.engine.exception.NotValidException;
 import org.finos.fluxnova.bpm.engine.exception.NullValueException;
 import org.finos.fluxnova.bpm.engine.filter.Filter;
 import org.finos.fluxnova.bpm.engine.form.FluxnovaFormRef;
@@ -2349,6 +2350,69 @@ public class TaskQueryTest extends PluggableProcessEngineTest {
     assertEquals(10, query.listPage(0, 15).size()); // there are only 10 tasks
   }
 
+  @Test
+  public void testQueryKeysetPaging() {
+    TaskQuery query = taskService.createTaskQuery().taskCandidateUser("kermit");
+    List<String> expectedIds = query.list().stream().map(Task::getId).sorted().collect(Collectors.toList());
+
+    List<String> pagedIds = new ArrayList<>();
+    List<Task> page = query.listAfter(null, 3);
+    while (!page.isEmpty()) {
+      assertTrue(page.size() <= 3);
+      page.forEach(task -> pagedIds.add(task.getId()));
+      page = query.listAfter(page.get(page.size() - 1).getId(), 3);
+    }
+
+    assertEquals(expectedIds, pagedIds);
+    assertEquals(0, query.listAfter(expectedIds.get(9), 3).size());
+  }
+
+  @Test
+  public void testQueryKeysetPagingWithOrdering() {
+    TaskQuery query = taskService.createTaskQuery().orderByTaskName().asc();
+
+    assertThatThrownBy(() -> query.listAfter(null, 3))
+      .isInstanceOf(NotValidException.class)
+      .hasMessageContaining("cannot be combined with orderByXX()");
+  }
+
+  @Test
+  public void testQueryKeysetPagingNotSupported() {
+    assertThatThrownBy(() -> repositoryService.createDeploymentQuery().listAfter(null, 3))
+      .isInstanceOf(NotValidException.class)
+      .hasMessageContaining("keyset pagination is not supported");
+  }
+
+  @Test
+  public void testQueryForEach() {
+    TaskQuery query = taskService.createTaskQuery().taskCandidateUser("kermit");
+    List<String> expectedIds = query.list().stream().map(Task::getId).collect(Collectors.toList());
+
+    List<String> streamedIds = new ArrayList<>();
+    query.forEach(task -> streamedIds.add(task.getId()));
+
+    assertEquals(expectedIds, streamedIds);
+  }
+
+  @Test
+  public void testQueryForEachWithOrdering() {
+    TaskQuery query = taskService.createTaskQuery().orderByTaskName().desc();
+    List<String> expectedIds = query.list().stream().map(Task::getId).collect(Collectors.toList());
+
+    List<String> streamedIds = new ArrayList<>();
+    query.forEach(task -> streamedIds.add(task.getId()));
+
+    assertEquals(12, streamedIds.size());
+    assertEquals(expectedIds, streamedIds);
+  }
+
+  @Test
+  public void testQueryForEachNotSupported() {
+    assertThatThrownBy(() -> repositoryService.createDeploymentQuery().forEach(deployment -> {}))
+      .isInstanceOf(NotValidException.class)
+      .hasMessageContaining("streaming is not supported");
+  }
+
   @Test
   public void testQuerySorting() {
     // default ordering is by id
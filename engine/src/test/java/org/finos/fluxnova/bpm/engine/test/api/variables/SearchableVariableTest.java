@@ -0,0 +1,366 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.finos.fluxnova.bpm.engine.test.api.variables;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+
+import org.finos.fluxnova.bpm.engine.RuntimeService;
+import org.finos.fluxnova.bpm.engine.TaskService;
+import org.finos.fluxnova.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.finos.fluxnova.bpm.engine.impl.db.entitymanager.DbEntityManager;
+import org.finos.fluxnova.bpm.engine.impl.persistence.deploy.cache.DeploymentCache;
+import org.finos.fluxnova.bpm.engine.impl.persistence.entity.VariableSearchEntity;
+import org.finos.fluxnova.bpm.engine.migration.MigrationPlan;
+import org.finos.fluxnova.bpm.engine.repository.ProcessDefinition;
+import org.finos.fluxnova.bpm.engine.runtime.ProcessInstance;
+import org.finos.fluxnova.bpm.engine.task.Task;
+import org.finos.fluxnova.bpm.engine.test.ProcessEngineRule;
+import org.finos.fluxnova.bpm.engine.test.util.ProcessEngineTestRule;
+import org.finos.fluxnova.bpm.engine.test.util.ProvidedProcessEngineRule;
+import org.finos.fluxnova.bpm.engine.variable.Variables;
+import org.finos.fluxnova.bpm.model.bpmn.Bpmn;
+import org.finos.fluxnova.bpm.model.bpmn.BpmnModelInstance;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.RuleChain;
+
+public class SearchableVariableTest {
+
+  protected static final String PROCESS_KEY = "process";
+
+  public ProcessEngineRule engineRule = new ProvidedProcessEngineRule();
+
+  protected ProcessEngineTestRule testHelper = new ProcessEngineTestRule(engineRule);
+
+  @Rule
+  public RuleChain ruleChain = RuleChain.outerRule(engineRule).around(testHelper);
+
+  protected ProcessEngineConfigurationImpl processEngineConfiguration;
+  protected RuntimeService runtimeService;
+  protected TaskService taskService;
+
+  @Before
+  public void setUp() {
+    processEngineConfiguration = engineRule.getProcessEngineConfiguration();
+    runtimeService = engineRule.getRuntimeService();
+    taskService = engineRule.getTaskService();
+  }
+
+  @Test
+  public void shouldOnlyKeepDeclaredVariables() {
+    // given
+    testHelper.deploy(searchableProcess());
+
+    // when
+    ProcessInstance processInstance = runtimeService.startProcessInstanceByKey(PROCESS_KEY,
+        Variables.createVariables().putValue("orderId", "A-1").putValue("other", "x"));
+
+    // then
+    List<VariableSearchEntity> searchEntities = findSearchEntities(processInstance.getId());
+    assertThat(searchEntities).hasSize(1);
+    assertThat(searchEntities.get(0).getName()).isEqualTo("orderId");
+    assertThat(searchEntities.get(0).getTextValue()).isEqualTo("A-1");
+    assertThat(searchEntities.get(0).getProcessDefinitionId()).isEqualTo(processInstance.getProcessDefinitionId());
+  }
+
+  @Test
+  public void shouldQueryTasksBySearchableProcessVariable() {
+    // given
+    testHelper.deploy(searchableProcess());
+    startInstance("A-1", 10L);
+    ProcessInstance processInstance = startInstance("B-2", 20L);
+    startInstance("C-3", 30L);
+
+    // then
+    assertThat(taskService.createTaskQuery().processDefinitionKey(PROCESS_KEY)
+        .processVariableValueEquals("orderId", "B-2").singleResult().getProcessInstanceId())
+      .isEqualTo(processInstance.getId());
+    assertThat(taskService.createTaskQuery().processDefinitionKey(PROCESS_KEY)
+        .processVariableValueGreaterThan("amount", 15L).count()).isEqualTo(2);
+    assertThat(taskService.createTaskQuery().processDefinitionKey(PROCESS_KEY)
+        .processVariableValueLike("orderId", "%-2").count()).isEqualTo(1);
+    assertThat(taskService.createTaskQuery().processDefinitionKey(PROCESS_KEY)
+        .processVariableValueNotEquals("orderId", "B-2").count()).isEqualTo(2);
+    assertThat(taskService.createTaskQuery().processDefinitionKey(PROCESS_KEY)
+        .processVariableValueEquals("orderId", "D-4").count()).isZero();
+  }
+
+  @Test
+  public void shouldQueryTasksBySearchableTaskVariable() {
+    // given
+    testHelper.deploy(searchableProcess());
+    startInstance("A-1", 10L);
+    ProcessInstance processInstance = startInstance("B-2", 20L);
+    Task task = taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult();
+
+    // when
+    taskService.setVariableLocal(task.getId(), "orderId", "local");
+
+    // then
+    assertThat(taskService.createTaskQuery().processDefinitionKey(PROCESS_KEY)
+        .taskVariableValueEquals("orderId", "local").singleResult().getId())
+      .isEqualTo(task.getId());
+    assertThat(taskService.createTaskQuery().processDefinitionKey(PROCESS_KEY)
+        .processVariableValueEquals("orderId", "local").count()).isZero();
+    assertThat(taskService.createTaskQuery().processDefinitionKey(PROCESS_KEY)
+        .processVariableValueEquals("orderId", "B-2").count()).isEqualTo(1);
+  }
+
+  @Test
+  public void shouldQueryProcessInstancesBySearchableVariable() {
+    // given
+    ProcessDefinition processDefinition = testHelper.deployAndGetDefinition(searchableProcess());
+    startInstance("A-1", 10L);
+    ProcessInstance processInstance = startInstance("B-2", 20L);
+
+    // then
+    assertThat(runtimeService.createProcessInstanceQuery().processDefinitionId(processDefinition.getId())
+        .variableValueEquals("orderId", "B-2").singleResult().getId())
+      .isEqualTo(processInstance.getId());
+    assertThat(runtimeService.createProcessInstanceQuery().processDefinitionId(processDefinition.getId())
+        .variableValueLessThanOrEqual("amount", 20L).count()).isEqualTo(2);
+    assertThat(runtimeService.createProcessInstanceQuery().processDefinitionKey(PROCESS_KEY)
+        .or()
+          .variableValueEquals("orderId", "A-1")
+          .variableValueEquals("orderId", "B-2")
+        .endOr()
+        .count()).isEqualTo(2);
+  }
+
+  @Test
+  public void shouldUseSearchTableForRestrictedQueries() {
+    // given
+    testHelper.deploy(searchableProcess());
+    ProcessInstance processInstance = startInstance("A-1", 10L);
+
+    // when the rows are removed behind the engine's back
+    deleteSearchEntities(processInstance.getId());
+
+    // then only queries restricted to the declaring process definitions miss the variable
+    assertThat(taskService.createTaskQuery().processDefinitionKey(PROCESS_KEY)
+        .processVariableValueEquals("orderId", "A-1").count()).isZero();
+    assertThat(taskService.createTaskQuery()
+        .processVariableValueEquals("orderId", "A-1").count()).isEqualTo(1);
+    assertThat(taskService.createTaskQuery().processDefinitionKey(PROCESS_KEY)
+        .processVariableValueEquals("other", "x").count()).isEqualTo(1);
+  }
+
+  @Test
+  public void shouldNotUseSearchTableIfNotAllVersionsDeclareVariable() {
+    // given
+    testHelper.deploy(Bpmn.createExecutableProcess(PROCESS_KEY)
+        .startEvent()
+        .userTask("task")
+        .endEvent()
+        .done());
+    runtimeService.startProcessInstanceByKey(PROCESS_KEY, Variables.createVariables().putValue("orderId", "A-1"));
+
+    testHelper.deploy(searchableProcess());
+    startInstance("B-2", 20L);
+
+    // then
+    assertThat(taskService.createTaskQuery().processDefinitionKey(PROCESS_KEY)
+        .processVariableValueEquals("orderId", "A-1").count()).isEqualTo(1);
+    assertThat(taskService.createTaskQuery().processDefinitionKey(PROCESS_KEY)
+        .processVariableValueEquals("orderId", "B-2").count()).isEqualTo(1);
+  }
+
+  @Test
+  public void shouldOnlyLookUpSearchableVariablesForVariableFilters() {
+    // given
+    ProcessDefinition processDefinition = testHelper.deployAndGetDefinition(searchableProcess());
+    startInstance("A-1", 10L);
+    DeploymentCache deploymentCache = processEngineConfiguration.getDeploymentCache();
+    deploymentCache.discardProcessDefinitionCache();
+
+    // when
+    taskService.createTaskQuery().processDefinitionId(processDefinition.getId()).list();
+    runtimeService.createProcessInstanceQuery().processDefinitionKey(PROCESS_KEY).list();
+
+    // then
+    assertThat(deploymentCache.findSearchableVariableNamesFromCache(processDefinition.getId())).isNull();
+    assertThat(deploymentCache.findProcessDefinitionFromCache(processDefinition.getId())).isNull();
+
+    // when
+    assertThat(taskService.createTaskQuery().processDefinitionKey(PROCESS_KEY)
+        .or()
+          .processVariableValueEquals("orderId", "A-1")
+          .taskName("unknown")
+        .endOr()
+        .count()).isEqualTo(1);
+
+    // then
+    assertThat(deploymentCache.findSearchableVariableNamesFromCache(processDefinition.getId()))
+      .containsExactly("orderId", "amount", "note");
+  }
+
+  @Test
+  public void shouldCacheSearchableVariableNamesBeyondProcessDefinition() {
+    // given
+    ProcessDefinition processDefinition = testHelper.deployAndGetDefinition(searchableProcess());
+    startInstance("A-1", 10L);
+    assertThat(taskService.createTaskQuery().processDefinitionId(processDefinition.getId())
+        .processVariableValueEquals("orderId", "A-1").count()).isEqualTo(1);
+
+    // when the process definition is evicted from the deployment cache
+    processEngineConfiguration.getDeploymentCache().getProcessDefinitionCache().remove(processDefinition.getId());
+
+    // then the query does not load it again
+    assertThat(taskService.createTaskQuery().processDefinitionId(processDefinition.getId())
+        .processVariableValueEquals("orderId", "A-1").count()).isEqualTo(1);
+    assertThat(processEngineConfiguration.getDeploymentCache()
+        .findProcessDefinitionFromCache(processDefinition.getId())).isNull();
+  }
+
+  @Test
+  public void shouldUpdateSearchableVariable() {
+    // given
+    testHelper.deploy(searchableProcess());
+    ProcessInstance processInstance = startInstance("A-1", 10L);
+
+    // when
+    runtimeService.setVariable(processInstance.getId(), "orderId", "A-2");
+    runtimeService.setVariable(processInstance.getId(), "amount", 11.5d);
+
+    // then
+    assertThat(taskService.createTaskQuery().processDefinitionKey(PROCESS_KEY)
+        .processVariableValueEquals("orderId", "A-1").count()).isZero();
+    assertThat(taskService.createTaskQuery().processDefinitionKey(PROCESS_KEY)
+        .processVariableValueEquals("orderId", "A-2").count()).isEqualTo(1);
+    assertThat(taskService.createTaskQuery().processDefinitionKey(PROCESS_KEY)
+        .processVariableValueGreaterThan("amount", 11.0d).count()).isEqualTo(1);
+  }
+
+  @Test
+  public void shouldMatchLongTextValues() {
+    // given
+    testHelper.deploy(searchableProcess());
+    String prefix = repeat('a', VariableSearchEntity.TEXT_PREFIX_LENGTH);
+    startInstance(prefix + "-1", 10L);
+    ProcessInstance processInstance = startInstance(prefix + "-2", 20L);
+
+    // then
+    assertThat(taskService.createTaskQuery().processDefinitionKey(PROCESS_KEY)
+        .processVariableValueEquals("orderId", prefix + "-2").singleResult().getProcessInstanceId())
+      .isEqualTo(processInstance.getId());
+    assertThat(taskService.createTaskQuery().processDefinitionKey(PROCESS_KEY)
+        .processVariableValueEquals("orderId", prefix).count()).isZero();
+  }
+
+  @Test
+  public void shouldDeleteSearchableVariables() {
+    // given
+    testHelper.deploy(searchableProcess());
+    ProcessInstance processInstance = startInstance("A-1", 10L);
+    Task task = taskService.createTaskQuery().singleResult();
+    taskService.setVariableLocal(task.getId(), "note", "local");
+
+    // when
+    runtimeService.removeVariable(processInstance.getId(), "amount");
+
+    // then
+    assertThat(findSearchEntities(processInstance.getId())).hasSize(2);
+    assertThat(taskService.createTaskQuery().processDefinitionKey(PROCESS_KEY)
+        .processVariableValueEquals("amount", 10L).count()).isZero();
+
+    // when
+    taskService.complete(task.getId());
+
+    // then
+    assertThat(findSearchEntities(processInstance.getId())).isEmpty();
+  }
+
+  @Test
+  public void shouldReindexOnMigration() {
+    // given
+    ProcessDefinition sourceDefinition = testHelper.deployAndGetDefinition(Bpmn.createExecutableProcess(PROCESS_KEY)
+        .startEvent()
+        .userTask("task")
+        .endEvent()
+        .done());
+    ProcessDefinition targetDefinition = testHelper.deployAndGetDefinition(Bpmn.createExecutableProcess(PROCESS_KEY)
+        .fluxnovaSearchableVariables("amount")
+        .startEvent()
+        .userTask("task")
+        .endEvent()
+        .done());
+    ProcessInstance processInstance = runtimeService.startProcessInstanceById(sourceDefinition.getId(),
+        Variables.createVariables().putValue("orderId", "A-1").putValue("amount", 10L));
+
+    MigrationPlan migrationPlan = runtimeService.createMigrationPlan(sourceDefinition.getId(), targetDefinition.getId())
+        .mapEqualActivities()
+        .build();
+
+    // when
+    runtimeService.newMigration(migrationPlan).processInstanceIds(processInstance.getId()).execute();
+
+    // then
+    List<VariableSearchEntity> searchEntities = findSearchEntities(processInstance.getId());
+    assertThat(searchEntities).hasSize(1);
+    assertThat(searchEntities.get(0).getName()).isEqualTo("amount");
+    assertThat(searchEntities.get(0).getProcessDefinitionId()).isEqualTo(targetDefinition.getId());
+    assertThat(taskService.createTaskQuery().processDefinitionId(targetDefinition.getId())
+        .processVariableValueEquals("amount", 10L).count()).isEqualTo(1);
+  }
+
+  protected BpmnModelInstance searchableProcess() {
+    return Bpmn.createExecutableProcess(PROCESS_KEY)
+        .fluxnovaSearchableVariables("orderId", "amount", "note")
+        .startEvent()
+        .userTask("task")
+        .endEvent()
+        .done();
+  }
+
+  protected ProcessInstance startInstance(String orderId, long amount) {
+    Map<String, Object> variables = Variables.createVariables()
+        .putValue("orderId", orderId)
+        .putValue("amount", amount)
+        .putValue("other", "x");
+    return runtimeService.startProcessInstanceByKey(PROCESS_KEY, variables);
+  }
+
+  @SuppressWarnings("unchecked")
+  protected List<VariableSearchEntity> findSearchEntities(String processInstanceId) {
+    return processEngineConfiguration.getCommandExecutorTxRequired().execute(commandContext ->
+        (List<VariableSearchEntity>) commandContext.getDbEntityManager()
+          .selectList("selectVariableSearchesByProcessInstanceId", processInstanceId));
+  }
+
+  protected void deleteSearchEntities(String processInstanceId) {
+    processEngineConfiguration.getCommandExecutorTxRequired().execute(commandContext -> {
+      DbEntityManager dbEntityManager = commandContext.getDbEntityManager();
+      for (Object searchEntity : dbEntityManager.selectList("selectVariableSearchesByProcessInstanceId", processInstanceId)) {
+        dbEntityManager.delete((VariableSearchEntity) searchEntity);
+      }
+      return null;
+    });
+  }
+
+  protected static String repeat(char c, int times) {
+    StringBuilder builder = new StringBuilder();
+    for (int i = 0; i < times; i++) {
+      builder.append(c);
+    }
+    return builder.toString();
+  }
+
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.finos.fluxnova.bpm.engine.test.api.variables;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.finos.fluxnova.bpm.engine.HistoryService;
+import org.finos.fluxnova.bpm.engine.ManagementService;
+import org.finos.fluxnova.bpm.engine.ProcessEngineConfiguration;
+import org.finos.fluxnova.bpm.engine.RuntimeService;
+import org.finos.fluxnova.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.finos.fluxnova.bpm.engine.impl.persistence.entity.VariableInstanceEntity;
+import org.finos.fluxnova.bpm.engine.management.Metrics;
+import org.finos.fluxnova.bpm.engine.runtime.VariableInstance;
+import org.finos.fluxnova.bpm.engine.test.RequiredHistoryLevel;
+import org.finos.fluxnova.bpm.engine.test.util.ProcessEngineBootstrapRule;
+import org.finos.fluxnova.bpm.engine.test.util.ProcessEngineTestRule;
+import org.finos.fluxnova.bpm.engine.test.util.ProvidedProcessEngineRule;
+import org.finos.fluxnova.bpm.engine.variable.Variables;
+import org.finos.fluxnova.bpm.model.bpmn.Bpmn;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.RuleChain;
+
+@RequiredHistoryLevel(ProcessEngineConfiguration.HISTORY_FULL)
+public class SkipUnchangedVariableUpdatesTest {
+
+  @ClassRule
+  public static final ProcessEngineBootstrapRule bootstrapRule = new ProcessEngineBootstrapRule(
+      c -> c.setSkipUnchangedVariableUpdates(true));
+
+  private final ProvidedProcessEngineRule engineRule = new ProvidedProcessEngineRule(bootstrapRule);
+  private final ProcessEngineTestRule testRule = new ProcessEngineTestRule(engineRule);
+
+  @Rule
+  public final RuleChain ruleChain = RuleChain.outerRule(engineRule).around(testRule);
+
+  private ProcessEngineConfigurationImpl processEngineConfiguration;
+  private RuntimeService runtimeService;
+  private HistoryService historyService;
+  private ManagementService managementService;
+
+  private String processInstanceId;
+
+  @Before
+  public void setUp() {
+    processEngineConfiguration = engineRule.getProcessEngineConfiguration();
+    runtimeService = engineRule.getRuntimeService();
+    historyService = engineRule.getHistoryService();
+    managementService = engineRule.getManagementService();
+
+    testRule.deploy(Bpmn.createExecutableProcess("process").startEvent().userTask().endEvent().done());
+    processInstanceId = runtimeService.startProcessInstanceByKey("process").getId();
+  }
+
+  @After
+  public void tearDown() {
+    managementService.deleteMetrics(null);
+  }
+
+  @Test
+  public void shouldSkipUpdateWithEqualValue() {
+    runtimeService.setVariable(processInstanceId, "var", "foo");
+
+    runtimeService.setVariable(processInstanceId, "var", "foo");
+    runtimeService.setVariable(processInstanceId, "var", Variables.stringValue("foo"));
+
+    assertThat(countVariableUpdates()).isEqualTo(1);
+    assertThat(getSkippedUpdates()).isEqualTo(2);
+  }
+
+  @Test
+  public void shouldUpdateChangedValue() {
+    runtimeService.setVariable(processInstanceId, "var", "foo");
+
+    runtimeService.setVariable(processInstanceId, "var", "bar");
+    runtimeService.setVariable(processInstanceId, "var", 42);
+
+    assertThat(countVariableUpdates()).isEqualTo(3);
+    assertThat(runtimeService.getVariable(processInstanceId, "var")).isEqualTo(42);
+    assertThat(getSkippedUpdates()).isZero();
+  }
+
+  @Test
+  public void shouldKeepUnchangedByteArray() {
+    runtimeService.setVariable(processInstanceId, "bytes", Variables.byteArrayValue(new byte[] {1, 2, 3}));
+    String byteArrayId = getByteArrayId("bytes");
+
+    runtimeService.setVariable(processInstanceId, "bytes", Variables.byteArrayValue(new byte[] {1, 2, 3}));
+
+    assertThat(getByteArrayId("bytes")).isEqualTo(byteArrayId);
+    assertThat(countVariableUpdates()).isEqualTo(1);
+    assertThat(getSkippedUpdates()).isEqualTo(1);
+  }
+
+  @Test
+  public void shouldReuseByteArrayOfSameType() {
+    runtimeService.setVariable(processInstanceId, "bytes", Variables.byteArrayValue(new byte[] {1, 2, 3}));
+    String byteArrayId = getByteArrayId("bytes");
+
+    runtimeService.setVariable(processInstanceId, "bytes", Variables.byteArrayValue(new byte[] {4, 5}));
+
+    assertThat(getByteArrayId("bytes")).isEqualTo(byteArrayId);
+    assertThat((byte[]) runtimeService.getVariable(processInstanceId, "bytes")).containsExactly(4, 5);
+    assertThat(countVariableUpdates()).isEqualTo(2);
+  }
+
+  protected long countVariableUpdates() {
+    return historyService.createHistoricDetailQuery().variableUpdates().count();
+  }
+
+  protected long getSkippedUpdates() {
+    processEngineConfiguration.getDbMetricsReporter().reportNow();
+    return managementService.createMetricsQuery().name(Metrics.SKIPPED_VARIABLE_UPDATES).sum();
+  }
+
+  protected String getByteArrayId(String variableName) {
+    VariableInstance variableInstance = runtimeService.createVariableInstanceQuery()
+        .variableName(variableName)
+        .singleResult();
+    return ((VariableInstanceEntity) variableInstance).getByteArrayValueId();
+  }
+
+}
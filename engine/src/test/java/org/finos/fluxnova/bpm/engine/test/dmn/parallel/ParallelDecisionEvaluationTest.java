@@ -0,0 +1,121 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.finos.fluxnova.bpm.engine.test.dmn.parallel;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.finos.fluxnova.bpm.dmn.engine.delegate.DmnDecisionTableEvaluationListener;
+import org.finos.fluxnova.bpm.dmn.engine.impl.DefaultDmnEngineConfiguration;
+import org.finos.fluxnova.bpm.engine.ProcessEngine;
+import org.finos.fluxnova.bpm.engine.ProcessEngineConfiguration;
+import org.finos.fluxnova.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.finos.fluxnova.bpm.engine.runtime.ProcessInstance;
+import org.finos.fluxnova.bpm.engine.variable.Variables;
+import org.finos.fluxnova.bpm.model.bpmn.Bpmn;
+import org.finos.fluxnova.bpm.model.bpmn.BpmnModelInstance;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * The decisions of the process engine depend on the command context and the
+ * class loader of the calling thread, e.g. to evaluate JUEL input expressions.
+ * Parallel decision evaluation is therefore disabled.
+ */
+public class ParallelDecisionEvaluationTest {
+
+  protected static final String DMN = "org/finos/fluxnova/bpm/engine/test/dmn/parallel/ParallelDecisionEvaluationTest.dmn";
+
+  protected ProcessEngine engine;
+  protected List<Thread> evaluationThreads = new CopyOnWriteArrayList<>();
+
+  @Before
+  public void setUp() {
+    DmnDecisionTableEvaluationListener listener = evaluationEvent -> evaluationThreads.add(Thread.currentThread());
+
+    DefaultDmnEngineConfiguration dmnEngineConfiguration = new DefaultDmnEngineConfiguration()
+        .setParallelDecisionEvaluationEnabled(true)
+        .setParallelDecisionEvaluationThreshold(2)
+        .customPostDecisionTableEvaluationListeners(Collections.singletonList(listener));
+
+    ProcessEngineConfigurationImpl config = (ProcessEngineConfigurationImpl) ProcessEngineConfiguration
+        .createStandaloneInMemProcessEngineConfiguration()
+        .setJdbcUrl("jdbc:h2:mem:camunda" + getClass().getSimpleName());
+    config.setEnforceHistoryTimeToLive(false);
+    config.setDmnEngineConfiguration(dmnEngineConfiguration);
+
+    engine = config.buildProcessEngine();
+    engine.getRepositoryService().createDeployment().addClasspathResource(DMN).deploy();
+  }
+
+  @After
+  public void tearDown() {
+    if (engine != null) {
+      engine.close();
+      engine = null;
+    }
+  }
+
+  @Test
+  public void shouldDisableParallelEvaluation() {
+    ProcessEngineConfigurationImpl config = (ProcessEngineConfigurationImpl) engine.getProcessEngineConfiguration();
+
+    assertThat(config.getDmnEngineConfiguration().isParallelDecisionEvaluationEnabled()).isFalse();
+  }
+
+  @Test
+  public void shouldEvaluateJuelInputExpressionsOnCallingThread() {
+    // when
+    Object total = engine.getDecisionService()
+        .evaluateDecisionByKey("total")
+        .variables(Variables.createVariables().putValue("x", 4))
+        .evaluate()
+        .getSingleEntry();
+
+    // then
+    assertThat(total).isEqualTo(221);
+    assertThat(evaluationThreads).hasSize(3).containsOnly(Thread.currentThread());
+  }
+
+  @Test
+  public void shouldEvaluateJuelInputExpressionsInBusinessRuleTask() {
+    // given
+    BpmnModelInstance process = Bpmn.createExecutableProcess("process")
+        .startEvent()
+        .businessRuleTask()
+          .fluxnovaDecisionRef("total")
+          .fluxnovaMapDecisionResult("singleEntry")
+          .fluxnovaResultVariable("total")
+        .userTask()
+        .endEvent()
+        .done();
+    engine.getRepositoryService().createDeployment().addModelInstance("process.bpmn", process).deploy();
+
+    // when
+    ProcessInstance processInstance = engine.getRuntimeService()
+        .startProcessInstanceByKey("process", Variables.createVariables().putValue("x", 2));
+
+    // then
+    assertThat(engine.getRuntimeService().getVariable(processInstance.getId(), "total")).isEqualTo(121);
+    assertThat(evaluationThreads).hasSize(3).containsOnly(Thread.currentThread());
+  }
+
+}
@@ -706,6 +706,41 @@ public class HistoricProcessInstanceTest {
     }
   }
 
+  @Test
+  @Deployment(resources = { "org/finos/fluxnova/bpm/engine/test/history/oneTaskProcess.bpmn20.xml" })
+  public void testHistoricProcessInstanceKeysetPaging() {
+    for (int i = 0; i < 5; i++) {
+      runtimeService.startProcessInstanceByKey("oneTaskProcess");
+    }
+    HistoricProcessInstanceQuery query = historyService.createHistoricProcessInstanceQuery();
+
+    List<HistoricProcessInstance> firstPage = query.listAfter(null, 2);
+    List<HistoricProcessInstance> secondPage = query.listAfter(firstPage.get(1).getId(), 2);
+    List<HistoricProcessInstance> lastPage = query.listAfter(secondPage.get(1).getId(), 2);
+
+    List<HistoricProcessInstance> pagedInstances = new ArrayList<>(firstPage);
+    pagedInstances.addAll(secondPage);
+    pagedInstances.addAll(lastPage);
+
+    assertEquals(1, lastPage.size());
+    assertEquals(5, pagedInstances.size());
+    verifySorting(pagedInstances, historicProcessInstanceByProcessInstanceId());
+  }
+
+  @Test
+  @Deployment(resources = { "org/finos/fluxnova/bpm/engine/test/history/oneTaskProcess.bpmn20.xml" })
+  public void testHistoricProcessInstanceForEach() {
+    for (int i = 0; i < 5; i++) {
+      runtimeService.startProcessInstanceByKey("oneTaskProcess");
+    }
+
+    List<HistoricProcessInstance> streamedInstances = new ArrayList<>();
+    historyService.createHistoricProcessInstanceQuery().forEach(streamedInstances::add);
+
+    assertEquals(5, streamedInstances.size());
+    verifySorting(streamedInstances, historicProcessInstanceByProcessInstanceId());
+  }
+
   @Test
   public void testHistoricProcessInstanceSorting() {
 
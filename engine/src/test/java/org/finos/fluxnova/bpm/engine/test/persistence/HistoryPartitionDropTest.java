@@ -0,0 +1,289 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.finos.fluxnova.bpm.engine.test.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.File;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+
+import org.finos.fluxnova.bpm.engine.ProcessEngineException;
+import org.finos.fluxnova.bpm.engine.impl.db.sql.DbSqlSession;
+import org.finos.fluxnova.bpm.engine.impl.db.sql.DbSqlSessionFactory;
+import org.finos.fluxnova.bpm.engine.impl.interceptor.CommandExecutor;
+import org.finos.fluxnova.bpm.engine.impl.persistence.entity.HistoryPartition;
+import org.finos.fluxnova.bpm.engine.impl.persistence.entity.HistoryPartitionManager;
+import org.finos.fluxnova.bpm.engine.impl.test.RequiredDatabase;
+import org.finos.fluxnova.bpm.engine.impl.util.IoUtil;
+import org.finos.fluxnova.bpm.engine.impl.util.ReflectUtil;
+import org.finos.fluxnova.bpm.engine.test.util.PluggableProcessEngineTest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Partitions copies of the history tables with the shipped partitioning script and drops
+ * their expired partitions on the actual database. The copies are prefixed with
+ * {@link #TABLE_PREFIX}, so that the history tables of the engine stay untouched.
+ */
+@RequiredDatabase(includes = {
+    DbSqlSessionFactory.POSTGRES,
+    DbSqlSessionFactory.ORACLE,
+    DbSqlSessionFactory.MYSQL })
+public class HistoryPartitionDropTest extends PluggableProcessEngineTest {
+
+  protected static final String TABLE_PREFIX = "PT_";
+  protected static final String ACTINST_TABLE = TABLE_PREFIX + "ACT_HI_ACTINST";
+  protected static final String DETAIL_TABLE = TABLE_PREFIX + "ACT_HI_DETAIL";
+  protected static final List<String> TABLES = Arrays.asList(ACTINST_TABLE, DETAIL_TABLE);
+
+  /** the history tables partitioned by the shipped script */
+  protected static final List<String> PARTITIONED_TABLES = Arrays.asList(
+      "ACT_HI_PROCINST",
+      "ACT_HI_ACTINST",
+      "ACT_HI_TASKINST",
+      "ACT_HI_VARINST",
+      "ACT_HI_DETAIL",
+      "ACT_HI_INCIDENT",
+      "ACT_HI_EXT_TASK_LOG",
+      "ACT_HI_JOB_LOG",
+      "ACT_HI_OP_LOG",
+      "ACT_HI_IDENTITYLINK",
+      "ACT_HI_COMMENT",
+      "ACT_HI_ATTACHMENT",
+      "ACT_HI_BATCH",
+      "ACT_HI_DECINST",
+      "ACT_HI_DEC_IN",
+      "ACT_HI_DEC_OUT");
+
+  /** the shipped script partitions by month from January to March 2027 */
+  protected static final Date REMOVAL_TIME = Timestamp.valueOf("2027-02-20 00:00:00");
+
+  protected String databaseType;
+
+  @Before
+  public void partitionTables() throws Exception {
+    databaseType = processEngineConfiguration.getDatabaseType();
+
+    for (String table : PARTITIONED_TABLES) {
+      executeSql(copyTableStatement(TABLE_PREFIX + table));
+    }
+
+    File script = createPartitioningScript();
+    try {
+      processEngineConfiguration.getCommandExecutorTxRequired().execute(commandContext -> {
+        commandContext.getDbSqlSession().executeSchemaResource(script.getAbsolutePath());
+        return null;
+      });
+    } finally {
+      script.delete();
+    }
+  }
+
+  @After
+  public void dropTables() {
+    for (String table : PARTITIONED_TABLES) {
+      try {
+        executeSql("drop table " + TABLE_PREFIX + table);
+      } catch (RuntimeException e) {
+        // the table was not created
+      }
+    }
+  }
+
+  @Test
+  public void shouldDropOnlyExpiredPartitions() {
+    // given
+    insertActivityInstance("expired", Timestamp.valueOf("2027-01-15 00:00:00"));
+    insertActivityInstance("notExpired", Timestamp.valueOf("2027-02-15 00:00:00"));
+    insertActivityInstance("future", Timestamp.valueOf("2099-01-01 00:00:00"));
+    insertActivityInstance("noRemovalTime", null);
+
+    // when
+    int droppedPartitions = dropExpiredPartitions(REMOVAL_TIME);
+
+    // then the January partition of each table is dropped
+    assertThat(droppedPartitions).isEqualTo(2);
+
+    for (String table : TABLES) {
+      assertThat(findPartitionNames(table))
+          .doesNotContain(table + "_2027_01")
+          .contains(table + "_2027_02", table + "_2027_03");
+    }
+
+    assertThat(selectActivityInstanceIds()).containsExactlyInAnyOrder("notExpired", "future", "noRemovalTime");
+  }
+
+  @Test
+  public void shouldNotDropPartitionsBeforeTheirUpperBound() {
+    // given
+    insertActivityInstance("notExpired", Timestamp.valueOf("2027-01-15 00:00:00"));
+
+    // when
+    int droppedPartitions = dropExpiredPartitions(Timestamp.valueOf("2027-01-31 23:59:59"));
+
+    // then
+    assertThat(droppedPartitions).isZero();
+    assertThat(findPartitionNames(ACTINST_TABLE)).contains(ACTINST_TABLE + "_2027_01");
+    assertThat(selectActivityInstanceIds()).containsExactly("notExpired");
+  }
+
+  @Test
+  public void shouldKeepDroppedPartitionsOnFailure() {
+    // given
+    insertActivityInstance("expired", Timestamp.valueOf("2027-01-15 00:00:00"));
+
+    // when dropping the partition of the second table fails
+    assertThatThrownBy(() -> processEngineConfiguration.getCommandExecutorTxRequired().execute(commandContext ->
+        new HistoryPartitionManager() {
+          @Override
+          protected List<String> getHistoryTables() {
+            return TABLES;
+          }
+
+          @Override
+          protected void dropHistoryPartition(CommandExecutor commandExecutor, String tableName, HistoryPartition partition) {
+            if (DETAIL_TABLE.equals(tableName)) {
+              throw new ProcessEngineException("expected exception");
+            }
+            super.dropHistoryPartition(commandExecutor, tableName, partition);
+          }
+        }.dropExpiredHistoryPartitions(REMOVAL_TIME)))
+      .isInstanceOf(ProcessEngineException.class);
+
+    // then the partition of the first table is dropped nevertheless
+    assertThat(findPartitionNames(ACTINST_TABLE)).doesNotContain(ACTINST_TABLE + "_2027_01");
+    assertThat(findPartitionNames(DETAIL_TABLE)).contains(DETAIL_TABLE + "_2027_01");
+    assertThat(selectActivityInstanceIds()).isEmpty();
+  }
+
+  protected String copyTableStatement(String table) {
+    String sourceTable = table.substring(TABLE_PREFIX.length());
+    if (DbSqlSessionFactory.POSTGRES.equals(databaseType)) {
+      return "create table " + table + " (like " + sourceTable + " including all)";
+    } else if (DbSqlSessionFactory.MYSQL.equals(databaseType)) {
+      return "create table " + table + " like " + sourceTable;
+    } else {
+      return "create table " + table + " as select * from " + sourceTable + " where 1 = 0";
+    }
+  }
+
+  /**
+   * @return the shipped partitioning script of the database, applied to the prefixed tables
+   */
+  protected File createPartitioningScript() throws Exception {
+    String resourceName = "org/finos/fluxnova/bpm/engine/db/partitioning/activiti." + databaseType + ".partition.history.sql";
+    InputStream inputStream = ReflectUtil.getResourceAsStream(resourceName);
+    assertThat(inputStream).isNotNull();
+
+    String script;
+    try {
+      script = new String(IoUtil.readInputStream(inputStream, resourceName), StandardCharsets.UTF_8);
+    } finally {
+      IoUtil.closeSilently(inputStream);
+    }
+    script = script
+        .replace("ACT_HI_", TABLE_PREFIX + "ACT_HI_")
+        .replace("ACT_IDX_", TABLE_PREFIX + "ACT_IDX_");
+
+    File file = File.createTempFile("partition-history", ".sql");
+    Files.write(file.toPath(), script.getBytes(StandardCharsets.UTF_8));
+    return file;
+  }
+
+  protected int dropExpiredPartitions(Date removalTime) {
+    return processEngineConfiguration.getCommandExecutorTxRequired().execute(commandContext ->
+        new HistoryPartitionManager() {
+          @Override
+          protected List<String> getHistoryTables() {
+            return TABLES;
+          }
+        }.dropExpiredHistoryPartitions(removalTime));
+  }
+
+  protected List<String> findPartitionNames(String table) {
+    return processEngineConfiguration.getCommandExecutorTxRequired().execute(commandContext -> {
+      List<String> partitionNames = new ArrayList<>();
+      for (HistoryPartition partition : commandContext.getHistoryPartitionManager().findHistoryPartitions(table)) {
+        partitionNames.add(partition.getPartitionName().toUpperCase(Locale.ROOT));
+      }
+      return partitionNames;
+    });
+  }
+
+  protected void insertActivityInstance(String id, Timestamp removalTime) {
+    processEngineConfiguration.getCommandExecutorTxRequired().execute(commandContext -> {
+      String sql = "insert into " + ACTINST_TABLE
+          + " (ID_, PROC_DEF_ID_, PROC_INST_ID_, EXECUTION_ID_, ACT_ID_, ACT_TYPE_, START_TIME_, REMOVAL_TIME_)"
+          + " values (?, 'processDefinition', 'processInstance', 'execution', 'activity', 'userTask', ?, ?)";
+      try (PreparedStatement statement = getConnection(commandContext.getDbSqlSession()).prepareStatement(sql)) {
+        statement.setString(1, id);
+        statement.setTimestamp(2, Timestamp.valueOf("2027-01-01 00:00:00"));
+        statement.setTimestamp(3, removalTime);
+        statement.executeUpdate();
+      } catch (SQLException e) {
+        throw new RuntimeException(e);
+      }
+      return null;
+    });
+  }
+
+  protected List<String> selectActivityInstanceIds() {
+    return processEngineConfiguration.getCommandExecutorTxRequired().execute(commandContext -> {
+      List<String> ids = new ArrayList<>();
+      try (Statement statement = getConnection(commandContext.getDbSqlSession()).createStatement();
+           ResultSet resultSet = statement.executeQuery("select ID_ from " + ACTINST_TABLE)) {
+        while (resultSet.next()) {
+          ids.add(resultSet.getString(1));
+        }
+      } catch (SQLException e) {
+        throw new RuntimeException(e);
+      }
+      return ids;
+    });
+  }
+
+  protected void executeSql(String sql) {
+    processEngineConfiguration.getCommandExecutorTxRequired().execute(commandContext -> {
+      try (Statement statement = getConnection(commandContext.getDbSqlSession()).createStatement()) {
+        statement.execute(sql);
+      } catch (SQLException e) {
+        throw new RuntimeException(e);
+      }
+      return null;
+    });
+  }
+
+  protected Connection getConnection(DbSqlSession dbSqlSession) {
+    return dbSqlSession.getSqlSession().getConnection();
+  }
+
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.finos.fluxnova.bpm.engine.test.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Timestamp;
+import java.util.Date;
+
+import org.finos.fluxnova.bpm.engine.impl.persistence.entity.HistoryPartition;
+import org.junit.Test;
+
+public class HistoryPartitionTest {
+
+  protected static final Date NOW = Timestamp.valueOf("2026-03-15 12:00:00");
+
+  @Test
+  public void shouldParsePostgresUpperBound() {
+    // given
+    HistoryPartition partition = partition(
+        "FOR VALUES FROM ('2026-01-01 00:00:00') TO ('2026-02-01 00:00:00')", "RANGE (removal_time_)");
+
+    // then
+    assertThat(partition.getUpperBound()).isEqualTo(Timestamp.valueOf("2026-02-01 00:00:00"));
+    assertThat(partition.isExpired(NOW)).isTrue();
+  }
+
+  @Test
+  public void shouldParseOracleUpperBound() {
+    // given
+    HistoryPartition partition = partition("TIMESTAMP' 2026-04-01 00:00:00'", "REMOVAL_TIME_");
+
+    // then
+    assertThat(partition.getUpperBound()).isEqualTo(Timestamp.valueOf("2026-04-01 00:00:00"));
+    assertThat(partition.isExpired(NOW)).isFalse();
+  }
+
+  @Test
+  public void shouldParseOracleDateUpperBound() {
+    // given
+    HistoryPartition partition = partition(
+        "TO_DATE(' 2026-03-01 00:00:00', 'SYYYY-MM-DD HH24:MI:SS', 'NLS_CALENDAR=GREGORIAN')", "REMOVAL_TIME_");
+
+    // then
+    assertThat(partition.getUpperBound()).isEqualTo(Timestamp.valueOf("2026-03-01 00:00:00"));
+    assertThat(partition.isExpired(NOW)).isTrue();
+  }
+
+  @Test
+  public void shouldParseMySqlUpperBound() {
+    // given
+    HistoryPartition partition = partition("'2026-03-01'", "`REMOVAL_TIME_`");
+
+    // then
+    assertThat(partition.getUpperBound()).isEqualTo(Timestamp.valueOf("2026-03-01 00:00:00"));
+    assertThat(partition.isExpired(NOW)).isTrue();
+  }
+
+  @Test
+  public void shouldNotExpireUnboundedPartition() {
+    assertThat(partition("DEFAULT", "RANGE (removal_time_)").isExpired(NOW)).isFalse();
+    assertThat(partition("MAXVALUE", "`REMOVAL_TIME_`").isExpired(NOW)).isFalse();
+    assertThat(partition(null, "REMOVAL_TIME_").isExpired(NOW)).isFalse();
+  }
+
+  @Test
+  public void shouldNotExpirePartitionWithOtherKey() {
+    assertThat(partition("'2026-01-01'", "`START_TIME_`").isExpired(NOW)).isFalse();
+    assertThat(partition("'2026-01-01'", "`REMOVAL_TIME_`,`ID_`").isExpired(NOW)).isFalse();
+    assertThat(partition("FOR VALUES FROM ('2025-12-01') TO ('2026-01-01')", "LIST (removal_time_)")
+        .isExpired(NOW)).isFalse();
+  }
+
+  @Test
+  public void shouldRejectInvalidIdentifiers() {
+    // given
+    HistoryPartition partition = partition("'2026-01-01'", "REMOVAL_TIME_");
+
+    partition.setPartitionSchema("public");
+    partition.setPartitionName("act_hi_actinst_2026_01");
+    assertThat(partition.hasValidIdentifiers()).isTrue();
+
+    partition.setPartitionName("p\"; drop table ACT_HI_PROCINST; --");
+    assertThat(partition.hasValidIdentifiers()).isFalse();
+
+    partition.setPartitionName("p1");
+    partition.setPartitionSchema("my schema");
+    assertThat(partition.hasValidIdentifiers()).isFalse();
+  }
+
+  protected HistoryPartition partition(String bound, String partitionKey) {
+    HistoryPartition partition = new HistoryPartition();
+    partition.setTableName("ACT_HI_ACTINST");
+    partition.setPartitionName("P");
+    partition.setBound(bound);
+    partition.setPartitionKey(partitionKey);
+    return partition;
+  }
+
+}
@@ -34,7 +34,8 @@ public class SchemaLogEnsureSqlScriptTest extends SchemaLogTestCase {
 
   protected String currentSchemaVersion;
   protected String dataBaseType;
-  private static final String FLUXNOVA_VERSION = "1.0.0";
+  // the oldest upgrade scripts are those of Camunda 6.0
+  private static final int OLDEST_CAMUNDA_MAJOR_VERSION = 6;
 
   @Override
   @Before
@@ -86,10 +87,6 @@ public class SchemaLogEnsureSqlScriptTest extends SchemaLogTestCase {
         latestVersion = getTargetVersionForScript(file);
       } else {
         String targetVersion = getTargetVersionForScript(file);
-        //Ensures that the Fluxnova Initial version is returned Only if the file with Fluxnova Version Exists.
-        if(targetVersion.equals(FLUXNOVA_VERSION)) {
-          return targetVersion;
-        }
         if(isLaterVersionThan(targetVersion, latestVersion)){
           latestVersion = targetVersion;
         }
@@ -99,6 +96,12 @@ public class SchemaLogEnsureSqlScriptTest extends SchemaLogTestCase {
   }
 
   protected boolean isLaterVersionThan(String v1, String v2) {
+    // Fluxnova versions restart at 1.0.0 and follow all Camunda versions
+    boolean v1IsFluxnova = isFluxnovaVersion(v1);
+    if (v1IsFluxnova != isFluxnovaVersion(v2)) {
+      return v1IsFluxnova;
+    }
+
     String[] v1_ = v1.split("\\.|_");
     String[] v2_ = v2.split("\\.|_");
 
@@ -113,6 +116,10 @@ public class SchemaLogEnsureSqlScriptTest extends SchemaLogTestCase {
     return false;
   }
 
+  protected boolean isFluxnovaVersion(String version) {
+    return Integer.parseInt(version.split("\\.")[0]) < OLDEST_CAMUNDA_MAJOR_VERSION;
+  }
+
   protected String getCurrentMinorVersion() {
     String version = TestconfigProperties.getEngineVersion();
     // remove the patch version, and create a "clean" minor version
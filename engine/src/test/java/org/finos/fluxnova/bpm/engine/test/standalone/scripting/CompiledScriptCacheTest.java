@@ -0,0 +1,130 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.finos.fluxnova.bpm.engine.test.standalone.scripting;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.net.URL;
+import java.net.URLClassLoader;
+
+import javax.script.ScriptEngine;
+import javax.script.ScriptEngineFactory;
+import javax.script.ScriptEngineManager;
+
+import org.finos.fluxnova.bpm.engine.impl.scripting.CompiledScriptCache;
+import org.finos.fluxnova.bpm.engine.impl.scripting.CompiledScriptCache.CachedScript;
+import org.junit.Before;
+import org.junit.Test;
+
+public class CompiledScriptCacheTest {
+
+  protected static final String LANGUAGE = "groovy";
+  protected static final String SOURCE = "1 + 1";
+
+  protected CompiledScriptCache cache;
+  protected ScriptEngineManager scriptEngineManager;
+
+  @Before
+  public void setUp() {
+    cache = new CompiledScriptCache(10);
+    scriptEngineManager = new ScriptEngineManager();
+  }
+
+  @Test
+  public void shouldReturnScriptOfSameEngine() {
+    // given
+    ScriptEngine scriptEngine = scriptEngineManager.getEngineByName(LANGUAGE);
+    CachedScript cachedScript = cache.put(scriptEngine, LANGUAGE, SOURCE, null);
+
+    // when
+    CachedScript result = cache.get(scriptEngine, "Groovy", SOURCE);
+
+    // then
+    assertThat(result).isSameAs(cachedScript);
+    assertThat(result.getScriptEngine()).isSameAs(scriptEngine);
+  }
+
+  @Test
+  public void shouldNotReturnScriptOfOtherEngine() {
+    // given
+    ScriptEngine scriptEngine = scriptEngineManager.getEngineByName(LANGUAGE);
+    cache.put(scriptEngine, LANGUAGE, SOURCE, null);
+
+    // when
+    CachedScript result = cache.get(scriptEngineManager.getEngineByName(LANGUAGE), LANGUAGE, SOURCE);
+
+    // then
+    assertThat(result).isNull();
+  }
+
+  @Test
+  public void shouldCountHitsAndMisses() {
+    // given
+    ScriptEngine scriptEngine = scriptEngineManager.getEngineByName(LANGUAGE);
+
+    // when
+    assertThat(cache.get(scriptEngine, LANGUAGE, SOURCE)).isNull();
+    cache.put(scriptEngine, LANGUAGE, SOURCE, null);
+    cache.get(scriptEngine, LANGUAGE, SOURCE);
+    cache.get(scriptEngine, LANGUAGE, SOURCE);
+
+    // then
+    assertThat(cache.getHitCount()).isEqualTo(2);
+    assertThat(cache.getMissCount()).isEqualTo(1);
+  }
+
+  @Test
+  public void shouldNotCacheIfDisabled() {
+    // given
+    CompiledScriptCache disabledCache = new CompiledScriptCache(0);
+    ScriptEngine scriptEngine = scriptEngineManager.getEngineByName(LANGUAGE);
+
+    // when
+    CachedScript cachedScript = disabledCache.put(scriptEngine, LANGUAGE, SOURCE, null);
+
+    // then
+    assertThat(cachedScript).isNotNull();
+    assertThat(disabledCache.isEnabled()).isFalse();
+    assertThat(disabledCache.get(scriptEngine, LANGUAGE, SOURCE)).isNull();
+    assertThat(disabledCache.size()).isZero();
+    assertThat(disabledCache.getMissCount()).isZero();
+  }
+
+  @Test
+  public void shouldNotCacheScriptsOfEnginesFromOtherClassLoaders() throws Exception {
+    // given a script engine which is not visible to the process engine, e.g. one of a process application
+    ScriptEngine scriptEngine = scriptEngineManager.getEngineByName(LANGUAGE);
+    final ScriptEngineFactory factory = scriptEngine.getFactory();
+    InvocationHandler handler = (proxy, method, args) -> "getFactory".equals(method.getName()) ? factory : null;
+
+    try (URLClassLoader classLoader = new URLClassLoader(new URL[0], ClassLoader.getPlatformClassLoader())) {
+      ScriptEngine processApplicationEngine = (ScriptEngine) Proxy.newProxyInstance(classLoader,
+          new Class<?>[] { ScriptEngine.class }, handler);
+
+      // when
+      CachedScript cachedScript = cache.put(processApplicationEngine, LANGUAGE, SOURCE, null);
+
+      // then
+      assertThat(cachedScript).isNotNull();
+      assertThat(cache.size()).isZero();
+      assertThat(cache.get(processApplicationEngine, LANGUAGE, SOURCE)).isNull();
+    }
+  }
+
+}
@@ -16,18 +16,25 @@
  */
 package org.finos.fluxnova.bpm.engine.test.standalone.scripting;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
+import java.util.UUID;
+
 import org.finos.fluxnova.bpm.engine.impl.interceptor.Command;
 import org.finos.fluxnova.bpm.engine.impl.interceptor.CommandContext;
+import org.finos.fluxnova.bpm.engine.impl.scripting.CompiledScriptCache;
 import org.finos.fluxnova.bpm.engine.impl.scripting.ExecutableScript;
 import org.finos.fluxnova.bpm.engine.impl.scripting.ScriptFactory;
 import org.finos.fluxnova.bpm.engine.impl.scripting.SourceExecutableScript;
 import org.finos.fluxnova.bpm.engine.impl.scripting.env.ScriptingEnvironment;
 import org.finos.fluxnova.bpm.engine.test.util.PluggableProcessEngineTest;
+import org.finos.fluxnova.bpm.model.bpmn.Bpmn;
+import org.finos.fluxnova.bpm.model.bpmn.BpmnModelInstance;
+import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -46,6 +53,11 @@ public class ScriptCompilationTest extends PluggableProcessEngineTest {
     scriptFactory = processEngineConfiguration.getScriptFactory();
   }
 
+  @After
+  public void tearDown() {
+    processEngineConfiguration.setEnableScriptPrecompilation(false);
+  }
+
   protected SourceExecutableScript createScript(String language, String source) {
     return (SourceExecutableScript) scriptFactory.createScriptFromSource(language, source);
   }
@@ -138,6 +150,98 @@ public class ScriptCompilationTest extends PluggableProcessEngineTest {
     assertNotNull(script.getCompiledScript());
   }
 
+  @Test
+  public void testCompiledScriptIsSharedBetweenScriptsWithSameSource() {
+    // given a script which was executed
+    String source = uniqueScript();
+    SourceExecutableScript script = createScript(SCRIPT_LANGUAGE, source);
+    executeScript(script);
+
+    // when a second script with the same source is executed
+    SourceExecutableScript otherScript = createScript(SCRIPT_LANGUAGE, source);
+    executeScript(otherScript);
+
+    // then it reuses the compiled script
+    assertNotNull(otherScript.getCompiledScript());
+    assertTrue(script.getCompiledScript() == otherScript.getCompiledScript());
+    assertEquals(2, getCachedScript(source).getExecutionCount());
+  }
+
+  @Test
+  public void testScriptsWithDifferentSourceAreNotShared() {
+    // given
+    SourceExecutableScript script = createScript(SCRIPT_LANGUAGE, uniqueScript());
+    SourceExecutableScript otherScript = createScript(SCRIPT_LANGUAGE, uniqueScript());
+
+    // when
+    executeScript(script);
+    executeScript(otherScript);
+
+    // then
+    assertFalse(script.getCompiledScript() == otherScript.getCompiledScript());
+  }
+
+  @Test
+  public void testPrecompileScriptOnDeployment() {
+    // given
+    processEngineConfiguration.setEnableScriptPrecompilation(true);
+    String source = uniqueScript();
+    BpmnModelInstance process = Bpmn.createExecutableProcess("process")
+        .startEvent()
+        .scriptTask()
+          .scriptFormat(SCRIPT_LANGUAGE)
+          .scriptText(source)
+        .endEvent()
+        .done();
+
+    // when
+    testRule.deploy(process);
+
+    // then the script is compiled but was not executed yet
+    CompiledScriptCache.CachedScript cachedScript = getCachedScript(source);
+    assertNotNull(cachedScript);
+    assertNotNull(cachedScript.getCompiledScript());
+    assertEquals(0, cachedScript.getExecutionCount());
+
+    // and when the process is started
+    runtimeService.startProcessInstanceByKey("process");
+
+    // then the execution is recorded
+    assertEquals(1, getCachedScript(source).getExecutionCount());
+  }
+
+  @Test
+  public void testDoNotPrecompileScriptOnDeploymentByDefault() {
+    // given
+    String source = uniqueScript();
+    BpmnModelInstance process = Bpmn.createExecutableProcess("process")
+        .startEvent()
+        .scriptTask()
+          .scriptFormat(SCRIPT_LANGUAGE)
+          .scriptText(source)
+        .endEvent()
+        .done();
+
+    // when
+    testRule.deploy(process);
+
+    // then
+    assertNull(getCachedScript(source));
+  }
+
+  protected String uniqueScript() {
+    return "def value = '" + UUID.randomUUID() + "'";
+  }
+
+  protected CompiledScriptCache.CachedScript getCachedScript(String source) {
+    for (CompiledScriptCache.CachedScript cachedScript : processEngineConfiguration.getCompiledScriptCache().getCachedScripts()) {
+      if (cachedScript.getSource().equals(source)) {
+        return cachedScript;
+      }
+    }
+    return null;
+  }
+
   protected Object executeScript(final ExecutableScript script) {
     final ScriptingEnvironment scriptingEnvironment = processEngineConfiguration.getScriptingEnvironment();
     return processEngineConfiguration.getCommandExecutorTxRequired()
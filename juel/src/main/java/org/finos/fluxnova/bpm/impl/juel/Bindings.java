@@ -136,6 +136,13 @@ public class Bindings implements TypeConverter {
 	public <T> T convert(Object value, Class<T> type) {
 		return converter.convert(value, type);
 	}
+
+	/**
+	 * @return <code>true</code> if conversions are done by the default {@link TypeConverterImpl}
+	 */
+	public boolean isDefaultConverter() {
+		return converter.getClass() == TypeConverterImpl.class;
+	}
 	
 	@Override
 	public boolean equals(Object obj) {
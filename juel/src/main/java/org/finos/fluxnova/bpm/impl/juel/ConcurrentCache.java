@@ -0,0 +1,164 @@
+/*
+ * Based on JUEL 2.2.1 code, 2006-2009 Odysseus Software GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.finos.fluxnova.bpm.impl.juel;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Concurrent tree cache without a global lock.
+ * Entries are kept in a {@link ConcurrentHashMap}, lookups never block. Eviction follows the
+ * CLOCK (second chance) policy, an approximation of LRU: every hit marks an entry as referenced;
+ * when the cache exceeds its size, entries are taken from the head of the insertion queue and
+ * either evicted (not referenced since the last sweep) or given another round (referenced).
+ * Only one thread sweeps at a time and for at most one round, other writers simply skip eviction.
+ *
+ * Hit and miss counts are recorded and may be queried to tune the cache size.
+ */
+public final class ConcurrentCache implements TreeCache {
+	private final ConcurrentHashMap<String,Node> map;
+	private final Queue<Node> clock = new ConcurrentLinkedQueue<Node>();
+	private final AtomicBoolean evicting = new AtomicBoolean();
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+	private final LongAdder evictions = new LongAdder();
+	private final int size;
+
+	/**
+	 * Constructor.
+	 * @param size maximum cache size
+	 */
+	public ConcurrentCache(int size) {
+		if (size <= 0) {
+			throw new IllegalArgumentException("Cache size must be positive: " + size);
+		}
+		this.size = size;
+		this.map = new ConcurrentHashMap<String,Node>(Math.min(size, 1024));
+	}
+
+	public Tree get(String expression) {
+		Node node = map.get(expression);
+		if (node == null) {
+			misses.increment();
+			return null;
+		}
+		if (!node.referenced) {
+			node.referenced = true;
+		}
+		hits.increment();
+		return node.tree;
+	}
+
+	public void put(String expression, Tree tree) {
+		Node node = new Node(expression, tree);
+		if (map.putIfAbsent(expression, node) == null) {
+			clock.offer(node);
+			if (map.size() > size) {
+				evict();
+			}
+		}
+	}
+
+	private void evict() {
+		if (!evicting.compareAndSet(false, true)) {
+			return;
+		}
+		try {
+			// at most one round over the queue (which holds the entries of the map) plus the
+			// current excess, so that concurrent hits and inserts cannot keep a single writer
+			// evicting forever
+			int steps = 2 * map.size() - size;
+			while (map.size() > size && steps-- > 0) {
+				Node node = clock.poll();
+				if (node == null) {
+					return;
+				}
+				if (node.referenced) {
+					node.referenced = false;
+					clock.offer(node);
+				} else if (map.remove(node.expression, node)) {
+					evictions.increment();
+				}
+			}
+		} finally {
+			evicting.set(false);
+		}
+	}
+
+	/**
+	 * @return maximum cache size
+	 */
+	public int getMaxSize() {
+		return size;
+	}
+
+	/**
+	 * @return current number of cached trees
+	 */
+	public int size() {
+		return map.size();
+	}
+
+	/**
+	 * @return number of lookups that found a cached tree
+	 */
+	public long getHitCount() {
+		return hits.sum();
+	}
+
+	/**
+	 * @return number of lookups that did not find a cached tree
+	 */
+	public long getMissCount() {
+		return misses.sum();
+	}
+
+	/**
+	 * @return number of trees removed to keep the cache within its size
+	 */
+	public long getEvictionCount() {
+		return evictions.sum();
+	}
+
+	/**
+	 * @return ratio of hits to lookups, <code>0</code> if there were no lookups yet
+	 */
+	public double getHitRatio() {
+		long hitCount = hits.sum();
+		long total = hitCount + misses.sum();
+		return total == 0 ? 0 : (double) hitCount / total;
+	}
+
+	@Override
+	public String toString() {
+		return "ConcurrentCache[size=" + map.size() + ", maxSize=" + size + ", hits=" + getHitCount()
+				+ ", misses=" + getMissCount() + ", evictions=" + getEvictionCount() + "]";
+	}
+
+	private static final class Node {
+		final String expression;
+		final Tree tree;
+		volatile boolean referenced;
+
+		Node(String expression, Tree tree) {
+			this.expression = expression;
+			this.tree = tree;
+		}
+	}
+}
@@ -55,6 +55,14 @@ import java.util.Properties;
  * <li>
  * <code>jakarta.el.cacheSize</code> - cache size (int, default is 1000)</li>
  * <li>
+ * <code>jakarta.el.cacheType</code> - cache implementation, <code>lru</code> for the synchronized
+ * {@link Cache} or <code>concurrent</code> for the lock-free {@link ConcurrentCache} (default is
+ * <code>lru</code>).</li>
+ * <li>
+ * <code>jakarta.el.compileThreshold</code> - number of evaluations after which a value expression
+ * is compiled by the {@link TreeCompiler} (int, default is 0, i.e. expressions are always
+ * interpreted).</li>
+ * <li>
  * <code>jakarta.el.methodInvocations</code> - allow method invocations as in
  * <code>${foo.bar(baz)}</code> (boolean, default is <code>false</code>).</li>
  * <li>
@@ -121,8 +129,29 @@ public class ExpressionFactoryImpl extends jakarta.el.ExpressionFactory {
 	 */
 	public static final String PROP_CACHE_SIZE = "jakarta.el.cacheSize";
 
+	/**
+	 * <code>jakarta.el.cacheType</code>
+	 */
+	public static final String PROP_CACHE_TYPE = "jakarta.el.cacheType";
+
+	/**
+	 * Value of <code>jakarta.el.cacheType</code> selecting {@link Cache}.
+	 */
+	public static final String CACHE_TYPE_LRU = "lru";
+
+	/**
+	 * Value of <code>jakarta.el.cacheType</code> selecting {@link ConcurrentCache}.
+	 */
+	public static final String CACHE_TYPE_CONCURRENT = "concurrent";
+
+	/**
+	 * <code>jakarta.el.compileThreshold</code>
+	 */
+	public static final String PROP_COMPILE_THRESHOLD = "jakarta.el.compileThreshold";
+
 	private final TreeStore store;
 	private final TypeConverter converter;
+	private final int compileThreshold;
 
 	/**
 	 * Create a new expression factory using the default builder and cache implementations. The
@@ -149,6 +178,40 @@ public class ExpressionFactoryImpl extends jakarta.el.ExpressionFactory {
 		Properties properties = loadProperties("el.properties");
 		this.store = createTreeStore(1000, profile, properties);
 		this.converter = createTypeConverter(properties);
+		this.compileThreshold = getCompileThreshold(properties);
+	}
+
+	/**
+	 * Create a new expression factory like {@link #ExpressionFactoryImpl()}, which compiles value
+	 * expressions after the specified number of evaluations instead of the
+	 * <code>jakarta.el.compileThreshold</code> from <code>el.properties</code>.
+	 *
+	 * @param compileThreshold
+	 *            number of evaluations after which a value expression is compiled (0 to never
+	 *            compile)
+	 */
+	public ExpressionFactoryImpl(int compileThreshold) {
+		Properties properties = loadProperties("el.properties");
+		this.store = createTreeStore(1000, Profile.JEE6, properties);
+		this.converter = createTypeConverter(properties);
+		this.compileThreshold = compileThreshold;
+	}
+
+	/**
+	 * Create a new expression factory sharing the tree store (and thus profile, properties and
+	 * cache) and type converter of the given factory, which compiles value expressions after the
+	 * specified number of evaluations.
+	 *
+	 * @param factory
+	 *            the factory to take the tree store and type converter from
+	 * @param compileThreshold
+	 *            number of evaluations after which a value expression is compiled (0 to never
+	 *            compile)
+	 */
+	public ExpressionFactoryImpl(ExpressionFactoryImpl factory, int compileThreshold) {
+		this.store = factory.store;
+		this.converter = factory.converter;
+		this.compileThreshold = compileThreshold;
 	}
 
 	/**
@@ -179,6 +242,7 @@ public class ExpressionFactoryImpl extends jakarta.el.ExpressionFactory {
 	public ExpressionFactoryImpl(Profile profile, Properties properties) {
 		this.store = createTreeStore(1000, profile, properties);
 		this.converter = createTypeConverter(properties);
+		this.compileThreshold = getCompileThreshold(properties);
 	}
 
 	/**
@@ -213,6 +277,7 @@ public class ExpressionFactoryImpl extends jakarta.el.ExpressionFactory {
 	public ExpressionFactoryImpl(Profile profile, Properties properties, TypeConverter converter) {
 		this.store = createTreeStore(1000, profile, properties);
 		this.converter = converter;
+		this.compileThreshold = getCompileThreshold(properties);
 	}
 
 	/**
@@ -236,6 +301,21 @@ public class ExpressionFactoryImpl extends jakarta.el.ExpressionFactory {
 	public ExpressionFactoryImpl(TreeStore store, TypeConverter converter) {
 		this.store = store;
 		this.converter = converter;
+		this.compileThreshold = 0;
+	}
+
+	/**
+	 * @return the tree store used to parse and cache parse trees
+	 */
+	public TreeStore getTreeStore() {
+		return store;
+	}
+
+	/**
+	 * @return the number of evaluations after which a value expression is compiled (0 if never)
+	 */
+	public int getCompileThreshold() {
+		return compileThreshold;
 	}
 
 	private Properties loadDefaultProperties() {
@@ -293,6 +373,17 @@ public class ExpressionFactoryImpl extends jakarta.el.ExpressionFactory {
 		return properties;
 	}
 
+	private int getCompileThreshold(Properties properties) {
+		if (properties == null || properties.getProperty(PROP_COMPILE_THRESHOLD) == null) {
+			return 0;
+		}
+		try {
+			return Integer.parseInt(properties.getProperty(PROP_COMPILE_THRESHOLD).trim());
+		} catch (NumberFormatException e) {
+			throw new ELException("Cannot parse EL property " + PROP_COMPILE_THRESHOLD, e);
+		}
+	}
+
 	private boolean getFeatureProperty(Profile profile, Properties properties, Builder.Feature feature, String property) {
 		return Boolean.parseBoolean(properties.getProperty(property, String.valueOf(profile.contains(feature))));
 	}
@@ -331,11 +422,27 @@ public class ExpressionFactoryImpl extends jakarta.el.ExpressionFactory {
 				throw new ELException("Cannot parse EL property " + PROP_CACHE_SIZE, e);
 			}
 		}
-		Cache cache = cacheSize > 0 ? new Cache(cacheSize) : null;
+		TreeCache cache = cacheSize > 0 ? createTreeCache(cacheSize, properties) : null;
 
 		return new TreeStore(builder, cache);
 	}
 
+	/**
+	 * Create the factory's tree cache. This implementation creates a {@link ConcurrentCache} if
+	 * property <code>jakarta.el.cacheType</code> is <code>concurrent</code> and a {@link Cache}
+	 * otherwise.
+	 */
+	protected TreeCache createTreeCache(int cacheSize, Properties properties) {
+		String type = properties == null ? null : properties.getProperty(PROP_CACHE_TYPE);
+		if (type == null || CACHE_TYPE_LRU.equalsIgnoreCase(type.trim())) {
+			return new Cache(cacheSize);
+		}
+		if (CACHE_TYPE_CONCURRENT.equalsIgnoreCase(type.trim())) {
+			return new ConcurrentCache(cacheSize);
+		}
+		throw new ELException("Unknown value for EL property " + PROP_CACHE_TYPE + ": " + type);
+	}
+
 	/**
 	 * Create the factory's type converter. This implementation takes the
 	 * <code>de.odysseus.el.misc.TypeConverter</code> property as the name of a class implementing
@@ -423,7 +530,7 @@ public class ExpressionFactoryImpl extends jakarta.el.ExpressionFactory {
 	@Override
 	public final TreeValueExpression createValueExpression(ELContext context, String expression, Class<?> expectedType) {
 		return new TreeValueExpression(store, context.getFunctionMapper(), context.getVariableMapper(), converter,
-				expression, expectedType);
+				expression, expectedType, compileThreshold);
 	}
 
 	@Override
@@ -0,0 +1,587 @@
+/*
+ * Based on JUEL 2.2.1 code, 2006-2009 Odysseus Software GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.finos.fluxnova.bpm.impl.juel;
+
+import java.beans.IntrospectionException;
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.Objects;
+
+import jakarta.el.ELContext;
+import jakarta.el.ELException;
+import jakarta.el.ELResolver;
+import jakarta.el.PropertyNotFoundException;
+
+/**
+ * Compiles the parse tree of a value expression into a tree of {@link CompiledNode}s.
+ *
+ * Compared to the interpreter, the compiled form
+ * <ul>
+ * <li>folds sub-expressions consisting of literals only into constants,</li>
+ * <li>removes nested and eval nodes,</li>
+ * <li>specializes comparison and arithmetic operators on the operand types observed at runtime.
+ * A specialized operator checks the operand types on each evaluation and falls back to the
+ * generic operation if they differ. If the types keep changing, the operator is deoptimized and
+ * always uses the generic operation.</li>
+ * <li>specializes property access (<code>a.b</code>, <code>a[b]</code>) on the resolver, base type
+ * and property observed at runtime. Map entries and public bean getters are then read directly
+ * instead of going through the {@link ELContext}'s resolver. This assumes that the resolver
+ * resolves a property of a given base type consistently, which holds for the standard resolvers.</li>
+ * </ul>
+ * Identifiers, method and function calls are still evaluated by their parse tree nodes, i.e. they
+ * are resolved through the {@link ELContext}'s resolver as before.
+ * Operator specialization is only applied if the bindings use the default type converter.
+ */
+public final class TreeCompiler {
+	/**
+	 * Number of type changes after which a specialized operator is deoptimized.
+	 */
+	static final int MAX_RESPECIALIZATIONS = 4;
+
+	private TreeCompiler() {
+	}
+
+	/**
+	 * Compile the given expression node.
+	 * @param node the root node of a parse tree
+	 * @param bindings the bindings the expression is evaluated with
+	 * @return compiled node
+	 */
+	public static CompiledNode compile(ExpressionNode node, Bindings bindings) {
+		if (!(node instanceof AstNode)) {
+			return new Interpreted(node);
+		}
+		return compile((AstNode) node, bindings, bindings.isDefaultConverter());
+	}
+
+	private static CompiledNode compile(AstNode node, Bindings bindings, boolean specialize) {
+		if (isConstant(node)) {
+			try {
+				return new Constant(node.eval(bindings, null));
+			} catch (RuntimeException e) {
+				// keep failing sub-expressions to be reported at evaluation time
+				return new Interpreted(node);
+			}
+		}
+		if (node instanceof AstEval || node instanceof AstNested) {
+			return compile((AstNode) node.getChild(0), bindings, specialize);
+		}
+		if (node instanceof AstBinary) {
+			AstBinary.Operator operator = ((AstBinary) node).getOperator();
+			CompiledNode left = compile((AstNode) node.getChild(0), bindings, specialize);
+			CompiledNode right = compile((AstNode) node.getChild(1), bindings, specialize);
+			if (operator == AstBinary.AND) {
+				return new And(left, right);
+			}
+			if (operator == AstBinary.OR) {
+				return new Or(left, right);
+			}
+			if (operator instanceof AstBinary.SimpleOperator) {
+				AstBinary.SimpleOperator simple = (AstBinary.SimpleOperator) operator;
+				if (specialize && Specialized.isSpecializable(operator)) {
+					return new Specialized(simple, left, right);
+				}
+				return new Binary(simple, left, right);
+			}
+			return new Interpreted(node);
+		}
+		if (node instanceof AstUnary) {
+			AstUnary.Operator operator = ((AstUnary) node).getOperator();
+			if (operator instanceof AstUnary.SimpleOperator) {
+				return new Unary((AstUnary.SimpleOperator) operator, compile((AstNode) node.getChild(0), bindings, specialize));
+			}
+			return new Interpreted(node);
+		}
+		if (node instanceof AstChoice) {
+			return new Choice(
+					compile((AstNode) node.getChild(0), bindings, specialize),
+					compile((AstNode) node.getChild(1), bindings, specialize),
+					compile((AstNode) node.getChild(2), bindings, specialize));
+		}
+		if (node.getClass() == AstDot.class) {
+			AstDot dot = (AstDot) node;
+			return new Property(compile(dot.getPrefix(), bindings, specialize), new Constant(dot.property), dot.strict);
+		}
+		if (node.getClass() == AstBracket.class) {
+			AstBracket bracket = (AstBracket) node;
+			return new Property(compile(bracket.getPrefix(), bindings, specialize),
+					compile(bracket.property, bindings, specialize), bracket.strict);
+		}
+		return new Interpreted(node);
+	}
+
+	private static boolean isConstant(AstNode node) {
+		if (node instanceof AstLiteral) {
+			return true;
+		}
+		if (node instanceof AstNested || node instanceof AstBinary || node instanceof AstUnary || node instanceof AstChoice) {
+			for (int i = 0; i < node.getCardinality(); i++) {
+				if (!isConstant((AstNode) node.getChild(i))) {
+					return false;
+				}
+			}
+			return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Compiled form of an expression node.
+	 */
+	public static abstract class CompiledNode {
+		/**
+		 * Evaluate and return the (optionally coerced) result.
+		 */
+		public Object getValue(Bindings bindings, ELContext context, Class<?> type) {
+			Object value = eval(bindings, context);
+			if (type != null) {
+				value = bindings.convert(value, type);
+			}
+			return value;
+		}
+
+		abstract Object eval(Bindings bindings, ELContext context);
+	}
+
+	static final class Constant extends CompiledNode {
+		private final Object value;
+
+		Constant(Object value) {
+			this.value = value;
+		}
+
+		@Override
+		Object eval(Bindings bindings, ELContext context) {
+			return value;
+		}
+	}
+
+	static final class Interpreted extends CompiledNode {
+		private final ExpressionNode node;
+
+		Interpreted(ExpressionNode node) {
+			this.node = node;
+		}
+
+		@Override
+		public Object getValue(Bindings bindings, ELContext context, Class<?> type) {
+			return node.getValue(bindings, context, type);
+		}
+
+		@Override
+		Object eval(Bindings bindings, ELContext context) {
+			return node instanceof AstNode ? ((AstNode) node).eval(bindings, context) : node.getValue(bindings, context, null);
+		}
+	}
+
+	static final class And extends CompiledNode {
+		private final CompiledNode left, right;
+
+		And(CompiledNode left, CompiledNode right) {
+			this.left = left;
+			this.right = right;
+		}
+
+		@Override
+		Object eval(Bindings bindings, ELContext context) {
+			Boolean l = bindings.convert(left.eval(bindings, context), Boolean.class);
+			return Boolean.TRUE.equals(l) ? bindings.convert(right.eval(bindings, context), Boolean.class) : Boolean.FALSE;
+		}
+	}
+
+	static final class Or extends CompiledNode {
+		private final CompiledNode left, right;
+
+		Or(CompiledNode left, CompiledNode right) {
+			this.left = left;
+			this.right = right;
+		}
+
+		@Override
+		Object eval(Bindings bindings, ELContext context) {
+			Boolean l = bindings.convert(left.eval(bindings, context), Boolean.class);
+			return Boolean.TRUE.equals(l) ? Boolean.TRUE : bindings.convert(right.eval(bindings, context), Boolean.class);
+		}
+	}
+
+	static final class Choice extends CompiledNode {
+		private final CompiledNode question, yes, no;
+
+		Choice(CompiledNode question, CompiledNode yes, CompiledNode no) {
+			this.question = question;
+			this.yes = yes;
+			this.no = no;
+		}
+
+		@Override
+		Object eval(Bindings bindings, ELContext context) {
+			Boolean value = bindings.convert(question.eval(bindings, context), Boolean.class);
+			return value ? yes.eval(bindings, context) : no.eval(bindings, context);
+		}
+	}
+
+	static final class Unary extends CompiledNode {
+		private final AstUnary.SimpleOperator operator;
+		private final CompiledNode child;
+
+		Unary(AstUnary.SimpleOperator operator, CompiledNode child) {
+			this.operator = operator;
+			this.child = child;
+		}
+
+		@Override
+		Object eval(Bindings bindings, ELContext context) {
+			return operator.apply(bindings, child.eval(bindings, context));
+		}
+	}
+
+	static class Binary extends CompiledNode {
+		protected final AstBinary.SimpleOperator operator;
+		protected final CompiledNode left, right;
+
+		Binary(AstBinary.SimpleOperator operator, CompiledNode left, CompiledNode right) {
+			this.operator = operator;
+			this.left = left;
+			this.right = right;
+		}
+
+		@Override
+		Object eval(Bindings bindings, ELContext context) {
+			return operator.apply(bindings, left.eval(bindings, context), right.eval(bindings, context));
+		}
+	}
+
+	/**
+	 * Binary operator specialized on the operand types seen at its last (re-)specialization.
+	 * The fast paths replicate the semantics of {@link BooleanOperations} and
+	 * {@link NumberOperations} for the respective types.
+	 */
+	static final class Specialized extends Binary {
+		private static final int GENERIC = 0;
+		private static final int LONG = 1;
+		private static final int DOUBLE = 2;
+		private static final int STRING = 3;
+		private static final int BOOLEAN = 4;
+
+		private static final Guard DEOPTIMIZED = new Guard(null, null, GENERIC);
+
+		static boolean isSpecializable(AstBinary.Operator operator) {
+			return operator == AstBinary.EQ || operator == AstBinary.NE
+					|| operator == AstBinary.LT || operator == AstBinary.LE
+					|| operator == AstBinary.GT || operator == AstBinary.GE
+					|| operator == AstBinary.ADD || operator == AstBinary.SUB || operator == AstBinary.MUL;
+		}
+
+		private final boolean arithmetic;
+		private volatile Guard guard;
+		// not synchronized: concurrent type changes may lose an increment, which only delays the
+		// deoptimization; each evaluation works on one immutable guard read from the volatile field
+		private int specializations;
+
+		Specialized(AstBinary.SimpleOperator operator, CompiledNode left, CompiledNode right) {
+			super(operator, left, right);
+			this.arithmetic = operator == AstBinary.ADD || operator == AstBinary.SUB || operator == AstBinary.MUL;
+		}
+
+		@Override
+		Object eval(Bindings bindings, ELContext context) {
+			Object o1 = left.eval(bindings, context);
+			Object o2 = right.eval(bindings, context);
+			if (o1 != null && o2 != null) {
+				Guard guard = this.guard;
+				if (guard == null || guard.left != o1.getClass() || guard.right != o2.getClass()) {
+					guard = respecialize(o1.getClass(), o2.getClass());
+				}
+				switch (guard.kind) {
+					case LONG: return arithmetic
+							? arithmetic(((Number) o1).longValue(), ((Number) o2).longValue())
+							: compare(((Number) o1).longValue(), ((Number) o2).longValue());
+					case DOUBLE: return arithmetic
+							? arithmetic(((Number) o1).doubleValue(), ((Number) o2).doubleValue())
+							: compare(((Number) o1).doubleValue(), ((Number) o2).doubleValue());
+					case STRING: return compare((String) o1, (String) o2);
+					case BOOLEAN: return operator == AstBinary.EQ ? o1.equals(o2) : !o1.equals(o2);
+				}
+			}
+			return operator.apply(bindings, o1, o2);
+		}
+
+		private Guard respecialize(Class<?> t1, Class<?> t2) {
+			Guard guard = this.guard;
+			if (guard == DEOPTIMIZED) {
+				return guard;
+			}
+			if (guard != null && ++specializations >= MAX_RESPECIALIZATIONS) {
+				guard = DEOPTIMIZED;
+			} else {
+				guard = new Guard(t1, t2, kind(t1, t2));
+			}
+			this.guard = guard;
+			return guard;
+		}
+
+		private int kind(Class<?> t1, Class<?> t2) {
+			boolean integer1 = isSimpleInteger(t1), integer2 = isSimpleInteger(t2);
+			boolean float1 = t1 == Double.class || t1 == Float.class, float2 = t2 == Double.class || t2 == Float.class;
+			if (integer1 && integer2) {
+				return LONG;
+			}
+			if ((integer1 || float1) && (integer2 || float2)) {
+				return DOUBLE;
+			}
+			if (arithmetic) {
+				return GENERIC;
+			}
+			if (t1 == String.class && t2 == String.class) {
+				return STRING;
+			}
+			if (t1 == Boolean.class && t2 == Boolean.class && (operator == AstBinary.EQ || operator == AstBinary.NE)) {
+				return BOOLEAN;
+			}
+			return GENERIC;
+		}
+
+		private static boolean isSimpleInteger(Class<?> type) {
+			return type == Long.class || type == Integer.class || type == Short.class || type == Byte.class;
+		}
+
+		private Object arithmetic(long l1, long l2) {
+			if (operator == AstBinary.ADD) {
+				return l1 + l2;
+			}
+			if (operator == AstBinary.SUB) {
+				return l1 - l2;
+			}
+			return l1 * l2;
+		}
+
+		private Object arithmetic(double d1, double d2) {
+			if (operator == AstBinary.ADD) {
+				return d1 + d2;
+			}
+			if (operator == AstBinary.SUB) {
+				return d1 - d2;
+			}
+			return d1 * d2;
+		}
+
+		private Boolean compare(long l1, long l2) {
+			if (operator == AstBinary.EQ) {
+				return l1 == l2;
+			}
+			if (operator == AstBinary.NE) {
+				return l1 != l2;
+			}
+			if (operator == AstBinary.LT) {
+				return l1 < l2;
+			}
+			if (operator == AstBinary.LE) {
+				return l1 <= l2;
+			}
+			if (operator == AstBinary.GT) {
+				return l1 > l2;
+			}
+			return l1 >= l2;
+		}
+
+		private Boolean compare(double d1, double d2) {
+			// same as comparing Double objects (equality) or unboxed values (ordering), note that
+			// "<=" and ">=" are defined as negated ">" and "<" which matters for NaN
+			if (operator == AstBinary.EQ) {
+				return Double.doubleToLongBits(d1) == Double.doubleToLongBits(d2);
+			}
+			if (operator == AstBinary.NE) {
+				return Double.doubleToLongBits(d1) != Double.doubleToLongBits(d2);
+			}
+			if (operator == AstBinary.LT) {
+				return d1 < d2;
+			}
+			if (operator == AstBinary.LE) {
+				return !(d1 > d2);
+			}
+			if (operator == AstBinary.GT) {
+				return d1 > d2;
+			}
+			return !(d1 < d2);
+		}
+
+		private Boolean compare(String s1, String s2) {
+			if (operator == AstBinary.EQ) {
+				return s1.equals(s2);
+			}
+			if (operator == AstBinary.NE) {
+				return !s1.equals(s2);
+			}
+			int result = s1.compareTo(s2);
+			if (operator == AstBinary.LT) {
+				return result < 0;
+			}
+			if (operator == AstBinary.LE) {
+				return result <= 0;
+			}
+			if (operator == AstBinary.GT) {
+				return result > 0;
+			}
+			return result >= 0;
+		}
+	}
+
+	/**
+	 * Property access specialized on the resolver, base type and property seen at its last
+	 * (re-)specialization. A map entry or public bean getter is used as fast path only if it
+	 * returned the same value as the resolver when it was specialized. Note that this calls a
+	 * getter twice on specialization. All other accesses replicate {@link AstProperty#eval}.
+	 */
+	static final class Property extends CompiledNode {
+		private static final PropertyGuard DEOPTIMIZED = new PropertyGuard(null, null, null, null, false);
+
+		private final CompiledNode prefix, property;
+		private final boolean strict;
+		private volatile PropertyGuard guard;
+		// not synchronized for the same reasons as in Specialized
+		private int specializations;
+
+		Property(CompiledNode prefix, CompiledNode property, boolean strict) {
+			this.prefix = prefix;
+			this.property = property;
+			this.strict = strict;
+		}
+
+		@Override
+		Object eval(Bindings bindings, ELContext context) {
+			Object base = prefix.eval(bindings, context);
+			if (base == null) {
+				return null;
+			}
+			Object property = this.property.eval(bindings, context);
+			if (property == null && strict) {
+				return null;
+			}
+			ELResolver resolver = context.getELResolver();
+			PropertyGuard guard = this.guard;
+			if (guard != null && guard.matches(resolver, base, property)) {
+				if (guard.getter != null) {
+					Object result = invoke(guard.getter, base);
+					context.setPropertyResolved(base, property);
+					return result;
+				}
+				if (guard.map) {
+					Object result = ((Map<?, ?>) base).get(property);
+					context.setPropertyResolved(base, property);
+					return result;
+				}
+			}
+			Object result = resolve(resolver, context, base, property);
+			if (guard != DEOPTIMIZED && property != null && (guard == null || !guard.matches(resolver, base, property))) {
+				respecialize(resolver, base, property, result);
+			}
+			return result;
+		}
+
+		private Object resolve(ELResolver resolver, ELContext context, Object base, Object property) {
+			context.setPropertyResolved(false);
+			Object result = resolver.getValue(context, base, property);
+			if (!context.isPropertyResolved()) {
+				throw new PropertyNotFoundException(LocalMessages.get("error.property.property.notfound", property, base));
+			}
+			return result;
+		}
+
+		private void respecialize(ELResolver resolver, Object base, Object property, Object result) {
+			PropertyGuard guard = this.guard;
+			if (guard != null && ++specializations >= MAX_RESPECIALIZATIONS) {
+				guard = DEOPTIMIZED;
+			} else if (base instanceof Map) {
+				boolean map = ((Map<?, ?>) base).get(property) == result;
+				guard = new PropertyGuard(resolver, base.getClass(), property, null, map);
+			} else {
+				Method getter = property instanceof String ? findGetter(base.getClass(), (String) property) : null;
+				try {
+					if (getter != null && !Objects.equals(invoke(getter, base), result)) {
+						getter = null;
+					}
+				} catch (ELException e) {
+					// e.g. not accessible, use the resolver
+					getter = null;
+				}
+				guard = new PropertyGuard(resolver, base.getClass(), property, getter, false);
+			}
+			this.guard = guard;
+		}
+
+		private static Method findGetter(Class<?> type, String name) {
+			if (!Modifier.isPublic(type.getModifiers())) {
+				return null;
+			}
+			try {
+				for (PropertyDescriptor descriptor : Introspector.getBeanInfo(type).getPropertyDescriptors()) {
+					if (name.equals(descriptor.getName())) {
+						Method getter = descriptor.getReadMethod();
+						return getter != null && Modifier.isPublic(getter.getDeclaringClass().getModifiers()) ? getter : null;
+					}
+				}
+			} catch (IntrospectionException e) {
+				// use the resolver
+			}
+			return null;
+		}
+
+		private static Object invoke(Method getter, Object base) {
+			try {
+				return getter.invoke(base);
+			} catch (InvocationTargetException e) {
+				throw new ELException(e.getCause());
+			} catch (IllegalAccessException e) {
+				throw new ELException(e);
+			}
+		}
+	}
+
+	private static final class PropertyGuard {
+		final ELResolver resolver;
+		final Class<?> base;
+		final Object property;
+		final Method getter;
+		final boolean map;
+
+		PropertyGuard(ELResolver resolver, Class<?> base, Object property, Method getter, boolean map) {
+			this.resolver = resolver;
+			this.base = base;
+			this.property = property;
+			this.getter = getter;
+			this.map = map;
+		}
+
+		boolean matches(ELResolver resolver, Object base, Object property) {
+			return this.resolver == resolver && this.base == base.getClass() && this.property.equals(property);
+		}
+	}
+
+	private static final class Guard {
+		final Class<?> left, right;
+		final int kind;
+
+		Guard(Class<?> left, Class<?> right, int kind) {
+			this.left = left;
+			this.right = right;
+			this.kind = kind;
+		}
+	}
+}
@@ -23,6 +23,7 @@ import jakarta.el.VariableMapper;
 import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.PrintWriter;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 
 /**
  * A value expression is ready to be evaluated (by calling either
@@ -36,13 +37,19 @@ import java.io.PrintWriter;
 public final class TreeValueExpression extends jakarta.el.ValueExpression {
 	private static final long serialVersionUID = 1L;
 
+	private static final AtomicIntegerFieldUpdater<TreeValueExpression> EVALUATIONS =
+			AtomicIntegerFieldUpdater.newUpdater(TreeValueExpression.class, "evaluations");
+
 	private final TreeBuilder builder;
 	private final Bindings bindings;
 	private final String expr;
 	private final Class<?> type;
 	private final boolean deferred;
+	private final int compileThreshold;
 
 	private transient ExpressionNode node;
+	private transient volatile TreeCompiler.CompiledNode compiled;
+	private transient volatile int evaluations;
 
 	private String structure;
 
@@ -55,6 +62,20 @@ public final class TreeValueExpression extends jakarta.el.ValueExpression {
 	 * @param type the expected type (may be <code>null</code>)
 	 */
 	public TreeValueExpression(TreeStore store, FunctionMapper functions, VariableMapper variables, TypeConverter converter, String expr, Class<?> type) {
+		this(store, functions, variables, converter, expr, type, 0);
+	}
+
+	/**
+	 * Create a new value expression which is compiled once it has been evaluated the given number of times.
+	 * @param store used to get the parse tree from.
+	 * @param functions the function mapper used to bind functions
+	 * @param variables the variable mapper used to bind variables
+	 * @param expr the expression string
+	 * @param type the expected type (may be <code>null</code>)
+	 * @param compileThreshold number of evaluations after which the parse tree is compiled
+	 * using the {@link TreeCompiler} (<code>0</code> to never compile)
+	 */
+	public TreeValueExpression(TreeStore store, FunctionMapper functions, VariableMapper variables, TypeConverter converter, String expr, Class<?> type, int compileThreshold) {
 		super();
 
 		Tree tree = store.get(expr);
@@ -65,6 +86,7 @@ public final class TreeValueExpression extends jakarta.el.ValueExpression {
 		this.type = type;
 		this.node = tree.getRoot();
 		this.deferred = tree.isDeferred();
+		this.compileThreshold = compileThreshold;
 		
 		if (type == null) {
 			throw new NullPointerException(LocalMessages.get("error.value.notype"));
@@ -109,6 +131,16 @@ public final class TreeValueExpression extends jakarta.el.ValueExpression {
    */
 	@Override
 	public Object getValue(ELContext context) throws ELException {
+		TreeCompiler.CompiledNode compiled = this.compiled;
+		if (compiled != null) {
+			return compiled.getValue(bindings, context, type);
+		}
+		// expressions are shared between threads, so exactly one evaluation reaches the threshold
+		// and compiles; evaluations in the meantime keep using the interpreter
+		if (compileThreshold > 0 && evaluations < compileThreshold
+				&& EVALUATIONS.incrementAndGet(this) == compileThreshold) {
+			this.compiled = TreeCompiler.compile(node, bindings);
+		}
 		return node.getValue(bindings, context, type);
 	}
 
@@ -158,6 +190,13 @@ public final class TreeValueExpression extends jakarta.el.ValueExpression {
 		return node.isLeftValue();
 	}
 	
+	/**
+	 * Answer <code>true</code> if the parse tree has been compiled, see {@link TreeCompiler}.
+	 */
+	public boolean isCompiled() {
+		return compiled != null;
+	}
+
 	/**
 	 * Answer <code>true</code> if this is a deferred expression (containing
 	 * sub-expressions starting with <code>#{</code>)
@@ -0,0 +1,172 @@
+/*
+ * Based on JUEL 2.2.1 code, 2006-2009 Odysseus Software GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.finos.fluxnova.bpm.impl.juel;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import org.junit.Test;
+
+public class ConcurrentCacheTest {
+
+	private static final Tree[] TREES = new Tree[16];
+
+	static {
+		Builder builder = new Builder();
+		for (int i = 0; i < TREES.length; i++) {
+			TREES[i] = builder.build("${a + " + i + "}");
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testInvalidSize() {
+		new ConcurrentCache(0);
+	}
+
+	@Test
+	public void testGetAndPut() {
+		ConcurrentCache cache = new ConcurrentCache(10);
+
+		assertNull(cache.get("x"));
+		cache.put("x", TREES[0]);
+		assertSame(TREES[0], cache.get("x"));
+
+		// the first tree stays cached
+		cache.put("x", TREES[1]);
+		assertSame(TREES[0], cache.get("x"));
+
+		assertEquals(1, cache.size());
+		assertEquals(2, cache.getHitCount());
+		assertEquals(1, cache.getMissCount());
+		assertEquals(2d / 3, cache.getHitRatio(), 0.0001);
+	}
+
+	@Test
+	public void testCapacity() {
+		ConcurrentCache cache = new ConcurrentCache(100);
+
+		for (int i = 0; i < 1000; i++) {
+			cache.put(key(i), tree(i));
+			assertTrue(cache.size() <= 100);
+		}
+
+		assertEquals(100, cache.size());
+		assertEquals(900, cache.getEvictionCount());
+		// the most recent entries are kept
+		assertSame(tree(999), cache.get(key(999)));
+		assertNull(cache.get(key(0)));
+	}
+
+	@Test
+	public void testEvictUnreferencedEntries() {
+		ConcurrentCache cache = new ConcurrentCache(2);
+		cache.put("a", TREES[0]);
+		cache.put("b", TREES[1]);
+
+		// when a is referenced before c is inserted
+		cache.get("a");
+		cache.put("c", TREES[2]);
+
+		// then b is evicted, a gets a second chance
+		assertSame(TREES[0], cache.get("a"));
+		assertNull(cache.get("b"));
+		assertSame(TREES[2], cache.get("c"));
+		assertEquals(1, cache.getEvictionCount());
+	}
+
+	@Test
+	public void testEvictNewEntryAfterSecondChanceOfAllOthers() {
+		ConcurrentCache cache = new ConcurrentCache(2);
+		cache.put("a", TREES[0]);
+		cache.put("b", TREES[1]);
+		cache.get("a");
+		cache.get("b");
+
+		// when all cached entries are referenced
+		cache.put("c", TREES[2]);
+
+		// then they get a second chance and the new entry is the first unreferenced one in the queue
+		assertEquals(2, cache.size());
+		assertSame(TREES[0], cache.get("a"));
+		assertSame(TREES[1], cache.get("b"));
+		assertNull(cache.get("c"));
+	}
+
+	@Test
+	public void testConcurrentGetAndPut() throws Exception {
+		final int threads = 8;
+		final int operations = 20000;
+		final int keys = 500;
+		final ConcurrentCache cache = new ConcurrentCache(100);
+		final CountDownLatch start = new CountDownLatch(1);
+
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		try {
+			List<Future<Void>> results = new ArrayList<Future<Void>>();
+			for (int t = 0; t < threads; t++) {
+				results.add(executor.submit(new Callable<Void>() {
+					public Void call() throws Exception {
+						start.await();
+						ThreadLocalRandom random = ThreadLocalRandom.current();
+						for (int i = 0; i < operations; i++) {
+							// skewed keys, so that some entries are hot
+							int k = random.nextBoolean() ? random.nextInt(20) : random.nextInt(keys);
+							Tree tree = cache.get(key(k));
+							if (tree == null) {
+								cache.put(key(k), tree(k));
+							} else {
+								assertSame(tree(k), tree);
+							}
+						}
+						return null;
+					}
+				}));
+			}
+			start.countDown();
+			for (Future<Void> result : results) {
+				result.get();
+			}
+		} finally {
+			executor.shutdown();
+		}
+
+		assertEquals(threads * operations, cache.getHitCount() + cache.getMissCount());
+		assertTrue(cache.getHitCount() > 0);
+		assertTrue(cache.getEvictionCount() > 0);
+
+		// concurrent writers skip eviction while another one sweeps, the next insert restores the size
+		cache.put(key(keys), tree(keys));
+		assertTrue(cache.toString(), cache.size() <= 100);
+	}
+
+	private static String key(int i) {
+		return "${a + " + i + "}";
+	}
+
+	private static Tree tree(int i) {
+		return TREES[i % TREES.length];
+	}
+}
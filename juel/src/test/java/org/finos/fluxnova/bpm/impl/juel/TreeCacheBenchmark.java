@@ -0,0 +1,81 @@
+/*
+ * Based on JUEL 2.2.1 code, 2006-2009 Odysseus Software GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.finos.fluxnova.bpm.impl.juel;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the tree caches under contention: 95% of the lookups hit, a miss is followed by a put.
+ * Not run by the build, start it from the test classpath with
+ * <code>java -cp ... org.openjdk.jmh.Main TreeCacheBenchmark</code>.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(16)
+public class TreeCacheBenchmark {
+
+	@Param({ "lru", "concurrent" })
+	public String cacheType;
+
+	@Param({ "1000", "10000" })
+	public int size;
+
+	private TreeCache cache;
+	private String[] keys;
+	private Tree tree;
+
+	@Setup
+	public void setUp() {
+		cache = "lru".equals(cacheType) ? new Cache(size) : new ConcurrentCache(size);
+		tree = new Builder().build("${a + 1}");
+		// 5% of the keys are not cached
+		keys = new String[size + size / 19];
+		for (int i = 0; i < keys.length; i++) {
+			keys[i] = "${a + " + i + "}";
+			if (i < size) {
+				cache.put(keys[i], tree);
+			}
+		}
+	}
+
+	@Benchmark
+	public Tree getOrPut() {
+		String key = keys[ThreadLocalRandom.current().nextInt(keys.length)];
+		Tree result = cache.get(key);
+		if (result == null) {
+			cache.put(key, tree);
+			result = tree;
+		}
+		return result;
+	}
+}
@@ -0,0 +1,438 @@
+/*
+ * Based on JUEL 2.2.1 code, 2006-2009 Odysseus Software GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.finos.fluxnova.bpm.impl.juel;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import jakarta.el.CompositeELResolver;
+import jakarta.el.ELContext;
+import jakarta.el.MapELResolver;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Checks that compiled expressions evaluate to the same results as interpreted ones.
+ */
+public class TreeCompilerTest {
+
+	private static final Object[] OPERANDS = {
+			null, 0, 1, -7, 3L, Long.MAX_VALUE, (short) 2, (byte) -1, 2.5d, -0.0d, Double.NaN, 1.5f,
+			new BigDecimal("2.50"), BigInteger.TEN, "1", "2.5", "abc", "", true, false, 'a'
+	};
+
+	private static final String[] BINARY_OPERATORS = {
+			"==", "!=", "<", "<=", ">", ">=", "+", "-", "*", "/", "%", "&&", "||"
+	};
+
+	private ExpressionFactoryImpl interpreter;
+	private ExpressionFactoryImpl compiler;
+	private SimpleResolver resolver;
+	private SimpleContext context;
+
+	@Before
+	public void setUp() {
+		interpreter = new ExpressionFactoryImpl(0);
+		compiler = new ExpressionFactoryImpl(1);
+		resolver = new SimpleResolver();
+		context = new SimpleContext(resolver);
+	}
+
+	@Test
+	public void testConstant() {
+		assertEquivalent("${1 + 2 * 3}");
+		assertEquivalent("${'a' == 'a' ? 1.5 : 2}");
+		assertEquivalent("${not (true and false)}");
+		assertEquivalent("${-(3)}");
+		assertEquivalent("${empty ''}");
+		assertEquivalent("${(((1)))}");
+	}
+
+	@Test
+	public void testFailingConstant() {
+		// folding fails, so the error is reported when the expression is evaluated
+		assertEquivalent("${1 / 'x'}");
+		assertEquivalent("${true ? -'x' : 1}");
+	}
+
+	@Test
+	public void testInterpretedNodes() {
+		Map<String, Object> map = new HashMap<String, Object>();
+		map.put("key", 5L);
+		set("m", map);
+		set("list", Collections.singletonList("item"));
+
+		assertEquivalent("${m.key}");
+		assertEquivalent("${m['key'] + 1}");
+		assertEquivalent("${list[0] == 'item'}");
+		assertEquivalent("${m.unknown == null}");
+		assertEquivalent("${unknown}");
+		assertEquivalent("text ${m.key} text");
+	}
+
+	@Test
+	public void testPropertyAccess() {
+		Map<String, Object> map = new HashMap<String, Object>();
+		map.put("key", 5L);
+		map.put("nullValue", null);
+		set("m", map);
+		set("bean", new Bean(3));
+		set("list", Collections.singletonList("item"));
+		set("array", new int[] { 7 });
+		set("k", "key");
+
+		for (int i = 0; i < 3; i++) {
+			assertEquivalent("${m.key + 1}");
+			assertEquivalent("${m[k]}");
+			assertEquivalent("${m.nullValue}");
+			assertEquivalent("${m.unknown}");
+			assertEquivalent("${bean.value * 2}");
+			assertEquivalent("${bean.self.value}");
+			assertEquivalent("${bean['value']}");
+			assertEquivalent("${bean.failing}");
+			assertEquivalent("${bean.unknown}");
+			assertEquivalent("${list[0]}");
+			assertEquivalent("${array[0]}");
+			assertEquivalent("${m.key.unknown}");
+			assertEquivalent("${unknown.key}");
+			assertEquivalent("${m[null]}");
+		}
+	}
+
+	@Test
+	public void testSpecializedPropertyWithChangingBases() {
+		Map<String, Object> map = new HashMap<String, Object>();
+		map.put("value", "fromMap");
+		Object[] bases = { map, new Bean(1), null, new Bean(2), "text", map, new Bean(3) };
+		TreeValueExpression compiled = compile("${a.value}", Object.class);
+		TreeValueExpression interpreted = interpreter.createValueExpression(context, "${a.value}", Object.class);
+		for (int round = 0; round < 3; round++) {
+			for (Object base : bases) {
+				set("a", base);
+				assertEquals(describe(base), evaluate(interpreted), evaluate(compiled));
+			}
+		}
+	}
+
+	@Test
+	public void testSpecializedPropertyWithChangingResolver() {
+		Map<String, Object> map = new HashMap<String, Object>();
+		map.put("key", "fromMap");
+		set("m", map);
+		TreeValueExpression expression = compile("${m.key}", Object.class);
+		assertEquals("fromMap", expression.getValue(context));
+
+		// when the same expression is evaluated with a resolver which resolves map entries differently
+		final SimpleResolver root = new SimpleResolver();
+		root.getRootPropertyResolver().setProperty("m", map);
+		CompositeELResolver resolver = new CompositeELResolver();
+		resolver.add(new MapELResolver() {
+			@Override
+			public Object getValue(ELContext context, Object base, Object property) {
+				Object value = super.getValue(context, base, property);
+				return value == null ? null : value + "!";
+			}
+		});
+		resolver.add(root);
+		SimpleContext otherContext = new SimpleContext(resolver);
+
+		// then the specialized access is not used
+		assertEquals("fromMap!", expression.getValue(otherContext));
+		assertEquals("fromMap", expression.getValue(context));
+	}
+
+	@Test
+	public void testAndOr() {
+		for (Object a : OPERANDS) {
+			for (Object b : OPERANDS) {
+				set("a", a);
+				set("b", b);
+				assertEquivalent("${a && b}");
+				assertEquivalent("${a or b}");
+			}
+		}
+	}
+
+	@Test
+	public void testShortCircuit() {
+		set("a", false);
+		set("b", true);
+		// the right operand would fail if it were evaluated
+		assertEquivalent("${a and (1 / 'x' > 0)}");
+		assertEquivalent("${b or (1 / 'x' > 0)}");
+	}
+
+	@Test
+	public void testChoice() {
+		for (Object a : OPERANDS) {
+			set("a", a);
+			set("b", 1);
+			set("c", "c");
+			assertEquivalent("${a ? b : c}");
+		}
+	}
+
+	@Test
+	public void testUnary() {
+		for (Object a : OPERANDS) {
+			set("a", a);
+			assertEquivalent("${-a}");
+			assertEquivalent("${not a}");
+			assertEquivalent("${empty a}");
+		}
+	}
+
+	@Test
+	public void testBinary() {
+		for (String operator : BINARY_OPERATORS) {
+			String expression = "${a " + operator + " b}";
+			for (Object a : OPERANDS) {
+				for (Object b : OPERANDS) {
+					set("a", a);
+					set("b", b);
+					assertEquivalent(expression);
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testSpecializedOperatorWithChangingTypes() {
+		// each evaluation goes through the same compiled expression, so the operators
+		// respecialize on every type change until they are deoptimized
+		for (String operator : BINARY_OPERATORS) {
+			String expression = "${a " + operator + " b}";
+			TreeValueExpression compiled = compile(expression, Object.class);
+			TreeValueExpression interpreted = interpreter.createValueExpression(context, expression, Object.class);
+			for (Object a : OPERANDS) {
+				for (Object b : OPERANDS) {
+					set("a", a);
+					set("b", b);
+					assertEquals(expression + " with " + describe(a) + ", " + describe(b),
+							evaluate(interpreted), evaluate(compiled));
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testCoercionToExpectedType() {
+		set("a", 1);
+		set("b", 2.5d);
+		set("s", "3");
+		assertEquivalent("${a + b}", String.class);
+		assertEquivalent("${a + b}", Long.class);
+		assertEquivalent("${s + a}", Integer.class);
+		assertEquivalent("${a < b}", String.class);
+		assertEquivalent("${s}", Boolean.class);
+		assertEquivalent("${a + b}", Boolean.class);
+	}
+
+	@Test
+	public void testNumericEdgeCases() {
+		set("max", Long.MAX_VALUE);
+		set("one", 1);
+		set("nan", Double.NaN);
+		set("negativeZero", -0.0d);
+		set("zero", 0.0d);
+		assertEquivalent("${max + one}");
+		assertEquivalent("${max * max}");
+		assertEquivalent("${nan == nan}");
+		assertEquivalent("${nan != nan}");
+		assertEquivalent("${nan <= one}");
+		assertEquivalent("${nan >= one}");
+		assertEquivalent("${negativeZero == zero}");
+		assertEquivalent("${negativeZero < zero}");
+	}
+
+	@Test
+	public void testCustomConverterIsNotSpecialized() {
+		TypeConverter converter = new TypeConverterImpl() {
+			private static final long serialVersionUID = 1L;
+			@Override
+			protected Long coerceToLong(Object value) {
+				return value instanceof String ? Long.valueOf(((String) value).length()) : super.coerceToLong(value);
+			}
+		};
+		Tree tree = new Builder().build("${a + b}");
+		Bindings bindings = tree.bind(null, null, converter);
+		TreeCompiler.CompiledNode compiled = TreeCompiler.compile(tree.getRoot(), bindings);
+
+		set("a", "abc");
+		set("b", 1L);
+		assertEquals(4L, tree.getRoot().getValue(bindings, context, Object.class));
+		assertEquals(4L, compiled.getValue(bindings, context, Object.class));
+	}
+
+	@Test
+	public void testCompileThreshold() {
+		ExpressionFactoryImpl factory = new ExpressionFactoryImpl(3);
+		TreeValueExpression expression = factory.createValueExpression(context, "${1 + 1}", Object.class);
+
+		expression.getValue(context);
+		expression.getValue(context);
+		assertFalse(expression.isCompiled());
+
+		expression.getValue(context);
+		assertTrue(expression.isCompiled());
+		assertEquals(2L, expression.getValue(context));
+	}
+
+	@Test
+	public void testNeverCompileByDefault() {
+		TreeValueExpression expression = interpreter.createValueExpression(context, "${1 + 1}", Object.class);
+		for (int i = 0; i < 100; i++) {
+			expression.getValue(context);
+		}
+		assertFalse(expression.isCompiled());
+		assertEquals(0, new ExpressionFactoryImpl().getCompileThreshold());
+	}
+
+	@Test
+	public void testConcurrentEvaluation() throws Exception {
+		final int threads = 8;
+		final int evaluations = 2000;
+		final TreeValueExpression expression = new ExpressionFactoryImpl(100)
+				.createValueExpression(context, "${a * 2 + 1 > b ? 'yes' : 'no'}", Object.class);
+
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		try {
+			List<Future<Void>> results = new ArrayList<Future<Void>>();
+			for (int t = 0; t < threads; t++) {
+				final long offset = t;
+				results.add(executor.submit(new Callable<Void>() {
+					public Void call() {
+						for (int i = 0; i < evaluations; i++) {
+							SimpleResolver threadResolver = new SimpleResolver();
+							SimpleContext threadContext = new SimpleContext(threadResolver);
+							long a = offset + i;
+							threadResolver.getRootPropertyResolver().setProperty("a", a);
+							threadResolver.getRootPropertyResolver().setProperty("b", 2000L);
+							assertEquals(a * 2 + 1 > 2000L ? "yes" : "no", expression.getValue(threadContext));
+						}
+						return null;
+					}
+				}));
+			}
+			for (Future<Void> result : results) {
+				result.get();
+			}
+		} finally {
+			executor.shutdown();
+		}
+		assertTrue(expression.isCompiled());
+	}
+
+	@Test
+	public void testDeoptimization() {
+		TreeValueExpression expression = compile("${a < b}", Object.class);
+		Object[][] operands = {
+				{ 1, 2 }, { 1.5d, 2 }, { "a", "b" }, { 1, "2" }, { 2L, 1L }, { "b", "a" }, { 3, 4.5f }
+		};
+		for (int round = 0; round < 3; round++) {
+			for (Object[] pair : operands) {
+				set("a", pair[0]);
+				set("b", pair[1]);
+				assertEquals(interpreter.createValueExpression(context, "${a < b}", Object.class).getValue(context),
+						expression.getValue(context));
+			}
+		}
+	}
+
+	public static class Bean {
+		private final int value;
+
+		public Bean(int value) {
+			this.value = value;
+		}
+
+		public int getValue() {
+			return value;
+		}
+
+		public Bean getSelf() {
+			return this;
+		}
+
+		public String getFailing() {
+			throw new IllegalStateException("failing");
+		}
+	}
+
+	private void assertEquivalent(String expression) {
+		assertEquivalent(expression, Object.class);
+	}
+
+	private void assertEquivalent(String expression, Class<?> expectedType) {
+		Object expected = evaluate(interpreter.createValueExpression(context, expression, expectedType));
+		Object actual = evaluate(compile(expression, expectedType));
+		assertEquals(expression + " with " + describeProperties(), expected, actual);
+	}
+
+	/**
+	 * @return an expression which is compiled already
+	 */
+	private TreeValueExpression compile(String expression, Class<?> expectedType) {
+		TreeValueExpression valueExpression = compiler.createValueExpression(context, expression, expectedType);
+		try {
+			valueExpression.getValue(context);
+		} catch (RuntimeException e) {
+			// compiled anyway, the result is checked by the caller
+		}
+		assertTrue(valueExpression.isCompiled());
+		return valueExpression;
+	}
+
+	/**
+	 * @return the result or the type of exception thrown during evaluation
+	 */
+	private Object evaluate(TreeValueExpression expression) {
+		try {
+			Object value = expression.getValue(context);
+			return value == null ? null : value.getClass().getName() + ":" + value;
+		} catch (RuntimeException e) {
+			return e.getClass();
+		}
+	}
+
+	private void set(String name, Object value) {
+		resolver.getRootPropertyResolver().setProperty(name, value);
+	}
+
+	private String describeProperties() {
+		StringBuilder builder = new StringBuilder();
+		for (String property : resolver.getRootPropertyResolver().properties()) {
+			builder.append(property).append('=').append(describe(resolver.getRootPropertyResolver().getProperty(property))).append(' ');
+		}
+		return builder.toString();
+	}
+
+	private static String describe(Object value) {
+		return value == null ? "null" : value.getClass().getSimpleName() + "(" + value + ")";
+	}
+}
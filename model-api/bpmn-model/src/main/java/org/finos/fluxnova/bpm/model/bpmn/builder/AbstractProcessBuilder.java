@@ -121,4 +121,29 @@ public abstract class AbstractProcessBuilder<B extends AbstractProcessBuilder<B>
     element.setFluxnovaVersionTag(versionTag);
     return myself;
   }
+
+  /**
+   * Marks the process as straight-through: instances which are started and
+   * completed within the same transaction write their history without
+   * additional bulk updates.
+   *
+   * @return the builder object
+   */
+  public B fluxnovaStraightThrough() {
+    element.setFluxnovaStraightThrough(true);
+    return myself;
+  }
+
+  /**
+   * Declares process variables whose values are kept in an indexed lookup
+   * table, so that variable filters on them do not have to scan all
+   * variable instances.
+   *
+   * @param variableNames the names of the searchable variables
+   * @return the builder object
+   */
+  public B fluxnovaSearchableVariables(String... variableNames) {
+    element.setFluxnovaSearchableVariables(String.join(",", variableNames));
+    return myself;
+  }
 }
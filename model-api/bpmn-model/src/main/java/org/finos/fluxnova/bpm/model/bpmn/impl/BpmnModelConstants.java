@@ -493,4 +493,6 @@ public final class BpmnModelConstants {
   public static final String CAMUNDA_ATTRIBUTE_HISTORY_TIME_TO_LIVE = "historyTimeToLive";
   public static final String CAMUNDA_ATTRIBUTE_IS_STARTABLE_IN_TASKLIST = "isStartableInTasklist";
   public static final String CAMUNDA_ATTRIBUTE_VERSION_TAG = "versionTag";
+  public static final String CAMUNDA_ATTRIBUTE_STRAIGHT_THROUGH = "straightThrough";
+  public static final String CAMUNDA_ATTRIBUTE_SEARCHABLE_VARIABLES = "searchableVariables";
 }
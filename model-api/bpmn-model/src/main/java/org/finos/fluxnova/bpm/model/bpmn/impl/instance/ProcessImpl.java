@@ -26,6 +26,8 @@ import static org.finos.fluxnova.bpm.model.bpmn.impl.BpmnModelConstants.CAMUNDA_
 import static org.finos.fluxnova.bpm.model.bpmn.impl.BpmnModelConstants.CAMUNDA_ATTRIBUTE_HISTORY_TIME_TO_LIVE;
 import static org.finos.fluxnova.bpm.model.bpmn.impl.BpmnModelConstants.CAMUNDA_ATTRIBUTE_IS_STARTABLE_IN_TASKLIST;
 import static org.finos.fluxnova.bpm.model.bpmn.impl.BpmnModelConstants.CAMUNDA_ATTRIBUTE_JOB_PRIORITY;
+import static org.finos.fluxnova.bpm.model.bpmn.impl.BpmnModelConstants.CAMUNDA_ATTRIBUTE_SEARCHABLE_VARIABLES;
+import static org.finos.fluxnova.bpm.model.bpmn.impl.BpmnModelConstants.CAMUNDA_ATTRIBUTE_STRAIGHT_THROUGH;
 import static org.finos.fluxnova.bpm.model.bpmn.impl.BpmnModelConstants.CAMUNDA_ATTRIBUTE_TASK_PRIORITY;
 import static org.finos.fluxnova.bpm.model.bpmn.impl.BpmnModelConstants.CAMUNDA_ATTRIBUTE_VERSION_TAG;
 import static org.finos.fluxnova.bpm.model.bpmn.impl.BpmnModelConstants.CAMUNDA_NS;
@@ -89,6 +91,8 @@ public class ProcessImpl extends CallableElementImpl implements Process {
   protected static Attribute<String> camundaHistoryTimeToLiveAttribute;
   protected static Attribute<Boolean> camundaIsStartableInTasklistAttribute;
   protected static Attribute<String> camundaVersionTagAttribute;
+  protected static Attribute<Boolean> camundaStraightThroughAttribute;
+  protected static Attribute<String> camundaSearchableVariablesAttribute;
 
   public static void registerType(ModelBuilder modelBuilder) {
     ModelElementTypeBuilder typeBuilder = modelBuilder.defineType(Process.class, BPMN_ELEMENT_PROCESS)
@@ -174,6 +178,15 @@ public class ProcessImpl extends CallableElementImpl implements Process {
       .namespace(CAMUNDA_NS)
       .build();
 
+    camundaStraightThroughAttribute = typeBuilder.booleanAttribute(CAMUNDA_ATTRIBUTE_STRAIGHT_THROUGH)
+      .defaultValue(false)
+      .namespace(CAMUNDA_NS)
+      .build();
+
+    camundaSearchableVariablesAttribute = typeBuilder.stringAttribute(CAMUNDA_ATTRIBUTE_SEARCHABLE_VARIABLES)
+      .namespace(CAMUNDA_NS)
+      .build();
+
     typeBuilder.build();
   }
 
@@ -358,4 +371,24 @@ public class ProcessImpl extends CallableElementImpl implements Process {
   public void setFluxnovaVersionTag(String versionTag) {
     camundaVersionTagAttribute.setValue(this, versionTag);
   }
+
+  @Override
+  public boolean isFluxnovaStraightThrough() {
+    return camundaStraightThroughAttribute.getValue(this);
+  }
+
+  @Override
+  public void setFluxnovaStraightThrough(boolean isStraightThrough) {
+    camundaStraightThroughAttribute.setValue(this, isStraightThrough);
+  }
+
+  @Override
+  public String getFluxnovaSearchableVariables() {
+    return camundaSearchableVariablesAttribute.getValue(this);
+  }
+
+  @Override
+  public void setFluxnovaSearchableVariables(String searchableVariables) {
+    camundaSearchableVariablesAttribute.setValue(this, searchableVariables);
+  }
 }
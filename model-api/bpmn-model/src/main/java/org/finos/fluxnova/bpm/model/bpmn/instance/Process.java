@@ -112,4 +112,12 @@ public interface Process extends CallableElement {
   String getFluxnovaVersionTag();
 
   void setFluxnovaVersionTag(String versionTag);
+
+  boolean isFluxnovaStraightThrough();
+
+  void setFluxnovaStraightThrough(boolean isStraightThrough);
+
+  String getFluxnovaSearchableVariables();
+
+  void setFluxnovaSearchableVariables(String searchableVariables);
 }
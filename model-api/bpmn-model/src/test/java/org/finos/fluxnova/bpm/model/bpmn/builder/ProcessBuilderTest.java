@@ -622,6 +622,41 @@ public class ProcessBuilderTest {
     assertThat(process.isFluxnovaStartableInTasklist()).isEqualTo(true);
   }
 
+  @Test
+  public void testProcessStraightThrough() {
+    modelInstance = Bpmn.createProcess(PROCESS_ID)
+      .fluxnovaStraightThrough()
+      .startEvent()
+      .endEvent()
+      .done();
+
+    Process process = modelInstance.getModelElementById(PROCESS_ID);
+    assertThat(process.isFluxnovaStraightThrough()).isTrue();
+  }
+
+  @Test
+  public void testProcessNotStraightThroughByDefault() {
+    modelInstance = Bpmn.createProcess(PROCESS_ID)
+      .startEvent()
+      .endEvent()
+      .done();
+
+    Process process = modelInstance.getModelElementById(PROCESS_ID);
+    assertThat(process.isFluxnovaStraightThrough()).isFalse();
+  }
+
+  @Test
+  public void testProcessSearchableVariables() {
+    modelInstance = Bpmn.createProcess(PROCESS_ID)
+      .fluxnovaSearchableVariables("orderId", "customer")
+      .startEvent()
+      .endEvent()
+      .done();
+
+    Process process = modelInstance.getModelElementById(PROCESS_ID);
+    assertThat(process.getFluxnovaSearchableVariables()).isEqualTo("orderId,customer");
+  }
+
   @Test
   public void testTaskFluxnovaExternalTask() {
     modelInstance = Bpmn.createProcess()
@@ -64,7 +64,9 @@ public class ProcessTest extends BpmnModelElementInstanceTest {
       new AttributeAssumption(CAMUNDA_NS, "taskPriority"),
       new AttributeAssumption(CAMUNDA_NS, "historyTimeToLive"),
       new AttributeAssumption(CAMUNDA_NS, "isStartableInTasklist", false, false, true),
-      new AttributeAssumption(CAMUNDA_NS, "versionTag")
+      new AttributeAssumption(CAMUNDA_NS, "versionTag"),
+      new AttributeAssumption(CAMUNDA_NS, "straightThrough", false, false, false),
+      new AttributeAssumption(CAMUNDA_NS, "searchableVariables")
     );
   }
 
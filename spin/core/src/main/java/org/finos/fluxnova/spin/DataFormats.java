@@ -46,6 +46,8 @@ public class DataFormats {
 
   public static String XML_DATAFORMAT_NAME = "application/xml";
 
+  public static String CBOR_DATAFORMAT_NAME = "application/cbor";
+
   /** The global instance of the manager */
   static DataFormats INSTANCE = new DataFormats();
 
@@ -0,0 +1,38 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.finos.fluxnova.spin.spi;
+
+import java.io.InputStream;
+
+/**
+ * A {@link DataFormatReader} that is additionally able to read its input from raw bytes.
+ * Data formats with a binary representation implement this interface so that callers
+ * which store serialized values as bytes (e.g. the process engine) do not have to
+ * go through a character encoding.
+ */
+public interface BinaryDataFormatReader extends DataFormatReader {
+
+  /**
+   * Read (or parse) an input stream into this data format's input structure.
+   *
+   * @param input an {@link InputStream} providing the binary data source
+   * @return the read or parsed input
+   * @throws SpinDataFormatException in case the input cannot be read
+   */
+  Object readInput(InputStream input);
+
+}
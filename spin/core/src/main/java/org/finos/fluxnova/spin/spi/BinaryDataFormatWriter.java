@@ -0,0 +1,39 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.finos.fluxnova.spin.spi;
+
+import java.io.OutputStream;
+
+/**
+ * A {@link DataFormatWriter} that is additionally able to write its output as raw bytes.
+ *
+ * @see BinaryDataFormatReader
+ */
+public interface BinaryDataFormatWriter extends DataFormatWriter {
+
+  /**
+   * Writes the internal representation, as provided by <code>input</code>
+   * to the supplied <code>output</code> stream in the binary encoding of the
+   * data format that the implementation belongs to.
+   *
+   * @param output The stream to write the output to
+   * @param input The object to write. Can be safely cast to the internal
+   * format of the data format.
+   */
+  void writeToOutputStream(OutputStream output, Object input);
+
+}
@@ -115,4 +115,13 @@ public class JacksonJsonLogger extends SpinLogger {
     return new SpinJsonPathException(
             exceptionMessage("017", "Invalid json path to '{}'", castClass.getName()), cause);
   }
+
+  public SpinJsonPathException unsupportedStreamingJsonPath(String expression) {
+    return new SpinJsonPathException(
+        exceptionMessage("018", "Json path '{}' cannot be evaluated while streaming. Only property names and array indexes are supported.", expression));
+  }
+
+  public SpinJsonPathException unableToFindPath(String expression) {
+    return new SpinJsonPathException(exceptionMessage("019", "Unable to find '{}'", expression));
+  }
 }
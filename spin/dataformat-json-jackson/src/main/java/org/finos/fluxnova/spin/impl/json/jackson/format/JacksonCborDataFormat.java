@@ -0,0 +1,125 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.finos.fluxnova.spin.impl.json.jackson.format;
+
+import java.util.Map;
+
+import org.finos.fluxnova.spin.DataFormats;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+
+/**
+ * Json data format which uses the compact binary CBOR encoding (RFC 8949) for its
+ * serialized representation.
+ *
+ * <p>Mapping between java objects and json nodes is delegated to the regular json
+ * {@link ObjectMapper} of this data format, so mapping related configuration (modules,
+ * date formats, ...) applies to both encodings. Only reading and writing bytes uses a
+ * dedicated CBOR mapper. Text input and output remains json so that spin nodes of this
+ * data format can be inspected and created from strings.</p>
+ *
+ * <p>Serialized values that exceed the {@link #getCompressionThreshold() compression threshold}
+ * are additionally gzip compressed. Compressed and uncompressed values can always be read,
+ * so changing the threshold does not affect existing values.</p>
+ */
+public class JacksonCborDataFormat extends JacksonJsonDataFormat {
+
+  public static final String DATA_FORMAT_NAME = DataFormats.CBOR_DATAFORMAT_NAME;
+
+  /** configuration property holding the compression threshold in bytes */
+  public static final String COMPRESSION_THRESHOLD_PROPERTY = "cbor-compression-threshold";
+
+  /** serialized values are not compressed by default */
+  public static final int NO_COMPRESSION = -1;
+
+  /** The Jackson Object Mapper used to read and write CBOR */
+  protected ObjectMapper cborObjectMapper;
+
+  protected int compressionThreshold = NO_COMPRESSION;
+
+  public JacksonCborDataFormat(String name) {
+    this(name, new ObjectMapper());
+  }
+
+  public JacksonCborDataFormat(String name, ObjectMapper objectMapper) {
+    super(name, objectMapper);
+    this.cborObjectMapper = new ObjectMapper(new CBORFactory());
+  }
+
+  public JacksonCborDataFormat(String name, Map<String, Object> configurationProperties) {
+    this(name);
+    Object threshold = configurationProperties.get(COMPRESSION_THRESHOLD_PROPERTY);
+    if (threshold != null) {
+      compressionThreshold = Integer.parseInt(threshold.toString());
+    }
+  }
+
+  @Override
+  protected void initWriter() {
+    this.dataFormatWriter = new JacksonCborDataFormatWriter(this);
+  }
+
+  @Override
+  protected void initReader() {
+    this.dataFormatReader = new JacksonCborDataFormatReader(this);
+  }
+
+  @Override
+  public String getName() {
+    return DATA_FORMAT_NAME;
+  }
+
+  @Override
+  public JacksonCborDataFormatReader getReader() {
+    return (JacksonCborDataFormatReader) dataFormatReader;
+  }
+
+  @Override
+  public JacksonCborDataFormatWriter getWriter() {
+    return (JacksonCborDataFormatWriter) dataFormatWriter;
+  }
+
+  /**
+   * Returns the Jackson {@link ObjectMapper} used to read and write CBOR.
+   * @return the CBOR object mapper.
+   */
+  public ObjectMapper getCborObjectMapper() {
+    return cborObjectMapper;
+  }
+
+  public void setCborObjectMapper(ObjectMapper cborObjectMapper) {
+    this.cborObjectMapper = cborObjectMapper;
+  }
+
+  /**
+   * @return the size in bytes above which serialized values are gzip compressed,
+   * a negative value if compression is disabled
+   */
+  public int getCompressionThreshold() {
+    return compressionThreshold;
+  }
+
+  public void setCompressionThreshold(int compressionThreshold) {
+    this.compressionThreshold = compressionThreshold;
+  }
+
+  public boolean isCompressionEnabled() {
+    return compressionThreshold >= 0;
+  }
+
+}
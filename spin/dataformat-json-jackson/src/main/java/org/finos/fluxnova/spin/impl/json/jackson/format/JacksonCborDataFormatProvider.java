@@ -0,0 +1,39 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.finos.fluxnova.spin.impl.json.jackson.format;
+
+import static org.finos.fluxnova.spin.DataFormats.CBOR_DATAFORMAT_NAME;
+
+import java.util.Map;
+
+import org.finos.fluxnova.spin.spi.DataFormat;
+import org.finos.fluxnova.spin.spi.DataFormatProvider;
+
+public class JacksonCborDataFormatProvider implements DataFormatProvider {
+
+  public String getDataFormatName() {
+    return CBOR_DATAFORMAT_NAME;
+  }
+
+  public DataFormat<?> createInstance() {
+    return new JacksonCborDataFormat(CBOR_DATAFORMAT_NAME);
+  }
+
+  public DataFormat<?> createInstance(Map<String, Object> configurationProperties) {
+    return new JacksonCborDataFormat(CBOR_DATAFORMAT_NAME, configurationProperties);
+  }
+}
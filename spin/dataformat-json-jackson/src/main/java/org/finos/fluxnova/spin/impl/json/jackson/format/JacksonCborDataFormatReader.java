@@ -0,0 +1,84 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.finos.fluxnova.spin.impl.json.jackson.format;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.util.zip.GZIPInputStream;
+
+import org.finos.fluxnova.spin.impl.json.jackson.JacksonJsonLogger;
+import org.finos.fluxnova.spin.spi.BinaryDataFormatReader;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.MissingNode;
+
+/**
+ * Reads CBOR encoded input, gzip compressed input is detected and decompressed
+ * transparently. Text input is read as json.
+ */
+public class JacksonCborDataFormatReader extends JacksonJsonDataFormatReader implements BinaryDataFormatReader {
+
+  private static final JacksonJsonLogger JSON_LOGGER = JacksonJsonLogger.JSON_TREE_LOGGER;
+
+  public JacksonCborDataFormatReader(JacksonCborDataFormat format) {
+    super(format);
+  }
+
+  /**
+   * CBOR can not be detected from character input, text input of this data format
+   * is json, which is already claimed by the json data format.
+   */
+  @Override
+  public boolean canRead(Reader input, int readLimit) {
+    return false;
+  }
+
+  public Object readInput(InputStream input) {
+    try {
+      final JsonNode jsonNode = ((JacksonCborDataFormat) format).getCborObjectMapper().readTree(decompressIfNecessary(input));
+      if (jsonNode == null || jsonNode instanceof MissingNode) {
+        throw new IOException("Input is empty");
+      }
+      return jsonNode;
+    }
+    catch (IOException e) {
+      throw JSON_LOGGER.unableToParseInput(e);
+    }
+  }
+
+  /**
+   * A CBOR data item never starts with the gzip magic bytes (<code>0x1f</code> is not a valid
+   * initial byte), so compressed input can be told apart without additional framing.
+   */
+  protected InputStream decompressIfNecessary(InputStream input) throws IOException {
+    InputStream bufferedInput = input.markSupported() ? input : new BufferedInputStream(input);
+    bufferedInput.mark(2);
+    int first = bufferedInput.read();
+    int second = bufferedInput.read();
+    bufferedInput.reset();
+
+    if (first == (GZIPInputStream.GZIP_MAGIC & 0xff) && second == (GZIPInputStream.GZIP_MAGIC >> 8)) {
+      return new GZIPInputStream(bufferedInput);
+    }
+    else {
+      return bufferedInput;
+    }
+  }
+
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.finos.fluxnova.spin.impl.json.jackson.format;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.finos.fluxnova.spin.impl.json.jackson.JacksonJsonLogger;
+import org.finos.fluxnova.spin.spi.BinaryDataFormatWriter;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Writes json nodes CBOR encoded, gzip compressed if the encoded size exceeds the
+ * compression threshold of the data format. Text output is written as json.
+ */
+public class JacksonCborDataFormatWriter extends JacksonJsonDataFormatWriter implements BinaryDataFormatWriter {
+
+  private static final JacksonJsonLogger LOG = JacksonJsonLogger.JSON_TREE_LOGGER;
+
+  public JacksonCborDataFormatWriter(JacksonCborDataFormat dataFormat) {
+    super(dataFormat);
+  }
+
+  public void writeToOutputStream(OutputStream output, Object input) {
+    JacksonCborDataFormat cborDataFormat = (JacksonCborDataFormat) dataFormat;
+    ObjectMapper cborObjectMapper = cborDataFormat.getCborObjectMapper();
+
+    try {
+      if (!cborDataFormat.isCompressionEnabled()) {
+        cborObjectMapper.writeTree(cborObjectMapper.getFactory().createGenerator(output), (JsonNode) input);
+        return;
+      }
+
+      byte[] encoded = cborObjectMapper.writeValueAsBytes(input);
+      if (encoded.length > cborDataFormat.getCompressionThreshold()) {
+        GZIPOutputStream compressedOutput = new GZIPOutputStream(output);
+        compressedOutput.write(encoded);
+        compressedOutput.finish();
+      }
+      else {
+        output.write(encoded);
+      }
+    }
+    catch (IOException e) {
+      throw LOG.unableToWriteJsonNode(e);
+    }
+  }
+
+}
@@ -27,6 +27,7 @@ import com.jayway.jsonpath.spi.mapper.JacksonMappingProvider;
 import org.finos.fluxnova.spin.DataFormats;
 import org.finos.fluxnova.spin.impl.json.jackson.JacksonJsonLogger;
 import org.finos.fluxnova.spin.impl.json.jackson.JacksonJsonNode;
+import org.finos.fluxnova.spin.impl.json.jackson.query.JacksonJsonStreamingQuery;
 import org.finos.fluxnova.spin.json.SpinJsonDataFormatException;
 import org.finos.fluxnova.spin.json.SpinJsonNode;
 import org.finos.fluxnova.spin.spi.DataFormat;
@@ -184,6 +185,31 @@ public class JacksonJsonDataFormat implements DataFormat<SpinJsonNode> {
     return dataFormatWriter;
   }
 
+  /**
+   * Compiles a json path expression which is evaluated over the token stream of a
+   * json input, without parsing the input into a tree.
+   *
+   * @param expression a json path consisting of property names and array indexes only
+   * @return the compiled query
+   * @see JacksonJsonStreamingQuery#isSupported(String)
+   */
+  public JacksonJsonStreamingQuery createStreamingQuery(String expression) {
+    ensureNotNull("expression", expression);
+    return JacksonJsonStreamingQuery.compile(expression, this);
+  }
+
+  /**
+   * Creates a query which selects a chain of properties over the token stream of
+   * a json input, like <code>prop(propertyNames[0]).prop(propertyNames[1])...</code>.
+   *
+   * @param propertyNames the names of the nested properties
+   * @return the query
+   */
+  public JacksonJsonStreamingQuery createStreamingPropertyQuery(String... propertyNames) {
+    ensureNotNull("propertyNames", propertyNames);
+    return JacksonJsonStreamingQuery.props(this, propertyNames);
+  }
+
   // resources //////////////////////////////////////////////////
 
   /**
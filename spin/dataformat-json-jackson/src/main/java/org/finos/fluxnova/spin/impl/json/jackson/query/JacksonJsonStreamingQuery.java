@@ -0,0 +1,285 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.finos.fluxnova.spin.impl.json.jackson.query;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.finos.fluxnova.spin.impl.json.jackson.JacksonJsonLogger;
+import org.finos.fluxnova.spin.impl.json.jackson.format.JacksonJsonDataFormat;
+import org.finos.fluxnova.spin.json.SpinJsonNode;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Evaluates a simple path directly over the token stream of a json document. Only the
+ * selected value is materialized as a tree, all other values are skipped by the parser.
+ * This allows reading single values from large documents without parsing them into a
+ * tree first.
+ *
+ * <p>Supported are chains of property names and array indexes, as json path
+ * (<code>$.customers[0].name</code>, <code>$['orderDetails']['price']</code>)
+ * or as a list of property names (equivalent to a chain of <code>prop()</code> calls).
+ * Wildcards, deep scans, filters and slices are not supported, see {@link #isSupported(String)}.</p>
+ *
+ * <p>Instances are immutable and can be reused.</p>
+ */
+public class JacksonJsonStreamingQuery {
+
+  private static final JacksonJsonLogger LOG = JacksonJsonLogger.JSON_TREE_LOGGER;
+
+  protected final String expression;
+  protected final List<Object> segments;
+  protected final JacksonJsonDataFormat dataFormat;
+
+  protected JacksonJsonStreamingQuery(String expression, List<Object> segments, JacksonJsonDataFormat dataFormat) {
+    this.expression = expression;
+    this.segments = segments;
+    this.dataFormat = dataFormat;
+  }
+
+  /**
+   * Compiles a json path expression consisting of property names and array indexes only.
+   *
+   * @throws org.finos.fluxnova.spin.json.SpinJsonPathException if the expression is not supported
+   */
+  public static JacksonJsonStreamingQuery compile(String expression, JacksonJsonDataFormat dataFormat) {
+    List<Object> segments = parse(expression);
+    if (segments == null) {
+      throw LOG.unsupportedStreamingJsonPath(expression);
+    }
+    return new JacksonJsonStreamingQuery(expression, segments, dataFormat);
+  }
+
+  /**
+   * Creates a query selecting a chain of properties, like <code>prop(names[0]).prop(names[1])...</code>.
+   */
+  public static JacksonJsonStreamingQuery props(JacksonJsonDataFormat dataFormat, String... propertyNames) {
+    List<Object> segments = new ArrayList<Object>();
+    StringBuilder expression = new StringBuilder("$");
+    for (String propertyName : propertyNames) {
+      segments.add(propertyName);
+      expression.append("['").append(propertyName).append("']");
+    }
+    return new JacksonJsonStreamingQuery(expression.toString(), Collections.unmodifiableList(segments), dataFormat);
+  }
+
+  /**
+   * @return true if the expression can be evaluated by a streaming query
+   */
+  public static boolean isSupported(String expression) {
+    return parse(expression) != null;
+  }
+
+  public String getExpression() {
+    return expression;
+  }
+
+  /**
+   * @return the selected value
+   * @throws org.finos.fluxnova.spin.json.SpinJsonException if the path does not exist in the input
+   * @throws org.finos.fluxnova.spin.json.SpinJsonDataFormatException if the input cannot be parsed
+   */
+  public SpinJsonNode element(InputStream input) {
+    try {
+      return element(dataFormat.getObjectMapper().getFactory().createParser(input));
+    }
+    catch (IOException e) {
+      throw LOG.unableToParseInput(e);
+    }
+  }
+
+  /**
+   * @see #element(InputStream)
+   */
+  public SpinJsonNode element(Reader input) {
+    try {
+      return element(dataFormat.getObjectMapper().getFactory().createParser(input));
+    }
+    catch (IOException e) {
+      throw LOG.unableToParseInput(e);
+    }
+  }
+
+  /**
+   * @return true if the path exists in the input
+   */
+  public boolean exists(InputStream input) {
+    try (JsonParser parser = dataFormat.getObjectMapper().getFactory().createParser(input)) {
+      return moveToValue(parser);
+    }
+    catch (IOException e) {
+      throw LOG.unableToParseInput(e);
+    }
+  }
+
+  protected SpinJsonNode element(JsonParser parser) throws IOException {
+    try {
+      if (!moveToValue(parser)) {
+        throw LOG.unableToFindPath(expression);
+      }
+      JsonNode node = dataFormat.getObjectMapper().readTree(parser);
+      return dataFormat.createWrapperInstance(node);
+    }
+    finally {
+      parser.close();
+    }
+  }
+
+  /**
+   * Advances the parser to the first token of the selected value.
+   *
+   * @return false if the path does not exist
+   */
+  protected boolean moveToValue(JsonParser parser) throws IOException {
+    JsonToken token = parser.nextToken();
+    if (token == null) {
+      throw LOG.unableToParseInput(new IOException("Input is empty"));
+    }
+
+    for (Object segment : segments) {
+      if (segment instanceof String) {
+        if (token != JsonToken.START_OBJECT) {
+          return false;
+        }
+        token = moveToProperty(parser, (String) segment);
+      }
+      else {
+        if (token != JsonToken.START_ARRAY) {
+          return false;
+        }
+        token = moveToIndex(parser, (Integer) segment);
+      }
+      if (token == null) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  protected JsonToken moveToProperty(JsonParser parser, String propertyName) throws IOException {
+    JsonToken token;
+    while ((token = parser.nextToken()) == JsonToken.FIELD_NAME) {
+      String currentName = parser.getCurrentName();
+      token = parser.nextToken();
+      if (propertyName.equals(currentName)) {
+        return token;
+      }
+      parser.skipChildren();
+    }
+    return null;
+  }
+
+  protected JsonToken moveToIndex(JsonParser parser, int index) throws IOException {
+    JsonToken token;
+    int currentIndex = 0;
+    while ((token = parser.nextToken()) != JsonToken.END_ARRAY && token != null) {
+      if (currentIndex == index) {
+        return token;
+      }
+      parser.skipChildren();
+      currentIndex++;
+    }
+    return null;
+  }
+
+  // path parsing ////////////////////////////////////////////////////
+
+  /**
+   * @return the property names (String) and array indexes (Integer) of the expression,
+   * or null if the expression uses unsupported json path features
+   */
+  protected static List<Object> parse(String expression) {
+    if (expression == null) {
+      return null;
+    }
+    String path = expression.trim();
+    if (!path.startsWith("$")) {
+      return null;
+    }
+
+    List<Object> segments = new ArrayList<Object>();
+    int pos = 1;
+    int length = path.length();
+
+    while (pos < length) {
+      char c = path.charAt(pos);
+      if (c == '.') {
+        int start = ++pos;
+        while (pos < length && path.charAt(pos) != '.' && path.charAt(pos) != '[') {
+          pos++;
+        }
+        String name = path.substring(start, pos);
+        if (name.isEmpty() || name.equals("*") || containsSpecialChar(name)) {
+          return null;
+        }
+        segments.add(name);
+      }
+      else if (c == '[') {
+        int end = path.indexOf(']', pos);
+        if (end < 0) {
+          return null;
+        }
+        String content = path.substring(pos + 1, end).trim();
+        if (content.length() >= 2 && (content.charAt(0) == '\'' || content.charAt(0) == '"')
+            && content.charAt(content.length() - 1) == content.charAt(0)) {
+          String name = content.substring(1, content.length() - 1);
+          if (name.indexOf('\'') >= 0 || name.indexOf('"') >= 0) {
+            return null;
+          }
+          segments.add(name);
+        }
+        else {
+          try {
+            int index = Integer.parseInt(content);
+            if (index < 0) {
+              return null;
+            }
+            segments.add(index);
+          }
+          catch (NumberFormatException e) {
+            // wildcard, slice, union or filter
+            return null;
+          }
+        }
+        pos = end + 1;
+      }
+      else {
+        return null;
+      }
+    }
+
+    return Collections.unmodifiableList(segments);
+  }
+
+  protected static boolean containsSpecialChar(String name) {
+    for (int i = 0; i < name.length(); i++) {
+      char c = name.charAt(i);
+      if (c == '*' || c == '?' || c == '(' || c == ')' || c == '@' || c == ']' || c == ',' || c == ':' || c == ' ') {
+        return true;
+      }
+    }
+    return false;
+  }
+
+}
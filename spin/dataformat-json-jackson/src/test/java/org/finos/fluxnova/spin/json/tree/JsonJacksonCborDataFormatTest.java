@@ -0,0 +1,119 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.finos.fluxnova.spin.json.tree;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.finos.fluxnova.spin.json.JsonTestConstants.EXAMPLE_JSON;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.finos.fluxnova.spin.DataFormats;
+import org.finos.fluxnova.spin.impl.json.jackson.format.JacksonCborDataFormat;
+import org.finos.fluxnova.spin.json.mapping.RegularCustomer;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+public class JsonJacksonCborDataFormatTest {
+
+  protected JacksonCborDataFormat dataFormat;
+
+  @Before
+  public void setUp() {
+    dataFormat = new JacksonCborDataFormat(DataFormats.CBOR_DATAFORMAT_NAME);
+  }
+
+  @Test
+  public void shouldWriteAndReadCbor() {
+    JsonNode node = (JsonNode) dataFormat.getReader().readInput(new StringReader(EXAMPLE_JSON));
+
+    byte[] cbor = write(node);
+
+    assertThat(cbor.length).isLessThan(EXAMPLE_JSON.length());
+    assertThat(read(cbor)).isEqualTo(node);
+  }
+
+  @Test
+  public void shouldCompressAboveThreshold() {
+    dataFormat.setCompressionThreshold(64);
+    JsonNode node = (JsonNode) dataFormat.getMapper().mapJavaToInternal(customers(50));
+
+    byte[] compressed = write(node);
+
+    assertThat(compressed[0]).isEqualTo((byte) 0x1f);
+    assertThat(compressed[1]).isEqualTo((byte) 0x8b);
+    assertThat(read(compressed)).isEqualTo(node);
+
+    dataFormat.setCompressionThreshold(JacksonCborDataFormat.NO_COMPRESSION);
+    byte[] uncompressed = write(node);
+
+    assertThat(compressed.length).isLessThan(uncompressed.length);
+    assertThat(read(uncompressed)).isEqualTo(node);
+  }
+
+  @Test
+  public void shouldNotCompressBelowThreshold() {
+    dataFormat.setCompressionThreshold(1024);
+    JsonNode node = (JsonNode) dataFormat.getMapper().mapJavaToInternal(customers(1));
+
+    byte[] cbor = write(node);
+
+    assertThat(cbor[0]).isNotEqualTo((byte) 0x1f);
+    assertThat(read(cbor)).isEqualTo(node);
+  }
+
+  @Test
+  public void shouldNotDetectTextInput() {
+    assertThat(dataFormat.getReader().canRead(new StringReader(EXAMPLE_JSON), 256)).isFalse();
+  }
+
+  @Test
+  public void shouldMapCborToJava() {
+    List<RegularCustomer> customers = customers(3);
+    JsonNode node = (JsonNode) dataFormat.getMapper().mapJavaToInternal(customers);
+
+    JsonNode readNode = read(write(node));
+    List<RegularCustomer> mapped = dataFormat.getMapper().mapInternalToJava(readNode,
+        "java.util.ArrayList<org.finos.fluxnova.spin.json.mapping.RegularCustomer>");
+
+    assertThat(mapped).hasSize(3);
+    assertThat(mapped.get(2).getName()).isEqualTo("customer 2");
+  }
+
+  protected byte[] write(JsonNode node) {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    dataFormat.getWriter().writeToOutputStream(out, node);
+    return out.toByteArray();
+  }
+
+  protected JsonNode read(byte[] bytes) {
+    return (JsonNode) dataFormat.getReader().readInput(new ByteArrayInputStream(bytes));
+  }
+
+  protected List<RegularCustomer> customers(int count) {
+    List<RegularCustomer> customers = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      customers.add(new RegularCustomer("customer " + i, 1_000_000 + i));
+    }
+    return customers;
+  }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.finos.fluxnova.spin.json.tree;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.finos.fluxnova.spin.Spin.JSON;
+import static org.finos.fluxnova.spin.json.JsonTestConstants.EXAMPLE_JSON;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+
+import org.finos.fluxnova.spin.DataFormats;
+import org.finos.fluxnova.spin.impl.json.jackson.format.JacksonJsonDataFormat;
+import org.finos.fluxnova.spin.impl.json.jackson.query.JacksonJsonStreamingQuery;
+import org.finos.fluxnova.spin.json.SpinJsonNode;
+import org.finos.fluxnova.spin.json.SpinJsonPathException;
+import org.junit.Before;
+import org.junit.Test;
+
+public class JsonJacksonStreamingQueryTest {
+
+  protected JacksonJsonDataFormat dataFormat;
+
+  @Before
+  public void setUp() {
+    dataFormat = new JacksonJsonDataFormat(DataFormats.JSON_DATAFORMAT_NAME);
+  }
+
+  @Test
+  public void shouldSelectValueByJsonPath() {
+    assertThat(element("$.order").stringValue()).isEqualTo("order1");
+    assertThat(element("$.orderDetails.currencies[1]").stringValue()).isEqualTo("dollar");
+    assertThat(element("$['orderDetails']['price']").numberValue()).isEqualTo(1234567.13);
+    assertThat(element("$.customers[1].name").stringValue()).isEqualTo("Waldo");
+    assertThat(element("$.active").boolValue()).isTrue();
+    assertThat(element("$.nullValue").isNull()).isTrue();
+  }
+
+  @Test
+  public void shouldSelectSameValueAsTree() {
+    SpinJsonNode tree = JSON(EXAMPLE_JSON);
+
+    assertThat(element("$").unwrap()).isEqualTo(tree.unwrap());
+    assertThat(element("$.orderDetails").unwrap()).isEqualTo(tree.prop("orderDetails").unwrap());
+    assertThat(element("$.customers").unwrap()).isEqualTo(tree.prop("customers").unwrap());
+    assertThat(element("$.customers[0]").unwrap()).isEqualTo(tree.jsonPath("$.customers[0]").element().unwrap());
+  }
+
+  @Test
+  public void shouldSelectPropertyChain() {
+    SpinJsonNode node = dataFormat.createStreamingPropertyQuery("orderDetails", "article")
+        .element(new StringReader(EXAMPLE_JSON));
+
+    assertThat(node.stringValue()).isEqualTo("camundaBPM");
+  }
+
+  @Test
+  public void shouldFailOnMissingPath() {
+    assertThatThrownBy(() -> element("$.orderDetails.nonExisting")).isInstanceOf(SpinJsonPathException.class);
+    assertThatThrownBy(() -> element("$.customers[5]")).isInstanceOf(SpinJsonPathException.class);
+    assertThatThrownBy(() -> element("$.order[0]")).isInstanceOf(SpinJsonPathException.class);
+  }
+
+  @Test
+  public void shouldCheckExistence() {
+    assertThat(dataFormat.createStreamingQuery("$.customers[2].contractStartDate").exists(input())).isTrue();
+    assertThat(dataFormat.createStreamingQuery("$.customers[3]").exists(input())).isFalse();
+  }
+
+  @Test
+  public void shouldRejectUnsupportedPath() {
+    assertThat(JacksonJsonStreamingQuery.isSupported("$.customers[0].name")).isTrue();
+    assertThat(JacksonJsonStreamingQuery.isSupported("$..name")).isFalse();
+    assertThat(JacksonJsonStreamingQuery.isSupported("$.customers[*].name")).isFalse();
+    assertThat(JacksonJsonStreamingQuery.isSupported("$.customers[0:2]")).isFalse();
+    assertThat(JacksonJsonStreamingQuery.isSupported("$.customers[?(@.name == 'Kermit')]")).isFalse();
+    assertThat(JacksonJsonStreamingQuery.isSupported("customers")).isFalse();
+
+    assertThatThrownBy(() -> dataFormat.createStreamingQuery("$..name")).isInstanceOf(SpinJsonPathException.class);
+  }
+
+  protected SpinJsonNode element(String expression) {
+    return dataFormat.createStreamingQuery(expression).element(input());
+  }
+
+  protected InputStream input() {
+    return new ByteArrayInputStream(EXAMPLE_JSON.getBytes(StandardCharsets.UTF_8));
+  }
+
+}